@@ -0,0 +1,180 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * Map of primitive <code>long</code> keys to primitive <code>long</code> values, with open
+ * addressing and linear probing. It does not allocate objects per entry, so it is meant for large
+ * temporary maps, like the visited vertices of a graph traversal. Entries cannot be removed.
+ *
+ * <p>The map is not thread safe.
+ */
+public final class OLongLongHashMap {
+  private static final long FREE_KEY = Long.MIN_VALUE;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private final long missingValue;
+
+  private long[] keys;
+  private long[] values;
+  private int mask;
+  private int size;
+  private int resizeThreshold;
+
+  /** The free key marker is stored out of the tables. */
+  private boolean hasFreeKey;
+
+  private long freeKeyValue;
+
+  /**
+   * @param expectedSize amount of entries the map is expected to hold without being resized
+   * @param missingValue value returned for keys which are not in the map
+   */
+  public OLongLongHashMap(final int expectedSize, final long missingValue) {
+    this.missingValue = missingValue;
+
+    int capacity = 16;
+    while (capacity * LOAD_FACTOR < expectedSize && capacity < (1 << 30)) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    Arrays.fill(keys, FREE_KEY);
+    values = new long[capacity];
+    mask = capacity - 1;
+    resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  public long getMissingValue() {
+    return missingValue;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(final long key) {
+    if (key == FREE_KEY) {
+      return hasFreeKey;
+    }
+    return keys[slot(key)] == key;
+  }
+
+  /** @return the value of the key, or the missing value if the key is not in the map */
+  public long get(final long key) {
+    if (key == FREE_KEY) {
+      return hasFreeKey ? freeKeyValue : missingValue;
+    }
+    final int slot = slot(key);
+    return keys[slot] == key ? values[slot] : missingValue;
+  }
+
+  /** @return the previous value of the key, or the missing value if the key was not in the map */
+  public long put(final long key, final long value) {
+    if (key == FREE_KEY) {
+      final long previous = hasFreeKey ? freeKeyValue : missingValue;
+      if (!hasFreeKey) {
+        hasFreeKey = true;
+        size++;
+      }
+      freeKeyValue = value;
+      return previous;
+    }
+
+    final int slot = slot(key);
+    if (keys[slot] == key) {
+      final long previous = values[slot];
+      values[slot] = value;
+      return previous;
+    }
+
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size > resizeThreshold) {
+      resize();
+    }
+    return missingValue;
+  }
+
+  /**
+   * Adds the entry only if the key is not in the map yet.
+   *
+   * @return true if the entry was added
+   */
+  public boolean putIfAbsent(final long key, final long value) {
+    if (containsKey(key)) {
+      return false;
+    }
+    put(key, value);
+    return true;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, FREE_KEY);
+    hasFreeKey = false;
+    size = 0;
+  }
+
+  /** @return the slot of the key, or the free slot where the key should be stored */
+  private int slot(final long key) {
+    int slot = mix(key) & mask;
+    long current;
+    while ((current = keys[slot]) != FREE_KEY && current != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void resize() {
+    if (keys.length >= (1 << 30)) {
+      throw new IllegalStateException("Map is too large, it cannot hold " + size + " entries");
+    }
+
+    final long[] oldKeys = keys;
+    final long[] oldValues = values;
+    allocate(oldKeys.length << 1);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE_KEY) {
+        final int slot = slot(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  /** Finalization step of MurmurHash3, spreads sequential keys over the whole table. */
+  private static int mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    key *= 0xc4ceb93e53b6a6c7L;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+}
@@ -174,6 +174,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       5),
 
+  DISK_CACHE_PREFETCH_PAGES(
+      "storage.diskCache.prefetchPages",
+      "Amount of pages which are loaded ahead of time by background thread when sequential scan"
+          + " of the file is detected. Pages loaded by scans do not displace frequently used pages"
+          + " from the disk cache. 0 disables prefetch",
+      Integer.class,
+      16),
+
   DISK_WRITE_CACHE_PAGE_FLUSH_INTERVAL(
       "storage.diskCache.writeCachePageFlushInterval",
       "Interval between flushing of pages from write cache (in ms)",
@@ -196,6 +204,23 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       OChecksumMode.StoreAndSwitchReadOnlyMode,
       false),
 
+  STORAGE_PAGE_COMPRESSION(
+      "storage.diskCache.pageCompression",
+      "Compress pages with LZ4 when they are written to the data files. Only pages which save at"
+          + " least 4Kb after compression are stored compressed, the rest of such page is not"
+          + " written and does not consume disk space on file systems which support sparse files."
+          + " Pages of encrypted storages are never compressed",
+      Boolean.class,
+      false),
+
+  STORAGE_VECTORED_IO(
+      "storage.diskCache.vectoredIO",
+      "Use vectored (scatter/gather) I/O for the data files instead of asynchronous I/O. Adjacent"
+          + " pages are written during flush of the write cache and read during scans by single"
+          + " system call",
+      Boolean.class,
+      false),
+
   STORAGE_COMPRESSION_METHOD(
       "storage.compressionMethod",
       "Record compression method used in storage"
@@ -273,6 +298,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       2),
 
+  STORAGE_CLUSTER_STRIPES(
+      "storage.cluster.stripes",
+      "Amount of stripes of each new non-system cluster. Every stripe is locked separately, so"
+          + " transactions which create records in the same cluster are committed in parallel if"
+          + " they use different stripes. Clusters are not split if value is 1",
+      Integer.class,
+      1),
+
   STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS(
       "storage.printWALPerformanceStatistics",
       "Periodically prints statistics about WAL performance",
@@ -356,6 +389,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_GROUP_COMMIT(
+      "storage.wal.groupCommit",
+      "If true, commit of transaction returns only after its WAL records are synced to the disk."
+          + " Syncs of concurrent transactions are grouped together by the dedicated thread of"
+          + " each storage",
+      Boolean.class,
+      false),
+
+  WAL_GROUP_COMMIT_MAX_DELAY(
+      "storage.wal.groupCommitMaxDelay",
+      "Maximum time (in microseconds) the WAL sync may be delayed to let concurrent transactions"
+          + " join the group commit",
+      Integer.class,
+      1000),
+
   WAL_SHUTDOWN_TIMEOUT(
       "storage.wal.shutdownTimeout",
       "Maximum wait interval between events, when the background flush thread"
@@ -382,6 +430,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_RESTORE_THREADS(
+      "storage.wal.restore.threads",
+      "Amount of threads which apply page changes in parallel during a restore procedure. Changes"
+          + " of the same page are always applied by the same thread (1 means that changes are"
+          + " applied by the thread which reads WAL)",
+      Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
   WAL_LOCATION(
       "storage.wal.path",
       "Path to the WAL file on the disk. By default, it is placed in the DB directory, but"
@@ -548,6 +604,33 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   INDEX_CURSOR_PREFETCH_SIZE(
       "index.stream.prefetchSize", "Default prefetch size of index stream", Integer.class, 10),
 
+  INDEX_BTREE_PARTITIONS(
+      "index.cellBTree.partitions",
+      "Number of partitions of newly created indexes which use CELL_BTREE algorithm. Keys are"
+          + " distributed between partitions by hash, every partition is locked separately, so"
+          + " transactions which change keys of different partitions of the same index are not"
+          + " serialized. Range queries merge entries of all partitions. Value 1 disables"
+          + " partitioning, the value can also be set per index by 'btreePartitions' metadata"
+          + " field",
+      Integer.class,
+      1),
+
+  INDEX_BULK_LOAD_RUN_SIZE(
+      "index.bulkLoad.runSize",
+      "Maximum number of index entries which are sorted in heap when unique and dictionary indexes"
+          + " are built or rebuilt. Bigger amounts of entries are sorted in parts which are moved"
+          + " to temporary files and merged. Sorted entries are appended to the index instead of"
+          + " being put one by one. Zero or negative number switches off this way of index build",
+      Integer.class,
+      500_000),
+
+  INDEX_BULK_LOAD_BATCH_SIZE(
+      "index.bulkLoad.batchSize",
+      "Number of sorted entries which are appended to the index inside of a single atomic"
+          + " operation during index build. Values smaller than 1 are treated as 1",
+      Integer.class,
+      10_000),
+
   // SBTREE
   SBTREE_MAX_DEPTH(
       "sbtree.maxDepth",
@@ -909,6 +992,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       20000),
 
+  QUERY_PARALLEL_MAX_THREADS(
+      "query.parallelMaxThreads",
+      "Maximum number of threads used to execute the sub-plans of a single parallel query",
+      Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
   QUERY_SCAN_THRESHOLD_TIP(
       "query.scanThresholdTip",
       "If the total number of records scanned in a query exceeds this setting, then a warning is"
@@ -933,18 +1022,134 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Long.class,
       500_000),
 
+  QUERY_ORDER_BY_SPILL_THRESHOLD(
+      "query.orderBy.spillThreshold",
+      "Maximum number of records that an ORDER BY without LIMIT keeps in heap. When exceeded, the"
+          + " records are sorted and moved to a temporary file, then the sorted files are merged"
+          + " while the result is consumed, so the size of the result is not limited by"
+          + " query.maxHeapElementsAllowedPerOp. Negative number means that the records are never"
+          + " moved to disk",
+      Long.class,
+      -1),
+
+  QUERY_GROUP_BY_SPILL_THRESHOLD(
+      "query.groupBy.spillThreshold",
+      "Maximum number of groups that a GROUP BY without LIMIT keeps in heap. When exceeded, the"
+          + " records of the new groups are partitioned by group key and moved to temporary files,"
+          + " then each partition is aggregated separately after the groups in heap are returned."
+          + " Negative number means that the records are never moved to disk",
+      Long.class,
+      -1),
+
+  QUERY_DISTINCT_MEMORY_BUDGET(
+      "query.distinct.memoryBudget",
+      "Maximum amount of direct memory (in bytes) that a DISTINCT uses to keep track of the"
+          + " projections already returned. When exceeded, the new projections are partitioned and"
+          + " moved to temporary files, then each partition is deduplicated separately. Records"
+          + " are always tracked by RID. Negative number means that the projections are kept in"
+          + " heap, limited by query.maxHeapElementsAllowedPerOp",
+      Long.class,
+      -1),
+
+  QUERY_STATISTICS_SAMPLE_SIZE(
+      "query.statistics.sampleSize",
+      "Amount of records sampled by ANALYZE CLASS to build statistics of class properties which"
+          + " are used by the query planner",
+      Integer.class,
+      10_000),
+
+  QUERY_STATISTICS_REFRESH_THRESHOLD(
+      "query.statistics.refreshThreshold",
+      "Fraction of records of a cluster which has to be added or removed since the last ANALYZE"
+          + " CLASS for the statistics of the cluster to be collected again. Statistics of other"
+          + " clusters are kept",
+      Float.class,
+      0.1f),
+
+  QUERY_STATISTICS_INDEX_MAX_SELECTIVITY(
+      "query.statistics.indexMaxSelectivity",
+      "Maximum estimated fraction of records of a class which is fetched through an index. If"
+          + " statistics of the class show that the condition selects more records, the class is"
+          + " scanned instead",
+      Float.class,
+      0.2f),
+
+  QUERY_SERIALIZED_FILTER(
+      "query.serializedFilter",
+      "Evaluates comparisons, IN and IS NULL conditions of cluster scans on the serialized records,"
+          + " so records which do not match the WHERE condition are not deserialized",
+      Boolean.class,
+      true),
+
+  QUERY_SERIALIZED_PROJECTION(
+      "query.serializedProjection",
+      "Reads the fields of projections made only of field names directly from the serialized"
+          + " records, so the fields which are not projected are not deserialized",
+      Boolean.class,
+      true),
+
+  QUERY_RECORD_BATCH_SIZE(
+      "query.recordBatchSize",
+      "Maximum number of records that index lookups and MATCH traversals load together. The"
+          + " records of a batch are read from the storage sorted by their physical position. 1"
+          + " disables the batch loading",
+      Integer.class,
+      100),
+
   QUERY_LIVE_SUPPORT(
       "query.live.support",
       "Enable/Disable the support of live query. (Use false to disable)",
       Boolean.class,
       true),
 
+  QUERY_LIVE_DISPATCH_THREADS(
+      "query.live.dispatchThreads",
+      "Number of threads which deliver the changes to the live query subscribers. The changes of a"
+          + " subscriber are always delivered by the same thread, in commit order",
+      Integer.class,
+      4),
+
+  QUERY_LIVE_MAX_PENDING_BATCHES(
+      "query.live.maxPendingBatches",
+      "Maximum number of batches of changes waiting to be delivered to a live query subscriber. A"
+          + " subscriber which falls further behind is unsubscribed",
+      Integer.class,
+      1000),
+
+  VIEW_INCREMENTAL_MAX_PENDING_CHANGES(
+      "view.incremental.maxPendingChanges",
+      "Maximum number of committed changes waiting to be applied to an incremental view. If more"
+          + " changes are committed, the view is rebuilt",
+      Integer.class,
+      100000),
+
+  GRAPH_ALGORITHM_PARALLELISM(
+      "graph.algorithm.parallelism",
+      "Number of threads which run the graph algorithms on graph snapshots. 0 means the number of"
+          + " available processors",
+      Integer.class,
+      0),
+
+  GRAPH_ALGORITHM_WRITE_BATCH_SIZE(
+      "graph.algorithm.writeBatchSize",
+      "Number of vertices updated per transaction when the results of a graph algorithm are"
+          + " written back to the vertices",
+      Integer.class,
+      1000),
+
   STATEMENT_CACHE_SIZE(
       "statement.cacheSize",
       "Number of parsed SQL statements kept in cache. Zero means cache disabled",
       Integer.class,
       100),
 
+  STATEMENT_CACHE_PARAMETERIZE_LITERALS(
+      "statement.cacheParameterizeLiterals",
+      "Replace literals of the WHERE condition of SELECT statements with parameters, so statements"
+          + " that differ only in literal values share the same cached execution plan",
+      Boolean.class,
+      true),
+
   // GRAPH
   SQL_GRAPH_CONSISTENCY_MODE(
       "sql.graphConsistencyMode",
@@ -47,6 +47,8 @@ import com.orientechnologies.orient.core.tx.OTransactionAbstract;
 import com.orientechnologies.orient.core.tx.OTransactionData;
 import com.orientechnologies.orient.core.tx.OTransactionInternal;
 import com.orientechnologies.orient.core.tx.OTransactionOptimistic;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -124,6 +126,20 @@ public interface ODatabaseDocumentInternal extends ODatabaseSession, ODatabaseIn
       final OStorage.LOCKING_STRATEGY lockingStrategy,
       RecordReader recordReader);
 
+  /**
+   * Loads a batch of records. Embedded databases read the records which are not in the local cache
+   * from the storage together, sorted by their physical position.
+   *
+   * @return the records in the order of the ids, null for the records which do not exist
+   */
+  default List<ORecord> loadRecords(final List<? extends ORID> rids) {
+    final List<ORecord> result = new ArrayList<>(rids.size());
+    for (final ORID rid : rids) {
+      result.add(load(rid));
+    }
+    return result;
+  }
+
   void executeDeleteRecord(
       OIdentifiable record,
       final int iVersion,
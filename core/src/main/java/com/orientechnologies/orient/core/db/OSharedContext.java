@@ -6,6 +6,7 @@ import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.db.viewmanager.ViewManager;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
@@ -15,6 +16,7 @@ import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
 import com.orientechnologies.orient.core.sql.parser.OExecutionPlanCache;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -41,6 +43,8 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
   protected OStatementCache statementCache;
   protected OExecutionPlanCache executionPlanCache;
   protected OQueryStats queryStats;
+  protected OClassStatisticsManager classStatisticsManager;
+  protected OGraphSnapshotManager graphSnapshotManager;
   protected volatile boolean loaded = false;
   protected Map<String, Object> resources;
   protected OStringCache stringCache;
@@ -93,6 +97,14 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
     return queryStats;
   }
 
+  public OClassStatisticsManager getClassStatisticsManager() {
+    return classStatisticsManager;
+  }
+
+  public OGraphSnapshotManager getGraphSnapshotManager() {
+    return graphSnapshotManager;
+  }
+
   public abstract void load(ODatabaseDocumentInternal oDatabaseDocumentInternal);
 
   public abstract void reload(ODatabaseDocumentInternal database);
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.db;
 
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.viewmanager.ViewManager;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OIndexException;
@@ -20,6 +21,7 @@ import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
 import com.orientechnologies.orient.core.sql.parser.OExecutionPlanCache;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -70,6 +72,9 @@ public class OSharedContextEmbedded extends OSharedContext {
     this.registerListener(executionPlanCache);
 
     queryStats = new OQueryStats();
+    classStatisticsManager = new OClassStatisticsManager();
+    this.registerListener(classStatisticsManager);
+    graphSnapshotManager = new OGraphSnapshotManager();
     activeDistributedQueries = new HashMap<>();
     ((OAbstractPaginatedStorage) storage)
         .setStorageConfigurationUpdateListener(
@@ -124,6 +129,7 @@ public class OSharedContextEmbedded extends OSharedContext {
     executionPlanCache.invalidate();
     liveQueryOps.close();
     liveQueryOpsV2.close();
+    graphSnapshotManager.close();
     activeDistributedQueries.values().forEach(x -> x.close());
     loaded = false;
   }
@@ -0,0 +1,37 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import java.util.function.Predicate;
+
+/**
+ * Reads records through another reader and skips the ones which content is rejected by a filter,
+ * so they are not deserialized.
+ */
+public final class FilteredRecordReader implements RecordReader {
+  private final RecordReader delegate;
+  private final Predicate<ORawBuffer> filter;
+
+  public FilteredRecordReader(RecordReader delegate, Predicate<ORawBuffer> filter) {
+    this.delegate = delegate;
+    this.filter = filter;
+  }
+
+  @Override
+  public ORawBuffer readRecord(
+      OStorage storage,
+      ORecordId rid,
+      String fetchPlan,
+      boolean ignoreCache,
+      final int recordVersion)
+      throws ORecordNotFoundException {
+    final ORawBuffer buffer =
+        delegate.readRecord(storage, rid, fetchPlan, ignoreCache, recordVersion);
+    if (buffer != null && !filter.test(buffer)) {
+      return null;
+    }
+    return buffer;
+  }
+}
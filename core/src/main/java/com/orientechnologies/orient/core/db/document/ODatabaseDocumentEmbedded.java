@@ -126,8 +126,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -1253,6 +1255,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
     super.afterCommitOperations();
     OLiveQueryHook.notifyForTxChanges(this);
     OLiveQueryHookV2.notifyForTxChanges(this);
+    getSharedContext().getViewManager().notifyForTxChanges(this);
   }
 
   @Override
@@ -1260,6 +1263,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
     super.afterRollbackOperations();
     OLiveQueryHook.removePendingDatabaseOps(this);
     OLiveQueryHookV2.removePendingDatabaseOps(this);
+    getSharedContext().getViewManager().removePendingChanges(this);
   }
 
   @Override
@@ -1468,6 +1472,54 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
     }
   }
 
+  @Override
+  public List<ORecord> loadRecords(final List<? extends ORID> rids) {
+    if (getTransaction().isActive() || !(getStorage() instanceof OAbstractPaginatedStorage)) {
+      // THE TRANSACTION RESOLVES ITS OWN RECORDS AND TRACKS THE READS
+      return super.loadRecords(rids);
+    }
+    checkOpenness();
+    checkIfActive();
+
+    final List<ORID> toRead = new ArrayList<>(rids.size());
+    for (final ORID rid : rids) {
+      if (rid.isPersistent() && getLocalCache().findRecord(rid) == null) {
+        toRead.add(rid);
+      }
+    }
+
+    // NULL BUFFERS MARK THE RECORDS THAT THE BATCH READ DID NOT FIND, THEY ARE NOT READ AGAIN
+    final Map<ORID, ORawBuffer> buffers = new HashMap<>();
+    if (toRead.size() > 1) {
+      final List<ORawBuffer> read = ((OAbstractPaginatedStorage) getStorage()).readRecords(toRead);
+      for (int i = 0; i < toRead.size(); i++) {
+        buffers.put(toRead.get(i), read.get(i));
+      }
+    }
+
+    final RecordReader recordReader =
+        new PrefetchedRecordReader(buffers, new SimpleRecordReader(isPrefetchRecords()));
+    final List<ORecord> result = new ArrayList<>(rids.size());
+    for (final ORID rid : rids) {
+      if (rid.isNew()) {
+        result.add(null);
+      } else {
+        result.add(
+            executeReadRecord(
+                (ORecordId) rid,
+                null,
+                -1,
+                null,
+                false,
+                true,
+                false,
+                OStorage.LOCKING_STRATEGY.NONE,
+                recordReader));
+      }
+    }
+    return result;
+  }
+
   @Override
   public void internalLockRecord(OIdentifiable iRecord, OStorage.LOCKING_STRATEGY lockingStrategy) {
     internalLockRecord(iRecord, lockingStrategy, 0);
@@ -1942,6 +1994,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
 
   @Override
   public void internalCommit(OTransactionInternal transaction) {
+    getSharedContext().getViewManager().beforeCommit(this, transaction);
     this.getStorage().commit(transaction);
   }
 
@@ -2133,6 +2186,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract
   @Override
   public void internalCommitPreallocate(OTransactionOptimistic oTransactionOptimistic) {
     ((OAbstractPaginatedStorage) getStorage()).preallocateRids(oTransactionOptimistic);
+    getSharedContext().getViewManager().beforeCommit(this, oTransactionOptimistic);
     ((OAbstractPaginatedStorage) getStorage()).commitPreAllocated(oTransactionOptimistic);
   }
 }
@@ -313,6 +313,12 @@ public class ODatabaseDocumentTx implements ODatabaseDocumentInternal {
         recordReader);
   }
 
+  @Override
+  public List<ORecord> loadRecords(List<? extends ORID> rids) {
+    checkOpenness();
+    return internal.loadRecords(rids);
+  }
+
   @Override
   public void executeDeleteRecord(
       OIdentifiable record,
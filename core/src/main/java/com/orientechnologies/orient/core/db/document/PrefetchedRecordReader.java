@@ -0,0 +1,40 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import java.util.Map;
+
+/**
+ * Returns the records read in advance by a batch read, every record once, and reads the other
+ * records with the fallback reader. A null record stands for a record that the batch read did not
+ * find, it is not read again.
+ *
+ * @Internal
+ */
+public final class PrefetchedRecordReader implements RecordReader {
+  private final Map<ORID, ORawBuffer> records;
+  private final RecordReader fallback;
+
+  public PrefetchedRecordReader(Map<ORID, ORawBuffer> records, RecordReader fallback) {
+    this.records = records;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public ORawBuffer readRecord(
+      OStorage storage,
+      ORecordId rid,
+      String fetchPlan,
+      boolean ignoreCache,
+      final int recordVersion)
+      throws ORecordNotFoundException {
+    if (records.containsKey(rid)) {
+      // null if the batch read did not find the record
+      return records.remove(rid);
+    }
+    return fallback.readRecord(storage, rid, fetchPlan, ignoreCache, recordVersion);
+  }
+}
@@ -0,0 +1,809 @@
+package com.orientechnologies.orient.core.db.viewmanager;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OClassIndexManager;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
+import com.orientechnologies.orient.core.sql.parser.OBaseIdentifier;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OFromItem;
+import com.orientechnologies.orient.core.sql.parser.OFunctionCall;
+import com.orientechnologies.orient.core.sql.parser.OGroupBy;
+import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatementCache;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+import com.orientechnologies.orient.core.sql.parser.SubQueryCollector;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A view which is maintained applying to its rows the committed changes of the records of its
+ * source class, instead of being rebuilt. <br>
+ * The query of the view has to read a single class, without LET, UNWIND, ORDER BY, SKIP, LIMIT and
+ * sub-queries. Two kinds of queries are supported:
+ *
+ * <ul>
+ *   <li>filters and projections (<code>SELECT a, b AS c FROM Foo WHERE ...</code>), the view needs
+ *       an <code>originRidField</code> to link its rows to the source records
+ *   <li>aggregates (<code>SELECT a, count(*), sum(b) FROM Foo WHERE ... GROUP BY a</code>) with
+ *       count, sum, min and max of fields, grouped by fields which are all projected
+ * </ul>
+ *
+ * Changes are applied reading the current content of the changed records, so a record can be
+ * applied more than once and in any order: the view only depends on its last content. This is what
+ * lets the view be built while the source class changes, the records committed meanwhile are
+ * applied again once the build is done.
+ */
+abstract class IncrementalView {
+  /** Number of rows changed in a single transaction. */
+  private static final int BATCH_SIZE = 100;
+
+  protected final String viewName;
+  protected final String query;
+  protected final String className;
+  protected final OWhereClause whereClause;
+
+  private IncrementalView(
+      String viewName, String query, String className, OWhereClause whereClause) {
+    this.viewName = viewName;
+    this.query = query;
+    this.className = className;
+    this.whereClause = whereClause;
+  }
+
+  /** @return the incremental definition of the view, null if its query is not supported */
+  static IncrementalView of(OView view, ODatabaseDocumentInternal db) {
+    String query = view.getQuery();
+    OStatement statement;
+    try {
+      statement = OStatementCache.get(query, db);
+    } catch (RuntimeException e) {
+      return null;
+    }
+    if (!(statement instanceof OSelectStatement)) {
+      return null;
+    }
+    OSelectStatement select = (OSelectStatement) statement;
+    if (select.getLetClause() != null
+        || select.getUnwind() != null
+        || select.getOrderBy() != null
+        || select.getSkip() != null
+        || select.getLimit() != null
+        || select.getTarget() == null) {
+      return null;
+    }
+
+    OFromItem from = select.getTarget().getItem();
+    if (from == null || from.getIdentifier() == null || from.getModifier() != null) {
+      return null;
+    }
+    OClass clazz =
+        db.getMetadata()
+            .getImmutableSchemaSnapshot()
+            .getClass(from.getIdentifier().getStringValue());
+    if (clazz == null) {
+      return null;
+    }
+
+    OWhereClause where = select.getWhereClause();
+    if (where != null && (where.refersToParent() || hasSubQueries(where.copy()))) {
+      return null;
+    }
+
+    OProjection projection = select.getProjection();
+    if (projection != null && (projection.getItems() == null || projection.getItems().isEmpty())) {
+      projection = null;
+    }
+    if (projection != null
+        && (projection.isExpand()
+            || projection.isDistinct()
+            || projection.refersToParent()
+            || hasSubQueries(projection.copy()))) {
+      return null;
+    }
+
+    if (select.getGroupBy() != null
+        || (projection != null
+            && projection.getItems().stream().anyMatch(OProjectionItem::isAggregate))) {
+      return AggregateView.of(
+          view.getName(), query, clazz.getName(), where, projection, select.getGroupBy());
+    }
+    if (view.getOriginRidField() == null) {
+      // rows cannot be linked to the records they come from
+      return null;
+    }
+    if (projection != null && projection.getItems().size() == 1) {
+      if (projection.getItems().get(0).isAll()) {
+        projection = null;
+      }
+    }
+    if (projection != null && projection.getItems().stream().anyMatch(OProjectionItem::isAll)) {
+      return null;
+    }
+    return new FilterView(
+        view.getName(), query, clazz.getName(), where, projection, view.getOriginRidField());
+  }
+
+  private static boolean hasSubQueries(OWhereClause where) {
+    SubQueryCollector collector = new SubQueryCollector();
+    where.extractSubQueries(collector);
+    return !collector.getSubQueries().isEmpty();
+  }
+
+  private static boolean hasSubQueries(OProjection projection) {
+    SubQueryCollector collector = new SubQueryCollector();
+    projection.extractSubQueries(collector);
+    return !collector.getSubQueries().isEmpty();
+  }
+
+  /** @return the name of the field, null if the expression is not a plain field */
+  private static String fieldName(OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier()) {
+      return null;
+    }
+    String name = expression.getDefaultAlias().getStringValue();
+    if (name.startsWith("$") || name.startsWith("@")) {
+      return null;
+    }
+    return name;
+  }
+
+  String getQuery() {
+    return query;
+  }
+
+  boolean isSourceOf(OClass clazz) {
+    return clazz.isSubClassOf(className);
+  }
+
+  /** @return true if changes can be applied, false if the view has to be built first */
+  abstract boolean isReady();
+
+  /** @return a new row of the view for a result of the fill query */
+  protected abstract OElement newRow(OResult item, ODatabaseDocumentInternal db);
+
+  /** Applies the current content of the committed records to the rows of the view. */
+  abstract void apply(Collection<ORID> rids, OView view, ODatabaseDocumentInternal db);
+
+  /** Fills a new cluster of the view from the current content of the source class. */
+  void fill(ODatabaseDocumentInternal db, String clusterName, Collection<OIndex> indexes) {
+    db.getLocalCache().clear();
+    try (OResultSet rs = db.query(getSourceQuery())) {
+      saveRows(rs, db, clusterName, indexes);
+    }
+  }
+
+  /** @return the query which reads the source records matching the query of the view */
+  protected String getSourceQuery() {
+    String result = "SELECT FROM `" + className + "`";
+    if (whereClause != null) {
+      result += " WHERE " + whereClause;
+    }
+    return result;
+  }
+
+  /** @return the current content of the record, null if it is deleted or not part of the view */
+  protected OResult loadSource(ORID rid, OCommandContext ctx, ODatabaseDocumentInternal db) {
+    ORecord record;
+    try {
+      record = db.load(rid);
+    } catch (ORecordNotFoundException e) {
+      return null;
+    }
+    if (!(record instanceof OElement)) {
+      return null;
+    }
+    OElement element = (OElement) record;
+    Optional<OClass> clazz = element.getSchemaType();
+    OResult result = new OResultInternal(element);
+    if (clazz.isPresent() && isSourceOf(clazz.get()) && matches(result, ctx)) {
+      return result;
+    }
+    return null;
+  }
+
+  protected void saveRows(
+      Iterator<OResult> items,
+      ODatabaseDocumentInternal db,
+      String clusterName,
+      Collection<OIndex> indexes) {
+    int iterationCount = 0;
+    db.begin();
+    while (items.hasNext()) {
+      OElement row = newRow(items.next(), db);
+      db.save(row, clusterName);
+      OClassIndexManager.addIndexesEntries(db, (ODocument) row, indexes);
+      if (++iterationCount % BATCH_SIZE == 0) {
+        db.commit();
+        db.begin();
+      }
+    }
+    db.commit();
+  }
+
+  protected boolean matches(OResult record, OCommandContext ctx) {
+    return whereClause == null || whereClause.matchesFilters(record, ctx);
+  }
+
+  protected static Map<String, Object> copyProperties(OResult item) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (String prop : item.getPropertyNames()) {
+      if (!prop.equalsIgnoreCase("@rid") && !prop.equalsIgnoreCase("@class")) {
+        result.put(prop, item.getProperty(prop));
+      }
+    }
+    return result;
+  }
+
+  protected List<OElement> findRows(
+      String condition, Object[] params, ODatabaseDocumentInternal db) {
+    List<OElement> result = new ArrayList<>();
+    String sql = "SELECT FROM `" + viewName + "`";
+    if (condition != null) {
+      sql += " WHERE " + condition;
+    }
+    try (OResultSet rs = db.query(sql, params)) {
+      while (rs.hasNext()) {
+        rs.next().getElement().ifPresent(result::add);
+      }
+    }
+    return result;
+  }
+
+  protected static void insertRow(
+      OElement row, OView view, List<OIndex> indexes, ODatabaseDocumentInternal db) {
+    db.save(row, db.getClusterNameById(view.getClusterIds()[0]));
+    OClassIndexManager.addIndexesEntries(db, (ODocument) row, indexes);
+  }
+
+  /** Replaces the values of a row, properties which are not in the new values are kept. */
+  protected static void updateRow(
+      OElement row,
+      Map<String, Object> values,
+      Collection<String> removedProperties,
+      List<OIndex> indexes,
+      ODatabaseDocumentInternal db) {
+    OClassIndexManager.removeIndexesEntries(db, (ODocument) row, indexes);
+    for (String prop : removedProperties) {
+      row.removeProperty(prop);
+    }
+    for (Map.Entry<String, Object> value : values.entrySet()) {
+      row.setProperty(value.getKey(), value.getValue());
+    }
+    db.save(row);
+    OClassIndexManager.addIndexesEntries(db, (ODocument) row, indexes);
+  }
+
+  protected static void deleteRow(
+      OElement row, List<OIndex> indexes, ODatabaseDocumentInternal db) {
+    OClassIndexManager.removeIndexesEntries(db, (ODocument) row, indexes);
+    db.delete(row);
+  }
+
+  /** Rows of the view linked to the source records by the origin RID field. */
+  private static final class FilterView extends IncrementalView {
+    /** The projection of the query, null to copy all the properties. */
+    private final OProjection projection;
+
+    private final String originRidField;
+
+    private FilterView(
+        String viewName,
+        String query,
+        String className,
+        OWhereClause whereClause,
+        OProjection projection,
+        String originRidField) {
+      super(viewName, query, className, whereClause);
+      this.projection = projection;
+      this.originRidField = originRidField;
+    }
+
+    @Override
+    boolean isReady() {
+      // the rows are linked to the records, nothing else is needed
+      return true;
+    }
+
+    @Override
+    protected OElement newRow(OResult item, ODatabaseDocumentInternal db) {
+      OElement row = db.newElement();
+      calculateValues(item, new OBasicCommandContext(db)).forEach(row::setProperty);
+      row.setProperty(originRidField, item.getIdentity().orElse(item.getProperty("@rid")));
+      row.setProperty("@view", viewName);
+      return row;
+    }
+
+    private Map<String, Object> calculateValues(OResult origin, OCommandContext ctx) {
+      if (projection == null) {
+        return copyProperties(origin);
+      }
+      Map<String, Object> result = new LinkedHashMap<>();
+      ctx.setVariable("$current", origin);
+      for (OProjectionItem item : projection.getItems()) {
+        result.put(item.getProjectionAliasAsString(), item.execute(origin, ctx));
+      }
+      return result;
+    }
+
+    @Override
+    void apply(Collection<ORID> rids, OView view, ODatabaseDocumentInternal db) {
+      List<OIndex> indexes = new ArrayList<>(view.getIndexes());
+      OBasicCommandContext ctx = new OBasicCommandContext(db);
+
+      db.getLocalCache().clear();
+      int iterationCount = 0;
+      db.begin();
+      for (ORID rid : rids) {
+        apply(rid, view, indexes, ctx, db);
+        if (++iterationCount % BATCH_SIZE == 0) {
+          db.commit();
+          db.begin();
+        }
+      }
+      db.commit();
+    }
+
+    private void apply(
+        ORID rid,
+        OView view,
+        List<OIndex> indexes,
+        OCommandContext ctx,
+        ODatabaseDocumentInternal db) {
+      OResult origin = loadSource(rid, ctx, db);
+      List<OElement> rows = findRows("`" + originRidField + "` = ?", new Object[] {rid}, db);
+      Iterator<OElement> iterator = rows.iterator();
+      if (origin != null) {
+        Map<String, Object> values = calculateValues(origin, ctx);
+        if (iterator.hasNext()) {
+          OElement row = iterator.next();
+          List<String> removed = new ArrayList<>();
+          for (String prop : row.getPropertyNames()) {
+            if (!values.containsKey(prop)
+                && !prop.equals(originRidField)
+                && !prop.equalsIgnoreCase("@view")) {
+              removed.add(prop);
+            }
+          }
+          updateRow(row, values, removed, indexes, db);
+        } else {
+          insertRow(newRow(origin, db), view, indexes, db);
+        }
+      }
+      while (iterator.hasNext()) {
+        deleteRow(iterator.next(), indexes, db);
+      }
+    }
+  }
+
+  /** Rows of the view holding the aggregates of a group of source records. */
+  private static final class AggregateView extends IncrementalView {
+    private enum Function {
+      COUNT,
+      SUM,
+      MIN,
+      MAX
+    }
+
+    private static final class Aggregate {
+      private final String alias;
+      private final Function function;
+
+      /** The aggregated field, null for count(*). */
+      private final String field;
+
+      private Aggregate(String alias, Function function, String field) {
+        this.alias = alias;
+        this.function = function;
+        this.field = field;
+      }
+    }
+
+    private final List<String> groupFields;
+    private final List<String> groupAliases;
+    private final List<Aggregate> aggregates;
+
+    /** The view has a single row even without source records, as for <code>count(*)</code>. */
+    private final boolean alwaysOneRow;
+
+    /**
+     * Values of the source records which are part of the aggregates, by RID: they tell what has to
+     * be removed from a group when a record changes.
+     */
+    private final Map<ORID, Contribution> contributions = new HashMap<>();
+
+    private final Map<List<Object>, Group> groups = new HashMap<>();
+
+    /** The contributions are only known once the view has been built. */
+    private boolean filled = false;
+
+    private AggregateView(
+        String viewName,
+        String query,
+        String className,
+        OWhereClause whereClause,
+        List<String> groupFields,
+        List<String> groupAliases,
+        List<Aggregate> aggregates) {
+      super(viewName, query, className, whereClause);
+      this.groupFields = groupFields;
+      this.groupAliases = groupAliases;
+      this.aggregates = aggregates;
+      this.alwaysOneRow =
+          groupFields.isEmpty()
+              && aggregates.size() == 1
+              && aggregates.get(0).function == Function.COUNT
+              && aggregates.get(0).field == null;
+    }
+
+    private static AggregateView of(
+        String viewName,
+        String query,
+        String className,
+        OWhereClause whereClause,
+        OProjection projection,
+        OGroupBy groupBy) {
+      if (projection == null) {
+        return null;
+      }
+      List<String> groupFields = new ArrayList<>();
+      if (groupBy != null) {
+        for (OExpression item : groupBy.getItems()) {
+          String field = fieldName(item);
+          if (field == null) {
+            return null;
+          }
+          groupFields.add(field);
+        }
+      }
+
+      String[] groupAliases = new String[groupFields.size()];
+      List<Aggregate> aggregates = new ArrayList<>();
+      for (OProjectionItem item : projection.getItems()) {
+        if (item.isAll() || item.getExpression() == null) {
+          return null;
+        }
+        String alias = item.getProjectionAliasAsString();
+        if (item.isAggregate()) {
+          Aggregate aggregate = aggregateOf(alias, item.getExpression());
+          if (aggregate == null) {
+            return null;
+          }
+          aggregates.add(aggregate);
+        } else {
+          int group = groupFields.indexOf(fieldName(item.getExpression()));
+          if (group < 0) {
+            return null;
+          }
+          groupAliases[group] = alias;
+        }
+      }
+      if (aggregates.isEmpty() || Arrays.asList(groupAliases).contains(null)) {
+        // rows have to be found by the values of all the groups
+        return null;
+      }
+      return new AggregateView(
+          viewName,
+          query,
+          className,
+          whereClause,
+          groupFields,
+          Arrays.asList(groupAliases),
+          aggregates);
+    }
+
+    private static Aggregate aggregateOf(String alias, OExpression expression) {
+      if (!(expression.getMathExpression() instanceof OBaseExpression)) {
+        return null;
+      }
+      OBaseExpression base = (OBaseExpression) expression.getMathExpression();
+      OBaseIdentifier identifier = base.getIdentifier();
+      if (base.getModifier() != null
+          || identifier == null
+          || identifier.getSuffix() != null
+          || identifier.getLevelZero() == null) {
+        return null;
+      }
+      OFunctionCall call = identifier.getLevelZero().getFunctionCall();
+      if (call == null || call.getParams().size() != 1) {
+        return null;
+      }
+
+      Function function;
+      switch (call.getName().getStringValue().toLowerCase(Locale.ENGLISH)) {
+        case "count":
+          function = Function.COUNT;
+          if (call.isStar()) {
+            return new Aggregate(alias, function, null);
+          }
+          break;
+        case "sum":
+          function = Function.SUM;
+          break;
+        case "min":
+          function = Function.MIN;
+          break;
+        case "max":
+          function = Function.MAX;
+          break;
+        default:
+          return null;
+      }
+      String field = fieldName(call.getParams().get(0));
+      if (field == null) {
+        return null;
+      }
+      return new Aggregate(alias, function, field);
+    }
+
+    @Override
+    boolean isReady() {
+      return filled;
+    }
+
+    @Override
+    void fill(ODatabaseDocumentInternal db, String clusterName, Collection<OIndex> indexes) {
+      filled = false;
+      contributions.clear();
+      groups.clear();
+      db.getLocalCache().clear();
+      // the aggregates are calculated here, so that the contribution of each record is known
+      try (OResultSet rs = db.query(getSourceQuery())) {
+        while (rs.hasNext()) {
+          OResult record = rs.next();
+          Optional<ORID> rid = record.getIdentity();
+          if (rid.isPresent()) {
+            add(rid.get().copy(), new Contribution(record));
+          }
+        }
+      }
+      if (alwaysOneRow) {
+        groups.computeIfAbsent(Collections.emptyList(), k -> new Group());
+      }
+      List<OResult> rows = new ArrayList<>(groups.size());
+      for (Map.Entry<List<Object>, Group> group : groups.entrySet()) {
+        OResultInternal row = new OResultInternal();
+        group.getValue().values(group.getKey()).forEach(row::setProperty);
+        rows.add(row);
+      }
+      saveRows(rows.iterator(), db, clusterName, indexes);
+      filled = true;
+    }
+
+    @Override
+    protected OElement newRow(OResult item, ODatabaseDocumentInternal db) {
+      OElement row = db.newElement();
+      copyProperties(item).forEach(row::setProperty);
+      return row;
+    }
+
+    /** The values of a source record which are part of the aggregates. */
+    private final class Contribution {
+      private final List<Object> group;
+
+      /** The value of the field of each aggregate, null for count(*). */
+      private final Object[] values = new Object[aggregates.size()];
+
+      private Contribution(OResult record) {
+        group = new ArrayList<>(groupFields.size());
+        for (String field : groupFields) {
+          group.add(record.getProperty(field));
+        }
+        for (int i = 0; i < aggregates.size(); i++) {
+          Aggregate aggregate = aggregates.get(i);
+          values[i] = aggregate.field == null ? null : record.getProperty(aggregate.field);
+        }
+      }
+    }
+
+    /** The aggregates of a group of source records. */
+    private final class Group {
+      private long records;
+
+      /** Number of non-null values of each aggregate, of records for count(*). */
+      private final long[] counts = new long[aggregates.size()];
+
+      private final Number[] sums = new Number[aggregates.size()];
+
+      /** Values of each min and max with their number of records, to know the next one. */
+      private final TreeMap<Object, Integer>[] extremes;
+
+      @SuppressWarnings("unchecked")
+      private Group() {
+        extremes = new TreeMap[aggregates.size()];
+        for (int i = 0; i < aggregates.size(); i++) {
+          Function function = aggregates.get(i).function;
+          if (function == Function.MIN || function == Function.MAX) {
+            extremes[i] = new TreeMap<>(ODefaultComparator.INSTANCE);
+          }
+        }
+      }
+
+      private void add(Contribution contribution, boolean remove) {
+        records += remove ? -1 : 1;
+        for (int i = 0; i < aggregates.size(); i++) {
+          Aggregate aggregate = aggregates.get(i);
+          Object value = contribution.values[i];
+          if (aggregate.field != null && value == null) {
+            continue;
+          }
+          counts[i] += remove ? -1 : 1;
+          switch (aggregate.function) {
+            case SUM:
+              Number number = remove ? negate((Number) value) : (Number) value;
+              sums[i] = sums[i] == null ? number : OType.increment(sums[i], number);
+              break;
+            case MIN:
+            case MAX:
+              if (remove) {
+                extremes[i].computeIfPresent(value, (k, v) -> v == 1 ? null : v - 1);
+              } else {
+                extremes[i].merge(value, 1, Integer::sum);
+              }
+              break;
+            default:
+              break;
+          }
+        }
+      }
+
+      private Map<String, Object> values(List<Object> key) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < groupAliases.size(); i++) {
+          result.put(groupAliases.get(i), key.get(i));
+        }
+        for (int i = 0; i < aggregates.size(); i++) {
+          Aggregate aggregate = aggregates.get(i);
+          switch (aggregate.function) {
+            case COUNT:
+              result.put(aggregate.alias, counts[i]);
+              break;
+            case SUM:
+              // as the sum() function, which is 0 without values
+              result.put(aggregate.alias, counts[i] == 0 ? 0 : sums[i]);
+              break;
+            case MIN:
+              result.put(aggregate.alias, extremes[i].isEmpty() ? null : extremes[i].firstKey());
+              break;
+            case MAX:
+              result.put(aggregate.alias, extremes[i].isEmpty() ? null : extremes[i].lastKey());
+              break;
+          }
+        }
+        return result;
+      }
+    }
+
+    private void add(ORID rid, Contribution contribution) {
+      contributions.put(rid, contribution);
+      groups.computeIfAbsent(contribution.group, k -> new Group()).add(contribution, false);
+    }
+
+    @Override
+    void apply(Collection<ORID> rids, OView view, ODatabaseDocumentInternal db) {
+      OBasicCommandContext ctx = new OBasicCommandContext(db);
+      db.getLocalCache().clear();
+      Set<List<Object>> changed = new LinkedHashSet<>();
+      for (ORID rid : rids) {
+        Contribution previous = contributions.remove(rid);
+        if (previous != null) {
+          groups.get(previous.group).add(previous, true);
+          changed.add(previous.group);
+        }
+        OResult current = loadSource(rid, ctx, db);
+        if (current != null) {
+          Contribution contribution = new Contribution(current);
+          add(rid, contribution);
+          changed.add(contribution.group);
+        }
+      }
+
+      List<OIndex> indexes = new ArrayList<>(view.getIndexes());
+      int iterationCount = 0;
+      db.begin();
+      for (List<Object> key : changed) {
+        Group group = groups.get(key);
+        Map<String, Object> values = null;
+        if (group.records > 0 || alwaysOneRow) {
+          values = group.values(key);
+        } else {
+          groups.remove(key);
+        }
+        updateGroupRow(key, values, view, indexes, db);
+        if (++iterationCount % BATCH_SIZE == 0) {
+          db.commit();
+          db.begin();
+        }
+      }
+      db.commit();
+    }
+
+    /** Replaces the row of a group with the new values, deletes it if they are null. */
+    private void updateGroupRow(
+        List<Object> group,
+        Map<String, Object> values,
+        OView view,
+        List<OIndex> indexes,
+        ODatabaseDocumentInternal db) {
+      Iterator<OElement> iterator = findGroupRows(group, db).iterator();
+      if (values != null) {
+        if (iterator.hasNext()) {
+          updateRow(iterator.next(), values, Collections.emptyList(), indexes, db);
+        } else {
+          OElement row = db.newElement();
+          values.forEach(row::setProperty);
+          insertRow(row, view, indexes, db);
+        }
+      }
+      while (iterator.hasNext()) {
+        deleteRow(iterator.next(), indexes, db);
+      }
+    }
+
+    private List<OElement> findGroupRows(List<Object> group, ODatabaseDocumentInternal db) {
+      if (group.isEmpty()) {
+        return findRows(null, new Object[0], db);
+      }
+      List<Object> params = new ArrayList<>();
+      StringBuilder condition = new StringBuilder();
+      for (int i = 0; i < groupAliases.size(); i++) {
+        if (i > 0) {
+          condition.append(" AND ");
+        }
+        condition.append('`').append(groupAliases.get(i)).append('`');
+        if (group.get(i) == null) {
+          condition.append(" IS NULL");
+        } else {
+          condition.append(" = ?");
+          params.add(group.get(i));
+        }
+      }
+      return findRows(condition.toString(), params.toArray(), db);
+    }
+
+    private static Number negate(Number value) {
+      if (value instanceof Integer) {
+        return -value.intValue();
+      } else if (value instanceof Long) {
+        return -value.longValue();
+      } else if (value instanceof Short) {
+        return (short) -value.shortValue();
+      } else if (value instanceof Float) {
+        return -value.floatValue();
+      } else if (value instanceof BigDecimal) {
+        return ((BigDecimal) value).negate();
+      }
+      return -value.doubleValue();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
 import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.OLiveQueryResultListener;
@@ -12,7 +13,9 @@ import com.orientechnologies.orient.core.db.OScenarioThreadLocal;
 import com.orientechnologies.orient.core.db.OrientDBInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OClassIndexManager;
 import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
@@ -20,6 +23,7 @@ import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexDefinitionFactory;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.index.OPropertyMapIndexDefinition.INDEX_BY;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
 import com.orientechnologies.orient.core.metadata.schema.OIndexConfigProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -30,7 +34,9 @@ import com.orientechnologies.orient.core.metadata.schema.OViewImpl;
 import com.orientechnologies.orient.core.metadata.schema.OViewIndexConfig;
 import com.orientechnologies.orient.core.metadata.schema.OViewRemovedMetadata;
 import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
@@ -38,19 +44,25 @@ import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
 import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
+import com.orientechnologies.orient.core.tx.OTransactionInternal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimerTask;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -85,6 +97,25 @@ public class ViewManager {
   private final ConcurrentMap<String, Long> lastChangePerClass = new ConcurrentHashMap<>();
   private final Set<String> refreshing = Collections.synchronizedSet(new HashSet<>());
 
+  /** Definitions of the incremental views, by view name. */
+  private final ConcurrentMap<String, IncrementalView> incrementalViews = new ConcurrentHashMap<>();
+
+  /**
+   * Records changed by the transactions which are being committed, the incremental views they are
+   * relevant for are chosen once they are committed.
+   *
+   * <p>database -> changed documents
+   */
+  private final ConcurrentMap<ODatabaseDocumentInternal, List<PendingChange>> pendingChanges =
+      new ConcurrentHashMap<>();
+
+  /** RIDs of the committed records waiting to be applied, by view name. */
+  private final ConcurrentMap<String, BlockingQueue<ORID>> changesPerView =
+      new ConcurrentHashMap<>();
+
+  /** Incremental views which missed changes, so they have to be rebuilt. */
+  private final Set<String> fullRefreshRequired = ConcurrentHashMap.newKeySet();
+
   private volatile TimerTask timerTask;
   private volatile boolean closed = false;
 
@@ -162,6 +193,7 @@ public class ViewManager {
 
   private void updateViews(ODatabaseDocumentInternal db) {
     try {
+      applyViewChanges(db);
       OView view;
       do {
         cleanUnusedViewClusters(db);
@@ -255,6 +287,9 @@ public class ViewManager {
       if (isViewRefreshing(view)) {
         continue;
       }
+      if (isUpdatedIncrementally(db, view)) {
+        continue;
+      }
       return db.getMetadata().getSchema().getView(view.getName());
     }
 
@@ -269,6 +304,41 @@ public class ViewManager {
     return OViewConfig.UPDATE_STRATEGY_LIVE.equalsIgnoreCase(view.getUpdateStrategy());
   }
 
+  private boolean isIncremental(OView view) {
+    return OViewConfig.UPDATE_STRATEGY_INCREMENTAL.equalsIgnoreCase(view.getUpdateStrategy());
+  }
+
+  /** @return true if the view has been built and it is kept up to date applying changes */
+  private boolean isUpdatedIncrementally(ODatabaseDocumentInternal db, OView view) {
+    if (!isIncremental(view)
+        || view.getLastRefreshTime() <= 0
+        || fullRefreshRequired.contains(view.getName())) {
+      return false;
+    }
+    IncrementalView incrementalView = getIncrementalView(view, db);
+    return incrementalView != null && incrementalView.isReady();
+  }
+
+  /** @return the incremental definition of the view, null if it has to be rebuilt to update it */
+  private IncrementalView getIncrementalView(OView view, ODatabaseDocumentInternal db) {
+    if (!isIncremental(view)) {
+      return null;
+    }
+    IncrementalView result = incrementalViews.get(view.getName());
+    if (result != null && result.getQuery().equals(view.getQuery())) {
+      return result;
+    }
+    IncrementalView created = IncrementalView.of(view, db);
+    if (created == null) {
+      return null;
+    }
+    // a build and a commit can ask for the definition at the same time, they have to share it
+    return incrementalViews.compute(
+        view.getName(),
+        (name, current) ->
+            current != null && current.getQuery().equals(created.getQuery()) ? current : created);
+  }
+
   protected boolean buildOnThisNode(ODatabaseDocumentInternal db, OView name) {
     return true;
   }
@@ -336,6 +406,18 @@ public class ViewManager {
 
       logger.info("Starting refresh of view '%s'", viewName);
       long lastRefreshTime = System.currentTimeMillis();
+      IncrementalView incrementalView = null;
+      if (isIncremental(view)) {
+        // the build reads the records committed so far, the records committed while it runs are
+        // queued and applied from their current content once it is done
+        fullRefreshRequired.remove(viewName);
+        BlockingQueue<ORID> changes = changesPerView.get(viewName);
+        if (changes != null) {
+          changes.clear();
+        }
+        incrementalViews.remove(viewName);
+        incrementalView = getIncrementalView(view, db);
+      }
       String clusterName = createNextClusterNameFor(view, db);
       int cluster = db.getClusterIdByName(clusterName);
 
@@ -344,7 +426,11 @@ public class ViewManager {
       List<OIndex> indexes = createNewIndexesForView(view, cluster, db);
 
       try {
-        fillView(db, viewName, query, originRidField, clusterName, indexes);
+        if (incrementalView != null) {
+          incrementalView.fill(db, clusterName, indexes);
+        } else {
+          fillView(db, viewName, query, originRidField, clusterName, indexes);
+        }
       } catch (RuntimeException e) {
         for (OIndex index : indexes) {
           db.getMetadata().getIndexManagerInternal().dropIndex(db, index.getName());
@@ -394,6 +480,54 @@ public class ViewManager {
     cleanUnusedViewClusters(db);
   }
 
+  /** Applies the committed changes to the incremental views. */
+  private void applyViewChanges(ODatabaseDocumentInternal db) {
+    for (Map.Entry<String, BlockingQueue<ORID>> entry : changesPerView.entrySet()) {
+      if (closed) {
+        return;
+      }
+      String viewName = entry.getKey();
+      BlockingQueue<ORID> queue = entry.getValue();
+      if (queue.isEmpty()) {
+        continue;
+      }
+      OView view = db.getMetadata().getSchema().getView(viewName);
+      if (view == null) {
+        changesPerView.remove(viewName);
+        incrementalViews.remove(viewName);
+        continue;
+      }
+      synchronized (this) {
+        if (refreshing.contains(viewName)) {
+          // a running build may need the changes committed after its read
+          continue;
+        }
+        refreshing.add(viewName);
+      }
+      try {
+        if (!buildOnThisNode(db, view) || !isUpdatedIncrementally(db, view)) {
+          // the next build of the view will include the changes
+          queue.clear();
+          continue;
+        }
+        IncrementalView incrementalView = getIncrementalView(view, db);
+        // each record is applied once whatever its number of changes
+        Set<ORID> changes = new LinkedHashSet<>();
+        queue.drainTo(changes);
+        OScenarioThreadLocal.executeAsDistributed(
+            () -> {
+              incrementalView.apply(changes, view, db);
+              return null;
+            });
+      } catch (RuntimeException e) {
+        logger.warn("Failed to apply changes to view '%s', it will be rebuilt", e, viewName);
+        fullRefreshRequired.add(viewName);
+      } finally {
+        refreshing.remove(viewName);
+      }
+    }
+  }
+
   private void fillView(
       ODatabaseDocumentInternal db,
       String viewName,
@@ -583,6 +717,86 @@ public class ViewManager {
     }
   }
 
+  /**
+   * Keeps the documents changed by the transaction of the database which is going to be committed,
+   * to queue them for the incremental views with {@link #notifyForTxChanges} once it is committed.
+   */
+  public void beforeCommit(ODatabaseDocumentInternal db, OTransactionInternal transaction) {
+    List<PendingChange> changes = new ArrayList<>();
+    for (ORecordOperation operation : transaction.getRecordOperations()) {
+      ORecord record = operation.getRecord();
+      if (operation.type == ORecordOperation.LOADED || !(record instanceof ODocument)) {
+        continue;
+      }
+      OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(db, (ODocument) record);
+      if (clazz != null) {
+        changes.add(new PendingChange(record, clazz));
+      }
+    }
+    if (changes.isEmpty()) {
+      pendingChanges.remove(db);
+    } else {
+      pendingChanges.put(db, changes);
+    }
+  }
+
+  /**
+   * Queues the records of the committed transaction of the database for the incremental views
+   * which read their classes. The views are chosen now, so a view created while the transaction
+   * was running gets its records too if its build could not see them.
+   */
+  public void notifyForTxChanges(ODatabaseDocumentInternal db) {
+    List<PendingChange> changes = pendingChanges.remove(db);
+    if (changes == null) {
+      return;
+    }
+    Collection<OView> views = db.getMetadata().getImmutableSchemaSnapshot().getViews();
+    if (views.isEmpty()) {
+      return;
+    }
+    int maxPendingChanges =
+        db.getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.VIEW_INCREMENTAL_MAX_PENDING_CHANGES);
+    Map<String, List<String>> viewsPerClass = new HashMap<>();
+    for (PendingChange change : changes) {
+      List<String> targets =
+          viewsPerClass.computeIfAbsent(
+              change.clazz.getName(), k -> incrementalViewsOf(change.clazz, views, db));
+      if (targets.isEmpty()) {
+        continue;
+      }
+      ORID rid = change.record.getIdentity().copy();
+      for (String view : targets) {
+        if (fullRefreshRequired.contains(view)) {
+          continue;
+        }
+        BlockingQueue<ORID> queue =
+            changesPerView.computeIfAbsent(view, k -> new LinkedBlockingQueue<>(maxPendingChanges));
+        if (!queue.offer(rid)) {
+          // too many changes, it is faster to rebuild the view
+          fullRefreshRequired.add(view);
+          queue.clear();
+        }
+      }
+    }
+  }
+
+  private List<String> incrementalViewsOf(
+      OClass clazz, Collection<OView> views, ODatabaseDocumentInternal db) {
+    List<String> result = new ArrayList<>();
+    for (OView view : views) {
+      IncrementalView incrementalView = getIncrementalView(view, db);
+      if (incrementalView != null && incrementalView.isSourceOf(clazz)) {
+        result.add(view.getName());
+      }
+    }
+    return result;
+  }
+
+  public void removePendingChanges(ODatabaseDocumentInternal db) {
+    pendingChanges.remove(db);
+  }
+
   public String getViewFromOldCluster(int clusterId) {
     return oldClustersPerViews.get(clusterId);
   }
@@ -604,6 +818,19 @@ public class ViewManager {
     item.incrementAndGet();
   }
 
+  /** A document changed by a transaction which is being committed. */
+  private static final class PendingChange {
+    /** The identity of a created record is known once it is committed. */
+    private final ORecord record;
+
+    private final OClass clazz;
+
+    private PendingChange(ORecord record, OClass clazz) {
+      this.record = record;
+      this.clazz = clazz;
+    }
+  }
+
   private class ViewUpdateListener implements OLiveQueryResultListener {
     private final String viewName;
 
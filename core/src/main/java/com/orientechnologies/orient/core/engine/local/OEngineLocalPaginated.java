@@ -108,7 +108,13 @@ public class OEngineLocalPaginated extends OEngineAbstract {
       pages.clear();
     }
 
-    readCache = new AsyncReadCache(OByteBufferPool.instance(null), diskCacheSize, pageSize, false);
+    readCache =
+        new AsyncReadCache(
+            OByteBufferPool.instance(null),
+            diskCacheSize,
+            pageSize,
+            false,
+            OGlobalConfiguration.DISK_CACHE_PREFETCH_PAGES.getValueAsInteger());
   }
 
   private static long calculateReadCacheMaxMemory(final long cacheSize) {
@@ -0,0 +1,380 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ODirection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the adjacency of a graph in compressed sparse row (CSR) form, used to run
+ * analytics traversals without loading vertices and edges through the record layer.
+ *
+ * <p>Vertices are identified by primitive ids from <code>0</code> to <code>vertexCount - 1</code>,
+ * assigned in the order of their record ids. Edges are identified by their position in the
+ * outgoing arrays (for {@link #outBegin(int)} and related methods) or in the incoming arrays (for
+ * {@link #inBegin(int)} and related methods), the edges of a vertex are contiguous. All the arrays
+ * are allocated off-heap, so snapshots of large graphs do not weight on the garbage collector.
+ *
+ * <p>The snapshot reflects the graph at the moment it was built and is not updated by later
+ * changes. Only edges between vertices of the snapshot are kept. It is safe to read a snapshot from
+ * multiple threads.
+ *
+ * @see OGraphSnapshotBuilder
+ */
+public final class OGraphSnapshot {
+  private final String name;
+  private final List<String> vertexClasses;
+  private final List<String> edgeClasses;
+  private final String weightProperty;
+  private final long createdOn;
+
+  private final int vertexCount;
+  private final int edgeCount;
+
+  /** Packed record ids of the vertices, sorted. */
+  private final LongBuffer rids;
+
+  private final IntBuffer outOffsets;
+  private final IntBuffer outTargets;
+  private final DoubleBuffer outWeights;
+  private final ShortBuffer outLabels;
+
+  private final IntBuffer inOffsets;
+  private final IntBuffer inSources;
+  private final DoubleBuffer inWeights;
+  private final ShortBuffer inLabels;
+
+  /** Class names of the edges, by label id. */
+  private final List<String> labels;
+
+  OGraphSnapshot(
+      final String name,
+      final List<String> vertexClasses,
+      final List<String> edgeClasses,
+      final String weightProperty,
+      final long[] rids,
+      final int vertexCount,
+      final int[] sources,
+      final int[] targets,
+      final double[] weights,
+      final short[] labels,
+      final int edgeCount,
+      final List<String> labelNames) {
+    this.name = name;
+    this.vertexClasses = Collections.unmodifiableList(vertexClasses);
+    this.edgeClasses = edgeClasses == null ? null : Collections.unmodifiableList(edgeClasses);
+    this.weightProperty = weightProperty;
+    this.createdOn = System.currentTimeMillis();
+    this.vertexCount = vertexCount;
+    this.edgeCount = edgeCount;
+    this.labels = Collections.unmodifiableList(labelNames);
+
+    this.rids = allocate(vertexCount, Long.BYTES).asLongBuffer();
+    this.rids.put(rids, 0, vertexCount);
+
+    this.outOffsets = allocate(vertexCount + 1, Integer.BYTES).asIntBuffer();
+    this.outTargets = allocate(edgeCount, Integer.BYTES).asIntBuffer();
+    this.outWeights = weights == null ? null : allocate(edgeCount, Double.BYTES).asDoubleBuffer();
+    this.outLabels = allocate(edgeCount, Short.BYTES).asShortBuffer();
+
+    this.inOffsets = allocate(vertexCount + 1, Integer.BYTES).asIntBuffer();
+    this.inSources = allocate(edgeCount, Integer.BYTES).asIntBuffer();
+    this.inWeights = weights == null ? null : allocate(edgeCount, Double.BYTES).asDoubleBuffer();
+    this.inLabels = allocate(edgeCount, Short.BYTES).asShortBuffer();
+
+    fill(sources, targets, weights, labels, outOffsets, outTargets, outWeights, outLabels);
+    fill(targets, sources, weights, labels, inOffsets, inSources, inWeights, inLabels);
+  }
+
+  private static ByteBuffer allocate(final int size, final int elementSize) {
+    if ((long) size * elementSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Graph is too large for a snapshot, " + size + " elements cannot be allocated");
+    }
+    return ByteBuffer.allocateDirect(Math.max(size, 1) * elementSize)
+        .order(ByteOrder.nativeOrder());
+  }
+
+  /** Sorts the edges by their key vertex with a counting sort, keeping their relative order. */
+  private void fill(
+      final int[] keys,
+      final int[] values,
+      final double[] weights,
+      final short[] labels,
+      final IntBuffer offsets,
+      final IntBuffer targets,
+      final DoubleBuffer targetWeights,
+      final ShortBuffer targetLabels) {
+    final int[] positions = new int[vertexCount + 1];
+    for (int i = 0; i < edgeCount; i++) {
+      positions[keys[i] + 1]++;
+    }
+    for (int i = 0; i < vertexCount; i++) {
+      positions[i + 1] += positions[i];
+    }
+    offsets.put(positions, 0, vertexCount + 1);
+
+    for (int i = 0; i < edgeCount; i++) {
+      final int position = positions[keys[i]]++;
+      targets.put(position, values[i]);
+      targetLabels.put(position, labels[i]);
+      if (targetWeights != null) {
+        targetWeights.put(position, weights[i]);
+      }
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** @return the names of the classes of the vertices, subclasses included */
+  public List<String> getVertexClasses() {
+    return vertexClasses;
+  }
+
+  /** @return the names of the classes of the edges, subclasses included, null for all edges */
+  public List<String> getEdgeClasses() {
+    return edgeClasses;
+  }
+
+  /** @return the name of the edge property used as weight, null if edges have no weight */
+  public String getWeightProperty() {
+    return weightProperty;
+  }
+
+  public boolean hasWeights() {
+    return outWeights != null;
+  }
+
+  public long getCreatedOn() {
+    return createdOn;
+  }
+
+  public int getVertexCount() {
+    return vertexCount;
+  }
+
+  public int getEdgeCount() {
+    return edgeCount;
+  }
+
+  /** @return the off-heap memory used by the snapshot, in bytes */
+  public long getMemoryUsage() {
+    final long weights = hasWeights() ? 2L * Double.BYTES * edgeCount : 0;
+    return (long) Long.BYTES * vertexCount
+        + 2L * Integer.BYTES * (vertexCount + 1)
+        + 2L * (Integer.BYTES + Short.BYTES) * edgeCount
+        + weights;
+  }
+
+  /** @return the id of the vertex, -1 if the record is not a vertex of the snapshot */
+  public int getVertex(final ORID rid) {
+    if (!rid.isPersistent()) {
+      return -1;
+    }
+    return getVertex(ORecordId.pack(rid));
+  }
+
+  /**
+   * @param packedRid record id packed with {@link ORecordId#pack(ORID)}
+   * @return the id of the vertex, -1 if the record is not a vertex of the snapshot
+   */
+  public int getVertex(final long packedRid) {
+    int low = 0;
+    int high = vertexCount - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final long current = rids.get(middle);
+      if (current < packedRid) {
+        low = middle + 1;
+      } else if (current > packedRid) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  public ORID getRid(final int vertex) {
+    return ORecordId.unpack(rids.get(vertex));
+  }
+
+  public long getPackedRid(final int vertex) {
+    return rids.get(vertex);
+  }
+
+  /** @return the position of the first outgoing edge of the vertex */
+  public int outBegin(final int vertex) {
+    return outOffsets.get(vertex);
+  }
+
+  /** @return the position after the last outgoing edge of the vertex */
+  public int outEnd(final int vertex) {
+    return outOffsets.get(vertex + 1);
+  }
+
+  public int getOutDegree(final int vertex) {
+    return outEnd(vertex) - outBegin(vertex);
+  }
+
+  /** @return the vertex the outgoing edge points to */
+  public int outTarget(final int edge) {
+    return outTargets.get(edge);
+  }
+
+  /** @return the weight of the outgoing edge, NaN if the edge has no weight */
+  public double outWeight(final int edge) {
+    return outWeights == null ? Double.NaN : outWeights.get(edge);
+  }
+
+  /** @return the id of the class of the outgoing edge, see {@link #getLabels()} */
+  public int outLabel(final int edge) {
+    return outLabels.get(edge);
+  }
+
+  /** @return the position of the first incoming edge of the vertex */
+  public int inBegin(final int vertex) {
+    return inOffsets.get(vertex);
+  }
+
+  /** @return the position after the last incoming edge of the vertex */
+  public int inEnd(final int vertex) {
+    return inOffsets.get(vertex + 1);
+  }
+
+  public int getInDegree(final int vertex) {
+    return inEnd(vertex) - inBegin(vertex);
+  }
+
+  /** @return the vertex the incoming edge comes from */
+  public int inSource(final int edge) {
+    return inSources.get(edge);
+  }
+
+  /** @return the weight of the incoming edge, NaN if the edge has no weight */
+  public double inWeight(final int edge) {
+    return inWeights == null ? Double.NaN : inWeights.get(edge);
+  }
+
+  /** @return the id of the class of the incoming edge, see {@link #getLabels()} */
+  public int inLabel(final int edge) {
+    return inLabels.get(edge);
+  }
+
+  /** @return the class names of the edges, the position in the list is the label id */
+  public List<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Resolves edge class names to the labels of the snapshot, subclasses included.
+   *
+   * @param schema schema used to resolve the class hierarchy
+   * @param edgeClasses names of edge classes, null or empty for all the edges
+   * @return a mask indexed by label id, null if all the labels match
+   */
+  public boolean[] getLabelMask(final OSchema schema, final String... edgeClasses) {
+    if (edgeClasses == null || edgeClasses.length == 0) {
+      return null;
+    }
+    final boolean[] result = new boolean[labels.size()];
+    boolean all = true;
+    for (int i = 0; i < labels.size(); i++) {
+      final OClass labelClass = schema.getClass(labels.get(i));
+      for (final String edgeClass : edgeClasses) {
+        if (edgeClass == null
+            || labels.get(i).equalsIgnoreCase(edgeClass)
+            || (labelClass != null && labelClass.isSubClassOf(edgeClass))) {
+          result[i] = true;
+          break;
+        }
+      }
+      all &= result[i];
+    }
+    return all ? null : result;
+  }
+
+  /** Visitor of the neighbors of a vertex, see {@link #forEachNeighbor}. */
+  @FunctionalInterface
+  public interface NeighborVisitor {
+    /**
+     * @param neighbor id of the neighbor vertex
+     * @param weight weight of the edge, NaN if the edge has no weight
+     * @return false to stop the visit
+     */
+    boolean visit(int neighbor, double weight);
+  }
+
+  /**
+   * Visits the neighbors of a vertex. A neighbor connected by multiple edges is visited once per
+   * edge.
+   *
+   * @param labelMask mask of the labels of the edges to follow, null for all the edges
+   * @return false if the visit was stopped by the visitor
+   */
+  public boolean forEachNeighbor(
+      final int vertex,
+      final ODirection direction,
+      final boolean[] labelMask,
+      final NeighborVisitor visitor) {
+    if (direction == ODirection.OUT || direction == ODirection.BOTH) {
+      for (int edge = outBegin(vertex), end = outEnd(vertex); edge < end; edge++) {
+        if ((labelMask == null || labelMask[outLabel(edge)])
+            && !visitor.visit(outTarget(edge), outWeight(edge))) {
+          return false;
+        }
+      }
+    }
+    if (direction == ODirection.IN || direction == ODirection.BOTH) {
+      for (int edge = inBegin(vertex), end = inEnd(vertex); edge < end; edge++) {
+        if ((labelMask == null || labelMask[inLabel(edge)])
+            && !visitor.visit(inSource(edge), inWeight(edge))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "OGraphSnapshot{"
+        + "name='"
+        + name
+        + "', vertices="
+        + vertexCount
+        + ", edges="
+        + edgeCount
+        + '}';
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Builds a {@link OGraphSnapshot} by scanning the clusters of the chosen vertex classes and
+ * following their outgoing edges. Both regular and lightweight edges are included.
+ *
+ * <pre>
+ * OGraphSnapshot snapshot =
+ *     new OGraphSnapshotBuilder("social")
+ *         .vertexClasses("Person")
+ *         .edgeClasses("Knows")
+ *         .weightProperty("since")
+ *         .build(db);
+ * </pre>
+ */
+public class OGraphSnapshotBuilder {
+  private final String name;
+  private List<String> vertexClasses = Collections.singletonList(OClass.VERTEX_CLASS_NAME);
+  private List<String> edgeClasses;
+  private String weightProperty;
+
+  public OGraphSnapshotBuilder(final String name) {
+    this.name = name;
+  }
+
+  /** Classes of the vertices of the snapshot, subclasses included. Default is <code>V</code>. */
+  public OGraphSnapshotBuilder vertexClasses(final String... classes) {
+    return vertexClasses(Arrays.asList(classes));
+  }
+
+  public OGraphSnapshotBuilder vertexClasses(final List<String> classes) {
+    if (classes == null || classes.isEmpty()) {
+      throw new IllegalArgumentException("At least one vertex class is required");
+    }
+    this.vertexClasses = new ArrayList<>(classes);
+    return this;
+  }
+
+  /** Classes of the edges of the snapshot, subclasses included. Default is all the edges. */
+  public OGraphSnapshotBuilder edgeClasses(final String... classes) {
+    return edgeClasses(classes == null ? null : Arrays.asList(classes));
+  }
+
+  public OGraphSnapshotBuilder edgeClasses(final List<String> classes) {
+    this.edgeClasses = classes == null || classes.isEmpty() ? null : new ArrayList<>(classes);
+    return this;
+  }
+
+  /**
+   * Numeric property of the edges kept as weight. Edges without the property, and lightweight
+   * edges, have NaN weight.
+   */
+  public OGraphSnapshotBuilder weightProperty(final String weightProperty) {
+    this.weightProperty = weightProperty;
+    return this;
+  }
+
+  public OGraphSnapshot build(final ODatabaseDocumentInternal db) {
+    final OSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    final TreeSet<Integer> clusters = new TreeSet<>();
+    final List<String> vertexClassNames = new ArrayList<>();
+    for (final String className : vertexClasses) {
+      final OClass clazz = schema.getClass(className);
+      if (clazz == null || !clazz.isVertexType()) {
+        throw new IllegalArgumentException("Class '" + className + "' is not a vertex class");
+      }
+      vertexClassNames.add(clazz.getName());
+      for (final int clusterId : clazz.getPolymorphicClusterIds()) {
+        clusters.add(clusterId);
+      }
+    }
+
+    String[] edgeClassNames = null;
+    if (edgeClasses != null) {
+      edgeClassNames = new String[edgeClasses.size()];
+      for (int i = 0; i < edgeClasses.size(); i++) {
+        final OClass clazz = schema.getClass(edgeClasses.get(i));
+        if (clazz == null || !clazz.isEdgeType()) {
+          throw new IllegalArgumentException(
+              "Class '" + edgeClasses.get(i) + "' is not an edge class");
+        }
+        edgeClassNames[i] = clazz.getName();
+      }
+    }
+
+    final Edges edges = new Edges(weightProperty != null);
+    long[] rids = new long[1024];
+    int vertexCount = 0;
+
+    for (final int clusterId : clusters) {
+      if (clusterId < 0) {
+        continue;
+      }
+      final ORecordIteratorCluster<ORecord> iterator =
+          db.browseCluster(db.getClusterNameById(clusterId));
+      while (iterator.hasNext()) {
+        final ORecord record = iterator.next();
+        if (!(record instanceof ODocument)) {
+          continue;
+        }
+        final Optional<OVertex> vertex = ((ODocument) record).asVertex();
+        if (!vertex.isPresent()) {
+          continue;
+        }
+
+        final long source = ORecordId.pack(record.getIdentity());
+        if (vertexCount == rids.length) {
+          rids = Arrays.copyOf(rids, rids.length << 1);
+        }
+        rids[vertexCount++] = source;
+
+        final Iterable<OEdge> outEdges =
+            edgeClassNames == null
+                ? vertex.get().getEdges(ODirection.OUT)
+                : vertex.get().getEdges(ODirection.OUT, edgeClassNames);
+        for (final OEdge edge : outEdges) {
+          addEdge(edges, source, edge);
+        }
+      }
+    }
+
+    Arrays.sort(rids, 0, vertexCount);
+    return edges.toSnapshot(
+        name,
+        vertexClassNames,
+        edgeClassNames == null ? null : Arrays.asList(edgeClassNames),
+        weightProperty,
+        rids,
+        vertexCount);
+  }
+
+  private void addEdge(final Edges edges, final long source, final OEdge edge) {
+    final ORID target;
+    double weight = Double.NaN;
+    if (edge.isLightweight()) {
+      final OVertex to = edge.getTo();
+      target = to == null ? null : to.getIdentity();
+    } else {
+      // reads the link without loading the target vertex
+      final Object to = ((ODocument) edge.getRecord()).rawField(OEdge.DIRECTION_IN);
+      target = to instanceof OIdentifiable ? ((OIdentifiable) to).getIdentity() : null;
+      if (weightProperty != null) {
+        final Object value = edge.getProperty(weightProperty);
+        if (value instanceof Number) {
+          weight = ((Number) value).doubleValue();
+        }
+      }
+    }
+    if (target == null || !target.isPersistent()) {
+      return;
+    }
+
+    final String label = edge.getSchemaType().map(OClass::getName).orElse(OClass.EDGE_CLASS_NAME);
+    edges.add(source, ORecordId.pack(target), weight, label);
+  }
+
+  /** Edges by packed record ids, collected on heap while the clusters are scanned. */
+  private static final class Edges {
+    private long[] sources = new long[1024];
+    private long[] targets = new long[1024];
+    private double[] weights;
+    private short[] labels = new short[1024];
+    private int size;
+
+    private final Map<String, Short> labelIds = new HashMap<>();
+    private final List<String> labelNames = new ArrayList<>();
+
+    private Edges(final boolean weighted) {
+      if (weighted) {
+        weights = new double[1024];
+      }
+    }
+
+    private void add(
+        final long source, final long target, final double weight, final String label) {
+      if (size == sources.length) {
+        if (size == Integer.MAX_VALUE - 8) {
+          throw new IllegalArgumentException("Graph is too large for a snapshot");
+        }
+        final int capacity = (int) Math.min((long) size << 1, Integer.MAX_VALUE - 8);
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        labels = Arrays.copyOf(labels, capacity);
+        if (weights != null) {
+          weights = Arrays.copyOf(weights, capacity);
+        }
+      }
+
+      Short labelId = labelIds.get(label);
+      if (labelId == null) {
+        if (labelNames.size() > Short.MAX_VALUE) {
+          throw new IllegalArgumentException("Too many edge classes for a snapshot");
+        }
+        labelId = (short) labelNames.size();
+        labelIds.put(label, labelId);
+        labelNames.add(label);
+      }
+
+      sources[size] = source;
+      targets[size] = target;
+      labels[size] = labelId;
+      if (weights != null) {
+        weights[size] = weight;
+      }
+      size++;
+    }
+
+    /** Maps the packed record ids to vertex ids, dropping the edges to other vertices. */
+    private OGraphSnapshot toSnapshot(
+        final String name,
+        final List<String> vertexClasses,
+        final List<String> edgeClasses,
+        final String weightProperty,
+        final long[] rids,
+        final int vertexCount) {
+      final int[] sourceIds = new int[size];
+      final int[] targetIds = new int[size];
+      int edgeCount = 0;
+      for (int i = 0; i < size; i++) {
+        final int target = Arrays.binarySearch(rids, 0, vertexCount, targets[i]);
+        if (target < 0) {
+          continue;
+        }
+        sourceIds[edgeCount] = Arrays.binarySearch(rids, 0, vertexCount, sources[i]);
+        targetIds[edgeCount] = target;
+        labels[edgeCount] = labels[i];
+        if (weights != null) {
+          weights[edgeCount] = weights[i];
+        }
+        edgeCount++;
+      }
+      sources = null;
+      targets = null;
+
+      return new OGraphSnapshot(
+          name,
+          vertexClasses,
+          edgeClasses,
+          weightProperty,
+          rids,
+          vertexCount,
+          sourceIds,
+          targetIds,
+          weights,
+          labels,
+          edgeCount,
+          labelNames);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Graph snapshots of a database, by name. Snapshots are kept in memory until they are dropped or
+ * the database is closed, they are not persisted.
+ */
+public class OGraphSnapshotManager {
+  private final ConcurrentHashMap<String, OGraphSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  /**
+   * @return the graph snapshots of the database, null if snapshots are not supported by the
+   *     database
+   */
+  public static OGraphSnapshotManager of(final ODatabaseDocumentInternal db) {
+    return db.getSharedContext().getGraphSnapshotManager();
+  }
+
+  /**
+   * @return the snapshot with the name
+   * @throws OCommandExecutionException if there is no snapshot with the name
+   */
+  public static OGraphSnapshot getSnapshot(final ODatabaseDocumentInternal db, final String name) {
+    final OGraphSnapshotManager manager = of(db);
+    final OGraphSnapshot snapshot = manager == null ? null : manager.get(name);
+    if (snapshot == null) {
+      throw new OCommandExecutionException("Graph snapshot '" + name + "' not found");
+    }
+    return snapshot;
+  }
+
+  /** Builds a snapshot and registers it, replacing the snapshot with the same name. */
+  public OGraphSnapshot create(
+      final ODatabaseDocumentInternal db, final OGraphSnapshotBuilder builder) {
+    final OGraphSnapshot snapshot = builder.build(db);
+    snapshots.put(key(snapshot.getName()), snapshot);
+    return snapshot;
+  }
+
+  /** @return the snapshot with the name, null if there is none */
+  public OGraphSnapshot get(final String name) {
+    return snapshots.get(key(name));
+  }
+
+  /**
+   * Removes the snapshot. Its memory is released when the running traversals which use it are
+   * completed.
+   *
+   * @return true if the snapshot existed
+   */
+  public boolean drop(final String name) {
+    return snapshots.remove(key(name)) != null;
+  }
+
+  public Collection<OGraphSnapshot> getSnapshots() {
+    return Collections.unmodifiableCollection(snapshots.values());
+  }
+
+  public void close() {
+    snapshots.clear();
+  }
+
+  private static String key(final String name) {
+    return name.toLowerCase(Locale.ENGLISH);
+  }
+}
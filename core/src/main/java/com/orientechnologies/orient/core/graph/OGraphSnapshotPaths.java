@@ -0,0 +1,332 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph;
+
+import com.orientechnologies.common.collection.OLongLongHashMap;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.command.OCommandExecutorAbstract;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.record.ODirection;
+import java.util.Arrays;
+
+/**
+ * Path searches on a {@link OGraphSnapshot}, used by the graph functions when they are asked to
+ * run on a snapshot instead of the database. Visited vertices are kept in primitive maps, so a
+ * search only allocates memory for the vertices it reaches.
+ */
+public final class OGraphSnapshotPaths {
+  private static final int[] NO_PATH = new int[0];
+
+  private OGraphSnapshotPaths() {}
+
+  /**
+   * Bidirectional breadth first search of the path with the least edges.
+   *
+   * @param direction direction of the edges followed from the source
+   * @param labelMask mask of the labels of the edges to follow, null for all the edges
+   * @param maxDepth the search expands less levels than that, null for no limit
+   * @param context context checked for interruption, can be null
+   * @return the vertices of the path, from source to target, empty if there is no path
+   */
+  public static int[] shortestPath(
+      final OGraphSnapshot snapshot,
+      final int source,
+      final int target,
+      final ODirection direction,
+      final boolean[] labelMask,
+      final Integer maxDepth,
+      final OCommandContext context) {
+    if (source == target) {
+      return new int[] {source};
+    }
+    final ODirection reverse =
+        direction == ODirection.OUT
+            ? ODirection.IN
+            : direction == ODirection.IN ? ODirection.OUT : ODirection.BOTH;
+
+    // vertex -> previous vertex from the source and next vertex to the target
+    final OLongLongHashMap previous = new OLongLongHashMap(64, -2);
+    final OLongLongHashMap next = new OLongLongHashMap(64, -2);
+    previous.put(source, -1);
+    next.put(target, -1);
+
+    final Frontier left = new Frontier(source);
+    final Frontier right = new Frontier(target);
+    int depth = 1;
+    while (!left.isEmpty() && !right.isEmpty()) {
+      if (maxDepth != null && maxDepth <= depth) {
+        break;
+      }
+      if (Thread.interrupted()) {
+        throw new OCommandExecutionException("The shortestPath() function has been interrupted");
+      }
+      if (context != null && !OCommandExecutorAbstract.checkInterruption(context)) {
+        break;
+      }
+
+      final int meeting;
+      if (left.size <= right.size) {
+        meeting = expand(snapshot, left, direction, labelMask, previous, next);
+      } else {
+        meeting = expand(snapshot, right, reverse, labelMask, next, previous);
+      }
+      if (meeting >= 0) {
+        return path(previous, next, meeting);
+      }
+      depth++;
+    }
+    return NO_PATH;
+  }
+
+  /**
+   * Expands a frontier by one level.
+   *
+   * @param visited the vertices reached by this side of the search, with the vertex they were
+   *     reached from
+   * @param otherVisited the vertices reached by the other side of the search
+   * @return a vertex reached by both sides, -1 if there is none
+   */
+  private static int expand(
+      final OGraphSnapshot snapshot,
+      final Frontier frontier,
+      final ODirection direction,
+      final boolean[] labelMask,
+      final OLongLongHashMap visited,
+      final OLongLongHashMap otherVisited) {
+    final Frontier nextLevel = new Frontier();
+    final int[] meeting = {-1};
+    for (int i = 0; i < frontier.size && meeting[0] < 0; i++) {
+      final int current = frontier.vertices[i];
+      snapshot.forEachNeighbor(
+          current,
+          direction,
+          labelMask,
+          (neighbor, weight) -> {
+            if (visited.putIfAbsent(neighbor, current)) {
+              if (otherVisited.containsKey(neighbor)) {
+                meeting[0] = neighbor;
+                return false;
+              }
+              nextLevel.add(neighbor);
+            }
+            return true;
+          });
+    }
+    frontier.replace(nextLevel);
+    return meeting[0];
+  }
+
+  private static int[] path(
+      final OLongLongHashMap previous, final OLongLongHashMap next, final int meeting) {
+    int length = 0;
+    for (long vertex = meeting; vertex >= 0; vertex = previous.get(vertex)) {
+      length++;
+    }
+    for (long vertex = next.get(meeting); vertex >= 0; vertex = next.get(vertex)) {
+      length++;
+    }
+
+    final int[] result = new int[length];
+    int position = 0;
+    for (long vertex = meeting; vertex >= 0; vertex = previous.get(vertex)) {
+      result[position++] = (int) vertex;
+    }
+    reverse(result, position);
+    for (long vertex = next.get(meeting); vertex >= 0; vertex = next.get(vertex)) {
+      result[position++] = (int) vertex;
+    }
+    return result;
+  }
+
+  /**
+   * Dijkstra's search of the path with the least total weight. Edges without weight have weight
+   * <code>0</code>, like in the <code>dijkstra()</code> function.
+   *
+   * @param direction direction of the edges followed from the source
+   * @param labelMask mask of the labels of the edges to follow, null for all the edges
+   * @param context context checked for interruption, can be null
+   * @return the vertices of the path, from source to target, empty if there is no path
+   */
+  public static int[] cheapestPath(
+      final OGraphSnapshot snapshot,
+      final int source,
+      final int target,
+      final ODirection direction,
+      final boolean[] labelMask,
+      final OCommandContext context) {
+    if (!snapshot.hasWeights()) {
+      throw new OCommandExecutionException(
+          "Graph snapshot '" + snapshot.getName() + "' has no edge weights");
+    }
+
+    final OLongLongHashMap distances = new OLongLongHashMap(64, -1);
+    final OLongLongHashMap previous = new OLongLongHashMap(64, -2);
+    final OLongLongHashMap settled = new OLongLongHashMap(64, -1);
+    final Heap open = new Heap();
+
+    distances.put(source, Double.doubleToRawLongBits(0));
+    previous.put(source, -1);
+    open.push(source, 0);
+
+    while (!open.isEmpty()) {
+      final double distance = open.peekPriority();
+      final int current = open.pop();
+      if (!settled.putIfAbsent(current, 1)) {
+        // stale entry of an already settled vertex
+        continue;
+      }
+      if (current == target) {
+        final int[] result = new int[settled.size()];
+        int length = 0;
+        for (long vertex = target; vertex >= 0; vertex = previous.get(vertex)) {
+          result[length++] = (int) vertex;
+        }
+        reverse(result, length);
+        return Arrays.copyOf(result, length);
+      }
+      if (Thread.interrupted()) {
+        throw new OCommandExecutionException("The dijkstra() function has been interrupted");
+      }
+      if (context != null && !OCommandExecutorAbstract.checkInterruption(context)) {
+        break;
+      }
+
+      snapshot.forEachNeighbor(
+          current,
+          direction,
+          labelMask,
+          (neighbor, weight) -> {
+            if (settled.containsKey(neighbor)) {
+              return true;
+            }
+            final double tentative = distance + (Double.isNaN(weight) ? 0 : weight);
+            final long known = distances.get(neighbor);
+            if (known == -1 || tentative < Double.longBitsToDouble(known)) {
+              distances.put(neighbor, Double.doubleToRawLongBits(tentative));
+              previous.put(neighbor, current);
+              open.push(neighbor, tentative);
+            }
+            return true;
+          });
+    }
+    return NO_PATH;
+  }
+
+  private static void reverse(final int[] array, final int length) {
+    for (int i = 0, j = length - 1; i < j; i++, j--) {
+      final int swap = array[i];
+      array[i] = array[j];
+      array[j] = swap;
+    }
+  }
+
+  /** Vertices of a level of a breadth first search. */
+  private static final class Frontier {
+    private int[] vertices;
+    private int size;
+
+    private Frontier() {
+      vertices = new int[16];
+    }
+
+    private Frontier(final int vertex) {
+      this();
+      add(vertex);
+    }
+
+    private void add(final int vertex) {
+      if (size == vertices.length) {
+        vertices = Arrays.copyOf(vertices, size << 1);
+      }
+      vertices[size++] = vertex;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    private void replace(final Frontier other) {
+      vertices = other.vertices;
+      size = other.size;
+    }
+  }
+
+  /** Binary min heap of vertices by priority, with duplicates. */
+  private static final class Heap {
+    private int[] vertices = new int[16];
+    private double[] priorities = new double[16];
+    private int size;
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    private void push(final int vertex, final double priority) {
+      if (size == vertices.length) {
+        vertices = Arrays.copyOf(vertices, size << 1);
+        priorities = Arrays.copyOf(priorities, size << 1);
+      }
+      int position = size++;
+      while (position > 0) {
+        final int parent = (position - 1) >>> 1;
+        if (priorities[parent] <= priority) {
+          break;
+        }
+        vertices[position] = vertices[parent];
+        priorities[position] = priorities[parent];
+        position = parent;
+      }
+      vertices[position] = vertex;
+      priorities[position] = priority;
+    }
+
+    private double peekPriority() {
+      return priorities[0];
+    }
+
+    private int pop() {
+      final int result = vertices[0];
+      size--;
+      if (size > 0) {
+        final int vertex = vertices[size];
+        final double priority = priorities[size];
+        int position = 0;
+        while (true) {
+          int child = 2 * position + 1;
+          if (child >= size) {
+            break;
+          }
+          if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+            child++;
+          }
+          if (priorities[child] >= priority) {
+            break;
+          }
+          vertices[position] = vertices[child];
+          priorities[position] = priorities[child];
+          position = child;
+        }
+        vertices[position] = vertex;
+        priorities[position] = priority;
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.record.ODirection;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Single source shortest paths by delta-stepping on a graph snapshot, with one or more sources.
+ * Vertices are grouped in buckets of width <code>delta</code> by their tentative distance and the
+ * vertices of the lowest bucket are relaxed in parallel, until the bucket stays empty. A small
+ * delta does less redundant work, a large one exposes more parallelism.
+ *
+ * <p><b>References</b>
+ *
+ * <ul>
+ *   <li>Meyer, U.; Sanders, P. (2003), <a
+ *       href="https://doi.org/10.1016/S0196-6774(03)00076-2">Δ-stepping: a parallelizable shortest
+ *       path algorithm</a>.
+ * </ul>
+ */
+public final class ODeltaSteppingShortestPaths {
+
+  private ODeltaSteppingShortestPaths() {}
+
+  /**
+   * @param sources ids of the source vertices
+   * @param direction direction of the edges to follow
+   * @param delta width of the buckets, 0 or negative to use the average edge weight
+   * @param defaultWeight weight of the edges without weight
+   * @return the distance from the nearest source by vertex id, infinity if the vertex is not
+   *     reachable
+   * @throws OCommandExecutionException if an edge has a negative weight
+   */
+  public static double[] compute(
+      final OGraphSnapshot snapshot,
+      final int[] sources,
+      final ODirection direction,
+      double delta,
+      final double defaultWeight) {
+    final int vertexCount = snapshot.getVertexCount();
+    if (delta <= 0) {
+      delta = averageWeight(snapshot, defaultWeight);
+    }
+    final double bucketWidth = delta;
+
+    final long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+    final AtomicLongArray distances = new AtomicLongArray(vertexCount);
+    OGraphAlgorithms.parallelFor(
+        vertexCount,
+        (from, to) -> {
+          for (int vertex = from; vertex < to; vertex++) {
+            distances.set(vertex, infinity);
+          }
+        });
+
+    // bucket index -> vertices, vertices can be in stale buckets if their distance improved
+    final TreeMap<Long, IntList> buckets = new TreeMap<>();
+    final IntList initial = new IntList();
+    for (final int source : sources) {
+      distances.set(source, Double.doubleToLongBits(0));
+      initial.add(source);
+    }
+    if (!initial.isEmpty()) {
+      buckets.put(0L, initial);
+    }
+
+    while (!buckets.isEmpty()) {
+      OGraphAlgorithms.checkInterrupted("delta-stepping");
+
+      final Map.Entry<Long, IntList> first = buckets.pollFirstEntry();
+      final long bucket = first.getKey();
+      final int[] frontier = first.getValue().values;
+      final int frontierSize = first.getValue().size;
+      final RelaxedVertices relaxed = new RelaxedVertices();
+
+      OGraphAlgorithms.parallelFor(
+          frontierSize,
+          (from, to) -> {
+            final TreeMap<Long, IntList> local = new TreeMap<>();
+            for (int i = from; i < to; i++) {
+              final int vertex = frontier[i];
+              final double distance = Double.longBitsToDouble(distances.get(vertex));
+              if ((long) (distance / bucketWidth) != bucket) {
+                // stale, the vertex moved to a lower bucket and was already relaxed
+                continue;
+              }
+              snapshot.forEachNeighbor(
+                  vertex,
+                  direction,
+                  null,
+                  (neighbor, weight) -> {
+                    if (Double.isNaN(weight)) {
+                      weight = defaultWeight;
+                    } else if (weight < 0) {
+                      throw new OCommandExecutionException(
+                          "Delta-stepping does not support negative edge weights");
+                    }
+                    final double candidate = distance + weight;
+                    if (relax(distances, neighbor, candidate)) {
+                      local
+                          .computeIfAbsent((long) (candidate / bucketWidth), k -> new IntList())
+                          .add(neighbor);
+                    }
+                    return true;
+                  });
+            }
+            relaxed.merge(local);
+          });
+
+      for (final Map.Entry<Long, IntList> entry : relaxed.buckets.entrySet()) {
+        // a vertex relaxed to the current bucket is processed again
+        final IntList target = buckets.computeIfAbsent(entry.getKey(), k -> new IntList());
+        target.addAll(entry.getValue());
+      }
+    }
+
+    final double[] result = new double[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      result[vertex] = Double.longBitsToDouble(distances.get(vertex));
+    }
+    return result;
+  }
+
+  /** Lowers the distance of the vertex if the candidate is shorter. */
+  private static boolean relax(
+      final AtomicLongArray distances, final int vertex, final double candidate) {
+    final long candidateBits = Double.doubleToLongBits(candidate);
+    while (true) {
+      final long current = distances.get(vertex);
+      if (Double.longBitsToDouble(current) <= candidate) {
+        return false;
+      }
+      if (distances.compareAndSet(vertex, current, candidateBits)) {
+        return true;
+      }
+    }
+  }
+
+  private static double averageWeight(final OGraphSnapshot snapshot, final double defaultWeight) {
+    final int edgeCount = snapshot.getEdgeCount();
+    if (edgeCount == 0) {
+      return 1;
+    }
+    final DoubleAdder sum = new DoubleAdder();
+    OGraphAlgorithms.parallelFor(
+        edgeCount,
+        (from, to) -> {
+          double rangeSum = 0;
+          for (int edge = from; edge < to; edge++) {
+            final double weight = snapshot.outWeight(edge);
+            rangeSum += Double.isNaN(weight) ? defaultWeight : Math.abs(weight);
+          }
+          sum.add(rangeSum);
+        });
+    final double average = sum.sum() / edgeCount;
+    return average > 0 && !Double.isInfinite(average) ? average : 1;
+  }
+
+  /** Vertices relaxed by the parallel tasks, by bucket. */
+  private static final class RelaxedVertices {
+    private final TreeMap<Long, IntList> buckets = new TreeMap<>();
+
+    private synchronized void merge(final TreeMap<Long, IntList> local) {
+      for (final Map.Entry<Long, IntList> entry : local.entrySet()) {
+        buckets.computeIfAbsent(entry.getKey(), k -> new IntList()).addAll(entry.getValue());
+      }
+    }
+  }
+
+  private static final class IntList {
+    private int[] values = new int[16];
+    private int size;
+
+    private void add(final int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size << 1);
+      }
+      values[size++] = value;
+    }
+
+    private void addAll(final IntList other) {
+      if (size + other.size > values.length) {
+        values = Arrays.copyOf(values, Math.max(size + other.size, values.length << 1));
+      }
+      System.arraycopy(other.values, 0, values, size, other.size);
+      size += other.size;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+  }
+}
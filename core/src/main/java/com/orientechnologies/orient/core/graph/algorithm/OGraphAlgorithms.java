@@ -0,0 +1,121 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join pool shared by the graph algorithms, sized by {@link
+ * OGlobalConfiguration#GRAPH_ALGORITHM_PARALLELISM}, and the helpers to split the work on it.
+ */
+public final class OGraphAlgorithms {
+  private static volatile ForkJoinPool pool;
+
+  private OGraphAlgorithms() {}
+
+  /** Work on a range of vertices or of positions of a frontier. */
+  @FunctionalInterface
+  public interface RangeAction {
+    void run(int from, int to);
+  }
+
+  public static ForkJoinPool getPool() {
+    ForkJoinPool result = pool;
+    if (result == null) {
+      synchronized (OGraphAlgorithms.class) {
+        result = pool;
+        if (result == null) {
+          int parallelism = OGlobalConfiguration.GRAPH_ALGORITHM_PARALLELISM.getValueAsInteger();
+          if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+          }
+          result =
+              new ForkJoinPool(
+                  parallelism,
+                  p -> {
+                    final ForkJoinWorkerThread thread =
+                        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                    thread.setName("OrientDB GraphAlgorithm " + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                  },
+                  null,
+                  false);
+          pool = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Runs the action on the range <code>[0, size)</code>, split in chunks executed in parallel.
+   * Returns when all the chunks are completed.
+   */
+  public static void parallelFor(final int size, final RangeAction action) {
+    if (size <= 0) {
+      return;
+    }
+    final ForkJoinPool pool = getPool();
+    final int threshold = Math.max(256, size / (pool.getParallelism() * 8));
+    if (size <= threshold) {
+      action.run(0, size);
+    } else {
+      pool.invoke(new RangeTask(0, size, threshold, action));
+    }
+  }
+
+  /** Stops the algorithm if the thread that runs it was interrupted. */
+  static void checkInterrupted(final String algorithm) {
+    if (Thread.currentThread().isInterrupted()) {
+      throw new OCommandExecutionException("The " + algorithm + " algorithm has been interrupted");
+    }
+  }
+
+  private static final class RangeTask extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final RangeAction action;
+
+    private RangeTask(final int from, final int to, final int threshold, final RangeAction action) {
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        action.run(from, to);
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      invokeAll(
+          new RangeTask(from, middle, threshold, action),
+          new RangeTask(middle, to, threshold, action));
+    }
+  }
+}
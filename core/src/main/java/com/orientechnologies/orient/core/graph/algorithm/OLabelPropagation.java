@@ -0,0 +1,107 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Community detection by label propagation on a graph snapshot, the direction of the edges is
+ * ignored. Every vertex starts with its own label and, at each iteration, takes the most frequent
+ * label among its neighbors and itself, the smallest one in case of ties. Iterations are
+ * synchronous: all the vertices are updated in parallel from the labels of the previous iteration,
+ * so the result is deterministic.
+ */
+public final class OLabelPropagation {
+  public static final int DEFAULT_MAX_ITERATIONS = 10;
+
+  private OLabelPropagation() {}
+
+  /** @return the label by vertex id, labels are vertex ids */
+  public static int[] compute(final OGraphSnapshot snapshot, final int maxIterations) {
+    final int vertexCount = snapshot.getVertexCount();
+    int[] labels = new int[vertexCount];
+    int[] nextLabels = new int[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      labels[vertex] = vertex;
+    }
+
+    for (int iteration = 0; iteration < maxIterations; iteration++) {
+      OGraphAlgorithms.checkInterrupted("label propagation");
+
+      final int[] current = labels;
+      final int[] next = nextLabels;
+      final AtomicBoolean changed = new AtomicBoolean();
+      OGraphAlgorithms.parallelFor(
+          vertexCount,
+          (from, to) -> {
+            int[] buffer = new int[64];
+            boolean rangeChanged = false;
+            for (int vertex = from; vertex < to; vertex++) {
+              final int degree = snapshot.getOutDegree(vertex) + snapshot.getInDegree(vertex);
+              if (buffer.length < degree + 1) {
+                buffer = new int[Math.max(degree + 1, buffer.length << 1)];
+              }
+              int size = 0;
+              buffer[size++] = current[vertex];
+              for (int edge = snapshot.outBegin(vertex), end = snapshot.outEnd(vertex);
+                  edge < end;
+                  edge++) {
+                buffer[size++] = current[snapshot.outTarget(edge)];
+              }
+              for (int edge = snapshot.inBegin(vertex), end = snapshot.inEnd(vertex);
+                  edge < end;
+                  edge++) {
+                buffer[size++] = current[snapshot.inSource(edge)];
+              }
+              next[vertex] = mostFrequent(buffer, size);
+              rangeChanged |= next[vertex] != current[vertex];
+            }
+            if (rangeChanged) {
+              changed.set(true);
+            }
+          });
+
+      nextLabels = labels;
+      labels = next;
+      if (!changed.get()) {
+        break;
+      }
+    }
+    return labels;
+  }
+
+  /** @return the most frequent value, the smallest one in case of ties */
+  private static int mostFrequent(final int[] values, final int size) {
+    Arrays.sort(values, 0, size);
+    int result = values[0];
+    int resultCount = 0;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      count = i > 0 && values[i] == values[i - 1] ? count + 1 : 1;
+      if (count > resultCount) {
+        result = values[i];
+        resultCount = count;
+      }
+    }
+    return result;
+  }
+}
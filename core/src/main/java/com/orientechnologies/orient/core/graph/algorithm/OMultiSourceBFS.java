@@ -0,0 +1,159 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.record.ODirection;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Breadth first search from multiple sources at once on a graph snapshot, finding for every
+ * reachable vertex the number of edges from the nearest source. The search is level synchronous:
+ * the vertices of a level are expanded in parallel and claim their unvisited neighbors with a
+ * compare and set.
+ */
+public final class OMultiSourceBFS {
+
+  private OMultiSourceBFS() {}
+
+  /** Distances and nearest sources by vertex id. */
+  public static final class Result {
+    private final int[] distances;
+    private final int[] sources;
+
+    private Result(final int[] distances, final int[] sources) {
+      this.distances = distances;
+      this.sources = sources;
+    }
+
+    /** @return the number of edges from the nearest source, -1 if the vertex is not reachable */
+    public int getDistance(final int vertex) {
+      return distances[vertex];
+    }
+
+    /**
+     * @return the nearest source, one of them if more are at the same distance, -1 if the vertex
+     *     is not reachable
+     */
+    public int getSource(final int vertex) {
+      return sources[vertex];
+    }
+
+    public boolean isReached(final int vertex) {
+      return distances[vertex] >= 0;
+    }
+  }
+
+  /**
+   * @param sources ids of the source vertices
+   * @param direction direction of the edges to follow
+   * @param maxDepth maximum distance to explore, negative for no limit
+   */
+  public static Result compute(
+      final OGraphSnapshot snapshot,
+      final int[] sources,
+      final ODirection direction,
+      final int maxDepth) {
+    final int vertexCount = snapshot.getVertexCount();
+    final AtomicIntegerArray distances = new AtomicIntegerArray(vertexCount);
+    final int[] nearest = new int[vertexCount];
+    Arrays.fill(nearest, -1);
+    OGraphAlgorithms.parallelFor(
+        vertexCount,
+        (from, to) -> {
+          for (int vertex = from; vertex < to; vertex++) {
+            distances.set(vertex, -1);
+          }
+        });
+
+    // every vertex enters a frontier at most once
+    int[] frontier = new int[vertexCount];
+    int frontierSize = 0;
+    for (final int source : sources) {
+      if (distances.compareAndSet(source, -1, 0)) {
+        nearest[source] = source;
+        frontier[frontierSize++] = source;
+      }
+    }
+
+    int[] nextFrontier = new int[vertexCount];
+    for (int depth = 1; frontierSize > 0 && (maxDepth < 0 || depth <= maxDepth); depth++) {
+      OGraphAlgorithms.checkInterrupted("BFS");
+
+      final int level = depth;
+      final int[] current = frontier;
+      final int[] next = nextFrontier;
+      final AtomicInteger nextSize = new AtomicInteger();
+
+      OGraphAlgorithms.parallelFor(
+          frontierSize,
+          (from, to) -> {
+            int[] buffer = new int[64];
+            int size = 0;
+            for (int i = from; i < to; i++) {
+              final int vertex = current[i];
+              if (direction == ODirection.OUT || direction == ODirection.BOTH) {
+                for (int edge = snapshot.outBegin(vertex), end = snapshot.outEnd(vertex);
+                    edge < end;
+                    edge++) {
+                  final int neighbor = snapshot.outTarget(edge);
+                  if (distances.get(neighbor) < 0 && distances.compareAndSet(neighbor, -1, level)) {
+                    nearest[neighbor] = nearest[vertex];
+                    if (size == buffer.length) {
+                      buffer = Arrays.copyOf(buffer, size << 1);
+                    }
+                    buffer[size++] = neighbor;
+                  }
+                }
+              }
+              if (direction == ODirection.IN || direction == ODirection.BOTH) {
+                for (int edge = snapshot.inBegin(vertex), end = snapshot.inEnd(vertex);
+                    edge < end;
+                    edge++) {
+                  final int neighbor = snapshot.inSource(edge);
+                  if (distances.get(neighbor) < 0 && distances.compareAndSet(neighbor, -1, level)) {
+                    nearest[neighbor] = nearest[vertex];
+                    if (size == buffer.length) {
+                      buffer = Arrays.copyOf(buffer, size << 1);
+                    }
+                    buffer[size++] = neighbor;
+                  }
+                }
+              }
+            }
+            if (size > 0) {
+              System.arraycopy(buffer, 0, next, nextSize.getAndAdd(size), size);
+            }
+          });
+
+      nextFrontier = frontier;
+      frontier = next;
+      frontierSize = nextSize.get();
+    }
+
+    final int[] result = new int[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      result[vertex] = distances.get(vertex);
+    }
+    return new Result(result, nearest);
+  }
+}
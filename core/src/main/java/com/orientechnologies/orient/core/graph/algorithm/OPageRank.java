@@ -0,0 +1,111 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * PageRank of the vertices of a graph snapshot, following the outgoing edges. Every vertex pulls
+ * the rank of its incoming neighbors, so the vertices are updated in parallel without
+ * synchronization. The rank of vertices without outgoing edges is spread over all the vertices. The
+ * ranks sum to 1.
+ */
+public final class OPageRank {
+  public static final double DEFAULT_DAMPING_FACTOR = 0.85;
+  public static final int DEFAULT_MAX_ITERATIONS = 20;
+  public static final double DEFAULT_TOLERANCE = 1e-7;
+
+  private OPageRank() {}
+
+  /**
+   * @param dampingFactor probability to follow an edge instead of jumping to a random vertex
+   * @param maxIterations maximum number of iterations
+   * @param tolerance the computation stops when the ranks change less than that, in total
+   * @return the rank by vertex id
+   */
+  public static double[] compute(
+      final OGraphSnapshot snapshot,
+      final double dampingFactor,
+      final int maxIterations,
+      final double tolerance) {
+    if (dampingFactor < 0 || dampingFactor > 1) {
+      throw new IllegalArgumentException(
+          "Damping factor should be between 0 and 1 but was " + dampingFactor);
+    }
+
+    final int vertexCount = snapshot.getVertexCount();
+    double[] ranks = new double[vertexCount];
+    double[] nextRanks = new double[vertexCount];
+    final double[] contributions = new double[vertexCount];
+    Arrays.fill(ranks, 1.0 / vertexCount);
+
+    for (int iteration = 0; iteration < maxIterations; iteration++) {
+      OGraphAlgorithms.checkInterrupted("PageRank");
+
+      final double[] current = ranks;
+      final DoubleAdder dangling = new DoubleAdder();
+      OGraphAlgorithms.parallelFor(
+          vertexCount,
+          (from, to) -> {
+            double danglingRank = 0;
+            for (int vertex = from; vertex < to; vertex++) {
+              final int degree = snapshot.getOutDegree(vertex);
+              if (degree == 0) {
+                danglingRank += current[vertex];
+                contributions[vertex] = 0;
+              } else {
+                contributions[vertex] = current[vertex] / degree;
+              }
+            }
+            dangling.add(danglingRank);
+          });
+
+      final double base =
+          (1 - dampingFactor) / vertexCount + dampingFactor * dangling.sum() / vertexCount;
+      final double[] next = nextRanks;
+      final DoubleAdder change = new DoubleAdder();
+      OGraphAlgorithms.parallelFor(
+          vertexCount,
+          (from, to) -> {
+            double rangeChange = 0;
+            for (int vertex = from; vertex < to; vertex++) {
+              double sum = 0;
+              for (int edge = snapshot.inBegin(vertex), end = snapshot.inEnd(vertex);
+                  edge < end;
+                  edge++) {
+                sum += contributions[snapshot.inSource(edge)];
+              }
+              next[vertex] = base + dampingFactor * sum;
+              rangeChange += Math.abs(next[vertex] - current[vertex]);
+            }
+            change.add(rangeChange);
+          });
+
+      nextRanks = ranks;
+      ranks = next;
+      if (change.sum() < tolerance) {
+        break;
+      }
+    }
+    return ranks;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Weakly connected components of a graph snapshot, the direction of the edges is ignored. The
+ * edges are merged in parallel in a lock free union-find, where the root of a set is always its
+ * smallest vertex id, so the result does not depend on the order the edges are processed in.
+ */
+public final class OWeaklyConnectedComponents {
+
+  private OWeaklyConnectedComponents() {}
+
+  /** @return by vertex id, the smallest vertex id of its component */
+  public static int[] compute(final OGraphSnapshot snapshot) {
+    final int vertexCount = snapshot.getVertexCount();
+    final AtomicIntegerArray parents = new AtomicIntegerArray(vertexCount);
+    OGraphAlgorithms.parallelFor(
+        vertexCount,
+        (from, to) -> {
+          for (int vertex = from; vertex < to; vertex++) {
+            parents.set(vertex, vertex);
+          }
+        });
+
+    OGraphAlgorithms.parallelFor(
+        vertexCount,
+        (from, to) -> {
+          for (int vertex = from; vertex < to; vertex++) {
+            for (int edge = snapshot.outBegin(vertex), end = snapshot.outEnd(vertex);
+                edge < end;
+                edge++) {
+              union(parents, vertex, snapshot.outTarget(edge));
+            }
+          }
+        });
+    OGraphAlgorithms.checkInterrupted("connected components");
+
+    final int[] result = new int[vertexCount];
+    OGraphAlgorithms.parallelFor(
+        vertexCount,
+        (from, to) -> {
+          for (int vertex = from; vertex < to; vertex++) {
+            result[vertex] = find(parents, vertex);
+          }
+        });
+    return result;
+  }
+
+  private static void union(final AtomicIntegerArray parents, int first, int second) {
+    while (true) {
+      first = find(parents, first);
+      second = find(parents, second);
+      if (first == second) {
+        return;
+      }
+      if (first < second) {
+        final int swap = first;
+        first = second;
+        second = swap;
+      }
+      // links the larger root under the smaller one, only if it is still a root
+      if (parents.compareAndSet(first, first, second)) {
+        return;
+      }
+    }
+  }
+
+  private static int find(final AtomicIntegerArray parents, int vertex) {
+    while (true) {
+      final int parent = parents.get(vertex);
+      if (parent == vertex) {
+        return vertex;
+      }
+      final int grandParent = parents.get(parent);
+      if (parent != grandParent) {
+        // path halving, parents only move to smaller ids so a stale update is harmless
+        parents.compareAndSet(vertex, parent, grandParent);
+      }
+      vertex = grandParent;
+    }
+  }
+}
@@ -41,6 +41,7 @@ public class ORecordId implements ORID {
   public static final byte[] EMPTY_RECORD_ID_STREAM = EMPTY_RECORD_ID.toStream();
   public static final int PERSISTENT_SIZE = OBinaryProtocol.SIZE_SHORT + OBinaryProtocol.SIZE_LONG;
   private static final long serialVersionUID = 247070594054408657L;
+  private static final long PACKED_POSITION_MASK = (1L << 48) - 1;
   // INT TO AVOID JVM PENALTY, BUT IT'S STORED AS SHORT
   private int clusterId = CLUSTER_ID_INVALID;
   private long clusterPosition = CLUSTER_POS_INVALID;
@@ -372,6 +373,36 @@ public class ORecordId implements ORID {
     }
   }
 
+  /**
+   * Packs a persistent record id in a <code>long</code>: the cluster id in the highest 16 bits
+   * and the cluster position in the lowest 48 bits. Packed ids keep the order of the record ids.
+   *
+   * @see #unpack(long)
+   */
+  public static long pack(final ORID rid) {
+    return pack(rid.getClusterId(), rid.getClusterPosition());
+  }
+
+  public static long pack(final int clusterId, final long clusterPosition) {
+    if (clusterId < 0 || clusterPosition < 0 || clusterPosition > PACKED_POSITION_MASK) {
+      throw new IllegalArgumentException(
+          "Record id " + generateString(clusterId, clusterPosition) + " cannot be packed");
+    }
+    return ((long) clusterId << 48) | clusterPosition;
+  }
+
+  public static int unpackClusterId(final long packed) {
+    return (int) (packed >>> 48);
+  }
+
+  public static long unpackClusterPosition(final long packed) {
+    return packed & PACKED_POSITION_MASK;
+  }
+
+  public static ORecordId unpack(final long packed) {
+    return new ORecordId(unpackClusterId(packed), unpackClusterPosition(packed));
+  }
+
   public static ORecordId deserialize(DataInput input) throws IOException {
     int cluster = input.readInt();
     long pos = input.readLong();
@@ -377,6 +377,15 @@ public class OClassIndexManager {
     }
   }
 
+  /** Removes the entries of the current values of the document, the inverse of addIndexesEntries */
+  public static void removeIndexesEntries(
+      ODatabaseDocumentInternal database, ODocument document, final Collection<OIndex> indexes) {
+    for (final OIndex index : indexes) {
+      final Object key = index.getDefinition().getDocumentValueToIndex(document);
+      deleteIndexKey(index, document, key);
+    }
+  }
+
   private static void addIndexEntry(ODocument document, OIdentifiable rid, OIndex index) {
     final OIndexDefinition indexDefinition = index.getDefinition();
     final Object key = indexDefinition.getDocumentValueToIndex(document);
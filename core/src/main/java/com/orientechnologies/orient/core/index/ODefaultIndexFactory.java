@@ -28,6 +28,8 @@ import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.index.engine.ORemoteIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyBTree;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyBTreeValue;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -50,6 +52,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
   public static final String SBTREE_BONSAI_VALUE_CONTAINER = "SBTREEBONSAISET";
   public static final String NONE_VALUE_CONTAINER = "NONE";
   static final String CELL_BTREE_ALGORITHM = "CELL_BTREE";
+  static final String NKBTREE_ALGORITHM = "NKBTREE";
 
   private static final Set<String> TYPES;
   private static final Set<String> ALGORITHMS;
@@ -67,6 +70,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
     final Set<String> algorithms = new HashSet<>();
     algorithms.add(SBTREE_ALGORITHM);
     algorithms.add(CELL_BTREE_ALGORITHM);
+    algorithms.add(NKBTREE_ALGORITHM);
 
     ALGORITHMS = Collections.unmodifiableSet(algorithms);
   }
@@ -112,6 +116,11 @@ public class ODefaultIndexFactory implements OIndexFactory {
       im.setVersion(version);
     }
 
+    if (NKBTREE_ALGORITHM.equals(algorithm) && isMultiValueIndex(indexType)) {
+      throw new OConfigurationException(
+          "Algorithm " + NKBTREE_ALGORITHM + " does not support index type " + indexType);
+    }
+
     if (OClass.INDEX_TYPE.UNIQUE.toString().equals(indexType)) {
       return new OIndexUnique(im, storage);
     } else if (OClass.INDEX_TYPE.NOTUNIQUE.toString().equals(indexType)) {
@@ -135,6 +144,8 @@ public class ODefaultIndexFactory implements OIndexFactory {
         return OSBTreeIndexEngine.VERSION;
       case CELL_BTREE_ALGORITHM:
         return OCellBTreeIndexEngine.VERSION;
+      case NKBTREE_ALGORITHM:
+        return NormalizedKeyBTree.VERSION;
     }
 
     throw new IllegalStateException("Invalid algorithm name " + algorithm);
@@ -174,6 +185,19 @@ public class ODefaultIndexFactory implements OIndexFactory {
                       data.getIndexId(), data.getName(), realStorage, data.getVersion());
             }
             break;
+          case NKBTREE_ALGORITHM:
+            if (data.isMultivalue()) {
+              throw new OIndexException(
+                  "Algorithm " + NKBTREE_ALGORITHM + " supports only single value indexes");
+            }
+            indexEngine =
+                new OCellBTreeSingleValueIndexEngine(
+                    data.getIndexId(),
+                    data.getName(),
+                    realStorage,
+                    new NormalizedKeyBTreeValue<>(
+                        data.getName(), NormalizedKeyBTree.DATA_FILE_EXTENSION, realStorage));
+            break;
           default:
             throw new IllegalStateException("Invalid name of algorithm :'" + "'");
         }
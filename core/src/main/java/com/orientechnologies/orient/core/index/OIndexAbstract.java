@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.concur.lock.OOneEntryPerKeyLockManager;
 import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.exception.OException;
@@ -37,7 +38,10 @@ import com.orientechnologies.orient.core.exception.OManualIndexesAreProhibited;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.comparator.OAlwaysGreaterKey;
 import com.orientechnologies.orient.core.index.comparator.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexEntrySorter;
+import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeIndexEngine;
 import com.orientechnologies.orient.core.index.iterator.OIndexCursorStream;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecord;
@@ -63,8 +67,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Handles indexing when records change. The underlying lock manager for keys can be the {@link
@@ -227,6 +234,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
       } else {
         engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
       }
+      addBTreePartitions(engineProperties);
       indexMetadata.setVersion(im.getVersion());
       indexId = storage.addIndexEngine(indexMetadata, engineProperties);
       apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
@@ -479,6 +487,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
       } else {
         engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
       }
+      addBTreePartitions(engineProperties);
       indexId = storage.addIndexEngine(indexMetadata, engineProperties);
       apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
 
@@ -531,13 +540,18 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
       if (iProgressListener != null) iProgressListener.onBegin(this, documentTotal, rebuild);
 
-      // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics =
-            indexCluster(
-                clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      final OIndexEntrySorter sorter = createEntrySorter();
+      if (sorter != null) {
+        documentIndexed = fillIndexBySortedEntries(sorter, iProgressListener, documentTotal);
+      } else {
+        // INDEX ALL CLUSTERS
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics =
+              indexCluster(
+                  clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
       }
 
       if (iProgressListener != null) iProgressListener.onCompletition(this, true);
@@ -548,6 +562,155 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return documentIndexed;
   }
 
+  private void addBTreePartitions(final Map<String, String> engineProperties) {
+    // this property is used by partitioned CELL_BTREE index
+    final String partitions;
+    if (im.getMetadata() != null
+        && im.getMetadata().containsField(OCellBTreeIndexEngine.PARTITIONS_PROPERTY)) {
+      final Object value = im.getMetadata().field(OCellBTreeIndexEngine.PARTITIONS_PROPERTY);
+      partitions = String.valueOf(value);
+    } else {
+      partitions =
+          String.valueOf(
+              storage
+                  .getConfiguration()
+                  .getContextConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.INDEX_BTREE_PARTITIONS));
+    }
+
+    engineProperties.put(OCellBTreeIndexEngine.PARTITIONS_PROPERTY, partitions);
+  }
+
+  /**
+   * @return sorter of the index entries if the index can be filled by sorted entries, or <code>
+   *     null</code> if entries should be put one by one
+   */
+  private OIndexEntrySorter createEntrySorter() {
+    final int runSize =
+        storage
+            .getConfiguration()
+            .getContextConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE);
+    if (runSize <= 0 || getDatabase().getTransaction().isActive()) {
+      return null;
+    }
+
+    while (true) {
+      try {
+        return storage.createIndexEntrySorter(indexId, getSortedEntriesValidator(), runSize);
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+    }
+  }
+
+  /**
+   * Scans all the clusters to index and sorts the index entries before they are put, so the index
+   * engine can append them instead of searching the place of every key.
+   */
+  private long fillIndexBySortedEntries(
+      final OIndexEntrySorter sorter,
+      final OProgressListener iProgressListener,
+      final long documentTotal) {
+    checkIndexDefinition();
+
+    final OIndexDefinition indexDefinition = im.getIndexDefinition();
+    final ODatabaseDocumentInternal database = getDatabase();
+
+    long documentNum = 0;
+    long documentIndexed = 0;
+    try (sorter) {
+      for (final String clusterName : clustersToIndex) {
+        for (final ORecord record : database.browseCluster(clusterName)) {
+          if (Thread.interrupted())
+            throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+          if (record instanceof ODocument) {
+            final ORID rid = record.getIdentity();
+            final Object key = indexDefinition.getDocumentValueToIndex((ODocument) record);
+            if (key instanceof Collection) {
+              for (final Object keyItem : (Collection<?>) key) {
+                if (!indexDefinition.isNullValuesIgnored() || keyItem != null) {
+                  sorter.add(getCollatingValue(keyItem), rid);
+                }
+              }
+            } else if (!indexDefinition.isNullValuesIgnored() || key != null) {
+              sorter.add(getCollatingValue(key), rid);
+            }
+            ++documentIndexed;
+          }
+          documentNum++;
+
+          if (iProgressListener != null)
+            iProgressListener.onProgress(
+                this, documentNum, (float) (documentNum * 100.0 / documentTotal));
+        }
+      }
+
+      final int batchSize =
+          storage
+              .getConfiguration()
+              .getContextConfiguration()
+              .getValueAsInteger(OGlobalConfiguration.INDEX_BULK_LOAD_BATCH_SIZE);
+      // the records may be changed by the transactions committed after they were scanned, the
+      // transactions update the index themselves, so only the entries still produced by the
+      // records are put
+      final Iterator<ORawPair<Object, ORID>> entries =
+          StreamSupport.stream(
+                  Spliterators.spliteratorUnknownSize(sorter.sortedEntries(), Spliterator.ORDERED),
+                  false)
+              .filter(entry -> isIndexedByRecord(sorter, indexDefinition, database, entry))
+              .iterator();
+      storage.putSortedIndexEntries(indexId, entries, getSortedEntriesValidator(), batchSize);
+    } catch (final OInvalidIndexEngineIdException e) {
+      throw OException.wrapException(
+          new OIndexException("Error on filling of the index '" + im.getName() + "'"), e);
+    }
+
+    return documentIndexed;
+  }
+
+  private boolean isIndexedByRecord(
+      final OIndexEntrySorter sorter,
+      final OIndexDefinition indexDefinition,
+      final ODatabaseDocumentInternal database,
+      final ORawPair<Object, ORID> entry) {
+    final ORecord record = database.load(entry.second, null, true);
+    if (!(record instanceof ODocument)) {
+      return false;
+    }
+
+    final Object key = indexDefinition.getDocumentValueToIndex((ODocument) record);
+    if (key instanceof Collection) {
+      for (final Object keyItem : (Collection<?>) key) {
+        if (isSameKey(sorter, entry.first, keyItem)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    return isSameKey(sorter, entry.first, key);
+  }
+
+  private boolean isSameKey(
+      final OIndexEntrySorter sorter, final Object sortedKey, final Object key) {
+    if (sortedKey == null || key == null) {
+      return sortedKey == key;
+    }
+
+    return ODefaultComparator.INSTANCE.compare(sortedKey, sorter.preprocess(getCollatingValue(key)))
+        == 0;
+  }
+
+  /**
+   * @return validator which is applied to the entries with the same key when index is filled by
+   *     sorted entries, or <code>null</code> if the last entry replaces the previous ones
+   */
+  protected IndexEngineValidator<Object, ORID> getSortedEntriesValidator() {
+    return null;
+  }
+
   @Override
   public boolean doRemove(OAbstractPaginatedStorage storage, Object key, ORID rid)
       throws OInvalidIndexEngineIdException {
@@ -937,13 +1100,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
       long documentNum,
       long documentIndexed,
       long documentTotal) {
-    if (im.getIndexDefinition() == null)
-      throw new OConfigurationException(
-          "Index '"
-              + im.getName()
-              + "' cannot be rebuilt because has no a valid definition ("
-              + im.getIndexDefinition()
-              + ")");
+    checkIndexDefinition();
     ODatabaseDocumentInternal database = getDatabase();
     database.begin();
     for (final ORecord record : database.browseCluster(clusterName)) {
@@ -970,6 +1127,16 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return new long[] {documentNum, documentIndexed};
   }
 
+  private void checkIndexDefinition() {
+    if (im.getIndexDefinition() == null)
+      throw new OConfigurationException(
+          "Index '"
+              + im.getName()
+              + "' cannot be rebuilt because has no a valid definition ("
+              + im.getIndexDefinition()
+              + ")");
+  }
+
   protected void releaseExclusiveLock() {
     rwLock.writeLock().unlock();
   }
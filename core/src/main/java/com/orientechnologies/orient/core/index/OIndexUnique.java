@@ -52,6 +52,11 @@ public class OIndexUnique extends OIndexOneValue {
     storage.validatedPutIndexValue(indexId, key, rid, uniqueValidator);
   }
 
+  @Override
+  protected IndexEngineValidator<Object, ORID> getSortedEntriesValidator() {
+    return uniqueValidator;
+  }
+
   @Override
   public boolean canBeUsedInEqualityOperators() {
     return true;
@@ -0,0 +1,323 @@
+package com.orientechnologies.orient.core.index.engine;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndexException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts entries of single value index in ascending order of keys, so they can be appended to the
+ * index during its build instead of being put one by one. When more than <code>runSize</code>
+ * entries are added, entries are sorted in parts (runs) which are written to temporary files and
+ * merged when sorted entries are read.
+ *
+ * <p>Entries with the same key are merged using the index validator in the order in which they
+ * were added, the same way as if they were put into the index one by one. If there is no
+ * validator, the last added entry is kept. Entries with <code>null</code> key are returned first.
+ */
+public final class OIndexEntrySorter implements Closeable {
+  private static final OLogger logger = OLogManager.instance().logger(OIndexEntrySorter.class);
+
+  private static final Comparator<ORawPair<Object, ORID>> ENTRY_COMPARATOR =
+      (first, second) -> ODefaultComparator.INSTANCE.compare(first.first, second.first);
+
+  private final OBinarySerializer<Object> keySerializer;
+  private final Object[] keyTypes;
+  private final IndexEngineValidator<Object, ORID> validator;
+  private final int runSize;
+
+  private final List<ORawPair<Object, ORID>> run;
+  private final List<Path> runFiles = new ArrayList<>();
+  private final List<DataInputStream> openedRuns = new ArrayList<>();
+
+  private ORID nullValue;
+
+  public OIndexEntrySorter(
+      final OBinarySerializer<Object> keySerializer,
+      final Object[] keyTypes,
+      final IndexEngineValidator<Object, ORID> validator,
+      final int runSize) {
+    this.keySerializer = keySerializer;
+    this.keyTypes = keyTypes;
+    this.validator = validator;
+    this.runSize = runSize;
+
+    this.run = new ArrayList<>(Math.min(runSize, 1 << 16));
+  }
+
+  public void add(Object key, final ORID value) {
+    if (key == null) {
+      nullValue = merge(null, nullValue, value);
+      return;
+    }
+
+    key = keySerializer.preprocess(key, keyTypes);
+    run.add(new ORawPair<>(key, value));
+
+    if (run.size() >= runSize) {
+      writeRun();
+    }
+  }
+
+  /**
+   * @return the key in the presentation of the keys returned by {@link #sortedEntries()}, so they
+   *     can be compared
+   */
+  public Object preprocess(final Object key) {
+    if (key == null) {
+      return null;
+    }
+
+    return keySerializer.preprocess(key, keyTypes);
+  }
+
+  /**
+   * @return iterator over added entries in ascending order of keys, it may be requested only once
+   *     and is valid till the sorter is closed
+   */
+  public Iterator<ORawPair<Object, ORID>> sortedEntries() {
+    final Iterator<ORawPair<Object, ORID>> entries;
+    if (runFiles.isEmpty()) {
+      run.sort(ENTRY_COMPARATOR);
+      entries = run.iterator();
+    } else {
+      if (!run.isEmpty()) {
+        // keys of all runs should have the same presentation to be compared
+        writeRun();
+      }
+      entries = new MergeIterator();
+    }
+
+    return new MergedKeysIterator(entries);
+  }
+
+  private void writeRun() {
+    run.sort(ENTRY_COMPARATOR);
+
+    try {
+      final Path dir = Paths.get(Orient.getTempPath());
+      Files.createDirectories(dir);
+      final Path path = Files.createTempFile(dir, "index-build", ".tmp");
+      runFiles.add(path);
+
+      try (final DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+        out.writeInt(run.size());
+        for (final ORawPair<Object, ORID> entry : run) {
+          final byte[] serializedKey = keySerializer.serializeNativeAsWhole(entry.first, keyTypes);
+          out.writeInt(serializedKey.length);
+          out.write(serializedKey);
+          out.writeShort(entry.second.getClusterId());
+          out.writeLong(entry.second.getClusterPosition());
+        }
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Cannot write sorted index entries to temporary file"), e);
+    }
+
+    run.clear();
+  }
+
+  private ORID merge(final Object key, final ORID oldValue, final ORID newValue) {
+    if (oldValue == null || validator == null) {
+      return newValue;
+    }
+
+    final Object result = validator.validate(key, oldValue, newValue);
+    if (result == IndexEngineValidator.IGNORE) {
+      return oldValue;
+    }
+
+    return (ORID) result;
+  }
+
+  /**
+   * Closes and deletes the temporary files. Failures are logged and do not stop the cleanup, so
+   * they do not hide the exception of the index build if the sorter is closed because of it.
+   */
+  @Override
+  public void close() {
+    run.clear();
+
+    for (final DataInputStream in : openedRuns) {
+      try {
+        in.close();
+      } catch (final IOException e) {
+        logger.warn("Cannot close temporary file of sorted index entries", e);
+      }
+    }
+    openedRuns.clear();
+
+    for (final Path path : runFiles) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (final IOException e) {
+        logger.warn("Cannot delete temporary file %s of sorted index entries", e, path);
+      }
+    }
+    runFiles.clear();
+  }
+
+  /** Merges entries with the same key and puts the entry with <code>null</code> key first. */
+  private final class MergedKeysIterator implements Iterator<ORawPair<Object, ORID>> {
+    private final Iterator<ORawPair<Object, ORID>> entries;
+
+    private ORawPair<Object, ORID> nextEntry;
+    private ORawPair<Object, ORID> lookAhead;
+
+    private MergedKeysIterator(final Iterator<ORawPair<Object, ORID>> entries) {
+      this.entries = entries;
+
+      if (nullValue != null) {
+        nextEntry = new ORawPair<>(null, nullValue);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextEntry != null) {
+        return true;
+      }
+
+      ORawPair<Object, ORID> entry = lookAhead;
+      lookAhead = null;
+      if (entry == null) {
+        if (!entries.hasNext()) {
+          return false;
+        }
+        entry = entries.next();
+      }
+
+      ORID value = entry.second;
+      while (entries.hasNext()) {
+        final ORawPair<Object, ORID> sameKeyEntry = entries.next();
+        if (ODefaultComparator.INSTANCE.compare(entry.first, sameKeyEntry.first) != 0) {
+          lookAhead = sameKeyEntry;
+          break;
+        }
+
+        value = merge(entry.first, value, sameKeyEntry.second);
+      }
+
+      nextEntry = new ORawPair<>(entry.first, value);
+      return true;
+    }
+
+    @Override
+    public ORawPair<Object, ORID> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      final ORawPair<Object, ORID> entry = nextEntry;
+      nextEntry = null;
+      return entry;
+    }
+  }
+
+  /**
+   * K-way merge of sorted runs. Entries with the same key are returned in the order of runs, so
+   * the order in which entries were added is preserved.
+   */
+  private final class MergeIterator implements Iterator<ORawPair<Object, ORID>> {
+    private final PriorityQueue<RunCursor> queue =
+        new PriorityQueue<>(
+            Comparator.<RunCursor, ORawPair<Object, ORID>>comparing(
+                    cursor -> cursor.current, ENTRY_COMPARATOR)
+                .thenComparingInt(cursor -> cursor.run));
+
+    private MergeIterator() {
+      for (int i = 0; i < runFiles.size(); i++) {
+        final RunCursor cursor = new RunCursor(i, runFiles.get(i));
+        if (cursor.advance()) {
+          queue.add(cursor);
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public ORawPair<Object, ORID> next() {
+      final RunCursor cursor = queue.poll();
+      if (cursor == null) {
+        throw new NoSuchElementException();
+      }
+
+      final ORawPair<Object, ORID> entry = cursor.current;
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+      return entry;
+    }
+  }
+
+  private final class RunCursor {
+    private final int run;
+    private final DataInputStream in;
+    private int remaining;
+
+    private ORawPair<Object, ORID> current;
+
+    private RunCursor(final int run, final Path path) {
+      this.run = run;
+      try {
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        openedRuns.add(in);
+        remaining = in.readInt();
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new OIndexException("Cannot read sorted index entries from temporary file"), e);
+      }
+    }
+
+    private boolean advance() {
+      if (remaining == 0) {
+        current = null;
+        return false;
+      }
+
+      try {
+        final byte[] serializedKey = new byte[in.readInt()];
+        in.readFully(serializedKey);
+        final int clusterId = in.readShort();
+        final long clusterPosition = in.readLong();
+
+        current =
+            new ORawPair<>(
+                keySerializer.deserializeNativeObject(serializedKey, 0),
+                new ORecordId(clusterId, clusterPosition));
+        remaining--;
+        return true;
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new OIndexException("Cannot read sorted index entries from temporary file"), e);
+      }
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package com.orientechnologies.orient.core.index.engine;
 
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import java.io.IOException;
+import java.util.List;
 
 public interface OSingleValueIndexEngine extends OV1IndexEngine {
   boolean validatedPut(
@@ -13,6 +15,17 @@ public interface OSingleValueIndexEngine extends OV1IndexEngine {
 
   boolean remove(OAtomicOperation atomicOperation, Object key) throws IOException;
 
+  /**
+   * Puts entries which are sorted in ascending order of keys, used to fill the index during its
+   * build.
+   *
+   * @see OIndexEntrySorter
+   */
+  void putSorted(
+      OAtomicOperation atomicOperation,
+      List<ORawPair<Object, ORID>> entries,
+      IndexEngineValidator<Object, ORID> validator);
+
   @Override
   default boolean isMultiValue() {
     return false;
@@ -1,7 +1,48 @@
 package com.orientechnologies.orient.core.index.engine.v1;
 
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.IndexEngineData;
 import com.orientechnologies.orient.core.index.engine.OV1IndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.PartitionedCellBTreeSingleValueV3;
+import java.util.Map;
 
 public interface OCellBTreeIndexEngine extends OV1IndexEngine {
   int VERSION = 4;
+
+  /** Name of engine property which contains amount of partitions of the index tree. */
+  String PARTITIONS_PROPERTY = "btreePartitions";
+
+  /**
+   * @return amount of partitions of the index tree, partitioning is not used if keys of given
+   *     types can not be distributed between partitions
+   */
+  static int partitionsCount(final IndexEngineData data, final OType[] keyTypes) {
+    final Map<String, String> engineProperties = data.getEngineProperties();
+    if (engineProperties == null) {
+      return 1;
+    }
+
+    final String partitionsProperty = engineProperties.get(PARTITIONS_PROPERTY);
+    if (partitionsProperty == null) {
+      return 1;
+    }
+
+    final int partitions;
+    try {
+      partitions = Integer.parseInt(partitionsProperty);
+    } catch (final NumberFormatException e) {
+      OLogManager.instance()
+          .logger(OCellBTreeIndexEngine.class)
+          .error(
+              "Invalid value of '%s' property : `%s`", e, PARTITIONS_PROPERTY, partitionsProperty);
+      return 1;
+    }
+
+    if (partitions > 1 && !PartitionedCellBTreeSingleValueV3.isPartitioningSupported(keyTypes)) {
+      return 1;
+    }
+
+    return Math.max(partitions, 1);
+  }
 }
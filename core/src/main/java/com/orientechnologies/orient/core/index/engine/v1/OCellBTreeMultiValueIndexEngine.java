@@ -23,6 +23,7 @@ import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.OCellBT
 import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.PartitionedCellBTreeSingleValueV3;
 import java.io.IOException;
 import java.util.List;
 import java.util.Spliterators;
@@ -38,7 +39,15 @@ public final class OCellBTreeMultiValueIndexEngine
 
   private final OCellBTreeMultiValue<Object> mvTree;
 
-  private final OCellBTreeSingleValue<OCompositeKey> svTree;
+  private OCellBTreeSingleValue<OCompositeKey> svTree;
+
+  /**
+   * Tree of non-null keys which is split into partitions, or <code>null</code> if index is not
+   * partitioned. RID which is the last item of the keys of this tree is not used to choose
+   * partition, so all entries of the same key are stored in the same partition.
+   */
+  private PartitionedCellBTreeSingleValueV3<OCompositeKey> partitionedTree;
+
   private final OCellBTreeSingleValue<OIdentifiable> nullTree;
 
   private final String name;
@@ -96,12 +105,27 @@ public final class OCellBTreeMultiValueIndexEngine
     return name;
   }
 
+  private void initPartitions(final IndexEngineData data) {
+    if (svTree == null) {
+      return;
+    }
+
+    final int partitions = OCellBTreeIndexEngine.partitionsCount(data, data.getKeyTypes());
+    if (partitions > 1) {
+      partitionedTree =
+          new PartitionedCellBTreeSingleValueV3<>(
+              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage, partitions, 1);
+      svTree = partitionedTree;
+    }
+  }
+
   public void create(OAtomicOperation atomicOperation, IndexEngineData data) throws IOException {
 
     OBinarySerializer keySerializer = storage.resolveObjectSerializer(data.getKeySerializedId());
 
     final OEncryption encryption =
         OAbstractPaginatedStorage.loadEncryption(data.getEncryption(), data.getEncryptionOptions());
+    initPartitions(data);
     try {
       if (mvTree != null) {
         mvTree.create(
@@ -182,6 +206,10 @@ public final class OCellBTreeMultiValueIndexEngine
     assert svTree != null;
     assert nullTree != null;
 
+    // all partitions are locked at once to keep order of locks
+    svTree.acquireAtomicExclusiveLock();
+    nullTree.acquireAtomicExclusiveLock();
+
     {
       final OCompositeKey firstKey = svTree.firstKey();
       final OCompositeKey lastKey = svTree.lastKey();
@@ -240,6 +268,7 @@ public final class OCellBTreeMultiValueIndexEngine
 
       final OType[] sbTypes = calculateTypes(keyTypes);
 
+      initPartitions(data);
       svTree.load(name, keySize + 1, sbTypes, new CompositeKeySerializer(), null);
       nullTree.load(
           nullTreeName, 1, new OType[] {OType.LINK}, OCompactedLinkSerializer.INSTANCE, null);
@@ -256,14 +285,15 @@ public final class OCellBTreeMultiValueIndexEngine
           assert svTree != null;
 
           final OCompositeKey compositeKey = createCompositeKey(key, value);
+          final OCellBTreeSingleValue<OCompositeKey> tree = treeOfKey(compositeKey);
 
           final boolean[] removed = new boolean[1];
           try (Stream<ORawPair<OCompositeKey, ORID>> stream =
-              svTree.iterateEntriesBetween(compositeKey, true, compositeKey, true, true)) {
+              tree.iterateEntriesBetween(compositeKey, true, compositeKey, true, true)) {
             stream.forEach(
                 (pair) -> {
                   try {
-                    final boolean result = svTree.remove(atomicOperation, pair.first) != null;
+                    final boolean result = tree.remove(atomicOperation, pair.first) != null;
                     removed[0] = result || removed[0];
                   } catch (final IOException e) {
                     throw OException.wrapException(
@@ -326,7 +356,7 @@ public final class OCellBTreeMultiValueIndexEngine
       final OCompositeKey lastKey = convertToCompositeKey(key);
 
       //noinspection resource
-      return svTree
+      return treeOfKey(firstKey)
           .iterateEntriesBetween(firstKey, true, lastKey, true, true)
           .map((pair) -> pair.second);
     } else {
@@ -567,8 +597,28 @@ public final class OCellBTreeMultiValueIndexEngine
     return true;
   }
 
+  /** @return tree which contains all entries of given key */
+  private OCellBTreeSingleValue<OCompositeKey> treeOfKey(final OCompositeKey key) {
+    if (partitionedTree != null) {
+      return partitionedTree.getPartition(key);
+    }
+
+    return svTree;
+  }
+
   @Override
   public boolean acquireAtomicExclusiveLock(Object key) {
+    if (partitionedTree != null) {
+      // null key is locked by storage after all other keys, as the last lock in order of names
+      if (key == null) {
+        nullTree.acquireAtomicExclusiveLock();
+      } else {
+        partitionedTree.acquireAtomicExclusiveLock(convertToCompositeKey(key));
+      }
+
+      return false;
+    }
+
     if (mvTree != null) {
       mvTree.acquireAtomicExclusiveLock();
     } else {
@@ -584,6 +634,14 @@ public final class OCellBTreeMultiValueIndexEngine
 
   @Override
   public String getIndexNameByKey(Object key) {
+    if (partitionedTree != null) {
+      if (key == null) {
+        return nullTreeName;
+      }
+
+      return partitionedTree.getPartitionName(convertToCompositeKey(key));
+    }
+
     return name;
   }
 
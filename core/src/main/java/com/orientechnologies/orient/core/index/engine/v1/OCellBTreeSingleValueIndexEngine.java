@@ -17,9 +17,11 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v1.CellBTreeSingleValueV1;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.PartitionedCellBTreeSingleValueV3;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMap;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMapV0;
 import java.io.IOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 public final class OCellBTreeSingleValueIndexEngine
@@ -27,34 +29,72 @@ public final class OCellBTreeSingleValueIndexEngine
   private static final String DATA_FILE_EXTENSION = ".cbt";
   private static final String NULL_BUCKET_FILE_EXTENSION = ".nbt";
 
-  private final OCellBTreeSingleValue<Object> sbTree;
+  private OCellBTreeSingleValue<Object> sbTree;
+
+  /** Tree which is split into partitions, or <code>null</code> if index is not partitioned. */
+  private PartitionedCellBTreeSingleValueV3<Object> partitionedTree;
+
   private final OVersionPositionMap versionPositionMap;
   private final String name;
   private final int id;
+  private final int version;
   private OAbstractPaginatedStorage storage;
 
   public OCellBTreeSingleValueIndexEngine(
       int id, String name, OAbstractPaginatedStorage storage, int version) {
+    this(id, name, storage, createTree(name, storage, version), version);
+  }
+
+  /** Creates engine which stores index entries in the given tree. */
+  public OCellBTreeSingleValueIndexEngine(
+      int id, String name, OAbstractPaginatedStorage storage, OCellBTreeSingleValue<Object> tree) {
+    this(id, name, storage, tree, -1);
+  }
+
+  private OCellBTreeSingleValueIndexEngine(
+      int id,
+      String name,
+      OAbstractPaginatedStorage storage,
+      OCellBTreeSingleValue<Object> tree,
+      int version) {
     this.name = name;
     this.id = id;
     this.storage = storage;
+    this.sbTree = tree;
+    this.version = version;
 
-    if (version < 3) {
-      this.sbTree =
-          new CellBTreeSingleValueV1<>(
-              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
-    } else if (version == 3 || version == 4) {
-      this.sbTree =
-          new CellBTreeSingleValueV3<>(
-              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
-    } else {
-      throw new IllegalStateException("Invalid tree version " + version);
-    }
     versionPositionMap =
         new OVersionPositionMapV0(
             storage, name, name + DATA_FILE_EXTENSION, OVersionPositionMap.DEF_EXTENSION);
   }
 
+  private static OCellBTreeSingleValue<Object> createTree(
+      String name, OAbstractPaginatedStorage storage, int version) {
+    if (version < 3) {
+      return new CellBTreeSingleValueV1<>(
+          name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+    } else if (version == 3 || version == 4) {
+      return new CellBTreeSingleValueV3<>(
+          name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+    }
+
+    throw new IllegalStateException("Invalid tree version " + version);
+  }
+
+  private void initPartitions(final IndexEngineData data) {
+    if (version < 3) {
+      return;
+    }
+
+    final int partitions = OCellBTreeIndexEngine.partitionsCount(data, data.getKeyTypes());
+    if (partitions > 1) {
+      partitionedTree =
+          new PartitionedCellBTreeSingleValueV3<>(
+              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage, partitions, 0);
+      sbTree = partitionedTree;
+    }
+  }
+
   @Override
   public int getId() {
     return id;
@@ -78,6 +118,7 @@ public final class OCellBTreeSingleValueIndexEngine
     final OEncryption encryption =
         OAbstractPaginatedStorage.loadEncryption(data.getEncryption(), data.getEncryptionOptions());
 
+    initPartitions(data);
     try {
       sbTree.create(
           atomicOperation, keySerializer, data.getKeyTypes(), data.getKeySize(), encryption);
@@ -100,6 +141,8 @@ public final class OCellBTreeSingleValueIndexEngine
   }
 
   private void doClearTree(OAtomicOperation atomicOperation) throws IOException {
+    // all partitions are locked at once to keep order of locks
+    sbTree.acquireAtomicExclusiveLock();
     try (Stream<Object> stream = sbTree.keyStream()) {
       stream.forEach(
           (key) -> {
@@ -122,6 +165,7 @@ public final class OCellBTreeSingleValueIndexEngine
     int keySize = data.getKeySize();
     OType[] keyTypes = data.getKeyTypes();
     OBinarySerializer keySerializer = storage.resolveObjectSerializer(data.getKeySerializedId());
+    initPartitions(data);
     sbTree.load(name, keySize, keyTypes, keySerializer, encryption);
     try {
       versionPositionMap.open();
@@ -211,6 +255,19 @@ public final class OCellBTreeSingleValueIndexEngine
     }
   }
 
+  @Override
+  public void putSorted(
+      OAtomicOperation atomicOperation,
+      List<ORawPair<Object, ORID>> entries,
+      IndexEngineValidator<Object, ORID> validator) {
+    try {
+      sbTree.putSorted(atomicOperation, entries, validator);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during insertion of sorted entries into index " + name), e);
+    }
+  }
+
   @Override
   public Stream<ORawPair<Object, ORID>> iterateEntriesBetween(
       Object rangeFrom,
@@ -253,12 +310,21 @@ public final class OCellBTreeSingleValueIndexEngine
 
   @Override
   public boolean acquireAtomicExclusiveLock(Object key) {
+    if (partitionedTree != null) {
+      partitionedTree.acquireAtomicExclusiveLock(key);
+      return false;
+    }
+
     sbTree.acquireAtomicExclusiveLock();
     return true;
   }
 
   @Override
   public String getIndexNameByKey(Object key) {
+    if (partitionedTree != null) {
+      return partitionedTree.getPartitionName(key);
+    }
+
     return name;
   }
 
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.iterator;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.RecordReader;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
@@ -64,6 +65,7 @@ public abstract class OIdentifiableIterator<REC extends OIdentifiable>
   protected long lastClusterEntry = Long.MAX_VALUE;
   private String fetchPlan;
   private ORecord reusedRecord = null; // DEFAULT = NOT
+  private RecordReader recordReader = null; // DEFAULT = READ FROM STORAGE
   // REUSE IT
   private Boolean directionForward;
   private long currentEntry = ORID.CLUSTER_POS_INVALID;
@@ -119,6 +121,23 @@ public abstract class OIdentifiableIterator<REC extends OIdentifiable>
     throw new UnsupportedOperationException("remove");
   }
 
+  public RecordReader getRecordReader() {
+    return recordReader;
+  }
+
+  /**
+   * Sets the reader used to read the records from the storage. The reader can skip a record
+   * returning null instead of its content, records of the current transaction and of the local
+   * cache are not read through it. It is not used if the same record is reused for browsing. The
+   * record read ahead by the iterator before the reader is set is not read through it.
+   *
+   * @see #setReuseSameRecord(boolean)
+   */
+  public OIdentifiableIterator<REC> setRecordReader(final RecordReader recordReader) {
+    this.recordReader = recordReader;
+    return this;
+  }
+
   /**
    * Tells if the iterator is using the same record for browsing.
    *
@@ -280,6 +299,18 @@ public abstract class OIdentifiableIterator<REC extends OIdentifiable>
           ORecordInternal.setIdentity(
               iRecord, new ORecordId(current.getClusterId(), current.getClusterPosition()));
           iRecord = database.load(iRecord, fetchPlan, false);
+        } else if (recordReader != null) {
+          iRecord =
+              database.executeReadRecord(
+                  current,
+                  null,
+                  -1,
+                  fetchPlan,
+                  false,
+                  true,
+                  false,
+                  OStorage.LOCKING_STRATEGY.DEFAULT,
+                  recordReader);
         } else iRecord = database.load(current, fetchPlan, false);
       } catch (ODatabaseException e) {
         if (Thread.interrupted() || database.isClosed())
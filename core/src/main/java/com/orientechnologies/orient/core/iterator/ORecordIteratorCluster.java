@@ -22,10 +22,12 @@ package com.orientechnologies.orient.core.iterator;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.RecordReader;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OSequentialScan;
 import java.util.Iterator;
 
 /**
@@ -37,6 +39,7 @@ import java.util.Iterator;
 public class ORecordIteratorCluster<REC extends ORecord> extends OIdentifiableIterator<REC> {
   private static final OLogger logger = OLogManager.instance().logger(ORecordIteratorCluster.class);
   private ORecord currentRecord;
+  private boolean sequentialScan;
 
   public ORecordIteratorCluster(final ODatabaseDocumentInternal iDatabase, final int iClusterId) {
     this(
@@ -56,6 +59,25 @@ public class ORecordIteratorCluster<REC extends ORecord> extends OIdentifiableIt
         iDatabase, iClusterId, firstClusterEntry, lastClusterEntry, OStorage.LOCKING_STRATEGY.NONE);
   }
 
+  /**
+   * @param recordReader reader of the records, it is set before the first record is read
+   * @see #setRecordReader(RecordReader)
+   */
+  public ORecordIteratorCluster(
+      final ODatabaseDocumentInternal iDatabase,
+      final int iClusterId,
+      final long firstClusterEntry,
+      final long lastClusterEntry,
+      final RecordReader recordReader) {
+    this(
+        iDatabase,
+        iClusterId,
+        firstClusterEntry,
+        lastClusterEntry,
+        OStorage.LOCKING_STRATEGY.NONE,
+        recordReader);
+  }
+
   protected ORecordIteratorCluster(final ODatabaseDocumentInternal database) {
     super(database, OStorage.LOCKING_STRATEGY.NONE);
   }
@@ -67,7 +89,18 @@ public class ORecordIteratorCluster<REC extends ORecord> extends OIdentifiableIt
       final long firstClusterEntry,
       final long lastClusterEntry,
       final OStorage.LOCKING_STRATEGY iLockingStrategy) {
+    this(iDatabase, iClusterId, firstClusterEntry, lastClusterEntry, iLockingStrategy, null);
+  }
+
+  private ORecordIteratorCluster(
+      final ODatabaseDocumentInternal iDatabase,
+      final int iClusterId,
+      final long firstClusterEntry,
+      final long lastClusterEntry,
+      final OStorage.LOCKING_STRATEGY iLockingStrategy,
+      final RecordReader recordReader) {
     super(iDatabase, iLockingStrategy);
+    setRecordReader(recordReader);
 
     if (iClusterId == ORID.CLUSTER_ID_INVALID)
       throw new IllegalArgumentException("The clusterId is invalid");
@@ -311,6 +344,34 @@ public class ORecordIteratorCluster<REC extends ORecord> extends OIdentifiableIt
     return this;
   }
 
+  /**
+   * Tells to the disk cache that records are read by sequential scan of the whole cluster, so pages
+   * of the cluster are prefetched and do not displace frequently used pages from the cache.
+   * Default is false.
+   */
+  public ORecordIteratorCluster<REC> setSequentialScan(final boolean sequentialScan) {
+    this.sequentialScan = sequentialScan;
+    return this;
+  }
+
+  public boolean isSequentialScan() {
+    return sequentialScan;
+  }
+
+  @Override
+  protected ORecord readCurrentRecord(final ORecord iRecord, final int iMovement) {
+    if (!sequentialScan) {
+      return super.readCurrentRecord(iRecord, iMovement);
+    }
+
+    final boolean previous = OSequentialScan.begin();
+    try {
+      return super.readCurrentRecord(iRecord, iMovement);
+    } finally {
+      OSequentialScan.end(previous);
+    }
+  }
+
   private void updateRangesOnLiveUpdate() {
     if (liveUpdated) {
       final long[] range = database.getClusterDataRange(current.getClusterId());
@@ -10,6 +10,9 @@ public class OViewConfig {
 
   public static String UPDATE_STRATEGY_LIVE = "live";
 
+  /** applies the committed changes of the source records, if the query allows it */
+  public static String UPDATE_STRATEGY_INCREMENTAL = "incremental";
+
   protected String name;
   protected String query;
   protected boolean updatable;
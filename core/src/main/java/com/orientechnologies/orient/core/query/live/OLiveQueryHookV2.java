@@ -24,6 +24,8 @@ import static com.orientechnologies.orient.core.config.OGlobalConfiguration.QUER
 import com.orientechnologies.common.concur.resource.OCloseable;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -48,7 +50,9 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class OLiveQueryHookV2 {
   private static final OLogger logger = OLogManager.instance().logger(OLiveQueryHookV2.class);
@@ -77,16 +81,45 @@ public class OLiveQueryHookV2 {
     private BlockingQueue<OLiveQueryOp> queue = new LinkedBlockingQueue<OLiveQueryOp>();
     private ConcurrentMap<Integer, OLiveQueryListenerV2> subscribers =
         new ConcurrentHashMap<Integer, OLiveQueryListenerV2>();
+    private final OLiveQuerySubscriptionIndex subscriptionIndex = new OLiveQuerySubscriptionIndex();
+
+    /** Each subscriber is always served by the same dispatcher. */
+    private ExecutorService[] dispatchers;
+
+    /** Batches of changes of each subscriber which are waiting or being delivered. */
+    private final ConcurrentMap<OLiveQueryListenerV2, AtomicInteger> pendingBatches =
+        new ConcurrentHashMap<>();
+
+    /** Guarded by threadLock, nothing is dispatched once closed. */
+    private boolean closed = false;
 
     @Override
     public void close() {
+      synchronized (threadLock) {
+        closed = true;
+      }
       queueThread.stopExecution();
       try {
         queueThread.join();
       } catch (InterruptedException ignore) {
         Thread.currentThread().interrupt();
       }
+      synchronized (threadLock) {
+        if (dispatchers != null) {
+          for (ExecutorService dispatcher : dispatchers) {
+            dispatcher.shutdown();
+          }
+          dispatchers = null;
+        }
+      }
       pendingOps.clear();
+      pendingBatches.clear();
+    }
+
+    public boolean isClosed() {
+      synchronized (threadLock) {
+        return closed;
+      }
     }
 
     public OLiveQueryQueueThreadV2 getQueueThread() {
@@ -106,6 +139,7 @@ public class OLiveQueryHookV2 {
     }
 
     public Integer subscribe(Integer id, OLiveQueryListenerV2 iListener) {
+      subscriptionIndex.add(id, iListener);
       subscribers.put(id, iListener);
       return id;
     }
@@ -113,7 +147,96 @@ public class OLiveQueryHookV2 {
     public void unsubscribe(Integer id) {
       OLiveQueryListenerV2 res = subscribers.remove(id);
       if (res != null) {
-        res.onLiveResultEnd();
+        subscriptionIndex.remove(res);
+        pendingBatches.remove(res);
+        // after the results which are already being delivered
+        dispatch(res, res::onLiveResultEnd);
+      }
+    }
+
+    /** Removes a subscriber without notifying it the end of the results. */
+    public void removeSubscriber(Integer id) {
+      OLiveQueryListenerV2 res = subscribers.remove(id);
+      if (res != null) {
+        subscriptionIndex.remove(res);
+        pendingBatches.remove(res);
+      }
+    }
+
+    /** @return subscriber -> the operations it could be interested in, in the same order */
+    public Map<OLiveQueryListenerV2, List<OLiveQueryOp>> route(List<OLiveQueryOp> ops) {
+      return subscriptionIndex.route(ops, subscribers);
+    }
+
+    /**
+     * Delivers a batch of changes to a subscriber after the previous ones. A subscriber which has
+     * already {@link OGlobalConfiguration#QUERY_LIVE_MAX_PENDING_BATCHES} batches waiting does not
+     * receive it, it is unsubscribed instead.
+     *
+     * @return true if the batch will be delivered
+     */
+    public boolean dispatchResults(OLiveQueryListenerV2 listener, List<OLiveQueryOp> items) {
+      AtomicInteger pending = pendingBatches.computeIfAbsent(listener, k -> new AtomicInteger());
+      int maxPending =
+          Math.max(1, OGlobalConfiguration.QUERY_LIVE_MAX_PENDING_BATCHES.getValueAsInteger());
+      if (pending.incrementAndGet() > maxPending) {
+        pending.decrementAndGet();
+        for (Map.Entry<Integer, OLiveQueryListenerV2> entry : subscribers.entrySet()) {
+          if (entry.getValue() == listener) {
+            logger.warn(
+                "Live query subscriber %d has more than %d batches of changes waiting, it is"
+                    + " unsubscribed",
+                entry.getKey(), maxPending);
+            unsubscribe(entry.getKey());
+          }
+        }
+        return false;
+      }
+      boolean dispatched =
+          dispatch(
+              listener,
+              () -> {
+                try {
+                  listener.onLiveResults(items);
+                } finally {
+                  pending.decrementAndGet();
+                }
+              });
+      if (!dispatched) {
+        pending.decrementAndGet();
+      }
+      return dispatched;
+    }
+
+    /**
+     * Runs a task of a subscriber after all the previous tasks of the same subscriber.
+     *
+     * @return false if the task will not run because the live queries have been closed
+     */
+    public boolean dispatch(OLiveQueryListenerV2 listener, Runnable task) {
+      synchronized (threadLock) {
+        if (closed) {
+          return false;
+        }
+        if (dispatchers == null) {
+          int threads =
+              Math.max(1, OGlobalConfiguration.QUERY_LIVE_DISPATCH_THREADS.getValueAsInteger());
+          dispatchers = new ExecutorService[threads];
+          for (int i = 0; i < threads; i++) {
+            dispatchers[i] = OThreadPoolExecutors.newSingleThreadPool("LiveQueryDispatcher-" + i);
+          }
+        }
+        ExecutorService dispatcher =
+            dispatchers[Math.floorMod(System.identityHashCode(listener), dispatchers.length)];
+        dispatcher.execute(
+            () -> {
+              try {
+                task.run();
+              } catch (Exception e) {
+                logger.warn("Error executing live query subscriber.", e);
+              }
+            });
+        return true;
       }
     }
 
@@ -137,6 +260,12 @@ public class OLiveQueryHookV2 {
     }
     OLiveQueryOps ops = getOpsReference(db);
     synchronized (ops.threadLock) {
+      if (ops.closed) {
+        logger.warn(
+            "Live queries of database %s are closed, impossible to subscribe a listener",
+            db.getName());
+        return -1;
+      }
       if (!ops.queueThread.isAlive()) {
         ops.queueThread = ops.queueThread.clone();
         ops.queueThread.start();
@@ -19,7 +19,9 @@
  */
 package com.orientechnologies.orient.core.query.live;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /** Created by luigidellaquila on 16/03/15. */
 public interface OLiveQueryListenerV2 {
@@ -29,4 +31,20 @@ public interface OLiveQueryListenerV2 {
   void onLiveResultEnd();
 
   int getToken();
+
+  /**
+   * @return the class of the records the listener is interested in, including its subclasses,
+   *     null for records of any class
+   */
+  default String getClassName() {
+    return null;
+  }
+
+  /**
+   * @return field name -> value, fields that records have to be equal to the value for the listener
+   *     to be interested in them
+   */
+  default Map<String, Object> getEqualityConditions() {
+    return Collections.emptyMap();
+  }
 }
@@ -24,6 +24,7 @@ import com.orientechnologies.common.log.OLogger;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
 /** @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) */
@@ -66,12 +67,19 @@ public class OLiveQueryQueueThreadV2 extends Thread {
         continue;
       }
 
-      for (OLiveQueryListenerV2 listener : ops.getSubscribers().values()) {
-        try {
-          listener.onLiveResults(items);
-        } catch (Exception e) {
-          logger.warn("Error executing live query subscriber.", e);
-        }
+      // only the subscribers which could match a change receive it, each one from its dispatcher
+      Map<OLiveQueryListenerV2, List<OLiveQueryHookV2.OLiveQueryOp>> routed;
+      try {
+        routed = ops.route(items);
+      } catch (Exception e) {
+        logger.warn("Error routing live query events.", e);
+        continue;
+      }
+      for (Map.Entry<OLiveQueryListenerV2, List<OLiveQueryHookV2.OLiveQueryOp>> entry :
+          routed.entrySet()) {
+        OLiveQueryListenerV2 listener = entry.getKey();
+        List<OLiveQueryHookV2.OLiveQueryOp> listenerItems = entry.getValue();
+        ops.dispatchResults(listener, listenerItems);
 
         totalEventsServed++;
         if (totalEventsServed > 0 && totalEventsServed % 100_000 == 0) {
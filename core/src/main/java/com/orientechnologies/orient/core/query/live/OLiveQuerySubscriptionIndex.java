@@ -0,0 +1,285 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.query.live;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the live query subscribers by class and by a field equality condition, used to find
+ * the subscribers which could be interested in a change without evaluating the filters of all of
+ * them. <br>
+ * The index only narrows the candidates: the subscribers still evaluate their full filter on the
+ * changes they receive. Values are indexed by a normalized string form, so that values the SQL
+ * equality operator considers equal (eg. <code>5</code> and <code>5L</code>, or strings differing
+ * only in case) share the same key.
+ */
+final class OLiveQuerySubscriptionIndex {
+
+  private static final class Subscription {
+    private final Integer id;
+    private final String classKey;
+    private final String field;
+    private final String valueKey;
+
+    private Subscription(Integer id, String classKey, String field, String valueKey) {
+      this.id = id;
+      this.classKey = classKey;
+      this.field = field;
+      this.valueKey = valueKey;
+    }
+  }
+
+  /** Subscribers of a single class. */
+  private static final class Subscribers {
+    /** Subscribers without an indexed condition. */
+    private final Set<OLiveQueryListenerV2> unconditioned = new LinkedHashSet<>();
+
+    /** field -> value key -> subscribers */
+    private final Map<String, Map<String, Set<OLiveQueryListenerV2>>> byFieldValue =
+        new HashMap<>();
+
+    private void add(Subscription subscription, OLiveQueryListenerV2 listener) {
+      if (subscription.field == null) {
+        unconditioned.add(listener);
+      } else {
+        byFieldValue
+            .computeIfAbsent(subscription.field, k -> new HashMap<>())
+            .computeIfAbsent(subscription.valueKey, k -> new LinkedHashSet<>())
+            .add(listener);
+      }
+    }
+
+    private void remove(Subscription subscription, OLiveQueryListenerV2 listener) {
+      if (subscription.field == null) {
+        unconditioned.remove(listener);
+        return;
+      }
+      Map<String, Set<OLiveQueryListenerV2>> byValue = byFieldValue.get(subscription.field);
+      if (byValue == null) {
+        return;
+      }
+      Set<OLiveQueryListenerV2> listeners = byValue.get(subscription.valueKey);
+      if (listeners != null) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+          byValue.remove(subscription.valueKey);
+        }
+      }
+      if (byValue.isEmpty()) {
+        byFieldValue.remove(subscription.field);
+      }
+    }
+
+    private boolean isEmpty() {
+      return unconditioned.isEmpty() && byFieldValue.isEmpty();
+    }
+
+    private void collect(OResult record, Collection<OLiveQueryListenerV2> result) {
+      result.addAll(unconditioned);
+      for (Map.Entry<String, Map<String, Set<OLiveQueryListenerV2>>> entry :
+          byFieldValue.entrySet()) {
+        Object value = record == null ? null : record.getProperty(entry.getKey());
+        if (value == null) {
+          // null is not equal to any value
+          continue;
+        }
+        String key = keyOf(value);
+        if (key == null) {
+          // the value cannot be compared by key, all the subscribers are candidates
+          entry.getValue().values().forEach(result::addAll);
+        } else {
+          Set<OLiveQueryListenerV2> listeners = entry.getValue().get(key);
+          if (listeners != null) {
+            result.addAll(listeners);
+          }
+        }
+      }
+    }
+  }
+
+  private final Map<OLiveQueryListenerV2, Subscription> subscriptions = new HashMap<>();
+
+  /** Subscribers which are not bound to a class. */
+  private final Subscribers anyClass = new Subscribers();
+
+  /** lower case class name -> subscribers */
+  private final Map<String, Subscribers> byClass = new HashMap<>();
+
+  synchronized void add(Integer id, OLiveQueryListenerV2 listener) {
+    remove(listener);
+
+    String className = listener.getClassName();
+    String classKey = className == null ? null : className.toLowerCase(Locale.ENGLISH);
+    String field = null;
+    String valueKey = null;
+    for (Map.Entry<String, Object> condition : listener.getEqualityConditions().entrySet()) {
+      String key = condition.getValue() == null ? null : keyOf(condition.getValue());
+      if (key != null) {
+        field = condition.getKey();
+        valueKey = key;
+        break;
+      }
+    }
+
+    Subscription subscription = new Subscription(id, classKey, field, valueKey);
+    subscriptions.put(listener, subscription);
+    subscribersOf(classKey, true).add(subscription, listener);
+  }
+
+  synchronized void remove(OLiveQueryListenerV2 listener) {
+    Subscription subscription = subscriptions.remove(listener);
+    if (subscription == null) {
+      return;
+    }
+    Subscribers subscribers = subscribersOf(subscription.classKey, false);
+    if (subscribers != null) {
+      subscribers.remove(subscription, listener);
+      if (subscription.classKey != null && subscribers.isEmpty()) {
+        byClass.remove(subscription.classKey);
+      }
+    }
+  }
+
+  private Subscribers subscribersOf(String classKey, boolean create) {
+    if (classKey == null) {
+      return anyClass;
+    }
+    return create
+        ? byClass.computeIfAbsent(classKey, k -> new Subscribers())
+        : byClass.get(classKey);
+  }
+
+  /**
+   * Finds the subscribers which could be interested in the operations.
+   *
+   * @param ops the operations, in commit order
+   * @param subscribers the current subscribers, by id
+   * @return subscriber -> the operations it could be interested in, in the same order
+   */
+  synchronized Map<OLiveQueryListenerV2, List<OLiveQueryHookV2.OLiveQueryOp>> route(
+      List<OLiveQueryHookV2.OLiveQueryOp> ops, Map<Integer, OLiveQueryListenerV2> subscribers) {
+    Map<OLiveQueryListenerV2, List<OLiveQueryHookV2.OLiveQueryOp>> result = new LinkedHashMap<>();
+    Set<OLiveQueryListenerV2> candidates = new LinkedHashSet<>();
+    for (OLiveQueryHookV2.OLiveQueryOp op : ops) {
+      // the subscribers filter the records after an update and before a delete
+      OResult record = op.type == ORecordOperation.DELETED ? op.before : op.after;
+
+      candidates.clear();
+      anyClass.collect(record, candidates);
+      if (!byClass.isEmpty() && record != null && record.getProperty("@class") != null) {
+        Collection<String> classes = classesOf(op, record);
+        if (classes == null) {
+          for (Subscribers classSubscribers : byClass.values()) {
+            classSubscribers.collect(record, candidates);
+          }
+        } else {
+          for (String clazz : classes) {
+            Subscribers classSubscribers = byClass.get(clazz.toLowerCase(Locale.ENGLISH));
+            if (classSubscribers != null) {
+              classSubscribers.collect(record, candidates);
+            }
+          }
+        }
+      }
+
+      for (OLiveQueryListenerV2 candidate : candidates) {
+        Subscription subscription = subscriptions.get(candidate);
+        if (subscription != null && subscribers.get(subscription.id) == candidate) {
+          result.computeIfAbsent(candidate, k -> new ArrayList<>()).add(op);
+        }
+      }
+    }
+    return result;
+  }
+
+  /** @return the class of the record and its super classes, null if they are not known */
+  private static Collection<String> classesOf(OLiveQueryHookV2.OLiveQueryOp op, OResult record) {
+    OImmutableClass clazz =
+        op.originalDoc == null ? null : ODocumentInternal.getImmutableSchemaClass(op.originalDoc);
+    if (clazz == null || !clazz.getName().equalsIgnoreCase(record.getProperty("@class"))) {
+      return null;
+    }
+    List<String> result = new ArrayList<>();
+    result.add(clazz.getName());
+    for (OClass superClass : clazz.getAllSuperClasses()) {
+      result.add(superClass.getName());
+    }
+    return result;
+  }
+
+  /**
+   * @return the key of a value, the same for values which are equal for the SQL equality operator,
+   *     null if the value cannot be indexed by key
+   */
+  static String keyOf(Object value) {
+    if (value instanceof String) {
+      String string = (String) value;
+      if (isNumeric(string)) {
+        // it can be converted to numbers of different forms
+        return null;
+      }
+      return string.toLowerCase(Locale.ENGLISH);
+    }
+    if (value instanceof Byte
+        || value instanceof Short
+        || value instanceof Integer
+        || value instanceof Long) {
+      return String.valueOf(((Number) value).longValue());
+    }
+    if (value instanceof Float || value instanceof Double || value instanceof BigDecimal) {
+      double number = ((Number) value).doubleValue();
+      if (number == Math.rint(number) && Math.abs(number) < Long.MAX_VALUE) {
+        return String.valueOf((long) number);
+      }
+      return null;
+    }
+    if (value instanceof Boolean) {
+      return value.toString();
+    }
+    if (value instanceof OIdentifiable) {
+      return ((OIdentifiable) value).getIdentity().toString();
+    }
+    return null;
+  }
+
+  private static boolean isNumeric(String value) {
+    try {
+      Double.parseDouble(value.trim());
+      return true;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+}
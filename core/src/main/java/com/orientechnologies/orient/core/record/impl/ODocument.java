@@ -3332,6 +3332,17 @@ public class ODocument extends ORecordAbstract
     fieldSize = 0;
   }
 
+  /**
+   * @return the serialized content of the document if it has not been fully deserialized and it
+   *     has not been changed since it was loaded, null otherwise
+   */
+  byte[] getUnchangedSource() {
+    if (status != ORecordElement.STATUS.LOADED || isDirty()) {
+      return null;
+    }
+    return source;
+  }
+
   protected boolean checkForFields(final String... iFields) {
     if (fields == null) fields = ordered ? new LinkedHashMap<>() : new HashMap<>();
 
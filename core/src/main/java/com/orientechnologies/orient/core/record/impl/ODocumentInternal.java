@@ -147,6 +147,10 @@ public class ODocumentInternal {
     return doc.propertyEncryption;
   }
 
+  public static byte[] getUnchangedSource(ODocument doc) {
+    return doc.getUnchangedSource();
+  }
+
   public static void clearTransactionTrackData(ODocument doc) {
     doc.clearTransactionTrackData();
   }
@@ -73,6 +73,31 @@ public interface ODocumentSerializer {
       OImmutableSchema schema,
       OPropertyEncryption encryption);
 
+  /**
+   * Deserializes the values of some fields of a serialized document without creating the
+   * document.
+   *
+   * @return the values in the same order of the field names, null for fields which are missing
+   */
+  default Object[] deserializeFieldsTyped(
+      BytesContainer record,
+      String[] iFieldNames,
+      boolean isEmbedded,
+      OImmutableSchema schema,
+      OPropertyEncryption encryption) {
+    final Object[] values = new Object[iFieldNames.length];
+    for (int i = 0; i < iFieldNames.length; i++) {
+      values[i] =
+          deserializeFieldTyped(
+              new BytesContainer(record.bytes, record.offset),
+              iFieldNames[i],
+              isEmbedded,
+              schema,
+              encryption);
+    }
+    return values;
+  }
+
   void deserializeDebug(
       BytesContainer bytes,
       ODatabaseDocumentInternal db,
@@ -560,6 +560,74 @@ public class ORecordSerializerBinaryV1 implements ODocumentSerializer {
     return null;
   }
 
+  @Override
+  public Object[] deserializeFieldsTyped(
+      BytesContainer bytes,
+      String[] iFieldNames,
+      boolean isEmbedded,
+      OImmutableSchema schema,
+      OPropertyEncryption encryption) {
+    if (isEmbedded) {
+      skipClassName(bytes);
+    }
+    // TRANSFORMS FIELDS FOM STRINGS TO BYTE[]
+    final byte[][] fields = new byte[iFieldNames.length][];
+    for (int i = 0; i < iFieldNames.length; ++i) {
+      fields[i] = bytesFromString(iFieldNames[i]);
+    }
+    final Object[] values = new Object[iFieldNames.length];
+    int unmarshalledFields = 0;
+
+    int headerLength = OVarIntSerializer.readAsInteger(bytes);
+    int headerStart = bytes.offset;
+    int valuesStart = headerStart + headerLength;
+    int cumulativeLength = valuesStart;
+
+    while (bytes.offset < valuesStart) {
+      final int len = OVarIntSerializer.readAsInteger(bytes);
+      final int fieldPos;
+      final int fieldLength;
+      final OType type;
+      if (len > 0) {
+        fieldPos = findMatchingFieldName(bytes, len, fields);
+        bytes.skip(len);
+        Tuple<Integer, OType> pointerAndType = getFieldSizeAndTypeFromCurrentPosition(bytes);
+        fieldLength = pointerAndType.getFirstVal();
+        type = pointerAndType.getSecondVal();
+      } else {
+        // LOAD GLOBAL PROPERTY BY ID
+        final int id = (len * -1) - 1;
+        final OGlobalProperty prop = schema.getGlobalPropertyById(id);
+        fieldPos = indexOfFieldName(prop.getName(), iFieldNames);
+        fieldLength = OVarIntSerializer.readAsInteger(bytes);
+        type = getPropertyTypeFromStream(prop, bytes);
+      }
+
+      if (fieldPos >= 0) {
+        if (fieldLength != 0) {
+          final int headerCursor = bytes.offset;
+          bytes.offset = cumulativeLength;
+          values[fieldPos] = deserializeValue(bytes, type, null, false, fieldLength, false, schema);
+          bytes.offset = headerCursor;
+        }
+        if (++unmarshalledFields == iFieldNames.length)
+          // ALL REQUESTED FIELDS UNMARSHALLED: EXIT
+          break;
+      }
+      cumulativeLength += fieldLength;
+    }
+    return values;
+  }
+
+  private static int indexOfFieldName(final String fieldName, final String[] fields) {
+    for (int i = 0; i < fields.length; i++) {
+      if (fieldName.equals(fields[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   /** use only for named fields */
   private Tuple<Integer, OType> getFieldSizeAndTypeFromCurrentPosition(BytesContainer bytes) {
     int fieldSize = OVarIntSerializer.readAsInteger(bytes);
@@ -0,0 +1,104 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OAnalyzeClassStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import java.util.Map;
+
+/**
+ * SQL ANALYZE CLASS command: Collects statistics of the properties of a class by sampling its
+ * clusters. Statistics are used by the query planner to choose between index and class scan and to
+ * order conditions.
+ *
+ * <p>The command is parsed and executed by {@link OAnalyzeClassStatement}, this class only adapts
+ * it to the legacy command API.
+ *
+ * <p>Syntax: ANALYZE CLASS &lt;class-name&gt; [SAMPLE &lt;records&gt;] [FULL]
+ */
+public class OCommandExecutorSQLAnalyzeClass extends OCommandExecutorSQLAbstract
+    implements OCommandDistributedReplicateRequest {
+  public static final String KEYWORD_ANALYZE = "ANALYZE";
+  public static final String KEYWORD_CLASS = "CLASS";
+
+  private OAnalyzeClassStatement statement;
+
+  public OCommandExecutorSQLAnalyzeClass parse(final OCommandRequest iRequest) {
+    final OCommandRequestText textRequest = (OCommandRequestText) iRequest;
+
+    String queryText = textRequest.getText();
+    String originalQuery = queryText;
+    try {
+      queryText = preParse(queryText, iRequest);
+      textRequest.setText(queryText);
+
+      init((OCommandRequestText) iRequest);
+
+      final OStatement parsed = OSQLEngine.parse(parserText, getDatabase());
+      if (!(parsed instanceof OAnalyzeClassStatement))
+        throw new OCommandSQLParsingException(
+            "Keyword " + KEYWORD_ANALYZE + " not found. Use " + getSyntax(), parserText, 0);
+
+      statement = (OAnalyzeClassStatement) parsed;
+
+      final String className = statement.getClassName().getStringValue();
+      if (!getDatabase().getMetadata().getSchema().existsClass(className))
+        throw new OCommandSQLParsingException("Class '" + className + "' not found", parserText, 0);
+    } finally {
+      textRequest.setText(originalQuery);
+    }
+
+    return this;
+  }
+
+  /** Execute the command and return the amount of records of the class. */
+  public Object execute(final Map<Object, Object> iArgs) {
+    if (statement == null)
+      throw new OCommandExecutionException(
+          "Cannot execute the command because it has not been parsed yet");
+
+    try (OResultSet result = statement.execute(getDatabase(), iArgs)) {
+      return result.next().getProperty("records");
+    }
+  }
+
+  @Override
+  public long getDistributedTimeout() {
+    return getDatabase()
+        .getConfiguration()
+        .getValueAsLong(OGlobalConfiguration.DISTRIBUTED_COMMAND_TASK_SYNCH_TIMEOUT);
+  }
+
+  @Override
+  public String getSyntax() {
+    return "ANALYZE CLASS <class-name> [SAMPLE <records>] [FULL]";
+  }
+
+  @Override
+  public QUORUM_TYPE getQuorumType() {
+    return QUORUM_TYPE.WRITE;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.OCreateGraphSnapshotStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import java.util.Map;
+
+/**
+ * SQL CREATE GRAPH SNAPSHOT command: Builds an in memory snapshot of the adjacency of the graph
+ * that graph functions and algorithms can traverse instead of the database. A snapshot with the
+ * same name is replaced.
+ *
+ * <p>The command is parsed and executed by {@link OCreateGraphSnapshotStatement}, this class only
+ * adapts it to the legacy command API.
+ *
+ * <p>Syntax: CREATE GRAPH SNAPSHOT &lt;name&gt; [VERTEX &lt;class&gt;[,&lt;class&gt;]*] [EDGE
+ * &lt;class&gt;[,&lt;class&gt;]*] [WEIGHT &lt;property&gt;]
+ */
+public class OCommandExecutorSQLCreateGraphSnapshot extends OCommandExecutorSQLAbstract
+    implements OCommandDistributedReplicateRequest {
+  public static final String KEYWORD_CREATE = "CREATE";
+  public static final String KEYWORD_GRAPH = "GRAPH";
+  public static final String KEYWORD_SNAPSHOT = "SNAPSHOT";
+
+  private OCreateGraphSnapshotStatement statement;
+
+  public OCommandExecutorSQLCreateGraphSnapshot parse(final OCommandRequest iRequest) {
+    final OCommandRequestText textRequest = (OCommandRequestText) iRequest;
+
+    String queryText = textRequest.getText();
+    String originalQuery = queryText;
+    try {
+      queryText = preParse(queryText, iRequest);
+      textRequest.setText(queryText);
+
+      init((OCommandRequestText) iRequest);
+
+      final OStatement parsed = OSQLEngine.parse(parserText, getDatabase());
+      if (!(parsed instanceof OCreateGraphSnapshotStatement))
+        throw new OCommandSQLParsingException(
+            "Keyword " + KEYWORD_SNAPSHOT + " not found. Use " + getSyntax(), parserText, 0);
+
+      statement = (OCreateGraphSnapshotStatement) parsed;
+    } finally {
+      textRequest.setText(originalQuery);
+    }
+
+    return this;
+  }
+
+  /** Execute the command and return the amount of vertices of the snapshot. */
+  public Object execute(final Map<Object, Object> iArgs) {
+    if (statement == null)
+      throw new OCommandExecutionException(
+          "Cannot execute the command because it has not been parsed yet");
+
+    try (OResultSet result = statement.execute(getDatabase(), iArgs)) {
+      return result.next().getProperty("vertices");
+    }
+  }
+
+  @Override
+  public long getDistributedTimeout() {
+    return getDatabase()
+        .getConfiguration()
+        .getValueAsLong(OGlobalConfiguration.DISTRIBUTED_COMMAND_TASK_SYNCH_TIMEOUT);
+  }
+
+  @Override
+  public String getSyntax() {
+    return "CREATE GRAPH SNAPSHOT <name> [VERTEX <class>[,<class>]*] [EDGE <class>[,<class>]*]"
+        + " [WEIGHT <property>]";
+  }
+
+  @Override
+  public QUORUM_TYPE getQuorumType() {
+    return QUORUM_TYPE.ALL;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.sql.parser.ODropGraphSnapshotStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import java.util.Map;
+
+/**
+ * SQL DROP GRAPH SNAPSHOT command: Removes a graph snapshot and releases its memory.
+ *
+ * <p>The command is parsed by {@link ODropGraphSnapshotStatement}, unlike the statement it does
+ * not fail if the snapshot does not exist.
+ *
+ * <p>Syntax: DROP GRAPH SNAPSHOT &lt;name&gt;
+ */
+public class OCommandExecutorSQLDropGraphSnapshot extends OCommandExecutorSQLAbstract
+    implements OCommandDistributedReplicateRequest {
+  public static final String KEYWORD_DROP = "DROP";
+  public static final String KEYWORD_GRAPH = "GRAPH";
+  public static final String KEYWORD_SNAPSHOT = "SNAPSHOT";
+
+  private String snapshotName;
+
+  public OCommandExecutorSQLDropGraphSnapshot parse(final OCommandRequest iRequest) {
+    final OCommandRequestText textRequest = (OCommandRequestText) iRequest;
+
+    String queryText = textRequest.getText();
+    String originalQuery = queryText;
+    try {
+      queryText = preParse(queryText, iRequest);
+      textRequest.setText(queryText);
+
+      init((OCommandRequestText) iRequest);
+
+      final OStatement parsed = OSQLEngine.parse(parserText, getDatabase());
+      if (!(parsed instanceof ODropGraphSnapshotStatement))
+        throw new OCommandSQLParsingException(
+            "Keyword " + KEYWORD_SNAPSHOT + " not found. Use " + getSyntax(), parserText, 0);
+
+      snapshotName = ((ODropGraphSnapshotStatement) parsed).getName().getStringValue();
+    } finally {
+      textRequest.setText(originalQuery);
+    }
+
+    return this;
+  }
+
+  /** Execute the command and return true if the snapshot existed. */
+  public Object execute(final Map<Object, Object> iArgs) {
+    if (snapshotName == null)
+      throw new OCommandExecutionException(
+          "Cannot execute the command because it has not been parsed yet");
+
+    final ODatabaseDocumentInternal database = getDatabase();
+    final OGraphSnapshotManager snapshotManager = OGraphSnapshotManager.of(database);
+    if (snapshotManager == null)
+      throw new OCommandExecutionException(
+          "'DROP GRAPH SNAPSHOT' command is not supported by database " + database.getName());
+
+    return snapshotManager.drop(snapshotName);
+  }
+
+  @Override
+  public long getDistributedTimeout() {
+    return getDatabase()
+        .getConfiguration()
+        .getValueAsLong(OGlobalConfiguration.DISTRIBUTED_COMMAND_TASK_SYNCH_TIMEOUT);
+  }
+
+  @Override
+  public String getSyntax() {
+    return "DROP GRAPH SNAPSHOT <name>";
+  }
+
+  @Override
+  public QUORUM_TYPE getQuorumType() {
+    return QUORUM_TYPE.ALL;
+  }
+}
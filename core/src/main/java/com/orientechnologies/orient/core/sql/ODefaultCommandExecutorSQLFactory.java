@@ -125,6 +125,25 @@ public class ODefaultCommandExecutorSQLFactory implements OCommandExecutorSQLFac
             + " "
             + OCommandExecutorSQLFindReferences.KEYWORD_REFERENCES,
         OCommandExecutorSQLFindReferences.class);
+    commands.put(
+        OCommandExecutorSQLAnalyzeClass.KEYWORD_ANALYZE
+            + " "
+            + OCommandExecutorSQLAnalyzeClass.KEYWORD_CLASS,
+        OCommandExecutorSQLAnalyzeClass.class);
+    commands.put(
+        OCommandExecutorSQLCreateGraphSnapshot.KEYWORD_CREATE
+            + " "
+            + OCommandExecutorSQLCreateGraphSnapshot.KEYWORD_GRAPH
+            + " "
+            + OCommandExecutorSQLCreateGraphSnapshot.KEYWORD_SNAPSHOT,
+        OCommandExecutorSQLCreateGraphSnapshot.class);
+    commands.put(
+        OCommandExecutorSQLDropGraphSnapshot.KEYWORD_DROP
+            + " "
+            + OCommandExecutorSQLDropGraphSnapshot.KEYWORD_GRAPH
+            + " "
+            + OCommandExecutorSQLDropGraphSnapshot.KEYWORD_SNAPSHOT,
+        OCommandExecutorSQLDropGraphSnapshot.class);
     commands.put(
         OCommandExecutorSQLTruncateClass.KEYWORD_TRUNCATE
             + " "
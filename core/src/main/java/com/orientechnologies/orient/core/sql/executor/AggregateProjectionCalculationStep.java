@@ -2,8 +2,11 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStreamProducer;
+import com.orientechnologies.orient.core.sql.executor.resultset.OMultipleExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
@@ -15,6 +18,8 @@ import java.util.Map;
 
 /** Created by luigidellaquila on 12/07/16. */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
+  private static final int SPILL_PARTITIONS = 16;
+  private static final int MAX_SPILL_LEVELS = 4;
 
   private final OGroupBy groupBy;
   private final long timeoutMillis;
@@ -35,26 +40,63 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
-    List<OResult> finalResults = executeAggregation(ctx);
-    return OExecutionStream.resultIterator(finalResults.iterator());
-  }
-
-  private List<OResult> executeAggregation(OCommandContext ctx) {
     long timeoutBegin = System.currentTimeMillis();
     if (!prev.isPresent()) {
       throw new OCommandExecutionException(
           "Cannot execute an aggregation or a GROUP BY without a previous result");
     }
     OExecutionStepInternal prevStep = prev.get();
-    OExecutionStream lastRs = prevStep.start(ctx);
+    return executeAggregation(prevStep.start(ctx), 0, timeoutBegin, ctx);
+  }
+
+  /**
+   * aggregates the input in heap. If the number of groups exceeds {@link
+   * OGlobalConfiguration#QUERY_GROUP_BY_SPILL_THRESHOLD}, the records of the groups that do not fit
+   * in heap are partitioned by the hash of the group key and moved to temporary files; each
+   * partition is then aggregated in the same way, after the groups in heap are returned
+   *
+   * @param level the number of times the records were already partitioned, it is used to choose a
+   *     different partitioning at each level
+   */
+  private OExecutionStream executeAggregation(
+      OExecutionStream lastRs, int level, long timeoutBegin, OCommandContext ctx) {
+    final long maxGroups = level < MAX_SPILL_LEVELS ? spillThreshold(ctx) : -1;
     Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
-    while (lastRs.hasNext(ctx)) {
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
+    OResultSpillFile[] partitions = null;
+    try {
+      while (lastRs.hasNext(ctx)) {
+        if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+          sendTimeout();
+        }
+        OResult next = lastRs.next(ctx);
+        List<Object> key = calculateKey(next, ctx);
+        if (maxGroups > 0
+            && aggregateResults.size() >= maxGroups
+            && !aggregateResults.containsKey(key)) {
+          if (partitions == null) {
+            partitions = new OResultSpillFile[SPILL_PARTITIONS];
+          }
+          int partition = partition(key, level);
+          if (partitions[partition] == null) {
+            partitions[partition] = new OResultSpillFile("orientdb-groupby-");
+          }
+          partitions[partition].append(next);
+        } else {
+          aggregate(next, key, ctx, aggregateResults);
+        }
+      }
+    } catch (RuntimeException e) {
+      if (partitions != null) {
+        for (OResultSpillFile partition : partitions) {
+          if (partition != null) {
+            partition.delete();
+          }
+        }
       }
-      aggregate(lastRs.next(ctx), ctx, aggregateResults);
+      throw e;
+    } finally {
+      lastRs.close(ctx);
     }
-    lastRs.close(ctx);
     List<OResult> finalResults = new ArrayList<>();
     finalResults.addAll(aggregateResults.values());
     aggregateResults.clear();
@@ -70,11 +112,66 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         }
       }
     }
-    return finalResults;
+    if (partitions == null) {
+      return OExecutionStream.resultIterator(finalResults.iterator());
+    }
+
+    final List<OResultSpillFile> spilled = new ArrayList<>();
+    for (OResultSpillFile partition : partitions) {
+      if (partition != null) {
+        spilled.add(partition);
+      }
+    }
+    OExecutionStreamProducer producer =
+        new OExecutionStreamProducer() {
+          private int next = -1;
+
+          @Override
+          public OExecutionStream next(OCommandContext ctx) {
+            if (next < 0) {
+              next++;
+              return OExecutionStream.resultIterator(finalResults.iterator());
+            }
+            OResultSpillFile partition = spilled.get(next++);
+            return executeAggregation(partition.read(ctx), level + 1, timeoutBegin, ctx);
+          }
+
+          @Override
+          public boolean hasNext(OCommandContext ctx) {
+            return next < spilled.size();
+          }
+
+          @Override
+          public void close(OCommandContext ctx) {
+            for (int i = Math.max(next, 0); i < spilled.size(); i++) {
+              spilled.get(i).delete();
+            }
+          }
+        };
+    return new OMultipleExecutionStream(producer);
   }
 
-  private void aggregate(
-      OResult next, OCommandContext ctx, Map<List, OResultInternal> aggregateResults) {
+  private long spillThreshold(OCommandContext ctx) {
+    if (limit > 0) {
+      // the number of groups is already limited
+      return -1;
+    }
+    // records modified by the current transaction cannot be moved out of the heap
+    if (ctx.getDatabase() == null || ctx.getDatabase().getTransaction().isActive()) {
+      return -1;
+    }
+    return OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.getValueAsLong();
+  }
+
+  private static int partition(List<Object> key, int level) {
+    int hash = key.hashCode() ^ (level * 0x9E3779B9);
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    return Math.floorMod(hash, SPILL_PARTITIONS);
+  }
+
+  private List<Object> calculateKey(OResult next, OCommandContext ctx) {
     List<Object> key = new ArrayList<>();
     if (groupBy != null) {
       for (OExpression item : groupBy.getItems()) {
@@ -82,6 +179,14 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         key.add(val);
       }
     }
+    return key;
+  }
+
+  private void aggregate(
+      OResult next,
+      List<Object> key,
+      OCommandContext ctx,
+      Map<List, OResultInternal> aggregateResults) {
     OResultInternal preAggr = aggregateResults.get(key);
     if (preAggr == null) {
       if (limit > 0 && aggregateResults.size() > limit) {
@@ -1,19 +1,28 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.hash.OMurmurHash3;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStreamProducer;
+import com.orientechnologies.orient.core.sql.executor.resultset.OMultipleExecutionStream;
 import java.util.HashSet;
 import java.util.Set;
 
 /** Created by luigidellaquila on 08/07/16. */
 public class DistinctExecutionStep extends AbstractExecutionStep {
 
+  private static final int SPILL_PARTITIONS = 16;
+  private static final int MAX_SPILL_LEVELS = 4;
+
   private long maxElementsAllowed;
+  private long memoryBudget;
 
   public DistinctExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
@@ -24,17 +33,148 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
             ? OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong()
             : db.getConfiguration()
                 .getValueAsLong(OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP);
+    memoryBudget =
+        db == null
+            ? OGlobalConfiguration.QUERY_DISTINCT_MEMORY_BUDGET.getValueAsLong()
+            : db.getConfiguration()
+                .getValueAsLong(OGlobalConfiguration.QUERY_DISTINCT_MEMORY_BUDGET);
   }
 
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
     OExecutionStream resultSet = prev.get().start(ctx);
+    if (memoryBudget >= 0) {
+      return new OffHeapDistinct(0).distinct(resultSet, ctx);
+    }
     Set<OResult> pastItems = new HashSet<>();
     ORidSet pastRids = new ORidSet();
 
     return resultSet.filter((result, context) -> filterMap(context, result, pastRids, pastItems));
   }
 
+  private static ORID persistentIdentity(OResult result) {
+    if (result.isElement()) {
+      ORID identity = result.getElement().get().getIdentity();
+      if (identity.getClusterId() >= 0 && identity.getClusterPosition() >= 0) {
+        return identity;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * DISTINCT that keeps the binary representation of the projections in an {@link
+   * OOffHeapBytesSet}. When the set exceeds the memory budget, the projections that are not in the
+   * set are partitioned by hash and moved to temporary files, then each partition is deduplicated
+   * in the same way, once the input is consumed. Records are tracked by RID in an {@link ORidSet},
+   * as in the in-heap DISTINCT, and are never moved to disk.
+   */
+  private class OffHeapDistinct {
+    private final int level;
+    private final ORidSet pastRids = new ORidSet();
+    private final Set<OResult> notSerializableItems = new HashSet<>();
+    private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+    private OOffHeapBytesSet pastItems = new OOffHeapBytesSet();
+    private OResultSpillFile[] partitions;
+
+    private OffHeapDistinct(int level) {
+      this.level = level;
+    }
+
+    private OExecutionStream distinct(OExecutionStream input, OCommandContext ctx) {
+      OExecutionStream firstPass =
+          input.filter((result, context) -> filter(result)).onClose(context -> release());
+
+      OExecutionStreamProducer producer =
+          new OExecutionStreamProducer() {
+            private int next = -1;
+
+            @Override
+            public OExecutionStream next(OCommandContext ctx) {
+              if (next < 0) {
+                next++;
+                return firstPass;
+              }
+              OResultSpillFile partition = partitions[next++];
+              return new OffHeapDistinct(level + 1).distinct(partition.read(ctx), ctx);
+            }
+
+            @Override
+            public boolean hasNext(OCommandContext ctx) {
+              if (next < 0) {
+                return true;
+              }
+              // the partitions are available only after the first pass is completed
+              while (partitions != null && next < partitions.length && partitions[next] == null) {
+                next++;
+              }
+              return partitions != null && next < partitions.length;
+            }
+
+            @Override
+            public void close(OCommandContext ctx) {
+              release();
+              if (partitions != null) {
+                for (int i = Math.max(next, 0); i < partitions.length; i++) {
+                  if (partitions[i] != null) {
+                    partitions[i].delete();
+                  }
+                }
+              }
+            }
+          };
+      return new OMultipleExecutionStream(producer);
+    }
+
+    private OResult filter(OResult result) {
+      ORID identity = persistentIdentity(result);
+      if (identity != null) {
+        return pastRids.add(identity) ? result : null;
+      }
+      byte[] bytes;
+      try {
+        BytesContainer container = new BytesContainer();
+        serializer.serialize(result, container);
+        bytes = container.fitBytes();
+      } catch (RuntimeException e) {
+        // values that have no binary representation are tracked in heap
+        if (!notSerializableItems.add(result)) {
+          return null;
+        }
+        checkHeapLimit(notSerializableItems);
+        return result;
+      }
+      if (pastItems.contains(bytes)) {
+        return null;
+      }
+      if (level < MAX_SPILL_LEVELS && pastItems.getMemoryUsage() > memoryBudget) {
+        spill(result, bytes);
+        return null;
+      }
+      pastItems.add(bytes);
+      return result;
+    }
+
+    private void spill(OResult result, byte[] bytes) {
+      if (partitions == null) {
+        partitions = new OResultSpillFile[SPILL_PARTITIONS];
+      }
+      int partition =
+          Math.floorMod(OMurmurHash3.murmurHash3_x64_64(bytes, level + 1), SPILL_PARTITIONS);
+      if (partitions[partition] == null) {
+        partitions[partition] = new OResultSpillFile("orientdb-distinct-");
+      }
+      partitions[partition].append(result);
+    }
+
+    private void release() {
+      if (pastItems != null) {
+        pastItems.free();
+        pastItems = null;
+      }
+    }
+  }
+
   private OResult filterMap(
       OCommandContext ctx, OResult result, Set<ORID> pastRids, Set<OResult> pastItems) {
     if (alreadyVisited(result, pastRids, pastItems)) {
@@ -56,6 +196,10 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
       }
     }
     pastItems.add(nextValue);
+    checkHeapLimit(pastItems);
+  }
+
+  private void checkHeapLimit(Set<OResult> pastItems) {
     if (maxElementsAllowed > 0 && maxElementsAllowed < pastItems.size()) {
       pastItems.clear();
       throw new OCommandExecutionException(
@@ -9,6 +9,7 @@ import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStreamProducer;
 import com.orientechnologies.orient.core.sql.executor.resultset.OMultipleExecutionStream;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -102,6 +103,18 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
     }
   }
 
+  /**
+   * @param recordFilter a condition which is applied to the fetched records by a following step,
+   *     it is evaluated on serialized records to skip the ones which do not match
+   */
+  public void setRecordFilter(OWhereClause recordFilter) {
+    for (OExecutionStep step : getSubSteps()) {
+      if (step instanceof FetchFromClusterExecutionStep) {
+        ((FetchFromClusterExecutionStep) step).setRecordFilter(recordFilter);
+      }
+    }
+  }
+
   protected OClass loadClassFromSchema(String className, OCommandContext ctx) {
     OClass clazz =
         ((ODatabaseDocumentInternal) ctx.getDatabase())
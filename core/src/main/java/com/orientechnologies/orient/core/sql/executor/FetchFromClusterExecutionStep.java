@@ -4,6 +4,9 @@ import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.FilteredRecordReader;
+import com.orientechnologies.orient.core.db.document.RecordReader;
+import com.orientechnologies.orient.core.db.document.SimpleRecordReader;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
@@ -17,6 +20,8 @@ import com.orientechnologies.orient.core.sql.parser.OGtOperator;
 import com.orientechnologies.orient.core.sql.parser.OLeOperator;
 import com.orientechnologies.orient.core.sql.parser.OLtOperator;
 import com.orientechnologies.orient.core.sql.parser.ORid;
+import com.orientechnologies.orient.core.sql.parser.OSerializedRecordFilter;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import java.util.Iterator;
 
 /** @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) */
@@ -28,6 +33,7 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
 
   private int clusterId;
   private Object order;
+  private OWhereClause recordFilter;
 
   public FetchFromClusterExecutionStep(
       int clusterId, OCommandContext ctx, boolean profilingEnabled) {
@@ -49,12 +55,17 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     getPrev().ifPresent(x -> x.start(ctx).close(ctx));
     long minClusterPosition = calculateMinClusterPosition();
     long maxClusterPosition = calculateMaxClusterPosition();
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OSerializedRecordFilter filter = OSerializedRecordFilter.of(recordFilter, clusterId, ctx);
+    // the iterator reads the first record when it is created, so the reader is passed to it
+    RecordReader recordReader =
+        filter == null
+            ? null
+            : new FilteredRecordReader(new SimpleRecordReader(db.isPrefetchRecords()), filter);
     ORecordIteratorCluster iterator =
         new ORecordIteratorCluster(
-            (ODatabaseDocumentInternal) ctx.getDatabase(),
-            clusterId,
-            minClusterPosition,
-            maxClusterPosition);
+            db, clusterId, minClusterPosition, maxClusterPosition, recordReader);
+    iterator.setSequentialScan(true);
     Iterator<OIdentifiable> iter;
     if (ORDER_DESC.equals(order)) {
       iter = iterator.reversed();
@@ -165,11 +176,22 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     this.order = order;
   }
 
+  /**
+   * @param recordFilter a condition which is applied to the fetched records by a following step.
+   *     Records which do not match it for sure are skipped without being deserialized
+   */
+  public void setRecordFilter(OWhereClause recordFilter) {
+    this.recordFilter = recordFilter;
+  }
+
   @Override
   public OResult serialize() {
     OResultInternal result = OExecutionStepInternal.basicSerialize(this);
     result.setProperty("clusterId", clusterId);
     result.setProperty("order", order);
+    if (recordFilter != null) {
+      result.setProperty("recordFilter", recordFilter.serialize());
+    }
     return result;
   }
 
@@ -182,6 +204,10 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
       if (orderProp != null) {
         this.order = ORDER_ASC.equals(fromResult.getProperty("order")) ? ORDER_ASC : ORDER_DESC;
       }
+      if (fromResult.getProperty("recordFilter") != null) {
+        recordFilter = new OWhereClause(-1);
+        recordFilter.deserialize(fromResult.getProperty("recordFilter"));
+      }
     } catch (Exception e) {
       throw OException.wrapException(new OCommandExecutionException(""), e);
     }
@@ -200,6 +226,7 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             this.queryPlanning == null ? null : this.queryPlanning.copy(),
             ctx,
             profilingEnabled);
+    result.recordFilter = this.recordFilter == null ? null : this.recordFilter.copy();
     return result;
   }
 }
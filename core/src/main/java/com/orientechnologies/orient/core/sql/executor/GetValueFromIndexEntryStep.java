@@ -4,8 +4,11 @@ import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.executor.resultset.OBatchLoaderExecutionStream;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /** Created by luigidellaquila on 16/03/17. */
@@ -33,10 +36,15 @@ public class GetValueFromIndexEntryStep extends AbstractExecutionStep {
       throw new IllegalStateException("filter step requires a previous step");
     }
     OExecutionStream resultSet = prev.get().start(ctx);
-    return resultSet.filter(this::filterMap);
+    // THE RECORDS ARE LOADED IN BATCHES, SORTED BY THEIR PHYSICAL POSITION
+    Iterator<Object> values =
+        resultSet.stream(ctx).map(this::extractValue).filter(Objects::nonNull).iterator();
+    return OExecutionStream.batchLoadIterator(
+            values, OBatchLoaderExecutionStream.getMaxBatchSize(ctx))
+        .onClose(resultSet::close);
   }
 
-  private OResult filterMap(OResult result, OCommandContext ctx) {
+  private Object extractValue(OResult result) {
     Object finalVal = result.getProperty("rid");
     if (filterClusterIds != null) {
       if (!(finalVal instanceof OIdentifiable)) {
@@ -48,11 +56,8 @@ public class GetValueFromIndexEntryStep extends AbstractExecutionStep {
         return null;
       }
     }
-    if (finalVal instanceof OIdentifiable) {
-      return new OResultInternal((OIdentifiable) finalVal);
-
-    } else if (finalVal instanceof OResult) {
-      return (OResult) finalVal;
+    if (finalVal instanceof OIdentifiable || finalVal instanceof OResult) {
+      return finalVal;
     }
     return null;
   }
@@ -5,6 +5,8 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatistics;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
@@ -62,7 +64,7 @@ public class IndexSearchDescriptor {
         stats.getIndexStats(
             indexName, size, range, getAdditionalRangeCondition() != null, ctx.getDatabase());
     if (val == -1) {
-      // TODO query the index!
+      val = estimateFromStatistics(ctx);
     }
     if (val >= 0) {
       return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
@@ -70,6 +72,41 @@ public class IndexSearchDescriptor {
     return Integer.MAX_VALUE;
   }
 
+  /**
+   * @return amount of records fetched by the index estimated by statistics of the class collected
+   *     by ANALYZE CLASS, or -1 if the class was not analyzed
+   */
+  private long estimateFromStatistics(OCommandContext ctx) {
+    String className = getIndex().getDefinition().getClassName();
+    if (className == null) {
+      return -1;
+    }
+    OClassStatistics statistics =
+        OClassStatisticsManager.statisticsOf(
+            (ODatabaseDocumentInternal) ctx.getDatabase(), className);
+    if (statistics == null) {
+      return -1;
+    }
+    double selectivity = estimateSelectivity(statistics, ctx);
+    if (selectivity < 0) {
+      return -1;
+    }
+    return Math.round(statistics.getRecords() * selectivity);
+  }
+
+  /**
+   * @return estimated fraction of records of the class fetched by the index, or -1 if it can not
+   *     be estimated
+   */
+  public double estimateSelectivity(OClassStatistics statistics, OCommandContext ctx) {
+    OAndBlock condition = new OAndBlock(-1);
+    condition.getSubBlocks().addAll(getSubBlocks());
+    if (additionalRangeCondition != null) {
+      condition.getSubBlocks().add(additionalRangeCondition);
+    }
+    return statistics.estimateSelectivity(condition, ctx);
+  }
+
   private List<OBooleanExpression> getSubBlocks() {
     if (keyCondition instanceof OAndBlock) {
       return ((OAndBlock) keyCondition).getSubBlocks();
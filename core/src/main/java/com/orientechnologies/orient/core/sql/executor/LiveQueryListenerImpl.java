@@ -12,10 +12,18 @@ import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.query.live.OLiveQueryListenerV2;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -33,6 +41,7 @@ public class LiveQueryListenerImpl implements OLiveQueryListenerV2 {
   private List<ORecordId> rids;
 
   private final Map<Object, Object> params;
+  private Map<String, Object> equalityConditions;
 
   private int token;
   private static final Random random = new Random();
@@ -89,6 +98,7 @@ public class LiveQueryListenerImpl implements OLiveQueryListenerV2 {
     synchronized (random) {
       token = random.nextInt(); // TODO do something better ;-)!
     }
+    this.equalityConditions = calculateEqualityConditions((ODatabaseSession) db);
     OLiveQueryHookV2.subscribe(token, this, (ODatabaseInternal) db);
 
     OCommandContext ctx = new OBasicCommandContext();
@@ -128,6 +138,70 @@ public class LiveQueryListenerImpl implements OLiveQueryListenerV2 {
     return token;
   }
 
+  @Override
+  public String getClassName() {
+    return className;
+  }
+
+  @Override
+  public Map<String, Object> getEqualityConditions() {
+    return equalityConditions;
+  }
+
+  /**
+   * Finds the conditions of the WHERE clause which compare a field to a constant value and have
+   * to be true for every matching record, so that the subscription can be indexed by them.
+   */
+  private Map<String, Object> calculateEqualityConditions(ODatabaseSession db) {
+    OWhereClause where = statement.getWhereClause();
+    if (where == null || rids != null) {
+      return Collections.emptyMap();
+    }
+    List<OAndBlock> flattened = where.flatten();
+    if (flattened == null || flattened.size() != 1) {
+      return Collections.emptyMap();
+    }
+
+    OBasicCommandContext ctx = new OBasicCommandContext(db);
+    ctx.setInputParameters(params);
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (OBooleanExpression block : flattened.get(0).getSubBlocks()) {
+      if (!(block instanceof OBinaryCondition)) {
+        continue;
+      }
+      OBinaryCondition condition = (OBinaryCondition) block;
+      OExpression left = condition.getLeft();
+      OExpression right = condition.getRight();
+      if (!(condition.getOperator() instanceof OEqualsCompareOperator)
+          || left == null
+          || !left.isBaseIdentifier()
+          || !isConstant(right, ctx)) {
+        continue;
+      }
+      String field = left.getDefaultAlias().getStringValue();
+      if (field.startsWith("$") || field.startsWith("@")) {
+        continue;
+      }
+      try {
+        result.putIfAbsent(field, right.execute((OResult) null, ctx));
+      } catch (RuntimeException e) {
+        // not a constant after all, the subscription is not indexed by this condition
+      }
+    }
+    return result;
+  }
+
+  /** @return true if the expression is a literal or an input parameter */
+  private static boolean isConstant(OExpression expression, OCommandContext ctx) {
+    if (expression == null || !(expression.getMathExpression() instanceof OBaseExpression)) {
+      return false;
+    }
+    OBaseExpression base = (OBaseExpression) expression.getMathExpression();
+    return base.getIdentifier() == null
+        && base.getModifier() == null
+        && base.isEarlyCalculated(ctx);
+  }
+
   @Override
   public void onLiveResults(List<OLiveQueryHookV2.OLiveQueryOp> iRecords) {
     execDb.activateOnCurrentThread();
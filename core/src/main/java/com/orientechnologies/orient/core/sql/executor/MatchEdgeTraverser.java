@@ -4,6 +4,7 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.resultset.OBatchLoaderExecutionStream;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OMatchPathItem;
 import com.orientechnologies.orient.core.sql.parser.ORid;
@@ -314,7 +315,8 @@ public class MatchEdgeTraverser {
       return OExecutionStream.singleton(new OResultInternal((OIdentifiable) qR));
     }
     if (qR instanceof Iterable) {
-      return OExecutionStream.iterator(((Iterable) qR).iterator());
+      return OExecutionStream.batchLoadIterator(
+          ((Iterable) qR).iterator(), OBatchLoaderExecutionStream.getMaxBatchSize(iCommandContext));
     }
     return OExecutionStream.empty();
   }
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.resultset.OBatchLoaderExecutionStream;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OFieldMatchPathItem;
 import com.orientechnologies.orient.core.sql.parser.OMatchPathItem;
@@ -35,7 +36,8 @@ public class MatchFieldTraverser extends MatchEdgeTraverser {
       return OExecutionStream.singleton(new OResultInternal((OIdentifiable) qR));
     }
     if (qR instanceof Iterable) {
-      return OExecutionStream.iterator(((Iterable) qR).iterator());
+      return OExecutionStream.batchLoadIterator(
+          ((Iterable) qR).iterator(), OBatchLoaderExecutionStream.getMaxBatchSize(iCommandContext));
     }
     return OExecutionStream.empty();
   }
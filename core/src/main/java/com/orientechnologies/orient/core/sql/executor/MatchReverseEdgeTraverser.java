@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.resultset.OBatchLoaderExecutionStream;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OMatchPathItem;
 import com.orientechnologies.orient.core.sql.parser.ORid;
@@ -51,7 +52,8 @@ public class MatchReverseEdgeTraverser extends MatchEdgeTraverser {
     }
     if (qR instanceof Iterable) {
       Iterable iterable = (Iterable) qR;
-      return OExecutionStream.iterator(iterable.iterator());
+      return OExecutionStream.batchLoadIterator(
+          iterable.iterator(), OBatchLoaderExecutionStream.getMaxBatchSize(iCommandContext));
     }
     return OExecutionStream.empty();
   }
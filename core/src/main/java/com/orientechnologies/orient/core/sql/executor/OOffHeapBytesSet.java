@@ -0,0 +1,177 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.directmemory.MemTrace;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.hash.OMurmurHash3;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of byte arrays stored in direct memory, used by memory intensive query operations to keep
+ * track of the values they already processed without keeping them in heap.
+ *
+ * <p>The set is an open addressing hash table with linear probing: each slot contains the address
+ * of an entry (0 for an empty slot), entries are appended to chunks of direct memory and contain
+ * the hash of the value, its length and its bytes. Entries cannot be removed.
+ *
+ * <p>The set is not thread safe and the memory has to be released calling {@link #free()}.
+ */
+public class OOffHeapBytesSet {
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int MIN_CHUNK_SIZE = 64 * 1024;
+  private static final int MAX_CHUNK_SIZE = 1024 * 1024;
+  private static final int ENTRY_HEADER_SIZE = 2 * Integer.BYTES;
+
+  private final ODirectMemoryAllocator allocator = ODirectMemoryAllocator.instance();
+  private final List<OPointer> chunks = new ArrayList<>();
+
+  private OPointer slots;
+  private int capacity;
+  private int size = 0;
+
+  private ByteBuffer currentChunk;
+  private int chunkOffset;
+  private long memoryUsage;
+
+  public OOffHeapBytesSet() {
+    capacity = INITIAL_CAPACITY;
+    slots = allocator.allocate(capacity * Long.BYTES, true, MemTrace.QUERY_DISTINCT_SET);
+    memoryUsage = (long) capacity * Long.BYTES;
+  }
+
+  /** @return the amount of direct memory allocated by this set, in bytes */
+  public long getMemoryUsage() {
+    return memoryUsage;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean contains(byte[] value) {
+    return findSlot(value, hash(value)) >= 0;
+  }
+
+  /**
+   * adds a value to the set
+   *
+   * @return true if the value was added, false if it was already present
+   */
+  public boolean add(byte[] value) {
+    int hash = hash(value);
+    int slot = findSlot(value, hash);
+    if (slot >= 0) {
+      return false;
+    }
+    slots.getNativeByteBuffer().putLong((-slot - 1) * Long.BYTES, appendEntry(value, hash));
+    size++;
+    if (size * 2 > capacity) {
+      resize(capacity * 2);
+    }
+    return true;
+  }
+
+  /** releases the direct memory used by the set, the set cannot be used anymore after this call */
+  public void free() {
+    if (slots != null) {
+      allocator.deallocate(slots);
+      slots = null;
+    }
+    for (OPointer chunk : chunks) {
+      allocator.deallocate(chunk);
+    }
+    chunks.clear();
+    currentChunk = null;
+    memoryUsage = 0;
+  }
+
+  private static int hash(byte[] value) {
+    return (int) OMurmurHash3.murmurHash3_x64_64(value, 0);
+  }
+
+  /**
+   * @return the index of the slot that contains the value if present, otherwise (-(insertion
+   *     slot) - 1)
+   */
+  private int findSlot(byte[] value, int hash) {
+    ByteBuffer slotsBuffer = slots.getNativeByteBuffer();
+    int mask = capacity - 1;
+    int index = hash & mask;
+    while (true) {
+      long address = slotsBuffer.getLong(index * Long.BYTES);
+      if (address == 0) {
+        return -index - 1;
+      }
+      if (entryEquals(address, value, hash)) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private boolean entryEquals(long address, byte[] value, int hash) {
+    ByteBuffer chunk = chunk(address);
+    int offset = (int) address;
+    if (chunk.getInt(offset) != hash || chunk.getInt(offset + Integer.BYTES) != value.length) {
+      return false;
+    }
+    int dataOffset = offset + ENTRY_HEADER_SIZE;
+    for (int i = 0; i < value.length; i++) {
+      if (chunk.get(dataOffset + i) != value[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ByteBuffer chunk(long address) {
+    return chunks.get((int) (address >>> 32) - 1).getNativeByteBuffer();
+  }
+
+  /**
+   * @return the address of the entry: (chunk index + 1) in the high bits, offset in the chunk in
+   *     the low bits
+   */
+  private long appendEntry(byte[] value, int hash) {
+    int entrySize = ENTRY_HEADER_SIZE + value.length;
+    if (currentChunk == null || chunkOffset + entrySize > currentChunk.capacity()) {
+      int chunkSize = Math.min(MAX_CHUNK_SIZE, MIN_CHUNK_SIZE << Math.min(chunks.size(), 16));
+      OPointer chunk =
+          allocator.allocate(Math.max(chunkSize, entrySize), false, MemTrace.QUERY_DISTINCT_SET);
+      chunks.add(chunk);
+      memoryUsage += Math.max(chunkSize, entrySize);
+      currentChunk = chunk.getNativeByteBuffer();
+      chunkOffset = 0;
+    }
+    int offset = chunkOffset;
+    currentChunk.putInt(offset, hash);
+    currentChunk.putInt(offset + Integer.BYTES, value.length);
+    currentChunk.put(offset + ENTRY_HEADER_SIZE, value);
+    chunkOffset += entrySize;
+    return ((long) chunks.size() << 32) | offset;
+  }
+
+  private void resize(int newCapacity) {
+    OPointer newSlots =
+        allocator.allocate(newCapacity * Long.BYTES, true, MemTrace.QUERY_DISTINCT_SET);
+    ByteBuffer oldBuffer = slots.getNativeByteBuffer();
+    ByteBuffer newBuffer = newSlots.getNativeByteBuffer();
+    int mask = newCapacity - 1;
+    for (int i = 0; i < capacity; i++) {
+      long address = oldBuffer.getLong(i * Long.BYTES);
+      if (address != 0) {
+        int index = chunk(address).getInt((int) address) & mask;
+        while (newBuffer.getLong(index * Long.BYTES) != 0) {
+          index = (index + 1) & mask;
+        }
+        newBuffer.putLong(index * Long.BYTES, address);
+      }
+    }
+    allocator.deallocate(slots);
+    memoryUsage += (long) (newCapacity - capacity) * Long.BYTES;
+    slots = newSlots;
+    capacity = newCapacity;
+  }
+}
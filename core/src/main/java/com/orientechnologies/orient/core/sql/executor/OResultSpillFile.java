@@ -0,0 +1,207 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Temporary file used by memory intensive operations (eg. ORDER BY) to move part of their results
+ * out of the heap. Results are appended to the file and then read back, in the same order, as an
+ * execution stream. The file is deleted when the stream is closed.
+ *
+ * <p>Results that represent records are written with the record serializer of the database,
+ * together with their identity and version. Projections, metadata and temporary properties are
+ * written with the {@link OResultSerializerNetwork}.
+ */
+public class OResultSpillFile {
+  private static final OLogger logger = OLogManager.instance().logger(OResultSpillFile.class);
+
+  private static final byte PROJECTION = 0;
+  private static final byte RECORD = 1;
+
+  private final Path path;
+  private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+  private DataOutputStream out;
+  private long size = 0;
+
+  public OResultSpillFile(String prefix) {
+    try {
+      Path dir = Paths.get(Orient.getTempPath());
+      Files.createDirectories(dir);
+      this.path = Files.createTempFile(dir, prefix, ".tmp");
+      this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot create temporary file for query results"), e);
+    }
+  }
+
+  /** @return the number of results written to the file */
+  public long size() {
+    return size;
+  }
+
+  public void append(OResult result) {
+    try {
+      OResultInternal extra = new OResultInternal();
+      if (result.isElement() || result.isBlob()) {
+        ORecord record = result.getRecord().get();
+        out.writeByte(RECORD);
+        out.writeByte(ORecordInternal.getRecordType(record));
+        ORID rid = record.getIdentity();
+        out.writeInt(rid.getClusterId());
+        out.writeLong(rid.getClusterPosition());
+        out.writeInt(record.getVersion());
+        writeBytes(record.toStream());
+        for (String key : result.getMetadataKeys()) {
+          extra.setMetadata(key, result.getMetadata(key));
+        }
+      } else {
+        out.writeByte(PROJECTION);
+        writeBytes(serialize(result));
+      }
+      if (result instanceof OResultInternal) {
+        OResultInternal internal = (OResultInternal) result;
+        for (String name : internal.getTemporaryProperties()) {
+          extra.setProperty(name, internal.getTemporaryProperty(name));
+        }
+      }
+      writeBytes(serialize(extra));
+      size++;
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot write query results to " + path), e);
+    }
+  }
+
+  private byte[] serialize(OResult result) {
+    BytesContainer bytes = new BytesContainer();
+    serializer.serialize(result, bytes);
+    return bytes.fitBytes();
+  }
+
+  private void writeBytes(byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * completes the writes and returns the content of the file. No more results can be appended
+   * after this call. Closing the stream deletes the file
+   */
+  public OExecutionStream read(OCommandContext ctx) {
+    final DataInputStream in;
+    try {
+      out.close();
+      out = null;
+      in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    } catch (IOException e) {
+      delete();
+      throw OException.wrapException(
+          new OCommandExecutionException("Cannot read query results from " + path), e);
+    }
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+
+    return new OExecutionStream() {
+      private long remaining = size;
+
+      @Override
+      public boolean hasNext(OCommandContext ctx) {
+        return remaining > 0;
+      }
+
+      @Override
+      public OResult next(OCommandContext ctx) {
+        if (remaining <= 0) {
+          throw new IllegalStateException();
+        }
+        try {
+          OResult result = readResult(in, db);
+          remaining--;
+          return result;
+        } catch (IOException e) {
+          throw OException.wrapException(
+              new OCommandExecutionException("Cannot read query results from " + path), e);
+        }
+      }
+
+      @Override
+      public void close(OCommandContext ctx) {
+        try {
+          in.close();
+        } catch (IOException e) {
+          logger.warn("Error on closing temporary file %s", e, path);
+        }
+        delete();
+      }
+    };
+  }
+
+  private OResult readResult(DataInputStream in, ODatabaseDocumentInternal db) throws IOException {
+    byte kind = in.readByte();
+    OResultInternal result;
+    if (kind == RECORD) {
+      byte recordType = in.readByte();
+      ORecordId rid = new ORecordId(in.readInt(), in.readLong());
+      int version = in.readInt();
+      byte[] content = readBytes(in);
+      ORecord record =
+          Orient.instance()
+              .getRecordFactoryManager()
+              .newInstance(recordType, rid.getClusterId(), db);
+      ORecordInternal.fill(record, rid, version, content, false);
+      result = new OResultInternal(record);
+    } else if (kind == PROJECTION) {
+      result = serializer.deserialize(new BytesContainer(readBytes(in)));
+    } else {
+      throw new EOFException("Invalid entry type " + kind + " in " + path);
+    }
+    OResultInternal extra = serializer.deserialize(new BytesContainer(readBytes(in)));
+    for (String name : extra.getPropertyNames()) {
+      result.setTemporaryProperty(name, extra.getProperty(name));
+    }
+    for (String key : extra.getMetadataKeys()) {
+      result.setMetadata(key, extra.getMetadata(key));
+    }
+    return result;
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  /** deletes the file, discarding its content */
+  public void delete() {
+    try {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      logger.warn("Cannot delete temporary file %s", e, path);
+    }
+  }
+}
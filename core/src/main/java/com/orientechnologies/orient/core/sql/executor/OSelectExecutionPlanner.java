@@ -22,6 +22,8 @@ import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatistics;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
 import com.orientechnologies.orient.core.sql.parser.AggregateProjectionSplit;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBaseExpression;
@@ -176,8 +178,7 @@ public class OSelectExecutionPlanner {
         && statement.executinPlanCanBeCached()
         && result.canBeCached()
         && OExecutionPlanCache.getLastInvalidation(db) < planningStart) {
-      OExecutionPlanCache.put(
-          statement.getOriginalStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
+      OExecutionPlanCache.put(statement, result, (ODatabaseDocumentInternal) ctx.getDatabase());
     }
     return result;
   }
@@ -1962,11 +1963,26 @@ public class OSelectExecutionPlanner {
     String className = identifier.getStringValue();
     OSchema schema = getSchemaFromContext(ctx);
 
+    if (schema.getClass(className) != null) {
+      orderConditionsBySelectivity(schema.getClass(className), info, ctx);
+    }
+
+    if (orderByRidAsc == null
+        && from == info.target
+        && schema.getClass(className) != null
+        && handleClassAsTargetWithConcurrentScan(
+            plan, filterClusters, schema.getClass(className), info, ctx, profilingEnabled)) {
+      return;
+    }
+
     AbstractExecutionStep fetcher;
     if (schema.getClass(className) != null) {
-      fetcher =
+      FetchFromClassExecutionStep fetchFromClass =
           new FetchFromClassExecutionStep(
               className, filterClusters, info, ctx, orderByRidAsc, profilingEnabled);
+      // the WHERE condition is applied to the whole class by handleWhere()
+      fetchFromClass.setRecordFilter(info.whereClause);
+      fetcher = fetchFromClass;
     } else if (schema.getView(className) != null) {
       fetcher =
           new FetchFromViewExecutionStep(
@@ -1981,6 +1997,67 @@ public class OSelectExecutionPlanner {
     plan.chain(fetcher);
   }
 
+  /**
+   * splits the scan of a class in one sub-plan per cluster, including the WHERE condition, and
+   * executes them concurrently. This happens only if {@link
+   * OGlobalConfiguration#QUERY_PARALLEL_AUTO} is enabled, there is no active transaction and the
+   * class has more than {@link OGlobalConfiguration#QUERY_PARALLEL_MINIMUM_RECORDS} records
+   *
+   * @return true if the concurrent scan was chained to the plan
+   */
+  private boolean handleClassAsTargetWithConcurrentScan(
+      OSelectExecutionPlan plan,
+      Set<String> filterClusters,
+      OClass clazz,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (!db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_AUTO)
+        || db.isRemote()
+        || db.getTransaction().isActive()
+        || info.perRecordLetClause != null
+        || (info.distributedFetchExecutionPlans != null
+            && info.distributedFetchExecutionPlans.size() > 1)) {
+      return false;
+    }
+    int[] clusterIds;
+    if (filterClusters != null) {
+      clusterIds = classClustersFiltered(db, clazz, filterClusters);
+    } else {
+      clusterIds = clazz.getPolymorphicClusterIds();
+    }
+    if (clusterIds.length < 2
+        || db.countClusterElements(clusterIds)
+            < db.getConfiguration()
+                .getValueAsLong(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS)) {
+      return false;
+    }
+
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (int clusterId : clusterIds) {
+      OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
+      FetchFromClusterExecutionStep fetch =
+          new FetchFromClusterExecutionStep(clusterId, info, ctx, profilingEnabled);
+      fetch.setRecordFilter(info.whereClause);
+      subPlan.chain(fetch);
+      if (info.whereClause != null) {
+        subPlan.chain(
+            new FilterStep(
+                info.whereClause.copy(),
+                ctx,
+                this.info.timeout != null ? this.info.timeout.getVal().longValue() : -1,
+                profilingEnabled));
+      }
+      subPlans.add(subPlan);
+    }
+    plan.chain(new ParallelExecStep(subPlans, true, ctx, profilingEnabled));
+    // WHERE condition already applied
+    info.whereClause = null;
+    info.flattenedWhereClause = null;
+    return true;
+  }
+
   private int[] classClustersFiltered(
       ODatabaseSession db, OClass clazz, Set<String> filterClusters) {
     int[] ids = clazz.getPolymorphicClusterIds();
@@ -2451,6 +2528,10 @@ public class OSelectExecutionPlanner {
     List<IndexSearchDescriptor> optimumIndexSearchDescriptors =
         commonFactor(indexSearchDescriptors);
 
+    if (isClassScanCheaper(clazz, optimumIndexSearchDescriptors, ctx)) {
+      return null;
+    }
+
     List<OExecutionStepInternal> result = null;
     result =
         executionStepFromIndexes(
@@ -2458,6 +2539,72 @@ public class OSelectExecutionPlanner {
     return result;
   }
 
+  /**
+   * checks whether the statistics of the class collected by ANALYZE CLASS show that the indexes
+   * would fetch so large part of the class, that it is cheaper to scan the class
+   */
+  private boolean isClassScanCheaper(
+      OClass clazz, List<IndexSearchDescriptor> descriptors, OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClassStatistics statistics = OClassStatisticsManager.statisticsOf(db, clazz.getName());
+    if (statistics == null) {
+      return false;
+    }
+
+    double selectivity = 0;
+    for (IndexSearchDescriptor descriptor : descriptors) {
+      double descriptorSelectivity = descriptor.estimateSelectivity(statistics, ctx);
+      if (descriptorSelectivity < 0) {
+        return false;
+      }
+      selectivity += descriptorSelectivity;
+    }
+
+    return selectivity
+        > db.getConfiguration()
+            .getValueAsFloat(OGlobalConfiguration.QUERY_STATISTICS_INDEX_MAX_SELECTIVITY);
+  }
+
+  /**
+   * reorders the conditions of a WHERE clause made of a single AND block, so the most selective
+   * conditions according to the statistics of the class collected by ANALYZE CLASS are evaluated
+   * first. Conditions which selectivity can not be estimated are evaluated last.
+   */
+  private void orderConditionsBySelectivity(
+      OClass clazz, QueryPlanningInfo info, OCommandContext ctx) {
+    if (info.whereClause == null
+        || info.flattenedWhereClause == null
+        || info.flattenedWhereClause.size() != 1
+        || info.flattenedWhereClause.get(0).getSubBlocks().size() < 2) {
+      return;
+    }
+    OClassStatistics statistics =
+        OClassStatisticsManager.statisticsOf(
+            (ODatabaseDocumentInternal) ctx.getDatabase(), clazz.getName());
+    if (statistics == null) {
+      return;
+    }
+
+    List<OBooleanExpression> conditions = info.flattenedWhereClause.get(0).getSubBlocks();
+    List<OPair<Double, OBooleanExpression>> estimated = new ArrayList<>();
+    for (OBooleanExpression condition : conditions) {
+      double selectivity = statistics.estimateSelectivity(condition, ctx);
+      estimated.add(new OPair<>(selectivity < 0 ? 1.0 : selectivity, condition));
+    }
+    estimated.sort(Comparator.comparingDouble(x -> x.key));
+
+    OAndBlock ordered = new OAndBlock(-1);
+    for (OPair<Double, OBooleanExpression> item : estimated) {
+      ordered.getSubBlocks().add(item.value);
+    }
+    if (ordered.getSubBlocks().equals(conditions)) {
+      return;
+    }
+
+    info.whereClause = createWhereFrom(ordered);
+    info.flattenedWhereClause = Collections.singletonList(ordered);
+  }
+
   private List<OExecutionStepInternal> executionStepFromIndexes(
       Set<String> filterClusters,
       OClass clazz,
@@ -7,8 +7,10 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /** Created by luigidellaquila on 11/07/16. */
 public class OrderByStep extends AbstractExecutionStep {
@@ -38,59 +40,199 @@ public class OrderByStep extends AbstractExecutionStep {
 
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
-    List<OResult> results;
-    if (prev.isPresent()) {
-      results = init(prev.get(), ctx);
-    } else {
-      results = Collections.emptyList();
+    if (!prev.isPresent()) {
+      return OExecutionStream.empty();
     }
-    return OExecutionStream.resultIterator(results.iterator());
+    if (maxResults != null) {
+      return OExecutionStream.resultIterator(topResults(prev.get(), ctx).iterator());
+    }
+    return sort(prev.get(), ctx);
   }
 
-  private List<OResult> init(OExecutionStepInternal p, OCommandContext ctx) {
+  /**
+   * keeps only the first maxResults items in a bounded heap, instead of sorting the whole input.
+   * Items that compare as equal keep the order they had in the input, as in a stable sort
+   */
+  private List<OResult> topResults(OExecutionStepInternal p, OCommandContext ctx) {
     long timeoutBegin = System.currentTimeMillis();
-    List<OResult> cachedResult = new ArrayList<>();
     final long maxElementsAllowed =
         OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
-    boolean sorted = true;
+    Comparator<SortItem> comparator = sortItemComparator(ctx);
+    // the head of the queue is the greatest item, ie. the first one to be discarded
+    PriorityQueue<SortItem> heap = new PriorityQueue<>(comparator.reversed());
+    long sequence = 0;
     OExecutionStream lastBatch = p.start(ctx);
     while (lastBatch.hasNext(ctx)) {
       if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
         sendTimeout();
       }
 
-      OResult item = lastBatch.next(ctx);
-      cachedResult.add(item);
-      if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
-        throw new OCommandExecutionException(
-            "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
-                + maxElementsAllowed
-                + ") . You can set "
-                + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
-                + " to increase this limit");
+      SortItem item = new SortItem(lastBatch.next(ctx), sequence++);
+      if (heap.size() < maxResults) {
+        heap.add(item);
+        checkHeapLimit(maxElementsAllowed, heap.size());
+      } else if (maxResults > 0 && comparator.compare(item, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(item);
       }
-      sorted = false;
-      // compact, only at twice as the buffer, to avoid to do it at each add
-      if (this.maxResults != null) {
-        long compactThreshold = 2L * maxResults;
-        if (compactThreshold < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
+    }
+    lastBatch.close(ctx);
+    OResult[] result = new OResult[heap.size()];
+    for (int i = result.length - 1; i >= 0; i--) {
+      result[i] = heap.poll().result;
+    }
+    return Arrays.asList(result);
+  }
+
+  /**
+   * sorts the whole input. If {@link OGlobalConfiguration#QUERY_ORDER_BY_SPILL_THRESHOLD} is
+   * enabled, the input is split in sorted runs that are moved to temporary files, then the runs are
+   * merged lazily, while the result is consumed
+   */
+  private OExecutionStream sort(OExecutionStepInternal p, OCommandContext ctx) {
+    long timeoutBegin = System.currentTimeMillis();
+    final long maxElementsAllowed =
+        OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    final long runSize = spillRunSize(ctx, maxElementsAllowed);
+    List<OResult> cachedResult = new ArrayList<>();
+    List<OResultSpillFile> runs = new ArrayList<>();
+    OExecutionStream lastBatch = p.start(ctx);
+    try {
+      while (lastBatch.hasNext(ctx)) {
+        if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+          sendTimeout();
+        }
+
+        cachedResult.add(lastBatch.next(ctx));
+        if (runSize > 0 && cachedResult.size() >= runSize) {
+          runs.add(spill(cachedResult, ctx));
+          cachedResult = new ArrayList<>();
+        } else {
+          checkHeapLimit(maxElementsAllowed, cachedResult.size());
         }
       }
+    } catch (RuntimeException e) {
+      runs.forEach(OResultSpillFile::delete);
+      throw e;
+    } finally {
+      lastBatch.close(ctx);
     }
-    lastBatch.close(ctx);
-    // compact at each batch, if needed
-    if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-      cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-      cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-      sorted = true;
+    cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+    if (runs.isEmpty()) {
+      return OExecutionStream.resultIterator(cachedResult.iterator());
+    }
+    List<OExecutionStream> sources = new ArrayList<>();
+    for (OResultSpillFile run : runs) {
+      sources.add(run.read(ctx));
+    }
+    // the items in heap come last in the input, so they come last also when they compare as equal
+    sources.add(OExecutionStream.resultIterator(cachedResult.iterator()));
+    return new MergeSortedStream(sources, ctx);
+  }
+
+  private long spillRunSize(OCommandContext ctx, long maxElementsAllowed) {
+    long threshold = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.getValueAsLong();
+    if (threshold <= 0) {
+      return -1;
+    }
+    // records modified by the current transaction cannot be moved out of the heap
+    if (ctx.getDatabase() == null || ctx.getDatabase().getTransaction().isActive()) {
+      return -1;
+    }
+    if (maxElementsAllowed >= 0 && maxElementsAllowed < threshold) {
+      return Math.max(1, maxElementsAllowed);
+    }
+    return threshold;
+  }
+
+  private OResultSpillFile spill(List<OResult> items, OCommandContext ctx) {
+    items.sort((a, b) -> orderBy.compare(a, b, ctx));
+    OResultSpillFile file = new OResultSpillFile("orientdb-orderby-");
+    try {
+      for (OResult item : items) {
+        file.append(item);
+      }
+    } catch (RuntimeException e) {
+      file.delete();
+      throw e;
     }
-    if (!sorted) {
-      cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+    return file;
+  }
+
+  private void checkHeapLimit(long maxElementsAllowed, long size) {
+    if (maxElementsAllowed >= 0 && maxElementsAllowed < size) {
+      throw new OCommandExecutionException(
+          "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
+              + maxElementsAllowed
+              + ") . You can set "
+              + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
+              + " to increase this limit");
+    }
+  }
+
+  private Comparator<SortItem> sortItemComparator(OCommandContext ctx) {
+    return (a, b) -> {
+      int result = orderBy.compare(a.result, b.result, ctx);
+      if (result != 0) {
+        return result;
+      }
+      return Long.compare(a.sequence, b.sequence);
+    };
+  }
+
+  private static class SortItem {
+    private final OResult result;
+    private final long sequence;
+
+    private SortItem(OResult result, long sequence) {
+      this.result = result;
+      this.sequence = sequence;
+    }
+  }
+
+  /** k-way merge of streams that are already sorted */
+  private class MergeSortedStream implements OExecutionStream {
+    private final List<OExecutionStream> sources;
+    private final PriorityQueue<SortItem> heads;
+
+    private MergeSortedStream(List<OExecutionStream> sources, OCommandContext ctx) {
+      this.sources = sources;
+      // the sequence of a head is the index of its source, so equal items keep the source order
+      this.heads = new PriorityQueue<>(Math.max(1, sources.size()), sortItemComparator(ctx));
+      for (int i = 0; i < sources.size(); i++) {
+        fetchHead(i, ctx);
+      }
+    }
+
+    private void fetchHead(int source, OCommandContext ctx) {
+      OExecutionStream stream = sources.get(source);
+      if (stream.hasNext(ctx)) {
+        heads.add(new SortItem(stream.next(ctx), source));
+      }
+    }
+
+    @Override
+    public boolean hasNext(OCommandContext ctx) {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public OResult next(OCommandContext ctx) {
+      SortItem head = heads.poll();
+      if (head == null) {
+        throw new IllegalStateException();
+      }
+      fetchHead((int) head.sequence, ctx);
+      return head.result;
+    }
+
+    @Override
+    public void close(OCommandContext ctx) {
+      heads.clear();
+      for (OExecutionStream source : sources) {
+        source.close(ctx);
+      }
     }
-    return cachedResult;
   }
 
   @Override
@@ -2,9 +2,12 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStreamProducer;
 import com.orientechnologies.orient.core.sql.executor.resultset.OMultipleExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OParallelExecutionStream;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -12,19 +15,46 @@ import java.util.stream.Collectors;
 /** @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) */
 public class ParallelExecStep extends AbstractExecutionStep {
   private final List<OInternalExecutionPlan> subExecutionPlans;
+  private final boolean concurrent;
 
   public ParallelExecStep(
       List<OInternalExecutionPlan> subExecuitonPlans,
       OCommandContext ctx,
       boolean profilingEnabled) {
+    this(subExecuitonPlans, false, ctx, profilingEnabled);
+  }
+
+  /**
+   * @param subExecuitonPlans the plans to execute
+   * @param concurrent true if the sub-plans can be executed concurrently, on multiple threads. This
+   *     is allowed only when the order of the results is not relevant
+   * @param ctx the query context
+   * @param profilingEnabled true to enable profiling
+   */
+  public ParallelExecStep(
+      List<OInternalExecutionPlan> subExecuitonPlans,
+      boolean concurrent,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
+    this.concurrent = concurrent;
   }
 
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
     getPrev().ifPresent(x -> x.start(ctx).close(ctx));
 
+    if (canRunConcurrently(ctx)) {
+      return new OParallelExecutionStream(subExecutionPlans, ctx)
+          .start()
+          .map(
+              (result, context) -> {
+                context.setVariable("$current", result);
+                return result;
+              });
+    }
+
     List<OInternalExecutionPlan> stepsIter = subExecutionPlans;
 
     OExecutionStreamProducer res =
@@ -81,6 +111,20 @@ public class ParallelExecStep extends AbstractExecutionStep {
     return result;
   }
 
+  private boolean canRunConcurrently(OCommandContext ctx) {
+    if (!concurrent || subExecutionPlans.size() < 2) {
+      return false;
+    }
+    ODatabaseSession db = ctx.getDatabase();
+    if (!(db instanceof ODatabaseDocumentInternal)
+        || ((ODatabaseDocumentInternal) db).isRemote()
+        || db.getTransaction().isActive()) {
+      // the workers use their own database instances, they cannot see the current transaction
+      return false;
+    }
+    return canBeCached();
+  }
+
   private String addArrows(String input, int[] blockSizes) {
     StringBuilder result = new StringBuilder();
     String[] rows = input.split("\n");
@@ -141,7 +185,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
   private String head(int depth, int indent, int nItems) {
     String ind = OExecutionStepInternal.getIndent(depth, indent);
-    return ind + "+ PARALLEL";
+    return ind + (concurrent ? "+ PARALLEL (CONCURRENT)" : "+ PARALLEL");
   }
 
   private String foot(int[] blockSizes) {
@@ -164,6 +208,10 @@ public class ParallelExecStep extends AbstractExecutionStep {
     return "| " + p;
   }
 
+  public boolean isConcurrent() {
+    return concurrent;
+  }
+
   public List<OExecutionPlan> getSubExecutionPlans() {
     return (List) subExecutionPlans;
   }
@@ -182,6 +230,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
   public OExecutionStep copy(OCommandContext ctx) {
     return new ParallelExecStep(
         subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()),
+        concurrent,
         ctx,
         profilingEnabled);
   }
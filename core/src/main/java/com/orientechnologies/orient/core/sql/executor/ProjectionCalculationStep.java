@@ -4,10 +4,12 @@ import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
+import com.orientechnologies.orient.core.sql.parser.OSerializedProjection;
 
 /** Created by luigidellaquila on 12/07/16. */
 public class ProjectionCalculationStep extends AbstractExecutionStep {
   protected final OProjection projection;
+  private OSerializedProjection serializedProjection;
 
   public ProjectionCalculationStep(
       OProjection projection, OCommandContext ctx, boolean profilingEnabled) {
@@ -21,6 +23,7 @@ public class ProjectionCalculationStep extends AbstractExecutionStep {
       throw new IllegalStateException("Cannot calculate projections without a previous source");
     }
 
+    serializedProjection = OSerializedProjection.of(projection, ctx);
     OExecutionStream parentRs = prev.get().start(ctx);
     return parentRs.map(this::mapResult);
   }
@@ -34,6 +37,13 @@ public class ProjectionCalculationStep extends AbstractExecutionStep {
   }
 
   private OResult calculateProjections(OCommandContext ctx, OResult next) {
+    if (serializedProjection != null) {
+      // projections of plain fields are read from the record content, without deserializing it
+      OResult result = serializedProjection.calculate(next);
+      if (result != null) {
+        return result;
+      }
+    }
     return this.projection.calculateSingle(ctx, next);
   }
 
@@ -0,0 +1,306 @@
+package com.orientechnologies.orient.core.sql.executor.metadata;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBetweenCondition;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OIsNotNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeqOperator;
+import com.orientechnologies.orient.core.sql.parser.ONotBlock;
+import com.orientechnologies.orient.core.sql.parser.OOrBlock;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Statistics of a class collected by ANALYZE CLASS. Statistics are kept separately for each cluster
+ * of the class, so they may be refreshed only for the clusters which were changed, and are merged
+ * on demand.
+ */
+public final class OClassStatistics {
+  private static final int VERSION = 1;
+
+  private final String className;
+  private final Map<Integer, ClusterStatistics> clusters;
+  private final Map<String, OPropertyStatistics> properties = new ConcurrentHashMap<>();
+
+  public OClassStatistics(final String className, final Map<Integer, ClusterStatistics> clusters) {
+    this.className = className;
+    this.clusters = Collections.unmodifiableMap(new TreeMap<>(clusters));
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public Map<Integer, ClusterStatistics> getClusters() {
+    return clusters;
+  }
+
+  public ClusterStatistics getCluster(final int clusterId) {
+    return clusters.get(clusterId);
+  }
+
+  /** @return amount of records of the class at the moment when statistics were collected. */
+  public long getRecords() {
+    long records = 0;
+    for (final ClusterStatistics cluster : clusters.values()) {
+      records += cluster.getRecords();
+    }
+    return records;
+  }
+
+  /** @return merged statistics of the property or {@code null} if property was not analyzed. */
+  public OPropertyStatistics getProperty(final String name) {
+    final OPropertyStatistics result = properties.get(name);
+    if (result != null) {
+      return result;
+    }
+
+    final List<OPropertyStatistics> clusterProperties = new ArrayList<>();
+    for (final ClusterStatistics cluster : clusters.values()) {
+      final OPropertyStatistics property = cluster.getProperties().get(name);
+      if (property != null) {
+        clusterProperties.add(property);
+      } else if (cluster.getRecords() > 0) {
+        // property was not analyzed for this cluster, merged statistics would be wrong
+        return null;
+      }
+    }
+
+    if (clusterProperties.isEmpty()) {
+      return null;
+    }
+
+    final OPropertyStatistics merged = OPropertyStatistics.merge(clusterProperties);
+    properties.put(name, merged);
+    return merged;
+  }
+
+  /**
+   * @return estimated fraction of records of the class which satisfy the condition or {@code -1}
+   *     if it can not be estimated.
+   */
+  public double estimateSelectivity(final OBooleanExpression condition, final OCommandContext ctx) {
+    if (condition instanceof OAndBlock) {
+      double result = -1;
+      for (final OBooleanExpression subBlock : ((OAndBlock) condition).getSubBlocks()) {
+        final double selectivity = estimateSelectivity(subBlock, ctx);
+        if (selectivity >= 0) {
+          result = result < 0 ? selectivity : result * selectivity;
+        }
+      }
+      return result;
+    }
+
+    if (condition instanceof OOrBlock) {
+      double notSelected = 1;
+      for (final OBooleanExpression subBlock : ((OOrBlock) condition).getSubBlocks()) {
+        final double selectivity = estimateSelectivity(subBlock, ctx);
+        if (selectivity < 0) {
+          return -1;
+        }
+        notSelected *= 1 - selectivity;
+      }
+      return 1 - notSelected;
+    }
+
+    if (condition instanceof ONotBlock) {
+      final ONotBlock notBlock = (ONotBlock) condition;
+      final double selectivity = estimateSelectivity(notBlock.getSub(), ctx);
+      if (selectivity < 0) {
+        return -1;
+      }
+      return notBlock.isNegate() ? 1 - selectivity : selectivity;
+    }
+
+    if (condition instanceof OIsNullCondition) {
+      final OPropertyStatistics property =
+          propertyOf(((OIsNullCondition) condition).getExpression());
+      return property == null ? -1 : property.getNullFraction();
+    }
+
+    if (condition instanceof OIsNotNullCondition) {
+      final OPropertyStatistics property =
+          propertyOf(((OIsNotNullCondition) condition).getExpression());
+      return property == null ? -1 : 1 - property.getNullFraction();
+    }
+
+    if (condition instanceof OBetweenCondition) {
+      final OBetweenCondition between = (OBetweenCondition) condition;
+      final OPropertyStatistics property = propertyOf(between.getFirst());
+      if (property == null
+          || !between.getSecond().isEarlyCalculated(ctx)
+          || !between.getThird().isEarlyCalculated(ctx)) {
+        return -1;
+      }
+
+      return property.rangeSelectivity(
+          between.getSecond().execute((OResult) null, ctx),
+          true,
+          between.getThird().execute((OResult) null, ctx),
+          true);
+    }
+
+    if (condition instanceof OBinaryCondition) {
+      final OBinaryCondition binaryCondition = (OBinaryCondition) condition;
+      final OPropertyStatistics property = propertyOf(binaryCondition.getLeft());
+      if (property == null || !binaryCondition.getRight().isEarlyCalculated(ctx)) {
+        return -1;
+      }
+
+      final Object value = binaryCondition.getRight().execute((OResult) null, ctx);
+      final OBinaryCompareOperator operator = binaryCondition.getOperator();
+      if (operator instanceof OEqualsCompareOperator) {
+        return property.equalsSelectivity(value);
+      }
+      if (operator instanceof ONeOperator || operator instanceof ONeqOperator) {
+        return value == null
+            ? 0
+            : Math.max(1 - property.getNullFraction() - property.equalsSelectivity(value), 0);
+      }
+      if (value == null) {
+        return -1;
+      }
+      if (operator instanceof OLtOperator) {
+        return property.rangeSelectivity(null, false, value, false);
+      }
+      if (operator instanceof OLeOperator) {
+        return property.rangeSelectivity(null, false, value, true);
+      }
+      if (operator instanceof OGtOperator) {
+        return property.rangeSelectivity(value, false, null, false);
+      }
+      if (operator instanceof OGeOperator) {
+        return property.rangeSelectivity(value, true, null, false);
+      }
+    }
+
+    return -1;
+  }
+
+  private OPropertyStatistics propertyOf(final OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier()) {
+      return null;
+    }
+
+    return getProperty(expression.getDefaultAlias().getStringValue());
+  }
+
+  public String serialize() {
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final DataOutputStream output = new DataOutputStream(bytes)) {
+        output.writeByte(VERSION);
+        output.writeInt(clusters.size());
+        for (final Map.Entry<Integer, ClusterStatistics> entry : clusters.entrySet()) {
+          output.writeInt(entry.getKey());
+
+          final ClusterStatistics cluster = entry.getValue();
+          output.writeLong(cluster.getRecords());
+          output.writeLong(cluster.getTimestamp());
+          output.writeInt(cluster.getProperties().size());
+          for (final Map.Entry<String, OPropertyStatistics> property :
+              cluster.getProperties().entrySet()) {
+            output.writeUTF(property.getKey());
+            property.getValue().write(output);
+          }
+        }
+      }
+
+      return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new ODatabaseException("Error during serialization of statistics of class " + className),
+          e);
+    }
+  }
+
+  public static OClassStatistics deserialize(final String className, final String value) {
+    try (final DataInputStream input =
+        new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+      final int version = input.readByte();
+      if (version != VERSION) {
+        throw new ODatabaseException(
+            "Unsupported version " + version + " of statistics of class " + className);
+      }
+
+      final int clustersCount = input.readInt();
+      final Map<Integer, ClusterStatistics> clusters = new HashMap<>(clustersCount);
+      for (int i = 0; i < clustersCount; i++) {
+        final int clusterId = input.readInt();
+        final long records = input.readLong();
+        final long timestamp = input.readLong();
+
+        final int propertiesCount = input.readInt();
+        final Map<String, OPropertyStatistics> properties = new HashMap<>(propertiesCount);
+        for (int j = 0; j < propertiesCount; j++) {
+          final String name = input.readUTF();
+          properties.put(name, OPropertyStatistics.read(input));
+        }
+
+        clusters.put(clusterId, new ClusterStatistics(records, timestamp, properties));
+      }
+
+      return new OClassStatistics(className, clusters);
+    } catch (final IOException | IllegalArgumentException e) {
+      throw OException.wrapException(
+          new ODatabaseException(
+              "Error during deserialization of statistics of class " + className),
+          e);
+    }
+  }
+
+  /** Statistics of properties of the records of a single cluster. */
+  public static final class ClusterStatistics {
+    private final long records;
+    private final long timestamp;
+    private final Map<String, OPropertyStatistics> properties;
+
+    public ClusterStatistics(
+        final long records,
+        final long timestamp,
+        final Map<String, OPropertyStatistics> properties) {
+      this.records = records;
+      this.timestamp = timestamp;
+      this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+    }
+
+    /** @return amount of records of the cluster at the moment when statistics were collected. */
+    public long getRecords() {
+      return records;
+    }
+
+    /** @return time when statistics were collected. */
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    public Map<String, OPropertyStatistics> getProperties() {
+      return properties;
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package com.orientechnologies.orient.core.sql.executor.metadata;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OMetadataUpdateListener;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Collects statistics of classes by sampling their clusters, keeps them in the storage
+ * configuration and caches them for the query planner.
+ */
+public class OClassStatisticsManager implements OMetadataUpdateListener {
+  private static final OLogger logger =
+      OLogManager.instance().logger(OClassStatisticsManager.class);
+
+  public static final String PROPERTY_PREFIX = "statistics.";
+
+  /** Maximum amount of properties of schemaless records for which statistics are collected. */
+  private static final int MAX_PROPERTIES = 64;
+
+  /** If cluster is sparser than that, sampling by random positions misses too often. */
+  private static final double MIN_RANDOM_SAMPLING_DENSITY = 0.25;
+
+  private final ConcurrentHashMap<String, Optional<OClassStatistics>> statistics =
+      new ConcurrentHashMap<>();
+
+  /**
+   * @return statistics of the class or {@code null} if the class was not analyzed or statistics are
+   *     not supported by the database.
+   */
+  public static OClassStatistics statisticsOf(
+      final ODatabaseDocumentInternal db, final String className) {
+    final OClassStatisticsManager manager = db.getSharedContext().getClassStatisticsManager();
+    if (manager == null) {
+      return null;
+    }
+
+    return manager.getStatistics(db, className);
+  }
+
+  /** @return statistics of the class or {@code null} if the class was not analyzed. */
+  public OClassStatistics getStatistics(
+      final ODatabaseDocumentInternal db, final String className) {
+    final String key = className.toLowerCase(Locale.ENGLISH);
+    return statistics.computeIfAbsent(key, k -> load(db, className, k)).orElse(null);
+  }
+
+  private static Optional<OClassStatistics> load(
+      final ODatabaseDocumentInternal db, final String className, final String key) {
+    final String value = db.getStorage().getConfiguration().getProperty(PROPERTY_PREFIX + key);
+    if (value == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(OClassStatistics.deserialize(className, value));
+    } catch (final ODatabaseException e) {
+      logger.warn(
+          "Statistics of class %s are ignored, class should be analyzed again", e, className);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Collects statistics of the class and stores them in the storage configuration.
+   *
+   * @param sampleSize amount of records to sample from all clusters of the class
+   * @param full if {@code false}, only clusters which size was changed by more than {@link
+   *     OGlobalConfiguration#QUERY_STATISTICS_REFRESH_THRESHOLD} since the previous analysis are
+   *     sampled again
+   */
+  public OClassStatistics analyze(
+      final ODatabaseDocumentInternal db,
+      final OClass clazz,
+      final int sampleSize,
+      final boolean full) {
+    final OClassStatistics previous = full ? null : getStatistics(db, clazz.getName());
+    final float refreshThreshold =
+        db.getConfiguration()
+            .getValueAsFloat(OGlobalConfiguration.QUERY_STATISTICS_REFRESH_THRESHOLD);
+
+    final Set<String> schemaProperties = new HashSet<>();
+    for (final OProperty property : clazz.properties()) {
+      schemaProperties.add(property.getName());
+    }
+
+    final int[] clusterIds = clazz.getPolymorphicClusterIds();
+    final long totalRecords = Math.max(db.countClusterElements(clusterIds), 1);
+
+    final Map<Integer, OClassStatistics.ClusterStatistics> clusters = new HashMap<>();
+    final Map<Integer, RecordSampler> samplers = new HashMap<>();
+    for (final int clusterId : clusterIds) {
+      if (clusterId < 0) {
+        continue;
+      }
+
+      final long records = db.countClusterElements(clusterId);
+      final OClassStatistics.ClusterStatistics previousCluster =
+          previous != null ? previous.getCluster(clusterId) : null;
+      if (previousCluster != null
+          && Math.abs(records - previousCluster.getRecords())
+              <= refreshThreshold * previousCluster.getRecords()) {
+        clusters.put(clusterId, previousCluster);
+        continue;
+      }
+
+      final long clusterSampleSize =
+          Math.max((long) Math.ceil((double) sampleSize * records / totalRecords), 1);
+      samplers.put(
+          clusterId, sampleCluster(db, clusterId, records, clusterSampleSize, schemaProperties));
+    }
+
+    // a property which is met only in some clusters is null in all the records sampled from the
+    // others, statistics of the class can be merged only if every cluster has it
+    final Set<String> sampledProperties = new HashSet<>();
+    for (final RecordSampler sampler : samplers.values()) {
+      sampledProperties.addAll(sampler.collectors.keySet());
+    }
+    for (final Map.Entry<Integer, RecordSampler> entry : samplers.entrySet()) {
+      final RecordSampler sampler = entry.getValue();
+      sampler.addAbsent(sampledProperties);
+      clusters.put(
+          entry.getKey(),
+          new OClassStatistics.ClusterStatistics(
+              sampler.records, System.currentTimeMillis(), sampler.build()));
+    }
+
+    final OClassStatistics result = new OClassStatistics(clazz.getName(), clusters);
+    final String key = clazz.getName().toLowerCase(Locale.ENGLISH);
+    db.getStorage().setProperty(PROPERTY_PREFIX + key, result.serialize());
+    statistics.put(key, Optional.of(result));
+
+    return result;
+  }
+
+  private static RecordSampler sampleCluster(
+      final ODatabaseDocumentInternal db,
+      final int clusterId,
+      final long records,
+      final long sampleSize,
+      final Set<String> schemaProperties) {
+    final RecordSampler sampler = new RecordSampler(records, schemaProperties);
+
+    if (records > 0) {
+      final long[] range = db.getClusterDataRange(clusterId);
+      final long span = range[1] - range[0] + 1;
+
+      if (sampleSize < records
+          && range[0] >= 0
+          && (double) records / span >= MIN_RANDOM_SAMPLING_DENSITY) {
+        // sample by random positions, so cluster is not read completely
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Set<Long> probed = new HashSet<>();
+        final long maxProbes = Math.min(span, (long) (sampleSize / MIN_RANDOM_SAMPLING_DENSITY));
+
+        while (sampler.samples < sampleSize && probed.size() < maxProbes) {
+          final long position = range[0] + random.nextLong(span);
+          if (!probed.add(position)) {
+            continue;
+          }
+
+          try {
+            final ORecord record = db.load(new ORecordId(clusterId, position));
+            if (record instanceof ODocument) {
+              sampler.add((ODocument) record);
+            }
+          } catch (final ORecordNotFoundException e) {
+            // record was removed, go on with the next position
+          }
+        }
+      } else {
+        final double probability = Math.min((double) sampleSize / records, 1.0);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (final ORecord record : db.browseCluster(db.getClusterNameById(clusterId))) {
+          if (record instanceof ODocument
+              && (probability >= 1.0 || random.nextDouble() < probability)) {
+            sampler.add((ODocument) record);
+          }
+        }
+      }
+    }
+
+    return sampler;
+  }
+
+  private static final class RecordSampler {
+    private final Map<String, OPropertyStatistics.Collector> collectors = new LinkedHashMap<>();
+    private final long records;
+    private long samples;
+    private boolean truncated;
+
+    private RecordSampler(final long records, final Set<String> schemaProperties) {
+      this.records = records;
+      for (final String property : schemaProperties) {
+        collectors.put(property, new OPropertyStatistics.Collector(0));
+      }
+    }
+
+    private void add(final ODocument document) {
+      for (final String field : document.fieldNames()) {
+        if (!collectors.containsKey(field)) {
+          if (collectors.size() < MAX_PROPERTIES) {
+            collectors.put(field, new OPropertyStatistics.Collector(samples));
+          } else {
+            truncated = true;
+          }
+        }
+      }
+
+      for (final Map.Entry<String, OPropertyStatistics.Collector> entry : collectors.entrySet()) {
+        entry.getValue().add(document.field(entry.getKey()));
+      }
+      samples++;
+    }
+
+    /**
+     * Adds the properties which were not met in the sampled records, unless some of the met ones
+     * were not collected, so it is unknown if the others are absent.
+     */
+    private void addAbsent(final Set<String> properties) {
+      if (truncated) {
+        return;
+      }
+      for (final String property : properties) {
+        if (!collectors.containsKey(property) && collectors.size() < MAX_PROPERTIES) {
+          collectors.put(property, new OPropertyStatistics.Collector(samples));
+        }
+      }
+    }
+
+    private Map<String, OPropertyStatistics> build() {
+      final Map<String, OPropertyStatistics> result = new HashMap<>();
+      for (final Map.Entry<String, OPropertyStatistics.Collector> entry : collectors.entrySet()) {
+        result.put(entry.getKey(), entry.getValue().build(records));
+      }
+      return result;
+    }
+  }
+
+  @Override
+  public void onSchemaUpdate(final String database, final OSchemaShared schema) {}
+
+  @Override
+  public void onIndexManagerUpdate(
+      final String database, final OIndexManagerAbstract indexManager) {}
+
+  @Override
+  public void onFunctionLibraryUpdate(final String database) {}
+
+  @Override
+  public void onSequenceLibraryUpdate(final String database) {}
+
+  @Override
+  public void onStorageConfigurationUpdate(
+      final String database, final OStorageConfiguration update) {
+    // statistics may be updated by another node, they are loaded again on demand
+    statistics.clear();
+  }
+}
@@ -0,0 +1,171 @@
+package com.orientechnologies.orient.core.sql.executor.metadata;
+
+import com.orientechnologies.common.hash.OMurmurHash3;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * HyperLogLog sketch which estimates amount of distinct values with relative error of about {@code
+ * 1.04 / sqrt(2^precision)} using {@code 2^precision} bytes of memory. Sketches of the same
+ * precision can be merged, so distinct values of the union of several data sets are estimated
+ * without access to the data.
+ */
+public final class OHyperLogLog {
+  public static final int MIN_PRECISION = 4;
+  public static final int MAX_PRECISION = 16;
+
+  private static final int SEED = 0x9747b28c;
+
+  private final int precision;
+  private final byte[] registers;
+
+  public OHyperLogLog(final int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(
+          "Precision of HyperLogLog should be between "
+              + MIN_PRECISION
+              + " and "
+              + MAX_PRECISION
+              + " but was "
+              + precision);
+    }
+
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  private OHyperLogLog(final int precision, final byte[] registers) {
+    this.precision = precision;
+    this.registers = registers;
+  }
+
+  public int getPrecision() {
+    return precision;
+  }
+
+  /** Adds value to the sketch, {@code null} values are ignored. */
+  public void add(final Object value) {
+    if (value == null) {
+      return;
+    }
+
+    addHash(hash(value));
+  }
+
+  public void addHash(final long hash) {
+    final int index = (int) (hash >>> (Long.SIZE - precision));
+    final long rest = (hash << precision) | (1L << (precision - 1));
+    final byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+
+    if (registers[index] < rank) {
+      registers[index] = rank;
+    }
+  }
+
+  /** Merges the given sketch into the current one. */
+  public void merge(final OHyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(
+          "Sketches with different precision can not be merged ("
+              + precision
+              + " and "
+              + other.precision
+              + ")");
+    }
+
+    for (int i = 0; i < registers.length; i++) {
+      if (registers[i] < other.registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  public long estimate() {
+    final int m = registers.length;
+
+    double sum = 0;
+    int zeros = 0;
+    for (final byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+
+    final double estimate = alpha(m) * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      // linear counting is more precise for small cardinalities
+      return Math.round(m * Math.log((double) m / zeros));
+    }
+
+    return Math.round(estimate);
+  }
+
+  public OHyperLogLog copy() {
+    return new OHyperLogLog(precision, registers.clone());
+  }
+
+  public byte[] toBytes() {
+    final byte[] result = new byte[registers.length + 1];
+    result[0] = (byte) precision;
+    System.arraycopy(registers, 0, result, 1, registers.length);
+    return result;
+  }
+
+  public static OHyperLogLog fromBytes(final byte[] bytes) {
+    final int precision = bytes[0];
+    if (precision < MIN_PRECISION
+        || precision > MAX_PRECISION
+        || bytes.length != (1 << precision) + 1) {
+      throw new IllegalArgumentException("Invalid content of HyperLogLog sketch");
+    }
+
+    return new OHyperLogLog(precision, Arrays.copyOfRange(bytes, 1, bytes.length));
+  }
+
+  /**
+   * Calculates hash code of value. Integer numbers and dates are hashed by their numeric values, so
+   * the same number stored as {@code int} and {@code long} is counted once.
+   */
+  public static long hash(final Object value) {
+    if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      return mix(((Number) value).longValue());
+    }
+    if (value instanceof Date) {
+      return mix(((Date) value).getTime());
+    }
+    if (value instanceof OIdentifiable) {
+      return OMurmurHash3.murmurHash3_x64_64(
+          ((OIdentifiable) value).getIdentity().toString().getBytes(StandardCharsets.UTF_8), SEED);
+    }
+
+    return OMurmurHash3.murmurHash3_x64_64(value.toString().getBytes(StandardCharsets.UTF_8), SEED);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  private static double alpha(final int m) {
+    switch (m) {
+      case 16:
+        return 0.673;
+      case 32:
+        return 0.697;
+      case 64:
+        return 0.709;
+      default:
+        return 0.7213 / (1 + 1.079 / m);
+    }
+  }
+}
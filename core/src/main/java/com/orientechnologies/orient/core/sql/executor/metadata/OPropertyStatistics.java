@@ -0,0 +1,444 @@
+package com.orientechnologies.orient.core.sql.executor.metadata;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Statistics of values of a single property: fraction of null values, estimated amount of distinct
+ * values and equi-depth histogram of values. Histogram is built only if all values of the property
+ * are numbers or dates, or if all of them are strings.
+ */
+public final class OPropertyStatistics {
+  public static final int HISTOGRAM_BUCKETS = 32;
+  public static final int SKETCH_PRECISION = 9;
+
+  private static final byte HISTOGRAM_NONE = 0;
+  private static final byte HISTOGRAM_NUMERIC = 1;
+  private static final byte HISTOGRAM_STRING = 2;
+
+  /** Amount of records of the analyzed data set. */
+  private final long records;
+
+  /** Amount of sampled records and amount of sampled records without value. */
+  private final long samples;
+
+  private final long nulls;
+  private final OHyperLogLog sketch;
+
+  /** Quantiles of sampled values, {@code quantiles[i]} is the {@code i/HISTOGRAM_BUCKETS} one. */
+  private final double[] numericQuantiles;
+
+  private final String[] stringQuantiles;
+
+  private OPropertyStatistics(
+      final long records,
+      final long samples,
+      final long nulls,
+      final OHyperLogLog sketch,
+      final double[] numericQuantiles,
+      final String[] stringQuantiles) {
+    this.records = records;
+    this.samples = samples;
+    this.nulls = nulls;
+    this.sketch = sketch;
+    this.numericQuantiles = numericQuantiles;
+    this.stringQuantiles = stringQuantiles;
+  }
+
+  public long getRecords() {
+    return records;
+  }
+
+  public double getNullFraction() {
+    if (samples == 0) {
+      return 0;
+    }
+
+    return (double) nulls / samples;
+  }
+
+  public boolean hasHistogram() {
+    return numericQuantiles != null || stringQuantiles != null;
+  }
+
+  /**
+   * @return estimated amount of distinct non-null values in the data set. Amount of distinct values
+   *     in the sample is scaled to the whole data set only if almost all sampled values are
+   *     distinct, otherwise it is assumed that the sample already contains most of the values.
+   */
+  public long getDistinctValues() {
+    final long nonNullSamples = samples - nulls;
+    if (nonNullSamples <= 0) {
+      return 0;
+    }
+
+    final long nonNullRecords = Math.max(Math.round(records * (1 - getNullFraction())), 1);
+    long distinct = Math.max(Math.min(sketch.estimate(), nonNullSamples), 1);
+    if (nonNullSamples < nonNullRecords && distinct >= 0.9 * nonNullSamples) {
+      distinct = Math.round((double) distinct * nonNullRecords / nonNullSamples);
+    }
+
+    return Math.min(distinct, nonNullRecords);
+  }
+
+  /** @return estimated fraction of records which property is equal to the given value. */
+  public double equalsSelectivity(final Object value) {
+    if (value == null) {
+      return 0;
+    }
+
+    final long distinct = getDistinctValues();
+    if (distinct == 0) {
+      return 0;
+    }
+
+    if (hasHistogram()) {
+      final Object key = toHistogramKey(value);
+      if (key != null && (lessFraction(key) >= 1 || lessOrEqualFraction(key) <= 0)) {
+        // value is out of range of sampled values
+        return 0;
+      }
+    }
+
+    return (1 - getNullFraction()) / distinct;
+  }
+
+  /**
+   * @param from lower bound of the range, or {@code null} if the range is not bounded from below
+   * @param to upper bound of the range, or {@code null} if the range is not bounded from above
+   * @return estimated fraction of records which property is in the given range or {@code -1} if
+   *     selectivity can not be estimated.
+   */
+  public double rangeSelectivity(
+      final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+    if (!hasHistogram()) {
+      return -1;
+    }
+
+    double upper = 1;
+    if (to != null) {
+      final Object key = toHistogramKey(to);
+      if (key == null) {
+        return -1;
+      }
+
+      upper = toInclusive ? lessOrEqualFraction(key) : lessFraction(key);
+    }
+
+    double lower = 0;
+    if (from != null) {
+      final Object key = toHistogramKey(from);
+      if (key == null) {
+        return -1;
+      }
+
+      lower = fromInclusive ? lessFraction(key) : lessOrEqualFraction(key);
+    }
+
+    return Math.max(upper - lower, 0) * (1 - getNullFraction());
+  }
+
+  /** @return key comparable with the histogram quantiles or {@code null} if there is no such key */
+  private Object toHistogramKey(final Object value) {
+    if (numericQuantiles != null) {
+      if (value instanceof Number) {
+        return ((Number) value).doubleValue();
+      }
+      if (value instanceof Date) {
+        return (double) ((Date) value).getTime();
+      }
+    } else if (stringQuantiles != null && value instanceof String) {
+      return value;
+    }
+
+    return null;
+  }
+
+  /** @return estimated fraction of non-null values which are less than the given key. */
+  private double lessFraction(final Object key) {
+    int index = 0;
+    while (index <= HISTOGRAM_BUCKETS && compareQuantile(index, key) < 0) {
+      index++;
+    }
+
+    return fraction(index, key);
+  }
+
+  /** @return estimated fraction of non-null values which are less than or equal to the given key */
+  private double lessOrEqualFraction(final Object key) {
+    int index = 0;
+    while (index <= HISTOGRAM_BUCKETS && compareQuantile(index, key) <= 0) {
+      index++;
+    }
+
+    return fraction(index, key);
+  }
+
+  /**
+   * @param index amount of quantiles which precede the key
+   */
+  private double fraction(final int index, final Object key) {
+    if (index == 0) {
+      return 0;
+    }
+    if (index > HISTOGRAM_BUCKETS) {
+      return 1;
+    }
+
+    // key is inside the bucket, values are assumed to be distributed uniformly inside the bucket
+    double inBucket = 0.5;
+    if (numericQuantiles != null) {
+      final double bucketStart = numericQuantiles[index - 1];
+      final double bucketEnd = numericQuantiles[index];
+      if (bucketEnd > bucketStart) {
+        inBucket = ((Double) key - bucketStart) / (bucketEnd - bucketStart);
+        inBucket = Math.min(Math.max(inBucket, 0), 1);
+      }
+    }
+
+    return (index - 1 + inBucket) / HISTOGRAM_BUCKETS;
+  }
+
+  private int compareQuantile(final int index, final Object key) {
+    if (numericQuantiles != null) {
+      return Double.compare(numericQuantiles[index], (Double) key);
+    }
+
+    return stringQuantiles[index].compareTo((String) key);
+  }
+
+  /**
+   * Merges statistics of several data sets, for example of several clusters of the same class. Null
+   * fractions and sketches are merged exactly, histograms are merged approximately by treating each
+   * quantile of each data set as a point which weights as a bucket of this data set.
+   */
+  public static OPropertyStatistics merge(final List<OPropertyStatistics> statistics) {
+    if (statistics.size() == 1) {
+      return statistics.get(0);
+    }
+
+    long records = 0;
+    long samples = 0;
+    long nulls = 0;
+    final OHyperLogLog sketch = new OHyperLogLog(SKETCH_PRECISION);
+
+    boolean numeric = true;
+    boolean string = true;
+    for (final OPropertyStatistics item : statistics) {
+      records += item.records;
+      samples += item.samples;
+      nulls += item.nulls;
+      sketch.merge(item.sketch);
+
+      if (item.samples > item.nulls) {
+        numeric &= item.numericQuantiles != null;
+        string &= item.stringQuantiles != null;
+      }
+    }
+
+    if (samples == nulls) {
+      numeric = false;
+      string = false;
+    }
+
+    double[] numericQuantiles = null;
+    String[] stringQuantiles = null;
+    if (numeric || string) {
+      final List<WeightedQuantile> points = new ArrayList<>();
+      for (final OPropertyStatistics item : statistics) {
+        if (item.samples == item.nulls) {
+          continue;
+        }
+
+        final double weight =
+            (double) item.records * (1 - item.getNullFraction()) / HISTOGRAM_BUCKETS;
+        for (int i = 0; i <= HISTOGRAM_BUCKETS; i++) {
+          final Object value = numeric ? item.numericQuantiles[i] : item.stringQuantiles[i];
+          points.add(new WeightedQuantile(value, i == 0 ? 0 : weight));
+        }
+      }
+
+      Collections.sort(points);
+
+      double total = 0;
+      for (final WeightedQuantile point : points) {
+        total += point.weight;
+      }
+
+      final Object[] quantiles = new Object[HISTOGRAM_BUCKETS + 1];
+      quantiles[0] = points.get(0).value;
+
+      double cumulative = 0;
+      int pointIndex = 0;
+      for (int i = 1; i <= HISTOGRAM_BUCKETS; i++) {
+        final double target = total * i / HISTOGRAM_BUCKETS;
+        while (pointIndex < points.size() - 1
+            && cumulative + points.get(pointIndex).weight < target) {
+          cumulative += points.get(pointIndex).weight;
+          pointIndex++;
+        }
+        quantiles[i] = points.get(pointIndex).value;
+      }
+      quantiles[HISTOGRAM_BUCKETS] = points.get(points.size() - 1).value;
+
+      if (numeric) {
+        numericQuantiles = new double[HISTOGRAM_BUCKETS + 1];
+        for (int i = 0; i <= HISTOGRAM_BUCKETS; i++) {
+          numericQuantiles[i] = (Double) quantiles[i];
+        }
+      } else {
+        stringQuantiles = Arrays.copyOf(quantiles, quantiles.length, String[].class);
+      }
+    }
+
+    return new OPropertyStatistics(
+        records, samples, nulls, sketch, numericQuantiles, stringQuantiles);
+  }
+
+  public void write(final DataOutput output) throws IOException {
+    output.writeLong(records);
+    output.writeLong(samples);
+    output.writeLong(nulls);
+
+    final byte[] sketchBytes = sketch.toBytes();
+    output.writeInt(sketchBytes.length);
+    output.write(sketchBytes);
+
+    if (numericQuantiles != null) {
+      output.writeByte(HISTOGRAM_NUMERIC);
+      for (final double quantile : numericQuantiles) {
+        output.writeDouble(quantile);
+      }
+    } else if (stringQuantiles != null) {
+      output.writeByte(HISTOGRAM_STRING);
+      for (final String quantile : stringQuantiles) {
+        output.writeUTF(quantile);
+      }
+    } else {
+      output.writeByte(HISTOGRAM_NONE);
+    }
+  }
+
+  public static OPropertyStatistics read(final DataInput input) throws IOException {
+    final long records = input.readLong();
+    final long samples = input.readLong();
+    final long nulls = input.readLong();
+
+    final byte[] sketchBytes = new byte[input.readInt()];
+    input.readFully(sketchBytes);
+    final OHyperLogLog sketch = OHyperLogLog.fromBytes(sketchBytes);
+
+    double[] numericQuantiles = null;
+    String[] stringQuantiles = null;
+    final byte histogramType = input.readByte();
+    if (histogramType == HISTOGRAM_NUMERIC) {
+      numericQuantiles = new double[HISTOGRAM_BUCKETS + 1];
+      for (int i = 0; i <= HISTOGRAM_BUCKETS; i++) {
+        numericQuantiles[i] = input.readDouble();
+      }
+    } else if (histogramType == HISTOGRAM_STRING) {
+      stringQuantiles = new String[HISTOGRAM_BUCKETS + 1];
+      for (int i = 0; i <= HISTOGRAM_BUCKETS; i++) {
+        stringQuantiles[i] = input.readUTF();
+      }
+    }
+
+    return new OPropertyStatistics(
+        records, samples, nulls, sketch, numericQuantiles, stringQuantiles);
+  }
+
+  private static final class WeightedQuantile implements Comparable<WeightedQuantile> {
+    private final Object value;
+    private final double weight;
+
+    private WeightedQuantile(final Object value, final double weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int compareTo(final WeightedQuantile other) {
+      return ((Comparable<Object>) value).compareTo(other.value);
+    }
+  }
+
+  /** Collects statistics of values of a property in the sample of records. */
+  public static final class Collector {
+    private static final int MAX_STRING_LENGTH = 256;
+
+    private final OHyperLogLog sketch = new OHyperLogLog(SKETCH_PRECISION);
+    private long samples;
+    private long nulls;
+
+    private List<Double> numbers = new ArrayList<>();
+    private List<String> strings = new ArrayList<>();
+
+    /**
+     * @param skippedSamples amount of already sampled records which did not contain the property
+     */
+    public Collector(final long skippedSamples) {
+      this.samples = skippedSamples;
+      this.nulls = skippedSamples;
+    }
+
+    public void add(final Object value) {
+      samples++;
+      if (value == null) {
+        nulls++;
+        return;
+      }
+
+      sketch.add(value);
+
+      if (value instanceof Number && numbers != null) {
+        strings = null;
+        numbers.add(((Number) value).doubleValue());
+      } else if (value instanceof Date && numbers != null) {
+        strings = null;
+        numbers.add((double) ((Date) value).getTime());
+      } else if (value instanceof String && strings != null) {
+        numbers = null;
+        final String string = (String) value;
+        strings.add(
+            string.length() > MAX_STRING_LENGTH ? string.substring(0, MAX_STRING_LENGTH) : string);
+      } else {
+        numbers = null;
+        strings = null;
+      }
+    }
+
+    /** @param records amount of records in the data set from which sample was taken */
+    public OPropertyStatistics build(final long records) {
+      double[] numericQuantiles = null;
+      String[] stringQuantiles = null;
+
+      if (numbers != null && !numbers.isEmpty()) {
+        Collections.sort(numbers);
+        numericQuantiles = new double[HISTOGRAM_BUCKETS + 1];
+        for (int i = 0; i <= HISTOGRAM_BUCKETS; i++) {
+          numericQuantiles[i] = numbers.get(quantileIndex(i, numbers.size()));
+        }
+      } else if (strings != null && !strings.isEmpty()) {
+        Collections.sort(strings);
+        stringQuantiles = new String[HISTOGRAM_BUCKETS + 1];
+        for (int i = 0; i <= HISTOGRAM_BUCKETS; i++) {
+          stringQuantiles[i] = strings.get(quantileIndex(i, strings.size()));
+        }
+      }
+
+      return new OPropertyStatistics(
+          Math.max(records, samples), samples, nulls, sketch, numericQuantiles, stringQuantiles);
+    }
+
+    private static int quantileIndex(final int quantile, final int size) {
+      return (int) Math.round((double) quantile * (size - 1) / HISTOGRAM_BUCKETS);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.orientechnologies.orient.core.sql.executor.resultset;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.OContextualRecordId;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Execution stream of the values of an iterator, like {@link OIteratorExecutionStream}, which
+ * loads the records of the ids in batches with {@link
+ * ODatabaseDocumentInternal#loadRecords(List)}, so that the records of a batch are read from the
+ * storage in the order of their physical position. The batches start with one record and double up
+ * to the maximum size, so queries which read only the first results do not load more records than
+ * needed. The ids of the records which do not exist are skipped, also when the maximum size is 1
+ * and every record is loaded alone.
+ */
+public final class OBatchLoaderExecutionStream implements OExecutionStream {
+  private final Iterator<?> iterator;
+  private final int maxBatchSize;
+  private int batchSize = 1;
+
+  private final List<OResult> batch = new ArrayList<>();
+  private int next;
+
+  public OBatchLoaderExecutionStream(Iterator<?> iterator, int maxBatchSize) {
+    this.iterator = iterator;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /** @return the maximum number of records loaded together, 1 if the batch loading is disabled */
+  public static int getMaxBatchSize(OCommandContext ctx) {
+    final ODatabaseSession db = ctx.getDatabase();
+    if (db == null) {
+      return 1;
+    }
+    return Math.max(
+        1, db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_RECORD_BATCH_SIZE));
+  }
+
+  @Override
+  public boolean hasNext(OCommandContext ctx) {
+    if (next == batch.size()) {
+      fetchBatch(ctx);
+    }
+    return next < batch.size();
+  }
+
+  @Override
+  public OResult next(OCommandContext ctx) {
+    if (!hasNext(ctx)) {
+      throw new IllegalStateException();
+    }
+    return batch.get(next++);
+  }
+
+  @Override
+  public void close(OCommandContext ctx) {}
+
+  private void fetchBatch(OCommandContext ctx) {
+    batch.clear();
+    next = 0;
+    while (batch.isEmpty() && iterator.hasNext()) {
+      final List<Object> values = new ArrayList<>(batchSize);
+      final List<ORID> rids = new ArrayList<>(batchSize);
+      while (values.size() < batchSize && iterator.hasNext()) {
+        final Object value = iterator.next();
+        if (isToLoad(value)) {
+          rids.add(((OIdentifiable) value).getIdentity());
+        }
+        values.add(value);
+      }
+      batchSize = Math.min(batchSize << 1, maxBatchSize);
+
+      final Iterator<ORecord> records =
+          rids.isEmpty()
+              ? Collections.emptyIterator()
+              : ((ODatabaseDocumentInternal) ctx.getDatabase()).loadRecords(rids).iterator();
+      for (final Object value : values) {
+        if (isToLoad(value)) {
+          final ORecord record = records.next();
+          if (record != null) {
+            final OResultInternal result = new OResultInternal(record);
+            if (value instanceof OContextualRecordId) {
+              result.addMetadata(((OContextualRecordId) value).getContext());
+            }
+            batch.add(result);
+          }
+        } else {
+          batch.add(toResult(value));
+        }
+      }
+    }
+  }
+
+  private static boolean isToLoad(Object value) {
+    return value instanceof OIdentifiable && !(value instanceof ORecord);
+  }
+
+  private static OResult toResult(Object value) {
+    if (value instanceof OResult) {
+      return (OResult) value;
+    }
+    if (value instanceof OIdentifiable) {
+      return new OResultInternal((OIdentifiable) value);
+    }
+    final OResultInternal result = new OResultInternal();
+    result.setProperty("value", value);
+    return result;
+  }
+}
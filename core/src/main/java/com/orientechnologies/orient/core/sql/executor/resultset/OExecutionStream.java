@@ -53,6 +53,15 @@ public interface OExecutionStream {
     return new OLoaderExecutionStream(iterator);
   }
 
+  /**
+   * Like {@link #iterator(Iterator)}, but loads the records of the ids in batches of up to the
+   * maximum size, sorted by their physical position. The ids of the records which do not exist are
+   * skipped, whatever the maximum size.
+   */
+  public static OExecutionStream batchLoadIterator(Iterator<?> iterator, int maxBatchSize) {
+    return new OBatchLoaderExecutionStream(iterator, Math.max(1, maxBatchSize));
+  }
+
   public static OExecutionStream empty() {
     return OEmptyExecutionStream.EMPTY;
   }
@@ -0,0 +1,179 @@
+package com.orientechnologies.orient.core.sql.executor.resultset;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Execution stream that runs a list of execution plans concurrently and merges their results.
+ *
+ * <p>Each worker thread works on its own copy of the database and pulls the next plan to execute
+ * from a shared counter, so no more than {@link OGlobalConfiguration#QUERY_PARALLEL_MAX_THREADS}
+ * threads are used regardless of the number of plans. Results are passed to the consumer through a
+ * bounded queue ({@link OGlobalConfiguration#QUERY_PARALLEL_RESULT_QUEUE_SIZE}): when the queue is
+ * full the workers wait, when the stream is closed (eg. because a LIMIT was reached) or one of the
+ * workers fails the remaining workers stop at the next record.
+ *
+ * <p>The plans are executed on copies (see {@link OInternalExecutionPlan#copy(OCommandContext)}),
+ * so they have to be cacheable, and the order of the results is not defined.
+ */
+public final class OParallelExecutionStream implements OExecutionStream {
+  private static final OLogger logger =
+      OLogManager.instance().logger(OParallelExecutionStream.class);
+
+  private static final long POLL_TIMEOUT_MS = 100;
+
+  private final List<OInternalExecutionPlan> plans;
+  private final OCommandContext ctx;
+  private final BlockingQueue<OResult> queue;
+  private final AtomicInteger nextPlan = new AtomicInteger();
+  private final AtomicInteger runningWorkers = new AtomicInteger();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private volatile boolean closed = false;
+
+  private OResult nextItem;
+
+  public OParallelExecutionStream(List<OInternalExecutionPlan> plans, OCommandContext ctx) {
+    this.plans = plans;
+    this.ctx = ctx;
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    this.queue =
+        new ArrayBlockingQueue<>(
+            Math.max(
+                1,
+                db.getConfiguration()
+                    .getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE)));
+  }
+
+  /** Starts the workers, it has to be invoked from the thread that owns the current database. */
+  public OParallelExecutionStream start() {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    int maxThreads =
+        db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS);
+    int workers = Math.max(1, Math.min(plans.size(), maxThreads));
+    runningWorkers.set(workers);
+    for (int i = 0; i < workers; i++) {
+      // the copy has to be created here, copy() re-activates the original database on the
+      // current thread
+      ODatabaseDocumentInternal localDb = db.copy();
+      db.activateOnCurrentThread();
+      db.getSharedContext().getOrientDB().execute(() -> runWorker(localDb));
+    }
+    return this;
+  }
+
+  private void runWorker(ODatabaseDocumentInternal localDb) {
+    try {
+      localDb.activateOnCurrentThread();
+      int current;
+      while (!closed && (current = nextPlan.getAndIncrement()) < plans.size()) {
+        OBasicCommandContext workerCtx = new OBasicCommandContext(localDb);
+        workerCtx.setParentWithoutOverridingChild(ctx);
+        OInternalExecutionPlan plan = plans.get(current).copy(workerCtx);
+        OExecutionStream stream = plan.start();
+        try {
+          while (!closed && stream.hasNext(workerCtx)) {
+            enqueue(stream.next(workerCtx));
+          }
+        } finally {
+          stream.close(workerCtx);
+          plan.close();
+        }
+      }
+    } catch (Throwable t) {
+      failure.compareAndSet(null, t);
+      closed = true;
+    } finally {
+      try {
+        localDb.close();
+      } catch (RuntimeException e) {
+        logger.error("Error on closing the database used by a parallel query", e);
+      }
+      ODatabaseRecordThreadLocal.instance().remove();
+      runningWorkers.decrementAndGet();
+    }
+  }
+
+  private void enqueue(OResult item) throws InterruptedException {
+    while (!closed) {
+      if (queue.offer(item, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext(OCommandContext ctx) {
+    while (nextItem == null) {
+      checkFailure();
+      if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
+        close(ctx);
+        throw new OCommandInterruptedException("The command has been interrupted");
+      }
+      try {
+        // read the counter before polling: a worker enqueues its last result before leaving
+        boolean finished = runningWorkers.get() == 0;
+        nextItem = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (nextItem == null && finished) {
+          checkFailure();
+          return false;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close(ctx);
+        throw OException.wrapException(
+            new OCommandInterruptedException("The command has been interrupted"), e);
+      }
+    }
+    return true;
+  }
+
+  private void checkFailure() {
+    Throwable t = failure.get();
+    if (t != null) {
+      closed = true;
+      queue.clear();
+      if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      }
+      if (t instanceof Error) {
+        throw (Error) t;
+      }
+      throw OException.wrapException(
+          new OCommandExecutionException("Error on executing parallel query"), t);
+    }
+  }
+
+  @Override
+  public OResult next(OCommandContext ctx) {
+    if (!hasNext(ctx)) {
+      throw new IllegalStateException();
+    }
+    OResult result = nextItem;
+    nextItem = null;
+    return result;
+  }
+
+  @Override
+  public void close(OCommandContext ctx) {
+    closed = true;
+    nextItem = null;
+    queue.clear();
+  }
+}
@@ -34,13 +34,18 @@ import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionAstar;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionBoth;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionBothE;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionBothV;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionConnectedComponents;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionDeltaStepping;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionDijkstra;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionIn;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionInE;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionInV;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionLabelPropagation;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionMultiSourceBFS;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionOut;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionOutE;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionOutV;
+import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionPageRank;
 import com.orientechnologies.orient.core.sql.functions.graph.OSQLFunctionShortestPath;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionAbsoluteValue;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionAverage;
@@ -63,6 +68,9 @@ import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionSysdate;
 import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionThrowCME;
 import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionUUID;
 import com.orientechnologies.orient.core.sql.functions.sequence.OSQLFunctionSequence;
+import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionApproxCountDistinct;
+import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionApproxMedian;
+import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionApproxPercentile;
 import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionMedian;
 import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionMode;
 import com.orientechnologies.orient.core.sql.functions.stat.OSQLFunctionPercentile;
@@ -112,6 +120,9 @@ public final class ODefaultSQLFunctionFactory extends OSQLFunctionFactoryTemplat
     register(OSQLFunctionMode.NAME, OSQLFunctionMode.class);
     register(OSQLFunctionPercentile.NAME, OSQLFunctionPercentile.class);
     register(OSQLFunctionMedian.NAME, OSQLFunctionMedian.class);
+    register(OSQLFunctionApproxPercentile.NAME, OSQLFunctionApproxPercentile.class);
+    register(OSQLFunctionApproxMedian.NAME, OSQLFunctionApproxMedian.class);
+    register(OSQLFunctionApproxCountDistinct.NAME, OSQLFunctionApproxCountDistinct.class);
     register(OSQLFunctionVariance.NAME, OSQLFunctionVariance.class);
     register(OSQLFunctionStandardDeviation.NAME, OSQLFunctionStandardDeviation.class);
     register(OSQLFunctionUUID.NAME, OSQLFunctionUUID.class);
@@ -135,5 +146,10 @@ public final class ODefaultSQLFunctionFactory extends OSQLFunctionFactoryTemplat
     register(OSQLFunctionShortestPath.NAME, OSQLFunctionShortestPath.class);
     register(OSQLFunctionDijkstra.NAME, OSQLFunctionDijkstra.class);
     register(OSQLFunctionAstar.NAME, OSQLFunctionAstar.class);
+    register(OSQLFunctionPageRank.NAME, OSQLFunctionPageRank.class);
+    register(OSQLFunctionConnectedComponents.NAME, OSQLFunctionConnectedComponents.class);
+    register(OSQLFunctionLabelPropagation.NAME, OSQLFunctionLabelPropagation.class);
+    register(OSQLFunctionMultiSourceBFS.NAME, OSQLFunctionMultiSourceBFS.class);
+    register(OSQLFunctionDeltaStepping.NAME, OSQLFunctionDeltaStepping.class);
   }
 }
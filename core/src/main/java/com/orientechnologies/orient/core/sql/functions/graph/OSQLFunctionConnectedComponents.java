@@ -0,0 +1,68 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.algorithm.OWeaklyConnectedComponents;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.Map;
+
+/**
+ * Finds the weakly connected components of a graph snapshot, in parallel. The component of a
+ * vertex is identified by the smallest vertex id of the component.
+ *
+ * <p>Syntax: <code>connectedComponents(&lt;snapshot&gt;, [&lt;options&gt;])</code>, options are
+ * <code>writeProperty</code> and <code>batchSize</code>.
+ */
+public class OSQLFunctionConnectedComponents extends OSQLFunctionGraphAlgorithmAbstract {
+  public static final String NAME = "connectedComponents";
+
+  public OSQLFunctionConnectedComponents() {
+    super(NAME, 1, 2);
+  }
+
+  @Override
+  protected String getValueName() {
+    return "component";
+  }
+
+  @Override
+  protected AlgorithmResult compute(
+      final OGraphSnapshot snapshot,
+      final Object[] params,
+      final Map<String, Object> options,
+      final ORecord currentRecord,
+      final OCommandContext context) {
+    final int[] components = OWeaklyConnectedComponents.compute(snapshot);
+    return new AlgorithmResult() {
+      @Override
+      protected Object getValue(final int vertex) {
+        return components[vertex];
+      }
+    };
+  }
+
+  @Override
+  public String getSyntax() {
+    return "connectedComponents(<snapshot>, [<options>]) \n"
+        + " // options  : {writeProperty: '<property>', batchSize: 1000}";
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.algorithm.ODeltaSteppingShortestPaths;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.Map;
+
+/**
+ * Shortest paths on a graph snapshot from one or more source vertices by delta-stepping, in
+ * parallel. Returns the reachable vertices with the total weight of the cheapest path from the
+ * nearest source. The weights are the ones the snapshot was created with.
+ *
+ * <p>Syntax: <code>sssp(&lt;snapshot&gt;, &lt;sources&gt;, [&lt;options&gt;])</code>, options are
+ * <code>direction</code> (OUT), <code>delta</code> (the average weight), <code>defaultWeight
+ * </code> (1, the weight of edges without weight), <code>writeProperty</code> and <code>batchSize
+ * </code>.
+ */
+public class OSQLFunctionDeltaStepping extends OSQLFunctionGraphAlgorithmAbstract {
+  public static final String NAME = "sssp";
+  public static final String PARAM_DELTA = "delta";
+  public static final String PARAM_DEFAULT_WEIGHT = "defaultWeight";
+
+  public OSQLFunctionDeltaStepping() {
+    super(NAME, 2, 3);
+  }
+
+  @Override
+  protected String getValueName() {
+    return "distance";
+  }
+
+  @Override
+  protected AlgorithmResult compute(
+      final OGraphSnapshot snapshot,
+      final Object[] params,
+      final Map<String, Object> options,
+      final ORecord currentRecord,
+      final OCommandContext context) {
+    final double[] distances =
+        ODeltaSteppingShortestPaths.compute(
+            snapshot,
+            toVertices(snapshot, params[0], currentRecord, context),
+            direction(options),
+            number(options.get(PARAM_DELTA), 0),
+            number(options.get(PARAM_DEFAULT_WEIGHT), 1));
+    return new AlgorithmResult() {
+      @Override
+      protected boolean contains(final int vertex) {
+        return distances[vertex] != Double.POSITIVE_INFINITY;
+      }
+
+      @Override
+      protected Object getValue(final int vertex) {
+        return distances[vertex];
+      }
+    };
+  }
+
+  @Override
+  public String getSyntax() {
+    return "sssp(<snapshot>, <sources>, [<options>]) \n"
+        + " // options  : {direction: 'OUT', delta: 1.0, defaultWeight: 1.0,"
+        + " writeProperty: '<property>', batchSize: 1000}";
+  }
+}
@@ -19,11 +19,26 @@
  */
 package com.orientechnologies.orient.core.sql.functions.graph;
 
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotPaths;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.executor.OResult;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -35,15 +50,20 @@ import java.util.Map;
  *
  * <p>If property is not defined in edge or is null, distance between vertexes are 0.
  *
+ * <p>The optional fifth parameter is a map of options, with the <code>snapshot</code> option the
+ * search runs on a graph snapshot instead of the database. The weight property must be the one the
+ * snapshot was created with.
+ *
  * @author Luca Garulli (l.garulli--(at)--orientdb.com)
  */
 public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
   public static final String NAME = "dijkstra";
+  public static final String PARAM_SNAPSHOT = "snapshot";
 
   private String paramWeightFieldName;
 
   public OSQLFunctionDijkstra() {
-    super(NAME, 3, 4);
+    super(NAME, 3, 5);
   }
 
   public LinkedList<OVertex> execute(
@@ -52,10 +72,88 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
       final Object iCurrentResult,
       final Object[] iParams,
       final OCommandContext iContext) {
+    final String snapshot = snapshotName(iParams);
+    if (snapshot != null) {
+      return executeOnSnapshot(snapshot, iCurrentRecord, iParams, iContext);
+    }
     return new OSQLFunctionAstar()
         .execute(this, iCurrentRecord, iCurrentResult, toAStarParams(iParams), iContext);
   }
 
+  private static String snapshotName(final Object[] iParams) {
+    if (iParams.length < 5 || iParams[4] == null) {
+      return null;
+    }
+    Map<String, Object> options = null;
+    if (iParams[4] instanceof Map) {
+      options = (Map<String, Object>) iParams[4];
+    } else if (iParams[4] instanceof OIdentifiable) {
+      options = ((ODocument) ((OIdentifiable) iParams[4]).getRecord()).toMap();
+    }
+    final Object snapshot = options == null ? null : options.get(PARAM_SNAPSHOT);
+    return snapshot == null ? null : snapshot.toString();
+  }
+
+  private LinkedList<OVertex> executeOnSnapshot(
+      final String snapshotName,
+      final OIdentifiable iCurrentRecord,
+      final Object[] iParams,
+      final OCommandContext iContext) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) iContext.getDatabase();
+    final OGraphSnapshot snapshot = OGraphSnapshotManager.getSnapshot(db, snapshotName);
+
+    final String weightFieldName = OIOUtils.getStringContent(iParams[2]);
+    if (!snapshot.hasWeights() || !snapshot.getWeightProperty().equalsIgnoreCase(weightFieldName)) {
+      throw new OCommandExecutionException(
+          "Graph snapshot '"
+              + snapshot.getName()
+              + "' has no weights from the edge property '"
+              + weightFieldName
+              + "'");
+    }
+
+    ODirection direction = ODirection.OUT;
+    if (iParams.length > 3 && iParams[3] != null) {
+      direction = ODirection.valueOf(iParams[3].toString().toUpperCase(Locale.ENGLISH));
+    }
+
+    final ORecord record = iCurrentRecord != null ? iCurrentRecord.getRecord() : null;
+    final int source = snapshot.getVertex(toRid(iParams[0], "sourceVertex", record, iContext));
+    final int destination =
+        snapshot.getVertex(toRid(iParams[1], "destinationVertex", record, iContext));
+
+    final LinkedList<OVertex> result = new LinkedList<>();
+    if (source < 0 || destination < 0) {
+      return result;
+    }
+    for (final int vertex :
+        OGraphSnapshotPaths.cheapestPath(
+            snapshot, source, destination, direction, null, iContext)) {
+      final ORecord vertexRecord = db.load(snapshot.getRid(vertex));
+      if (vertexRecord instanceof OElement) {
+        ((OElement) vertexRecord).asVertex().ifPresent(result::add);
+      }
+    }
+    return result;
+  }
+
+  private static ORID toRid(
+      Object param, final String name, final ORecord record, final OCommandContext iContext) {
+    if (OMultiValue.isMultiValue(param)) {
+      if (OMultiValue.getSize(param) > 1)
+        throw new IllegalArgumentException("Only one " + name + " is allowed");
+      param = OMultiValue.getFirstValue(param);
+      if (param instanceof OResult && ((OResult) param).isElement()) {
+        param = ((OResult) param).getElement().get();
+      }
+    }
+    param = OSQLHelper.getValue(param, record, iContext);
+    if (!(param instanceof OIdentifiable)) {
+      throw new IllegalArgumentException("The " + name + " must be a vertex record");
+    }
+    return ((OIdentifiable) param).getIdentity();
+  }
+
   private Object[] toAStarParams(Object[] iParams) {
     Object[] result = new Object[4];
     result[0] = iParams[0];
@@ -75,7 +173,9 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
   }
 
   public String getSyntax() {
-    return "dijkstra(<sourceVertex>, <destinationVertex>, <weightEdgeFieldName>, [<direction>])";
+    return "dijkstra(<sourceVertex>, <destinationVertex>, <weightEdgeFieldName>, [<direction>,"
+        + " [<options>]]) \n"
+        + " // options  : {snapshot: '<graphSnapshotName>'}";
   }
 
   protected float getDistance(final OVertex node, final OVertex target) {
@@ -0,0 +1,317 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of the functions which run a graph algorithm on a graph snapshot, see <code>
+ * CREATE GRAPH SNAPSHOT</code>. The first parameter is the name of the snapshot and the last one
+ * a map of options.
+ *
+ * <p>The function returns the results of the vertices as a stream of rows with the vertex and its
+ * value, to use with <code>expand()</code>. With the <code>writeProperty</code> option the values
+ * are written to that property of the vertices instead, in transactions of <code>batchSize</code>
+ * vertices, and the function returns the number of updated vertices.
+ */
+public abstract class OSQLFunctionGraphAlgorithmAbstract extends OSQLFunctionAbstract {
+  public static final String PARAM_WRITE_PROPERTY = "writeProperty";
+  public static final String PARAM_BATCH_SIZE = "batchSize";
+  public static final String PARAM_DIRECTION = "direction";
+  public static final String VERTEX = "vertex";
+
+  /** Results of an algorithm, by vertex id. */
+  protected abstract static class AlgorithmResult {
+    /** @return false if there is no result for the vertex, like for unreachable vertices */
+    protected boolean contains(final int vertex) {
+      return true;
+    }
+
+    /** @return the result of the vertex, which is written back with the write option */
+    protected abstract Object getValue(int vertex);
+
+    /** Adds additional properties to the row of the vertex. */
+    protected void addProperties(final int vertex, final OResultInternal row) {}
+  }
+
+  protected OSQLFunctionGraphAlgorithmAbstract(
+      final String iName, final int iMinParams, final int iMaxParams) {
+    super(iName, iMinParams, iMaxParams);
+  }
+
+  /** @return the name of the property of the value in the rows of the stream */
+  protected abstract String getValueName();
+
+  /**
+   * Runs the algorithm.
+   *
+   * @param params the parameters between the snapshot name and the options
+   */
+  protected abstract AlgorithmResult compute(
+      OGraphSnapshot snapshot,
+      Object[] params,
+      Map<String, Object> options,
+      ORecord currentRecord,
+      OCommandContext context);
+
+  @Override
+  public Object execute(
+      final Object iThis,
+      final OIdentifiable iCurrentRecord,
+      final Object iCurrentResult,
+      final Object[] iParams,
+      final OCommandContext iContext) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) iContext.getDatabase();
+    final OGraphSnapshot snapshot =
+        OGraphSnapshotManager.getSnapshot(db, OIOUtils.getStringContent(iParams[0]));
+
+    final ORecord record = iCurrentRecord != null ? iCurrentRecord.getRecord() : null;
+    Map<String, Object> options = Collections.emptyMap();
+    Object[] params = Arrays.copyOfRange(iParams, 1, iParams.length);
+    if (params.length > getMinParams() - 1) {
+      final Map<String, Object> last = toOptions(params[params.length - 1]);
+      if (last != null) {
+        options = last;
+        params = Arrays.copyOf(params, params.length - 1);
+      }
+    }
+
+    final AlgorithmResult result = compute(snapshot, params, options, record, iContext);
+
+    final Object writeProperty = options.get(PARAM_WRITE_PROPERTY);
+    if (writeProperty != null) {
+      int batchSize =
+          integer(
+              options.get(PARAM_BATCH_SIZE),
+              db.getConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.GRAPH_ALGORITHM_WRITE_BATCH_SIZE));
+      return write(db, snapshot, result, writeProperty.toString(), Math.max(1, batchSize));
+    }
+    return stream(snapshot, result);
+  }
+
+  private static Map<String, Object> toOptions(final Object param) {
+    if (param instanceof Map) {
+      return (Map<String, Object>) param;
+    } else if (param instanceof ODocument) {
+      return ((ODocument) param).toMap();
+    } else if (param instanceof OResult && !((OResult) param).isElement()) {
+      final OResult result = (OResult) param;
+      final Map<String, Object> options = new HashMap<>();
+      for (final String name : result.getPropertyNames()) {
+        options.put(name, result.getProperty(name));
+      }
+      return options;
+    }
+    return null;
+  }
+
+  /**
+   * @return a lazy and reusable stream of the rows of the vertices with a result, it is a
+   *     collection so that it can be the value of a projection
+   */
+  private Collection<OResult> stream(final OGraphSnapshot snapshot, final AlgorithmResult result) {
+    final String valueName = getValueName();
+    return new AbstractCollection<OResult>() {
+      private int size = -1;
+
+      @Override
+      public int size() {
+        if (size < 0) {
+          int count = 0;
+          for (int vertex = 0; vertex < snapshot.getVertexCount(); vertex++) {
+            if (result.contains(vertex)) {
+              count++;
+            }
+          }
+          size = count;
+        }
+        return size;
+      }
+
+      @Override
+      public Iterator<OResult> iterator() {
+        return new Iterator<OResult>() {
+          private int next = advance(0);
+
+          private int advance(int vertex) {
+            while (vertex < snapshot.getVertexCount() && !result.contains(vertex)) {
+              vertex++;
+            }
+            return vertex;
+          }
+
+          @Override
+          public boolean hasNext() {
+            return next < snapshot.getVertexCount();
+          }
+
+          @Override
+          public OResult next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final int vertex = next;
+            next = advance(next + 1);
+
+            final OResultInternal row = new OResultInternal();
+            row.setProperty(VERTEX, snapshot.getRid(vertex));
+            row.setProperty(valueName, result.getValue(vertex));
+            result.addProperties(vertex, row);
+            return row;
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Writes the values to the vertices, in the order of their record ids so that the clusters are
+   * read sequentially. Vertices deleted after the snapshot was created are skipped.
+   *
+   * @return the number of updated vertices
+   */
+  private static long write(
+      final ODatabaseDocumentInternal db,
+      final OGraphSnapshot snapshot,
+      final AlgorithmResult result,
+      final String property,
+      final int batchSize) {
+    long written = 0;
+    int inBatch = 0;
+    db.begin();
+    try {
+      for (int vertex = 0; vertex < snapshot.getVertexCount(); vertex++) {
+        if (!result.contains(vertex)) {
+          continue;
+        }
+        final ORecord record = db.load(snapshot.getRid(vertex));
+        if (!(record instanceof ODocument)) {
+          continue;
+        }
+        final ODocument document = (ODocument) record;
+        document.setProperty(property, result.getValue(vertex));
+        document.save();
+        written++;
+
+        if (++inBatch == batchSize) {
+          db.commit();
+          db.begin();
+          inBatch = 0;
+        }
+      }
+      db.commit();
+    } catch (RuntimeException e) {
+      db.rollback();
+      throw e;
+    }
+    return written;
+  }
+
+  /** @return the ids of the vertices, vertices which are not in the snapshot are skipped */
+  protected static int[] toVertices(
+      final OGraphSnapshot snapshot,
+      final Object param,
+      final ORecord currentRecord,
+      final OCommandContext context) {
+    final Object value = OSQLHelper.getValue(param, currentRecord, context);
+    final Iterable<Object> items =
+        OMultiValue.isMultiValue(value)
+            ? OMultiValue.getMultiValueIterable(value)
+            : Collections.singletonList(value);
+
+    int[] result = new int[16];
+    int size = 0;
+    for (final Object item : items) {
+      ORID rid = null;
+      if (item instanceof OResult) {
+        rid = ((OResult) item).getIdentity().orElse(null);
+      } else if (item instanceof OIdentifiable) {
+        rid = ((OIdentifiable) item).getIdentity();
+      } else if (item instanceof String && ORecordId.isA((String) item)) {
+        rid = new ORecordId((String) item);
+      }
+      final int vertex = rid == null ? -1 : snapshot.getVertex(rid);
+      if (vertex >= 0) {
+        if (size == result.length) {
+          result = Arrays.copyOf(result, size << 1);
+        }
+        result[size++] = vertex;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  protected static ODirection direction(final Map<String, Object> options) {
+    final Object direction = options.get(PARAM_DIRECTION);
+    if (direction == null) {
+      return ODirection.OUT;
+    }
+    if (direction instanceof ODirection) {
+      return (ODirection) direction;
+    }
+    return ODirection.valueOf(direction.toString().toUpperCase(Locale.ENGLISH));
+  }
+
+  protected static int integer(final Object value, final int defaultValue) {
+    if (value instanceof Number) {
+      return ((Number) value).intValue();
+    }
+    if (value != null) {
+      return Integer.parseInt(value.toString());
+    }
+    return defaultValue;
+  }
+
+  protected static double number(final Object value, final double defaultValue) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value != null) {
+      return Double.parseDouble(value.toString());
+    }
+    return defaultValue;
+  }
+}
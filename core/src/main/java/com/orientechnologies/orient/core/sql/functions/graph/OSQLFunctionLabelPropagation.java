@@ -0,0 +1,72 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.algorithm.OLabelPropagation;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.Map;
+
+/**
+ * Detects the communities of a graph snapshot by label propagation, in parallel. The community of
+ * a vertex is identified by a vertex id.
+ *
+ * <p>Syntax: <code>labelPropagation(&lt;snapshot&gt;, [&lt;options&gt;])</code>, options are
+ * <code>maxIterations</code> (10), <code>writeProperty</code> and <code>batchSize</code>.
+ */
+public class OSQLFunctionLabelPropagation extends OSQLFunctionGraphAlgorithmAbstract {
+  public static final String NAME = "labelPropagation";
+  public static final String PARAM_MAX_ITERATIONS = "maxIterations";
+
+  public OSQLFunctionLabelPropagation() {
+    super(NAME, 1, 2);
+  }
+
+  @Override
+  protected String getValueName() {
+    return "label";
+  }
+
+  @Override
+  protected AlgorithmResult compute(
+      final OGraphSnapshot snapshot,
+      final Object[] params,
+      final Map<String, Object> options,
+      final ORecord currentRecord,
+      final OCommandContext context) {
+    final int[] labels =
+        OLabelPropagation.compute(
+            snapshot,
+            integer(options.get(PARAM_MAX_ITERATIONS), OLabelPropagation.DEFAULT_MAX_ITERATIONS));
+    return new AlgorithmResult() {
+      @Override
+      protected Object getValue(final int vertex) {
+        return labels[vertex];
+      }
+    };
+  }
+
+  @Override
+  public String getSyntax() {
+    return "labelPropagation(<snapshot>, [<options>]) \n"
+        + " // options  : {maxIterations: 10, writeProperty: '<property>', batchSize: 1000}";
+  }
+}
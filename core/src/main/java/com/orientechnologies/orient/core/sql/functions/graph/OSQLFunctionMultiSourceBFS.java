@@ -0,0 +1,87 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.algorithm.OMultiSourceBFS;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import java.util.Map;
+
+/**
+ * Breadth first search on a graph snapshot from one or more source vertices, in parallel. Returns
+ * the reachable vertices with the number of edges from the nearest source, and that source.
+ *
+ * <p>Syntax: <code>bfs(&lt;snapshot&gt;, &lt;sources&gt;, [&lt;options&gt;])</code>, options are
+ * <code>direction</code> (OUT), <code>maxDepth</code>, <code>writeProperty</code> and <code>
+ * batchSize</code>.
+ */
+public class OSQLFunctionMultiSourceBFS extends OSQLFunctionGraphAlgorithmAbstract {
+  public static final String NAME = "bfs";
+  public static final String PARAM_MAX_DEPTH = "maxDepth";
+
+  public OSQLFunctionMultiSourceBFS() {
+    super(NAME, 2, 3);
+  }
+
+  @Override
+  protected String getValueName() {
+    return "distance";
+  }
+
+  @Override
+  protected AlgorithmResult compute(
+      final OGraphSnapshot snapshot,
+      final Object[] params,
+      final Map<String, Object> options,
+      final ORecord currentRecord,
+      final OCommandContext context) {
+    final OMultiSourceBFS.Result result =
+        OMultiSourceBFS.compute(
+            snapshot,
+            toVertices(snapshot, params[0], currentRecord, context),
+            direction(options),
+            integer(options.get(PARAM_MAX_DEPTH), -1));
+    return new AlgorithmResult() {
+      @Override
+      protected boolean contains(final int vertex) {
+        return result.isReached(vertex);
+      }
+
+      @Override
+      protected Object getValue(final int vertex) {
+        return result.getDistance(vertex);
+      }
+
+      @Override
+      protected void addProperties(final int vertex, final OResultInternal row) {
+        row.setProperty("source", snapshot.getRid(result.getSource(vertex)));
+      }
+    };
+  }
+
+  @Override
+  public String getSyntax() {
+    return "bfs(<snapshot>, <sources>, [<options>]) \n"
+        + " // options  : {direction: 'OUT', maxDepth: 6, writeProperty: '<property>',"
+        + " batchSize: 1000}";
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.algorithm.OPageRank;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.Map;
+
+/**
+ * Computes the PageRank of the vertices of a graph snapshot, in parallel.
+ *
+ * <p>Syntax: <code>pageRank(&lt;snapshot&gt;, [&lt;options&gt;])</code>, options are <code>
+ * dampingFactor</code> (0.85), <code>maxIterations</code> (20), <code>tolerance</code> (1e-7),
+ * <code>writeProperty</code> and <code>batchSize</code>.
+ */
+public class OSQLFunctionPageRank extends OSQLFunctionGraphAlgorithmAbstract {
+  public static final String NAME = "pageRank";
+  public static final String PARAM_DAMPING_FACTOR = "dampingFactor";
+  public static final String PARAM_MAX_ITERATIONS = "maxIterations";
+  public static final String PARAM_TOLERANCE = "tolerance";
+
+  public OSQLFunctionPageRank() {
+    super(NAME, 1, 2);
+  }
+
+  @Override
+  protected String getValueName() {
+    return "rank";
+  }
+
+  @Override
+  protected AlgorithmResult compute(
+      final OGraphSnapshot snapshot,
+      final Object[] params,
+      final Map<String, Object> options,
+      final ORecord currentRecord,
+      final OCommandContext context) {
+    final double[] ranks =
+        OPageRank.compute(
+            snapshot,
+            number(options.get(PARAM_DAMPING_FACTOR), OPageRank.DEFAULT_DAMPING_FACTOR),
+            integer(options.get(PARAM_MAX_ITERATIONS), OPageRank.DEFAULT_MAX_ITERATIONS),
+            number(options.get(PARAM_TOLERANCE), OPageRank.DEFAULT_TOLERANCE));
+    return new AlgorithmResult() {
+      @Override
+      protected Object getValue(final int vertex) {
+        return ranks[vertex];
+      }
+    };
+  }
+
+  @Override
+  public String getSyntax() {
+    return "pageRank(<snapshot>, [<options>]) \n"
+        + " // options  : {dampingFactor: 0.85, maxIterations: 20, tolerance: 0.0000001,"
+        + " writeProperty: '<property>', batchSize: 1000}";
+  }
+}
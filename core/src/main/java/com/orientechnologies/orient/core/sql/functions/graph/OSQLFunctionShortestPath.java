@@ -1,24 +1,34 @@
 package com.orientechnologies.orient.core.sql.functions.graph;
 
-import com.orientechnologies.common.collection.OMultiCollectionIterator;
-import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.common.collection.OLongLongHashMap;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandExecutorAbstract;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotPaths;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.record.OEdge;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.OVertex;
 import com.orientechnologies.orient.core.record.impl.ODocument;
-import com.orientechnologies.orient.core.record.impl.OEdgeToVertexIterable;
+import com.orientechnologies.orient.core.record.impl.OVertexDelegate;
 import com.orientechnologies.orient.core.sql.OSQLHelper;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -32,11 +42,18 @@ import java.util.stream.Collectors;
  * Shortest path algorithm to find the shortest path from one node to another node in a directed
  * graph.
  *
+ * <p>The search is a bidirectional breadth first search that always expands the smaller frontier.
+ * Record ids are handled as longs (see {@link ORecordId#pack(ORID)}) in primitive maps and the
+ * neighbors are read from the ridbags of the vertices, so a vertex is loaded only when it is
+ * expanded. Regular edges are loaded to read the vertex on their other side, lightweight edges are
+ * not loaded at all.
+ *
  * @author Luca Garulli (l.garulli--(at)--orientdb.com)
  */
 public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
   public static final String NAME = "shortestPath";
   public static final String PARAM_MAX_DEPTH = "maxDepth";
+  public static final String PARAM_SNAPSHOT = "snapshot";
 
   protected static final float DISTANCE = 1f;
 
@@ -44,7 +61,17 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     super(NAME, 2, 5);
   }
 
+  /** value of the maps of the visited vertices for the start of the search */
+  private static final long NONE = -1;
+
+  /** value of the maps of the visited vertices for vertices that were not visited */
+  private static final long MISSING = -2;
+
+  private static final String CONNECTION_OUT_PREFIX = "out_";
+  private static final String CONNECTION_IN_PREFIX = "in_";
+
   private class OShortestPathContext {
+    private ODatabaseDocumentInternal db;
     private OVertex sourceVertex;
     private OVertex destinationVertex;
     private ODirection directionLeft = ODirection.BOTH;
@@ -53,21 +80,30 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     private String edgeType;
     private String[] edgeTypeParam;
 
-    private ArrayDeque<OVertex> queueLeft = new ArrayDeque<>();
-    private ArrayDeque<OVertex> queueRight = new ArrayDeque<>();
+    /** names of the vertex fields of the edges to follow, null to follow all the edges */
+    private Set<String> connectionFields;
 
-    private final Set<ORID> leftVisited = new HashSet<ORID>();
-    private final Set<ORID> rightVisited = new HashSet<ORID>();
+    private final RidKeys keys = new RidKeys();
 
-    private final Map<ORID, ORID> previouses = new HashMap<ORID, ORID>();
-    private final Map<ORID, ORID> nexts = new HashMap<ORID, ORID>();
+    private Frontier queueLeft = new Frontier();
+    private Frontier queueRight = new Frontier();
+
+    /**
+     * vertices visited from the source and the vertex they were reached from, with the edge option
+     * they are mapped to the edge they were reached through and the edge to the vertex
+     */
+    private final OLongLongHashMap previouses = new OLongLongHashMap(64, MISSING);
+
+    /** vertices visited from the destination, like {@link #previouses} */
+    private final OLongLongHashMap nexts = new OLongLongHashMap(64, MISSING);
 
-    private OVertex current;
-    private OVertex currentRight;
     public Integer maxDepth;
 
     /** option that decides whether or not to return the edge information */
     public Boolean edge;
+
+    /** name of the graph snapshot to search instead of the database */
+    public String snapshot;
   }
 
   public List<ORID> execute(
@@ -148,56 +184,37 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
       bindAdditionalParams(iParams[4], ctx);
     }
 
-    ctx.queueLeft.add(ctx.sourceVertex);
-    ctx.leftVisited.add(ctx.sourceVertex.getIdentity());
+    if (ctx.snapshot != null) {
+      return walkSnapshot(ctx, iContext);
+    }
 
-    ctx.queueRight.add(ctx.destinationVertex);
-    ctx.rightVisited.add(ctx.destinationVertex.getIdentity());
+    ctx.db = ODatabaseRecordThreadLocal.instance().get();
+    ctx.connectionFields =
+        getConnectionFields(ctx.db, ctx.edgeType == null ? null : ctx.edgeTypeParam);
+
+    final long sourceKey = ctx.keys.key(ctx.sourceVertex.getIdentity());
+    ctx.queueLeft.add(sourceKey);
+    ctx.previouses.put(sourceKey, NONE);
+
+    final long destinationKey = ctx.keys.key(ctx.destinationVertex.getIdentity());
+    ctx.queueRight.add(destinationKey);
+    ctx.nexts.put(destinationKey, NONE);
 
     int depth = 1;
-    while (true) {
+    while (!ctx.queueLeft.isEmpty() && !ctx.queueRight.isEmpty()) {
       if (ctx.maxDepth != null && ctx.maxDepth <= depth) {
         break;
       }
-      if (ctx.queueLeft.isEmpty() || ctx.queueRight.isEmpty()) break;
 
       if (Thread.interrupted())
         throw new OCommandExecutionException("The shortestPath() function has been interrupted");
 
       if (!OCommandExecutorAbstract.checkInterruption(iContext)) break;
 
-      List<ORID> neighborIdentity;
-
-      if (ctx.queueLeft.size() <= ctx.queueRight.size()) {
-        // START EVALUATING FROM LEFT
-        neighborIdentity = walkLeft(ctx);
-        if (neighborIdentity != null) return neighborIdentity;
-        depth++;
-        if (ctx.maxDepth != null && ctx.maxDepth <= depth) {
-          break;
-        }
-
-        if (ctx.queueLeft.isEmpty()) break;
-
-        neighborIdentity = walkRight(ctx);
-        if (neighborIdentity != null) return neighborIdentity;
-
-      } else {
-
-        // START EVALUATING FROM RIGHT
-        neighborIdentity = walkRight(ctx);
-        if (neighborIdentity != null) return neighborIdentity;
-
-        depth++;
-        if (ctx.maxDepth != null && ctx.maxDepth <= depth) {
-          break;
-        }
-
-        if (ctx.queueRight.isEmpty()) break;
-
-        neighborIdentity = walkLeft(ctx);
-        if (neighborIdentity != null) return neighborIdentity;
-      }
+      // EXPAND THE SMALLER FRONTIER, THE COST OF A LEVEL GROWS WITH ITS SIZE
+      final List<ORID> neighborIdentity =
+          ctx.queueLeft.size <= ctx.queueRight.size ? walkLeft(ctx) : walkRight(ctx);
+      if (neighborIdentity != null) return neighborIdentity;
 
       depth++;
     }
@@ -218,9 +235,41 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
       ctx.maxDepth = integer(mapParams.get("maxDepth"));
       Boolean withEdge = toBoolean(mapParams.get("edge"));
       ctx.edge = Boolean.TRUE.equals(withEdge) ? Boolean.TRUE : Boolean.FALSE;
+      Object snapshot = mapParams.get(PARAM_SNAPSHOT);
+      ctx.snapshot = snapshot == null ? null : snapshot.toString();
     }
   }
 
+  private List<ORID> walkSnapshot(OShortestPathContext ctx, OCommandContext iContext) {
+    if (Boolean.TRUE.equals(ctx.edge)) {
+      throw new IllegalArgumentException(
+          "The edge option is not supported on graph snapshots, they do not keep edge records");
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) iContext.getDatabase();
+    OGraphSnapshot snapshot = OGraphSnapshotManager.getSnapshot(db, ctx.snapshot);
+
+    int source = snapshot.getVertex(ctx.sourceVertex.getIdentity());
+    int destination = snapshot.getVertex(ctx.destinationVertex.getIdentity());
+    if (source < 0 || destination < 0) {
+      return new ArrayList<ORID>();
+    }
+
+    boolean[] labelMask =
+        ctx.edgeType == null
+            ? null
+            : snapshot.getLabelMask(
+                db.getMetadata().getImmutableSchemaSnapshot(), ctx.edgeTypeParam);
+    int[] path =
+        OGraphSnapshotPaths.shortestPath(
+            snapshot, source, destination, ctx.directionLeft, labelMask, ctx.maxDepth, iContext);
+
+    List<ORID> result = new ArrayList<ORID>(path.length);
+    for (int vertex : path) {
+      result.add(snapshot.getRid(vertex));
+    }
+    return result;
+  }
+
   private Integer integer(Object fromObject) {
     if (fromObject == null) {
       return null;
@@ -257,204 +306,260 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     return null;
   }
 
-  /**
-   * get adjacent vertices and edges
-   *
-   * @param srcVertex
-   * @param direction
-   * @param types
-   * @return
-   * @author Thomas Young (YJJThomasYoung@hotmail.com)
-   */
-  private ORawPair<Iterable<OVertex>, Iterable<OEdge>> getVerticesAndEdges(
-      OVertex srcVertex, ODirection direction, String... types) {
-    if (direction == ODirection.BOTH) {
-      OMultiCollectionIterator<OVertex> vertexIterator = new OMultiCollectionIterator<>();
-      OMultiCollectionIterator<OEdge> edgeIterator = new OMultiCollectionIterator<>();
-      ORawPair<Iterable<OVertex>, Iterable<OEdge>> pair1 =
-          getVerticesAndEdges(srcVertex, ODirection.OUT, types);
-      ORawPair<Iterable<OVertex>, Iterable<OEdge>> pair2 =
-          getVerticesAndEdges(srcVertex, ODirection.IN, types);
-      vertexIterator.add(pair1.first);
-      vertexIterator.add(pair2.first);
-      edgeIterator.add(pair1.second);
-      edgeIterator.add(pair2.second);
-      return new ORawPair<>(vertexIterator, edgeIterator);
-    } else {
-      Iterable<OEdge> edges1 = srcVertex.getEdges(direction, types);
-      Iterable<OEdge> edges2 = srcVertex.getEdges(direction, types);
-      return new ORawPair<>(new OEdgeToVertexIterable(edges1, direction), edges2);
-    }
+  public String getSyntax() {
+    return "shortestPath(<sourceVertex>, <destinationVertex>, [<direction>, [ <edgeTypeAsString>"
+        + " , [ <options> ]]]) \n"
+        + " // options  : {maxDepth: 10, edge: false, snapshot: '<graphSnapshotName>'}";
+  }
+
+  protected List<ORID> walkLeft(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
+    final long neighbor = walk(ctx, ctx.queueLeft, ctx.directionLeft, ctx.previouses, ctx.nexts);
+    return neighbor == MISSING ? null : computePath(ctx, neighbor);
+  }
+
+  protected List<ORID> walkRight(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
+    final long neighbor = walk(ctx, ctx.queueRight, ctx.directionRight, ctx.nexts, ctx.previouses);
+    return neighbor == MISSING ? null : computePath(ctx, neighbor);
   }
 
   /**
-   * get adjacent vertices and edges
+   * Expands a frontier by one level.
    *
-   * @param srcVertex
-   * @param direction
-   * @return
-   * @author Thomas Young (YJJThomasYoung@hotmail.com)
+   * @param visited the vertices reached by this side of the search
+   * @param otherVisited the vertices reached by the other side of the search
+   * @return a vertex reached by both sides, {@link #MISSING} if there is none
    */
-  private ORawPair<Iterable<OVertex>, Iterable<OEdge>> getVerticesAndEdges(
-      OVertex srcVertex, ODirection direction) {
-    return getVerticesAndEdges(srcVertex, direction, (String[]) null);
+  private long walk(
+      final OShortestPathContext ctx,
+      final Frontier frontier,
+      final ODirection direction,
+      final OLongLongHashMap visited,
+      final OLongLongHashMap otherVisited) {
+    final boolean withEdges = Boolean.TRUE.equals(ctx.edge);
+    final Frontier nextLevel = new Frontier();
+    final long[] meeting = {MISSING};
+    for (int i = 0; i < frontier.size && meeting[0] == MISSING; i++) {
+      final long current = frontier.keys[i];
+      forEachNeighbor(
+          ctx,
+          current,
+          direction,
+          (neighbor, edge) -> {
+            if (visited.containsKey(neighbor)) {
+              return true;
+            }
+            if (withEdges && edge != NONE) {
+              visited.put(neighbor, edge);
+              visited.put(edge, current);
+            } else {
+              visited.put(neighbor, current);
+            }
+            if (otherVisited.containsKey(neighbor)) {
+              meeting[0] = neighbor;
+              return false;
+            }
+            nextLevel.add(neighbor);
+            return true;
+          });
+    }
+    frontier.replace(nextLevel);
+    return meeting[0];
   }
 
-  public String getSyntax() {
-    return "shortestPath(<sourceVertex>, <destinationVertex>, [<direction>, [ <edgeTypeAsString>"
-        + " ]])";
+  private interface NeighborVisitor {
+    /**
+     * @param edge the key of the edge, NONE for lightweight edges
+     * @return false to stop the iteration
+     */
+    boolean visit(long neighbor, long edge);
   }
 
-  protected List<ORID> walkLeft(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
-    ArrayDeque<OVertex> nextLevelQueue = new ArrayDeque<>();
-    if (!Boolean.TRUE.equals(ctx.edge)) {
-      while (!ctx.queueLeft.isEmpty()) {
-        ctx.current = ctx.queueLeft.poll();
-
-        Iterable<OVertex> neighbors;
-        if (ctx.edgeType == null) {
-          neighbors = ctx.current.getVertices(ctx.directionLeft);
-        } else {
-          neighbors = ctx.current.getVertices(ctx.directionLeft, ctx.edgeTypeParam);
-        }
-        for (OVertex neighbor : neighbors) {
-          final OVertex v = (OVertex) neighbor;
-          final ORID neighborIdentity = v.getIdentity();
+  /**
+   * Iterates the neighbors of a vertex reading the links in its edge fields, the neighbor vertices
+   * are not loaded.
+   */
+  private void forEachNeighbor(
+      final OShortestPathContext ctx,
+      final long vertex,
+      final ODirection direction,
+      final NeighborVisitor visitor) {
+    final ORecord record = ctx.db.load(ctx.keys.rid(vertex));
+    if (!(record instanceof ODocument)) {
+      return;
+    }
+    final ODocument document = (ODocument) record;
+    final OSchema schema = ctx.db.getMetadata().getImmutableSchemaSnapshot();
 
-          if (ctx.rightVisited.contains(neighborIdentity)) {
-            ctx.previouses.put(neighborIdentity, ctx.current.getIdentity());
-            return computePath(ctx.previouses, ctx.nexts, neighborIdentity);
-          }
-          if (!ctx.leftVisited.contains(neighborIdentity)) {
-            ctx.previouses.put(neighborIdentity, ctx.current.getIdentity());
+    final Collection<String> fieldNames;
+    if (ctx.connectionFields != null) {
+      fieldNames = ctx.connectionFields;
+      document.deserializeFields(fieldNames.toArray(new String[0]));
+    } else {
+      fieldNames = Arrays.asList(document.fieldNames());
+    }
 
-            nextLevelQueue.offer(v);
-            ctx.leftVisited.add(neighborIdentity);
-          }
-        }
+    for (String fieldName : fieldNames) {
+      final String opposite;
+      if (direction != ODirection.IN && fieldName.startsWith(CONNECTION_OUT_PREFIX)) {
+        opposite = OEdge.DIRECTION_IN;
+      } else if (direction != ODirection.OUT && fieldName.startsWith(CONNECTION_IN_PREFIX)) {
+        opposite = OEdge.DIRECTION_OUT;
+      } else {
+        continue;
       }
-    } else {
-      while (!ctx.queueLeft.isEmpty()) {
-        ctx.current = ctx.queueLeft.poll();
 
-        ORawPair<Iterable<OVertex>, Iterable<OEdge>> neighbors;
-        if (ctx.edgeType == null) {
-          neighbors = getVerticesAndEdges(ctx.current, ctx.directionLeft);
-        } else {
-          neighbors = getVerticesAndEdges(ctx.current, ctx.directionLeft, ctx.edgeTypeParam);
+      final Object fieldValue = document.rawField(fieldName);
+      final Iterator<?> links;
+      if (fieldValue instanceof OIdentifiable) {
+        links = Collections.singleton(fieldValue).iterator();
+      } else if (fieldValue instanceof ORidBag) {
+        links = ((ORidBag) fieldValue).rawIterator();
+      } else if (fieldValue instanceof ORecordLazyMultiValue) {
+        links = ((ORecordLazyMultiValue) fieldValue).rawIterator();
+      } else if (fieldValue instanceof Iterable) {
+        links = ((Iterable<?>) fieldValue).iterator();
+      } else {
+        continue;
+      }
+
+      while (links.hasNext()) {
+        final Object link = links.next();
+        if (!(link instanceof OIdentifiable)) {
+          continue;
         }
-        Iterator<OVertex> vertexIterator = neighbors.first.iterator();
-        Iterator<OEdge> edgeIterator = neighbors.second.iterator();
-        while (vertexIterator.hasNext() && edgeIterator.hasNext()) {
-          OVertex v = vertexIterator.next();
-          final ORID neighborVertexIdentity = v.getIdentity();
-          final ORID neighborEdgeIdentity = edgeIterator.next().getIdentity();
-
-          if (ctx.rightVisited.contains(neighborVertexIdentity)) {
-            ctx.previouses.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.previouses.put(neighborEdgeIdentity, ctx.current.getIdentity());
-            return computePath(ctx.previouses, ctx.nexts, neighborVertexIdentity);
+        final ORID linkIdentity = ((OIdentifiable) link).getIdentity();
+        final OClass linkClass = schema.getClassByClusterId(linkIdentity.getClusterId());
+
+        final long neighbor;
+        final long edge;
+        if (linkClass != null && linkClass.isVertexType()) {
+          // LIGHTWEIGHT EDGE: THE LINK IS THE VERTEX
+          neighbor = ctx.keys.key(linkIdentity);
+          edge = NONE;
+        } else {
+          // REGULAR EDGE: READ THE LINK TO THE OTHER VERTEX WITHOUT LOADING IT
+          final ORecord edgeRecord = ((OIdentifiable) link).getRecord();
+          if (!(edgeRecord instanceof ODocument)) {
+            continue;
           }
-          if (!ctx.leftVisited.contains(neighborVertexIdentity)) {
-            ctx.previouses.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.previouses.put(neighborEdgeIdentity, ctx.current.getIdentity());
-
-            nextLevelQueue.offer(v);
-            ctx.leftVisited.add(neighborVertexIdentity);
+          final Object other = ((ODocument) edgeRecord).rawField(opposite);
+          if (!(other instanceof OIdentifiable)) {
+            continue;
           }
+          neighbor = ctx.keys.key(((OIdentifiable) other).getIdentity());
+          edge = ctx.keys.key(linkIdentity);
+        }
+
+        if (!visitor.visit(neighbor, edge)) {
+          return;
         }
       }
     }
-    ctx.queueLeft = nextLevelQueue;
-    return null;
   }
 
-  protected List<ORID> walkRight(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
-    final ArrayDeque<OVertex> nextLevelQueue = new ArrayDeque<>();
-    if (!Boolean.TRUE.equals(ctx.edge)) {
-      while (!ctx.queueRight.isEmpty()) {
-        ctx.currentRight = ctx.queueRight.poll();
-
-        Iterable<OVertex> neighbors;
-        if (ctx.edgeType == null) {
-          neighbors = ctx.currentRight.getVertices(ctx.directionRight);
-        } else {
-          neighbors = ctx.currentRight.getVertices(ctx.directionRight, ctx.edgeTypeParam);
+  /**
+   * @return the names of the vertex fields of the edges of the classes and their subclasses, null
+   *     to follow all the edges
+   */
+  private static Set<String> getConnectionFields(
+      final ODatabaseDocumentInternal db, final String[] edgeTypes) {
+    if (edgeTypes == null) {
+      return null;
+    }
+    final OSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    final Set<String> classNames = new HashSet<>();
+    for (String edgeType : edgeTypes) {
+      if (edgeType == null || edgeType.equalsIgnoreCase("E")) {
+        // DEFAULT CLASS, TREAT IT AS NO CLASS/LABEL
+        return null;
+      }
+      classNames.add(edgeType);
+      final OClass clazz = schema.getClass(edgeType);
+      if (clazz != null) {
+        classNames.add(clazz.getName());
+        for (OClass subClass : clazz.getAllSubclasses()) {
+          classNames.add(subClass.getName());
         }
-        for (OVertex neighbor : neighbors) {
-          final OVertex v = (OVertex) neighbor;
-          final ORID neighborIdentity = v.getIdentity();
+      }
+    }
 
-          if (ctx.leftVisited.contains(neighborIdentity)) {
-            ctx.nexts.put(neighborIdentity, ctx.currentRight.getIdentity());
-            return computePath(ctx.previouses, ctx.nexts, neighborIdentity);
-          }
-          if (!ctx.rightVisited.contains(neighborIdentity)) {
+    final Set<String> result = new HashSet<>();
+    for (String className : classNames) {
+      result.add(OVertexDelegate.getConnectionFieldName(ODirection.OUT, className, true));
+      result.add(OVertexDelegate.getConnectionFieldName(ODirection.IN, className, true));
+    }
+    return result;
+  }
 
-            ctx.nexts.put(neighborIdentity, ctx.currentRight.getIdentity());
+  private List<ORID> computePath(final OShortestPathContext ctx, final long neighbor) {
+    final List<ORID> result = new ArrayList<ORID>();
 
-            nextLevelQueue.offer(v);
-            ctx.rightVisited.add(neighborIdentity);
-          }
-        }
-      }
-    } else {
-      while (!ctx.queueRight.isEmpty()) {
-        ctx.currentRight = ctx.queueRight.poll();
+    long current = neighbor;
+    while (current != NONE && current != MISSING) {
+      result.add(ctx.keys.rid(current));
+      current = ctx.previouses.get(current);
+    }
+    Collections.reverse(result);
 
-        ORawPair<Iterable<OVertex>, Iterable<OEdge>> neighbors;
-        if (ctx.edgeType == null) {
-          neighbors = getVerticesAndEdges(ctx.currentRight, ctx.directionRight);
-        } else {
-          neighbors = getVerticesAndEdges(ctx.currentRight, ctx.directionRight, ctx.edgeTypeParam);
-        }
+    current = ctx.nexts.get(neighbor);
+    while (current != NONE && current != MISSING) {
+      result.add(ctx.keys.rid(current));
+      current = ctx.nexts.get(current);
+    }
 
-        Iterator<OVertex> vertexIterator = neighbors.first.iterator();
-        Iterator<OEdge> edgeIterator = neighbors.second.iterator();
-        while (vertexIterator.hasNext() && edgeIterator.hasNext()) {
-          final OVertex v = vertexIterator.next();
-          final ORID neighborVertexIdentity = v.getIdentity();
-          final ORID neighborEdgeIdentity = edgeIterator.next().getIdentity();
-
-          if (ctx.leftVisited.contains(neighborVertexIdentity)) {
-            ctx.nexts.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.nexts.put(neighborEdgeIdentity, ctx.currentRight.getIdentity());
-            return computePath(ctx.previouses, ctx.nexts, neighborVertexIdentity);
-          }
-          if (!ctx.rightVisited.contains(neighborVertexIdentity)) {
-            ctx.nexts.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.nexts.put(neighborEdgeIdentity, ctx.currentRight.getIdentity());
+    return result;
+  }
 
-            nextLevelQueue.offer(v);
-            ctx.rightVisited.add(neighborVertexIdentity);
-          }
-        }
+  /**
+   * Maps record ids to keys, persistent ids are packed with {@link ORecordId#pack(ORID)}. Records
+   * created in the current transaction have temporary ids, which cannot be packed and get negative
+   * keys below MISSING instead.
+   */
+  private static final class RidKeys {
+    private List<ORID> temporaryIds;
+    private Map<ORID, Long> temporaryKeys;
+
+    private long key(final ORID rid) {
+      if (rid.isPersistent()) {
+        return ORecordId.pack(rid);
       }
+      if (temporaryKeys == null) {
+        temporaryIds = new ArrayList<>();
+        temporaryKeys = new HashMap<>();
+      }
+      Long key = temporaryKeys.get(rid);
+      if (key == null) {
+        key = MISSING - 1 - temporaryIds.size();
+        temporaryIds.add(rid);
+        temporaryKeys.put(rid.copy(), key);
+      }
+      return key;
+    }
+
+    private ORID rid(final long key) {
+      return key >= 0 ? ORecordId.unpack(key) : temporaryIds.get((int) (MISSING - 1 - key));
     }
-    ctx.queueRight = nextLevelQueue;
-    return null;
   }
 
-  private List<ORID> computePath(
-      final Map<ORID, ORID> leftDistances,
-      final Map<ORID, ORID> rightDistances,
-      final ORID neighbor) {
-    final List<ORID> result = new ArrayList<ORID>();
+  /** Keys of the vertices of a level of the search. */
+  private static final class Frontier {
+    private long[] keys = new long[16];
+    private int size;
 
-    ORID current = neighbor;
-    while (current != null) {
-      result.add(0, current);
-      current = leftDistances.get(current);
+    private void add(final long key) {
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size << 1);
+      }
+      keys[size++] = key;
     }
 
-    current = neighbor;
-    while (current != null) {
-      current = rightDistances.get(current);
-      if (current != null) {
-        result.add(current);
-      }
+    private boolean isEmpty() {
+      return size == 0;
     }
 
-    return result;
+    private void replace(final Frontier other) {
+      keys = other.keys;
+      size = other.size;
+    }
   }
 }
@@ -0,0 +1,284 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import java.nio.ByteBuffer;
+
+/**
+ * DDSketch, a quantile sketch with relative error guarantees: the value returned for a quantile is
+ * within {@code relativeAccuracy} of the exact one. Values are counted in buckets whose bounds grow
+ * geometrically, so the memory used depends on the range of the values and not on their number.
+ * The number of buckets is bounded, when the range needs more buckets the lowest ones are
+ * collapsed, losing accuracy only for the quantiles of values closest to zero. Sketches with the
+ * same accuracy are merged by adding their bucket counts.
+ *
+ * <p><b>References</b>
+ *
+ * <ul>
+ *   <li>Masson, Charles; Rim, Jee E.; Lee, Homin K. (2019), <a
+ *       href="https://arxiv.org/abs/1908.10693">DDSketch: A Fast and Fully-Mergeable Quantile
+ *       Sketch with Relative-Error Guarantees</a>.
+ * </ul>
+ */
+public final class ODDSketch {
+  public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+  public static final int DEFAULT_MAX_BUCKETS = 2048;
+
+  private final double relativeAccuracy;
+  private final int maxBuckets;
+  private final double gamma;
+  private final double logGamma;
+
+  /** Values with a lower magnitude are counted as zero. */
+  private final double minIndexableValue;
+
+  private final Store positive;
+  private final Store negative;
+  private long zeroCount;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  public ODDSketch() {
+    this(DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BUCKETS);
+  }
+
+  public ODDSketch(final double relativeAccuracy, final int maxBuckets) {
+    if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+      throw new IllegalArgumentException(
+          "Relative accuracy should be between 0 and 1 but was " + relativeAccuracy);
+    }
+    if (maxBuckets < 1) {
+      throw new IllegalArgumentException(
+          "Maximum number of buckets should be positive but was " + maxBuckets);
+    }
+
+    this.relativeAccuracy = relativeAccuracy;
+    this.maxBuckets = maxBuckets;
+    this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    this.logGamma = Math.log(gamma);
+    this.minIndexableValue = Double.MIN_NORMAL * gamma;
+    this.positive = new Store(maxBuckets);
+    this.negative = new Store(maxBuckets);
+  }
+
+  public double getRelativeAccuracy() {
+    return relativeAccuracy;
+  }
+
+  /** Adds value to the sketch, NaN values are ignored. */
+  public void add(final double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+
+    if (value >= minIndexableValue) {
+      positive.add(index(value), 1);
+    } else if (value <= -minIndexableValue) {
+      negative.add(index(-value), 1);
+    } else {
+      zeroCount++;
+    }
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  /** Merges the given sketch into the current one. */
+  public void merge(final ODDSketch other) {
+    if (other.relativeAccuracy != relativeAccuracy) {
+      throw new IllegalArgumentException(
+          "Sketches with different accuracy can not be merged ("
+              + relativeAccuracy
+              + " and "
+              + other.relativeAccuracy
+              + ")");
+    }
+
+    positive.merge(other.positive);
+    negative.merge(other.negative);
+    zeroCount += other.zeroCount;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  public long getCount() {
+    return positive.total + negative.total + zeroCount;
+  }
+
+  public boolean isEmpty() {
+    return getCount() == 0;
+  }
+
+  /**
+   * @param quantile between 0 and 1
+   * @return the estimated value at the quantile, NaN if the sketch is empty
+   */
+  public double getValueAtQuantile(final double quantile) {
+    if (quantile < 0 || quantile > 1) {
+      throw new IllegalArgumentException("Quantile should be between 0 and 1 but was " + quantile);
+    }
+    final long count = getCount();
+    if (count == 0) {
+      return Double.NaN;
+    }
+
+    final double rank = quantile * (count - 1);
+    long seen = 0;
+    double result = max;
+    boolean found = false;
+    // from the most negative values to the most positive ones
+    for (int i = negative.counts.length - 1; i >= 0 && !found; i--) {
+      seen += negative.counts[i];
+      if (seen > rank) {
+        result = -value(negative.offset + i);
+        found = true;
+      }
+    }
+    if (!found) {
+      seen += zeroCount;
+      if (seen > rank) {
+        result = 0;
+        found = true;
+      }
+    }
+    for (int i = 0; i < positive.counts.length && !found; i++) {
+      seen += positive.counts[i];
+      if (seen > rank) {
+        result = value(positive.offset + i);
+        found = true;
+      }
+    }
+
+    return Math.max(min, Math.min(max, result));
+  }
+
+  private int index(final double value) {
+    return (int) Math.ceil(Math.log(value) / logGamma);
+  }
+
+  /** @return the value of a bucket, with the same relative distance from both its bounds */
+  private double value(final int index) {
+    return 2 * Math.pow(gamma, index) / (gamma + 1);
+  }
+
+  public byte[] toBytes() {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(
+            8 + 4 + 8 + 8 + 8 + positive.serializedSize() + negative.serializedSize());
+    buffer.putDouble(relativeAccuracy);
+    buffer.putInt(maxBuckets);
+    buffer.putLong(zeroCount);
+    buffer.putDouble(min);
+    buffer.putDouble(max);
+    positive.write(buffer);
+    negative.write(buffer);
+    return buffer.array();
+  }
+
+  public static ODDSketch fromBytes(final byte[] bytes) {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    final ODDSketch result = new ODDSketch(buffer.getDouble(), buffer.getInt());
+    result.zeroCount = buffer.getLong();
+    result.min = buffer.getDouble();
+    result.max = buffer.getDouble();
+    result.positive.read(buffer);
+    result.negative.read(buffer);
+    return result;
+  }
+
+  /** Counts of contiguous buckets, starting from the bucket with index {@code offset}. */
+  private static final class Store {
+    private final int maxBuckets;
+    private long[] counts = new long[0];
+    private int offset;
+    private long total;
+
+    private Store(final int maxBuckets) {
+      this.maxBuckets = maxBuckets;
+    }
+
+    private void add(final int index, final long count) {
+      if (count == 0) {
+        return;
+      }
+      if (counts.length == 0) {
+        counts = new long[1];
+        offset = index;
+      } else if (index < offset || index >= offset + counts.length) {
+        extend(Math.min(offset, index), Math.max(offset + counts.length - 1, index));
+      }
+      // the index can be in a collapsed bucket
+      counts[Math.max(index, offset) - offset] += count;
+      total += count;
+    }
+
+    /** Extends the buckets to the range, collapsing the lowest ones if it is too large. */
+    private void extend(int minIndex, final int maxIndex) {
+      if ((long) maxIndex - minIndex + 1 > maxBuckets) {
+        minIndex = maxIndex - maxBuckets + 1;
+      }
+      final long[] newCounts = new long[maxIndex - minIndex + 1];
+      for (int i = 0; i < counts.length; i++) {
+        newCounts[Math.max(offset + i, minIndex) - minIndex] += counts[i];
+      }
+      counts = newCounts;
+      offset = minIndex;
+    }
+
+    private void merge(final Store other) {
+      if (other.total == 0) {
+        return;
+      }
+      if (counts.length == 0) {
+        counts = new long[1];
+        offset = other.offset;
+      }
+      extend(
+          Math.min(offset, other.offset),
+          Math.max(offset + counts.length, other.offset + other.counts.length) - 1);
+      for (int i = 0; i < other.counts.length; i++) {
+        final int index = other.offset + i;
+        counts[Math.max(index, offset) - offset] += other.counts[i];
+      }
+      total += other.total;
+    }
+
+    private int serializedSize() {
+      return 4 + 4 + 8 * counts.length;
+    }
+
+    private void write(final ByteBuffer buffer) {
+      buffer.putInt(offset);
+      buffer.putInt(counts.length);
+      for (final long count : counts) {
+        buffer.putLong(count);
+      }
+    }
+
+    private void read(final ByteBuffer buffer) {
+      offset = buffer.getInt();
+      counts = new long[buffer.getInt()];
+      total = 0;
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = buffer.getLong();
+        total += counts[i];
+      }
+    }
+  }
+}
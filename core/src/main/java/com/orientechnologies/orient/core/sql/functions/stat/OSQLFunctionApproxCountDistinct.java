@@ -0,0 +1,179 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.metadata.OHyperLogLog;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the number of distinct values of a field with a HyperLogLog sketch, using {@code
+ * 2^precision} bytes of memory whatever the number of values. As in HyperLogLog++, the hashes of
+ * the values are kept while they are few, so small cardinalities are counted exactly. Nulls are
+ * ignored in the calculation.
+ */
+public class OSQLFunctionApproxCountDistinct extends OSQLFunctionAbstract {
+
+  public static final String NAME = "approx_count_distinct";
+
+  public static final int DEFAULT_PRECISION = 14;
+
+  private int precision = -1;
+
+  /** Hashes of the values, until they are too many and the sketch is used. */
+  private Set<Long> hashes = new HashSet<Long>();
+
+  private OHyperLogLog sketch;
+
+  public OSQLFunctionApproxCountDistinct() {
+    super(NAME, 1, 2);
+  }
+
+  @Override
+  public Object execute(
+      Object iThis,
+      OIdentifiable iCurrentRecord,
+      Object iCurrentResult,
+      Object[] iParams,
+      OCommandContext iContext) {
+
+    if (precision < 0) { // set precision once
+      setPrecision(
+          iParams.length > 1 ? Integer.parseInt(iParams[1].toString()) : DEFAULT_PRECISION);
+    }
+
+    if (OMultiValue.isMultiValue(iParams[0])) {
+      for (Object value : OMultiValue.getMultiValueIterable(iParams[0])) {
+        addValue(value);
+      }
+    } else {
+      addValue(iParams[0]);
+    }
+    return null;
+  }
+
+  private void setPrecision(int precision) {
+    if (precision < OHyperLogLog.MIN_PRECISION || precision > OHyperLogLog.MAX_PRECISION) {
+      throw new IllegalArgumentException(
+          "Precision of "
+              + NAME
+              + " should be between "
+              + OHyperLogLog.MIN_PRECISION
+              + " and "
+              + OHyperLogLog.MAX_PRECISION
+              + " but was "
+              + precision);
+    }
+    this.precision = precision;
+  }
+
+  private void addValue(Object value) {
+    if (value != null) {
+      addHash(OHyperLogLog.hash(value));
+    }
+  }
+
+  private void addHash(long hash) {
+    if (sketch != null) {
+      sketch.addHash(hash);
+      return;
+    }
+    hashes.add(hash);
+    if (hashes.size() > (1 << precision) / 32) {
+      // the sketch uses less memory from now on
+      sketch = new OHyperLogLog(precision);
+      for (Long h : hashes) {
+        sketch.addHash(h);
+      }
+      hashes = null;
+    }
+  }
+
+  private long evaluate() {
+    return sketch == null ? hashes.size() : sketch.estimate();
+  }
+
+  @Override
+  public boolean aggregateResults() {
+    return true;
+  }
+
+  @Override
+  public Object getResult() {
+    if (returnDistributedResult()) {
+      final Map<String, Object> doc = new HashMap<String, Object>();
+      doc.put("precision", precision < 0 ? DEFAULT_PRECISION : precision);
+      if (sketch != null) {
+        doc.put("sketch", sketch.toBytes());
+      } else {
+        doc.put("hashes", new ArrayList<Long>(hashes));
+      }
+      return doc;
+    } else {
+      return precision < 0 ? 0L : this.evaluate();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Object mergeDistributedResult(List<Object> resultsToMerge) {
+    if (returnDistributedResult()) {
+      OSQLFunctionApproxCountDistinct merged = new OSQLFunctionApproxCountDistinct();
+      for (Object iParameter : resultsToMerge) {
+        final Map<String, Object> item = (Map<String, Object>) iParameter;
+        if (merged.precision < 0) {
+          merged.setPrecision((Integer) item.get("precision"));
+        }
+        if (item.containsKey("sketch")) {
+          if (merged.sketch == null) {
+            merged.sketch = new OHyperLogLog(merged.precision);
+            for (Long h : merged.hashes) {
+              merged.sketch.addHash(h);
+            }
+            merged.hashes = null;
+          }
+          merged.sketch.merge(OHyperLogLog.fromBytes((byte[]) item.get("sketch")));
+        } else {
+          for (Long h : (List<Long>) item.get("hashes")) {
+            merged.addHash(h);
+          }
+        }
+      }
+      return merged.precision < 0 ? 0L : merged.evaluate();
+    }
+
+    if (!resultsToMerge.isEmpty()) return resultsToMerge.get(0);
+
+    return null;
+  }
+
+  @Override
+  public String getSyntax() {
+    return NAME + "(<field> [,<precision>])";
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estimates the percentile for a field with a {@link ODDSketch}, using bounded memory whatever the
+ * number of values. The result is within 1% of the exact percentile. Nulls are ignored in the
+ * calculation.
+ */
+public class OSQLFunctionApproxPercentile extends OSQLFunctionAbstract {
+
+  public static final String NAME = "approx_percentile";
+
+  protected List<Double> quantiles = new ArrayList<Double>();
+  private final ODDSketch sketch = new ODDSketch();
+
+  public OSQLFunctionApproxPercentile() {
+    this(NAME, 2, -1);
+  }
+
+  public OSQLFunctionApproxPercentile(
+      final String iName, final int iMinParams, final int iMaxParams) {
+    super(iName, iMinParams, iMaxParams);
+  }
+
+  @Override
+  public Object execute(
+      Object iThis,
+      OIdentifiable iCurrentRecord,
+      Object iCurrentResult,
+      Object[] iParams,
+      OCommandContext iContext) {
+
+    if (quantiles.isEmpty()) { // set quantiles once
+      for (int i = 1; i < iParams.length; ++i) {
+        this.quantiles.add(Double.parseDouble(iParams[i].toString()));
+      }
+    }
+
+    if (iParams[0] instanceof Number) {
+      sketch.add(((Number) iParams[0]).doubleValue());
+    } else if (OMultiValue.isMultiValue(iParams[0])) {
+      for (Object n : OMultiValue.getMultiValueIterable(iParams[0])) {
+        if (n != null) {
+          sketch.add(((Number) n).doubleValue());
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean aggregateResults() {
+    return true;
+  }
+
+  @Override
+  public Object getResult() {
+    if (returnDistributedResult()) {
+      // quantiles travel with the sketch, the merging instance never sees the parameters
+      List<Object> result = new ArrayList<Object>();
+      result.add(new ArrayList<Double>(quantiles));
+      result.add(sketch.toBytes());
+      return result;
+    } else {
+      return this.evaluate(sketch);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Object mergeDistributedResult(List<Object> resultsToMerge) {
+    if (returnDistributedResult()) {
+      ODDSketch merged = new ODDSketch();
+      for (Object iParameter : resultsToMerge) {
+        List<Object> partial = (List<Object>) iParameter;
+        if (quantiles.isEmpty()) {
+          quantiles.addAll((List<Double>) partial.get(0));
+        }
+        merged.merge(ODDSketch.fromBytes((byte[]) partial.get(1)));
+      }
+      return this.evaluate(merged);
+    }
+
+    if (!resultsToMerge.isEmpty()) return resultsToMerge.get(0);
+
+    return null;
+  }
+
+  @Override
+  public String getSyntax() {
+    return NAME + "(<field>, <quantile> [,<quantile>*])";
+  }
+
+  private Object evaluate(ODDSketch iSketch) {
+    if (iSketch.isEmpty()) { // result set is empty
+      return null;
+    }
+    if (quantiles.size() > 1) {
+      List<Number> results = new ArrayList<Number>();
+      for (Double q : this.quantiles) {
+        results.add(iSketch.getValueAtQuantile(q));
+      }
+      return results;
+    } else {
+      return iSketch.getValueAtQuantile(this.quantiles.get(0));
+    }
+  }
+}
@@ -116,4 +116,4 @@ public class JJTOrientSqlState {
     }
   }
 }
-/* JavaCC - OriginalChecksum=bc5837604982ea3807ab8b9f962d2e5e (do not edit this line) */
+/* JavaCC - OriginalChecksum=744a6fb68d2385b94125fa527a3bbd2a (do not edit this line) */
@@ -0,0 +1,133 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeClassStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatistics;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.util.Map;
+
+/**
+ * ANALYZE CLASS &lt;class-name&gt; [SAMPLE &lt;records&gt;] [FULL]: collects statistics of the
+ * properties of a class by sampling its clusters, see {@link OClassStatisticsManager}.
+ */
+public class OAnalyzeClassStatement extends OSimpleExecStatement {
+
+  protected OIdentifier className;
+  protected OInteger sample;
+  protected boolean full = false;
+
+  public OAnalyzeClassStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeClassStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OExecutionStream executeSimple(OCommandContext ctx) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final OClass clazz = db.getMetadata().getSchema().getClass(className.getStringValue());
+    if (clazz == null) {
+      throw new OCommandExecutionException("Schema Class not found: " + className);
+    }
+
+    final int records;
+    if (sample != null) {
+      records = sample.getValue().intValue();
+      if (records <= 0) {
+        throw new OCommandExecutionException(
+            "Amount of records to sample should be positive, but " + sample);
+      }
+    } else {
+      records =
+          db.getConfiguration()
+              .getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE);
+    }
+
+    final OClassStatisticsManager statisticsManager =
+        db.getSharedContext().getClassStatisticsManager();
+    if (statisticsManager == null) {
+      throw new OCommandExecutionException(
+          "'ANALYZE CLASS' command is not supported by database " + db.getName());
+    }
+
+    final OClassStatistics statistics = statisticsManager.analyze(db, clazz, records, full);
+
+    final OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "analyze class");
+    result.setProperty("className", clazz.getName());
+    result.setProperty("records", statistics.getRecords());
+    return OExecutionStream.singleton(result);
+  }
+
+  public OIdentifier getClassName() {
+    return className;
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toString(params, builder);
+    if (sample != null) {
+      builder.append(" SAMPLE ");
+      sample.toString(params, builder);
+    }
+    if (full) {
+      builder.append(" FULL");
+    }
+  }
+
+  @Override
+  public void toGenericStatement(StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toGenericStatement(builder);
+    if (sample != null) {
+      builder.append(" SAMPLE ");
+      sample.toGenericStatement(builder);
+    }
+    if (full) {
+      builder.append(" FULL");
+    }
+  }
+
+  @Override
+  public OAnalyzeClassStatement copy() {
+    OAnalyzeClassStatement result = new OAnalyzeClassStatement(-1);
+    result.className = className == null ? null : className.copy();
+    result.sample = sample == null ? null : sample.copy();
+    result.full = full;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    OAnalyzeClassStatement that = (OAnalyzeClassStatement) o;
+
+    if (full != that.full) return false;
+    if (className != null ? !className.equals(that.className) : that.className != null)
+      return false;
+    if (sample != null ? !sample.equals(that.sample) : that.sample != null) return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = className != null ? className.hashCode() : 0;
+    result = 31 * result + (sample != null ? sample.hashCode() : 0);
+    result = 31 * result + (full ? 1 : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=4f0c7d1e2a9b8c3d5e6f7a8b9c0d1e2f (do not edit this line) */
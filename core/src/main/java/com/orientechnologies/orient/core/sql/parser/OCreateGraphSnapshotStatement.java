@@ -0,0 +1,196 @@
+/* Generated By:JJTree: Do not edit this line. OCreateGraphSnapshotStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotBuilder;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * CREATE GRAPH SNAPSHOT &lt;name&gt; [VERTEX &lt;class&gt;[,&lt;class&gt;]*] [EDGE
+ * &lt;class&gt;[,&lt;class&gt;]*] [WEIGHT &lt;property&gt;]: builds an in memory snapshot of the
+ * adjacency of the graph, see {@link OGraphSnapshotManager}. A snapshot with the same name is
+ * replaced.
+ */
+public class OCreateGraphSnapshotStatement extends OSimpleExecStatement {
+
+  protected OIdentifier name;
+  protected List<OIdentifier> vertexClasses;
+  protected List<OIdentifier> edgeClasses;
+  protected OIdentifier weightProperty;
+
+  public OCreateGraphSnapshotStatement(int id) {
+    super(id);
+  }
+
+  public OCreateGraphSnapshotStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  public void addVertexClass(OIdentifier className) {
+    if (vertexClasses == null) {
+      vertexClasses = new ArrayList<>();
+    }
+    vertexClasses.add(className);
+  }
+
+  public void addEdgeClass(OIdentifier className) {
+    if (edgeClasses == null) {
+      edgeClasses = new ArrayList<>();
+    }
+    edgeClasses.add(className);
+  }
+
+  @Override
+  public OExecutionStream executeSimple(OCommandContext ctx) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final OGraphSnapshotManager snapshotManager = OGraphSnapshotManager.of(db);
+    if (snapshotManager == null) {
+      throw new OCommandExecutionException(
+          "'CREATE GRAPH SNAPSHOT' command is not supported by database " + db.getName());
+    }
+
+    final OGraphSnapshot snapshot;
+    try {
+      final OGraphSnapshotBuilder builder =
+          new OGraphSnapshotBuilder(name.getStringValue())
+              .edgeClasses(toStrings(edgeClasses))
+              .weightProperty(weightProperty == null ? null : weightProperty.getStringValue());
+      if (vertexClasses != null) {
+        builder.vertexClasses(toStrings(vertexClasses));
+      }
+      snapshot = snapshotManager.create(db, builder);
+    } catch (IllegalArgumentException e) {
+      throw OException.wrapException(new OCommandExecutionException(e.getMessage()), e);
+    }
+
+    final OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "create graph snapshot");
+    result.setProperty("name", snapshot.getName());
+    result.setProperty("vertices", snapshot.getVertexCount());
+    result.setProperty("edges", snapshot.getEdgeCount());
+    return OExecutionStream.singleton(result);
+  }
+
+  private static List<String> toStrings(List<OIdentifier> identifiers) {
+    if (identifiers == null) {
+      return null;
+    }
+    return identifiers.stream().map(OIdentifier::getStringValue).collect(Collectors.toList());
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("CREATE GRAPH SNAPSHOT ");
+    name.toString(params, builder);
+    if (vertexClasses != null) {
+      builder.append(" VERTEX ");
+      appendList(vertexClasses, params, builder);
+    }
+    if (edgeClasses != null) {
+      builder.append(" EDGE ");
+      appendList(edgeClasses, params, builder);
+    }
+    if (weightProperty != null) {
+      builder.append(" WEIGHT ");
+      weightProperty.toString(params, builder);
+    }
+  }
+
+  private static void appendList(
+      List<OIdentifier> identifiers, Map<Object, Object> params, StringBuilder builder) {
+    boolean first = true;
+    for (OIdentifier identifier : identifiers) {
+      if (!first) {
+        builder.append(", ");
+      }
+      identifier.toString(params, builder);
+      first = false;
+    }
+  }
+
+  @Override
+  public void toGenericStatement(StringBuilder builder) {
+    builder.append("CREATE GRAPH SNAPSHOT ");
+    name.toGenericStatement(builder);
+    if (vertexClasses != null) {
+      builder.append(" VERTEX ");
+      appendGenericList(vertexClasses, builder);
+    }
+    if (edgeClasses != null) {
+      builder.append(" EDGE ");
+      appendGenericList(edgeClasses, builder);
+    }
+    if (weightProperty != null) {
+      builder.append(" WEIGHT ");
+      weightProperty.toGenericStatement(builder);
+    }
+  }
+
+  private static void appendGenericList(List<OIdentifier> identifiers, StringBuilder builder) {
+    boolean first = true;
+    for (OIdentifier identifier : identifiers) {
+      if (!first) {
+        builder.append(", ");
+      }
+      identifier.toGenericStatement(builder);
+      first = false;
+    }
+  }
+
+  @Override
+  public OCreateGraphSnapshotStatement copy() {
+    OCreateGraphSnapshotStatement result = new OCreateGraphSnapshotStatement(-1);
+    result.name = name == null ? null : name.copy();
+    result.vertexClasses =
+        vertexClasses == null
+            ? null
+            : vertexClasses.stream().map(OIdentifier::copy).collect(Collectors.toList());
+    result.edgeClasses =
+        edgeClasses == null
+            ? null
+            : edgeClasses.stream().map(OIdentifier::copy).collect(Collectors.toList());
+    result.weightProperty = weightProperty == null ? null : weightProperty.copy();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    OCreateGraphSnapshotStatement that = (OCreateGraphSnapshotStatement) o;
+
+    if (name != null ? !name.equals(that.name) : that.name != null) return false;
+    if (vertexClasses != null
+        ? !vertexClasses.equals(that.vertexClasses)
+        : that.vertexClasses != null) return false;
+    if (edgeClasses != null ? !edgeClasses.equals(that.edgeClasses) : that.edgeClasses != null)
+      return false;
+    if (weightProperty != null
+        ? !weightProperty.equals(that.weightProperty)
+        : that.weightProperty != null) return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = name != null ? name.hashCode() : 0;
+    result = 31 * result + (vertexClasses != null ? vertexClasses.hashCode() : 0);
+    result = 31 * result + (edgeClasses != null ? edgeClasses.hashCode() : 0);
+    result = 31 * result + (weightProperty != null ? weightProperty.hashCode() : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=9a3c5e7f1b2d4f6a8c0e2a4c6e8a0c2e (do not edit this line) */
@@ -0,0 +1,101 @@
+/* Generated By:JJTree: Do not edit this line. ODropGraphSnapshotStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.util.Map;
+
+/**
+ * DROP GRAPH SNAPSHOT &lt;name&gt; [IF EXISTS]: removes a graph snapshot and releases its memory.
+ */
+public class ODropGraphSnapshotStatement extends OSimpleExecStatement {
+
+  protected OIdentifier name;
+  protected boolean ifExists = false;
+
+  public ODropGraphSnapshotStatement(int id) {
+    super(id);
+  }
+
+  public ODropGraphSnapshotStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OExecutionStream executeSimple(OCommandContext ctx) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final OGraphSnapshotManager snapshotManager = OGraphSnapshotManager.of(db);
+    if (snapshotManager == null) {
+      throw new OCommandExecutionException(
+          "'DROP GRAPH SNAPSHOT' command is not supported by database " + db.getName());
+    }
+
+    if (!snapshotManager.drop(name.getStringValue())) {
+      if (ifExists) {
+        return OExecutionStream.empty();
+      }
+      throw new OCommandExecutionException("Graph snapshot not found: " + name);
+    }
+
+    final OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "drop graph snapshot");
+    result.setProperty("name", name.getStringValue());
+    return OExecutionStream.singleton(result);
+  }
+
+  public OIdentifier getName() {
+    return name;
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("DROP GRAPH SNAPSHOT ");
+    name.toString(params, builder);
+    if (ifExists) {
+      builder.append(" IF EXISTS");
+    }
+  }
+
+  @Override
+  public void toGenericStatement(StringBuilder builder) {
+    builder.append("DROP GRAPH SNAPSHOT ");
+    name.toGenericStatement(builder);
+    if (ifExists) {
+      builder.append(" IF EXISTS");
+    }
+  }
+
+  @Override
+  public ODropGraphSnapshotStatement copy() {
+    ODropGraphSnapshotStatement result = new ODropGraphSnapshotStatement(-1);
+    result.name = name == null ? null : name.copy();
+    result.ifExists = ifExists;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    ODropGraphSnapshotStatement that = (ODropGraphSnapshotStatement) o;
+
+    if (ifExists != that.ifExists) return false;
+    if (name != null ? !name.equals(that.name) : that.name != null) return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = name != null ? name.hashCode() : 0;
+    result = 31 * result + (ifExists ? 1 : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=3e5a7c9e1b3d5f7a9c1e3a5c7e9b1d3f (do not edit this line) */
@@ -1,42 +1,86 @@
 package com.orientechnologies.orient.core.sql.parser;
 
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.config.OStorageConfiguration;
+import com.orientechnologies.orient.core.config.OStorageEntryConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.OMetadataUpdateListener;
+import com.orientechnologies.orient.core.index.OCompositeCollate;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
-import java.util.LinkedHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * This class is an LRU cache for already prepared SQL execution plans. It stores itself in the
  * storage as a resource. It also acts an an entry point for the SQL executor.
  *
+ * <p>The cache is lock free. Plans of SELECT statements from a class remember the classes they
+ * depend on, so changes of schema and indexes drop only the plans of the changed classes, all the
+ * other plans are dropped on any change of metadata.
+ *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
 public class OExecutionPlanCache implements OMetadataUpdateListener {
 
-  Map<String, OInternalExecutionPlan> map;
+  private static final Pattern STATEMENT_KEYWORD =
+      Pattern.compile("\\b(SELECT|TRAVERSE|MATCH)\\b", Pattern.CASE_INSENSITIVE);
+
+  final ConcurrentLinkedHashMap<String, CachedPlan> map;
   int mapSize;
 
-  protected long lastInvalidation = -1;
-  protected long lastGlobalTimeout = OGlobalConfiguration.COMMAND_TIMEOUT.getValueAsLong();
+  protected volatile long lastInvalidation = -1;
+  protected volatile long lastGlobalTimeout = OGlobalConfiguration.COMMAND_TIMEOUT.getValueAsLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /** fingerprints of classes and indexes, used to find the classes changed by a metadata update */
+  private Map<String, String> classFingerprints;
+
+  private Map<String, String> indexFingerprints;
+
+  /** fingerprint of the storage configuration apart from clusters and index engines */
+  private String configurationFingerprint;
 
   /** @param size the size of the cache */
   public OExecutionPlanCache(int size) {
     this.mapSize = size;
     map =
-        new LinkedHashMap<String, OInternalExecutionPlan>(size) {
-          protected boolean removeEldestEntry(
-              final Map.Entry<String, OInternalExecutionPlan> eldest) {
-            return super.size() > mapSize;
-          }
-        };
+        new ConcurrentLinkedHashMap.Builder<String, CachedPlan>()
+            .maximumWeightedCapacity(size)
+            .listener((statement, plan) -> evictions.increment())
+            .build();
   }
 
   public static long getLastInvalidation(ODatabaseDocumentInternal db) {
@@ -45,9 +89,7 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     }
 
     OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
-    synchronized (resource) {
-      return resource.lastInvalidation;
-    }
+    return resource.lastInvalidation;
   }
 
   /**
@@ -58,9 +100,7 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     if (OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
       return false;
     }
-    synchronized (map) {
-      return map.containsKey(statement);
-    }
+    return map.containsKey(statement);
   }
 
   /**
@@ -98,7 +138,39 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     resource.putInternal(statement, plan, db);
   }
 
+  /**
+   * puts the execution plan of the statement in the cache, the key is the original statement and
+   * the classes the plan depends on are calculated from the statement
+   */
+  public static void put(OStatement statement, OExecutionPlan plan, ODatabaseDocumentInternal db) {
+    if (db == null) {
+      throw new IllegalArgumentException("DB cannot be null");
+    }
+    if (statement == null || statement.getOriginalStatement() == null) {
+      return;
+    }
+
+    OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
+    Set<String> dependencies = dependenciesOf(statement, db);
+    if (dependencies != null) {
+      resource.initFingerprints(db);
+    }
+    resource.putInternal(statement.getOriginalStatement(), plan, dependencies, db);
+  }
+
   public void putInternal(String statement, OExecutionPlan plan, ODatabaseDocumentInternal db) {
+    putInternal(statement, plan, null, db);
+  }
+
+  /**
+   * @param dependencies lower case names of the classes the plan depends on, null if the plan
+   *     depends on the whole schema
+   */
+  private void putInternal(
+      String statement,
+      OExecutionPlan plan,
+      Set<String> dependencies,
+      ODatabaseDocumentInternal db) {
     if (statement == null) {
       return;
     }
@@ -107,14 +179,12 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
       return;
     }
 
-    synchronized (map) {
-      OInternalExecutionPlan internal = (OInternalExecutionPlan) plan;
-      OBasicCommandContext ctx = new OBasicCommandContext(db);
-      internal = internal.copy(ctx);
-      // this copy is never used, so it has to be closed to free resources
-      internal.close();
-      map.put(statement, internal);
-    }
+    OInternalExecutionPlan internal = (OInternalExecutionPlan) plan;
+    OBasicCommandContext ctx = new OBasicCommandContext(db);
+    internal = internal.copy(ctx);
+    // this copy is never used, so it has to be closed to free resources
+    internal.close();
+    map.put(statement, new CachedPlan(internal, dependencies));
   }
 
   /**
@@ -124,8 +194,6 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
    */
   public OExecutionPlan getInternal(
       String statement, OCommandContext ctx, ODatabaseDocumentInternal db) {
-    OInternalExecutionPlan result;
-
     long currentGlobalTimeout =
         db.getConfiguration().getValueAsLong(OGlobalConfiguration.COMMAND_TIMEOUT);
     if (currentGlobalTimeout != this.lastGlobalTimeout) {
@@ -139,16 +207,15 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     if (OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
       return null;
     }
-    synchronized (map) {
-      // LRU
-      result = map.remove(statement);
-      if (result != null) {
-        map.put(statement, result);
-        result = result.copy(ctx);
-      }
+
+    CachedPlan cached = map.get(statement);
+    if (cached == null) {
+      misses.increment();
+      return null;
     }
 
-    return result;
+    hits.increment();
+    return cached.plan.copy(ctx);
   }
 
   public void invalidate() {
@@ -157,22 +224,100 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
       return;
     }
 
-    synchronized (this) {
-      synchronized (map) {
-        map.clear();
-      }
+    map.clear();
+    lastInvalidation = System.currentTimeMillis();
+  }
+
+  /**
+   * drops the plans which depend on at least one of the given classes and the plans which depend on
+   * the whole schema
+   *
+   * @param classes lower case names of the changed classes
+   */
+  public void invalidate(Set<String> classes) {
+    if (OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
       lastInvalidation = System.currentTimeMillis();
+      return;
+    }
+
+    lastInvalidation = System.currentTimeMillis();
+    for (Map.Entry<String, CachedPlan> entry : map.entrySet()) {
+      if (entry.getValue().dependsOn(classes)) {
+        map.remove(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /** @return number of lookups which found the plan in the cache */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /** @return number of lookups which did not find the plan in the cache */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** @return number of plans removed from the cache to free space for other plans */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * remembers the current state of schema and indexes, so the next metadata update can be compared
+   * with it. Until that, any metadata update drops all the plans.
+   */
+  private synchronized void initFingerprints(ODatabaseDocumentInternal db) {
+    if (classFingerprints == null) {
+      classFingerprints = classFingerprintsOf(db.getMetadata().getImmutableSchemaSnapshot());
+    }
+    if (indexFingerprints == null) {
+      indexFingerprints = indexFingerprintsOf(db.getMetadata().getIndexManagerInternal(), db);
     }
   }
 
   @Override
-  public void onSchemaUpdate(String database, OSchemaShared schema) {
-    invalidate();
+  public synchronized void onSchemaUpdate(String database, OSchemaShared schema) {
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    Map<String, String> fingerprints =
+        db == null ? null : classFingerprintsOf(schema.makeSnapshot(db));
+
+    Map<String, String> previous = classFingerprints;
+    classFingerprints = fingerprints;
+    if (previous == null || fingerprints == null) {
+      invalidate();
+    } else {
+      invalidate(changedKeys(previous, fingerprints));
+    }
   }
 
   @Override
-  public void onIndexManagerUpdate(String database, OIndexManagerAbstract indexManager) {
-    invalidate();
+  public synchronized void onIndexManagerUpdate(
+      String database, OIndexManagerAbstract indexManager) {
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    Map<String, String> fingerprints = db == null ? null : indexFingerprintsOf(indexManager, db);
+
+    Map<String, String> previous = indexFingerprints;
+    indexFingerprints = fingerprints;
+    if (previous == null || fingerprints == null) {
+      invalidate();
+      return;
+    }
+
+    Set<String> changedClasses = new HashSet<>();
+    for (String indexName : changedKeys(previous, fingerprints)) {
+      String fingerprint = fingerprints.getOrDefault(indexName, previous.get(indexName));
+      // the fingerprint of an index starts with the name of its class
+      String className = fingerprint.substring(0, fingerprint.indexOf('|'));
+      if (!className.isEmpty()) {
+        changedClasses.add(className);
+      }
+    }
+    invalidate(changedClasses);
   }
 
   @Override
@@ -186,8 +331,16 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
   }
 
   @Override
-  public void onStorageConfigurationUpdate(String database, OStorageConfiguration update) {
-    invalidate();
+  public synchronized void onStorageConfigurationUpdate(
+      String database, OStorageConfiguration update) {
+    // clusters are updated together with the classes which own them, so their changes are
+    // handled by schema updates
+    String fingerprint = update == null ? null : fingerprintOf(update);
+    String previous = configurationFingerprint;
+    configurationFingerprint = fingerprint;
+    if (previous == null || !previous.equals(fingerprint)) {
+      invalidate();
+    }
   }
 
   public static OExecutionPlanCache instance(ODatabaseDocumentInternal db) {
@@ -198,4 +351,215 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
     return resource;
   }
+
+  /**
+   * calculates the classes the execution plan of a statement depends on: the plan of a SELECT from
+   * a class depends on the hierarchy of the class and on the classes reachable through its linked
+   * properties, that can be used by indexed chains.
+   *
+   * @return lower case class names or null if the plan can depend on any class
+   */
+  private static Set<String> dependenciesOf(OStatement statement, ODatabaseDocumentInternal db) {
+    if (!(statement instanceof OSelectStatement)) {
+      return null;
+    }
+    OSelectStatement select = (OSelectStatement) statement;
+    if (select.getLetClause() != null
+        || select.getTarget() == null
+        || select.getTarget().getItem() == null
+        || select.getTarget().getItem().getIdentifier() == null) {
+      return null;
+    }
+
+    // nested statements are planned together with the statement and can read any class
+    Matcher matcher = STATEMENT_KEYWORD.matcher(statement.getOriginalStatement());
+    if (!matcher.find() || matcher.find()) {
+      return null;
+    }
+
+    OClass clazz =
+        db.getMetadata()
+            .getImmutableSchemaSnapshot()
+            .getClass(select.getTarget().getItem().getIdentifier().getStringValue());
+    if (clazz == null || clazz instanceof OView) {
+      return null;
+    }
+
+    Set<String> result = new HashSet<>();
+    Deque<OClass> toVisit = new ArrayDeque<>();
+    toVisit.add(clazz);
+    while (!toVisit.isEmpty()) {
+      OClass current = toVisit.poll();
+      if (!result.add(current.getName().toLowerCase(Locale.ENGLISH))) {
+        continue;
+      }
+      if (current == clazz) {
+        toVisit.addAll(current.getAllSuperClasses());
+        toVisit.addAll(current.getAllSubclasses());
+      } else {
+        toVisit.addAll(current.getSuperClasses());
+      }
+      for (OProperty property : current.properties()) {
+        if (property.getLinkedClass() != null) {
+          toVisit.add(property.getLinkedClass());
+          toVisit.addAll(property.getLinkedClass().getAllSubclasses());
+        }
+      }
+    }
+    return result;
+  }
+
+  private static Map<String, String> classFingerprintsOf(OSchema schema) {
+    Map<String, String> result = new HashMap<>();
+    for (OClass clazz : schema.getClasses()) {
+      result.put(clazz.getName().toLowerCase(Locale.ENGLISH), fingerprintOf(clazz));
+    }
+    return result;
+  }
+
+  private static Map<String, String> indexFingerprintsOf(
+      OIndexManagerAbstract indexManager, ODatabaseDocumentInternal db) {
+    Map<String, String> result = new HashMap<>();
+    for (OIndex index : indexManager.getIndexes(db)) {
+      result.put(index.getName(), fingerprintOf(index));
+    }
+    return result;
+  }
+
+  private static String fingerprintOf(OClass clazz) {
+    StringBuilder builder = new StringBuilder();
+    builder.append(clazz.getName()).append('|');
+    builder.append(clazz.isAbstract()).append('|').append(clazz.isStrictMode()).append('|');
+    builder.append(Arrays.toString(clazz.getClusterIds())).append('|');
+    builder.append(Arrays.toString(clazz.getPolymorphicClusterIds())).append('|');
+    builder.append(sortedNames(clazz.getSuperClasses())).append('|');
+    builder.append(sortedNames(clazz.getSubclasses())).append('|');
+
+    Map<String, OProperty> properties = new TreeMap<>();
+    for (OProperty property : clazz.properties()) {
+      properties.put(property.getName(), property);
+    }
+    for (OProperty property : properties.values()) {
+      builder.append(property.getName()).append(':').append(property.getType());
+      if (property.getLinkedClass() != null) {
+        builder.append(':').append(property.getLinkedClass().getName());
+      }
+      if (property.getLinkedType() != null) {
+        builder.append(':').append(property.getLinkedType());
+      }
+      if (property.getCollate() != null) {
+        builder.append(':').append(nameOf(property.getCollate()));
+      }
+      builder.append(',');
+    }
+    return builder.toString();
+  }
+
+  private static String fingerprintOf(OStorageConfiguration configuration) {
+    StringBuilder builder = new StringBuilder();
+    builder.append(configuration.getDateFormat()).append('|');
+    builder.append(configuration.getDateTimeFormat()).append('|');
+    builder.append(configuration.getTimeZone()).append('|');
+    builder.append(configuration.getLocaleLanguage()).append('|');
+    builder.append(configuration.getLocaleCountry()).append('|');
+    builder.append(configuration.getCharset()).append('|');
+    builder.append(configuration.isStrictSql()).append('|');
+    builder.append(configuration.getClusterSelection()).append('|');
+    builder.append(configuration.getConflictStrategy()).append('|');
+    builder.append(configuration.isValidationEnabled()).append('|');
+    builder.append(configuration.getMinimumClusters()).append('|');
+
+    Map<String, String> properties = new TreeMap<>();
+    for (OStorageEntryConfiguration property : configuration.getProperties()) {
+      properties.put(property.name, property.value);
+    }
+    builder.append(properties).append('|');
+
+    OContextConfiguration context = configuration.getContextConfiguration();
+    if (context != null) {
+      Map<String, Object> values = new TreeMap<>();
+      for (String key : context.getContextKeys()) {
+        values.put(key, context.<Object>getValue(key, null));
+      }
+      builder.append(values);
+    }
+    return builder.toString();
+  }
+
+  private static String fingerprintOf(OIndex index) {
+    StringBuilder builder = new StringBuilder();
+    OIndexDefinition definition = index.getDefinition();
+    if (definition != null && definition.getClassName() != null) {
+      builder.append(definition.getClassName().toLowerCase(Locale.ENGLISH));
+    }
+    builder.append('|').append(index.getType()).append('|').append(index.getAlgorithm());
+    if (definition != null) {
+      builder.append('|').append(definition.getFields());
+      builder.append('|').append(definition.isNullValuesIgnored());
+      if (definition.getCollate() != null) {
+        builder.append('|').append(nameOf(definition.getCollate()));
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String nameOf(OCollate collate) {
+    if (collate instanceof OCompositeCollate) {
+      List<String> names = new ArrayList<>();
+      for (OCollate item : ((OCompositeCollate) collate).getCollates()) {
+        names.add(nameOf(item));
+      }
+      return names.toString();
+    }
+    return collate.getName();
+  }
+
+  private static String sortedNames(Collection<OClass> classes) {
+    if (classes == null || classes.isEmpty()) {
+      return "";
+    }
+    Set<String> names = new TreeSet<>();
+    for (OClass clazz : classes) {
+      names.add(clazz.getName());
+    }
+    return names.toString();
+  }
+
+  private static Set<String> changedKeys(
+      Map<String, String> previous, Map<String, String> current) {
+    Set<String> result = new HashSet<>();
+    for (Map.Entry<String, String> entry : current.entrySet()) {
+      if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+        result.add(entry.getKey());
+      }
+    }
+    for (String key : previous.keySet()) {
+      if (!current.containsKey(key)) {
+        result.add(key);
+      }
+    }
+    return result;
+  }
+
+  private static final class CachedPlan {
+    private final OInternalExecutionPlan plan;
+    private final Set<String> dependencies;
+
+    private CachedPlan(OInternalExecutionPlan plan, Set<String> dependencies) {
+      this.plan = plan;
+      this.dependencies = dependencies == null ? null : Collections.unmodifiableSet(dependencies);
+    }
+
+    private boolean dependsOn(Set<String> classes) {
+      if (dependencies == null) {
+        return true;
+      }
+      for (String clazz : classes) {
+        if (dependencies.contains(clazz)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
 }
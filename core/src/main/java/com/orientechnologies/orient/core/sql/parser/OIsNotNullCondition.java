@@ -60,6 +60,10 @@ public class OIsNotNullCondition extends OBooleanExpression {
     return true;
   }
 
+  public OExpression getExpression() {
+    return expression;
+  }
+
   public void toString(Map<Object, Object> params, StringBuilder builder) {
     expression.toString(params, builder);
     builder.append(" IS NOT NULL");
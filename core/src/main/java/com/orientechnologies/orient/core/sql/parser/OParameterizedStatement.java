@@ -0,0 +1,168 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.serialization.serializer.OStringSerializerHelper;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is used by the query executor to replace the literals of the WHERE condition of a
+ * SELECT statement with input parameters, so statements that differ only in literal values share
+ * the same execution plan in the {@link OExecutionPlanCache} <br>
+ * An example: <br>
+ * <br>
+ * <code>
+ * select from foo where name = 'John' and age &gt; 30
+ * </code> <br>
+ * <br>
+ * will become <br>
+ * <br>
+ * <code>
+ * select from foo where name = :$$$LITERAL$$_0 and age &gt; :$$$LITERAL$$_1
+ * </code> <br>
+ * <br>
+ * Only the operands of comparisons, BETWEEN and IN conditions are replaced, literals of
+ * projections, LIMIT and SKIP are kept because they change the shape of the result.
+ */
+public class OParameterizedStatement {
+
+  protected static final String GENERATED_PARAM_PREFIX = "$$$LITERAL$$_";
+
+  private final OSelectStatement statement;
+  private final Map<Object, Object> literals;
+
+  private OParameterizedStatement(OSelectStatement statement, Map<Object, Object> literals) {
+    this.statement = statement;
+    this.literals = Collections.unmodifiableMap(literals);
+  }
+
+  /**
+   * @param statement the statement to parameterize, it is not modified
+   * @return the parameterized copy of the statement or null if the statement does not contain
+   *     literals which can be replaced
+   */
+  public static OParameterizedStatement of(OSelectStatement statement) {
+    if (statement.getWhereClause() == null
+        || statement.getWhereClause().getBaseExpression() == null) {
+      return null;
+    }
+
+    OSelectStatement result = statement.copy();
+    OBooleanExpression condition = statement.getWhereClause().getBaseExpression().copy();
+    Map<Object, Object> literals = new LinkedHashMap<>();
+    replaceLiterals(condition, literals);
+    if (literals.isEmpty()) {
+      return null;
+    }
+
+    // a new WHERE clause, so conditions flattened from the original literals are not reused
+    OWhereClause whereClause = new OWhereClause(-1);
+    whereClause.setBaseExpression(condition);
+    result.setWhereClause(whereClause);
+    result.setOriginalStatement(result.toString());
+
+    return new OParameterizedStatement(result, literals);
+  }
+
+  public OSelectStatement getStatement() {
+    return statement;
+  }
+
+  public Map<Object, Object> getLiterals() {
+    return literals;
+  }
+
+  /**
+   * @param params the input parameters of the original statement, can be null
+   * @return the input parameters of the parameterized statement
+   */
+  public Map<Object, Object> bind(Map<Object, Object> params) {
+    Map<Object, Object> result = new HashMap<>(literals);
+    if (params != null) {
+      result.putAll(params);
+    }
+    return result;
+  }
+
+  private static void replaceLiterals(OBooleanExpression condition, Map<Object, Object> literals) {
+    if (condition instanceof OAndBlock) {
+      for (OBooleanExpression subBlock : ((OAndBlock) condition).getSubBlocks()) {
+        replaceLiterals(subBlock, literals);
+      }
+    } else if (condition instanceof OOrBlock) {
+      for (OBooleanExpression subBlock : ((OOrBlock) condition).getSubBlocks()) {
+        replaceLiterals(subBlock, literals);
+      }
+    } else if (condition instanceof ONotBlock) {
+      replaceLiterals(((ONotBlock) condition).sub, literals);
+    } else if (condition instanceof OParenthesisBlock) {
+      replaceLiterals(((OParenthesisBlock) condition).subElement, literals);
+    } else if (condition instanceof OBinaryCondition) {
+      replaceLiteral(((OBinaryCondition) condition).right, literals);
+    } else if (condition instanceof OBetweenCondition) {
+      replaceLiteral(((OBetweenCondition) condition).second, literals);
+      replaceLiteral(((OBetweenCondition) condition).third, literals);
+    } else if (condition instanceof OInCondition) {
+      OCollection collection = collectionOf(((OInCondition) condition).rightMathExpression);
+      if (collection != null) {
+        for (OExpression item : collection.getExpressions()) {
+          replaceLiteral(item, literals);
+        }
+      }
+    }
+  }
+
+  private static OCollection collectionOf(OMathExpression expression) {
+    if (!(expression instanceof OBaseExpression)) {
+      return null;
+    }
+    OBaseExpression base = (OBaseExpression) expression;
+    if (base.modifier != null
+        || base.getIdentifier() == null
+        || base.getIdentifier().getSuffix() != null
+        || base.getIdentifier().getLevelZero() == null) {
+      return null;
+    }
+    return base.getIdentifier().getLevelZero().getCollection();
+  }
+
+  private static void replaceLiteral(OExpression expression, Map<Object, Object> literals) {
+    if (expression == null) {
+      return;
+    }
+
+    if (expression.booleanValue != null) {
+      OBaseExpression base = new OBaseExpression(-1);
+      base.inputParam = newParameter(expression.booleanValue, literals);
+      expression.booleanValue = null;
+      expression.mathExpression = base;
+      return;
+    }
+
+    if (!(expression.mathExpression instanceof OBaseExpression)) {
+      return;
+    }
+    OBaseExpression base = (OBaseExpression) expression.mathExpression;
+    if (base.modifier != null) {
+      return;
+    }
+    if (base.number != null) {
+      base.inputParam = newParameter(base.number.getValue(), literals);
+      base.number = null;
+    } else if (base.string != null && base.string.length() > 1) {
+      String value =
+          OStringSerializerHelper.decode(base.string.substring(1, base.string.length() - 1));
+      base.inputParam = newParameter(value, literals);
+      base.string = null;
+    }
+  }
+
+  private static ONamedParameter newParameter(Object value, Map<Object, Object> literals) {
+    ONamedParameter result = new ONamedParameter(-1);
+    result.paramName = GENERATED_PARAM_PREFIX + literals.size();
+    result.paramNumber = -1;
+    literals.put(result.paramName, value);
+    return result;
+  }
+}
@@ -8,6 +8,7 @@ package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
@@ -18,6 +19,7 @@ import com.orientechnologies.orient.core.sql.executor.OSelectExecutionPlanner;
 import com.orientechnologies.orient.core.storage.OStorage;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 public class OSelectStatement extends OStatement {
 
@@ -49,6 +51,9 @@ public class OSelectStatement extends OStatement {
 
   protected Boolean noCache;
 
+  /** copy of this statement with literals replaced by input parameters, created on first use */
+  private volatile Optional<OParameterizedStatement> parameterized;
+
   public OSelectStatement(int id) {
     super(id);
   }
@@ -348,7 +353,7 @@ public class OSelectStatement extends OStatement {
     ctx.setInputParameters(params);
     OInternalExecutionPlan executionPlan;
     if (usePlanCache) {
-      executionPlan = createExecutionPlan(ctx, false);
+      executionPlan = createParameterizedExecutionPlan(ctx);
     } else {
       executionPlan = createExecutionPlanNoCache(ctx, false);
     }
@@ -367,7 +372,7 @@ public class OSelectStatement extends OStatement {
     ctx.setInputParameters(params);
     OInternalExecutionPlan executionPlan;
     if (usePlanCache) {
-      executionPlan = createExecutionPlan(ctx, false);
+      executionPlan = createParameterizedExecutionPlan(ctx);
     } else {
       executionPlan = createExecutionPlanNoCache(ctx, false);
     }
@@ -384,6 +389,45 @@ public class OSelectStatement extends OStatement {
     return result;
   }
 
+  /**
+   * creates the execution plan of the statement with literals of the WHERE condition replaced by
+   * input parameters, so the plan is shared with the statements that differ only in literal values
+   */
+  private OInternalExecutionPlan createParameterizedExecutionPlan(OCommandContext ctx) {
+    OParameterizedStatement parameterizedStatement = getParameterizedStatement(ctx);
+    if (parameterizedStatement == null) {
+      return createExecutionPlan(ctx, false);
+    }
+
+    ctx.setInputParameters(parameterizedStatement.bind(ctx.getInputParameters()));
+    OSelectExecutionPlanner planner =
+        new OSelectExecutionPlanner(parameterizedStatement.getStatement());
+    OInternalExecutionPlan result = planner.createExecutionPlan(ctx, false, true);
+    result.setStatement(this.originalStatement);
+    result.setGenericStatement(this.toGenericStatement());
+    return result;
+  }
+
+  private OParameterizedStatement getParameterizedStatement(OCommandContext ctx) {
+    if (!ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsBoolean(OGlobalConfiguration.STATEMENT_CACHE_PARAMETERIZE_LITERALS)
+        || OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
+      return null;
+    }
+
+    Optional<OParameterizedStatement> result = parameterized;
+    if (result == null) {
+      // statements are shared by the statement cache, the copy is created once and never changed
+      result =
+          executinPlanCanBeCached()
+              ? Optional.ofNullable(OParameterizedStatement.of(this))
+              : Optional.empty();
+      parameterized = result;
+    }
+    return result.orElse(null);
+  }
+
   public OInternalExecutionPlan createExecutionPlanNoCache(
       OCommandContext ctx, boolean enableProfiling) {
     OSelectExecutionPlanner planner = new OSelectExecutionPlanner(this);
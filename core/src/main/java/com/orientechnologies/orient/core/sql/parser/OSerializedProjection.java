@@ -0,0 +1,200 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.OPropertyEncryption;
+import com.orientechnologies.orient.core.metadata.security.OPropertyEncryptionNone;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Calculates a projection made only of field names (eg. <code>SELECT name, age AS years</code>)
+ * reading the projected fields directly from the serialized content of the records, in a single
+ * pass on the record header. Neither the other fields nor the projected ones are deserialized into
+ * the document. <br>
+ * Only scalar values are read this way. If a record has not been loaded from the storage, has
+ * been changed or contains a projected value which is not a scalar, the projection has to be
+ * calculated on the document.
+ */
+public final class OSerializedProjection {
+
+  private final String[] aliases;
+  private final String[] fieldNames;
+
+  /** Position in {@link #fieldNames} of the field of each alias. */
+  private final int[] fieldOfAlias;
+
+  private OSerializedProjection(String[] aliases, String[] fieldNames, int[] fieldOfAlias) {
+    this.aliases = aliases;
+    this.fieldNames = fieldNames;
+    this.fieldOfAlias = fieldOfAlias;
+  }
+
+  /**
+   * @return the serialized projection or null if the projection is not made only of field names
+   *     or it cannot be read from serialized records of this database
+   */
+  public static OSerializedProjection of(OProjection projection, OCommandContext ctx) {
+    if (projection == null
+        || projection.getItems() == null
+        || projection.getItems().isEmpty()
+        || projection.isExpand()) {
+      return null;
+    }
+
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db == null
+        || db.isRemote()
+        || !db.getConfiguration()
+            .getValueAsBoolean(OGlobalConfiguration.QUERY_SERIALIZED_PROJECTION)
+        || (db.getUser() != null
+            && !db.getSharedContext().getSecurity().getAllFilteredProperties(db).isEmpty())) {
+      // property security hides field values, so they can be read only from the document. It is
+      // not checked without a user, it filters nothing and is computed by a query of this kind
+      return null;
+    }
+
+    List<OProjectionItem> items = projection.getItems();
+    String[] aliases = new String[items.size()];
+    int[] fieldOfAlias = new int[items.size()];
+    List<String> fieldNames = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      OProjectionItem item = items.get(i);
+      String fieldName = fieldNameOf(item);
+      if (fieldName == null) {
+        return null;
+      }
+      aliases[i] = item.getProjectionAliasAsString();
+      int field = fieldNames.indexOf(fieldName);
+      if (field < 0) {
+        fieldNames.add(fieldName);
+        field = fieldNames.size() - 1;
+      }
+      fieldOfAlias[i] = field;
+    }
+    return new OSerializedProjection(
+        aliases, fieldNames.toArray(new String[fieldNames.size()]), fieldOfAlias);
+  }
+
+  /** @return the name of the field projected by the item, null if it is not a plain field */
+  private static String fieldNameOf(OProjectionItem item) {
+    OExpression expression = item.getExpression();
+    if (item.exclude
+        || item.isAll()
+        || item.nestedProjection != null
+        || expression == null
+        || !expression.isBaseIdentifier()
+        || expression.isFunctionAny()
+        || expression.isFunctionAll()
+        || item.isAggregate()) {
+      return null;
+    }
+    String name = expression.getDefaultAlias().getStringValue();
+    if (name.startsWith("$") || name.startsWith("@")) {
+      return null;
+    }
+    return name;
+  }
+
+  /**
+   * @param record a result of the previous step
+   * @return the projected result or null if it has to be calculated on the document
+   */
+  public OResult calculate(OResult record) {
+    Optional<OElement> element = record.getElement();
+    if (!element.isPresent()) {
+      return null;
+    }
+    ORecord rec = element.get().getRecord();
+    if (!(rec instanceof ODocument)
+        || !(ORecordInternal.getRecordSerializer(rec) instanceof ORecordSerializerBinary)) {
+      return null;
+    }
+    ODocument document = (ODocument) rec;
+    byte[] content = ODocumentInternal.getUnchangedSource(document);
+    if (content == null || content.length < 2) {
+      return null;
+    }
+
+    Object[] values = deserialize(document, content);
+    if (values == null) {
+      return null;
+    }
+
+    OResultInternal result = new OResultInternal();
+    for (int i = 0; i < aliases.length; i++) {
+      result.setProperty(aliases[i], values[fieldOfAlias[i]]);
+    }
+    for (String key : record.getMetadataKeys()) {
+      result.setMetadata(key, record.getMetadata(key));
+    }
+    return result;
+  }
+
+  private Object[] deserialize(ODocument document, byte[] content) {
+    OImmutableSchema schema = ODocumentInternal.getImmutableSchema(document);
+    OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(document);
+    OPropertyEncryption encryption = ODocumentInternal.getPropertyEncryption(document);
+    if (schema == null) {
+      return null;
+    }
+
+    Object[] values;
+    try {
+      ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getSerializer(content[0]);
+      if (serializer == null) {
+        return null;
+      }
+      // the first byte is the version of the serializer
+      values =
+          serializer.deserializeFieldsTyped(
+              new BytesContainer(content, 1),
+              fieldNames,
+              false,
+              schema,
+              encryption != null ? encryption : OPropertyEncryptionNone.instance());
+    } catch (RuntimeException e) {
+      return null;
+    }
+
+    for (int i = 0; i < values.length; i++) {
+      Object value = values[i];
+      if (value == null) {
+        continue;
+      }
+      if (!(value instanceof Number
+          || value instanceof String
+          || value instanceof Boolean
+          || value instanceof Date)) {
+        return null;
+      }
+
+      // the document converts values stored with a type different from the one of the property
+      OProperty property = clazz == null ? null : clazz.getProperty(fieldNames[i]);
+      OType type = OType.getTypeByValue(value);
+      if (property != null
+          && type != property.getType()
+          && !(type == OType.DATETIME && property.getType() == OType.DATE)) {
+        return null;
+      }
+    }
+    return values;
+  }
+}
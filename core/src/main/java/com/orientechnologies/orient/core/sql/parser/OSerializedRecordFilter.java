@@ -0,0 +1,382 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.OPropertyEncryptionNone;
+import com.orientechnologies.orient.core.record.ORecordVersionHelper;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates the WHERE condition of a cluster scan on serialized records, reading from the binary
+ * content only the fields used by the condition, so records which do not match are never
+ * deserialized. <br>
+ * Only comparisons, IN, IS NULL and IS NOT NULL conditions on fields of the record, combined with
+ * AND, OR and NOT, are evaluated. The result of any other condition is unknown, so a record is
+ * rejected only if the condition is false for sure: the records which are accepted are still
+ * filtered with the whole condition once deserialized.
+ */
+public final class OSerializedRecordFilter implements Predicate<ORawBuffer> {
+
+  private enum Result {
+    TRUE,
+    FALSE,
+    UNKNOWN;
+
+    private static Result of(boolean value) {
+      return value ? TRUE : FALSE;
+    }
+
+    private Result negate() {
+      if (this == UNKNOWN) {
+        return UNKNOWN;
+      }
+      return this == TRUE ? FALSE : TRUE;
+    }
+  }
+
+  /** Value of fields which cannot be evaluated on the serialized record. */
+  private static final Object UNSUPPORTED = new Object();
+
+  private static final Condition UNKNOWN_CONDITION = fields -> Result.UNKNOWN;
+
+  private final OImmutableSchema schema;
+  private final List<String> fieldNames;
+  private final List<OType> fieldTypes;
+  private final Condition condition;
+
+  private OSerializedRecordFilter(
+      OImmutableSchema schema,
+      List<String> fieldNames,
+      List<OType> fieldTypes,
+      Condition condition) {
+    this.schema = schema;
+    this.fieldNames = fieldNames;
+    this.fieldTypes = fieldTypes;
+    this.condition = condition;
+  }
+
+  /**
+   * @param whereClause the condition which is applied to the records of the cluster after the
+   *     scan
+   * @param clusterId the scanned cluster
+   * @return the filter or null if no part of the condition can be evaluated on serialized records
+   */
+  public static OSerializedRecordFilter of(
+      OWhereClause whereClause, int clusterId, OCommandContext ctx) {
+    if (whereClause == null || whereClause.getBaseExpression() == null) {
+      return null;
+    }
+
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.isRemote()
+        || !db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_SERIALIZED_FILTER)
+        || !(db.getSerializer() instanceof ORecordSerializerBinary)
+        || (db.getUser() != null
+            && !db.getSharedContext().getSecurity().getAllFilteredProperties(db).isEmpty())) {
+      // property security hides field values, so they can be checked only on the record. It is
+      // not checked without a user, it filters nothing and is computed by a query of this kind
+      return null;
+    }
+
+    OImmutableSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    OClass clazz = schema.getClassByClusterId(clusterId);
+    if (clazz instanceof OImmutableClass && ((OImmutableClass) clazz).isTriggered()) {
+      // triggers can change the record before it is filtered
+      return null;
+    }
+
+    Compiler compiler = new Compiler(clazz, ctx);
+    Condition condition = compiler.compile(whereClause.getBaseExpression());
+    if (condition == UNKNOWN_CONDITION) {
+      return null;
+    }
+    return new OSerializedRecordFilter(schema, compiler.fieldNames, compiler.fieldTypes, condition);
+  }
+
+  /** @return false if the record does not match the condition for sure */
+  @Override
+  public boolean test(ORawBuffer buffer) {
+    if (buffer.recordType != ODocument.RECORD_TYPE
+        || ORecordVersionHelper.isTombstone(buffer.version)
+        || buffer.buffer == null
+        || buffer.buffer.length < 2) {
+      return true;
+    }
+
+    ODocumentSerializer serializer;
+    try {
+      serializer = ORecordSerializerBinary.INSTANCE.getSerializer(buffer.buffer[0]);
+    } catch (RuntimeException e) {
+      return true;
+    }
+    if (serializer == null) {
+      return true;
+    }
+
+    return condition.evaluate(new Fields(serializer, buffer.buffer)) != Result.FALSE;
+  }
+
+  private interface Condition {
+    Result evaluate(Fields fields);
+  }
+
+  /** Fields of a serialized record, each of them is deserialized at most once. */
+  private final class Fields {
+    private final ODocumentSerializer serializer;
+    private final byte[] content;
+    private final Object[] values;
+    private final boolean[] read;
+
+    private Fields(ODocumentSerializer serializer, byte[] content) {
+      this.serializer = serializer;
+      this.content = content;
+      this.values = new Object[fieldNames.size()];
+      this.read = new boolean[fieldNames.size()];
+    }
+
+    private Object get(int field) {
+      if (!read[field]) {
+        values[field] = deserialize(fieldNames.get(field), fieldTypes.get(field));
+        read[field] = true;
+      }
+      return values[field];
+    }
+
+    private Object deserialize(String fieldName, OType propertyType) {
+      Object value;
+      try {
+        // the first byte is the version of the serializer
+        value =
+            serializer.deserializeFieldTyped(
+                new BytesContainer(content, 1),
+                fieldName,
+                false,
+                schema,
+                OPropertyEncryptionNone.instance());
+      } catch (RuntimeException e) {
+        return UNSUPPORTED;
+      }
+
+      if (value == null) {
+        return null;
+      }
+      if (!(value instanceof Number
+          || value instanceof String
+          || value instanceof Boolean
+          || value instanceof Date)) {
+        return UNSUPPORTED;
+      }
+
+      // the document converts values stored with a type different from the one of the property
+      OType type = OType.getTypeByValue(value);
+      if (propertyType != null
+          && type != propertyType
+          && !(type == OType.DATETIME && propertyType == OType.DATE)) {
+        return UNSUPPORTED;
+      }
+      return value;
+    }
+  }
+
+  private static final class Compiler {
+    private final OClass clazz;
+    private final OCommandContext ctx;
+    private final List<String> fieldNames = new ArrayList<>();
+    private final List<OType> fieldTypes = new ArrayList<>();
+
+    private Compiler(OClass clazz, OCommandContext ctx) {
+      this.clazz = clazz;
+      this.ctx = ctx;
+    }
+
+    private Condition compile(OBooleanExpression expression) {
+      if (expression instanceof OAndBlock) {
+        return and(compileAll(((OAndBlock) expression).getSubBlocks()));
+      } else if (expression instanceof OOrBlock) {
+        return or(compileAll(((OOrBlock) expression).getSubBlocks()));
+      } else if (expression instanceof ONotBlock) {
+        ONotBlock not = (ONotBlock) expression;
+        if (not.sub == null) {
+          return UNKNOWN_CONDITION;
+        }
+        Condition sub = compile(not.sub);
+        if (!not.negate || sub == UNKNOWN_CONDITION) {
+          return sub;
+        }
+        return fields -> sub.evaluate(fields).negate();
+      } else if (expression instanceof OParenthesisBlock) {
+        return compile(((OParenthesisBlock) expression).subElement);
+      } else if (expression instanceof OBinaryCondition) {
+        return compileBinary((OBinaryCondition) expression);
+      } else if (expression instanceof OInCondition) {
+        return compileIn((OInCondition) expression);
+      } else if (expression instanceof OIsNullCondition) {
+        int field = fieldOf(((OIsNullCondition) expression).getExpression());
+        if (field < 0) {
+          return UNKNOWN_CONDITION;
+        }
+        return fields -> evaluate(fields.get(field), value -> value == null);
+      } else if (expression instanceof OIsNotNullCondition) {
+        int field = fieldOf(((OIsNotNullCondition) expression).getExpression());
+        if (field < 0) {
+          return UNKNOWN_CONDITION;
+        }
+        return fields -> evaluate(fields.get(field), value -> value != null);
+      }
+      return UNKNOWN_CONDITION;
+    }
+
+    private List<Condition> compileAll(List<OBooleanExpression> expressions) {
+      List<Condition> result = new ArrayList<>(expressions.size());
+      for (OBooleanExpression expression : expressions) {
+        result.add(compile(expression));
+      }
+      return result;
+    }
+
+    private static Condition and(List<Condition> conditions) {
+      // conditions which are never evaluated can only reject records, not accept them
+      boolean partial = conditions.removeIf(x -> x == UNKNOWN_CONDITION);
+      if (conditions.isEmpty()) {
+        return UNKNOWN_CONDITION;
+      }
+      return fields -> {
+        Result result = partial ? Result.UNKNOWN : Result.TRUE;
+        for (Condition condition : conditions) {
+          Result value = condition.evaluate(fields);
+          if (value == Result.FALSE) {
+            return Result.FALSE;
+          } else if (value == Result.UNKNOWN) {
+            result = Result.UNKNOWN;
+          }
+        }
+        return result;
+      };
+    }
+
+    private static Condition or(List<Condition> conditions) {
+      if (conditions.isEmpty() || conditions.contains(UNKNOWN_CONDITION)) {
+        // a condition which is never evaluated can match any record
+        return UNKNOWN_CONDITION;
+      }
+      return fields -> {
+        Result result = Result.FALSE;
+        for (Condition condition : conditions) {
+          Result value = condition.evaluate(fields);
+          if (value == Result.TRUE) {
+            return Result.TRUE;
+          } else if (value == Result.UNKNOWN) {
+            result = Result.UNKNOWN;
+          }
+        }
+        return result;
+      };
+    }
+
+    private Condition compileBinary(OBinaryCondition condition) {
+      OBinaryCompareOperator operator = condition.getOperator();
+      if (!(operator instanceof OEqualsCompareOperator
+          || operator instanceof ONeqOperator
+          || operator instanceof ONeOperator
+          || operator instanceof OLtOperator
+          || operator instanceof OLeOperator
+          || operator instanceof OGtOperator
+          || operator instanceof OGeOperator)) {
+        return UNKNOWN_CONDITION;
+      }
+
+      int field = fieldOf(condition.getLeft());
+      if (field < 0 || !condition.getRight().isEarlyCalculated(ctx)) {
+        return UNKNOWN_CONDITION;
+      }
+      Object right = condition.getRight().execute((OResult) null, ctx);
+      if (condition.getRight().getCollate((OResult) null, ctx) != null) {
+        return UNKNOWN_CONDITION;
+      }
+      return fields -> evaluate(fields.get(field), value -> operator.execute(value, right));
+    }
+
+    private Condition compileIn(OInCondition condition) {
+      if (condition.getRightStatement() != null) {
+        return UNKNOWN_CONDITION;
+      }
+      int field = fieldOf(condition.getLeft());
+      if (field < 0) {
+        return UNKNOWN_CONDITION;
+      }
+
+      Object right;
+      if (condition.getRightParam() != null) {
+        right = condition.getRightParam().getValue(ctx.getInputParameters());
+      } else if (condition.getRightMathExpression() != null
+          && condition.getRightMathExpression().isEarlyCalculated(ctx)) {
+        right = condition.getRightMathExpression().execute((OResult) null, ctx);
+      } else {
+        return UNKNOWN_CONDITION;
+      }
+
+      if (right == null) {
+        return fields -> Result.FALSE;
+      }
+      return fields ->
+          evaluate(fields.get(field), value -> OInCondition.evaluateExpression(value, right));
+    }
+
+    /**
+     * @return the position of the field in the list of the fields read by the filter, or -1 if
+     *     the expression is not a field which can be read from serialized records
+     */
+    private int fieldOf(OExpression expression) {
+      if (expression == null
+          || !expression.isBaseIdentifier()
+          || expression.isFunctionAny()
+          || expression.isFunctionAll()) {
+        return -1;
+      }
+      String name = expression.getDefaultAlias().getStringValue();
+      if (name.startsWith("$") || name.startsWith("@")) {
+        return -1;
+      }
+
+      OProperty property = clazz == null ? null : clazz.getProperty(name);
+      if (property != null && !(property.getCollate() instanceof ODefaultCollate)) {
+        return -1;
+      }
+
+      int result = fieldNames.indexOf(name);
+      if (result < 0) {
+        fieldNames.add(name);
+        result = fieldNames.size() - 1;
+        fieldTypes.add(property != null ? property.getType() : null);
+      }
+      return result;
+    }
+  }
+
+  private static Result evaluate(Object value, Predicate<Object> predicate) {
+    if (value == UNSUPPORTED) {
+      return Result.UNKNOWN;
+    }
+    try {
+      return Result.of(predicate.test(value));
+    } catch (RuntimeException e) {
+      return Result.UNKNOWN;
+    }
+  }
+}
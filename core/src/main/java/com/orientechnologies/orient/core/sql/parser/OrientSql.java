@@ -28,7 +28,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(271);
+        jj_consume_token(277);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -279,6 +279,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -300,7 +306,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             ;
             break;
           default:
@@ -793,6 +799,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case SYSTEM:
           token = jj_consume_token(SYSTEM);
           break;
+        case ANALYZE:
+          token = jj_consume_token(ANALYZE);
+          break;
+        case SAMPLE:
+          token = jj_consume_token(SAMPLE);
+          break;
+        case FULL:
+          token = jj_consume_token(FULL);
+          break;
+        case GRAPH:
+          token = jj_consume_token(GRAPH);
+          break;
+        case SNAPSHOT:
+          token = jj_consume_token(SNAPSHOT);
+          break;
+        case WEIGHT:
+          token = jj_consume_token(WEIGHT);
+          break;
         case QUOTED_IDENTIFIER:
           quotedToken = jj_consume_token(QUOTED_IDENTIFIER);
           break;
@@ -1188,6 +1212,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -1208,7 +1238,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             result = ExpressionStatement();
             break;
           default:
@@ -1261,7 +1291,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result = null;
     try {
-      if (jj_2_53(2)) {
+      if (jj_2_56(2)) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
           case TRAVERSE:
@@ -1310,17 +1340,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     result = AlterSecurityPolicyStatement();
                   } else if (jj_2_26(2)) {
                     result = CreateSequenceStatement();
-                  } else if (jj_2_27(2147483647)) {
-                    result = CreateVertexStatementNoTarget();
+                  } else if (jj_2_27(2)) {
+                    result = CreateGraphSnapshotStatement();
                   } else if (jj_2_28(2147483647)) {
-                    result = CreateVertexStatement();
+                    result = CreateVertexStatementNoTarget();
                   } else if (jj_2_29(2147483647)) {
-                    result = CreateVertexStatementEmptyNoTarget();
+                    result = CreateVertexStatement();
                   } else if (jj_2_30(2147483647)) {
-                    result = CreateEdgeStatement();
+                    result = CreateVertexStatementEmptyNoTarget();
                   } else if (jj_2_31(2147483647)) {
-                    result = UpdateEdgeStatement();
+                    result = CreateEdgeStatement();
                   } else if (jj_2_32(2147483647)) {
+                    result = UpdateEdgeStatement();
+                  } else if (jj_2_33(2147483647)) {
                     result = UpdateStatement();
                   } else {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1329,27 +1361,31 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       default:
                         jj_la1[13] = jj_gen;
-                        if (jj_2_33(2147483647)) {
+                        if (jj_2_34(2147483647)) {
                           result = ProfileStorageStatement();
-                        } else if (jj_2_34(2147483647)) {
-                          result = TruncateClassStatement();
                         } else if (jj_2_35(2147483647)) {
-                          result = TruncateClusterStatement();
+                          result = TruncateClassStatement();
                         } else if (jj_2_36(2147483647)) {
+                          result = TruncateClusterStatement();
+                        } else if (jj_2_37(2147483647)) {
                           result = TruncateRecordStatement();
-                        } else if (jj_2_37(2)) {
-                          result = AlterSequenceStatement();
                         } else if (jj_2_38(2147483647)) {
-                          result = AlterClassStatement();
+                          result = AnalyzeClassStatement();
                         } else if (jj_2_39(2)) {
-                          result = DropSequenceStatement();
+                          result = AlterSequenceStatement();
                         } else if (jj_2_40(2147483647)) {
+                          result = AlterClassStatement();
+                        } else if (jj_2_41(2)) {
+                          result = DropSequenceStatement();
+                        } else if (jj_2_42(2)) {
+                          result = DropGraphSnapshotStatement();
+                        } else if (jj_2_43(2147483647)) {
                           result = DropClassStatement();
-                        } else if (jj_2_41(2147483647)) {
+                        } else if (jj_2_44(2147483647)) {
                           result = DropViewStatement();
-                        } else if (jj_2_42(2147483647)) {
+                        } else if (jj_2_45(2147483647)) {
                           result = AlterPropertyStatement();
-                        } else if (jj_2_43(2147483647)) {
+                        } else if (jj_2_46(2147483647)) {
                           result = DropPropertyStatement();
                         } else {
                           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1358,13 +1394,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                               break;
                             default:
                               jj_la1[14] = jj_gen;
-                              if (jj_2_44(2)) {
+                              if (jj_2_47(2)) {
                                 result = DropIndexStatement();
-                              } else if (jj_2_45(2147483647)) {
+                              } else if (jj_2_48(2147483647)) {
                                 result = AlterClusterStatement();
-                              } else if (jj_2_46(2)) {
+                              } else if (jj_2_49(2)) {
                                 result = DropClusterStatement();
-                              } else if (jj_2_47(2)) {
+                              } else if (jj_2_50(2)) {
                                 result = AlterDatabaseStatement();
                               } else {
                                 switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1400,15 +1436,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                     break;
                                   default:
                                     jj_la1[15] = jj_gen;
-                                    if (jj_2_48(2147483647)) {
+                                    if (jj_2_51(2147483647)) {
                                       result = HaRemoveServerStatement();
-                                    } else if (jj_2_49(2147483647)) {
+                                    } else if (jj_2_52(2147483647)) {
                                       result = HaStatusStatement();
-                                    } else if (jj_2_50(2147483647)) {
+                                    } else if (jj_2_53(2147483647)) {
                                       result = HaSyncDatabaseStatement();
-                                    } else if (jj_2_51(2147483647)) {
+                                    } else if (jj_2_54(2147483647)) {
                                       result = HaSyncClusterStatement();
-                                    } else if (jj_2_52(2147483647)) {
+                                    } else if (jj_2_55(2147483647)) {
                                       result = HaSetStatement();
                                     } else {
                                       jj_consume_token(-1);
@@ -1430,7 +1466,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[16] = jj_gen;
-            if (jj_2_54(2147483647)) {
+            if (jj_2_57(2147483647)) {
               result = ProfileStatement();
             } else {
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1531,7 +1567,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result;
     try {
-      if (jj_2_55(2147483647)) {
+      if (jj_2_58(2147483647)) {
         result = SelectStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -1546,7 +1582,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[18] = jj_gen;
-            if (jj_2_56(2147483647)) {
+            if (jj_2_59(2147483647)) {
               result = FindReferencesStatement();
             } else {
               jj_consume_token(-1);
@@ -1878,6 +1914,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -1899,7 +1941,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           jjtn000.projection = Projection();
           break;
         default:
@@ -2212,6 +2254,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case LBRACKET:
@@ -2368,7 +2416,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
       jj_consume_token(RETURN);
-      if (jj_2_57(2)) {
+      if (jj_2_60(2)) {
         jj_consume_token(DISTINCT);
         jjtn000.returnDistinct = true;
         lastReturn = Expression();
@@ -2381,7 +2429,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jj_la1[56] = jj_gen;
             ;
         }
-      } else if (jj_2_58(2147483647)) {
+      } else if (jj_2_61(2147483647)) {
         lastReturn = Expression();
         lastReturnAlias = null;
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -2698,15 +2746,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     ODeleteEdgeStatement result;
     try {
-      if (jj_2_59(2147483647)) {
+      if (jj_2_62(2147483647)) {
         result = DeleteEdgeByRidStatement();
-      } else if (jj_2_60(2147483647)) {
+      } else if (jj_2_63(2147483647)) {
         result = DeleteEdgeFromToStatement();
-      } else if (jj_2_61(2147483647)) {
+      } else if (jj_2_64(2147483647)) {
         result = DeleteEdgeVToStatement();
-      } else if (jj_2_62(2147483647)) {
+      } else if (jj_2_65(2147483647)) {
         result = DeleteEdgeToStatement();
-      } else if (jj_2_63(2147483647)) {
+      } else if (jj_2_66(2147483647)) {
         result = DeleteEdgeWhereStatement();
       } else {
         jj_consume_token(-1);
@@ -2761,7 +2809,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 277:
           jjtn000.rid = Rid();
           break;
         case LBRACKET:
@@ -2770,7 +2818,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 277:
               lastRid = Rid();
               jjtn000.addRid(lastRid);
               label_5:
@@ -2962,6 +3010,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -3307,6 +3361,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -3545,6 +3605,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case THIS:
             case RECORD_ATTRIBUTE:
             case RID_STRING:
@@ -3566,7 +3632,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 271:
+            case 277:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -3844,6 +3910,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case THIS:
             case RECORD_ATTRIBUTE:
             case RID_STRING:
@@ -3865,7 +3937,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
-            case 271:
+            case 277:
               jjtn000.returnProjection = Projection();
               break;
             default:
@@ -4376,7 +4448,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(INSERT);
       jj_consume_token(INTO);
-      if (jj_2_64(2147483647)) {
+      if (jj_2_67(2147483647)) {
         jjtn000.targetIndex = IndexIdentifier();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -4488,6 +4560,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
@@ -4513,7 +4591,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             throw new ParseException();
         }
       }
-      if (jj_2_65(2147483647)) {
+      if (jj_2_68(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -4542,7 +4620,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case SELECT:
-              if (jj_2_66(2147483647)) {
+              if (jj_2_69(2147483647)) {
                 jjtn000.selectStatement = SelectStatement();
               } else {
                 switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -4558,9 +4636,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             default:
               jj_la1[132] = jj_gen;
-              if (jj_2_68(2)) {
+              if (jj_2_71(2)) {
                 jj_consume_token(LPAREN);
-                if (jj_2_67(2147483647)) {
+                if (jj_2_70(2147483647)) {
                   jjtn000.selectStatement = SelectStatement();
                 } else {
                   switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -4641,7 +4719,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OJson content;
     OInputParameter inputParamater;
     try {
-      if (jj_2_69(3)) {
+      if (jj_2_72(3)) {
         jj_consume_token(LPAREN);
         lastIdentifier = Identifier();
         jjtn000.addIdentifier(lastIdentifier);
@@ -4713,7 +4791,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           jj_consume_token(RPAREN);
         }
-      } else if (jj_2_70(3)) {
+      } else if (jj_2_73(3)) {
         jj_consume_token(SET);
         OInsertSetExpression lastSetExpr = new OInsertSetExpression();
         jjtn000.addInsertSetExpression(lastSetExpr);
@@ -4860,7 +4938,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(CREATE);
       jj_consume_token(VERTEX);
-      if (jj_2_71(2147483647)) {
+      if (jj_2_74(2147483647)) {
         jjtn000.targetClass = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case CLUSTER:
@@ -4871,7 +4949,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jj_la1[144] = jj_gen;
             ;
         }
-      } else if (jj_2_72(2147483647)) {
+      } else if (jj_2_75(2147483647)) {
         jjtn000.targetCluster = Cluster();
       } else {
         jj_consume_token(-1);
@@ -4886,7 +4964,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_la1[145] = jj_gen;
           ;
       }
-      if (jj_2_73(2147483647)) {
+      if (jj_2_76(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -5176,6 +5254,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -5476,6 +5560,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -5546,7 +5636,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     java.util.List<OProjectionItem> items = new java.util.ArrayList<OProjectionItem>();
     OProjectionItem lastItem = null;
     try {
-      if (jj_2_74(2147483647)) {
+      if (jj_2_77(2147483647)) {
         lastItem = ProjectionItem();
         items.add(lastItem);
         label_18:
@@ -5892,6 +5982,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -5912,7 +6008,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
             case BANG:
               jj_consume_token(BANG);
@@ -5997,11 +6093,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_75(2147483647)) {
+      if (jj_2_78(2147483647)) {
         jjtn000.rid = Rid();
-      } else if (jj_2_76(2147483647)) {
+      } else if (jj_2_79(2147483647)) {
         jjtn000.inputParam = InputParameter();
-      } else if (jj_2_77(2147483647)) {
+      } else if (jj_2_80(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -6050,9 +6146,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     Token tokenVal;
     try {
-      if (jj_2_78(2147483647)) {
+      if (jj_2_81(2147483647)) {
         jjtn000.inputValue = InputParameter();
-      } else if (jj_2_79(2147483647)) {
+      } else if (jj_2_82(2147483647)) {
         tokenVal = jj_consume_token(INTEGER_LITERAL);
         jjtn000.integer = Integer.parseInt(tokenVal.image);
       } else {
@@ -6427,6 +6523,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -6554,6 +6656,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -6574,7 +6682,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           lastExpression = Expression();
           jjtn000.addParam(lastExpression);
           label_22:
@@ -6754,6 +6862,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -6774,7 +6888,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           lastExpression = Expression();
           jjtn000.addParam(lastExpression);
           label_23:
@@ -6839,7 +6953,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_80(2147483647)) {
+      if (jj_2_83(2147483647)) {
         jjtn000.functionCall = FunctionCall();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -6849,7 +6963,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[178] = jj_gen;
-            if (jj_2_81(2147483647)) {
+            if (jj_2_84(2147483647)) {
               jjtn000.collection = Collection();
             } else {
               jj_consume_token(-1);
@@ -6900,10 +7014,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OIdentifier identifier;
     try {
-      if (jj_2_82(2147483647)) {
+      if (jj_2_85(2147483647)) {
         identifier = Identifier();
         jjtn000.setIdentifier(identifier);
-      } else if (jj_2_83(2147483647)) {
+      } else if (jj_2_86(2147483647)) {
         jjtn000.recordAttribute = RecordAttribute();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -6959,9 +7073,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_84(2147483647)) {
+      if (jj_2_87(2147483647)) {
         jjtn000.levelZero = LevelZeroIdentifier();
-      } else if (jj_2_85(2147483647)) {
+      } else if (jj_2_88(2147483647)) {
         jjtn000.suffix = SuffixIdentifier();
       } else {
         jj_consume_token(-1);
@@ -7013,13 +7127,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case LBRACKET:
           jj_consume_token(LBRACKET);
           jjtn000.squareBrackets = true;
-          if (jj_2_86(2147483647)) {
+          if (jj_2_89(2147483647)) {
             jjtn000.rightBinaryCondition = RightBinaryCondition();
-          } else if (jj_2_87(2147483647)) {
+          } else if (jj_2_90(2147483647)) {
             jjtn000.arrayRange = ArrayRangeSelector();
-          } else if (jj_2_88(2147483647)) {
+          } else if (jj_2_91(2147483647)) {
             jjtn000.condition = OrBlock();
-          } else if (jj_2_89(2147483647)) {
+          } else if (jj_2_92(2147483647)) {
             jjtn000.arraySingleValues = ArraySingleValuesSelector();
           } else {
             jj_consume_token(-1);
@@ -7029,7 +7143,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           break;
         default:
           jj_la1[180] = jj_gen;
-          if (jj_2_90(2147483647)) {
+          if (jj_2_93(2147483647)) {
             jjtn000.methodCall = MethodCall();
           } else {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -7044,7 +7158,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             }
           }
       }
-      if (jj_2_91(2147483647)) {
+      if (jj_2_94(2147483647)) {
         jjtn000.next = Modifier();
       } else {
         ;
@@ -7092,7 +7206,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     Token token;
     try {
-      if (jj_2_92(2147483647)) {
+      if (jj_2_95(2147483647)) {
         jjtn000.arrayConcatExpression = ArrayConcatExpression();
         jjtn000.value = jjtn000.arrayConcatExpression;
       } else {
@@ -7114,10 +7228,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           default:
             jj_la1[182] = jj_gen;
-            if (jj_2_93(2147483647)) {
+            if (jj_2_96(2147483647)) {
               jjtn000.rid = Rid();
               jjtn000.value = jjtn000.rid;
-            } else if (jj_2_94(2147483647)) {
+            } else if (jj_2_97(2147483647)) {
               jjtn000.mathExpression = MathExpression();
               jjtn000.value = jjtn000.mathExpression;
             } else {
@@ -7256,10 +7370,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           break;
         default:
           jj_la1[185] = jj_gen;
-          if (jj_2_95(2147483647)) {
+          if (jj_2_98(2147483647)) {
             jjtn000.rid = Rid();
             jjtn000.value = jjtn000.rid;
-          } else if (jj_2_96(2147483647)) {
+          } else if (jj_2_99(2147483647)) {
             jjtn000.mathExpression = MathExpression();
             jjtn000.value = jjtn000.mathExpression;
           } else {
@@ -7322,7 +7436,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.addChildExpression(sub);
       label_25:
       while (true) {
-        if (jj_2_97(2)) {
+        if (jj_2_100(2)) {
           ;
         } else {
           break label_25;
@@ -7427,9 +7541,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OMathExpression expr;
     try {
-      if (jj_2_98(2147483647)) {
+      if (jj_2_101(2147483647)) {
         expr = ParenthesisExpression();
-      } else if (jj_2_99(2147483647)) {
+      } else if (jj_2_102(2147483647)) {
         expr = BaseExpression();
       } else {
         jj_consume_token(-1);
@@ -7478,7 +7592,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(LPAREN);
-      if (jj_2_100(2)) {
+      if (jj_2_103(2)) {
         jjtn000.statement = QueryStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -7592,6 +7706,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -7612,7 +7732,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             jjtn000.expression = Expression();
             break;
           case INSERT:
@@ -7783,6 +7903,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case LBRACKET:
@@ -7793,7 +7919,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case QUOTED_IDENTIFIER:
           identifier = BaseIdentifier();
           jjtn000.setIdentifier(identifier);
-          if (jj_2_101(2147483647)) {
+          if (jj_2_104(2147483647)) {
             jjtn000.modifier = Modifier();
           } else {
             ;
@@ -7802,7 +7928,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case HOOK:
         case COLON:
           jjtn000.inputParam = InputParameter();
-          if (jj_2_102(2147483647)) {
+          if (jj_2_105(2147483647)) {
             jjtn000.modifier = Modifier();
           } else {
             ;
@@ -7825,7 +7951,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(-1);
               throw new ParseException();
           }
-          if (jj_2_103(2147483647)) {
+          if (jj_2_106(2147483647)) {
             jjtn000.modifier = Modifier();
           } else {
             ;
@@ -7983,7 +8109,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.varName = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_104(2147483647)) {
+      if (jj_2_107(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -8049,15 +8175,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 277:
           lastRid = Rid();
           jjtn000.addRid(lastRid);
           break;
         default:
           jj_la1[197] = jj_gen;
-          if (jj_2_108(2)) {
+          if (jj_2_111(2)) {
             jjtn000.emptyList = EmptyList();
-          } else if (jj_2_109(2)) {
+          } else if (jj_2_112(2)) {
             jj_consume_token(LBRACKET);
             lastRid = Rid();
             jjtn000.addRid(lastRid);
@@ -8132,7 +8258,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               default:
                 jj_la1[198] = jj_gen;
-                if (jj_2_110(2147483647)) {
+                if (jj_2_113(2147483647)) {
                   jjtn000.index = IndexIdentifier();
                 } else {
                   switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -8143,7 +8269,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jj_consume_token(LPAREN);
                       jjtn000.statement = QueryStatement();
                       jj_consume_token(RPAREN);
-                      if (jj_2_105(2147483647)) {
+                      if (jj_2_108(2147483647)) {
                         jjtn000.modifier = Modifier();
                       } else {
                         ;
@@ -8155,9 +8281,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     default:
                       jj_la1[199] = jj_gen;
-                      if (jj_2_111(2)) {
+                      if (jj_2_114(2)) {
                         jjtn000.functionCall = FunctionCall();
-                        if (jj_2_106(2147483647)) {
+                        if (jj_2_109(2147483647)) {
                           jjtn000.modifier = Modifier();
                         } else {
                           ;
@@ -8272,13 +8398,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           case POLICY:
                           case DEFAULTCLUSTER:
                           case SYSTEM:
+                          case ANALYZE:
+                          case SAMPLE:
+                          case FULL:
+                          case GRAPH:
+                          case SNAPSHOT:
+                          case WEIGHT:
                           case IN:
                           case KEY:
                           case IDENTIFIER:
                           case QUOTED_IDENTIFIER:
                             identifier = Identifier();
                             jjtn000.setIdentifier(identifier);
-                            if (jj_2_107(2147483647)) {
+                            if (jj_2_110(2147483647)) {
                               jjtn000.modifier = Modifier();
                             } else {
                               ;
@@ -8511,6 +8643,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -8608,8 +8746,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 272:
-          jj_consume_token(272);
+        case 278:
+          jj_consume_token(278);
           builder.append("__@recordmap@___");
           break;
         default:
@@ -8931,9 +9069,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case NOT:
           jj_consume_token(NOT);
           jjtn000.negate = true;
-          if (jj_2_112(2147483647)) {
+          if (jj_2_115(2147483647)) {
             jjtn000.sub = ConditionBlock();
-          } else if (jj_2_113(2147483647)) {
+          } else if (jj_2_116(2147483647)) {
             jjtn000.sub = ParenthesisBlock();
           } else {
             jj_consume_token(-1);
@@ -9050,6 +9188,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -9070,10 +9214,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
-          if (jj_2_114(2147483647)) {
+        case 277:
+          if (jj_2_117(2147483647)) {
             jjtn000.sub = ConditionBlock();
-          } else if (jj_2_115(2147483647)) {
+          } else if (jj_2_118(2147483647)) {
             jjtn000.sub = ParenthesisBlock();
           } else {
             jj_consume_token(-1);
@@ -9173,35 +9317,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OBooleanExpression result = null;
     try {
-      if (jj_2_116(2147483647)) {
+      if (jj_2_119(2147483647)) {
         result = IsNotNullCondition();
-      } else if (jj_2_117(2147483647)) {
+      } else if (jj_2_120(2147483647)) {
         result = IsNullCondition();
-      } else if (jj_2_118(2147483647)) {
+      } else if (jj_2_121(2147483647)) {
         result = IsNotDefinedCondition();
-      } else if (jj_2_119(2147483647)) {
+      } else if (jj_2_122(2147483647)) {
         result = IsDefinedCondition();
-      } else if (jj_2_120(2147483647)) {
+      } else if (jj_2_123(2147483647)) {
         result = InCondition();
-      } else if (jj_2_121(2147483647)) {
+      } else if (jj_2_124(2147483647)) {
         result = NotInCondition();
-      } else if (jj_2_122(2147483647)) {
+      } else if (jj_2_125(2147483647)) {
         result = BinaryCondition();
-      } else if (jj_2_123(2147483647)) {
+      } else if (jj_2_126(2147483647)) {
         result = BetweenCondition();
-      } else if (jj_2_124(2147483647)) {
+      } else if (jj_2_127(2147483647)) {
         result = ContainsCondition();
-      } else if (jj_2_125(2147483647)) {
+      } else if (jj_2_128(2147483647)) {
         result = ContainsValueCondition();
-      } else if (jj_2_126(2147483647)) {
+      } else if (jj_2_129(2147483647)) {
         result = ContainsAllCondition();
-      } else if (jj_2_127(2147483647)) {
+      } else if (jj_2_130(2147483647)) {
         result = ContainsAnyCondition();
-      } else if (jj_2_128(2147483647)) {
+      } else if (jj_2_131(2147483647)) {
         result = ContainsTextCondition();
-      } else if (jj_2_129(2147483647)) {
+      } else if (jj_2_132(2147483647)) {
         result = MatchesCondition();
-      } else if (jj_2_130(2147483647)) {
+      } else if (jj_2_133(2147483647)) {
         result = InstanceofCondition();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -9811,11 +9955,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jjtn000.operator = ContainsValueOperator();
-      if (jj_2_131(3)) {
+      if (jj_2_134(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_132(2147483647)) {
+      } else if (jj_2_135(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -9975,6 +10119,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -10267,11 +10417,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINS);
-      if (jj_2_133(3)) {
+      if (jj_2_136(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_134(2147483647)) {
+      } else if (jj_2_137(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10345,208 +10495,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jjtn000.operator = InOperator();
-      if (jj_2_136(2)) {
-        jj_consume_token(LPAREN);
-        if (jj_2_135(2147483647)) {
-          jjtn000.rightStatement = SelectStatement();
-        } else {
-          switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-            case SELECT:
-              jjtn000.rightStatement = SelectWithoutTargetStatement();
-              break;
-            default:
-              jj_la1[218] = jj_gen;
-              jj_consume_token(-1);
-              throw new ParseException();
-          }
-        }
-        jj_consume_token(RPAREN);
-      } else if (jj_2_137(2)) {
-        jj_consume_token(LPAREN);
-        jjtn000.rightParam = InputParameter();
-        jj_consume_token(RPAREN);
-      } else {
-        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case TO:
-          case VALUE:
-          case VALUES:
-          case SET:
-          case ADD:
-          case PUT:
-          case MERGE:
-          case CONTENT:
-          case REMOVE:
-          case ORDER:
-          case GROUP:
-          case OFFSET:
-          case RECORD:
-          case CACHE:
-          case CYCLE:
-          case NOLIMIT:
-          case NOCYCLE:
-          case LUCENE:
-          case NEAR:
-          case WITHIN:
-          case MINDEPTH:
-          case CLASS:
-          case SUPERCLASS:
-          case CLASSES:
-          case SUPERCLASSES:
-          case VIEW:
-          case UPDATABLE:
-          case EXCEPTION:
-          case PROFILE:
-          case STORAGE:
-          case ON:
-          case OFF:
-          case TRUNCATE:
-          case FIND:
-          case REFERENCES:
-          case EXTENDS:
-          case CLUSTERS:
-          case ABSTRACT:
-          case ALTER:
-          case NAME:
-          case SHORTNAME:
-          case OVERSIZE:
-          case STRICTMODE:
-          case ADDCLUSTER:
-          case REMOVECLUSTER:
-          case CUSTOM:
-          case CLUSTERSELECTION:
-          case DESCRIPTION:
-          case ENCRYPTION:
-          case DROP:
-          case PROPERTY:
-          case FORCE:
-          case METADATA:
-          case INDEX:
-          case COLLATE:
-          case ENGINE:
-          case REBUILD:
-          case ID:
-          case DATABASE:
-          case OPTIMIZE:
-          case LINK:
-          case TYPE:
-          case INVERSE:
-          case EXPLAIN:
-          case GRANT:
-          case REVOKE:
-          case READ:
-          case EXECUTE:
-          case ALL:
-          case NONE:
-          case FUNCTION:
-          case PARAMETERS:
-          case IDEMPOTENT:
-          case LANGUAGE:
-          case BEGIN:
-          case COMMIT:
-          case ROLLBACK:
-          case IF:
-          case ELSE:
-          case CONTINUE:
-          case FAIL:
-          case ISOLATION:
-          case SLEEP:
-          case CONSOLE:
-          case BLOB:
-          case SHARED:
-          case DEFAULT_:
-          case SEQUENCE:
-          case START:
-          case OPTIONAL:
-          case COUNT:
-          case DISTINCT:
-          case HA:
-          case STATUS:
-          case SERVER:
-          case SYNC:
-          case EXISTS:
-          case MOVE:
-          case DEPTH_ALIAS:
-          case PATH_ALIAS:
-          case IDENTIFIED:
-          case ROLE:
-          case USER:
-          case USERS:
-          case RID:
-          case SECURITY:
-          case POLICY:
-          case DEFAULTCLUSTER:
-          case SYSTEM:
-          case THIS:
-          case RECORD_ATTRIBUTE:
-          case RID_STRING:
-          case INTEGER_LITERAL:
-          case FLOATING_POINT_LITERAL:
-          case CHARACTER_LITERAL:
-          case STRING_LITERAL:
-          case LPAREN:
-          case LBRACKET:
-          case HOOK:
-          case COLON:
-          case MINUS:
-          case STAR:
-          case IN:
-          case KEY:
-          case IDENTIFIER:
-          case QUOTED_IDENTIFIER:
-            jjtn000.rightMathExpression = MathExpression();
-            break;
-          default:
-            jj_la1[219] = jj_gen;
-            jj_consume_token(-1);
-            throw new ParseException();
-        }
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {
-        if (true) return jjtn000;
-      }
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {
-          if (true) throw (RuntimeException) jjte000;
-        }
-      }
-      if (jjte000 instanceof ParseException) {
-        {
-          if (true) throw (ParseException) jjte000;
-        }
-      }
-      {
-        if (true) throw (Error) jjte000;
-      }
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  public final OBooleanExpression NotInCondition() throws ParseException {
-    /*@bgen(jjtree) NotInCondition */
-    ONotInCondition jjtn000 = new ONotInCondition(JJTNOTINCONDITION);
-    boolean jjtc000 = true;
-    jjtree.openNodeScope(jjtn000);
-    jjtn000.jjtSetFirstToken(getToken(1));
-    OExpression lastExpression;
-    try {
-      jjtn000.left = Expression();
-      jj_consume_token(NOT);
-      InOperator();
       if (jj_2_139(2)) {
         jj_consume_token(LPAREN);
         if (jj_2_138(2147483647)) {
@@ -10557,7 +10505,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.rightStatement = SelectWithoutTargetStatement();
               break;
             default:
-              jj_la1[220] = jj_gen;
+              jj_la1[218] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -10678,6 +10626,220 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
+          case THIS:
+          case RECORD_ATTRIBUTE:
+          case RID_STRING:
+          case INTEGER_LITERAL:
+          case FLOATING_POINT_LITERAL:
+          case CHARACTER_LITERAL:
+          case STRING_LITERAL:
+          case LPAREN:
+          case LBRACKET:
+          case HOOK:
+          case COLON:
+          case MINUS:
+          case STAR:
+          case IN:
+          case KEY:
+          case IDENTIFIER:
+          case QUOTED_IDENTIFIER:
+            jjtn000.rightMathExpression = MathExpression();
+            break;
+          default:
+            jj_la1[219] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+        }
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  public final OBooleanExpression NotInCondition() throws ParseException {
+    /*@bgen(jjtree) NotInCondition */
+    ONotInCondition jjtn000 = new ONotInCondition(JJTNOTINCONDITION);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    OExpression lastExpression;
+    try {
+      jjtn000.left = Expression();
+      jj_consume_token(NOT);
+      InOperator();
+      if (jj_2_142(2)) {
+        jj_consume_token(LPAREN);
+        if (jj_2_141(2147483647)) {
+          jjtn000.rightStatement = SelectStatement();
+        } else {
+          switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+            case SELECT:
+              jjtn000.rightStatement = SelectWithoutTargetStatement();
+              break;
+            default:
+              jj_la1[220] = jj_gen;
+              jj_consume_token(-1);
+              throw new ParseException();
+          }
+        }
+        jj_consume_token(RPAREN);
+      } else if (jj_2_143(2)) {
+        jj_consume_token(LPAREN);
+        jjtn000.rightParam = InputParameter();
+        jj_consume_token(RPAREN);
+      } else {
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case TO:
+          case VALUE:
+          case VALUES:
+          case SET:
+          case ADD:
+          case PUT:
+          case MERGE:
+          case CONTENT:
+          case REMOVE:
+          case ORDER:
+          case GROUP:
+          case OFFSET:
+          case RECORD:
+          case CACHE:
+          case CYCLE:
+          case NOLIMIT:
+          case NOCYCLE:
+          case LUCENE:
+          case NEAR:
+          case WITHIN:
+          case MINDEPTH:
+          case CLASS:
+          case SUPERCLASS:
+          case CLASSES:
+          case SUPERCLASSES:
+          case VIEW:
+          case UPDATABLE:
+          case EXCEPTION:
+          case PROFILE:
+          case STORAGE:
+          case ON:
+          case OFF:
+          case TRUNCATE:
+          case FIND:
+          case REFERENCES:
+          case EXTENDS:
+          case CLUSTERS:
+          case ABSTRACT:
+          case ALTER:
+          case NAME:
+          case SHORTNAME:
+          case OVERSIZE:
+          case STRICTMODE:
+          case ADDCLUSTER:
+          case REMOVECLUSTER:
+          case CUSTOM:
+          case CLUSTERSELECTION:
+          case DESCRIPTION:
+          case ENCRYPTION:
+          case DROP:
+          case PROPERTY:
+          case FORCE:
+          case METADATA:
+          case INDEX:
+          case COLLATE:
+          case ENGINE:
+          case REBUILD:
+          case ID:
+          case DATABASE:
+          case OPTIMIZE:
+          case LINK:
+          case TYPE:
+          case INVERSE:
+          case EXPLAIN:
+          case GRANT:
+          case REVOKE:
+          case READ:
+          case EXECUTE:
+          case ALL:
+          case NONE:
+          case FUNCTION:
+          case PARAMETERS:
+          case IDEMPOTENT:
+          case LANGUAGE:
+          case BEGIN:
+          case COMMIT:
+          case ROLLBACK:
+          case IF:
+          case ELSE:
+          case CONTINUE:
+          case FAIL:
+          case ISOLATION:
+          case SLEEP:
+          case CONSOLE:
+          case BLOB:
+          case SHARED:
+          case DEFAULT_:
+          case SEQUENCE:
+          case START:
+          case OPTIONAL:
+          case COUNT:
+          case DISTINCT:
+          case HA:
+          case STATUS:
+          case SERVER:
+          case SYNC:
+          case EXISTS:
+          case MOVE:
+          case DEPTH_ALIAS:
+          case PATH_ALIAS:
+          case IDENTIFIED:
+          case ROLE:
+          case USER:
+          case USERS:
+          case RID:
+          case SECURITY:
+          case POLICY:
+          case DEFAULTCLUSTER:
+          case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -10747,11 +10909,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSALL);
-      if (jj_2_141(3)) {
+      if (jj_2_144(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_142(2147483647)) {
+      } else if (jj_2_145(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10801,11 +10963,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSANY);
-      if (jj_2_143(3)) {
+      if (jj_2_146(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_144(2147483647)) {
+      } else if (jj_2_147(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -10901,7 +11063,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.expression = Expression();
       jj_consume_token(MATCHES);
-      if (jj_2_145(2147483647)) {
+      if (jj_2_148(2147483647)) {
         jjtn000.rightExpression = Expression();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11082,6 +11244,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case RECORD_ATTRIBUTE:
         case INTEGER_LITERAL:
         case LBRACE:
@@ -11090,7 +11258,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           lastItem = new OOrderByItem();
           jjtn000.addItem(lastItem);
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11202,6 +11370,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -11222,7 +11396,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 277:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11379,6 +11553,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -11399,7 +11579,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 277:
               lastItem.rid = Rid();
               break;
             case RECORD_ATTRIBUTE:
@@ -11569,6 +11749,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case RECORD_ATTRIBUTE:
           case INTEGER_LITERAL:
           case LBRACE:
@@ -11577,7 +11763,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             lastItem = new OOrderByItem();
             jjtn000.addItem(lastItem);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -11689,6 +11875,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case POLICY:
               case DEFAULTCLUSTER:
               case SYSTEM:
+              case ANALYZE:
+              case SAMPLE:
+              case FULL:
+              case GRAPH:
+              case SNAPSHOT:
+              case WEIGHT:
               case IN:
               case KEY:
               case IDENTIFIER:
@@ -11709,7 +11901,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 271:
+              case 277:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -11866,6 +12058,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case POLICY:
               case DEFAULTCLUSTER:
               case SYSTEM:
+              case ANALYZE:
+              case SAMPLE:
+              case FULL:
+              case GRAPH:
+              case SNAPSHOT:
+              case WEIGHT:
               case IN:
               case KEY:
               case IDENTIFIER:
@@ -11886,7 +12084,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case INTEGER_LITERAL:
               case LBRACE:
               case MINUS:
-              case 271:
+              case 277:
                 lastItem.rid = Rid();
                 break;
               case RECORD_ATTRIBUTE:
@@ -12567,6 +12765,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -12587,7 +12791,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           lastExpression = Expression();
           jjtn000.add(lastExpression);
           label_36:
@@ -12767,6 +12971,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case LBRACKET:
           case STAR:
           case IN:
@@ -12939,6 +13149,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case LBRACKET:
         case IN:
         case KEY:
@@ -13062,7 +13278,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_146(2147483647)) {
+      if (jj_2_149(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -13221,6 +13437,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
         case CHARACTER_LITERAL:
@@ -13339,6 +13561,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -13488,6 +13716,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case POLICY:
               case DEFAULTCLUSTER:
               case SYSTEM:
+              case ANALYZE:
+              case SAMPLE:
+              case FULL:
+              case GRAPH:
+              case SNAPSHOT:
+              case WEIGHT:
               case IN:
               case KEY:
               case IDENTIFIER:
@@ -13580,13 +13814,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jj_la1[268] = jj_gen;
             break label_40;
         }
-        if (jj_2_147(3)) {
+        if (jj_2_150(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_148(3)) {
+        } else if (jj_2_151(3)) {
           nextItem = MultiMatchPathItemArrows();
-        } else if (jj_2_149(3)) {
+        } else if (jj_2_152(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_150(2147483647)) {
+        } else if (jj_2_153(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -13595,7 +13829,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             default:
               jj_la1[269] = jj_gen;
-              if (jj_2_151(2147483647)) {
+              if (jj_2_154(2147483647)) {
                 nextItem = BothPathItem();
               } else {
                 switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -13815,7 +14049,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.addItem(nextItem);
       label_41:
       while (true) {
-        if (jj_2_151(2147483647)) {
+        if (jj_2_155(2147483647)) {
           ;
         } else {
           break label_41;
@@ -13880,13 +14114,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LPAREN);
       label_42:
       while (true) {
-        if (jj_2_153(2147483647)) {
+        if (jj_2_156(2147483647)) {
           nextItem = OutPathItemOpt();
           jjtn000.addItem(nextItem);
-        } else if (jj_2_154(2147483647)) {
+        } else if (jj_2_157(2147483647)) {
           nextItem = InPathItemOpt();
           jjtn000.addItem(nextItem);
-        } else if (jj_2_155(2147483647)) {
+        } else if (jj_2_158(2147483647)) {
           nextItem = BothPathItemOpt();
           jjtn000.addItem(nextItem);
         } else {
@@ -14165,6 +14399,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -14416,6 +14656,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -14595,6 +14841,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -14772,6 +15024,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -14949,6 +15207,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -15135,6 +15399,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -15319,6 +15589,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -15602,6 +15878,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -15675,7 +15957,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 277:
           jjtn000.record = Rid();
           break;
         case LBRACKET:
@@ -15685,7 +15967,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case INTEGER_LITERAL:
             case LBRACE:
             case MINUS:
-            case 271:
+            case 277:
               lastRecord = Rid();
               jjtn000.addRecord(lastRecord);
               label_44:
@@ -15749,6 +16031,69 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
+  public final OAnalyzeClassStatement AnalyzeClassStatement() throws ParseException {
+    /*@bgen(jjtree) AnalyzeClassStatement */
+    OAnalyzeClassStatement jjtn000 = new OAnalyzeClassStatement(JJTANALYZECLASSSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ANALYZE);
+      jj_consume_token(CLASS);
+      jjtn000.className = Identifier();
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case SAMPLE:
+          jj_consume_token(SAMPLE);
+          jjtn000.sample = Integer();
+          break;
+        default:
+          jj_la1[306] = jj_gen;
+          ;
+      }
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case FULL:
+          jj_consume_token(FULL);
+          jjtn000.full = true;
+          break;
+        default:
+          jj_la1[307] = jj_gen;
+          ;
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   public final OFindReferencesStatement FindReferencesStatement() throws ParseException {
     /*@bgen(jjtree) FindReferencesStatement */
     OFindReferencesStatement jjtn000 = new OFindReferencesStatement(JJTFINDREFERENCESSTATEMENT);
@@ -15763,7 +16108,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 271:
+        case 277:
           jjtn000.rid = Rid();
           break;
         case LPAREN:
@@ -15772,7 +16117,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[306] = jj_gen;
+          jj_la1[308] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -15889,6 +16234,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -15900,7 +16251,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               lastTarget = Cluster();
               break;
             default:
-              jj_la1[307] = jj_gen;
+              jj_la1[309] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -15912,7 +16263,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 ;
                 break;
               default:
-                jj_la1[308] = jj_gen;
+                jj_la1[310] = jj_gen;
                 break label_45;
             }
             jj_consume_token(COMMA);
@@ -16025,6 +16376,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case POLICY:
               case DEFAULTCLUSTER:
               case SYSTEM:
+              case ANALYZE:
+              case SAMPLE:
+              case FULL:
+              case GRAPH:
+              case SNAPSHOT:
+              case WEIGHT:
               case IN:
               case KEY:
               case IDENTIFIER:
@@ -16036,7 +16393,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 lastTarget = Cluster();
                 break;
               default:
-                jj_la1[309] = jj_gen;
+                jj_la1[311] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -16045,7 +16402,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[310] = jj_gen;
+          jj_la1[312] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16103,7 +16460,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[311] = jj_gen;
+          jj_la1[313] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16119,7 +16476,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 ;
                 break;
               default:
-                jj_la1[312] = jj_gen;
+                jj_la1[314] = jj_gen;
                 break label_46;
             }
             jj_consume_token(COMMA);
@@ -16128,7 +16485,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           break;
         default:
-          jj_la1[313] = jj_gen;
+          jj_la1[315] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16144,7 +16501,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 ;
                 break;
               default:
-                jj_la1[314] = jj_gen;
+                jj_la1[316] = jj_gen;
                 break label_47;
             }
             jj_consume_token(COMMA);
@@ -16153,7 +16510,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           break;
         default:
-          jj_la1[315] = jj_gen;
+          jj_la1[317] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16162,7 +16519,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.totalClusterNo = Integer();
           break;
         default:
-          jj_la1[316] = jj_gen;
+          jj_la1[318] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16171,7 +16528,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.abstractClass = true;
           break;
         default:
-          jj_la1[317] = jj_gen;
+          jj_la1[319] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16227,7 +16584,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[318] = jj_gen;
+          jj_la1[320] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -16240,7 +16597,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.metadata = Json();
           break;
         default:
-          jj_la1[319] = jj_gen;
+          jj_la1[321] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16412,6 +16769,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -16422,7 +16785,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(NULL);
               break;
             default:
-              jj_la1[320] = jj_gen;
+              jj_la1[322] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16444,13 +16807,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.remove = true;
                   break;
                 default:
-                  jj_la1[321] = jj_gen;
+                  jj_la1[323] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[322] = jj_gen;
+              jj_la1[324] = jj_gen;
               ;
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -16562,6 +16925,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -16573,7 +16942,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.identifierValue = null;
               break;
             default:
-              jj_la1[323] = jj_gen;
+              jj_la1[325] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16692,6 +17061,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -16705,7 +17080,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     ;
                     break;
                   default:
-                    jj_la1[324] = jj_gen;
+                    jj_la1[326] = jj_gen;
                     break label_48;
                 }
                 jj_consume_token(COMMA);
@@ -16718,7 +17093,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.identifierListValue = null;
               break;
             default:
-              jj_la1[325] = jj_gen;
+              jj_la1[327] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16743,7 +17118,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.booleanValue = false;
               break;
             default:
-              jj_la1[326] = jj_gen;
+              jj_la1[328] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16861,6 +17236,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -16872,7 +17253,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.numberValue = Integer();
               break;
             default:
-              jj_la1[327] = jj_gen;
+              jj_la1[329] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -16990,6 +17371,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -17001,7 +17388,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.numberValue = Integer();
               break;
             default:
-              jj_la1[328] = jj_gen;
+              jj_la1[330] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17028,7 +17415,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.booleanValue = false;
               break;
             default:
-              jj_la1[329] = jj_gen;
+              jj_la1[331] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17146,14 +17533,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
             case QUOTED_IDENTIFIER:
               jjtn000.identifierValue = Identifier();
               break;
-            case 273:
-              jj_consume_token(273);
+            case 279:
+              jj_consume_token(279);
               jjtn000.customString = "round-robin";
               break;
             case RID_STRING:
@@ -17163,7 +17556,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.customString.substring(1, jjtn000.customString.length() - 1);
               break;
             default:
-              jj_la1[330] = jj_gen;
+              jj_la1[332] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17281,6 +17674,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -17291,7 +17690,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(NULL);
               break;
             default:
-              jj_la1[331] = jj_gen;
+              jj_la1[333] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17409,6 +17808,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -17419,7 +17824,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(NULL);
               break;
             default:
-              jj_la1[332] = jj_gen;
+              jj_la1[334] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -17539,6 +17944,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -17546,13 +17957,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.defaultClusterName = Identifier();
               break;
             default:
-              jj_la1[333] = jj_gen;
+              jj_la1[335] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[334] = jj_gen;
+          jj_la1[336] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -17562,7 +17973,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.unsafe = true;
           break;
         default:
-          jj_la1[335] = jj_gen;
+          jj_la1[337] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17718,6 +18129,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -17729,7 +18146,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[336] = jj_gen;
+          jj_la1[338] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -17740,7 +18157,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[337] = jj_gen;
+          jj_la1[339] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -17749,7 +18166,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.unsafe = true;
           break;
         default:
-          jj_la1[338] = jj_gen;
+          jj_la1[340] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17804,7 +18221,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[339] = jj_gen;
+          jj_la1[341] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17873,7 +18290,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_156(3)) {
+      if (jj_2_159(3)) {
         IfNotExists();
         jjtn000.ifNotExists = true;
       } else {
@@ -17989,6 +18406,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -17996,7 +18419,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.linkedType = Identifier();
           break;
         default:
-          jj_la1[340] = jj_gen;
+          jj_la1[342] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18011,7 +18434,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 ;
                 break;
               default:
-                jj_la1[341] = jj_gen;
+                jj_la1[343] = jj_gen;
                 break label_49;
             }
             jj_consume_token(COMMA);
@@ -18021,7 +18444,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[342] = jj_gen;
+          jj_la1[344] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18030,7 +18453,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.unsafe = true;
           break;
         default:
-          jj_la1[343] = jj_gen;
+          jj_la1[345] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18130,7 +18553,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_157(3)) {
+      if (jj_2_160(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -18245,6 +18668,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
@@ -18253,7 +18682,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.settingValue = Expression();
             break;
           default:
-            jj_la1[344] = jj_gen;
+            jj_la1[346] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -18312,7 +18741,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[345] = jj_gen;
+          jj_la1[347] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18321,7 +18750,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.force = true;
           break;
         default:
-          jj_la1[346] = jj_gen;
+          jj_la1[348] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18372,7 +18801,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_159(4)) {
+      if (jj_2_162(4)) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case IF:
             jj_consume_token(IF);
@@ -18381,7 +18810,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.ifNotExists = true;
             break;
           default:
-            jj_la1[347] = jj_gen;
+            jj_la1[349] = jj_gen;
             ;
         }
         jj_consume_token(ON);
@@ -18496,6 +18925,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
@@ -18512,7 +18947,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.addProperty(lastProperty);
             break;
           default:
-            jj_la1[348] = jj_gen;
+            jj_la1[350] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -18529,13 +18964,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 lastProperty.byValue = true;
                 break;
               default:
-                jj_la1[349] = jj_gen;
+                jj_la1[351] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           default:
-            jj_la1[350] = jj_gen;
+            jj_la1[352] = jj_gen;
             ;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18544,7 +18979,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[351] = jj_gen;
+            jj_la1[353] = jj_gen;
             ;
         }
         label_50:
@@ -18554,7 +18989,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               ;
               break;
             default:
-              jj_la1[352] = jj_gen;
+              jj_la1[354] = jj_gen;
               break label_50;
           }
           jj_consume_token(COMMA);
@@ -18667,6 +19102,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -18683,7 +19124,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.addProperty(lastProperty);
               break;
             default:
-              jj_la1[353] = jj_gen;
+              jj_la1[355] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -18700,13 +19141,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   lastProperty.byValue = true;
                   break;
                 default:
-                  jj_la1[354] = jj_gen;
+                  jj_la1[356] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[355] = jj_gen;
+              jj_la1[357] = jj_gen;
               ;
           }
           switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -18715,7 +19156,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               lastProperty.collate = Identifier();
               break;
             default:
-              jj_la1[356] = jj_gen;
+              jj_la1[358] = jj_gen;
               ;
           }
         }
@@ -18831,11 +19272,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_158(3)) {
+            if (jj_2_161(3)) {
               jj_consume_token(IF);
               jj_consume_token(NOT);
               jj_consume_token(EXISTS);
@@ -18951,6 +19398,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case POLICY:
                 case DEFAULTCLUSTER:
                 case SYSTEM:
+                case ANALYZE:
+                case SAMPLE:
+                case FULL:
+                case GRAPH:
+                case SNAPSHOT:
+                case WEIGHT:
                 case IN:
                 case KEY:
                 case IDENTIFIER:
@@ -18958,19 +19411,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.type = Identifier();
                   break;
                 default:
-                  jj_la1[357] = jj_gen;
+                  jj_la1[359] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[358] = jj_gen;
+            jj_la1[360] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
-      if (jj_2_162(2)) {
+      if (jj_2_165(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -19082,11 +19535,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_160(2)) {
+            if (jj_2_163(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -19199,6 +19658,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case POLICY:
                 case DEFAULTCLUSTER:
                 case SYSTEM:
+                case ANALYZE:
+                case SAMPLE:
+                case FULL:
+                case GRAPH:
+                case SNAPSHOT:
+                case WEIGHT:
                 case IN:
                 case KEY:
                 case IDENTIFIER:
@@ -19212,7 +19677,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         ;
                         break;
                       default:
-                        jj_la1[359] = jj_gen;
+                        jj_la1[361] = jj_gen;
                         break label_51;
                     }
                     jj_consume_token(COMMA);
@@ -19225,19 +19690,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[360] = jj_gen;
+                      jj_la1[362] = jj_gen;
                       ;
                   }
                   break;
                 default:
-                  jj_la1[361] = jj_gen;
+                  jj_la1[363] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[362] = jj_gen;
+            jj_la1[364] = jj_gen;
             ;
         }
       } else {
@@ -19350,11 +19815,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-            if (jj_2_161(2)) {
+            if (jj_2_164(2)) {
               jj_consume_token(METADATA);
               jjtn000.metadata = Json();
             } else {
@@ -19467,6 +19938,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case POLICY:
                 case DEFAULTCLUSTER:
                 case SYSTEM:
+                case ANALYZE:
+                case SAMPLE:
+                case FULL:
+                case GRAPH:
+                case SNAPSHOT:
+                case WEIGHT:
                 case IN:
                 case KEY:
                 case IDENTIFIER:
@@ -19480,7 +19957,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         ;
                         break;
                       default:
-                        jj_la1[363] = jj_gen;
+                        jj_la1[365] = jj_gen;
                         break label_52;
                     }
                     jj_consume_token(COMMA);
@@ -19493,19 +19970,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.metadata = Json();
                       break;
                     default:
-                      jj_la1[364] = jj_gen;
+                      jj_la1[366] = jj_gen;
                       ;
                   }
                   break;
                 default:
-                  jj_la1[365] = jj_gen;
+                  jj_la1[367] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[366] = jj_gen;
+            jj_la1[368] = jj_gen;
             ;
         }
       }
@@ -19662,11 +20139,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 272:
+        case 278:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19674,7 +20157,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.all = true;
           break;
         default:
-          jj_la1[367] = jj_gen;
+          jj_la1[369] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19831,11 +20314,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 272:
+        case 278:
           jjtn000.name = IndexName();
           break;
         case STAR:
@@ -19843,7 +20332,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.all = true;
           break;
         default:
-          jj_la1[368] = jj_gen;
+          jj_la1[370] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19854,7 +20343,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[369] = jj_gen;
+          jj_la1[371] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19910,7 +20399,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.blob = true;
           break;
         default:
-          jj_la1[370] = jj_gen;
+          jj_la1[372] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19923,7 +20412,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[371] = jj_gen;
+          jj_la1[373] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -19932,7 +20421,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.id = Integer();
           break;
         default:
-          jj_la1[372] = jj_gen;
+          jj_la1[374] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19986,7 +20475,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.starred = true;
           break;
         default:
-          jj_la1[373] = jj_gen;
+          jj_la1[375] = jj_gen;
           ;
       }
       jjtn000.attributeName = Identifier();
@@ -20144,6 +20633,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -20155,7 +20650,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.id = Integer();
           break;
         default:
-          jj_la1[374] = jj_gen;
+          jj_la1[376] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20166,7 +20661,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[375] = jj_gen;
+          jj_la1[377] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20213,7 +20708,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_163(3)) {
+      if (jj_2_166(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -20328,6 +20823,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case IN:
           case KEY:
           case IDENTIFIER:
@@ -20336,7 +20837,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.settingValue = Expression();
             break;
           default:
-            jj_la1[376] = jj_gen;
+            jj_la1[378] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -20438,7 +20939,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             ;
             break;
           default:
-            jj_la1[377] = jj_gen;
+            jj_la1[379] = jj_gen;
             break label_53;
         }
         lastOption = CommandLineOption();
@@ -20603,6 +21104,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -20613,7 +21120,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.sourceRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[378] = jj_gen;
+          jj_la1[380] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20729,6 +21236,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -20739,7 +21252,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.destRecordAttr = RecordAttribute();
           break;
         default:
-          jj_la1[379] = jj_gen;
+          jj_la1[381] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20749,7 +21262,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.inverse = true;
           break;
         default:
-          jj_la1[380] = jj_gen;
+          jj_la1[382] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20912,7 +21425,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = "NONE";
           break;
         default:
-          jj_la1[381] = jj_gen;
+          jj_la1[383] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -20954,7 +21467,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[382] = jj_gen;
+          jj_la1[384] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21020,7 +21533,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.permission = Permission();
           break;
         default:
-          jj_la1[383] = jj_gen;
+          jj_la1[385] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21091,7 +21604,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 ;
                 break;
               default:
-                jj_la1[384] = jj_gen;
+                jj_la1[386] = jj_gen;
                 break label_54;
             }
             jj_consume_token(COMMA);
@@ -21101,7 +21614,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[385] = jj_gen;
+          jj_la1[387] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -21117,13 +21630,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jjtn000.idempotent = false;
               break;
             default:
-              jj_la1[386] = jj_gen;
+              jj_la1[388] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[387] = jj_gen;
+          jj_la1[389] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -21132,7 +21645,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.language = Identifier();
           break;
         default:
-          jj_la1[388] = jj_gen;
+          jj_la1[390] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21295,6 +21808,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -21310,7 +21829,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[389] = jj_gen;
+          jj_la1[391] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21426,6 +21945,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -21544,6 +22069,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case POLICY:
                 case DEFAULTCLUSTER:
                 case SYSTEM:
+                case ANALYZE:
+                case SAMPLE:
+                case FULL:
+                case GRAPH:
+                case SNAPSHOT:
+                case WEIGHT:
                 case IN:
                 case KEY:
                 case IDENTIFIER:
@@ -21557,7 +22088,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         ;
                         break;
                       default:
-                        jj_la1[390] = jj_gen;
+                        jj_la1[392] = jj_gen;
                         break label_55;
                     }
                     jj_consume_token(COMMA);
@@ -21566,19 +22097,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[391] = jj_gen;
+                  jj_la1[393] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[392] = jj_gen;
+              jj_la1[394] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[393] = jj_gen;
+          jj_la1[395] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21736,6 +22267,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -21747,7 +22284,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[394] = jj_gen;
+          jj_la1[396] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -21909,6 +22446,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -21924,7 +22467,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[395] = jj_gen;
+          jj_la1[397] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -22040,6 +22583,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -22158,6 +22707,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case POLICY:
                 case DEFAULTCLUSTER:
                 case SYSTEM:
+                case ANALYZE:
+                case SAMPLE:
+                case FULL:
+                case GRAPH:
+                case SNAPSHOT:
+                case WEIGHT:
                 case IN:
                 case KEY:
                 case IDENTIFIER:
@@ -22171,7 +22726,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         ;
                         break;
                       default:
-                        jj_la1[396] = jj_gen;
+                        jj_la1[398] = jj_gen;
                         break label_56;
                     }
                     jj_consume_token(COMMA);
@@ -22180,19 +22735,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[397] = jj_gen;
+                  jj_la1[399] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[398] = jj_gen;
+              jj_la1[400] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[399] = jj_gen;
+          jj_la1[401] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22315,7 +22870,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     null));
             break;
           default:
-            jj_la1[400] = jj_gen;
+            jj_la1[402] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -22325,7 +22880,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             ;
             break;
           default:
-            jj_la1[401] = jj_gen;
+            jj_la1[403] = jj_gen;
             break label_57;
         }
       }
@@ -22406,7 +22961,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     null));
             break;
           default:
-            jj_la1[402] = jj_gen;
+            jj_la1[404] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -22416,7 +22971,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             ;
             break;
           default:
-            jj_la1[403] = jj_gen;
+            jj_la1[405] = jj_gen;
             break label_58;
         }
       }
@@ -22465,9 +23020,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_164(2147483647)) {
+      if (jj_2_167(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_165(2147483647)) {
+      } else if (jj_2_168(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -22522,7 +23077,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.isolation = Identifier();
           break;
         default:
-          jj_la1[404] = jj_gen;
+          jj_la1[406] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22613,10 +23168,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       case CONSOLE:
                       case HA:
                       case MOVE:
+                      case ANALYZE:
                         ;
                         break;
                       default:
-                        jj_la1[405] = jj_gen;
+                        jj_la1[407] = jj_gen;
                         break label_59;
                     }
                   }
@@ -22634,13 +23190,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           jjtn000.elseFail = true;
                           break;
                         default:
-                          jj_la1[406] = jj_gen;
+                          jj_la1[408] = jj_gen;
                           jj_consume_token(-1);
                           throw new ParseException();
                       }
                       break;
                     default:
-                      jj_la1[407] = jj_gen;
+                      jj_la1[409] = jj_gen;
                       ;
                   }
                   break;
@@ -22656,24 +23212,24 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       jjtn000.elseFail = true;
                       break;
                     default:
-                      jj_la1[408] = jj_gen;
+                      jj_la1[410] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 default:
-                  jj_la1[409] = jj_gen;
+                  jj_la1[411] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             default:
-              jj_la1[410] = jj_gen;
+              jj_la1[412] = jj_gen;
               ;
           }
           break;
         default:
-          jj_la1[411] = jj_gen;
+          jj_la1[413] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22853,6 +23409,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case THIS:
         case RECORD_ATTRIBUTE:
         case RID_STRING:
@@ -22873,11 +23435,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 271:
+        case 277:
           jjtn000.expression = Expression();
           break;
         default:
-          jj_la1[412] = jj_gen;
+          jj_la1[414] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -23052,6 +23614,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -23073,14 +23641,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             ;
             break;
           default:
-            jj_la1[413] = jj_gen;
+            jj_la1[415] = jj_gen;
             break label_60;
         }
-        if (jj_2_166(2147483647)) {
+        if (jj_2_169(2147483647)) {
           last = StatementSemicolon();
           jjtn000.addStatement(last);
         } else {
@@ -23101,7 +23669,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[414] = jj_gen;
+              jj_la1[416] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -23252,7 +23820,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[415] = jj_gen;
+          jj_la1[417] = jj_gen;
           ;
       }
       jj_consume_token(TYPE);
@@ -23279,7 +23847,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             ;
             break;
           default:
-            jj_la1[416] = jj_gen;
+            jj_la1[418] = jj_gen;
             break label_61;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -23307,7 +23875,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[417] = jj_gen;
+                jj_la1[419] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -23325,7 +23893,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.positive = false;
             break;
           default:
-            jj_la1[418] = jj_gen;
+            jj_la1[420] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23390,7 +23958,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             ;
             break;
           default:
-            jj_la1[419] = jj_gen;
+            jj_la1[421] = jj_gen;
             break label_62;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -23418,7 +23986,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.cyclic = false;
                 break;
               default:
-                jj_la1[420] = jj_gen;
+                jj_la1[422] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -23440,7 +24008,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             jjtn000.turnLimitOff = true;
             break;
           default:
-            jj_la1[421] = jj_gen;
+            jj_la1[423] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23498,7 +24066,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[422] = jj_gen;
+          jj_la1[424] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -23536,70 +24104,75 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
-  public final OHaStatusStatement HaStatusStatement() throws ParseException {
-    /*@bgen(jjtree) HaStatusStatement */
-    OHaStatusStatement jjtn000 = new OHaStatusStatement(JJTHASTATUSSTATEMENT);
+  public final OCreateGraphSnapshotStatement CreateGraphSnapshotStatement() throws ParseException {
+    /*@bgen(jjtree) CreateGraphSnapshotStatement */
+    OCreateGraphSnapshotStatement jjtn000 =
+        new OCreateGraphSnapshotStatement(JJTCREATEGRAPHSNAPSHOTSTATEMENT);
     boolean jjtc000 = true;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
-    Token token;
+    OIdentifier lastIdentifier;
     try {
-      jj_consume_token(HA);
-      jj_consume_token(STATUS);
-      label_63:
-      while (true) {
-        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 274:
-          case 275:
-          case 276:
-          case 277:
-          case 278:
-          case 279:
-          case 280:
-            ;
-            break;
-          default:
-            jj_la1[423] = jj_gen;
-            break label_63;
-        }
-        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-          case 274:
-            token = jj_consume_token(274);
-            jjtn000.servers = true;
-            break;
-          case 275:
-            token = jj_consume_token(275);
-            jjtn000.db = true;
-            break;
-          case 276:
-            token = jj_consume_token(276);
-            jjtn000.latency = true;
-            break;
-          case 277:
-            token = jj_consume_token(277);
-            jjtn000.messages = true;
-            break;
-          case 278:
-            token = jj_consume_token(278);
-            jjtn000.locks = true;
-            break;
-          case 279:
-            token = jj_consume_token(279);
-            jjtn000.servers = true;
-            jjtn000.db = true;
-            jjtn000.latency = true;
-            jjtn000.messages = true;
-            jjtn000.locks = true;
-            break;
-          case 280:
-            token = jj_consume_token(280);
-            jjtn000.outputText = true;
-            break;
-          default:
-            jj_la1[424] = jj_gen;
-            jj_consume_token(-1);
-            throw new ParseException();
-        }
+      jj_consume_token(CREATE);
+      jj_consume_token(GRAPH);
+      jj_consume_token(SNAPSHOT);
+      jjtn000.name = Identifier();
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case VERTEX:
+          jj_consume_token(VERTEX);
+          lastIdentifier = Identifier();
+          jjtn000.addVertexClass(lastIdentifier);
+          label_63:
+          while (true) {
+            switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+              case COMMA:
+                ;
+                break;
+              default:
+                jj_la1[425] = jj_gen;
+                break label_63;
+            }
+            jj_consume_token(COMMA);
+            lastIdentifier = Identifier();
+            jjtn000.addVertexClass(lastIdentifier);
+          }
+          break;
+        default:
+          jj_la1[426] = jj_gen;
+          ;
+      }
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case EDGE:
+          jj_consume_token(EDGE);
+          lastIdentifier = Identifier();
+          jjtn000.addEdgeClass(lastIdentifier);
+          label_64:
+          while (true) {
+            switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+              case COMMA:
+                ;
+                break;
+              default:
+                jj_la1[427] = jj_gen;
+                break label_64;
+            }
+            jj_consume_token(COMMA);
+            lastIdentifier = Identifier();
+            jjtn000.addEdgeClass(lastIdentifier);
+          }
+          break;
+        default:
+          jj_la1[428] = jj_gen;
+          ;
+      }
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case WEIGHT:
+          jj_consume_token(WEIGHT);
+          jjtn000.weightProperty = Identifier();
+          break;
+        default:
+          jj_la1[429] = jj_gen;
+          ;
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -23607,6 +24180,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       {
         if (true) return jjtn000;
       }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
     } finally {
       if (jjtc000) {
         jjtree.closeNodeScope(jjtn000, true);
@@ -23616,17 +24209,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
-  public final OHaRemoveServerStatement HaRemoveServerStatement() throws ParseException {
-    /*@bgen(jjtree) HaRemoveServerStatement */
-    OHaRemoveServerStatement jjtn000 = new OHaRemoveServerStatement(JJTHAREMOVESERVERSTATEMENT);
+  public final ODropGraphSnapshotStatement DropGraphSnapshotStatement() throws ParseException {
+    /*@bgen(jjtree) DropGraphSnapshotStatement */
+    ODropGraphSnapshotStatement jjtn000 =
+        new ODropGraphSnapshotStatement(JJTDROPGRAPHSNAPSHOTSTATEMENT);
     boolean jjtc000 = true;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      jj_consume_token(HA);
-      jj_consume_token(REMOVE);
-      jj_consume_token(SERVER);
-      jjtn000.serverName = Identifier();
+      jj_consume_token(DROP);
+      jj_consume_token(GRAPH);
+      jj_consume_token(SNAPSHOT);
+      jjtn000.name = Identifier();
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case IF:
+          jj_consume_token(IF);
+          jj_consume_token(EXISTS);
+          jjtn000.ifExists = true;
+          break;
+        default:
+          jj_la1[430] = jj_gen;
+          ;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -23662,38 +24266,67 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
-  public final OHaSyncDatabaseStatement HaSyncDatabaseStatement() throws ParseException {
-    /*@bgen(jjtree) HaSyncDatabaseStatement */
-    OHaSyncDatabaseStatement jjtn000 = new OHaSyncDatabaseStatement(JJTHASYNCDATABASESTATEMENT);
+  public final OHaStatusStatement HaStatusStatement() throws ParseException {
+    /*@bgen(jjtree) HaStatusStatement */
+    OHaStatusStatement jjtn000 = new OHaStatusStatement(JJTHASTATUSSTATEMENT);
     boolean jjtc000 = true;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
+    Token token;
     try {
       jj_consume_token(HA);
-      jj_consume_token(SYNC);
-      jj_consume_token(DATABASE);
-      label_64:
+      jj_consume_token(STATUS);
+      label_65:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case 280:
           case 281:
           case 282:
+          case 283:
+          case 284:
+          case 285:
+          case 286:
             ;
             break;
           default:
-            jj_la1[425] = jj_gen;
-            break label_64;
+            jj_la1[431] = jj_gen;
+            break label_65;
         }
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case 280:
+            token = jj_consume_token(280);
+            jjtn000.servers = true;
+            break;
           case 281:
-            jj_consume_token(281);
-            jjtn000.force = true;
+            token = jj_consume_token(281);
+            jjtn000.db = true;
             break;
           case 282:
-            jj_consume_token(282);
-            jjtn000.full = true;
+            token = jj_consume_token(282);
+            jjtn000.latency = true;
+            break;
+          case 283:
+            token = jj_consume_token(283);
+            jjtn000.messages = true;
+            break;
+          case 284:
+            token = jj_consume_token(284);
+            jjtn000.locks = true;
+            break;
+          case 285:
+            token = jj_consume_token(285);
+            jjtn000.servers = true;
+            jjtn000.db = true;
+            jjtn000.latency = true;
+            jjtn000.messages = true;
+            jjtn000.locks = true;
+            break;
+          case 286:
+            token = jj_consume_token(286);
+            jjtn000.outputText = true;
             break;
           default:
-            jj_la1[426] = jj_gen;
+            jj_la1[432] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -23713,39 +24346,136 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
-  public final OHaSyncClusterStatement HaSyncClusterStatement() throws ParseException {
-    /*@bgen(jjtree) HaSyncClusterStatement */
-    OHaSyncClusterStatement jjtn000 = new OHaSyncClusterStatement(JJTHASYNCCLUSTERSTATEMENT);
+  public final OHaRemoveServerStatement HaRemoveServerStatement() throws ParseException {
+    /*@bgen(jjtree) HaRemoveServerStatement */
+    OHaRemoveServerStatement jjtn000 = new OHaRemoveServerStatement(JJTHAREMOVESERVERSTATEMENT);
     boolean jjtc000 = true;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(HA);
-      jj_consume_token(SYNC);
-      jj_consume_token(CLUSTER);
-      jjtn000.clusterName = Identifier();
-      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-        case 283:
-        case 284:
-          switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
-            case 283:
-              jj_consume_token(283);
-              jjtn000.modeFull = true;
-              break;
-            case 284:
-              jj_consume_token(284);
-              jjtn000.modeMerge = true;
-              break;
-            default:
-              jj_la1[427] = jj_gen;
-              jj_consume_token(-1);
-              throw new ParseException();
-          }
-          break;
-        default:
-          jj_la1[428] = jj_gen;
-          ;
-      }
+      jj_consume_token(REMOVE);
+      jj_consume_token(SERVER);
+      jjtn000.serverName = Identifier();
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  public final OHaSyncDatabaseStatement HaSyncDatabaseStatement() throws ParseException {
+    /*@bgen(jjtree) HaSyncDatabaseStatement */
+    OHaSyncDatabaseStatement jjtn000 = new OHaSyncDatabaseStatement(JJTHASYNCDATABASESTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(HA);
+      jj_consume_token(SYNC);
+      jj_consume_token(DATABASE);
+      label_66:
+      while (true) {
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case 287:
+          case 288:
+            ;
+            break;
+          default:
+            jj_la1[433] = jj_gen;
+            break label_66;
+        }
+        switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+          case 287:
+            jj_consume_token(287);
+            jjtn000.force = true;
+            break;
+          case 288:
+            jj_consume_token(288);
+            jjtn000.full = true;
+            break;
+          default:
+            jj_la1[434] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+        }
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if (true) return jjtn000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  public final OHaSyncClusterStatement HaSyncClusterStatement() throws ParseException {
+    /*@bgen(jjtree) HaSyncClusterStatement */
+    OHaSyncClusterStatement jjtn000 = new OHaSyncClusterStatement(JJTHASYNCCLUSTERSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(HA);
+      jj_consume_token(SYNC);
+      jj_consume_token(CLUSTER);
+      jjtn000.clusterName = Identifier();
+      switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+        case 289:
+        case 290:
+          switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
+            case 289:
+              jj_consume_token(289);
+              jjtn000.modeFull = true;
+              break;
+            case 290:
+              jj_consume_token(290);
+              jjtn000.modeMerge = true;
+              break;
+            default:
+              jj_la1[435] = jj_gen;
+              jj_consume_token(-1);
+              throw new ParseException();
+          }
+          break;
+        default:
+          jj_la1[436] = jj_gen;
+          ;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -23845,7 +24575,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.loopValues = Expression();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_65:
+      label_67:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
@@ -23969,6 +24699,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -23990,14 +24726,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             ;
             break;
           default:
-            jj_la1[429] = jj_gen;
-            break label_65;
+            jj_la1[437] = jj_gen;
+            break label_67;
         }
-        if (jj_2_167(2147483647)) {
+        if (jj_2_170(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.addStatement(lastStatement);
         } else {
@@ -24018,7 +24754,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[430] = jj_gen;
+              jj_la1[438] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24073,7 +24809,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.condition = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_66:
+      label_68:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SELECT:
@@ -24197,6 +24933,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case POLICY:
           case DEFAULTCLUSTER:
           case SYSTEM:
+          case ANALYZE:
+          case SAMPLE:
+          case FULL:
+          case GRAPH:
+          case SNAPSHOT:
+          case WEIGHT:
           case THIS:
           case RECORD_ATTRIBUTE:
           case RID_STRING:
@@ -24218,14 +24960,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case KEY:
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
-          case 271:
+          case 277:
             ;
             break;
           default:
-            jj_la1[431] = jj_gen;
-            break label_66;
+            jj_la1[439] = jj_gen;
+            break label_68;
         }
-        if (jj_2_168(2147483647)) {
+        if (jj_2_171(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.addStatement(lastStatement);
         } else {
@@ -24246,7 +24988,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(SEMICOLON);
               break;
             default:
-              jj_la1[432] = jj_gen;
+              jj_la1[440] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24409,6 +25151,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -24473,7 +25221,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.setIdentifier(new OIdentifier(token.image));
           break;
         default:
-          jj_la1[433] = jj_gen;
+          jj_la1[441] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -24483,7 +25231,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.next = SecurityResourceSegment();
           break;
         default:
-          jj_la1[434] = jj_gen;
+          jj_la1[442] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24583,19 +25331,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               jj_consume_token(RPAREN);
               break;
             default:
-              jj_la1[435] = jj_gen;
+              jj_la1[443] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
-          label_67:
+          label_69:
           while (true) {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
               case COMMA:
                 ;
                 break;
               default:
-                jj_la1[436] = jj_gen;
-                break label_67;
+                jj_la1[444] = jj_gen;
+                break label_69;
             }
             jj_consume_token(COMMA);
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24644,14 +25392,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[437] = jj_gen;
+                jj_la1[445] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[438] = jj_gen;
+          jj_la1[446] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24701,7 +25449,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(SECURITY);
       jj_consume_token(POLICY);
       jjtn000.name = Identifier();
-      label_68:
+      label_70:
       while (true) {
         switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
           case SET:
@@ -24752,19 +25500,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jj_consume_token(RPAREN);
                 break;
               default:
-                jj_la1[439] = jj_gen;
+                jj_la1[447] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
-            label_69:
+            label_71:
             while (true) {
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[440] = jj_gen;
-                  break label_69;
+                  jj_la1[448] = jj_gen;
+                  break label_71;
               }
               jj_consume_token(COMMA);
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24813,7 +25561,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jj_consume_token(RPAREN);
                   break;
                 default:
-                  jj_la1[441] = jj_gen;
+                  jj_la1[449] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -24849,19 +25597,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 jjtn000.removeExecute = true;
                 break;
               default:
-                jj_la1[442] = jj_gen;
+                jj_la1[450] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
-            label_70:
+            label_72:
             while (true) {
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[443] = jj_gen;
-                  break label_70;
+                  jj_la1[451] = jj_gen;
+                  break label_72;
               }
               jj_consume_token(COMMA);
               switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -24892,14 +25640,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   jjtn000.removeExecute = true;
                   break;
                 default:
-                  jj_la1[444] = jj_gen;
+                  jj_la1[452] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
             }
             break;
           default:
-            jj_la1[445] = jj_gen;
+            jj_la1[453] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -24909,8 +25657,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             ;
             break;
           default:
-            jj_la1[446] = jj_gen;
-            break label_68;
+            jj_la1[454] = jj_gen;
+            break label_70;
         }
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25065,6 +25813,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -25076,7 +25830,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[447] = jj_gen;
+          jj_la1[455] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25191,6 +25945,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -25206,7 +25966,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.passwordParam = InputParameter();
           break;
         default:
-          jj_la1[448] = jj_gen;
+          jj_la1[456] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25322,6 +26082,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             case POLICY:
             case DEFAULTCLUSTER:
             case SYSTEM:
+            case ANALYZE:
+            case SAMPLE:
+            case FULL:
+            case GRAPH:
+            case SNAPSHOT:
+            case WEIGHT:
             case IN:
             case KEY:
             case IDENTIFIER:
@@ -25440,21 +26206,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 case POLICY:
                 case DEFAULTCLUSTER:
                 case SYSTEM:
+                case ANALYZE:
+                case SAMPLE:
+                case FULL:
+                case GRAPH:
+                case SNAPSHOT:
+                case WEIGHT:
                 case IN:
                 case KEY:
                 case IDENTIFIER:
                 case QUOTED_IDENTIFIER:
                   lastIdentifier = Identifier();
                   jjtn000.addRole(lastIdentifier);
-                  label_71:
+                  label_73:
                   while (true) {
                     switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
                       case COMMA:
                         ;
                         break;
                       default:
-                        jj_la1[449] = jj_gen;
-                        break label_71;
+                        jj_la1[457] = jj_gen;
+                        break label_73;
                     }
                     jj_consume_token(COMMA);
                     lastIdentifier = Identifier();
@@ -25462,19 +26234,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   }
                   break;
                 default:
-                  jj_la1[450] = jj_gen;
+                  jj_la1[458] = jj_gen;
                   ;
               }
               jj_consume_token(RBRACKET);
               break;
             default:
-              jj_la1[451] = jj_gen;
+              jj_la1[459] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
           break;
         default:
-          jj_la1[452] = jj_gen;
+          jj_la1[460] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25631,6 +26403,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -25642,7 +26420,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[453] = jj_gen;
+          jj_la1[461] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25655,7 +26433,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[454] = jj_gen;
+          jj_la1[462] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -25664,15 +26442,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(LPAREN);
           lastUserData = DatabaseUserData();
           jjtn000.addUser(lastUserData);
-          label_72:
+          label_74:
           while (true) {
             switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
               case COMMA:
                 ;
                 break;
               default:
-                jj_la1[455] = jj_gen;
-                break label_72;
+                jj_la1[463] = jj_gen;
+                break label_74;
             }
             jj_consume_token(COMMA);
             lastUserData = DatabaseUserData();
@@ -25681,7 +26459,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[456] = jj_gen;
+          jj_la1[464] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk() : jj_ntk) {
@@ -25689,7 +26467,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.config = Json();
           break;
         default:
-          jj_la1[457] = jj_gen;
+          jj_la1[465] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25845,6 +26623,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case POLICY:
         case DEFAULTCLUSTER:
         case SYSTEM:
+        case ANALYZE:
+        case SAMPLE:
+        case FULL:
+        case GRAPH:
+        case SNAPSHOT:
+        case WEIGHT:
         case IN:
         case KEY:
         case IDENTIFIER:
@@ -25856,7 +26640,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.nameParam = InputParameter();
           break;
         default:
-          jj_la1[458] = jj_gen;
+          jj_la1[466] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -25867,7 +26651,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           jjtn000.ifExists = true;
           break;
         default:
-          jj_la1[459] = jj_gen;
+          jj_la1[467] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -27921,243 +28705,220 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
   }
 
-  private boolean jj_3R_218() {
-    if (jj_3R_161()) return true;
-    if (jj_3R_442()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_131()) {
-      jj_scanpos = xsp;
-      if (jj_3R_443()) return true;
+  private boolean jj_2_169(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_169();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(168, xla);
     }
-    return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_161()) return true;
-    if (jj_3R_440()) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_566() {
-    if (jj_scan_token(NOT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_392() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_566()) jj_scanpos = xsp;
-    if (jj_3R_437()) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_391() {
-    if (jj_3R_440()) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_182() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_391()) {
-      jj_scanpos = xsp;
-      if (jj_3R_392()) return true;
+  private boolean jj_2_170(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_170();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(169, xla);
     }
-    return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_scan_token(EQEQ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_839() {
-    if (jj_scan_token(EQ)) return true;
-    return false;
+  private boolean jj_2_171(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return !jj_3_171();
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(170, xla);
+    }
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_697() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_839()) {
+    if (jj_3R_851()) {
       jj_scanpos = xsp;
-      if (jj_3R_840()) return true;
+      if (jj_3R_852()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_450() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_709() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_707() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_706() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_703() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_698() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_701()) return true;
+  private boolean jj_3R_614() {
+    if (jj_3R_709()) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_700()) return true;
+  private boolean jj_3R_613() {
+    if (jj_3R_708()) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_3R_699()) return true;
+  private boolean jj_3R_612() {
+    if (jj_3R_707()) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_3R_698()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_706()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_689()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_697()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_697()) return true;
+  private boolean jj_3R_610() {
+    if (jj_3R_705()) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_3R_696()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_704()) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_3R_695()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_703()) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_3R_694()) return true;
+  private boolean jj_3R_607() {
+    if (jj_3R_702()) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_693()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_701()) return true;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_692()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_700()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_3R_691()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_699()) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_690()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_698()) return true;
     return false;
   }
 
-  private boolean jj_3_130() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3_133() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3_129() {
-    if (jj_3R_222()) return true;
+  private boolean jj_3_132() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
+  private boolean jj_3R_448() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_594()) {
+    if (jj_3R_602()) {
       jj_scanpos = xsp;
-      if (jj_3R_595()) {
+      if (jj_3R_603()) {
         jj_scanpos = xsp;
-        if (jj_3R_596()) {
+        if (jj_3R_604()) {
           jj_scanpos = xsp;
-          if (jj_3R_597()) {
+          if (jj_3R_605()) {
             jj_scanpos = xsp;
-            if (jj_3R_598()) {
+            if (jj_3R_606()) {
               jj_scanpos = xsp;
-              if (jj_3R_599()) {
+              if (jj_3R_607()) {
                 jj_scanpos = xsp;
-                if (jj_3R_600()) {
+                if (jj_3R_608()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_601()) {
+                  if (jj_3R_609()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_602()) {
+                    if (jj_3R_610()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_603()) {
+                      if (jj_3R_611()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_604()) {
+                        if (jj_3R_612()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_605()) {
+                          if (jj_3R_613()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_606()) return true;
+                            if (jj_3R_614()) return true;
                           }
                         }
                       }
@@ -28173,197 +28934,197 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_128() {
-    if (jj_3R_221()) return true;
+  private boolean jj_3_131() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
+  private boolean jj_3R_444() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3_126() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3_129() {
+    if (jj_3R_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_443() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_127() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3_130() {
+    if (jj_3R_226()) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_3R_222()) return true;
+  private boolean jj_3R_441() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3_125() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3_128() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3_124() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3_127() {
+    if (jj_3R_223()) return true;
     return false;
   }
 
-  private boolean jj_3_123() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3_126() {
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_3R_221()) return true;
+  private boolean jj_3R_440() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_438() {
+    if (jj_3R_225()) return true;
     return false;
   }
 
-  private boolean jj_3_122() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3_125() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_439() {
+    if (jj_3R_226()) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_437() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_223()) return true;
     return false;
   }
 
-  private boolean jj_3_120() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3_123() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3_121() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3_124() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_435() {
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3_119() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3_122() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_434() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3_118() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3_121() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3_117() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3_120() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3_116() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3_119() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3R_433() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_430() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_420() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3_115() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3_118() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
+  private boolean jj_3R_213() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_420()) {
+    if (jj_3R_428()) {
       jj_scanpos = xsp;
-      if (jj_3R_421()) {
+      if (jj_3R_429()) {
         jj_scanpos = xsp;
-        if (jj_3R_422()) {
+        if (jj_3R_430()) {
           jj_scanpos = xsp;
-          if (jj_3R_423()) {
+          if (jj_3R_431()) {
             jj_scanpos = xsp;
-            if (jj_3R_424()) {
+            if (jj_3R_432()) {
               jj_scanpos = xsp;
-              if (jj_3R_425()) {
+              if (jj_3R_433()) {
                 jj_scanpos = xsp;
-                if (jj_3R_426()) {
+                if (jj_3R_434()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_427()) {
+                  if (jj_3R_435()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_428()) {
+                    if (jj_3R_436()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_429()) {
+                      if (jj_3R_437()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_430()) {
+                        if (jj_3R_438()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_431()) {
+                          if (jj_3R_439()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_432()) {
+                            if (jj_3R_440()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_433()) {
+                              if (jj_3R_441()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_434()) {
+                                if (jj_3R_442()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_435()) {
+                                  if (jj_3R_443()) {
                                     jj_scanpos = xsp;
-                                    if (jj_3R_436()) return true;
+                                    if (jj_3R_444()) return true;
                                   }
                                 }
                               }
@@ -28383,97 +29144,97 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_114() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3_117() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3_113() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3_116() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
+  private boolean jj_3R_214() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_112() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3_115() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_838() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3R_837() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_836() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_685() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_825()) {
+    if (jj_3R_837()) {
       jj_scanpos = xsp;
-      if (jj_3R_826()) return true;
+      if (jj_3R_838()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3R_835() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) {
+    if (jj_3R_835()) {
       jj_scanpos = xsp;
-      if (jj_3R_824()) return true;
+      if (jj_3R_836()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_570() {
+  private boolean jj_3R_578() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_676()) {
+    if (jj_3R_684()) {
       jj_scanpos = xsp;
-      if (jj_3R_677()) return true;
+      if (jj_3R_685()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_571() {
+  private boolean jj_3R_579() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_570()) return true;
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
+  private boolean jj_3R_405() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_396()) return true;
+    if (jj_3R_404()) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_3R_570()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_578()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_571()) {
+      if (jj_3R_579()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28481,12 +29242,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_3R_396()) return true;
+  private boolean jj_3R_190() {
+    if (jj_3R_404()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_397()) {
+      if (jj_3R_405()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28494,89 +29255,89 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_479() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_487() {
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
+  private boolean jj_3R_561() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_552() {
+  private boolean jj_3R_560() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_559() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
+  private boolean jj_3R_378() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_551()) {
+    if (jj_3R_559()) {
       jj_scanpos = xsp;
-      if (jj_3R_552()) {
+      if (jj_3R_560()) {
         jj_scanpos = xsp;
-        if (jj_3R_553()) return true;
+        if (jj_3R_561()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_369() {
+  private boolean jj_3R_377() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_550()) return true;
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_173() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_369()) {
+    if (jj_3R_377()) {
       jj_scanpos = xsp;
-      if (jj_3R_370()) return true;
+      if (jj_3R_378()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_818() {
+  private boolean jj_3R_830() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
+  private boolean jj_3R_829() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_672() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_817()) {
+    if (jj_3R_829()) {
       jj_scanpos = xsp;
-      if (jj_3R_818()) return true;
+      if (jj_3R_830()) return true;
     }
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_scan_token(272)) return true;
+  private boolean jj_3R_671() {
+    if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_550() {
+  private boolean jj_3R_558() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_663()) jj_scanpos = xsp;
-    if (jj_3R_171()) return true;
+    if (jj_3R_671()) jj_scanpos = xsp;
+    if (jj_3R_177()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_664()) {
+      if (jj_3R_672()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28584,18 +29345,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1022() {
+  private boolean jj_3R_1036() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_933() {
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1022()) {
+      if (jj_3R_1036()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28603,188 +29364,188 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_781() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_780() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_919()) jj_scanpos = xsp;
+    if (jj_3R_933()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
+  private boolean jj_3R_382() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_381() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_107() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_110() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
+  private boolean jj_3R_179() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_373()) {
+    if (jj_3R_381()) {
       jj_scanpos = xsp;
-      if (jj_3R_374()) return true;
+      if (jj_3R_382()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_206() {
+  private boolean jj_3R_212() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_106() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_109() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_784() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_108() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_783() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_639() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_772()) jj_scanpos = xsp;
+    if (jj_3R_784()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_770() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_782() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3_111() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3_114() {
+    if (jj_3R_183()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_771()) jj_scanpos = xsp;
+    if (jj_3R_783()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_630() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_638() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3_110() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_113() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_637() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_205()) return true;
+    if (jj_3R_211()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_770()) jj_scanpos = xsp;
+    if (jj_3R_782()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_628() {
-    if (jj_3R_769()) return true;
+  private boolean jj_3R_636() {
+    if (jj_3R_781()) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_635() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_918() {
-    if (jj_3R_563()) return true;
+  private boolean jj_3R_932() {
+    if (jj_3R_571()) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
-    if (jj_3R_768()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_780()) return true;
     return false;
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_779() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_917()) {
+    if (jj_3R_931()) {
       jj_scanpos = xsp;
-      if (jj_3R_918()) return true;
+      if (jj_3R_932()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_931() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_562()) return true;
+    if (jj_3R_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_633() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
-    if (jj_3R_563()) return true;
+  private boolean jj_3R_778() {
+    if (jj_3R_571()) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
-    if (jj_3R_562()) return true;
+  private boolean jj_3R_777() {
+    if (jj_3R_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_656() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_647()) return true;
+    if (jj_3R_655()) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_776() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
+  private boolean jj_3R_632() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_765()) {
+    if (jj_3R_777()) {
       jj_scanpos = xsp;
-      if (jj_3R_766()) return true;
+      if (jj_3R_778()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_767()) {
+      if (jj_3R_779()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28793,13 +29554,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_109() {
+  private boolean jj_3_112() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_181()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_764()) {
+      if (jj_3R_776()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28808,42 +29569,42 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_108() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3_111() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_631() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
+  private boolean jj_3R_482() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_623()) {
+    if (jj_3R_631()) {
       jj_scanpos = xsp;
-      if (jj_3_108()) {
+      if (jj_3_111()) {
         jj_scanpos = xsp;
-        if (jj_3_109()) {
+        if (jj_3_112()) {
           jj_scanpos = xsp;
-          if (jj_3R_624()) {
+          if (jj_3R_632()) {
             jj_scanpos = xsp;
-            if (jj_3R_625()) {
+            if (jj_3R_633()) {
               jj_scanpos = xsp;
-              if (jj_3R_626()) {
+              if (jj_3R_634()) {
                 jj_scanpos = xsp;
-                if (jj_3R_627()) {
+                if (jj_3R_635()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_628()) {
+                  if (jj_3R_636()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_629()) {
+                    if (jj_3R_637()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_630()) {
+                      if (jj_3R_638()) {
                         jj_scanpos = xsp;
-                        if (jj_3_111()) {
+                        if (jj_3_114()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_631()) return true;
+                          if (jj_3R_639()) return true;
                         }
                       }
                     }
@@ -28858,47 +29619,47 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_107() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_807() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_205()) return true;
+    if (jj_3R_211()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_806() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_655() {
+    if (jj_3R_177()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) {
+    if (jj_3R_806()) {
       jj_scanpos = xsp;
-      if (jj_3R_795()) return true;
+      if (jj_3R_807()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_106() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
+  private boolean jj_3R_543() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_647()) return true;
+    if (jj_3R_655()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_648()) {
+      if (jj_3R_656()) {
         jj_scanpos = xsp;
         break;
       }
@@ -28906,241 +29667,247 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_265() {
-    if (jj_3R_474()) return true;
+  private boolean jj_3R_271() {
+    if (jj_3R_482()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_105() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
+  private boolean jj_3R_598() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_597() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_596() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
+  private boolean jj_3R_422() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_589()) {
+    if (jj_3R_597()) {
       jj_scanpos = xsp;
-      if (jj_3R_590()) return true;
+      if (jj_3R_598()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_591()) jj_scanpos = xsp;
+    if (jj_3R_599()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_587() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_595() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_182()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_588()) jj_scanpos = xsp;
+    if (jj_3R_596()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_586()) return true;
+  private boolean jj_3R_420() {
+    if (jj_3R_594()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_587()) jj_scanpos = xsp;
+    if (jj_3R_595()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_501()) return true;
+  private boolean jj_3R_419() {
+    if (jj_3R_509()) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
+  private boolean jj_3R_210() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_411()) {
+    if (jj_3R_419()) {
       jj_scanpos = xsp;
-      if (jj_3R_412()) {
+      if (jj_3R_420()) {
         jj_scanpos = xsp;
-        if (jj_3R_413()) {
+        if (jj_3R_421()) {
           jj_scanpos = xsp;
-          if (jj_3R_414()) return true;
+          if (jj_3R_422()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_409() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_417() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_418() {
+    if (jj_3R_324()) return true;
     return false;
   }
 
-  private boolean jj_3_100() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3_103() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3_99() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3_102() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3_98() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_209() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_100()) {
+    if (jj_3_103()) {
       jj_scanpos = xsp;
-      if (jj_3R_409()) {
+      if (jj_3R_417()) {
         jj_scanpos = xsp;
-        if (jj_3R_410()) return true;
+        if (jj_3R_418()) return true;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_78() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_415() {
+    if (jj_3R_209()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_207() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_206() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_208() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_407()) {
+    if (jj_3R_415()) {
       jj_scanpos = xsp;
-      if (jj_3R_408()) return true;
+      if (jj_3R_416()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_205() {
     if (jj_scan_token(NULL_COALESCING)) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_204() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_203() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_202() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_201() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_200() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_199() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_97() {
+  private boolean jj_3_100() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_190()) {
+    if (jj_3R_196()) {
       jj_scanpos = xsp;
-      if (jj_3R_191()) {
+      if (jj_3R_197()) {
         jj_scanpos = xsp;
-        if (jj_3R_192()) {
+        if (jj_3R_198()) {
           jj_scanpos = xsp;
-          if (jj_3R_193()) {
+          if (jj_3R_199()) {
             jj_scanpos = xsp;
-            if (jj_3R_194()) {
+            if (jj_3R_200()) {
               jj_scanpos = xsp;
-              if (jj_3R_195()) {
+              if (jj_3R_201()) {
                 jj_scanpos = xsp;
-                if (jj_3R_196()) {
+                if (jj_3R_202()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_197()) {
+                  if (jj_3R_203()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_198()) {
+                    if (jj_3R_204()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_199()) {
+                      if (jj_3R_205()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_200()) {
+                        if (jj_3R_206()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_201()) return true;
+                          if (jj_3R_207()) return true;
                         }
                       }
                     }
@@ -29152,109 +29919,26 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    if (jj_3R_202()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_76() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_96() {
-    if (jj_3R_189()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_189() {
-    if (jj_3R_202()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_97()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3_95() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_585() {
-    if (jj_3R_240()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_584() {
-    if (jj_3R_189()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_583() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_582() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_581() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_580() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_405() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_580()) {
-      jj_scanpos = xsp;
-      if (jj_3R_581()) {
-        jj_scanpos = xsp;
-        if (jj_3R_582()) {
-          jj_scanpos = xsp;
-          if (jj_3R_583()) {
-            jj_scanpos = xsp;
-            if (jj_3R_584()) {
-              jj_scanpos = xsp;
-              if (jj_3R_585()) return true;
-            }
-          }
-        }
-      }
-    }
+    if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_405()) return true;
+  private boolean jj_3R_1076() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3R_1075() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_405()) return true;
+  private boolean jj_3R_195() {
+    if (jj_3R_208()) return true;
     Token xsp;
-    if (jj_3R_406()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_406()) {
+      if (jj_3_100()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29262,98 +29946,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1062() {
-    if (jj_scan_token(EXECUTE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1061() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_350() {
-    if (jj_3R_240()) return true;
+  private boolean jj_3_99() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_1060() {
+  private boolean jj_3R_1074() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1059() {
+  private boolean jj_3R_1073() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
-    if (jj_3R_189()) return true;
-    return false;
-  }
-
-  private boolean jj_3_92() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3_98() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_1058() {
+  private boolean jj_3R_1072() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1057() {
+  private boolean jj_3R_1071() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_346() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_345() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_593() {
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_592() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_1027() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1057()) {
+    if (jj_3R_1071()) {
       jj_scanpos = xsp;
-      if (jj_3R_1058()) {
+      if (jj_3R_1072()) {
         jj_scanpos = xsp;
-        if (jj_3R_1059()) {
+        if (jj_3R_1073()) {
           jj_scanpos = xsp;
-          if (jj_3R_1060()) {
+          if (jj_3R_1074()) {
             jj_scanpos = xsp;
-            if (jj_3R_1061()) {
+            if (jj_3R_1075()) {
               jj_scanpos = xsp;
-              if (jj_3R_1062()) return true;
+              if (jj_3R_1076()) return true;
             }
           }
         }
@@ -29362,59 +30011,67 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_591() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_1012() {
+  private boolean jj_3R_1026() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_590() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1011() {
+  private boolean jj_3R_1025() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_589() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1010() {
+  private boolean jj_3R_1024() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_588() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_1023() {
+    if (jj_scan_token(BEFORE)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1022() {
+    if (jj_scan_token(READ)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_413() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_344()) {
+    if (jj_3R_588()) {
       jj_scanpos = xsp;
-      if (jj_3R_345()) {
+      if (jj_3R_589()) {
         jj_scanpos = xsp;
-        if (jj_3R_346()) {
+        if (jj_3R_590()) {
           jj_scanpos = xsp;
-          if (jj_3R_347()) {
+          if (jj_3R_591()) {
             jj_scanpos = xsp;
-            if (jj_3R_348()) {
+            if (jj_3R_592()) {
               jj_scanpos = xsp;
-              if (jj_3R_349()) {
-                jj_scanpos = xsp;
-                if (jj_3R_350()) return true;
-              }
+              if (jj_3R_593()) return true;
             }
           }
         }
@@ -29423,111 +30080,70 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1009() {
-    if (jj_scan_token(BEFORE)) return true;
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_87() {
-    if (jj_3R_183()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_404() {
-    if (jj_3R_187()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1008() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1007() {
+  private boolean jj_3R_1021() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_182()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_403() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_181()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1056() {
+  private boolean jj_3R_1070() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_185()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1055() {
+  private boolean jj_3R_1069() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_414() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_413()) return true;
     return false;
   }
 
-  private boolean jj_3R_1054() {
+  private boolean jj_3R_1068() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_184()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1053() {
+  private boolean jj_3R_1067() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1007()) {
+    if (jj_3R_1021()) {
       jj_scanpos = xsp;
-      if (jj_3R_1008()) {
+      if (jj_3R_1022()) {
         jj_scanpos = xsp;
-        if (jj_3R_1009()) {
+        if (jj_3R_1023()) {
           jj_scanpos = xsp;
-          if (jj_3R_1010()) {
+          if (jj_3R_1024()) {
             jj_scanpos = xsp;
-            if (jj_3R_1011()) {
+            if (jj_3R_1025()) {
               jj_scanpos = xsp;
-              if (jj_3R_1012()) return true;
+              if (jj_3R_1026()) return true;
             }
           }
         }
@@ -29535,7 +30151,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1013()) {
+      if (jj_3R_1027()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29543,49 +30159,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_3R_183()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1052() {
+  private boolean jj_3R_1066() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1051() {
+  private boolean jj_3R_1065() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_194() {
+    if (jj_3R_413()) return true;
+    Token xsp;
+    if (jj_3R_414()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_414()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_1006() {
+  private boolean jj_3_97() {
+    if (jj_3R_195()) return true;
+    return false;
+  }
+
+  private boolean jj_3_96() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1020() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1051()) {
+    if (jj_3R_1065()) {
       jj_scanpos = xsp;
-      if (jj_3R_1052()) {
+      if (jj_3R_1066()) {
         jj_scanpos = xsp;
-        if (jj_3R_1053()) {
+        if (jj_3R_1067()) {
           jj_scanpos = xsp;
-          if (jj_3R_1054()) {
+          if (jj_3R_1068()) {
             jj_scanpos = xsp;
-            if (jj_3R_1055()) {
+            if (jj_3R_1069()) {
               jj_scanpos = xsp;
-              if (jj_3R_1056()) return true;
+              if (jj_3R_1070()) return true;
             }
           }
         }
@@ -29594,141 +30224,137 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1005() {
+  private boolean jj_3R_1019() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1004() {
+  private boolean jj_3R_1018() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_576()) {
-      jj_scanpos = xsp;
-      if (jj_3R_577()) {
-        jj_scanpos = xsp;
-        if (jj_3R_578()) {
-          jj_scanpos = xsp;
-          if (jj_3R_579()) return true;
-        }
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_358() {
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_1003() {
+  private boolean jj_3R_1017() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_564() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_357() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_1002() {
+  private boolean jj_3R_1016() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_1001() {
+  private boolean jj_3R_1015() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_356() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_1014() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_401()) {
-      jj_scanpos = xsp;
-      if (jj_3R_402()) {
-        jj_scanpos = xsp;
-        if (jj_3R_403()) return true;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_404()) jj_scanpos = xsp;
+  private boolean jj_3R_355() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_354() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
+  private boolean jj_3R_353() {
+    if (jj_scan_token(NULL)) return true;
+    return false;
+  }
+
+  private boolean jj_3_94() {
+    if (jj_3R_193()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_352() {
+    if (jj_3R_194()) return true;
+    return false;
+  }
+
+  private boolean jj_3_92() {
+    if (jj_3R_191()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_749() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_877()) {
+    if (jj_3R_889()) {
       jj_scanpos = xsp;
-      if (jj_3R_878()) return true;
+      if (jj_3R_890()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_889() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1000()) {
+    if (jj_3R_1014()) {
       jj_scanpos = xsp;
-      if (jj_3R_1001()) {
+      if (jj_3R_1015()) {
         jj_scanpos = xsp;
-        if (jj_3R_1002()) {
+        if (jj_3R_1016()) {
           jj_scanpos = xsp;
-          if (jj_3R_1003()) {
+          if (jj_3R_1017()) {
             jj_scanpos = xsp;
-            if (jj_3R_1004()) {
+            if (jj_3R_1018()) {
               jj_scanpos = xsp;
-              if (jj_3R_1005()) return true;
+              if (jj_3R_1019()) return true;
             }
           }
         }
@@ -29736,7 +30362,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1006()) {
+      if (jj_3R_1020()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29744,41 +30370,61 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_685() {
-    if (jj_3R_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3_83() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
+  private boolean jj_3R_167() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_685()) {
+    if (jj_3R_352()) {
       jj_scanpos = xsp;
-      if (jj_3R_686()) return true;
+      if (jj_3R_353()) {
+        jj_scanpos = xsp;
+        if (jj_3R_354()) {
+          jj_scanpos = xsp;
+          if (jj_3R_355()) {
+            jj_scanpos = xsp;
+            if (jj_3R_356()) {
+              jj_scanpos = xsp;
+              if (jj_3R_357()) {
+                jj_scanpos = xsp;
+                if (jj_3R_358()) return true;
+              }
+            }
+          }
+        }
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_95() {
+  private boolean jj_3_90() {
+    if (jj_3R_189()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_412() {
+    if (jj_3R_193()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_97() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
-    if (jj_3R_741()) return true;
+    if (jj_3R_749()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_741()) {
+      if (jj_3R_749()) {
         jj_scanpos = xsp;
         break;
       }
@@ -29786,134 +30432,122 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_999() {
+  private boolean jj_3_89() {
+    if (jj_3R_188()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_411() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1013() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
+  private boolean jj_3R_1012() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_997() {
+  private boolean jj_3R_410() {
+    if (jj_3R_192()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1011() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3R_586() {
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_996() {
+  private boolean jj_3R_1010() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_178()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_388() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_995() {
+  private boolean jj_3R_1009() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
+  private boolean jj_3R_1008() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_177()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_181() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_388()) {
-      jj_scanpos = xsp;
-      if (jj_3R_389()) {
-        jj_scanpos = xsp;
-        if (jj_3R_390()) return true;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_387() {
-    if (jj_3R_178()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_386() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_887() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_994()) {
+    if (jj_3R_1008()) {
       jj_scanpos = xsp;
-      if (jj_3R_995()) {
+      if (jj_3R_1009()) {
         jj_scanpos = xsp;
-        if (jj_3R_996()) {
+        if (jj_3R_1010()) {
           jj_scanpos = xsp;
-          if (jj_3R_997()) {
+          if (jj_3R_1011()) {
             jj_scanpos = xsp;
-            if (jj_3R_998()) {
+            if (jj_3R_1012()) {
               jj_scanpos = xsp;
-              if (jj_3R_999()) return true;
+              if (jj_3R_1013()) return true;
             }
           }
         }
@@ -29922,105 +30556,117 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_874() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_385() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_409() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_584()) {
+      jj_scanpos = xsp;
+      if (jj_3R_585()) {
+        jj_scanpos = xsp;
+        if (jj_3R_586()) {
+          jj_scanpos = xsp;
+          if (jj_3R_587()) return true;
+        }
+      }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_873() {
-    if (jj_scan_token(AFTER)) return true;
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_886() {
+    if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_885() {
+    if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
+  private boolean jj_3R_572() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_385()) {
-      jj_scanpos = xsp;
-      if (jj_3R_386()) {
-        jj_scanpos = xsp;
-        if (jj_3R_387()) return true;
-      }
-    }
+  private boolean jj_3_88() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
+  private boolean jj_3R_884() {
+    if (jj_scan_token(BEFORE)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_190()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_883() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_161()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_575()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3_87() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_193() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_409()) {
+      jj_scanpos = xsp;
+      if (jj_3R_410()) {
+        jj_scanpos = xsp;
+        if (jj_3R_411()) return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_412()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_748() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_870()) {
+    if (jj_3R_882()) {
       jj_scanpos = xsp;
-      if (jj_3R_871()) {
+      if (jj_3R_883()) {
         jj_scanpos = xsp;
-        if (jj_3R_872()) {
+        if (jj_3R_884()) {
           jj_scanpos = xsp;
-          if (jj_3R_873()) {
+          if (jj_3R_885()) {
             jj_scanpos = xsp;
-            if (jj_3R_874()) {
+            if (jj_3R_886()) {
               jj_scanpos = xsp;
-              if (jj_3R_875()) return true;
+              if (jj_3R_887()) return true;
             }
           }
         }
@@ -30028,7 +30674,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_876()) {
+      if (jj_3R_888()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30036,205 +30682,252 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_186() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_400()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_694() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
+  private boolean jj_3R_693() {
+    if (jj_3R_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3_86() {
+    if (jj_3R_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_96() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) jj_scanpos = xsp;
+    if (jj_3R_748()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_85() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_594() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_564()) {
-        jj_scanpos = xsp;
-        break;
-      }
+    xsp = jj_scanpos;
+    if (jj_3R_693()) {
+      jj_scanpos = xsp;
+      if (jj_3R_694()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_911() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_760()) return true;
+    if (jj_3R_772()) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_923() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_scan_token(DISTINCT)) return true;
+  private boolean jj_3R_398() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
+  private boolean jj_3R_922() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_921() {
+    if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
-    if (jj_scan_token(CONTAINSANY)) return true;
+  private boolean jj_3R_397() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_920() {
     if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3_84() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_396() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_919() {
     if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
+  private boolean jj_3R_918() {
     if (jj_scan_token(EDGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
+  private boolean jj_3_83() {
+    if (jj_3R_183()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_917() {
     if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_187() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_381()) {
+    if (jj_3R_396()) {
       jj_scanpos = xsp;
-      if (jj_3R_382()) return true;
+      if (jj_3R_397()) {
+        jj_scanpos = xsp;
+        if (jj_3R_398()) return true;
+      }
     }
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_383()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
+  private boolean jj_3R_916() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
+  private boolean jj_3R_915() {
     if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_395() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_914() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_394() {
+    if (jj_scan_token(THIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_913() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
+  private boolean jj_3R_912() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_911() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_910() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_583() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_186() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_393()) {
+      jj_scanpos = xsp;
+      if (jj_3R_394()) {
+        jj_scanpos = xsp;
+        if (jj_3R_395()) return true;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+  private boolean jj_3R_909() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3R_408() {
+    if (jj_3R_167()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_583()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_760() {
+  private boolean jj_3R_772() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_895()) {
+    if (jj_3R_909()) {
       jj_scanpos = xsp;
-      if (jj_3R_896()) {
+      if (jj_3R_910()) {
         jj_scanpos = xsp;
-        if (jj_3R_897()) {
+        if (jj_3R_911()) {
           jj_scanpos = xsp;
-          if (jj_3R_898()) {
+          if (jj_3R_912()) {
             jj_scanpos = xsp;
-            if (jj_3R_899()) {
+            if (jj_3R_913()) {
               jj_scanpos = xsp;
-              if (jj_3R_900()) {
+              if (jj_3R_914()) {
                 jj_scanpos = xsp;
-                if (jj_3R_901()) {
+                if (jj_3R_915()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_902()) {
+                  if (jj_3R_916()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_903()) {
+                    if (jj_3R_917()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_904()) {
+                      if (jj_3R_918()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_905()) {
+                        if (jj_3R_919()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_906()) {
+                          if (jj_3R_920()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_907()) {
+                            if (jj_3R_921()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_908()) {
+                              if (jj_3R_922()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_909()) {
+                                if (jj_3R_923()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_910()) return true;
+                                  if (jj_3R_924()) return true;
                                 }
                               }
                             }
@@ -30251,59 +30944,81 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_911()) jj_scanpos = xsp;
+    if (jj_3R_925()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_168() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_192() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_408()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_567()) return true;
+  private boolean jj_3_171() {
+    if (jj_3R_76()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_391() {
+    if (jj_3R_167()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_568()) {
-      jj_scanpos = xsp;
-      if (jj_3R_569()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_572()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
-    if (jj_3R_567()) return true;
     return false;
   }
 
-  private boolean jj_3R_1079() {
-    if (jj_3R_1020()) return true;
+  private boolean jj_3R_1093() {
+    if (jj_3R_1034()) return true;
     return false;
   }
 
-  private boolean jj_3R_1078() {
-    if (jj_3R_1021()) return true;
+  private boolean jj_3R_1092() {
+    if (jj_3R_1035()) return true;
     return false;
   }
 
-  private boolean jj_3R_1077() {
-    if (jj_3R_328()) return true;
+  private boolean jj_3R_1091() {
+    if (jj_3R_336()) return true;
     return false;
   }
 
-  private boolean jj_3R_1076() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_390() {
+    if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_1067() {
+  private boolean jj_3R_389() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1090() {
+    if (jj_3R_76()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1081() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1076()) {
+    if (jj_3R_1090()) {
       jj_scanpos = xsp;
-      if (jj_3R_1077()) {
+      if (jj_3R_1091()) {
         jj_scanpos = xsp;
-        if (jj_3R_1078()) {
+        if (jj_3R_1092()) {
           jj_scanpos = xsp;
-          if (jj_3R_1079()) {
+          if (jj_3R_1093()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(204)) return true;
           }
         }
       }
@@ -30311,21 +31026,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1020() {
+  private boolean jj_3R_1034() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1067()) {
+      if (jj_3R_1081()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30334,67 +31044,67 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3R_183() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_389()) {
+      jj_scanpos = xsp;
+      if (jj_3R_390()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_391()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_167() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3_170() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_1083() {
-    if (jj_3R_1020()) return true;
+  private boolean jj_3R_1097() {
+    if (jj_3R_1034()) return true;
     return false;
   }
 
-  private boolean jj_3R_1082() {
-    if (jj_3R_1021()) return true;
+  private boolean jj_3R_185() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_393()) {
-      jj_scanpos = xsp;
-      if (jj_3R_394()) {
-        jj_scanpos = xsp;
-        if (jj_3R_395()) return true;
-      }
-    }
+  private boolean jj_3R_1096() {
+    if (jj_3R_1035()) return true;
     return false;
   }
 
-  private boolean jj_3R_1081() {
-    if (jj_3R_328()) return true;
+  private boolean jj_3R_1095() {
+    if (jj_3R_336()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_398()) return true;
+  private boolean jj_3R_569() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1080() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_1094() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_1068() {
+  private boolean jj_3R_1082() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1080()) {
+    if (jj_3R_1094()) {
       jj_scanpos = xsp;
-      if (jj_3R_1081()) {
+      if (jj_3R_1095()) {
         jj_scanpos = xsp;
-        if (jj_3R_1082()) {
+        if (jj_3R_1096()) {
           jj_scanpos = xsp;
-          if (jj_3R_1083()) {
+          if (jj_3R_1097()) {
             jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
+            if (jj_scan_token(204)) return true;
           }
         }
       }
@@ -30402,41 +31112,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_185() {
-    if (jj_3R_398()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_399()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_577() {
+    if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_576() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1021() {
+  private boolean jj_3R_1035() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1068()) {
+      if (jj_3R_1082()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30445,180 +31142,139 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_77() {
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_674() {
-    if (jj_3R_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3_76() {
-    if (jj_3R_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3_75() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_567() {
+  private boolean jj_3R_403() {
+    if (jj_3R_575()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) {
+    if (jj_3R_576()) {
       jj_scanpos = xsp;
-      if (jj_3R_675()) return true;
+      if (jj_3R_577()) return true;
     }
+    if (jj_3R_575()) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_3R_161()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_574() {
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_527() {
-    if (jj_scan_token(284)) return true;
+  private boolean jj_3R_402() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_127() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_3R_167()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_535() {
+    if (jj_scan_token(290)) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
+  private boolean jj_3R_323() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_526()) {
+    if (jj_3R_534()) {
       jj_scanpos = xsp;
-      if (jj_3R_527()) return true;
+      if (jj_3R_535()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_scan_token(283)) return true;
+  private boolean jj_3R_534() {
+    if (jj_scan_token(289)) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
+  private boolean jj_3R_401() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_189() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_572()) {
+    if (jj_3R_401()) {
       jj_scanpos = xsp;
-      if (jj_3R_573()) {
+      if (jj_3R_402()) {
         jj_scanpos = xsp;
-        if (jj_3R_574()) return true;
+        if (jj_3R_403()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_121() {
+  private boolean jj_3R_407() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_406()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_126() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_315()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_956() {
-    if (jj_scan_token(STAR)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_822() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_323()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_3R_560()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_955() {
-    if (jj_scan_token(BANG)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_525() {
-    if (jj_scan_token(282)) return true;
+  private boolean jj_3R_533() {
+    if (jj_scan_token(288)) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
+  private boolean jj_3R_322() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_524()) {
+    if (jj_3R_532()) {
       jj_scanpos = xsp;
-      if (jj_3R_525()) return true;
+      if (jj_3R_533()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_scan_token(281)) return true;
+  private boolean jj_3R_532() {
+    if (jj_scan_token(287)) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
+  private boolean jj_3R_191() {
+    if (jj_3R_406()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
-    if (jj_3R_161()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_956()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_407()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_763() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_81() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_120() {
+  private boolean jj_3R_125() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_314()) {
+      if (jj_3R_322()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30626,129 +31282,165 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_668() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_819()) {
-      jj_scanpos = xsp;
-      if (jj_3R_820()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_821()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_822()) jj_scanpos = xsp;
+  private boolean jj_3R_683() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_174()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_118() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_scan_token(280)) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_668()) return true;
+  private boolean jj_3R_123() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(279)) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_521() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_575() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_682()) {
+      jj_scanpos = xsp;
+      if (jj_3R_683()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_scan_token(277)) return true;
+  private boolean jj_3R_531() {
+    if (jj_scan_token(286)) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_scan_token(276)) return true;
+  private boolean jj_3R_582() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_scan_token(275)) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_517()) {
-      jj_scanpos = xsp;
-      if (jj_3R_518()) {
-        jj_scanpos = xsp;
-        if (jj_3R_519()) {
-          jj_scanpos = xsp;
-          if (jj_3R_520()) {
-            jj_scanpos = xsp;
-            if (jj_3R_521()) {
-              jj_scanpos = xsp;
-              if (jj_3R_522()) {
-                jj_scanpos = xsp;
-                if (jj_3R_523()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3R_530() {
+    if (jj_scan_token(285)) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_scan_token(274)) return true;
+  private boolean jj_3R_529() {
+    if (jj_scan_token(284)) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_668()) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_528() {
+    if (jj_scan_token(283)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_527() {
+    if (jj_scan_token(282)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_406() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_669()) {
+    xsp = jj_scanpos;
+    if (jj_3R_580()) {
+      jj_scanpos = xsp;
+      if (jj_3R_581()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_582()) return true;
       }
     }
-    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
+  private boolean jj_3R_526() {
+    if (jj_scan_token(281)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_321() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_525()) {
+      jj_scanpos = xsp;
+      if (jj_3R_526()) {
+        jj_scanpos = xsp;
+        if (jj_3R_527()) {
+          jj_scanpos = xsp;
+          if (jj_3R_528()) {
+            jj_scanpos = xsp;
+            if (jj_3R_529()) {
+              jj_scanpos = xsp;
+              if (jj_3R_530()) {
+                jj_scanpos = xsp;
+                if (jj_3R_531()) return true;
+              }
+            }
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_525() {
+    if (jj_scan_token(280)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_970() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_834() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_561()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
+  private boolean jj_3R_833() {
+    if (jj_3R_568()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_969() {
+    if (jj_scan_token(BANG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_124() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(STATUS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_313()) {
+      if (jj_3R_321()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30756,56 +31448,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3R_832() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_969()) jj_scanpos = xsp;
+    if (jj_3R_167()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_970()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_775() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_749() {
+  private boolean jj_3R_831() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_761() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_676() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_375()) jj_scanpos = xsp;
-    if (jj_3R_161()) return true;
+    if (jj_3R_831()) {
+      jj_scanpos = xsp;
+      if (jj_3R_832()) return true;
+    }
     xsp = jj_scanpos;
-    if (jj_3R_376()) jj_scanpos = xsp;
+    if (jj_3R_833()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_377()) jj_scanpos = xsp;
+    if (jj_3R_834()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_774() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_109() {
+  private boolean jj_3R_899() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_114() {
     if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_scan_token(GRAPH)) return true;
+    if (jj_scan_token(SNAPSHOT)) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
+    if (jj_3R_761()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_754() {
+    if (jj_scan_token(WEIGHT)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_753() {
+    if (jj_scan_token(EDGE)) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_763()) {
+      if (jj_3R_899()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30813,121 +31532,221 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_893() {
-    if (jj_scan_token(NOLIMIT)) return true;
+  private boolean jj_3R_898() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_677() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_676()) return true;
     return false;
   }
 
-  private boolean jj_3R_1017() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_752() {
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_898()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_891() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_99() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(GRAPH)) return true;
+    if (jj_scan_token(SNAPSHOT)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_752()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_753()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_754()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_568() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_676()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_762()) {
+      if (jj_3R_677()) {
         jj_scanpos = xsp;
         break;
       }
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_760() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1016() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_385() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_569()) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_384() {
+    if (jj_3R_568()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_383() {
+    if (jj_scan_token(BANG)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_113() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_619()) {
-      jj_scanpos = xsp;
-      if (jj_3R_620()) return true;
-    }
+    if (jj_3R_760()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_671() {
-    if (jj_scan_token(SKIP2)) return true;
+  private boolean jj_3R_907() {
+    if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_673() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_180() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_383()) jj_scanpos = xsp;
+    if (jj_3R_167()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_384()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_385()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_889() {
-    if (jj_scan_token(CYCLE)) return true;
+  private boolean jj_3R_906() {
+    if (jj_scan_token(DESC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1031() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_905() {
+    if (jj_scan_token(ASC)) return true;
+    return false;
+  }
+
+  private boolean jj_3_77() {
+    if (jj_3R_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_904() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1030() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_628() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_180()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1016()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1017()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_775()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_627() {
+    if (jj_3R_180()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_774()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_672() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_903() {
+    if (jj_scan_token(CYCLE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1030()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1031()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_888() {
+  private boolean jj_3R_477() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_627()) {
+      jj_scanpos = xsp;
+      if (jj_3R_628()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_902() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_901() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_759() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_886()) {
+    if (jj_3R_900()) {
       jj_scanpos = xsp;
-      if (jj_3R_887()) {
+      if (jj_3R_901()) {
         jj_scanpos = xsp;
-        if (jj_3R_888()) {
+        if (jj_3R_902()) {
           jj_scanpos = xsp;
-          if (jj_3R_889()) {
+          if (jj_3R_903()) {
             jj_scanpos = xsp;
-            if (jj_3R_890()) {
+            if (jj_3R_904()) {
               jj_scanpos = xsp;
-              if (jj_3R_891()) {
+              if (jj_3R_905()) {
                 jj_scanpos = xsp;
-                if (jj_3R_892()) {
+                if (jj_3R_906()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_893()) return true;
+                  if (jj_3R_907()) return true;
                 }
               }
             }
@@ -30938,37 +31757,40 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_900() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_670()) {
-      jj_scanpos = xsp;
-      if (jj_3R_671()) {
-        jj_scanpos = xsp;
-        if (jj_3R_672()) {
-          jj_scanpos = xsp;
-          if (jj_3R_673()) return true;
-        }
-      }
-    }
+  private boolean jj_3R_679() {
+    if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_107() {
+  private boolean jj_3R_681() {
+    if (jj_scan_token(FROM)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_678() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_680() {
+    if (jj_scan_token(LIMIT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_111() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_748()) {
+      if (jj_3R_759()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30976,102 +31798,109 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_470() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_885() {
+  private boolean jj_3R_897() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1015() {
+  private boolean jj_3R_1029() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_896() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_895() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_571() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_678()) {
+      jj_scanpos = xsp;
+      if (jj_3R_679()) {
+        jj_scanpos = xsp;
+        if (jj_3R_680()) {
+          jj_scanpos = xsp;
+          if (jj_3R_681()) return true;
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_1014() {
+  private boolean jj_3R_1028() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_563()) return true;
+  private boolean jj_3R_478() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_562()) return true;
+  private boolean jj_3R_570() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
+  private boolean jj_3R_894() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1014()) {
+    if (jj_3R_1028()) {
       jj_scanpos = xsp;
-      if (jj_3R_1015()) return true;
+      if (jj_3R_1029()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_388() {
+    if (jj_3R_571()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_893() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_379()) {
-      jj_scanpos = xsp;
-      if (jj_3R_380()) return true;
-    }
+  private boolean jj_3R_387() {
+    if (jj_3R_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_751() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_879()) {
+    if (jj_3R_891()) {
       jj_scanpos = xsp;
-      if (jj_3R_880()) {
+      if (jj_3R_892()) {
         jj_scanpos = xsp;
-        if (jj_3R_881()) {
+        if (jj_3R_893()) {
           jj_scanpos = xsp;
-          if (jj_3R_882()) {
+          if (jj_3R_894()) {
             jj_scanpos = xsp;
-            if (jj_3R_883()) {
+            if (jj_3R_895()) {
               jj_scanpos = xsp;
-              if (jj_3R_884()) {
+              if (jj_3R_896()) {
                 jj_scanpos = xsp;
-                if (jj_3R_885()) return true;
+                if (jj_3R_897()) return true;
               }
             }
           }
@@ -31081,64 +31910,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_891() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_182() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_387()) {
+      jj_scanpos = xsp;
+      if (jj_3R_388()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_472()) return true;
+  private boolean jj_3R_270() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_269() {
+    if (jj_3R_480()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3R_268() {
+    if (jj_3R_479()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_750() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_470()) jj_scanpos = xsp;
+  private boolean jj_3R_267() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_266() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
+  private boolean jj_3R_265() {
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_478()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_98() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_742()) jj_scanpos = xsp;
+    if (jj_3R_750()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_743()) {
+      if (jj_3R_751()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31146,199 +31985,191 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_103() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_259()) jj_scanpos = xsp;
+    if (jj_3R_265()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_260()) jj_scanpos = xsp;
+    if (jj_3R_266()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_261()) jj_scanpos = xsp;
+    if (jj_3R_267()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_262()) jj_scanpos = xsp;
+    if (jj_3R_268()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_263()) jj_scanpos = xsp;
+    if (jj_3R_269()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_264()) jj_scanpos = xsp;
+    if (jj_3R_270()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_1089() {
+    if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
-    if (jj_3R_475()) return true;
+  private boolean jj_3R_758() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_335() {
+    if (jj_scan_token(CONSOLE)) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_757() {
+    if (jj_3R_483()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1080() {
+    if (jj_scan_token(FAIL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_756() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1075() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_755() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_334() {
+    if (jj_scan_token(SLEEP)) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_scan_token(CONSOLE)) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3_169() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_1066() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_930() {
+    if (jj_3R_1035()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
+  private boolean jj_3R_929() {
+    if (jj_3R_1034()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_928() {
+    if (jj_3R_336()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_325() {
     if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_474()) return true;
+    if (jj_3R_482()) return true;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_744()) {
+    if (jj_3R_755()) {
       jj_scanpos = xsp;
-      if (jj_3R_745()) return true;
+      if (jj_3R_756()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_746()) jj_scanpos = xsp;
+    if (jj_3R_757()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_747()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_73() {
-    if (jj_3R_168()) return true;
+    if (jj_3R_758()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_scan_token(SLEEP)) return true;
-    if (jj_3R_73()) return true;
+  private boolean jj_3_76() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3_75() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3_166() {
-    if (jj_3R_74()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_916() {
-    if (jj_3R_1021()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_915() {
-    if (jj_3R_1020()) return true;
+  private boolean jj_3R_773() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_927()) {
+      jj_scanpos = xsp;
+      if (jj_3R_928()) {
+        jj_scanpos = xsp;
+        if (jj_3R_929()) {
+          jj_scanpos = xsp;
+          if (jj_3R_930()) {
+            jj_scanpos = xsp;
+            if (jj_scan_token(204)) return true;
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_914() {
-    if (jj_3R_328()) return true;
+  private boolean jj_3R_927() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_476() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
+  private boolean jj_3R_263() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_469()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_761() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_913()) {
-      jj_scanpos = xsp;
-      if (jj_3R_914()) {
-        jj_scanpos = xsp;
-        if (jj_3R_915()) {
-          jj_scanpos = xsp;
-          if (jj_3R_916()) {
-            jj_scanpos = xsp;
-            if (jj_scan_token(198)) return true;
-          }
-        }
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_913() {
-    if (jj_3R_74()) return true;
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_262() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
+  private boolean jj_3R_100() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_168()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_255() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_468()) jj_scanpos = xsp;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
+  private boolean jj_3R_336() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_761()) {
+      if (jj_3R_773()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31347,125 +32178,161 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_542() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_666() {
-    if (jj_3R_240()) return true;
+  private boolean jj_3R_261() {
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_476()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_667() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_1088() {
+    if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1074() {
+  private boolean jj_3R_333() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_542()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_674() {
+    if (jj_3R_246()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1079() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_scan_token(RETURN)) return true;
+  private boolean jj_3R_675() {
+    if (jj_3R_182()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1078() {
+    if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_534()) jj_scanpos = xsp;
+    if (jj_3R_1088()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1089()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_98() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_1033() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_255()) {
+    if (jj_3R_1079()) {
       jj_scanpos = xsp;
-      if (jj_3R_256()) return true;
+      if (jj_3R_1080()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_257()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_258()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_99() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_332() {
+    if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_101() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_666()) {
+    if (jj_3R_261()) {
       jj_scanpos = xsp;
-      if (jj_3R_667()) return true;
+      if (jj_3R_262()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_263()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_264()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1065() {
-    if (jj_scan_token(CONTINUE)) return true;
+  private boolean jj_3R_102() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_1064() {
-    if (jj_scan_token(AND)) return true;
+  private boolean jj_3R_567() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1074()) {
+    if (jj_3R_674()) {
       jj_scanpos = xsp;
-      if (jj_3R_1075()) return true;
+      if (jj_3R_675()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1019() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1065()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1066()) return true;
-    }
+  private boolean jj_3R_1077() {
+    if (jj_3R_82()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_scan_token(ROLLBACK)) return true;
+  private boolean jj_3R_565() {
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_3R_240()) return true;
+  private boolean jj_3R_1032() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    if (jj_3R_1077()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1077()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACE)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_1078()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1063() {
-    if (jj_3R_80()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_926() {
+    if (jj_scan_token(ELSE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1032()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1033()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_371() {
+  private boolean jj_3R_379() {
     if (jj_scan_token(CONTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_557()) {
+    if (jj_3R_565()) {
       jj_scanpos = xsp;
-      if (jj_3R_558()) return true;
+      if (jj_3R_566()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_559()) {
+      if (jj_3R_567()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31473,66 +32340,62 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1018() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_541() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_75()) return true;
     Token xsp;
-    if (jj_3R_1063()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1063()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1064()) jj_scanpos = xsp;
+    if (jj_3R_926()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_556() {
+  private boolean jj_3R_564() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_912() {
-    if (jj_scan_token(ELSE)) return true;
+  private boolean jj_3R_331() {
+    if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1018()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1019()) return true;
-    }
+    if (jj_3R_541()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_533() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_73()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_912()) jj_scanpos = xsp;
+  private boolean jj_3_168() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_540() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_673() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_70() {
+  private boolean jj_3_167() {
+    if (jj_3R_247()) return true;
+    return false;
+  }
+
+  private boolean jj_3_73() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_556()) {
+      if (jj_3R_564()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31540,33 +32403,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_scan_token(COMMIT)) return true;
+  private boolean jj_3R_330() {
+    if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_533()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_165() {
-    if (jj_3R_161()) return true;
+    if (jj_3R_540()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_532() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_626() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
+  private boolean jj_3R_563() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_665()) {
+      if (jj_3R_673()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31575,61 +32432,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_164() {
-    if (jj_3R_241()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_554() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_322() {
-    if (jj_scan_token(BEGIN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_532()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_618() {
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_617() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3R_625() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3R_562() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_475() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_617()) {
+    if (jj_3R_625()) {
       jj_scanpos = xsp;
-      if (jj_3R_618()) return true;
+      if (jj_3R_626()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_69() {
+  private boolean jj_3R_178() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3_72() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_172()) {
+      if (jj_3R_178()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31637,10 +32476,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_554()) {
+      if (jj_3R_562()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31648,7 +32487,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_555()) {
+      if (jj_3R_563()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31656,213 +32495,213 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_70() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3R_80() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(ROLE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_174() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_69()) {
+    if (jj_3_72()) {
       jj_scanpos = xsp;
-      if (jj_3_70()) {
+      if (jj_3_73()) {
         jj_scanpos = xsp;
-        if (jj_3R_371()) return true;
+        if (jj_3R_379()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_827() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
-    if (jj_3R_372()) return true;
+  private boolean jj_3R_176() {
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_175() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_78() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3_69() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_881() {
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_772()) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_692() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_971() {
-    if (jj_3R_372()) return true;
+  private boolean jj_3R_985() {
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3_68() {
+  private boolean jj_3_71() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_169()) {
+    if (jj_3R_175()) {
       jj_scanpos = xsp;
-      if (jj_3R_170()) return true;
+      if (jj_3R_176()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_747() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_880()) {
+      jj_scanpos = xsp;
+      if (jj_3R_881()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_869() {
-    if (jj_scan_token(REMOVE)) return true;
+  private boolean jj_3R_880() {
+    if (jj_scan_token(SET)) return true;
     if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_760()) return true;
+    if (jj_3R_772()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_984() {
+    if (jj_3R_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_841() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_970()) {
+    if (jj_3R_984()) {
       jj_scanpos = xsp;
-      if (jj_3R_971()) return true;
+      if (jj_3R_985()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_168()) return true;
-    return false;
-  }
-
-  private boolean jj_3_64() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_68() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_95() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(ROLE)) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_868()) {
-      jj_scanpos = xsp;
-      if (jj_3R_869()) return true;
+    if (jj_3R_747()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_747()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_868() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_760()) return true;
+  private boolean jj_3_67() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_828() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_941() {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_927() {
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_840() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_691() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_828()) jj_scanpos = xsp;
+    if (jj_3R_840()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_829()) {
+    if (jj_3R_841()) {
       jj_scanpos = xsp;
-      if (jj_3_68()) return true;
+      if (jj_3_71()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_680() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_688() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_687() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) jj_scanpos = xsp;
+    if (jj_3R_839()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_690() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_469()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_681() {
-    if (jj_3R_168()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_93() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_171()) return true;
-    Token xsp;
-    if (jj_3R_739()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_739()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_689() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_1050() {
+  private boolean jj_3R_1064() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
+  private boolean jj_3R_94() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(USER)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_993() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_686() {
+    if (jj_3R_173()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1007() {
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1050()) {
+      if (jj_3R_1064()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31870,205 +32709,205 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_316() {
+  private boolean jj_3R_879() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1007()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_324() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_678()) {
+    if (jj_3R_686()) {
       jj_scanpos = xsp;
-      if (jj_3R_679()) {
+      if (jj_3R_687()) {
         jj_scanpos = xsp;
-        if (jj_3R_680()) return true;
+        if (jj_3R_688()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_681()) jj_scanpos = xsp;
+    if (jj_3R_689()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_682()) jj_scanpos = xsp;
+    if (jj_3R_690()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_683()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_684()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_775() {
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_867() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
+    if (jj_3R_691()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_993()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_866() {
-    if (jj_3R_171()) return true;
+    if (jj_3R_692()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_3R_161()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_927()) jj_scanpos = xsp;
+  private boolean jj_3R_878() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_787() {
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_167()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
+  private boolean jj_3R_746() {
     if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_866()) {
+    if (jj_3R_878()) {
       jj_scanpos = xsp;
-      if (jj_3R_867()) return true;
+      if (jj_3R_879()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_737() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_745() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_744() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_743() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_926()) jj_scanpos = xsp;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_940() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_795() {
+    if (jj_3R_167()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_941()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_922() {
-    if (jj_scan_token(PLUSASSIGN)) return true;
-    return false;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_743()) {
+      jj_scanpos = xsp;
+      if (jj_3R_744()) {
+        jj_scanpos = xsp;
+        if (jj_3R_745()) return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_746()) jj_scanpos = xsp;
+    return false;
   }
 
-  private boolean jj_3R_924() {
+  private boolean jj_3R_793() {
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_940()) jj_scanpos = xsp;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_939() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_938() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_921() {
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_936() {
+    if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_923() {
+  private boolean jj_3R_937() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_735()) {
-      jj_scanpos = xsp;
-      if (jj_3R_736()) {
-        jj_scanpos = xsp;
-        if (jj_3R_737()) return true;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_738()) jj_scanpos = xsp;
+  private boolean jj_3R_935() {
+    if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
+  private boolean jj_3R_496() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_920() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_934() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
+  private boolean jj_3R_81() {
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_796() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_783()) return true;
+    if (jj_3R_795()) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_785() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_920()) jj_scanpos = xsp;
+    if (jj_3R_934()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_921()) {
+    if (jj_3R_935()) {
       jj_scanpos = xsp;
-      if (jj_3R_922()) {
+      if (jj_3R_936()) {
         jj_scanpos = xsp;
-        if (jj_3R_923()) {
+        if (jj_3R_937()) {
           jj_scanpos = xsp;
-          if (jj_3R_924()) {
+          if (jj_3R_938()) {
             jj_scanpos = xsp;
-            if (jj_3R_925()) return true;
+            if (jj_3R_939()) return true;
           }
         }
       }
     }
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_79() {
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
+  private boolean jj_3R_794() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_781()) return true;
+    if (jj_3R_793()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_644() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_783()) return true;
+    if (jj_3R_795()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_784()) {
+      if (jj_3R_796()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32076,37 +32915,37 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_780() {
+  private boolean jj_3R_792() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
+  private boolean jj_3R_791() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_790() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_777() {
+  private boolean jj_3R_789() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_635() {
+  private boolean jj_3R_643() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_779()) {
+    if (jj_3R_791()) {
       jj_scanpos = xsp;
-      if (jj_3R_780()) return true;
+      if (jj_3R_792()) return true;
     }
-    if (jj_3R_781()) return true;
+    if (jj_3R_793()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_782()) {
+      if (jj_3R_794()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32114,41 +32953,48 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_788() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_775()) return true;
+    if (jj_3R_787()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
+  private boolean jj_3R_495() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
+  private boolean jj_3R_642() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_777()) {
+    if (jj_3R_789()) {
       jj_scanpos = xsp;
-      if (jj_3R_778()) return true;
+      if (jj_3R_790()) return true;
     }
-    if (jj_3R_240()) return true;
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_79() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_786() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_773()) return true;
+    if (jj_3R_785()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_641() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_775()) return true;
+    if (jj_3R_787()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_776()) {
+      if (jj_3R_788()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32156,20 +33002,29 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_77() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
+  private boolean jj_3R_742() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
+  private boolean jj_3R_877() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_876() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_640() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_773()) return true;
+    if (jj_3R_785()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_774()) {
+      if (jj_3R_786()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32177,29 +33032,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_734() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_741() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_876()) {
+      jj_scanpos = xsp;
+      if (jj_3R_877()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_865() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_875() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
+  private boolean jj_3R_483() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_632()) {
+    if (jj_3R_640()) {
       jj_scanpos = xsp;
-      if (jj_3R_633()) {
+      if (jj_3R_641()) {
         jj_scanpos = xsp;
-        if (jj_3R_634()) {
+        if (jj_3R_642()) {
           jj_scanpos = xsp;
-          if (jj_3R_635()) {
+          if (jj_3R_643()) {
             jj_scanpos = xsp;
-            if (jj_3R_636()) return true;
+            if (jj_3R_644()) return true;
           }
         }
       }
@@ -32207,448 +33068,395 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_864() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_493() {
+  private boolean jj_3R_501() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_733() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_864()) {
-      jj_scanpos = xsp;
-      if (jj_3R_865()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_279() {
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_285() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_485() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_492() {
+  private boolean jj_3R_500() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_284() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_499() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_740() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_875()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
+  private boolean jj_3R_498() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_497() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
+  private boolean jj_3R_283() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_490()) {
+    if (jj_3R_498()) {
       jj_scanpos = xsp;
-      if (jj_3R_491()) {
+      if (jj_3R_499()) {
         jj_scanpos = xsp;
-        if (jj_3R_492()) {
+        if (jj_3R_500()) {
           jj_scanpos = xsp;
-          if (jj_3R_493()) return true;
+          if (jj_3R_501()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_732() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_171()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_863()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_276() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_494() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_486()) {
+    if (jj_3R_494()) {
       jj_scanpos = xsp;
-      if (jj_3R_487()) {
+      if (jj_3R_495()) {
         jj_scanpos = xsp;
-        if (jj_3R_488()) return true;
+        if (jj_3R_496()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_489()) jj_scanpos = xsp;
+    if (jj_3R_497()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_274() {
+  private boolean jj_3R_92() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_3R_615()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_740()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_741()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_742()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_280() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_3R_475()) return true;
+  private boolean jj_3R_279() {
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_3R_607()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_732()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_733()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_734()) jj_scanpos = xsp;
+  private boolean jj_3R_539() {
+    if (jj_3R_654()) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
+  private boolean jj_3R_538() {
+    if (jj_scan_token(POLICY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_105() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_265()) return true;
+    if (jj_3R_271()) return true;
     Token xsp;
-    if (jj_3R_273()) return true;
+    if (jj_3R_279()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_273()) {
+      if (jj_3R_279()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_274()) jj_scanpos = xsp;
+    if (jj_3R_280()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_275()) jj_scanpos = xsp;
+    if (jj_3R_281()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_276()) jj_scanpos = xsp;
+    if (jj_3R_282()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_277()) jj_scanpos = xsp;
+    if (jj_3R_283()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) jj_scanpos = xsp;
+    if (jj_3R_284()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_279()) jj_scanpos = xsp;
+    if (jj_3R_285()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_272() {
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_278() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_277() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_486() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_491() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
-    if (jj_3R_646()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_482() {
+  private boolean jj_3R_490() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
-    if (jj_scan_token(POLICY)) return true;
+  private boolean jj_3R_329() {
+    if (jj_scan_token(REVOKE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_538()) {
+      jj_scanpos = xsp;
+      if (jj_3R_539()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_772()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_489() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
+  private boolean jj_3R_488() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
+  private boolean jj_3R_484() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
+  private boolean jj_3R_537() {
+    if (jj_3R_654()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_276() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_480()) {
+    if (jj_3R_488()) {
       jj_scanpos = xsp;
-      if (jj_3R_481()) {
+      if (jj_3R_489()) {
         jj_scanpos = xsp;
-        if (jj_3R_482()) {
+        if (jj_3R_490()) {
           jj_scanpos = xsp;
-          if (jj_3R_483()) return true;
+          if (jj_3R_491()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_269() {
+  private boolean jj_3R_275() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
+  private boolean jj_3R_274() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_476()) {
+    if (jj_3R_484()) {
       jj_scanpos = xsp;
-      if (jj_3R_477()) return true;
+      if (jj_3R_485()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_478()) jj_scanpos = xsp;
+    if (jj_3R_486()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_321() {
-    if (jj_scan_token(REVOKE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_530()) {
-      jj_scanpos = xsp;
-      if (jj_3R_531()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_760()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_536() {
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_3R_646()) return true;
+  private boolean jj_3R_273() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_267() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
-    if (jj_3R_475()) return true;
+  private boolean jj_3R_328() {
+    if (jj_scan_token(GRANT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_536()) {
+      jj_scanpos = xsp;
+      if (jj_3R_537()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_772()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_805() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
+  private boolean jj_3R_804() {
+    if (jj_scan_token(ALL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_104() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_265()) return true;
+    if (jj_3R_271()) return true;
     Token xsp;
-    if (jj_3R_266()) return true;
+    if (jj_3R_272()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_266()) {
+      if (jj_3R_272()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_267()) jj_scanpos = xsp;
+    if (jj_3R_273()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_268()) jj_scanpos = xsp;
+    if (jj_3R_274()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_269()) jj_scanpos = xsp;
+    if (jj_3R_275()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_270()) jj_scanpos = xsp;
+    if (jj_3R_276()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_271()) jj_scanpos = xsp;
+    if (jj_3R_277()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_272()) jj_scanpos = xsp;
+    if (jj_3R_278()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_376() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_803() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
-    if (jj_scan_token(GRANT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_528()) {
-      jj_scanpos = xsp;
-      if (jj_3R_529()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_760()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_375() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
+  private boolean jj_3R_374() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_365() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_793() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_792() {
-    if (jj_scan_token(ALL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_791() {
-    if (jj_scan_token(EXECUTE)) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_802() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_365()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_366()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_367()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_368()) jj_scanpos = xsp;
+  private boolean jj_3R_373() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
+  private boolean jj_3R_800() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_3R_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_360() {
-    if (jj_3R_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_359() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_646() {
+  private boolean jj_3R_654() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_787()) {
+    if (jj_3R_799()) {
       jj_scanpos = xsp;
-      if (jj_3R_788()) {
+      if (jj_3R_800()) {
         jj_scanpos = xsp;
-        if (jj_3R_789()) {
+        if (jj_3R_801()) {
           jj_scanpos = xsp;
-          if (jj_3R_790()) {
+          if (jj_3R_802()) {
             jj_scanpos = xsp;
-            if (jj_3R_791()) {
+            if (jj_3R_803()) {
               jj_scanpos = xsp;
-              if (jj_3R_792()) {
+              if (jj_3R_804()) {
                 jj_scanpos = xsp;
-                if (jj_3R_793()) return true;
+                if (jj_3R_805()) return true;
               }
             }
           }
@@ -32658,157 +33466,183 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_158() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_80()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_164() {
+  private boolean jj_3R_172() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_161()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
+    if (jj_3R_373()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) jj_scanpos = xsp;
+    if (jj_3R_374()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_361()) jj_scanpos = xsp;
+    if (jj_3R_375()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_376()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_364() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_369() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_368() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_367() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_466() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_80()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_730() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_731() {
-    if (jj_scan_token(INVERSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_729() {
-    if (jj_3R_171()) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3R_164() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_474() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_170() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_171()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_362()) jj_scanpos = xsp;
+    if (jj_3R_367()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_363()) jj_scanpos = xsp;
+    if (jj_3R_368()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_364()) jj_scanpos = xsp;
+    if (jj_3R_369()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3R_738() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_357() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_739() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_737() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3R_372() {
+    if (jj_3R_481()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_371() {
+    if (jj_3R_492()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_370() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_487()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_736() {
+    if (jj_3R_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_735() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_171() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_370()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_371()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_372()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_89() {
+  private boolean jj_3R_91() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_727()) {
+    if (jj_3R_735()) {
       jj_scanpos = xsp;
-      if (jj_3R_728()) return true;
+      if (jj_3R_736()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_729()) {
+    if (jj_3R_737()) {
       jj_scanpos = xsp;
-      if (jj_3R_730()) return true;
+      if (jj_3R_738()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_731()) jj_scanpos = xsp;
+    if (jj_3R_739()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_759() {
-    if (jj_3R_894()) return true;
+  private boolean jj_3R_771() {
+    if (jj_3R_908()) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
+  private boolean jj_3R_365() {
+    if (jj_3R_492()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_364() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_487()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_363() {
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_327() {
     if (jj_scan_token(OPTIMIZE)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_759()) {
+      if (jj_3R_771()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32816,48 +33650,67 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_662() {
+  private boolean jj_3R_362() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_908() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_670() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_175()) return true;
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_770() {
+    if (jj_3R_177()) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_169() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_354()) jj_scanpos = xsp;
+    if (jj_3R_362()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
+    if (jj_3R_363()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
+    if (jj_3R_364()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
+    if (jj_3R_365()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
+    if (jj_3R_366()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_894() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_361() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_3R_473()) return true;
+  private boolean jj_3_166() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_557() {
+    if (jj_3R_181()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_662()) {
+      if (jj_3R_670()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32865,188 +33718,174 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_171()) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_352() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_549()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3_163() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_351() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_117() {
+  private boolean jj_3R_122() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_163()) {
+    if (jj_3_166()) {
       jj_scanpos = xsp;
-      if (jj_3R_758()) return true;
+      if (jj_3R_770()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_756() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_768() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_767() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_757() {
+  private boolean jj_3R_769() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_360() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_557()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_359() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
+  private boolean jj_3R_121() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_755()) {
+    if (jj_3R_767()) {
       jj_scanpos = xsp;
-      if (jj_3R_756()) return true;
+      if (jj_3R_768()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_757()) jj_scanpos = xsp;
+    if (jj_3R_769()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_61() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_320() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3_65() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3_64() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_168() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_351()) {
+    if (jj_3R_359()) {
       jj_scanpos = xsp;
-      if (jj_3R_352()) return true;
+      if (jj_3R_360()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_353()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_60() {
-    if (jj_3R_163()) return true;
+    if (jj_3R_361()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_120() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_320()) jj_scanpos = xsp;
+    if (jj_3R_177()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_259() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3_62() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_258() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_312()) jj_scanpos = xsp;
-    if (jj_3R_171()) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_734() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_733() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_260() {
+    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_257() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_256() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_255() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_83() {
+  private boolean jj_3R_85() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_249()) {
+    if (jj_3R_255()) {
       jj_scanpos = xsp;
-      if (jj_3R_250()) {
+      if (jj_3R_256()) {
         jj_scanpos = xsp;
-        if (jj_3R_251()) {
+        if (jj_3R_257()) {
           jj_scanpos = xsp;
-          if (jj_3R_252()) {
+          if (jj_3R_258()) {
             jj_scanpos = xsp;
-            if (jj_3R_253()) return true;
+            if (jj_3R_259()) return true;
           }
         }
       }
@@ -33054,510 +33893,530 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_709() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_scan_token(BEFORE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_712() {
-    if (jj_3R_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_708() {
-    if (jj_scan_token(FROM)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_711() {
-    if (jj_3R_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_88() {
+  private boolean jj_3R_90() {
     if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(259)) {
+    if (jj_scan_token(265)) {
       jj_scanpos = xsp;
-      if (jj_3R_254()) return true;
+      if (jj_3R_260()) return true;
     }
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_725()) jj_scanpos = xsp;
+    if (jj_3R_733()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_726()) jj_scanpos = xsp;
+    if (jj_3R_734()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_753() {
+  private boolean jj_3R_718() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_487()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_717() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEFORE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_765() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_754() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_720() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
-    if (jj_3R_550()) return true;
+  private boolean jj_3R_716() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_719() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
+  private boolean jj_3R_764() {
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_708()) jj_scanpos = xsp;
-    if (jj_3R_265()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_709()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_711()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_712()) jj_scanpos = xsp;
+  private boolean jj_3R_715() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_714() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
+  private boolean jj_3R_119() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_752()) {
+    if (jj_3R_764()) {
       jj_scanpos = xsp;
-      if (jj_3R_753()) return true;
+      if (jj_3R_765()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_754()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_751() {
-    if (jj_scan_token(STAR)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_969() {
-    if (jj_3R_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_750() {
-    if (jj_3R_550()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_968() {
-    if (jj_3R_654()) return true;
+    if (jj_3R_766()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_967() {
-    if (jj_3R_538()) return true;
+  private boolean jj_3R_713() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
-    if (jj_3R_537()) return true;
+  private boolean jj_3R_763() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
+  private boolean jj_3R_84() {
     if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_265()) return true;
+    if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_704()) jj_scanpos = xsp;
+    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_271()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_717()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
+    if (jj_3R_718()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
+    if (jj_3R_719()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) jj_scanpos = xsp;
+    if (jj_3R_720()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_965() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_712() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1049() {
+  private boolean jj_3R_762() {
+    if (jj_3R_558()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1063() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_240()) return true;
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_1048() {
+  private boolean jj_3R_1062() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1041() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_983() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_1040() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3R_982() {
+    if (jj_3R_662()) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_326() {
     if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_750()) {
+    if (jj_3R_762()) {
       jj_scanpos = xsp;
-      if (jj_3R_751()) return true;
+      if (jj_3R_763()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_981() {
+    if (jj_3R_546()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_980() {
+    if (jj_3R_545()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_83() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_271()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1040()) jj_scanpos = xsp;
+    if (jj_3R_712()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_713()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1041()) jj_scanpos = xsp;
+    if (jj_3R_714()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_715()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_992() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_979() {
+    if (jj_3R_544()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1006() {
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1048()) {
+      if (jj_3R_1062()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1049()) jj_scanpos = xsp;
+    if (jj_3R_1063()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_58() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_1055() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1039() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3R_1054() {
+    if (jj_3R_568()) return true;
     return false;
   }
 
-  private boolean jj_3_161() {
+  private boolean jj_3_164() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_240()) return true;
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
+  private boolean jj_3R_874() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_161()) {
+    if (jj_3_164()) {
       jj_scanpos = xsp;
-      if (jj_3R_992()) return true;
+      if (jj_3R_1006()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_1061() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_240()) return true;
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_1046() {
+  private boolean jj_3R_1060() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_978() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_167()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1054()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1055()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1038() {
-    if (jj_3R_560()) return true;
+  private boolean jj_3_61() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_3R_161()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1039()) jj_scanpos = xsp;
+  private boolean jj_3R_1053() {
+    if (jj_3R_568()) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
+  private boolean jj_3R_732() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_862()) jj_scanpos = xsp;
+    if (jj_3R_874()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_991() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1005() {
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1046()) {
+      if (jj_3R_1060()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1047()) jj_scanpos = xsp;
+    if (jj_3R_1061()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_161()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1038()) jj_scanpos = xsp;
+  private boolean jj_3R_977() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1037() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_3R_688()) return true;
+  private boolean jj_3R_1052() {
+    if (jj_3R_568()) return true;
     return false;
   }
 
-  private boolean jj_3_160() {
+  private boolean jj_3_163() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_240()) return true;
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_873() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_160()) {
+    if (jj_3_163()) {
       jj_scanpos = xsp;
-      if (jj_3R_991()) return true;
+      if (jj_3R_1005()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1036() {
-    if (jj_3R_688()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_961() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_976() {
+    if (jj_3R_167()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1036()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1037()) return true;
-    }
+    if (jj_3R_1053()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_162() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3_60() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_167()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_861()) jj_scanpos = xsp;
+    if (jj_3R_1052()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_860() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1051() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3_158() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1050() {
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3R_1045() {
-    if (jj_scan_token(VALUE)) return true;
+  private boolean jj_3_165() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_873()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_990() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_872() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_688()) return true;
+  private boolean jj_3R_975() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1050()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1051()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_161() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1059() {
+    if (jj_scan_token(VALUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1004() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1058() {
+    if (jj_scan_token(KEY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_731() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_161()) {
+      jj_scanpos = xsp;
+      if (jj_3R_872()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_1003() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1058()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1059()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_601() {
+    if (jj_scan_token(MATCH)) return true;
+    if (jj_3R_696()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_961()) {
+      if (jj_3R_975()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_57()) {
+    if (jj_3_60()) {
       jj_scanpos = xsp;
-      if (jj_3R_962()) return true;
+      if (jj_3R_976()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_963()) jj_scanpos = xsp;
+    if (jj_3R_977()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_964()) {
+      if (jj_3R_978()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_965()) jj_scanpos = xsp;
+    if (jj_3R_979()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_966()) jj_scanpos = xsp;
+    if (jj_3R_980()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_967()) jj_scanpos = xsp;
+    if (jj_3R_981()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_968()) jj_scanpos = xsp;
+    if (jj_3R_982()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_969()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_1044() {
-    if (jj_scan_token(KEY)) return true;
+    if (jj_3R_983()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_723() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_158()) {
-      jj_scanpos = xsp;
-      if (jj_3R_860()) return true;
-    }
+  private boolean jj_3R_1048() {
+    if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1034() {
-    if (jj_scan_token(BREADTH_FIRST)) return true;
+  private boolean jj_3R_1047() {
+    if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1033() {
-    if (jj_scan_token(DEPTH_FIRST)) return true;
+  private boolean jj_3R_1002() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_989() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1044()) {
-      jj_scanpos = xsp;
-      if (jj_3R_1045()) return true;
-    }
+  private boolean jj_3R_1001() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
+  private boolean jj_3R_974() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1033()) {
+    if (jj_3R_1047()) {
       jj_scanpos = xsp;
-      if (jj_3R_1034()) return true;
+      if (jj_3R_1048()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_959() {
-    if (jj_3R_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_988() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3R_973() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_958() {
+  private boolean jj_3R_972() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_479()) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_1032() {
+  private boolean jj_3R_1046() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_830()) return true;
+    if (jj_3R_842()) return true;
     return false;
   }
 
-  private boolean jj_3R_957() {
+  private boolean jj_3R_971() {
     if (jj_scan_token(MAXDEPTH)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
-    if (jj_3R_830()) return true;
+  private boolean jj_3R_871() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1001()) {
+      jj_scanpos = xsp;
+      if (jj_3R_1002()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1003()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1004()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_695() {
+    if (jj_3R_842()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1032()) {
+      if (jj_3R_1046()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33565,552 +34424,508 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_656() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_664() {
+    if (jj_3R_662()) return true;
     return false;
   }
 
-  private boolean jj_3R_987() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1000() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_870() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_999() {
+    if (jj_scan_token(KEY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_663() {
+    if (jj_3R_492()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_869() {
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_987()) {
+    if (jj_3R_999()) {
       jj_scanpos = xsp;
-      if (jj_3R_988()) return true;
+      if (jj_3R_1000()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_989()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_990()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_592() {
+  private boolean jj_3R_600() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_687()) jj_scanpos = xsp;
+    if (jj_3R_695()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_265()) return true;
+    if (jj_3R_271()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_957()) jj_scanpos = xsp;
+    if (jj_3R_971()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) jj_scanpos = xsp;
+    if (jj_3R_972()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_959()) jj_scanpos = xsp;
+    if (jj_3R_973()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_960()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_986() {
-    if (jj_scan_token(VALUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_858() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_985() {
-    if (jj_scan_token(KEY)) return true;
+    if (jj_3R_974()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_545() {
+  private boolean jj_3R_553() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_340() {
+  private boolean jj_3R_348() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
+  private boolean jj_3R_347() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
+  private boolean jj_3R_245() {
+    if (jj_3R_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_551() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
+  private boolean jj_3R_550() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_857() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_985()) {
-      jj_scanpos = xsp;
-      if (jj_3R_986()) return true;
-    }
+  private boolean jj_3R_244() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1043() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_1057() {
+    if (jj_3R_662()) return true;
     return false;
   }
 
-  private boolean jj_3R_540() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_492()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_656()) jj_scanpos = xsp;
+    if (jj_3R_664()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_338() {
+  private boolean jj_3R_346() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_542()) {
+    if (jj_3R_550()) {
       jj_scanpos = xsp;
-      if (jj_3R_543()) {
+      if (jj_3R_551()) {
         jj_scanpos = xsp;
-        if (jj_3R_544()) {
+        if (jj_3R_552()) {
           jj_scanpos = xsp;
-          if (jj_3R_545()) return true;
+          if (jj_3R_553()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_345() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
+  private boolean jj_3R_343() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_539()) {
+    if (jj_3R_547()) {
       jj_scanpos = xsp;
-      if (jj_3R_540()) return true;
+      if (jj_3R_548()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_662()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_655()) jj_scanpos = xsp;
+    if (jj_3R_663()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_3R_541()) return true;
+  private boolean jj_3R_344() {
+    if (jj_3R_549()) return true;
     return false;
   }
 
-  private boolean jj_3R_1042() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_243() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1056() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_3R_538()) return true;
+  private boolean jj_3R_342() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_3R_537()) return true;
+  private boolean jj_3_162() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_243()) jj_scanpos = xsp;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_244()) {
+      jj_scanpos = xsp;
+      if (jj_3R_245()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_869()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_870()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_871()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_545()) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_340() {
+    if (jj_3R_544()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3R_339() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_479()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_330() {
-    if (jj_3R_535()) return true;
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_338() {
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
+  private boolean jj_3R_89() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    if (jj_3R_558()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_237()) jj_scanpos = xsp;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_238()) {
+    if (jj_3_162()) {
       jj_scanpos = xsp;
-      if (jj_3R_239()) return true;
+      if (jj_3R_731()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_857()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_858()) jj_scanpos = xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_859()) {
-        jj_scanpos = xsp;
-        break;
-      }
+    if (jj_3_165()) {
+      jj_scanpos = xsp;
+      if (jj_3R_732()) return true;
     }
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_337() {
+    if (jj_3R_477()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_319() {
+    if (jj_scan_token(FORCE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_987() {
+    if (jj_3R_492()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1043()) jj_scanpos = xsp;
+    if (jj_3R_1057()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_165() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_329()) jj_scanpos = xsp;
+    if (jj_3R_337()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_265()) return true;
+    if (jj_3R_271()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_330()) jj_scanpos = xsp;
+    if (jj_3R_338()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_331()) jj_scanpos = xsp;
+    if (jj_3R_339()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_332()) jj_scanpos = xsp;
+    if (jj_3R_340()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_333()) jj_scanpos = xsp;
+    if (jj_3R_341()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_334()) jj_scanpos = xsp;
+    if (jj_3R_342()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) jj_scanpos = xsp;
+    if (jj_3R_343()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
+    if (jj_3R_344()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_337()) jj_scanpos = xsp;
+    if (jj_3R_345()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_338()) jj_scanpos = xsp;
+    if (jj_3R_346()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_339()) jj_scanpos = xsp;
+    if (jj_3R_347()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_340()) jj_scanpos = xsp;
+    if (jj_3R_348()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_550()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_159()) {
-      jj_scanpos = xsp;
-      if (jj_3R_723()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3_162()) {
-      jj_scanpos = xsp;
-      if (jj_3R_724()) return true;
-    }
+  private boolean jj_3R_318() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_972() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_986() {
+    if (jj_3R_662()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1042()) jj_scanpos = xsp;
+    if (jj_3R_1056()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_845() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_972()) {
+    if (jj_3R_986()) {
       jj_scanpos = xsp;
-      if (jj_3R_973()) return true;
+      if (jj_3R_987()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_977() {
+  private boolean jj_3R_991() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
+  private boolean jj_3R_990() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_849() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_975() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_974() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_317() {
+    if (jj_3R_177()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
-    if (jj_scan_token(FORCE)) return true;
+  private boolean jj_3R_118() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_318()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_319()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_989() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_3R_171()) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_988() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_310()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_311()) jj_scanpos = xsp;
+  private boolean jj_3_160() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_848() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_974()) {
+    if (jj_3R_988()) {
       jj_scanpos = xsp;
-      if (jj_3R_975()) {
+      if (jj_3R_989()) {
         jj_scanpos = xsp;
-        if (jj_3R_976()) {
+        if (jj_3R_990()) {
           jj_scanpos = xsp;
-          if (jj_3R_977()) return true;
+          if (jj_3R_991()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_835() {
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_847() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
-    if (jj_3R_541()) return true;
+  private boolean jj_3R_846() {
+    if (jj_3R_549()) return true;
     return false;
   }
 
-  private boolean jj_3_157() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_844() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
-    if (jj_3R_538()) return true;
+  private boolean jj_3R_843() {
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3R_831() {
-    if (jj_3R_535()) return true;
+  private boolean jj_3_59() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3_56() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_117() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_177()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_160()) {
+      jj_scanpos = xsp;
+      if (jj_3R_317()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_372() {
+  private boolean jj_3R_380() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_469()) return true;
+    if (jj_3R_477()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_831()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
+    if (jj_3R_843()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_833()) jj_scanpos = xsp;
+    if (jj_3R_844()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) jj_scanpos = xsp;
+    if (jj_3R_845()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_835()) jj_scanpos = xsp;
+    if (jj_3R_846()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_836()) jj_scanpos = xsp;
+    if (jj_3R_847()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_837()) jj_scanpos = xsp;
+    if (jj_3R_848()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_838()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_55() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_419() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_112() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_171()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
-    Token xsp;
+    if (jj_3R_849()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_157()) {
-      jj_scanpos = xsp;
-      if (jj_3R_309()) return true;
-    }
+    if (jj_3R_850()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_3R_593()) return true;
+  private boolean jj_3R_998() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_592()) return true;
+  private boolean jj_3_58() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_372()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_984() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_601()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_600()) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_415()) {
-      jj_scanpos = xsp;
-      if (jj_3R_416()) {
-        jj_scanpos = xsp;
-        if (jj_3R_417()) {
-          jj_scanpos = xsp;
-          if (jj_3R_418()) {
-            jj_scanpos = xsp;
-            if (jj_3R_419()) return true;
-          }
-        }
-      }
-    }
+  private boolean jj_3R_730() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_868() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_867()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_855()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_728() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_855()) return true;
+    if (jj_3R_867()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_856()) {
+      if (jj_3R_868()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34119,664 +34934,673 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_984()) jj_scanpos = xsp;
+  private boolean jj_3R_423() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_156() {
-    if (jj_3R_236()) return true;
+  private boolean jj_3R_867() {
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_998()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_52() {
-    if (jj_3R_122()) return true;
+  private boolean jj_3_159() {
+    if (jj_3R_242()) return true;
     return false;
   }
 
-  private boolean jj_3_54() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_211() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_423()) {
+      jj_scanpos = xsp;
+      if (jj_3R_424()) {
+        jj_scanpos = xsp;
+        if (jj_3R_425()) {
+          jj_scanpos = xsp;
+          if (jj_3R_426()) {
+            jj_scanpos = xsp;
+            if (jj_3R_427()) return true;
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_465() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_127()) return true;
     return false;
   }
 
-  private boolean jj_3_51() {
-    if (jj_3R_121()) return true;
+  private boolean jj_3_57() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3_50() {
-    if (jj_3R_120()) return true;
+  private boolean jj_3R_473() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3_54() {
+    if (jj_3R_126()) return true;
     return false;
   }
 
-  private boolean jj_3_49() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3_53() {
+    if (jj_3R_125()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_254() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3_52() {
+    if (jj_3R_124()) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_118()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_246() {
-    if (jj_3R_466()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_156() {
-    if (jj_3R_121()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_155() {
-    if (jj_3R_120()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_154() {
-    if (jj_3R_119()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_86() {
+  private boolean jj_3R_88() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_156()) jj_scanpos = xsp;
-    if (jj_3R_171()) return true;
+    if (jj_3_159()) jj_scanpos = xsp;
+    if (jj_3R_177()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_720()) jj_scanpos = xsp;
+    if (jj_3R_728()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_721()) jj_scanpos = xsp;
+    if (jj_3R_729()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_722()) jj_scanpos = xsp;
+    if (jj_3R_730()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_153() {
-    if (jj_3R_118()) return true;
+  private boolean jj_3R_163() {
+    if (jj_3R_127()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
-    if (jj_3R_328()) return true;
+  private boolean jj_3R_253() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_3R_327()) return true;
+  private boolean jj_3_51() {
+    if (jj_3R_123()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_326()) return true;
+  private boolean jj_3R_252() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_3R_325()) return true;
+  private boolean jj_3R_162() {
+    if (jj_3R_126()) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
+  private boolean jj_3R_161() {
+    if (jj_3R_125()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_160() {
+    if (jj_3R_124()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_242() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
+  private boolean jj_3R_316() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_159() {
+    if (jj_3R_123()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_323()) return true;
+  private boolean jj_3R_158() {
+    if (jj_3R_336()) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
+  private boolean jj_3R_116() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_308()) jj_scanpos = xsp;
+    if (jj_3R_316()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_157() {
+    if (jj_3R_335()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_156() {
+    if (jj_3R_334()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_155() {
+    if (jj_3R_333()) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
+  private boolean jj_3R_315() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_115()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_306() {
+  private boolean jj_3R_314() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_332()) return true;
     return false;
   }
 
-  private boolean jj_3R_305() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_313() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3R_153() {
+    if (jj_3R_331()) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_312() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_46() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3R_152() {
+    if (jj_3R_330()) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_329()) return true;
     return false;
   }
 
-  private boolean jj_3_43() {
-    if (jj_3R_113()) return true;
+  private boolean jj_3R_522() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
+  private boolean jj_3R_115() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_304()) {
+    if (jj_3R_312()) {
       jj_scanpos = xsp;
-      if (jj_3R_305()) return true;
+      if (jj_3R_313()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_306()) jj_scanpos = xsp;
+    if (jj_3R_314()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_307()) jj_scanpos = xsp;
+    if (jj_3R_315()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_3R_115()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_328()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
-    if (jj_3R_112()) return true;
+  private boolean jj_3_48() {
+    if (jj_3R_120()) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_327()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3R_524() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_111()) return true;
+  private boolean jj_3_50() {
+    if (jj_3R_122()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
+  private boolean jj_3R_311() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_523() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_318()) return true;
+  private boolean jj_3R_521() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_121()) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3_46() {
+    if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_113()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_120()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_112()) return true;
+  private boolean jj_3_45() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3_47() {
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_520() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_3R_111()) return true;
+  private boolean jj_3_44() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
+  private boolean jj_3R_147() {
+    if (jj_3R_326()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_310() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_515()) {
+    if (jj_3R_523()) {
       jj_scanpos = xsp;
-      if (jj_3R_516()) return true;
+      if (jj_3R_524()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_scan_token(273)) return true;
+  private boolean jj_3R_519() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
+  private boolean jj_3R_309() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_514()) {
+    if (jj_3R_522()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_3R_110()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_510() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3_36() {
-    if (jj_3R_106()) return true;
+  private boolean jj_3_43() {
+    if (jj_3R_115()) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_518() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_308() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_513()) {
+    if (jj_3R_521()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_509() {
+  private boolean jj_3R_517() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_106()) return true;
+  private boolean jj_3_42() {
+    if (jj_3R_114()) return true;
     return false;
   }
 
-  private boolean jj_3R_508() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_113()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_307() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_510()) {
+    if (jj_3R_518()) {
       jj_scanpos = xsp;
-      if (jj_3R_511()) {
+      if (jj_3R_519()) {
         jj_scanpos = xsp;
-        if (jj_3R_512()) return true;
+        if (jj_3R_520()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_103()) return true;
-    return false;
-  }
-
-  private boolean jj_3_30() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_3R_317()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_515() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_306() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_508()) {
+    if (jj_3R_516()) {
       jj_scanpos = xsp;
-      if (jj_3R_509()) return true;
+      if (jj_3R_517()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_138() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3_32() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_513() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3_31() {
+    if (jj_3R_103()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_512() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_136() {
+    if (jj_3R_325()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_305() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3_30() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
+  private boolean jj_3R_134() {
+    if (jj_3R_104()) return true;
+    return false;
+  }
+
+  private boolean jj_3_28() {
+    if (jj_3R_100()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_511() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_133() {
+    if (jj_3R_103()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_304() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_506()) {
+    if (jj_3R_514()) {
       jj_scanpos = xsp;
-      if (jj_3R_507()) return true;
+      if (jj_3R_515()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_651() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_295() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_512()) {
       jj_scanpos = xsp;
-      if (jj_3R_505()) return true;
+      if (jj_3R_513()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
+  private boolean jj_3R_508() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
+  private boolean jj_3R_302() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) {
+    if (jj_3R_510()) {
       jj_scanpos = xsp;
-      if (jj_3R_503()) return true;
+      if (jj_3R_511()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_87()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_499() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_507() {
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_643()) {
+      if (jj_3R_651()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34784,121 +35608,180 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_501()) return true;
+  private boolean jj_3_22() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3R_301() {
+    if (jj_scan_token(OVERSIZE)) return true;
+    if (jj_3R_509()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3_21() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3_20() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_506() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_505() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_650() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
+  private boolean jj_3R_504() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_641()) {
+    if (jj_3R_649()) {
       jj_scanpos = xsp;
-      if (jj_3R_642()) return true;
+      if (jj_3R_650()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_641() {
+  private boolean jj_3R_649() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_499()) {
+    if (jj_3R_507()) {
       jj_scanpos = xsp;
-      if (jj_3R_500()) return true;
+      if (jj_3R_508()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3_53() {
+  private boolean jj_3_14() {
+    if (jj_3R_86()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_129() {
+    if (jj_3R_324()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_503() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3_13() {
+    if (jj_3R_85()) return true;
+    return false;
+  }
+
+  private boolean jj_3_12() {
+    if (jj_3R_84()) return true;
+    return false;
+  }
+
+  private boolean jj_3_11() {
+    if (jj_3R_83()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_299() {
+    if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_123()) {
+    if (jj_3R_504()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_505()) {
       jj_scanpos = xsp;
-      if (jj_3_11()) {
-        jj_scanpos = xsp;
-        if (jj_3_12()) {
-          jj_scanpos = xsp;
-          if (jj_3_13()) {
-            jj_scanpos = xsp;
-            if (jj_3R_124()) {
-              jj_scanpos = xsp;
-              if (jj_3_14()) {
-                jj_scanpos = xsp;
-                if (jj_3_15()) {
-                  jj_scanpos = xsp;
-                  if (jj_3_16()) {
-                    jj_scanpos = xsp;
-                    if (jj_3_17()) {
-                      jj_scanpos = xsp;
-                      if (jj_3_18()) {
-                        jj_scanpos = xsp;
+      if (jj_3R_506()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_128() {
+    if (jj_3R_211()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_298() {
+    if (jj_scan_token(SHORTNAME)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_503()) {
+      jj_scanpos = xsp;
+      if (jj_scan_token(37)) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_56() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_128()) {
+      jj_scanpos = xsp;
+      if (jj_3_11()) {
+        jj_scanpos = xsp;
+        if (jj_3_12()) {
+          jj_scanpos = xsp;
+          if (jj_3_13()) {
+            jj_scanpos = xsp;
+            if (jj_3R_129()) {
+              jj_scanpos = xsp;
+              if (jj_3_14()) {
+                jj_scanpos = xsp;
+                if (jj_3_15()) {
+                  jj_scanpos = xsp;
+                  if (jj_3_16()) {
+                    jj_scanpos = xsp;
+                    if (jj_3_17()) {
+                      jj_scanpos = xsp;
+                      if (jj_3_18()) {
+                        jj_scanpos = xsp;
                         if (jj_3_19()) {
                           jj_scanpos = xsp;
                           if (jj_3_20()) {
@@ -34915,98 +35798,110 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                       jj_scanpos = xsp;
                                       if (jj_3_26()) {
                                         jj_scanpos = xsp;
-                                        if (jj_3R_125()) {
+                                        if (jj_3_27()) {
                                           jj_scanpos = xsp;
-                                          if (jj_3R_126()) {
+                                          if (jj_3R_130()) {
                                             jj_scanpos = xsp;
-                                            if (jj_3R_127()) {
+                                            if (jj_3R_131()) {
                                               jj_scanpos = xsp;
-                                              if (jj_3R_128()) {
+                                              if (jj_3R_132()) {
                                                 jj_scanpos = xsp;
-                                                if (jj_3R_129()) {
+                                                if (jj_3R_133()) {
                                                   jj_scanpos = xsp;
-                                                  if (jj_3R_130()) {
+                                                  if (jj_3R_134()) {
                                                     jj_scanpos = xsp;
-                                                    if (jj_3R_131()) {
+                                                    if (jj_3R_135()) {
                                                       jj_scanpos = xsp;
-                                                      if (jj_3R_132()) {
+                                                      if (jj_3R_136()) {
                                                         jj_scanpos = xsp;
-                                                        if (jj_3R_133()) {
+                                                        if (jj_3R_137()) {
                                                           jj_scanpos = xsp;
-                                                          if (jj_3R_134()) {
+                                                          if (jj_3R_138()) {
                                                             jj_scanpos = xsp;
-                                                            if (jj_3R_135()) {
+                                                            if (jj_3R_139()) {
                                                               jj_scanpos = xsp;
-                                                              if (jj_3_37()) {
+                                                              if (jj_3R_140()) {
                                                                 jj_scanpos = xsp;
-                                                                if (jj_3R_136()) {
+                                                                if (jj_3R_141()) {
                                                                   jj_scanpos = xsp;
                                                                   if (jj_3_39()) {
                                                                     jj_scanpos = xsp;
-                                                                    if (jj_3R_137()) {
+                                                                    if (jj_3R_142()) {
                                                                       jj_scanpos = xsp;
-                                                                      if (jj_3R_138()) {
+                                                                      if (jj_3_41()) {
                                                                         jj_scanpos = xsp;
-                                                                        if (jj_3R_139()) {
+                                                                        if (jj_3_42()) {
                                                                           jj_scanpos = xsp;
-                                                                          if (jj_3R_140()) {
+                                                                          if (jj_3R_143()) {
                                                                             jj_scanpos = xsp;
-                                                                            if (jj_3R_141()) {
+                                                                            if (jj_3R_144()) {
                                                                               jj_scanpos = xsp;
-                                                                              if (jj_3_44()) {
+                                                                              if (jj_3R_145()) {
                                                                                 jj_scanpos = xsp;
-                                                                                if (jj_3R_142()) {
+                                                                                if (jj_3R_146()) {
                                                                                   jj_scanpos = xsp;
-                                                                                  if (jj_3_46()) {
+                                                                                  if (jj_3R_147()) {
                                                                                     jj_scanpos =
                                                                                         xsp;
                                                                                     if (jj_3_47()) {
                                                                                       jj_scanpos =
                                                                                           xsp;
-                                                                                      if (jj_3R_143()) {
+                                                                                      if (jj_3R_148()) {
                                                                                         jj_scanpos =
                                                                                             xsp;
-                                                                                        if (jj_3R_144()) {
+                                                                                        if (jj_3_49()) {
                                                                                           jj_scanpos =
                                                                                               xsp;
-                                                                                          if (jj_3R_145()) {
+                                                                                          if (jj_3_50()) {
                                                                                             jj_scanpos =
                                                                                                 xsp;
-                                                                                            if (jj_3R_146()) {
+                                                                                            if (jj_3R_149()) {
                                                                                               jj_scanpos =
                                                                                                   xsp;
-                                                                                              if (jj_3R_147()) {
+                                                                                              if (jj_3R_150()) {
                                                                                                 jj_scanpos =
                                                                                                     xsp;
-                                                                                                if (jj_3R_148()) {
+                                                                                                if (jj_3R_151()) {
                                                                                                   jj_scanpos =
                                                                                                       xsp;
-                                                                                                  if (jj_3R_149()) {
+                                                                                                  if (jj_3R_152()) {
                                                                                                     jj_scanpos =
                                                                                                         xsp;
-                                                                                                    if (jj_3R_150()) {
+                                                                                                    if (jj_3R_153()) {
                                                                                                       jj_scanpos =
                                                                                                           xsp;
-                                                                                                      if (jj_3R_151()) {
+                                                                                                      if (jj_3R_154()) {
                                                                                                         jj_scanpos =
                                                                                                             xsp;
-                                                                                                        if (jj_3R_152()) {
+                                                                                                        if (jj_3R_155()) {
                                                                                                           jj_scanpos =
                                                                                                               xsp;
-                                                                                                          if (jj_3R_153()) {
+                                                                                                          if (jj_3R_156()) {
                                                                                                             jj_scanpos =
                                                                                                                 xsp;
-                                                                                                            if (jj_3R_154()) {
+                                                                                                            if (jj_3R_157()) {
                                                                                                               jj_scanpos =
                                                                                                                   xsp;
-                                                                                                              if (jj_3R_155()) {
+                                                                                                              if (jj_3R_158()) {
                                                                                                                 jj_scanpos =
                                                                                                                     xsp;
-                                                                                                                if (jj_3R_156()) {
+                                                                                                                if (jj_3R_159()) {
                                                                                                                   jj_scanpos =
                                                                                                                       xsp;
-                                                                                                                  if (jj_3R_157())
-                                                                                                                    return true;
+                                                                                                                  if (jj_3R_160()) {
+                                                                                                                    jj_scanpos =
+                                                                                                                        xsp;
+                                                                                                                    if (jj_3R_161()) {
+                                                                                                                      jj_scanpos =
+                                                                                                                          xsp;
+                                                                                                                      if (jj_3R_162()) {
+                                                                                                                        jj_scanpos =
+                                                                                                                            xsp;
+                                                                                                                        if (jj_3R_163())
+                                                                                                                          return true;
+                                                                                                                      }
+                                                                                                                    }
+                                                                                                                  }
                                                                                                                 }
                                                                                                               }
                                                                                                             }
@@ -35065,119 +35960,71 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
+  private boolean jj_3R_297() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
   private boolean jj_3_10() {
-    if (jj_3R_80()) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
+  private boolean jj_3R_82() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_53()) {
+    if (jj_3_56()) {
       jj_scanpos = xsp;
-      if (jj_3R_246()) {
+      if (jj_3R_252()) {
         jj_scanpos = xsp;
-        if (jj_3R_247()) {
+        if (jj_3R_253()) {
           jj_scanpos = xsp;
-          if (jj_3R_248()) return true;
+          if (jj_3R_254()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_scan_token(SUPERCLASS)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_496()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_497()) {
-      jj_scanpos = xsp;
-      if (jj_3R_498()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_244() {
-    if (jj_3R_465()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_243() {
-    if (jj_3R_80()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_290() {
-    if (jj_scan_token(SHORTNAME)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_495()) {
-      jj_scanpos = xsp;
-      if (jj_scan_token(37)) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_74() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_243()) {
-      jj_scanpos = xsp;
-      if (jj_3R_244()) return true;
-    }
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_289() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_241() {
-    if (jj_3R_80()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(198)) jj_scanpos = xsp;
+  private boolean jj_3R_250() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3R_112() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_289()) {
+    if (jj_3R_297()) {
       jj_scanpos = xsp;
-      if (jj_3R_290()) {
+      if (jj_3R_298()) {
         jj_scanpos = xsp;
-        if (jj_3R_291()) {
+        if (jj_3R_299()) {
           jj_scanpos = xsp;
-          if (jj_3R_292()) {
+          if (jj_3R_300()) {
             jj_scanpos = xsp;
-            if (jj_3R_293()) {
+            if (jj_3R_301()) {
               jj_scanpos = xsp;
-              if (jj_3R_294()) {
+              if (jj_3R_302()) {
                 jj_scanpos = xsp;
-                if (jj_3R_295()) {
+                if (jj_3R_303()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_296()) {
+                  if (jj_3R_304()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_297()) {
+                    if (jj_3R_305()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_298()) {
+                      if (jj_3R_306()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_299()) {
+                        if (jj_3R_307()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_300()) {
+                          if (jj_3R_308()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_301()) {
+                            if (jj_3R_309()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_302()) return true;
+                              if (jj_3R_310()) return true;
                             }
                           }
                         }
@@ -35192,77 +36039,71 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_303()) jj_scanpos = xsp;
+    if (jj_3R_311()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
+  private boolean jj_3R_727() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_240()) return true;
+    if (jj_3R_246()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_76() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_249()) {
+      jj_scanpos = xsp;
+      if (jj_3R_250()) return true;
+    }
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_726() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_77()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_854() {
+  private boolean jj_3R_866() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3_6() {
-    if (jj_3R_76()) return true;
-    return false;
-  }
-
-  private boolean jj_3_5() {
     if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_82()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(204)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_865() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_725() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
+  private boolean jj_3R_723() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) {
+      if (jj_3R_866()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35270,40 +36111,45 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_716() {
+  private boolean jj_3R_724() {
     if (jj_scan_token(CLUSTERS)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_85() {
+  private boolean jj_3R_87() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_718()) jj_scanpos = xsp;
+    if (jj_3R_726()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_205()) return true;
+    if (jj_3R_211()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_719()) jj_scanpos = xsp;
+    if (jj_3R_727()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_645() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3_8() {
+    if (jj_3R_80()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_722() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_853()) {
+      if (jj_3R_865()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35311,120 +36157,126 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3_7() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_501() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_644()) {
-      jj_scanpos = xsp;
-      if (jj_3R_645()) return true;
-    }
+  private boolean jj_3_6() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3_5() {
+    if (jj_3R_77()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_721() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_668() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_667() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_245()) jj_scanpos = xsp;
-    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
+  private boolean jj_3R_653() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
+  private boolean jj_3R_86() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_713()) jj_scanpos = xsp;
+    if (jj_3R_721()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) jj_scanpos = xsp;
+    if (jj_3R_722()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_715()) jj_scanpos = xsp;
+    if (jj_3R_723()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_724()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_725()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_652() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_509() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_659()) {
+    if (jj_3R_652()) {
       jj_scanpos = xsp;
-      if (jj_3R_660()) return true;
+      if (jj_3R_653()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_73() {
+  private boolean jj_3R_251() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_556() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_242()) jj_scanpos = xsp;
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+    if (jj_3R_667()) {
+      jj_scanpos = xsp;
+      if (jj_3R_668()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_547() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_77() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_251()) jj_scanpos = xsp;
+    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_555() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
+  private boolean jj_3R_351() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_546()) {
+    if (jj_3R_554()) {
       jj_scanpos = xsp;
-      if (jj_3R_547()) return true;
+      if (jj_3R_555()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_548()) {
+      if (jj_3R_556()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35433,12 +36285,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_494() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_248() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_648() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_350() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_82()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_75() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_248()) jj_scanpos = xsp;
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_349() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_502() {
+    if (jj_3R_181()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_640()) {
+      if (jj_3R_648()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35446,361 +36329,425 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_80()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_166() {
+    if (jj_scan_token(FIND)) return true;
+    if (jj_scan_token(REFERENCES)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_349()) {
+      jj_scanpos = xsp;
+      if (jj_3R_350()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_351()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_296() {
+    if (jj_scan_token(FULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
-    if (jj_scan_token(FIND)) return true;
-    if (jj_scan_token(REFERENCES)) return true;
+  private boolean jj_3R_295() {
+    if (jj_scan_token(SAMPLE)) return true;
+    if (jj_3R_75()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_110() {
+    if (jj_scan_token(ANALYZE)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_341()) {
-      jj_scanpos = xsp;
-      if (jj_3R_342()) return true;
-    }
+    if (jj_3R_295()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_343()) jj_scanpos = xsp;
+    if (jj_3R_296()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_494()) jj_scanpos = xsp;
+    if (jj_3R_502()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_293() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
+  private boolean jj_3R_109() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_287()) {
+    if (jj_3R_293()) {
       jj_scanpos = xsp;
-      if (jj_3R_288()) return true;
+      if (jj_3R_294()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_291() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_284() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_290() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_292() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_108() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_284()) {
+    if (jj_3R_290()) {
       jj_scanpos = xsp;
-      if (jj_3R_285()) return true;
+      if (jj_3R_291()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_286()) jj_scanpos = xsp;
+    if (jj_3R_292()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_283() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
+  private boolean jj_3R_288() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_287() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
+  private boolean jj_3R_107() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_282()) jj_scanpos = xsp;
+    if (jj_3R_288()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_283()) jj_scanpos = xsp;
+    if (jj_3R_289()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_286() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
+  private boolean jj_3R_106() {
     if (jj_scan_token(PROFILE)) return true;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_280()) {
+    if (jj_3R_286()) {
       jj_scanpos = xsp;
-      if (jj_3R_281()) return true;
+      if (jj_3R_287()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_624() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_472() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
+  private boolean jj_3R_471() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_616()) jj_scanpos = xsp;
+    if (jj_3R_624()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
+  private boolean jj_3R_241() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_463()) {
+    if (jj_3R_471()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(225)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_464()) jj_scanpos = xsp;
+    if (jj_3R_472()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_623() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_470() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_461() {
+  private boolean jj_3R_469() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) jj_scanpos = xsp;
+    if (jj_3R_623()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
+  private boolean jj_3R_240() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_461()) {
+    if (jj_3R_469()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(225)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_462()) jj_scanpos = xsp;
+    if (jj_3R_470()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_468() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_467() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) jj_scanpos = xsp;
+    if (jj_3R_622()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
+  private boolean jj_3R_239() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_459()) {
+    if (jj_3R_467()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(225)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_460()) jj_scanpos = xsp;
+    if (jj_3R_468()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_613()) jj_scanpos = xsp;
+    if (jj_3R_621()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
+  private boolean jj_3R_238() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_457()) {
+    if (jj_3R_465()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(225)) return true;
     }
-    if (jj_3R_456()) return true;
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_1092() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1106() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_1089() {
+  private boolean jj_3R_1103() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1092()) jj_scanpos = xsp;
+    if (jj_3R_1106()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1084() {
+  private boolean jj_3R_1098() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1089()) {
+    if (jj_3R_1103()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(225)) return true;
     }
-    if (jj_3R_456()) return true;
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_463() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) jj_scanpos = xsp;
+    if (jj_3R_619()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_237() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_455()) {
+    if (jj_3R_463()) {
       jj_scanpos = xsp;
-      if (jj_scan_token(219)) return true;
+      if (jj_scan_token(225)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_456()) return true;
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_983() {
+  private boolean jj_3R_997() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_982() {
+  private boolean jj_3R_996() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_982()) {
+    if (jj_3R_996()) {
       jj_scanpos = xsp;
-      if (jj_3R_983()) return true;
+      if (jj_3R_997()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_861() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_860() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_479()) return true;
+    if (jj_3R_487()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_859() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_487()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_995() {
+    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_858() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_994() {
+    if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_857() {
+    if (jj_scan_token(RID)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_993() {
+    if (jj_3R_75()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_992() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_856() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_994()) {
+      jj_scanpos = xsp;
+      if (jj_3R_995()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_177() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(260)) {
+    if (jj_scan_token(266)) {
       jj_scanpos = xsp;
-      if (jj_scan_token(246)) {
+      if (jj_scan_token(252)) {
         jj_scanpos = xsp;
         if (jj_scan_token(28)) {
           jj_scanpos = xsp;
@@ -35816,7 +36763,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     jj_scanpos = xsp;
                     if (jj_scan_token(39)) {
                       jj_scanpos = xsp;
-                      if (jj_scan_token(257)) {
+                      if (jj_scan_token(263)) {
                         jj_scanpos = xsp;
                         if (jj_scan_token(45)) {
                           jj_scanpos = xsp;
@@ -36167,8 +37114,38 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                                                                                                                                                                                                                   jj_scanpos =
                                                                                                                                                                                                                                       xsp;
                                                                                                                                                                                                                                   if (jj_scan_token(
-                                                                                                                                                                                                                                      261))
-                                                                                                                                                                                                                                    return true;
+                                                                                                                                                                                                                                      165)) {
+                                                                                                                                                                                                                                    jj_scanpos =
+                                                                                                                                                                                                                                        xsp;
+                                                                                                                                                                                                                                    if (jj_scan_token(
+                                                                                                                                                                                                                                        166)) {
+                                                                                                                                                                                                                                      jj_scanpos =
+                                                                                                                                                                                                                                          xsp;
+                                                                                                                                                                                                                                      if (jj_scan_token(
+                                                                                                                                                                                                                                          167)) {
+                                                                                                                                                                                                                                        jj_scanpos =
+                                                                                                                                                                                                                                            xsp;
+                                                                                                                                                                                                                                        if (jj_scan_token(
+                                                                                                                                                                                                                                            168)) {
+                                                                                                                                                                                                                                          jj_scanpos =
+                                                                                                                                                                                                                                              xsp;
+                                                                                                                                                                                                                                          if (jj_scan_token(
+                                                                                                                                                                                                                                              169)) {
+                                                                                                                                                                                                                                            jj_scanpos =
+                                                                                                                                                                                                                                                xsp;
+                                                                                                                                                                                                                                            if (jj_scan_token(
+                                                                                                                                                                                                                                                170)) {
+                                                                                                                                                                                                                                              jj_scanpos =
+                                                                                                                                                                                                                                                  xsp;
+                                                                                                                                                                                                                                              if (jj_scan_token(
+                                                                                                                                                                                                                                                  267))
+                                                                                                                                                                                                                                                return true;
+                                                                                                                                                                                                                                            }
+                                                                                                                                                                                                                                          }
+                                                                                                                                                                                                                                        }
+                                                                                                                                                                                                                                      }
+                                                                                                                                                                                                                                    }
+                                                                                                                                                                                                                                  }
                                                                                                                                                                                                                                 }
                                                                                                                                                                                                                               }
                                                                                                                                                                                                                             }
@@ -36283,132 +37260,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_847() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_479()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_981() {
-    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_846() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_980() {
-    if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_845() {
-    if (jj_scan_token(RID)) return true;
+  private boolean jj_3R_855() {
+    if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_607() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(187)) {
-      jj_scanpos = xsp;
-      if (jj_scan_token(168)) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_979() {
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_978() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_844() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_980()) {
+    if (jj_3R_992()) {
       jj_scanpos = xsp;
-      if (jj_3R_981()) return true;
+      if (jj_3R_993()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_854() {
+    if (jj_scan_token(CLASSES)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_615() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_978()) {
+    if (jj_scan_token(193)) {
       jj_scanpos = xsp;
-      if (jj_3R_979()) return true;
+      if (jj_scan_token(174)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_842() {
-    if (jj_scan_token(CLASSES)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_703() {
+  private boolean jj_3R_711() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_702()) return true;
+    if (jj_3R_710()) return true;
     return false;
   }
 
-  private boolean jj_3R_841() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_710() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_841()) {
+    if (jj_3R_853()) {
       jj_scanpos = xsp;
-      if (jj_3R_842()) {
+      if (jj_3R_854()) {
         jj_scanpos = xsp;
-        if (jj_3R_843()) {
+        if (jj_3R_855()) {
           jj_scanpos = xsp;
-          if (jj_3R_844()) {
+          if (jj_3R_856()) {
             jj_scanpos = xsp;
-            if (jj_3R_845()) {
+            if (jj_3R_857()) {
               jj_scanpos = xsp;
-              if (jj_3R_846()) {
+              if (jj_3R_858()) {
                 jj_scanpos = xsp;
-                if (jj_3R_847()) {
+                if (jj_3R_859()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_848()) {
+                  if (jj_3R_860()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_849()) {
+                    if (jj_3R_861()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_850()) {
+                      if (jj_3R_862()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_851()) {
+                        if (jj_3R_863()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_852()) return true;
+                          if (jj_3R_864()) return true;
                         }
                       }
                     }
@@ -36423,12 +37342,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_612() {
-    if (jj_3R_702()) return true;
+  private boolean jj_3R_620() {
+    if (jj_3R_710()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_703()) {
+      if (jj_3R_711()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36436,257 +37355,262 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_155() {
-    if (jj_3R_235()) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
-    if (jj_3R_234()) return true;
+  private boolean jj_3_158() {
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_233()) return true;
+  private boolean jj_3_157() {
+    if (jj_3R_240()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3_156() {
+    if (jj_3R_239()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_464() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_612()) jj_scanpos = xsp;
+    if (jj_3R_620()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1086() {
-    if (jj_3R_456()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_610() {
-    if (jj_3R_235()) return true;
+  private boolean jj_3R_1100() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_234()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_241()) return true;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_233()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_240()) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(167)) {
-      jj_scanpos = xsp;
-      if (jj_scan_token(168)) return true;
-    }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_161()) return true;
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_616() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
+  private boolean jj_3R_461() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_608()) {
+    if (jj_3R_616()) {
       jj_scanpos = xsp;
-      if (jj_3R_609()) {
+      if (jj_3R_617()) {
         jj_scanpos = xsp;
-        if (jj_3R_610()) return true;
+        if (jj_3R_618()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_3R_73()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3_1() {
-    if (jj_scan_token(271)) return true;
-    if (jj_3R_73()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3_152() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_155() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_235() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_453()) return true;
+    if (jj_3R_461()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_453()) {
+      if (jj_3R_461()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1086()) jj_scanpos = xsp;
+    if (jj_3R_1100()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_1102() {
+    if (jj_3R_464()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_386() {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1()) {
+    if (jj_scan_token(173)) {
       jj_scanpos = xsp;
-      if (jj_3_2()) {
-        jj_scanpos = xsp;
-        if (jj_3R_378()) return true;
-      }
+      if (jj_scan_token(174)) return true;
     }
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_167()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1088() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_1101() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_1087() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_2() {
+    if (jj_3R_75()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3_1() {
+    if (jj_scan_token(277)) return true;
+    if (jj_3R_75()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_75()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_236() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_454()) return true;
+    if (jj_3R_462()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1087()) {
+      if (jj_3R_1101()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1088()) jj_scanpos = xsp;
+    if (jj_3R_1102()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1091() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_1105() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_181() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_1()) {
+      jj_scanpos = xsp;
+      if (jj_3_2()) {
+        jj_scanpos = xsp;
+        if (jj_3R_386()) return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_462() {
+    if (jj_3R_183()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1091()) jj_scanpos = xsp;
+    if (jj_3R_1105()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1090() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_1104() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_1085() {
+  private boolean jj_3R_1099() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1090()) jj_scanpos = xsp;
+    if (jj_3R_1104()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_3R_232()) return true;
+  private boolean jj_3_154() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_466() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3_150() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3_153() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_1073() {
-    if (jj_3R_1085()) return true;
+  private boolean jj_3R_1087() {
+    if (jj_3R_1099()) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_234() {
+    if (jj_3R_192()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_458()) jj_scanpos = xsp;
+    if (jj_3R_466()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1072() {
-    if (jj_3R_232()) return true;
+  private boolean jj_3R_1086() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_1071() {
-    if (jj_3R_1084()) return true;
+  private boolean jj_3R_1085() {
+    if (jj_3R_1098()) return true;
     return false;
   }
 
-  private boolean jj_3R_1070() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_1084() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3_152() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3_148() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3_151() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3_147() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_150() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_1035() {
+  private boolean jj_3R_1049() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_147()) {
+    if (jj_3_150()) {
       jj_scanpos = xsp;
-      if (jj_3_148()) {
+      if (jj_3_151()) {
         jj_scanpos = xsp;
-        if (jj_3_149()) {
+        if (jj_3_152()) {
           jj_scanpos = xsp;
-          if (jj_3R_1070()) {
+          if (jj_3R_1084()) {
             jj_scanpos = xsp;
-            if (jj_3R_1071()) {
+            if (jj_3R_1085()) {
               jj_scanpos = xsp;
-              if (jj_3R_1072()) {
+              if (jj_3R_1086()) {
                 jj_scanpos = xsp;
-                if (jj_3R_1073()) return true;
+                if (jj_3R_1087()) return true;
               }
             }
           }
@@ -36696,22 +37620,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1031() {
+  private boolean jj_3R_1045() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_954() {
+  private boolean jj_3R_968() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
-    if (jj_3R_456()) return true;
+  private boolean jj_3R_696() {
+    if (jj_3R_464()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1035()) {
+      if (jj_3R_1049()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36719,83 +37643,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_953() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_967() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
+  private boolean jj_3R_966() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_965() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_828() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_951()) {
+    if (jj_3R_965()) {
       jj_scanpos = xsp;
-      if (jj_3R_952()) {
+      if (jj_3R_966()) {
         jj_scanpos = xsp;
-        if (jj_3R_953()) {
+        if (jj_3R_967()) {
           jj_scanpos = xsp;
-          if (jj_3R_954()) return true;
+          if (jj_3R_968()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_827() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
+  private boolean jj_3R_963() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_826() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_825() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_824() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
+  private boolean jj_3R_669() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_812()) {
+    if (jj_3R_824()) {
       jj_scanpos = xsp;
-      if (jj_3R_813()) {
+      if (jj_3R_825()) {
         jj_scanpos = xsp;
-        if (jj_3R_814()) {
+        if (jj_3R_826()) {
           jj_scanpos = xsp;
-          if (jj_3R_815()) return true;
+          if (jj_3R_827()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_816()) {
+      if (jj_3R_828()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36803,74 +37727,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_146() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_149() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_240() {
+  private boolean jj_3R_246() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_661()) jj_scanpos = xsp;
+    if (jj_3R_669()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1069() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_1083() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_3R_586()) return true;
+  private boolean jj_3R_842() {
+    if (jj_3R_594()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1069()) jj_scanpos = xsp;
+    if (jj_3R_1083()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_950() {
+  private boolean jj_3R_964() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1031()) jj_scanpos = xsp;
+    if (jj_3R_1045()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1030() {
+  private boolean jj_3R_1044() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_1029() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_1043() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_948() {
+  private boolean jj_3R_962() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1029()) {
+    if (jj_3R_1043()) {
       jj_scanpos = xsp;
-      if (jj_3R_1030()) return true;
+      if (jj_3R_1044()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_823() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_948()) jj_scanpos = xsp;
-    if (jj_3R_171()) return true;
+    if (jj_3R_962()) jj_scanpos = xsp;
+    if (jj_3R_177()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_949()) jj_scanpos = xsp;
+    if (jj_3R_963()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_950()) {
+      if (jj_3R_964()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36878,35 +37802,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_810() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
+  private boolean jj_3R_665() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_810()) {
+    if (jj_3R_822()) {
       jj_scanpos = xsp;
-      if (jj_3R_811()) return true;
+      if (jj_3R_823()) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_666() {
+    if (jj_3R_665()) return true;
     return false;
   }
 
-  private boolean jj_3R_541() {
+  private boolean jj_3R_549() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_657()) return true;
+    if (jj_3R_665()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_658()) {
+      if (jj_3R_666()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36914,18 +37838,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_565() {
+  private boolean jj_3R_573() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_392() {
+    if (jj_3R_167()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_565()) {
+      if (jj_3R_573()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36933,179 +37857,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_184() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_384()) jj_scanpos = xsp;
+    if (jj_3R_392()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_479() {
     if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
+  private boolean jj_3R_798() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_480() {
     if (jj_scan_token(WAIT)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_647() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_785()) {
+    if (jj_3R_797()) {
       jj_scanpos = xsp;
-      if (jj_3R_786()) return true;
+      if (jj_3R_798()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_493() {
     if (jj_scan_token(TIMEOUT)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_75()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_639()) jj_scanpos = xsp;
+    if (jj_3R_647()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_630() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_629() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_961() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_946() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_960() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
+  private boolean jj_3R_481() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_621()) {
+    if (jj_3R_629()) {
       jj_scanpos = xsp;
-      if (jj_3R_622()) return true;
+      if (jj_3R_630()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_945() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_959() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_958() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_821() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_946()) {
+    if (jj_3R_960()) {
       jj_scanpos = xsp;
-      if (jj_3R_947()) return true;
+      if (jj_3R_961()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1028() {
+  private boolean jj_3R_1042() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_820() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_944()) {
+    if (jj_3R_958()) {
       jj_scanpos = xsp;
-      if (jj_3R_945()) return true;
+      if (jj_3R_959()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_654() {
+  private boolean jj_3R_662() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_808()) {
+    if (jj_3R_820()) {
       jj_scanpos = xsp;
-      if (jj_3R_809()) return true;
+      if (jj_3R_821()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_638() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_646() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_645() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_1025() {
+  private boolean jj_3R_1039() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_492() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_637()) {
+    if (jj_3R_645()) {
       jj_scanpos = xsp;
-      if (jj_3R_638()) return true;
+      if (jj_3R_646()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_653() {
+  private boolean jj_3R_661() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
+  private boolean jj_3R_657() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
+  private boolean jj_3R_546() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_177()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_653()) {
+      if (jj_3R_661()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37113,63 +38037,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1026() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_1040() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
+  private boolean jj_3R_955() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_943() {
+  private boolean jj_3R_957() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_954() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_1027() {
+  private boolean jj_3R_1041() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_956() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1027()) {
+    if (jj_3R_1041()) {
       jj_scanpos = xsp;
-      if (jj_3R_1028()) return true;
+      if (jj_3R_1042()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_933() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_953() {
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1040()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_939() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1026()) jj_scanpos = xsp;
+  private boolean jj_3R_947() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_544() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_649()) {
+      if (jj_3R_657()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37177,238 +38101,238 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_1023() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_1037() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
+  private boolean jj_3R_950() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_952() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_938() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_949() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_1024() {
+  private boolean jj_3R_1038() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_937() {
+  private boolean jj_3R_951() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1024()) {
+    if (jj_3R_1038()) {
       jj_scanpos = xsp;
-      if (jj_3R_1025()) return true;
+      if (jj_3R_1039()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_819() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_939()) {
+    if (jj_3R_953()) {
       jj_scanpos = xsp;
-      if (jj_3R_940()) {
+      if (jj_3R_954()) {
         jj_scanpos = xsp;
-        if (jj_3R_941()) return true;
+        if (jj_3R_955()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_942()) jj_scanpos = xsp;
+    if (jj_3R_956()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_943()) jj_scanpos = xsp;
+    if (jj_3R_957()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_948() {
+    if (jj_3R_177()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1037()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_934() {
-    if (jj_3R_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1023()) jj_scanpos = xsp;
+  private boolean jj_3R_944() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_818() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_934()) {
+    if (jj_3R_948()) {
       jj_scanpos = xsp;
-      if (jj_3R_935()) {
+      if (jj_3R_949()) {
         jj_scanpos = xsp;
-        if (jj_3R_936()) return true;
+        if (jj_3R_950()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_937()) jj_scanpos = xsp;
+    if (jj_3R_951()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) jj_scanpos = xsp;
+    if (jj_3R_952()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_652() {
+  private boolean jj_3R_945() {
+    if (jj_3R_193()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_660() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_806()) {
+    if (jj_3R_818()) {
       jj_scanpos = xsp;
-      if (jj_3R_807()) return true;
+      if (jj_3R_819()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_931() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_815() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_814() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_817() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_946() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_816() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_932()) {
+    if (jj_3R_946()) {
       jj_scanpos = xsp;
-      if (jj_3R_933()) return true;
+      if (jj_3R_947()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_932() {
-    if (jj_scan_token(DESC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_801() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_813() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_931()) jj_scanpos = xsp;
+    if (jj_3R_945()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_928() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_942() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_809() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_812() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_943() {
+    if (jj_scan_token(DESC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_811() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_929()) {
+    if (jj_3R_943()) {
       jj_scanpos = xsp;
-      if (jj_3R_930()) return true;
+      if (jj_3R_944()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_929() {
-    if (jj_scan_token(DESC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_651() {
+  private boolean jj_3R_659() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_801()) {
+    if (jj_3R_813()) {
       jj_scanpos = xsp;
-      if (jj_3R_802()) {
+      if (jj_3R_814()) {
         jj_scanpos = xsp;
-        if (jj_3R_803()) return true;
+        if (jj_3R_815()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_804()) jj_scanpos = xsp;
+    if (jj_3R_816()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_805()) jj_scanpos = xsp;
+    if (jj_3R_817()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_808() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_928()) jj_scanpos = xsp;
+    if (jj_3R_942()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_658() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_796()) {
+    if (jj_3R_808()) {
       jj_scanpos = xsp;
-      if (jj_3R_797()) {
+      if (jj_3R_809()) {
         jj_scanpos = xsp;
-        if (jj_3R_798()) return true;
+        if (jj_3R_810()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_799()) jj_scanpos = xsp;
+    if (jj_3R_811()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) jj_scanpos = xsp;
+    if (jj_3R_812()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_650()) {
+    if (jj_3R_658()) {
       jj_scanpos = xsp;
-      if (jj_3R_651()) return true;
+      if (jj_3R_659()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_652()) {
+      if (jj_3R_660()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37416,343 +38340,402 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_148() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_457() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
+  private boolean jj_3R_456() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_455() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_454() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_147() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_228() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_446()) {
+    if (jj_3R_454()) {
       jj_scanpos = xsp;
-      if (jj_3R_447()) {
+      if (jj_3R_455()) {
         jj_scanpos = xsp;
-        if (jj_3R_448()) {
+        if (jj_3R_456()) {
           jj_scanpos = xsp;
-          if (jj_3R_449()) return true;
+          if (jj_3R_457()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_453() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_143() {
+  private boolean jj_3_146() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_142() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_145() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_452() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_226() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_143()) {
+    if (jj_3_146()) {
       jj_scanpos = xsp;
-      if (jj_3R_445()) return true;
+      if (jj_3R_453()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_141() {
+  private boolean jj_3_144() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_138() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_141() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_141()) {
+    if (jj_3_144()) {
       jj_scanpos = xsp;
-      if (jj_3R_444()) return true;
+      if (jj_3R_452()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3R_447() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_3R_372()) return true;
+  private boolean jj_3R_233() {
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3_140() {
+  private boolean jj_3_143() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_176()) return true;
+    if (jj_3R_182()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_232() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_139() {
+  private boolean jj_3_142() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_226()) {
+    if (jj_3R_232()) {
       jj_scanpos = xsp;
-      if (jj_3R_227()) return true;
+      if (jj_3R_233()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_135() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_138() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_437()) return true;
+    if (jj_3R_445()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_139()) {
+    if (jj_3_142()) {
       jj_scanpos = xsp;
-      if (jj_3_140()) {
+      if (jj_3_143()) {
         jj_scanpos = xsp;
-        if (jj_3R_439()) return true;
+        if (jj_3R_447()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_372()) return true;
+  private boolean jj_3R_231() {
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3_137() {
+  private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_176()) return true;
+    if (jj_3R_182()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3R_446() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_230() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_136() {
+  private boolean jj_3_139() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) {
+    if (jj_3R_230()) {
       jj_scanpos = xsp;
-      if (jj_3R_225()) return true;
+      if (jj_3R_231()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_134() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_137() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_161()) return true;
-    if (jj_3R_437()) return true;
+  private boolean jj_3R_219() {
+    if (jj_3R_167()) return true;
+    if (jj_3R_445()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_136()) {
+    if (jj_3_139()) {
       jj_scanpos = xsp;
-      if (jj_3_137()) {
+      if (jj_3_140()) {
         jj_scanpos = xsp;
-        if (jj_3R_438()) return true;
+        if (jj_3R_446()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_437() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_449() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_133() {
+  private boolean jj_3_136() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_133()) {
+    if (jj_3_136()) {
       jj_scanpos = xsp;
-      if (jj_3R_441()) return true;
+      if (jj_3R_449()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
+  private boolean jj_3R_460() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
-    if (jj_3R_607()) return true;
+  private boolean jj_3R_459() {
+    if (jj_3R_615()) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_458() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_132() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_135() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_229() {
+    if (jj_3R_167()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_450()) {
+    if (jj_3R_458()) {
       jj_scanpos = xsp;
-      if (jj_3R_451()) {
+      if (jj_3R_459()) {
         jj_scanpos = xsp;
-        if (jj_3R_452()) return true;
+        if (jj_3R_460()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_131() {
+  private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_184()) return true;
+    if (jj_3R_190()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
+  private boolean jj_3R_224() {
+    if (jj_3R_167()) return true;
+    if (jj_3R_450()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_134()) {
+      jj_scanpos = xsp;
+      if (jj_3R_451()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_221() {
+    if (jj_3R_167()) return true;
+    if (jj_3R_448()) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_574() {
+    if (jj_scan_token(NOT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_400() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_574()) jj_scanpos = xsp;
+    if (jj_3R_445()) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_399() {
+    if (jj_3R_448()) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_188() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_399()) {
+      jj_scanpos = xsp;
+      if (jj_3R_400()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_852() {
+    if (jj_scan_token(EQEQ)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_851() {
+    if (jj_scan_token(EQ)) return true;
+    return false;
+  }
+
   /** Generated Token Manager. */
   public OrientSqlTokenManager token_source;
 
@@ -37766,7 +38749,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  private final int[] jj_la1 = new int[460];
+  private final int[] jj_la1 = new int[468];
   private static int[] jj_la1_0;
   private static int[] jj_la1_1;
   private static int[] jj_la1_2;
@@ -37776,6 +38759,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private static int[] jj_la1_6;
   private static int[] jj_la1_7;
   private static int[] jj_la1_8;
+  private static int[] jj_la1_9;
 
   static {
     jj_la1_init_0();
@@ -37787,6 +38771,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_la1_init_6();
     jj_la1_init_7();
     jj_la1_init_8();
+    jj_la1_init_9();
   }
 
   private static void jj_la1_init_0() {
@@ -37909,877 +38894,93 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x80000000,
-          0x20000000,
-          0x0,
-          0x0,
-          0xf0000000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x200000,
-          0x800,
-          0x800,
-          0x800,
-          0x200800,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xf0000000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x100000,
-          0x10000000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc600000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc404000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x800,
-          0xfc400000,
-          0x800,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x1800000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x1800000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x4000000,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x4000000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x98000,
-          0x98000,
-          0x98000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0x10000000,
-          0x10000000,
-          0x10000000,
-          0x10000000,
-          0x0,
-          0x9f800,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0xfd49f800,
-          0x1000000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfd49f800,
-          0x1000000,
-          0xfd49f800,
-          0x1000000,
-          0xfc67c800,
-          0x0,
-          0x18000,
-          0x0,
-          0x18000,
-          0x10000000,
-          0x18000,
-          0x0,
-          0x18000,
-          0x18000,
-          0x0,
-          0x18000,
-          0x10000000,
-          0x10000000,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0xfc400000,
-          0x0,
-          0xfc400000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xfc400000,
-          0x0,
-        };
-  }
-
-  private static void jj_la1_init_1() {
-    jj_la1_1 =
-        new int[] {
-          0x0,
-          0x0,
-          0xdc8821a3,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x80000,
-          0x0,
-          0x4000000,
-          0x0,
-          0x4000000,
-          0x0,
-          0x400,
-          0x2800,
-          0x2c00,
-          0x2c00,
-          0x40000,
-          0x4000,
-          0x800000,
-          0x400000,
-          0x0,
-          0x20000000,
-          0xd88021a3,
-          0x4000000,
-          0x0,
-          0x100,
-          0x80,
-          0x0,
-          0x400,
-          0x2800,
-          0x2c00,
-          0x2c00,
-          0x40000,
-          0x4000,
-          0x800000,
-          0x400000,
-          0x0,
-          0x20000000,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x400,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x10000,
-          0x0,
-          0x0,
-          0x10000,
-          0x100,
-          0x80,
-          0x0,
-          0x2800,
-          0x400,
-          0x80000,
-          0x0,
-          0x400,
-          0x0,
-          0x0,
-          0x80000,
-          0x0,
-          0x400,
-          0x1000,
-          0x0,
-          0x0,
-          0x0,
-          0x1000,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x400,
-          0x1000,
-          0x0,
-          0x400,
-          0x1000,
-          0x0,
-          0x400,
-          0x1000,
-          0xd8802183,
-          0x0,
-          0x400,
-          0x1000,
-          0x7,
-          0x0,
-          0x300000,
-          0xd88021a3,
-          0x80000,
-          0x0,
-          0x800000,
-          0x400000,
-          0x400,
-          0x4000,
-          0x7,
-          0x0,
-          0x300000,
-          0xd88021a3,
-          0x80000,
-          0x0,
-          0x800000,
-          0x400000,
-          0x400,
-          0x4000,
-          0x0,
-          0x0,
-          0x1,
-          0x4,
-          0x0,
-          0x0,
-          0x7,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x80000,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x1,
-          0x0,
-          0x80000,
-          0x0,
-          0x7,
-          0x1000,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x1,
-          0x2000000,
-          0x1000000,
-          0x1000,
-          0x0,
-          0xd8802d83,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x10000,
-          0x0,
-          0x0,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0x10000,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x20,
-          0x0,
-          0x0,
-          0x20,
-          0x0,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x10,
-          0x8,
-          0xd88021a3,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x28000,
-          0x28000,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x28000,
-          0x28000,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x28000,
-          0x28000,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x28000,
-          0x28000,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x2800,
-          0x0,
-          0x80000,
-          0x80000,
-          0x0,
-          0xd88021a3,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x10000,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x10000,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0xd88021a3,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0xd88021a3,
-          0xd88021a3,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x200,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0x200,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0x0,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0xd8802183,
-          0xd8802183,
-          0x0,
-          0x2,
-          0x2,
-          0x2,
-          0x2,
-          0x0,
-          0x4080000,
-          0x0,
-          0x8,
-          0x0,
-          0x0,
-          0x0,
-          0x2000000,
-          0xd88021a3,
-          0xdc8821a3,
-          0x0,
-          0x0,
-          0x18028404,
-          0x0,
-          0x18028404,
-          0x58028404,
+          0x80000000,
+          0x20000000,
           0x0,
-          0x58028404,
           0x0,
+          0xf0000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0xdc8821a3,
+          0x200000,
+          0x800,
+          0x800,
+          0x800,
+          0x200800,
           0x0,
-          0xdc8821a3,
           0x0,
-          0xd8802183,
           0x0,
-          0x300000,
           0x0,
-          0x300000,
           0x0,
-          0x300000,
           0x0,
-          0x300000,
-          0x300000,
           0x0,
-          0x300000,
-          0x2,
-          0x2,
-          0xd8802183,
-          0xd8802183,
           0x0,
-          0xd8802183,
-          0xd8802183,
           0x0,
-          0xd8802183,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xd8802183,
+          0xf0000000,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_2() {
-    jj_la1_2 =
-        new int[] {
           0x0,
+          0xfc400000,
+          0x100000,
+          0x10000000,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
+          0xfc600000,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0x1000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
-          0x100,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
-          0x2,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x100,
           0x0,
           0x0,
+          0xfc404000,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2,
           0x0,
           0x0,
-          0xff7ffce0,
-          0x200,
           0x0,
           0x0,
-          0x18,
-          0x4,
+          0xfc400000,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
@@ -38787,52 +38988,64 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0x100,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
+          0x800,
+          0xfc400000,
+          0x800,
+          0xfc400000,
           0x0,
-          0x1,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0xff7ffce0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
@@ -38842,306 +39055,393 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x1800000,
+          0xfc400000,
           0x0,
           0x0,
+          0x1800000,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0x1,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x800,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0xff7ffce0,
+          0xfc400000,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0xfc400000,
+          0xfc400000,
+          0xfc400000,
+          0xfc400000,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
+          0x4000000,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
+          0xfc400000,
+          0x4000000,
           0x0,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
           0x0,
+          0xfc400000,
+          0xfc400000,
+          0xfc400000,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0x98000,
+          0x98000,
+          0x98000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0xff7ffce0,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
-          0xff7ffce0,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0x10000000,
+          0x10000000,
+          0x10000000,
+          0x10000000,
           0x0,
+          0x9f800,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xe0,
+          0xfc400000,
+          0xfd49f800,
+          0x1000000,
           0x0,
           0x0,
-          0xe0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0x20000,
           0x0,
-          0xff7ffce0,
+          0x40000,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0xfd49f800,
+          0x1000000,
+          0xfd49f800,
+          0x1000000,
+          0xfc67c800,
           0x0,
-          0xff7ffce0,
+          0x18000,
           0x0,
+          0x18000,
+          0x10000000,
+          0x18000,
           0x0,
+          0x18000,
+          0x18000,
           0x0,
-          0xff7ffce0,
+          0x18000,
+          0x10000000,
+          0x10000000,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0xfc400000,
+          0xfc400000,
           0x0,
+          0xfc400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfc400000,
           0x0,
-          0x20000,
-          0x20000,
+        };
+  }
+
+  private static void jj_la1_init_1() {
+    jj_la1_1 =
+        new int[] {
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
+          0xdc8821a3,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
+          0xd88021a3,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x80000,
           0x0,
+          0x4000000,
           0x0,
+          0x4000000,
           0x0,
+          0x400,
+          0x2800,
+          0x2c00,
+          0x2c00,
+          0x40000,
+          0x4000,
+          0x800000,
+          0x400000,
           0x0,
+          0x20000000,
+          0xd88021a3,
+          0x4000000,
           0x0,
-          0x2a00,
-          0xff7ffce0,
+          0x100,
+          0x80,
           0x0,
+          0x400,
+          0x2800,
+          0x2c00,
+          0x2c00,
+          0x40000,
+          0x4000,
+          0x800000,
+          0x400000,
           0x0,
-          0x2a00,
-          0xff7ffce0,
+          0x20000000,
           0x0,
-          0xff7ffce0,
+          0xd8802183,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
+          0x400,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0x300000,
-          0x800000,
-          0x1,
-          0xff7ffce0,
-          0x1,
+          0x10000,
           0x0,
           0x0,
+          0x10000,
+          0x100,
+          0x80,
           0x0,
+          0x2800,
+          0x400,
+          0x80000,
           0x0,
-          0xff7ffce0,
+          0x400,
           0x0,
-          0xff7ffce0,
           0x0,
+          0x80000,
           0x0,
+          0x400,
+          0x1000,
           0x0,
-          0x4000000,
           0x0,
           0x0,
-          0x8000000,
-          0x10000000,
+          0x1000,
+          0xd8802183,
           0x0,
           0x0,
-          0xff7ffce0,
+          0x400,
+          0x1000,
           0x0,
+          0x400,
+          0x1000,
           0x0,
-          0xff7ffce0,
+          0x400,
+          0x1000,
+          0xd8802183,
           0x0,
-          0xff7ffce0,
+          0x400,
+          0x1000,
+          0x7,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0x300000,
+          0xd88021a3,
+          0x80000,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xd0005000,
-          0x1,
-          0xff7ffce0,
+          0x800000,
+          0x400000,
+          0x400,
+          0x4000,
+          0x7,
           0x0,
-          0x1,
+          0x300000,
+          0xd88021a3,
+          0x80000,
           0x0,
-          0xff7ffce0,
+          0x800000,
+          0x400000,
+          0x400,
+          0x4000,
           0x0,
           0x0,
           0x1,
-          0xff7ffce0,
+          0x4,
           0x0,
           0x0,
+          0x7,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xd8802183,
+          0x80000,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0x1,
           0x0,
+          0x80000,
           0x0,
+          0x7,
+          0x1000,
           0x0,
+          0xd8802183,
           0x0,
+          0x1,
+          0x2000000,
+          0x1000000,
+          0x1000,
           0x0,
+          0xd8802d83,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0x10000,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
+          0xd88021a3,
           0x0,
+          0x10000,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
-          0x21440000,
+          0xd88021a3,
           0x0,
+          0xd88021a3,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x20,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
+          0x20,
           0x0,
           0x0,
+          0xd88021a3,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
@@ -39151,65 +39451,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xd8802183,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0x10,
+          0x8,
+          0xd88021a3,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
+          0xd8802183,
+          0x28000,
+          0x28000,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
-          0xff7ffce0,
+          0xd8802183,
+          0x28000,
+          0x28000,
           0x0,
-          0xff7ffce0,
+          0xd8802183,
           0x0,
           0x0,
+          0xd8802183,
+          0x28000,
+          0x28000,
           0x0,
           0x0,
-          0xff7ffce0,
+          0xd8802183,
+          0x28000,
+          0x28000,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_3() {
-    jj_la1_3 =
-        new int[] {
+          0xd8802183,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
+          0x2800,
           0x0,
-          0x100,
+          0x80000,
+          0x80000,
           0x0,
-          0xffffffff,
+          0xd88021a3,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0x1840000,
-          0x400000,
           0x0,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
@@ -39217,35 +39526,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x10000000,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
+          0x10000,
+          0xd8802183,
           0x0,
           0x0,
+          0x10000,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
-          0x10000000,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
@@ -39256,68 +39573,109 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xd88021a3,
           0x0,
           0x0,
+          0xd88021a3,
           0x0,
+          0xd88021a3,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0xd8802183,
+          0xd88021a3,
+          0xd88021a3,
+          0xd8802183,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
+          0x200,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
+          0x200,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
-          0xffffffff,
           0x0,
+          0xd8802183,
+          0xd8802183,
+          0xd8802183,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
-          0x10000000,
+          0xd8802183,
+          0xd8802183,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x10000000,
           0x0,
+          0xd8802183,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0x2,
+          0x2,
+          0x2,
+          0x2,
           0x0,
+          0x4080000,
           0x0,
+          0x8,
           0x0,
           0x0,
           0x0,
+          0x2000000,
+          0xd88021a3,
+          0xdc8821a3,
           0x0,
           0x0,
+          0x18028404,
           0x0,
+          0x18028404,
+          0x58028404,
           0x0,
+          0x58028404,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -39330,57 +39688,80 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xdc8821a3,
           0x0,
+          0xdc8821a3,
           0x0,
+          0xd8802183,
           0x0,
+          0x300000,
           0x0,
+          0x300000,
           0x0,
+          0x300000,
           0x0,
+          0x300000,
+          0x300000,
           0x0,
+          0x300000,
+          0x2,
+          0x2,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0xd8802183,
+          0xd8802183,
           0x0,
+          0xd8802183,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xd8802183,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_2() {
+    jj_la1_2 =
+        new int[] {
           0x0,
           0x0,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
+          0x1000000,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
+          0x100,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
+          0x100,
           0x0,
           0x0,
           0x0,
@@ -39389,53 +39770,45 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2,
           0x0,
-          0xffffffff,
           0x0,
+          0xff7ffce0,
+          0x200,
           0x0,
-          0xffffffff,
           0x0,
+          0x18,
+          0x4,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
+          0x1,
           0x0,
           0x0,
-          0x2000,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -39443,63 +39816,52 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x1,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -39510,102 +39872,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x800,
-          0xffffffff,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
-          0xff,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0x400,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
-          0x2000,
           0x0,
-          0xffffffff,
           0x0,
+          0xff7ffce0,
           0x0,
-          0x2000,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0x800,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0x800,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
-          0xffffffff,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
-          0x10000,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
-          0x200000,
-          0x1e000000,
-          0x1e000000,
-          0x1e000000,
           0x0,
-          0x40000000,
           0x0,
-          0x80000000,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
-          0x1c48100,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xffffffff,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
@@ -39613,177 +39936,217 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xe0,
           0x0,
           0x0,
+          0xe0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
           0x0,
-          0x6000000,
           0x0,
-          0x6000000,
           0x0,
-          0x6000000,
+          0xff7ffce0,
           0x0,
-          0x6000000,
-          0x6000000,
           0x0,
-          0x6000000,
           0x0,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
-          0xffffffff,
           0x0,
-          0xffffffff,
-          0xffffffff,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_4() {
-    jj_la1_4 =
-        new int[] {
           0x0,
+          0xff7ffce0,
           0x0,
-          0xffffffff,
-          0x1000010,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
+          0x20000,
+          0x20000,
           0x0,
-          0x2000000,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
-          0x61e,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x3000,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
+          0x2a00,
+          0xff7ffce0,
           0x0,
           0x0,
+          0x2a00,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
-          0x3000,
           0x0,
+          0x300000,
+          0x800000,
+          0x1,
+          0xff7ffce0,
+          0x1,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0x4000000,
           0x0,
           0x0,
+          0x8000000,
+          0x10000000,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
+          0xff7ffce0,
+          0xff7ffce0,
+          0xd0005000,
+          0x1,
+          0xff7ffce0,
           0x0,
+          0x1,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
+          0x1,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
-          0xfefbffff,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
-          0xfefbffff,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
-          0x3000,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
-          0x20000,
-          0xfeffffff,
           0x0,
           0x0,
-          0x3000,
           0x0,
           0x0,
           0x0,
+          0x21440000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
@@ -39799,109 +40162,114 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0x40000,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
+          0xff7ffce0,
           0x0,
+          0xff7ffce0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
+          0xff7ffce0,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_3() {
+    jj_la1_3 =
+        new int[] {
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0xfeffffff,
+          0xffffffff,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
+          0x100,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0x8000,
+          0x1840000,
+          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfeffffff,
           0x0,
-          0xfeffffff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
@@ -39911,131 +40279,86 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xfeffffff,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xc010000,
-          0xfefbffff,
           0x0,
+          0x10000000,
           0x0,
-          0xc010000,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0xffffffff,
           0x0,
           0x0,
-          0xfefbffff,
+          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0x10,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x10,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0x10,
           0x0,
-          0x10,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
-          0x10,
           0x0,
-          0x10,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xfefbffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0xfefbffff,
-          0x10,
-          0x800,
-          0x10,
           0x0,
+          0xffffffff,
           0x0,
-          0xfefbffff,
-          0x10,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
           0x0,
           0x0,
@@ -40043,42 +40366,21 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0x1,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
-          0xfefbffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
-          0x100,
-          0x208061e,
-          0xc0,
+          0xffffffff,
           0x0,
-          0xc0,
-          0xc0,
-          0x20,
           0x0,
-          0xfeffffff,
-          0xffffffff,
-          0x1000010,
-          0x10,
-          0x8000,
           0x0,
-          0x8000,
-          0x8000,
           0x0,
-          0x8000,
-          0x10,
           0x0,
           0x0,
           0x0,
@@ -40086,12 +40388,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xffffffff,
-          0x1000010,
-          0xffffffff,
-          0x1000010,
-          0xfefbffff,
-          0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -40101,59 +40399,53 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
+          0xffffffff,
           0x0,
-          0xfefbffff,
-          0xfefbffff,
-          0x20000000,
-          0xfefbffff,
-          0x10,
           0x0,
-          0x80000000,
           0x0,
-          0xfefbffff,
-          0x10,
-        };
-  }
-
-  private static void jj_la1_init_5() {
-    jj_la1_5 =
-        new int[] {
-          0x180,
           0x0,
-          0xcc22017f,
           0x0,
-          0x8000100,
-          0x1f,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
-          0xcc22017f,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x2000,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x2000,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x2000,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x2000,
+          0xffffffff,
           0x0,
-          0xcc22017f,
           0x0,
           0x0,
           0x0,
@@ -40163,14 +40455,19 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
-          0x7f,
           0x0,
           0x0,
           0x0,
@@ -40181,90 +40478,143 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0x20000,
-          0x20000,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
+          0x800,
+          0xffffffff,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xcc22017f,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
+          0xff,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
+          0xffffffff,
           0x0,
+          0x400,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x2000,
           0x0,
+          0xffffffff,
           0x0,
           0x0,
+          0x2000,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0x800,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0x800,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
+          0x10000,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
+          0x200000,
+          0x1e000000,
+          0x1e000000,
+          0x1e000000,
           0x0,
+          0x40000000,
           0x0,
+          0x80000000,
           0x0,
-          0x1f,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x1c48100,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -40272,14 +40622,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
@@ -40288,108 +40636,102 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xffffffff,
           0x0,
-          0xcc22017f,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
+          0x6000000,
           0x0,
+          0x6000000,
           0x0,
-          0x30020000,
-          0x1f,
+          0x6000000,
           0x0,
-          0xcc22017f,
+          0x6000000,
+          0x6000000,
           0x0,
-          0xcc22017f,
-          0x20,
+          0x6000000,
           0x0,
           0x0,
+          0xffffffff,
+          0xffffffff,
           0x0,
-          0xc0000000,
+          0xffffffff,
+          0xffffffff,
           0x0,
+          0xffffffff,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0xcc22017f,
-          0xc000100,
-          0xc22017f,
           0x0,
+          0xffffffff,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_4() {
+    jj_la1_4 =
+        new int[] {
           0x0,
           0x0,
+          0xffffffff,
+          0x1000010,
           0x0,
+          0xfefbffff,
           0x0,
-          0x20000,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0xfeffffff,
           0x0,
-          0x1f,
           0x0,
+          0x2000000,
           0x0,
+          0x61e,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
-          0xc0000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xc00011f,
           0x0,
-          0xc22017f,
           0x0,
-          0xc22017f,
-          0xc000100,
+          0x3000,
           0x0,
-          0x2005f,
           0x0,
           0x0,
+          0xfeffffff,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
-          0x2005f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2005f,
+          0x3000,
           0x0,
           0x0,
           0x0,
-          0x2005f,
           0x0,
+          0xfeffffff,
           0x0,
-          0x20000,
-          0x20000,
-          0x20000,
           0x0,
-          0x20000,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
-          0x1f,
-          0x20000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
-          0xc00015f,
           0x0,
-          0xc00015f,
-          0xc00015f,
           0x0,
           0x0,
           0x0,
@@ -40400,127 +40742,80 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1,
-          0x2001f,
           0x0,
-          0xc0000000,
-          0x1,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
-          0x2001f,
           0x0,
           0x0,
-          0x20000,
-          0x20000,
-          0x20000,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0xfeffffff,
           0x0,
-          0x1f,
           0x0,
-          0x1f,
-          0xc0000000,
-          0x2001f,
-          0x2001f,
-          0xc0000000,
-          0x800011f,
-          0x1f,
-          0x1f,
-          0x2001f,
-          0x8,
+          0x3000,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
+          0x20000,
+          0xfeffffff,
           0x0,
           0x0,
-          0x1f,
+          0x3000,
           0x0,
           0x0,
           0x0,
-          0x5f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x5f,
           0x0,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
           0x0,
-          0x1f,
-          0x1f,
-          0x1f,
-          0x1f,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x2001f,
           0x0,
-          0x1f,
           0x0,
-          0x5f,
-          0x5f,
           0x0,
           0x0,
-          0x4,
-          0x4,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
-          0x1f,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
           0x0,
           0x0,
@@ -40528,34 +40823,34 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
-          0xcc22017f,
+          0xfefbffff,
           0x0,
           0x0,
+          0x40000,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
-          0xc0000000,
           0x0,
           0x0,
           0x0,
+          0xfeffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xcc22017f,
+          0xfeffffff,
           0x0,
-          0xcc22017f,
+          0xfeffffff,
           0x0,
-          0x1f,
+          0xfeffffff,
           0x0,
           0x0,
           0x0,
@@ -40566,94 +40861,86 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0xfeffffff,
           0x0,
+          0xfeffffff,
           0x0,
           0x0,
-          0x1f,
-          0x800011f,
           0x0,
-          0x1f,
-          0x1f,
           0x0,
-          0x1f,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x1f,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_6() {
-    jj_la1_6 =
-        new int[] {
+          0xfefbffff,
           0x0,
-          0x4,
-          0x600c0055,
-          0x40,
           0x0,
+          0xfefbffff,
           0x0,
-          0x20000000,
-          0x20000000,
           0x0,
-          0x40,
-          0x600c0015,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfeffffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
+          0xfeffffff,
           0x0,
+          0xfeffffff,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
-          0x600d0015,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x40000010,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x4,
-          0x80000,
-          0x80000,
+          0xfeffffff,
+          0xfefbffff,
           0x0,
-          0x80,
-          0x80000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
@@ -40664,273 +40951,279 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x20000004,
-          0x20000014,
+          0xc010000,
+          0xfefbffff,
           0x0,
           0x0,
+          0xc010000,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x600d0015,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
           0x0,
+          0x10,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x600d0015,
           0x0,
+          0x10,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
           0x0,
-          0x80,
-          0x80,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
-          0x80,
-          0x80,
           0x0,
-          0x110,
-          0x1000,
-          0x110,
-          0x1000,
+          0xfefbffff,
+          0x10,
           0x0,
+          0x10,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
+          0x10,
           0x0,
+          0x10,
+          0xfefbffff,
           0x0,
           0x0,
-          0x1,
           0x0,
-          0x80,
-          0x80,
-          0x80,
-          0x80,
-          0x80,
-          0xc0004,
-          0x80,
-          0xc0004,
           0x0,
+          0xfefbffff,
           0x0,
           0x0,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
+          0xfefbffff,
+          0xfefbffff,
+          0x10,
+          0x800,
+          0x10,
           0x0,
-          0x1,
           0x0,
+          0xfefbffff,
+          0x10,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
-          0x80,
           0x0,
-          0x10000,
-          0x80000,
           0x0,
-          0x80,
-          0x10000,
-          0x40000000,
-          0x600d0015,
-          0x80000,
           0x0,
-          0x80,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
-          0x600c0015,
-          0x80,
-          0x600c0015,
           0x0,
-          0x40000000,
-          0x10,
-          0x100,
+          0x1,
+          0xfefbffff,
           0x0,
-          0x4,
-          0x1000000,
+          0xfefbffff,
+          0xfefbffff,
+          0x20000000,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
-          0x4,
-          0xf0000000,
-          0x600c0015,
+          0xfefbffff,
+          0xfefbffff,
+          0x20000000,
           0x0,
-          0x600c0010,
-          0x80,
-          0x1,
-          0x80,
-          0xc0000,
-          0x80080,
-          0x80080,
-          0x20000004,
-          0x10,
-          0xc0001,
           0x0,
           0x0,
-          0x80,
           0x0,
+          0x100,
+          0x208061e,
+          0xc0,
           0x0,
-          0x20000100,
-          0x20000100,
+          0xc0,
+          0xc0,
+          0x20,
           0x0,
+          0xfeffffff,
+          0xffffffff,
+          0x1000010,
+          0x10,
+          0x8000,
           0x0,
+          0x8000,
+          0x8000,
           0x0,
+          0x8000,
+          0x10,
           0x0,
-          0x600c0015,
           0x0,
-          0x2f0f000,
-          0x3000,
           0x0,
-          0x2f0f000,
           0x0,
           0x0,
-          0x600c0011,
+          0x10,
           0x0,
-          0x600c0011,
-          0xc0000,
-          0x110,
-          0x20000004,
           0x0,
           0x0,
           0x0,
-          0x110,
-          0x20000004,
           0x0,
           0x0,
+          0xffffffff,
+          0x1000010,
+          0xffffffff,
+          0x1000010,
+          0xfefbffff,
           0x0,
-          0x20000005,
-          0x80,
-          0x110,
-          0x20000004,
           0x0,
           0x0,
           0x0,
-          0x110,
-          0x20000004,
           0x0,
           0x0,
           0x0,
-          0x20000005,
-          0x80,
-          0x80,
-          0x200c0000,
-          0x200c0000,
-          0x200c0000,
           0x0,
-          0x200c0000,
           0x0,
           0x0,
-          0x80,
-          0x600c0015,
-          0x40000010,
-          0x60000000,
-          0x10,
-          0x40000000,
-          0x100,
-          0x40000000,
-          0x40000010,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x28004100,
-          0x4000,
-          0x100,
-          0x4,
-          0x4,
-          0x4,
-          0x4,
-          0x28004000,
-          0x4,
-          0x80,
+          0xfefbffff,
+          0xfefbffff,
           0x0,
+          0xfefbffff,
+          0xfefbffff,
           0x20000000,
+          0xfefbffff,
+          0x10,
           0x0,
+          0x80000000,
           0x0,
+          0xfefbffff,
+          0x10,
+        };
+  }
+
+  private static void jj_la1_init_5() {
+    jj_la1_5 =
+        new int[] {
+          0x6000, 0x0, 0x8805fff, 0x0, 0x4000, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x8805fff, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x8805fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x1fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x800000, 0x800000, 0x0,
+          0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x8805fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8805fff, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x8805fff, 0x0, 0x0, 0x0, 0x0, 0x800000, 0x7ff, 0x0, 0x8805fff, 0x0,
+          0x8805fff, 0x800, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8805fff, 0x4000,
+          0x8805fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x800000, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x7ff, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8805fff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x47ff, 0x0, 0x8805fff,
+          0x0, 0x8805fff, 0x4000, 0x0, 0x8017ff, 0x0, 0x0, 0x0, 0x0, 0x8017ff, 0x0, 0x0, 0x0,
+          0x8017ff, 0x0, 0x0, 0x8017ff, 0x0, 0x0, 0x0, 0x0, 0x8017ff, 0x0, 0x0, 0x0, 0x8017ff, 0x0,
+          0x0, 0x800000, 0x800000, 0x800000, 0x0, 0x800000, 0x0, 0x0, 0x0, 0x8805fff, 0x7ff,
+          0x800000, 0x0, 0x0, 0x0, 0x0, 0x7ff, 0x57ff, 0x0, 0x57ff, 0x57ff, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x1, 0x8007ff, 0x0, 0x0, 0x1, 0x7ff, 0x0, 0x7ff, 0x0, 0x7ff, 0x0,
+          0x7ff, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8007ff, 0x0, 0x0,
+          0x800000, 0x800000, 0x40, 0x80, 0x800000, 0x7ff, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x7ff, 0x0, 0x7ff, 0x0, 0x8007ff, 0x8007ff, 0x0,
+          0x47ff, 0x7ff, 0x7ff, 0x8007ff, 0x8, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x7ff, 0x0, 0x0, 0x0,
+          0x7ff, 0x0, 0x0, 0x0, 0x17ff, 0x0, 0x0, 0x0, 0x0, 0x17ff, 0x0, 0x0, 0x0, 0x7ff, 0x7ff,
+          0x0, 0x0, 0x7ff, 0x7ff, 0x0, 0x0, 0x7ff, 0x7ff, 0x7ff, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x8007ff, 0x0, 0x7ff, 0x0, 0x17ff, 0x17ff, 0x0, 0x0, 0x4, 0x4, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x47ff, 0x0, 0x7ff, 0x7ff, 0x0, 0x7ff, 0x47ff, 0x0, 0x7ff, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x20, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x8805fff, 0x8805fff, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x400, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x8805fff, 0x0, 0x8805fff, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x7ff, 0x47ff, 0x0, 0x7ff, 0x7ff, 0x0, 0x7ff, 0x0, 0x0, 0x0, 0x0, 0x7ff,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_6() {
+    jj_la1_6 =
+        new int[] {
           0x0,
-          0x28000000,
-          0x0,
-          0x28000000,
+          0x100,
+          0x3001573,
+          0x1000,
+          0x2,
           0x0,
-          0x28000000,
           0x0,
-          0x28000000,
-          0x4,
           0x0,
-          0x28000000,
-          0x4,
           0x0,
-          0x28000000,
-          0x4,
+          0x1000,
+          0x3000573,
           0x0,
           0x0,
           0x0,
-          0x20000000,
           0x0,
-          0x80,
-          0x20000004,
-          0x20000014,
-          0x20000005,
           0x0,
-          0x80,
           0x0,
-          0x10,
           0x0,
-          0x80,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x30000000,
-          0x30000000,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x20000000,
-          0x20000000,
           0x0,
           0x0,
           0x0,
+          0x3400573,
           0x0,
-          0x20000000,
           0x0,
           0x0,
-          0xc0000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
-          0x1,
           0x0,
           0x0,
           0x0,
@@ -40939,54 +41232,49 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2000,
+          0x400,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000,
+          0x100,
+          0x2000000,
+          0x2000000,
           0x0,
+          0x2000,
+          0x2000000,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
-          0x40000000,
-          0x40000000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x40000000,
-          0x20000000,
           0x0,
           0x0,
-          0x20000000,
           0x0,
           0x0,
+          0x2000,
+          0x100,
+          0x500,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
           0x0,
-          0xc0000,
-          0x80,
           0x0,
-          0x10,
           0x0,
-          0xc0000,
-          0xc0000,
-          0x80,
           0x0,
-          0x10,
           0x0,
           0x0,
           0x0,
@@ -40995,121 +41283,191 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x3400573,
           0x0,
           0x0,
-          0x4,
           0x0,
           0x0,
-          0x600c0015,
-          0x600c0055,
-          0x40,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x3400573,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000,
+          0x2000,
           0x0,
           0x0,
+          0x2000,
+          0x2000,
           0x0,
-          0x600c0055,
-          0x40,
-          0x600c0055,
-          0x40,
-          0x40000000,
-          0x100,
+          0x4400,
+          0x40000,
+          0x4400,
+          0x40000,
           0x0,
-          0x80,
           0x0,
           0x0,
           0x0,
-          0x80,
           0x0,
           0x0,
-          0x80,
           0x0,
+          0x40,
           0x0,
+          0x2000,
+          0x2000,
+          0x2000,
+          0x2000,
+          0x2000,
+          0x3000100,
+          0x2000,
+          0x3000100,
           0x0,
-          0xc0000,
-          0xc0000,
-          0x80,
           0x0,
-          0x10,
           0x0,
-          0xc0000,
           0x0,
-          0x80,
           0x0,
-          0x4,
-          0xc0000,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_7() {
-    jj_la1_7 =
-        new int[] {
           0x0,
           0x0,
-          0x400000,
           0x0,
+          0x40,
           0x0,
-          0x400000,
           0x0,
           0x0,
+          0x3000000,
           0x0,
+          0x2000,
+          0x2000,
           0x0,
           0x400000,
+          0x2000000,
           0x0,
+          0x2000,
+          0x400000,
           0x0,
+          0x3400573,
+          0x2000000,
           0x0,
+          0x2000,
           0x0,
+          0x300000c,
           0x0,
+          0x2000,
+          0x3000573,
+          0x2000,
+          0x3000573,
           0x0,
           0x0,
+          0x400,
+          0x4000,
+          0x30,
+          0x100,
+          0x40000000,
+          0x30,
+          0x100,
           0x0,
+          0x3000573,
+          0x3,
+          0x3000403,
+          0x2000,
+          0x40,
+          0x2000,
+          0x3000000,
+          0x2002000,
+          0x2002000,
+          0x100,
+          0x400,
+          0x3000040,
           0x0,
           0x0,
+          0x2000,
           0x0,
           0x0,
+          0x4000,
+          0x4000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x3000573,
+          0x30,
+          0xbc3c0000,
+          0xc0000,
           0x0,
+          0xbc3c0000,
+          0x3,
           0x0,
+          0x3000443,
           0x0,
-          0x0,
-          0x400000,
+          0x3000443,
+          0x3000003,
+          0x4400,
+          0x100,
           0x0,
           0x0,
           0x0,
+          0x4400,
+          0x100,
           0x0,
           0x0,
           0x0,
+          0x140,
+          0x2000,
+          0x4400,
+          0x100,
           0x0,
           0x0,
           0x0,
+          0x4400,
+          0x100,
           0x0,
           0x0,
           0x0,
+          0x140,
+          0x2000,
+          0x2000,
+          0x3000000,
+          0x3000000,
+          0x3000000,
           0x0,
+          0x3000000,
           0x0,
           0x0,
+          0x2000,
+          0x3000573,
+          0x400,
           0x0,
-          0x400000,
+          0x400,
           0x0,
+          0x4000,
           0x0,
+          0x400,
+          0x3,
+          0x2000,
+          0x3,
+          0x3,
+          0x104000,
+          0x100000,
+          0x4000,
+          0x100,
+          0x100,
+          0x100,
+          0x100,
+          0x100000,
+          0x100,
+          0x2000,
           0x0,
           0x0,
           0x0,
+          0x30,
           0x0,
-          0x200000,
           0x0,
           0x0,
           0x0,
@@ -41118,23 +41476,33 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x100,
           0x0,
           0x0,
+          0x100,
           0x0,
           0x0,
+          0x100,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000,
+          0x100,
+          0x500,
           0x0,
           0x0,
+          0x140,
           0x0,
+          0x2000,
           0x0,
+          0x400,
           0x0,
+          0x2000,
           0x0,
+          0x2000,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41143,45 +41511,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2000,
           0x0,
+          0x30,
           0x0,
-          0x400000,
           0x0,
+          0x30,
+          0x2,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x3000000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000,
+          0x40,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x2000,
           0x0,
           0x0,
           0x0,
+          0x2000,
           0x0,
-          0x3c0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41198,40 +41571,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x2000,
           0x0,
+          0x30,
           0x0,
           0x0,
+          0x3000002,
+          0x2000,
           0x0,
+          0x400,
           0x0,
+          0x3000000,
+          0x3000002,
+          0x2000,
           0x0,
-          0x400000,
+          0x400,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x100,
           0x0,
           0x0,
+          0x3000573,
+          0x3001573,
+          0x1000,
           0x0,
           0x0,
+          0x30,
           0x0,
-          0x400000,
           0x0,
+          0x30,
           0x0,
           0x0,
-          0x180000,
+          0x2000,
           0x0,
-          0x400000,
+          0x2000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41239,67 +41622,77 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x3001573,
+          0x1000,
+          0x3001573,
+          0x1000,
           0x0,
+          0x4000,
           0x0,
-          0x6003f,
-          0x400000,
+          0x2000,
           0x0,
-          0x400000,
           0x0,
           0x0,
+          0x2000,
           0x0,
           0x0,
+          0x2000,
           0x0,
           0x0,
           0x0,
+          0x3000000,
+          0x3000002,
+          0x2000,
           0x0,
+          0x400,
           0x0,
-          0x400000,
+          0x3000000,
           0x0,
+          0x2000,
           0x0,
-          0x400000,
+          0x100,
+          0x3000000,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_7() {
+    jj_la1_7 =
+        new int[] {
           0x0,
           0x0,
+          0x10000018,
           0x0,
           0x0,
+          0x10000000,
+          0x8,
+          0x8,
           0x0,
           0x0,
-          0x600000,
+          0x10000018,
           0x0,
-          0x20800000,
           0x0,
-          0x200000,
-          0x20e00000,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
+          0x10000018,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41310,22 +41703,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10000010,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x8000000,
           0x0,
           0x0,
           0x0,
@@ -41333,107 +41722,79 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x8,
+          0x8,
           0x0,
-          0x400000,
+          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
+          0x10000018,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
+          0x10000018,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
+          0xf000,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
+          0x10000000,
           0x0,
-          0x400000,
-          0x400000,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
@@ -41443,138 +41804,173 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
           0x0,
           0x0,
+          0x10,
+          0x10000018,
           0x0,
           0x0,
           0x0,
+          0x6000000,
           0x0,
+          0x10000000,
           0x0,
+          0x10000018,
           0x0,
+          0x10000018,
           0x0,
+          0x10,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
-          0x7cc00000,
+          0x1800ffc,
+          0x10000018,
           0x0,
+          0x10000018,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x8,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
+          0x10000000,
           0x0,
+          0x8,
+          0x8,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
+          0x18000018,
           0x0,
+          0x20000000,
           0x0,
+          0x8000000,
+          0x38000000,
+          0x10000000,
           0x0,
-          0x400000,
+          0x10000018,
           0x0,
-        };
-  }
-
-  private static void jj_la1_init_8() {
-    jj_la1_8 =
-        new int[] {
+          0x10000018,
           0x0,
           0x0,
-          0x8032,
+          0x10000008,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
+          0x10000008,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10000008,
           0x0,
           0x0,
+          0x10000008,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10000008,
           0x0,
           0x0,
           0x0,
+          0x10000008,
           0x0,
           0x0,
+          0x8,
+          0x8,
+          0x8,
           0x0,
+          0x8,
           0x0,
           0x0,
           0x0,
+          0x10000018,
+          0x10000010,
+          0x18,
           0x0,
+          0x10,
           0x0,
+          0x10,
+          0x10000010,
+          0x10000000,
           0x0,
+          0x10000000,
+          0x10000000,
+          0xa,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xa,
           0x0,
           0x0,
           0x0,
+          0x10000008,
           0x0,
           0x0,
           0x0,
+          0x10000000,
+          0xa,
+          0x10000000,
+          0xa,
+          0x10000000,
+          0xa,
+          0x10000000,
+          0xa,
           0x0,
+          0x10000000,
+          0xa,
           0x0,
+          0x10000000,
+          0xa,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
+          0x10000008,
           0x0,
           0x0,
+          0x8,
+          0x8,
           0x0,
           0x0,
+          0x8,
+          0x10000000,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
@@ -41585,41 +41981,66 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x10000000,
+          0xc,
+          0xc,
+          0x10000000,
           0x0,
+          0x10000000,
           0x0,
+          0x10000008,
+          0x10000008,
           0x0,
+          0x10000000,
+          0x10000000,
+          0x10000000,
+          0x10000008,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
-          0x8000,
-          0x8000,
           0x0,
-          0x32,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x10000000,
           0x0,
           0x0,
           0x0,
+          0x10000000,
+          0x10000000,
           0x0,
           0x0,
-          0x32,
+          0x10000000,
+          0x10000000,
           0x0,
           0x0,
+          0x10000000,
+          0x10000000,
+          0x10000010,
+          0x10000010,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x10,
+          0x10000008,
           0x0,
+          0x10000000,
+          0x8,
+          0x10000000,
+          0x10000000,
           0x0,
           0x0,
           0x0,
@@ -41628,11 +42049,17 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
+          0x10000000,
           0x0,
+          0x10000000,
+          0x10000000,
           0x0,
+          0x10000000,
+          0x10000000,
           0x0,
+          0x10000000,
+          0x10000000,
           0x0,
           0x0,
           0x0,
@@ -41646,8 +42073,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8,
-          0xc32,
+          0x10000018,
+          0x10000018,
           0x0,
           0x0,
           0x0,
@@ -41664,20 +42091,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8,
           0x0,
-          0xc00,
           0x0,
           0x0,
-          0x8,
-          0x32,
           0x0,
           0x0,
+          0x10000018,
           0x0,
+          0x10000018,
           0x0,
+          0x30000010,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
@@ -41687,85 +42112,77 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
+          0x10000000,
+          0x10000000,
           0x0,
+          0x10000000,
+          0x10000000,
           0x0,
+          0x10000000,
           0x0,
-          0x32,
           0x0,
-          0x8032,
           0x0,
-          0x8032,
           0x0,
+          0x10000000,
           0x0,
+        };
+  }
+
+  private static void jj_la1_init_8() {
+    jj_la1_8 =
+        new int[] {
           0x0,
           0x0,
+          0x200c80,
           0x0,
           0x0,
+          0xc80,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
+          0x200c80,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8000,
-          0xc08,
-          0x1000,
-          0x32,
-          0xc00,
           0x0,
-          0x32,
-          0x10000,
           0x0,
           0x0,
-          0x380,
-          0x3c0,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
-          0x32,
           0x0,
-          0x32,
           0x0,
+          0x200c80,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
+          0xc80,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x0,
@@ -41776,18 +42193,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
-          0x32,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x32,
           0x0,
-          0x32,
-          0x32,
           0x0,
           0x0,
           0x0,
@@ -41798,132 +42209,176 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xc08,
-          0x32,
-          0xc00,
           0x0,
-          0xc08,
-          0x32,
+          0x200000,
+          0x200000,
           0x0,
-          0x32,
+          0xc80,
           0x0,
-          0x32,
           0x0,
-          0x32,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xc80,
           0x0,
-          0x32,
           0x0,
           0x0,
-          0x8000,
-          0x8000,
-          0x8000,
-          0xc32,
           0x0,
-          0xc32,
           0x0,
           0x0,
+          0x200c80,
           0x0,
           0x0,
           0x0,
-          0x8,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
-          0x32,
+          0x200c80,
           0x0,
-          0x32,
           0x0,
-          0x32,
-          0x32,
           0x0,
-          0x20032,
-          0x32,
-          0x32,
-          0x32,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x2,
           0x0,
           0x0,
           0x0,
-          0x32,
-          0x2,
+          0x200,
+          0x30c80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x200,
+          0x0,
+          0x30000,
+          0x0,
+          0x0,
+          0x200,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x200c80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x200c80,
+          0x0,
+          0x200c80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x200c80,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
           0x0,
           0x0,
-          0x32,
-          0x32,
           0x0,
           0x0,
-          0x32,
-          0x32,
+          0x200000,
+          0x30200,
+          0x40000,
+          0xc80,
+          0x30000,
+          0x0,
+          0xc80,
+          0x400000,
+          0x0,
           0x0,
+          0xe000,
+          0xf000,
           0x0,
-          0x32,
-          0x32,
-          0x10032,
-          0x10032,
+          0x0,
+          0x200c80,
           0x0,
           0x8,
           0x0,
           0x0,
+          0x8,
+          0xc80,
           0x0,
-          0x32,
+          0xc80,
           0x0,
-          0x32,
+          0xc80,
           0x0,
-          0x32,
-          0x32,
           0x0,
+          0x200c80,
           0x0,
           0x0,
           0x0,
           0x0,
+          0x200c80,
           0x0,
           0x0,
           0x0,
+          0x200c80,
           0x0,
-          0x32,
           0x0,
-          0x32,
-          0x32,
+          0x200c80,
           0x0,
-          0x32,
-          0x32,
           0x0,
-          0x32,
-          0x32,
           0x0,
           0x0,
+          0x200c80,
           0x0,
           0x0,
           0x0,
+          0x200c80,
           0x0,
           0x0,
           0x0,
@@ -41932,28 +42387,23 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x8032,
-          0x8032,
           0x0,
           0x0,
+          0x200c80,
+          0xc80,
           0x0,
           0x0,
           0x0,
           0x0,
           0x0,
+          0xc80,
+          0xc80,
           0x0,
+          0xc80,
+          0xc80,
           0x0,
-          0x1fc0000,
-          0x1fc0000,
-          0x6000000,
-          0x6000000,
-          0x18000000,
-          0x18000000,
-          0x8032,
           0x0,
-          0x8032,
           0x0,
-          0x3a,
           0x0,
           0x0,
           0x0,
@@ -41961,29 +42411,232 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x30200,
+          0xc80,
+          0x30000,
+          0x0,
+          0x30200,
+          0xc80,
+          0x0,
+          0xc80,
+          0x0,
+          0xc80,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0x200000,
+          0x200000,
+          0x0,
+          0x0,
+          0x200000,
+          0x30c80,
+          0x0,
+          0x30c80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x200,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0xc80,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0x800c80,
+          0xc80,
+          0xc80,
+          0xc80,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
           0x0,
           0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x80,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x80,
+          0x0,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0x0,
+          0xc80,
+          0xc80,
+          0x400c80,
+          0x400c80,
+          0x0,
+          0x200,
+          0x0,
           0x0,
           0x0,
+          0xc80,
           0x0,
+          0xc80,
           0x0,
-          0x32,
-          0x32,
+          0xc80,
+          0xc80,
           0x0,
-          0x32,
-          0x32,
           0x0,
-          0x32,
           0x0,
           0x0,
           0x0,
           0x0,
-          0x32,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x200c80,
+          0x200c80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x7f000000,
+          0x7f000000,
+          0x80000000,
+          0x80000000,
+          0x0,
+          0x0,
+          0x200c80,
+          0x0,
+          0x200c80,
+          0x0,
+          0xe9f,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0xc80,
+          0xc80,
+          0x0,
+          0xc80,
+          0x0,
+          0x0,
+          0x0,
+          0x0,
+          0xc80,
           0x0,
         };
   }
 
-  private final JJCalls[] jj_2_rtns = new JJCalls[168];
+  private static void jj_la1_init_9() {
+    jj_la1_9 =
+        new int[] {
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x1, 0x1, 0x6, 0x6, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+          0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+        };
+  }
+
+  private final JJCalls[] jj_2_rtns = new JJCalls[171];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -41993,7 +42646,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 468; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -42004,7 +42657,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 468; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -42014,7 +42667,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 468; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -42025,7 +42678,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 468; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -42142,12 +42795,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[285];
+    boolean[] la1tokens = new boolean[291];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 460; i++) {
+    for (int i = 0; i < 468; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1 << j)) != 0) {
@@ -42177,10 +42830,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           if ((jj_la1_8[i] & (1 << j)) != 0) {
             la1tokens[256 + j] = true;
           }
+          if ((jj_la1_9[i] & (1 << j)) != 0) {
+            la1tokens[288 + j] = true;
+          }
         }
       }
     }
-    for (int i = 0; i < 285; i++) {
+    for (int i = 0; i < 291; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -42205,7 +42861,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 168; i++) {
+    for (int i = 0; i < 171; i++) {
       try {
         JJCalls p = jj_2_rtns[i];
         do {
@@ -42717,6 +43373,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case 167:
                 jj_3_168();
                 break;
+              case 168:
+                jj_3_169();
+                break;
+              case 169:
+                jj_3_170();
+                break;
+              case 170:
+                jj_3_171();
+                break;
             }
           }
           p = p.next;
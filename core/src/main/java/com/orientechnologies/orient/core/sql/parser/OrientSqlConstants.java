@@ -476,322 +476,340 @@ public interface OrientSqlConstants {
   int SYSTEM = 164;
 
   /** RegularExpression Id. */
-  int THIS = 165;
+  int ANALYZE = 165;
 
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 166;
+  int SAMPLE = 166;
 
   /** RegularExpression Id. */
-  int RID_ATTR = 167;
+  int FULL = 167;
 
   /** RegularExpression Id. */
-  int RID_STRING = 168;
+  int GRAPH = 168;
 
   /** RegularExpression Id. */
-  int CLASS_ATTR = 169;
+  int SNAPSHOT = 169;
 
   /** RegularExpression Id. */
-  int VERSION_ATTR = 170;
+  int WEIGHT = 170;
 
   /** RegularExpression Id. */
-  int SIZE_ATTR = 171;
+  int THIS = 171;
 
   /** RegularExpression Id. */
-  int TYPE_ATTR = 172;
+  int RECORD_ATTRIBUTE = 172;
 
   /** RegularExpression Id. */
-  int RAW_ATTR = 173;
+  int RID_ATTR = 173;
 
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 174;
+  int RID_STRING = 174;
 
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 175;
+  int CLASS_ATTR = 175;
 
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 176;
+  int VERSION_ATTR = 176;
 
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 177;
+  int SIZE_ATTR = 177;
 
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 178;
+  int TYPE_ATTR = 178;
 
   /** RegularExpression Id. */
-  int HEX_LITERAL = 179;
+  int RAW_ATTR = 179;
 
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 180;
+  int RID_ID_ATTR = 180;
 
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 181;
+  int RID_POS_ATTR = 181;
 
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 182;
+  int FIELDS_ATTR = 182;
 
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 183;
+  int INTEGER_LITERAL = 183;
 
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 184;
+  int DECIMAL_LITERAL = 184;
 
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 185;
+  int HEX_LITERAL = 185;
 
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 186;
+  int OCTAL_LITERAL = 186;
 
   /** RegularExpression Id. */
-  int STRING_LITERAL = 187;
+  int FLOATING_POINT_LITERAL = 187;
 
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 188;
+  int DECIMAL_FLOATING_POINT_LITERAL = 188;
 
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 189;
+  int DECIMAL_EXPONENT = 189;
 
   /** RegularExpression Id. */
-  int TRUE = 190;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 190;
 
   /** RegularExpression Id. */
-  int FALSE = 191;
+  int HEXADECIMAL_EXPONENT = 191;
 
   /** RegularExpression Id. */
-  int LPAREN = 192;
+  int CHARACTER_LITERAL = 192;
 
   /** RegularExpression Id. */
-  int RPAREN = 193;
+  int STRING_LITERAL = 193;
 
   /** RegularExpression Id. */
-  int LBRACE = 194;
+  int INTEGER_RANGE = 194;
 
   /** RegularExpression Id. */
-  int RBRACE = 195;
+  int ELLIPSIS_INTEGER_RANGE = 195;
 
   /** RegularExpression Id. */
-  int LBRACKET = 196;
+  int TRUE = 196;
 
   /** RegularExpression Id. */
-  int RBRACKET = 197;
+  int FALSE = 197;
 
   /** RegularExpression Id. */
-  int SEMICOLON = 198;
+  int LPAREN = 198;
 
   /** RegularExpression Id. */
-  int COMMA = 199;
+  int RPAREN = 199;
 
   /** RegularExpression Id. */
-  int DOT = 200;
+  int LBRACE = 200;
 
   /** RegularExpression Id. */
-  int AT = 201;
+  int RBRACE = 201;
 
   /** RegularExpression Id. */
-  int DOLLAR = 202;
+  int LBRACKET = 202;
 
   /** RegularExpression Id. */
-  int BACKTICK = 203;
+  int RBRACKET = 203;
 
   /** RegularExpression Id. */
-  int EQ = 204;
+  int SEMICOLON = 204;
 
   /** RegularExpression Id. */
-  int EQEQ = 205;
+  int COMMA = 205;
 
   /** RegularExpression Id. */
-  int LT = 206;
+  int DOT = 206;
 
   /** RegularExpression Id. */
-  int GT = 207;
+  int AT = 207;
 
   /** RegularExpression Id. */
-  int BANG = 208;
+  int DOLLAR = 208;
 
   /** RegularExpression Id. */
-  int TILDE = 209;
+  int BACKTICK = 209;
 
   /** RegularExpression Id. */
-  int HOOK = 210;
+  int EQ = 210;
 
   /** RegularExpression Id. */
-  int COLON = 211;
+  int EQEQ = 211;
 
   /** RegularExpression Id. */
-  int LE = 212;
+  int LT = 212;
 
   /** RegularExpression Id. */
-  int GE = 213;
+  int GT = 213;
 
   /** RegularExpression Id. */
-  int NE = 214;
+  int BANG = 214;
 
   /** RegularExpression Id. */
-  int NEQ = 215;
+  int TILDE = 215;
 
   /** RegularExpression Id. */
-  int SC_OR = 216;
+  int HOOK = 216;
 
   /** RegularExpression Id. */
-  int SC_AND = 217;
+  int COLON = 217;
 
   /** RegularExpression Id. */
-  int INCR = 218;
+  int LE = 218;
 
   /** RegularExpression Id. */
-  int DECR = 219;
+  int GE = 219;
 
   /** RegularExpression Id. */
-  int PLUS = 220;
+  int NE = 220;
 
   /** RegularExpression Id. */
-  int MINUS = 221;
+  int NEQ = 221;
 
   /** RegularExpression Id. */
-  int STAR = 222;
+  int SC_OR = 222;
 
   /** RegularExpression Id. */
-  int SLASH = 223;
+  int SC_AND = 223;
 
   /** RegularExpression Id. */
-  int BIT_AND = 224;
+  int INCR = 224;
 
   /** RegularExpression Id. */
-  int NULL_COALESCING = 225;
+  int DECR = 225;
 
   /** RegularExpression Id. */
-  int BIT_OR = 226;
+  int PLUS = 226;
 
   /** RegularExpression Id. */
-  int XOR = 227;
+  int MINUS = 227;
 
   /** RegularExpression Id. */
-  int REM = 228;
+  int STAR = 228;
 
   /** RegularExpression Id. */
-  int LSHIFT = 229;
+  int SLASH = 229;
 
   /** RegularExpression Id. */
-  int PLUSASSIGN = 230;
+  int BIT_AND = 230;
 
   /** RegularExpression Id. */
-  int MINUSASSIGN = 231;
+  int NULL_COALESCING = 231;
 
   /** RegularExpression Id. */
-  int STARASSIGN = 232;
+  int BIT_OR = 232;
 
   /** RegularExpression Id. */
-  int SLASHASSIGN = 233;
+  int XOR = 233;
 
   /** RegularExpression Id. */
-  int ANDASSIGN = 234;
+  int REM = 234;
 
   /** RegularExpression Id. */
-  int ORASSIGN = 235;
+  int LSHIFT = 235;
 
   /** RegularExpression Id. */
-  int XORASSIGN = 236;
+  int PLUSASSIGN = 236;
 
   /** RegularExpression Id. */
-  int REMASSIGN = 237;
+  int MINUSASSIGN = 237;
 
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 238;
+  int STARASSIGN = 238;
 
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 239;
+  int SLASHASSIGN = 239;
 
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 240;
+  int ANDASSIGN = 240;
 
   /** RegularExpression Id. */
-  int RSHIFT = 241;
+  int ORASSIGN = 241;
 
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 242;
+  int XORASSIGN = 242;
 
   /** RegularExpression Id. */
-  int ELLIPSIS = 243;
+  int REMASSIGN = 243;
 
   /** RegularExpression Id. */
-  int RANGE = 244;
+  int LSHIFTASSIGN = 244;
 
   /** RegularExpression Id. */
-  int NOT = 245;
+  int RSIGNEDSHIFTASSIGN = 245;
 
   /** RegularExpression Id. */
-  int IN = 246;
+  int RUNSIGNEDSHIFTASSIGN = 246;
 
   /** RegularExpression Id. */
-  int LIKE = 247;
+  int RSHIFT = 247;
 
   /** RegularExpression Id. */
-  int IS = 248;
+  int RUNSIGNEDSHIFT = 248;
 
   /** RegularExpression Id. */
-  int BETWEEN = 249;
+  int ELLIPSIS = 249;
 
   /** RegularExpression Id. */
-  int CONTAINS = 250;
+  int RANGE = 250;
 
   /** RegularExpression Id. */
-  int CONTAINSALL = 251;
+  int NOT = 251;
 
   /** RegularExpression Id. */
-  int CONTAINSANY = 252;
+  int IN = 252;
 
   /** RegularExpression Id. */
-  int CONTAINSKEY = 253;
+  int LIKE = 253;
 
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 254;
+  int IS = 254;
 
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 255;
+  int BETWEEN = 255;
 
   /** RegularExpression Id. */
-  int MATCHES = 256;
+  int CONTAINS = 256;
 
   /** RegularExpression Id. */
-  int KEY = 257;
+  int CONTAINSALL = 257;
 
   /** RegularExpression Id. */
-  int INSTANCEOF = 258;
+  int CONTAINSANY = 258;
 
   /** RegularExpression Id. */
-  int CLUSTER = 259;
+  int CONTAINSKEY = 259;
 
   /** RegularExpression Id. */
-  int IDENTIFIER = 260;
+  int CONTAINSVALUE = 260;
 
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 261;
+  int CONTAINSTEXT = 261;
 
   /** RegularExpression Id. */
-  int INDEX_COLON = 262;
+  int MATCHES = 262;
 
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 263;
+  int KEY = 263;
 
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 264;
+  int INSTANCEOF = 264;
 
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 265;
+  int CLUSTER = 265;
 
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 266;
+  int IDENTIFIER = 266;
 
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 267;
+  int QUOTED_IDENTIFIER = 267;
 
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 268;
+  int INDEX_COLON = 268;
 
   /** RegularExpression Id. */
-  int LETTER = 269;
+  int INDEXVALUES_IDENTIFIER = 269;
 
   /** RegularExpression Id. */
-  int PART_LETTER = 270;
+  int INDEXVALUESASC_IDENTIFIER = 270;
+
+  /** RegularExpression Id. */
+  int INDEXVALUESDESC_IDENTIFIER = 271;
+
+  /** RegularExpression Id. */
+  int CLUSTER_IDENTIFIER = 272;
+
+  /** RegularExpression Id. */
+  int CLUSTER_NUMBER_IDENTIFIER = 273;
+
+  /** RegularExpression Id. */
+  int METADATA_IDENTIFIER = 274;
+
+  /** RegularExpression Id. */
+  int LETTER = 275;
+
+  /** RegularExpression Id. */
+  int PART_LETTER = 276;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -969,6 +987,12 @@ public interface OrientSqlConstants {
     "<POLICY>",
     "<DEFAULTCLUSTER>",
     "<SYSTEM>",
+    "<ANALYZE>",
+    "<SAMPLE>",
+    "<FULL>",
+    "<GRAPH>",
+    "<SNAPSHOT>",
+    "<WEIGHT>",
     "<THIS>",
     "<RECORD_ATTRIBUTE>",
     "<RID_ATTR>",
@@ -97,6 +97,20 @@ public interface OCluster {
 
   ORawBuffer readRecord(long clusterPosition, boolean prefetchRecords) throws IOException;
 
+  /**
+   * Reads a batch of records. Implementations read the records in the order of their physical
+   * position, so that every page is loaded once.
+   *
+   * @return the records in the order of the positions, null for the records which do not exist
+   */
+  default ORawBuffer[] readRecords(final long[] clusterPositions) throws IOException {
+    final ORawBuffer[] result = new ORawBuffer[clusterPositions.length];
+    for (int i = 0; i < clusterPositions.length; i++) {
+      result[i] = readRecord(clusterPositions[i], false);
+    }
+    return result;
+  }
+
   ORawBuffer readRecordIfVersionIsNotLatest(long clusterPosition, int recordVersion)
       throws IOException, ORecordNotFoundException;
 
@@ -0,0 +1,38 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+/**
+ * Hint which tells the read cache that pages are loaded by the current thread during sequential
+ * scan, so they should not displace the working set of the cache and the next pages of the file
+ * may be loaded ahead.
+ *
+ * <pre>
+ * final boolean previous = OSequentialScan.begin();
+ * try {
+ *   ...
+ * } finally {
+ *   OSequentialScan.end(previous);
+ * }
+ * </pre>
+ */
+public final class OSequentialScan {
+  private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+  private OSequentialScan() {}
+
+  /** @return whether the hint was already active, it should be passed to {@link #end(boolean)} */
+  public static boolean begin() {
+    final boolean previous = isActive();
+    ACTIVE.set(Boolean.TRUE);
+    return previous;
+  }
+
+  public static void end(final boolean previous) {
+    if (!previous) {
+      ACTIVE.remove();
+    }
+  }
+
+  public static boolean isActive() {
+    return ACTIVE.get() != null;
+  }
+}
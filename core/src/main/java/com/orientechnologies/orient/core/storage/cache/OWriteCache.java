@@ -27,6 +27,8 @@ import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListene
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public interface OWriteCache {
@@ -94,6 +96,26 @@ public interface OWriteCache {
       long fileId, long startPageIndex, OModifiableBoolean cacheHit, boolean verifyChecksums)
       throws IOException;
 
+  /**
+   * Loads adjacent pages of the file starting from <code>startPageIndex</code>. Pages which are
+   * not stored in the file yet are not returned, so returned array may be shorter than requested.
+   */
+  default OCachePointer[] load(
+      long fileId, long startPageIndex, int pageCount, boolean verifyChecksums) throws IOException {
+    final List<OCachePointer> pointers = new ArrayList<>(pageCount);
+    for (int i = 0; i < pageCount; i++) {
+      final OCachePointer pointer =
+          load(fileId, startPageIndex + i, new OModifiableBoolean(), verifyChecksums);
+      if (pointer == null) {
+        break;
+      }
+
+      pointers.add(pointer);
+    }
+
+    return pointers.toArray(new OCachePointer[0]);
+  }
+
   void flush(long fileId);
 
   void flush();
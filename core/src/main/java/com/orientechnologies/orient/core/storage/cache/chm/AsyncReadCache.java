@@ -5,6 +5,9 @@ import com.orientechnologies.common.directmemory.MemTrace;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -13,6 +16,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OSequentialScan;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.BoundedBuffer;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.Buffer;
@@ -23,11 +27,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Disk cache based on ConcurrentHashMap and eviction policy which is asynchronously processed by
@@ -39,12 +48,32 @@ import java.util.concurrent.locks.ReentrantLock;
  * additional pages from write cache to disk cache. Window TinyLFU policy is used as cache eviction
  * policy because it prevents usage of ghost entries and as result considerably decrease usage of
  * heap memory.
+ *
+ * <p>Pages which are loaded by sequential scans (either hinted by {@link OSequentialScan} or
+ * detected as series of misses on adjacent pages of the same file) do not update frequency sketch
+ * and are added directly to the probationary segment of the policy, so scan of the big cluster
+ * does not evict the hot set of pages. During such scans next pages of the file are loaded ahead
+ * of time by background thread.
  */
 public final class AsyncReadCache implements OReadCache {
+  private static final OLogger logger = OLogManager.instance().logger(AsyncReadCache.class);
 
   private static final int N_CPU = Runtime.getRuntime().availableProcessors();
   private static final int WRITE_BUFFER_MAX_BATCH = 128 * ceilingPowerOfTwo(N_CPU);
 
+  /** Amount of misses on the adjacent pages after which access to the file is sequential. */
+  private static final int SEQUENTIAL_MISSES_THRESHOLD = 4;
+
+  private static final int MODIFICATION_STAMPS = 4 * ceilingPowerOfTwo(N_CPU) * 1024;
+
+  private static final int PREFETCH_QUEUE_SIZE = 64;
+
+  private static final ExecutorService prefetchExecutor =
+      OThreadPoolExecutors.newSingleThreadPool(
+          "OrientDB Read Cache Prefetch",
+          PREFETCH_QUEUE_SIZE,
+          new ThreadPoolExecutor.DiscardPolicy());
+
   private final ConcurrentHashMap<PageKey, OCacheEntry> data;
   private final Lock evictionLock = new ReentrantLock();
 
@@ -52,6 +81,10 @@ public final class AsyncReadCache implements OReadCache {
 
   private final Buffer readBuffer = new BoundedBuffer();
   private final MPSCLinkedQueue<OCacheEntry> writeBuffer = new MPSCLinkedQueue<>();
+
+  /** Pages loaded by sequential scans, they bypass eden segment of the policy. */
+  private final MPSCLinkedQueue<OCacheEntry> scanBuffer = new MPSCLinkedQueue<>();
+
   private final AtomicInteger cacheSize = new AtomicInteger();
   private final int maxCacheSize;
 
@@ -67,15 +100,32 @@ public final class AsyncReadCache implements OReadCache {
 
   private final OByteBufferPool bufferPool;
 
+  /** Amount of pages which are loaded ahead during sequential scan, zero disables prefetch. */
+  private final int prefetchPages;
+
+  private final ConcurrentHashMap<Long, SequentialAccess> sequentialAccess =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Striped counters of page changes. Prefetched page is not added to the cache if page was
+   * changed after prefetch was started because content of the page may be outdated.
+   */
+  private final AtomicLongArray modificationStamps = new AtomicLongArray(MODIFICATION_STAMPS);
+
+  /** Prevents addition of prefetched pages to the cache while file is removed from it. */
+  private final ReadWriteLock prefetchLock = new ReentrantReadWriteLock();
+
   public AsyncReadCache(
       final OByteBufferPool bufferPool,
       final long maxCacheSizeInBytes,
       final int pageSize,
-      final boolean trackHitRate) {
+      final boolean trackHitRate,
+      final int prefetchPages) {
     evictionLock.lock();
     try {
       this.pageSize = pageSize;
       this.bufferPool = bufferPool;
+      this.prefetchPages = prefetchPages;
 
       this.trackHitRate = trackHitRate;
       this.maxCacheSize = (int) (maxCacheSizeInBytes / pageSize);
@@ -107,7 +157,8 @@ public final class AsyncReadCache implements OReadCache {
       final OWriteCache writeCache,
       final boolean verifyChecksums,
       final OLogSequenceNumber startLSN) {
-    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final OCacheEntry cacheEntry =
+        doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, false);
 
     if (cacheEntry != null) {
       cacheEntry.acquireExclusiveLock();
@@ -123,7 +174,7 @@ public final class AsyncReadCache implements OReadCache {
       final long pageIndex,
       final OWriteCache writeCache,
       final boolean verifyChecksums) {
-    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, true);
   }
 
   @Override
@@ -188,9 +239,11 @@ public final class AsyncReadCache implements OReadCache {
       final long extFileId,
       final int pageIndex,
       final OWriteCache writeCache,
-      final boolean verifyChecksums) {
+      final boolean verifyChecksums,
+      final boolean forRead) {
     final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
     final PageKey pageKey = new PageKey(fileId, pageIndex);
+    final boolean scan = forRead && OSequentialScan.isActive();
 
     if (trackHitRate) {
       requests.increment();
@@ -205,7 +258,9 @@ public final class AsyncReadCache implements OReadCache {
 
       if (cacheEntry != null) {
         if (cacheEntry.acquireEntry()) {
-          afterRead(cacheEntry);
+          if (!scan) {
+            afterRead(cacheEntry);
+          }
 
           if (trackHitRate) {
             hits.increment();
@@ -254,9 +309,15 @@ public final class AsyncReadCache implements OReadCache {
               hits.increment();
             }
 
-            afterRead(cacheEntry);
+            if (!scan) {
+              afterRead(cacheEntry);
+            }
           } else {
-            afterAdd(cacheEntry);
+            if (forRead && afterMiss(fileId, pageIndex, writeCache, verifyChecksums, scan)) {
+              afterScanAdd(cacheEntry);
+            } else {
+              afterAdd(cacheEntry);
+            }
 
             try {
               writeCache.checkCacheOverflow();
@@ -327,6 +388,7 @@ public final class AsyncReadCache implements OReadCache {
           (page, entry) -> {
             writeCache.store(
                 cacheEntry.getFileId(), cacheEntry.getPageIndex(), cacheEntry.getCachePointer());
+            modificationStamps.incrementAndGet(stampIndex(page));
             return entry; // may be absent if page in pinned pages, in such case we use map as
             // virtual lock
           });
@@ -368,6 +430,97 @@ public final class AsyncReadCache implements OReadCache {
     return cacheEntry;
   }
 
+  /**
+   * Registers miss of the page and schedules prefetch of the next pages if access to the file is
+   * sequential.
+   *
+   * @return <code>true</code> if loaded page should be treated as page loaded by scan
+   */
+  private boolean afterMiss(
+      final long fileId,
+      final int pageIndex,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums,
+      final boolean scan) {
+    final SequentialAccess access =
+        sequentialAccess.computeIfAbsent(fileId, id -> new SequentialAccess());
+    final boolean sequential = access.onMiss(pageIndex, prefetchPages) || scan;
+
+    if (sequential && prefetchPages > 0) {
+      final int from = Math.max(pageIndex + 1, access.prefetchedTo);
+      final int to = pageIndex + 1 + prefetchPages;
+
+      if (from < to) {
+        access.prefetchedTo = to;
+        prefetchExecutor.execute(
+            () -> prefetch(fileId, from, to - from, writeCache, verifyChecksums, access));
+      }
+    }
+
+    return sequential;
+  }
+
+  private void prefetch(
+      final long fileId,
+      final int startPageIndex,
+      final int pageCount,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums,
+      final SequentialAccess access) {
+    final Lock lock = prefetchLock.readLock();
+    lock.lock();
+    try {
+      if (access.cleared) {
+        return;
+      }
+
+      final long[] stamps = new long[pageCount];
+      for (int i = 0; i < pageCount; i++) {
+        stamps[i] = modificationStamps.get(stampIndex(new PageKey(fileId, startPageIndex + i)));
+      }
+
+      final OCachePointer[] pointers;
+      try {
+        pointers = writeCache.load(fileId, startPageIndex, pageCount, verifyChecksums);
+      } catch (final IOException | RuntimeException e) {
+        // pages will be loaded again once they are requested
+        logger.debugNoDb("Prefetch of pages of file %d failed", e, fileId);
+        return;
+      }
+
+      for (int i = 0; i < pointers.length; i++) {
+        final OCachePointer pointer = pointers[i];
+        final long stamp = stamps[i];
+        final OCacheEntry[] added = new OCacheEntry[1];
+
+        data.compute(
+            new PageKey(fileId, startPageIndex + i),
+            (page, entry) -> {
+              if (entry != null || modificationStamps.get(stampIndex(page)) != stamp) {
+                return entry;
+              }
+
+              cacheSize.incrementAndGet();
+              added[0] =
+                  new OCacheEntryImpl(page.getFileId(), page.getPageIndex(), pointer, true, this);
+              return added[0];
+            });
+
+        if (added[0] == null) {
+          pointer.decrementReadersReferrer();
+        } else {
+          afterScanAdd(added[0]);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static int stampIndex(final PageKey pageKey) {
+    return pageKey.hashCode() & (MODIFICATION_STAMPS - 1);
+  }
+
   private void afterRead(final OCacheEntry entry) {
     final boolean bufferOverflow = readBuffer.offer(entry) == Buffer.FULL;
 
@@ -380,9 +533,17 @@ public final class AsyncReadCache implements OReadCache {
     afterWrite(entry);
   }
 
+  private void afterScanAdd(final OCacheEntry entry) {
+    scanBuffer.offer(entry);
+    scheduleDrain();
+  }
+
   private void afterWrite(final OCacheEntry command) {
     writeBuffer.offer(command);
+    scheduleDrain();
+  }
 
+  private void scheduleDrain() {
     drainStatus.lazySet(DrainStatus.REQUIRED);
     if (cacheSize.get() > 1.07 * maxCacheSize) {
       forceDrainBuffers();
@@ -410,7 +571,7 @@ public final class AsyncReadCache implements OReadCache {
   }
 
   private void checkWriteBuffer() {
-    if (!writeBuffer.isEmpty()) {
+    if (!writeBuffer.isEmpty() || !scanBuffer.isEmpty()) {
 
       drainStatus.lazySet(DrainStatus.REQUIRED);
       tryToDrainBuffers();
@@ -461,6 +622,16 @@ public final class AsyncReadCache implements OReadCache {
 
       this.policy.onAdd(entry);
     }
+
+    for (int i = 0; i < WRITE_BUFFER_MAX_BATCH; i++) {
+      final OCacheEntry entry = scanBuffer.poll();
+
+      if (entry == null) {
+        break;
+      }
+
+      this.policy.onScanAdd(entry);
+    }
   }
 
   private void emptyWriteBuffer() {
@@ -473,6 +644,16 @@ public final class AsyncReadCache implements OReadCache {
 
       this.policy.onAdd(entry);
     }
+
+    while (true) {
+      final OCacheEntry entry = scanBuffer.poll();
+
+      if (entry == null) {
+        break;
+      }
+
+      this.policy.onScanAdd(entry);
+    }
   }
 
   @Override
@@ -482,8 +663,15 @@ public final class AsyncReadCache implements OReadCache {
 
   @Override
   public final void clear() {
+    final Lock lock = prefetchLock.writeLock();
+    lock.lock();
     evictionLock.lock();
     try {
+      for (final SequentialAccess access : sequentialAccess.values()) {
+        access.cleared = true;
+      }
+      sequentialAccess.clear();
+
       emptyBuffers();
 
       for (final OCacheEntry entry : data.values()) {
@@ -503,6 +691,7 @@ public final class AsyncReadCache implements OReadCache {
       cacheSize.set(0);
     } finally {
       evictionLock.unlock();
+      lock.unlock();
     }
   }
 
@@ -564,8 +753,16 @@ public final class AsyncReadCache implements OReadCache {
   }
 
   private void clearFile(final long fileId, final int filledUpTo, final OWriteCache writeCache) {
+    // prefetch lock is acquired first because prefetch may drain buffers under eviction lock
+    final Lock lock = prefetchLock.writeLock();
+    lock.lock();
     evictionLock.lock();
     try {
+      final SequentialAccess access = sequentialAccess.remove(fileId);
+      if (access != null) {
+        access.cleared = true;
+      }
+
       emptyBuffers();
 
       for (int pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
@@ -594,6 +791,7 @@ public final class AsyncReadCache implements OReadCache {
       }
     } finally {
       evictionLock.unlock();
+      lock.unlock();
     }
   }
 
@@ -617,6 +815,10 @@ public final class AsyncReadCache implements OReadCache {
     }
   }
 
+  boolean isCached(final long fileId, final int pageIndex) {
+    return data.containsKey(new PageKey(fileId, pageIndex));
+  }
+
   int hitRate() {
     final long reqSum = requests.sum();
     if (reqSum == 0) {
@@ -626,6 +828,32 @@ public final class AsyncReadCache implements OReadCache {
     return (int) ((hits.sum() * 100) / reqSum);
   }
 
+  /**
+   * State of access to the single file which is used to detect sequential scans. Fields are
+   * updated without synchronization because detection is only a heuristic.
+   */
+  private static final class SequentialAccess {
+    private int lastMiss = -1;
+    private int sequentialMisses;
+    private int prefetchedTo;
+
+    /** Guarded by prefetch lock. */
+    private boolean cleared;
+
+    private boolean onMiss(final int pageIndex, final int window) {
+      final int last = lastMiss;
+      if (last >= 0 && pageIndex > last && pageIndex - last <= window + 1) {
+        sequentialMisses++;
+      } else {
+        sequentialMisses = 0;
+        prefetchedTo = 0;
+      }
+
+      lastMiss = pageIndex;
+      return sequentialMisses >= SEQUENTIAL_MISSES_THRESHOLD;
+    }
+  }
+
   private enum DrainStatus {
     IDLE {
       @Override
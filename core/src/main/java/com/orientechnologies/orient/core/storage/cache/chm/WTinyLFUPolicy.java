@@ -95,6 +95,32 @@ public final class WTinyLFUPolicy {
     assert probation.size() + protection.size() <= maxSecondLevelSize;
   }
 
+  /**
+   * Adds page loaded by sequential scan. Such page is not counted by admittor and bypasses eden, so
+   * scan does not displace recently used pages. Page is placed directly in probationary segment
+   * where it has to compete with the least recently used probationary page by frequency of
+   * access.
+   */
+  void onScanAdd(final OCacheEntry cacheEntry) {
+    if (cacheEntry.isAlive()) {
+      assert !eden.contains(cacheEntry);
+      assert !probation.contains(cacheEntry);
+      assert !protection.contains(cacheEntry);
+
+      if (probation.size() + protection.size() < maxSecondLevelSize) {
+        probation.moveToTheTail(cacheEntry);
+      } else {
+        admitToProbation(cacheEntry);
+        // pages which are in use and can not be evicted are moved to eden
+        purgeEden();
+      }
+    }
+
+    assert eden.size() <= maxEdenSize;
+    assert protection.size() <= maxProtectedSize;
+    assert probation.size() + protection.size() <= maxSecondLevelSize;
+  }
+
   private void purgeEden() {
     while (eden.size() > maxEdenSize) {
       final OCacheEntry candidate = eden.poll();
@@ -103,54 +129,58 @@ public final class WTinyLFUPolicy {
       if (probation.size() + protection.size() < maxSecondLevelSize) {
         probation.moveToTheTail(candidate);
       } else {
-        final OCacheEntry victim = probation.peek();
+        admitToProbation(candidate);
+      }
+    }
 
-        final int candidateKeyHashCode = candidate.getPageKey().hashCode();
-        final int victimKeyHashCode = victim.getPageKey().hashCode();
+    assert protection.size() <= maxProtectedSize;
+  }
 
-        final int candidateFrequency = admittor.frequency(candidateKeyHashCode);
-        final int victimFrequency = admittor.frequency(victimKeyHashCode);
+  private void admitToProbation(final OCacheEntry candidate) {
+    final OCacheEntry victim = probation.peek();
 
-        if (candidateFrequency >= victimFrequency) {
-          probation.poll();
-          probation.moveToTheTail(candidate);
+    final int candidateKeyHashCode = candidate.getPageKey().hashCode();
+    final int victimKeyHashCode = victim.getPageKey().hashCode();
 
-          if (victim.freeze()) {
-            final boolean removed = data.remove(victim.getPageKey(), victim);
-            victim.makeDead();
+    final int candidateFrequency = admittor.frequency(candidateKeyHashCode);
+    final int victimFrequency = admittor.frequency(victimKeyHashCode);
 
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
+    if (candidateFrequency >= victimFrequency) {
+      probation.poll();
+      probation.moveToTheTail(candidate);
 
-            final OCachePointer pointer = victim.getCachePointer();
+      if (victim.freeze()) {
+        final boolean removed = data.remove(victim.getPageKey(), victim);
+        victim.makeDead();
 
-            pointer.decrementReadersReferrer();
-            victim.clearCachePointer();
-          } else {
-            eden.moveToTheTail(victim);
-          }
-        } else {
-          if (candidate.freeze()) {
-            final boolean removed = data.remove(candidate.getPageKey(), candidate);
-            candidate.makeDead();
+        if (removed) {
+          cacheSize.decrementAndGet();
+        }
 
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
+        final OCachePointer pointer = victim.getCachePointer();
 
-            final OCachePointer pointer = candidate.getCachePointer();
+        pointer.decrementReadersReferrer();
+        victim.clearCachePointer();
+      } else {
+        eden.moveToTheTail(victim);
+      }
+    } else {
+      if (candidate.freeze()) {
+        final boolean removed = data.remove(candidate.getPageKey(), candidate);
+        candidate.makeDead();
 
-            pointer.decrementReadersReferrer();
-            candidate.clearCachePointer();
-          } else {
-            eden.moveToTheTail(candidate);
-          }
+        if (removed) {
+          cacheSize.decrementAndGet();
         }
+
+        final OCachePointer pointer = candidate.getCachePointer();
+
+        pointer.decrementReadersReferrer();
+        candidate.clearCachePointer();
+      } else {
+        eden.moveToTheTail(candidate);
       }
     }
-
-    assert protection.size() <= maxProtectedSize;
   }
 
   void onRemove(final OCacheEntry cacheEntry) {
@@ -56,6 +56,7 @@ import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.Doub
 import com.orientechnologies.orient.core.storage.fs.AsyncFile;
 import com.orientechnologies.orient.core.storage.fs.IOResult;
 import com.orientechnologies.orient.core.storage.fs.OFile;
+import com.orientechnologies.orient.core.storage.fs.VectoredFile;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.MetaDataRecord;
@@ -113,6 +114,10 @@ import javax.crypto.SecretKey;
 import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
 import net.jpountz.xxhash.XXHash64;
 import net.jpountz.xxhash.XXHashFactory;
 
@@ -230,6 +235,12 @@ public final class OWOWCache extends OAbstractWriteCache
    */
   private static final long MAGIC_NUMBER_WITHOUT_CHECKSUM_ENCRYPTED = 0x2L;
 
+  /**
+   * Marks pages which are stored in data file compressed. Such page contains only compressed image
+   * of the page (which has one of the magic numbers above) and the rest of the page is not written.
+   */
+  private static final long MAGIC_NUMBER_COMPRESSED = 0xC0B7A4E9L;
+
   private static final int MAGIC_NUMBER_OFFSET = 0;
 
   public static final int CHECKSUM_OFFSET = MAGIC_NUMBER_OFFSET + OLongSerializer.LONG_SIZE;
@@ -237,6 +248,21 @@ public final class OWOWCache extends OAbstractWriteCache
   private static final int PAGE_OFFSET_TO_CHECKSUM_FROM =
       OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE;
 
+  private static final int COMPRESSED_LENGTH_OFFSET =
+      MAGIC_NUMBER_OFFSET + OLongSerializer.LONG_SIZE;
+
+  private static final int COMPRESSED_DATA_OFFSET =
+      COMPRESSED_LENGTH_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  /**
+   * Page is stored compressed only if it saves at least one block of the file system, otherwise
+   * the same amount of space is consumed on disk while reads of such page become slower.
+   */
+  private static final int COMPRESSION_MIN_GAIN = 4 * 1024;
+
+  private static final LZ4Compressor LZ_4_COMPRESSOR;
+  private static final LZ4SafeDecompressor LZ_4_DECOMPRESSOR;
+
   private static final int CHUNK_SIZE = 64 * 1024 * 1024;
 
   /**
@@ -248,6 +274,10 @@ public final class OWOWCache extends OAbstractWriteCache
     commitExecutor =
         OThreadPoolExecutors.newSingleThreadScheduledPool(
             "OrientDB Write Cache Flush Task", OAbstractPaginatedStorage.storageThreadGroup);
+
+    final LZ4Factory factory = LZ4Factory.fastestInstance();
+    LZ_4_COMPRESSOR = factory.fastCompressor();
+    LZ_4_DECOMPRESSOR = factory.safeDecompressor();
   }
 
   /**
@@ -424,6 +454,15 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private final boolean callFsync;
 
+  /**
+   * Whether pages are compressed when they are written to the data files, it is always
+   * <code>false</code> for encrypted storages because encrypted data are not compressible.
+   */
+  private final boolean pageCompression;
+
+  /** Whether data files use vectored I/O, see {@link VectoredFile}. */
+  private final boolean vectoredIO;
+
   private final int chunkSize;
 
   private final long pagesFlushInterval;
@@ -466,6 +505,8 @@ public final class OWOWCache extends OAbstractWriteCache
       final byte[] iv,
       final byte[] aesKey,
       final boolean callFsync,
+      final boolean pageCompression,
+      final boolean vectoredIO,
       ExecutorService executor) {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
@@ -482,6 +523,11 @@ public final class OWOWCache extends OAbstractWriteCache
     this.iv = iv;
     this.aesKey = aesKey;
     this.callFsync = callFsync;
+    this.pageCompression =
+        pageCompression
+            && aesKey == null
+            && pageSize > COMPRESSION_MIN_GAIN + COMPRESSED_DATA_OFFSET;
+    this.vectoredIO = vectoredIO;
 
     filesLock.acquireWriteLock();
     try {
@@ -1151,6 +1197,134 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  @Override
+  public OCachePointer[] load(
+      final long fileId,
+      final long startPageIndex,
+      final int pageCount,
+      final boolean verifyChecksums)
+      throws IOException {
+    final int intId = extractFileId(fileId);
+    filesLock.acquireReadLock();
+    try {
+      checkForClose();
+
+      final PageKey[] pageKeys = new PageKey[pageCount];
+      for (int i = 0; i < pageCount; i++) {
+        pageKeys[i] = new PageKey(intId, startPageIndex + i);
+      }
+
+      final Lock[] pageLocks = lockManager.acquireSharedLocksInBatch(pageKeys);
+      try {
+        return loadPages(intId, startPageIndex, pageKeys, verifyChecksums);
+      } finally {
+        for (final Lock pageLock : pageLocks) {
+          pageLock.unlock();
+        }
+      }
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(new OStorageException("Data load was interrupted"), e);
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * Loads pages which are stored in the file. Pages which are absent in the write cache and are
+   * adjacent to each other are read from the file by single call.
+   */
+  private OCachePointer[] loadPages(
+      final int intId,
+      final long startPageIndex,
+      final PageKey[] pageKeys,
+      final boolean verifyChecksums)
+      throws IOException, InterruptedException {
+    final OClosableEntry<Long, OFile> entry = files.acquire(composeFileId(id, intId));
+    try {
+      final OFile fileClassic = entry.get();
+      if (fileClassic == null) {
+        throw new IllegalArgumentException("File with id " + intId + " not found in WOW Cache");
+      }
+
+      final long storedPages = fileClassic.getFileSize() / pageSize - startPageIndex;
+      final OCachePointer[] pointers =
+          new OCachePointer[(int) Math.max(0, Math.min(pageKeys.length, storedPages))];
+
+      try {
+        int pageIndex = 0;
+        while (pageIndex < pointers.length) {
+          final OCachePointer pagePointer = writeCachePages.get(pageKeys[pageIndex]);
+          if (pagePointer != null) {
+            pagePointer.incrementReadersReferrer();
+            pointers[pageIndex] = pagePointer;
+            pageIndex++;
+            continue;
+          }
+
+          int readTo = pageIndex + 1;
+          while (readTo < pointers.length && !writeCachePages.containsKey(pageKeys[readTo])) {
+            readTo++;
+          }
+
+          readPages(
+              fileClassic, intId, startPageIndex, pageIndex, readTo, pointers, verifyChecksums);
+          pageIndex = readTo;
+        }
+      } catch (final IOException | RuntimeException e) {
+        for (final OCachePointer pointer : pointers) {
+          if (pointer != null) {
+            pointer.decrementReadersReferrer();
+          }
+        }
+
+        throw e;
+      }
+
+      return pointers;
+    } finally {
+      files.release(entry);
+    }
+  }
+
+  private void readPages(
+      final OFile fileClassic,
+      final int intId,
+      final long startPageIndex,
+      final int from,
+      final int to,
+      final OCachePointer[] pointers,
+      final boolean verifyChecksums)
+      throws IOException {
+    final OPointer[] pagePointers = new OPointer[to - from];
+    final ByteBuffer[] buffers = new ByteBuffer[to - from];
+    for (int i = 0; i < pagePointers.length; i++) {
+      pagePointers[i] = bufferPool.acquireDirect(true, MemTrace.LOAD_PAGE_FROM_DISK);
+      buffers[i] = pagePointers[i].getNativeByteBuffer();
+    }
+
+    boolean pagesRead = false;
+    int prepared = 0;
+    try {
+      fileClassic.read((startPageIndex + from) * pageSize, buffers, true);
+      pagesRead = true;
+
+      for (; prepared < pagePointers.length; prepared++) {
+        final OCachePointer pointer =
+            preparePageContent(
+                pagePointers[prepared], intId, startPageIndex + from + prepared, verifyChecksums);
+        pointer.incrementReadersReferrer();
+        pointers[from + prepared] = pointer;
+      }
+    } catch (final IOException | RuntimeException e) {
+      // content of the page which failed verification is already released
+      for (int i = pagesRead ? prepared + 1 : 0; i < pagePointers.length; i++) {
+        bufferPool.release(pagePointers[i]);
+      }
+
+      throw e;
+    }
+  }
+
   @Override
   public int allocateNewPage(final long fileId) throws IOException {
     filesLock.acquireReadLock();
@@ -1620,10 +1794,12 @@ public final class OWOWCache extends OAbstractWriteCache
 
         final byte[] data = new byte[pageSize];
 
-        final OPointer pointer = bufferPool.acquireDirect(true, MemTrace.CHECK_FILE_STORAGE);
+        OPointer pointer = bufferPool.acquireDirect(true, MemTrace.CHECK_FILE_STORAGE);
         try {
+          fileClassic.read(pos, pointer.getNativeByteBuffer(), true);
+          pointer = decompressPage(pointer);
+
           final ByteBuffer byteBuffer = pointer.getNativeByteBuffer();
-          fileClassic.read(pos, byteBuffer, true);
           byteBuffer.rewind();
           byteBuffer.get(data);
         } finally {
@@ -1909,7 +2085,15 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private OFile createFileInstance(final String fileName, final int fileId) {
     final String internalFileName = createInternalFileName(fileName, fileId);
-    return new AsyncFile(storagePath.resolve(internalFileName), pageSize, this.executor);
+    return createFile(storagePath.resolve(internalFileName));
+  }
+
+  private OFile createFile(final Path path) {
+    if (vectoredIO) {
+      return new VectoredFile(path, pageSize);
+    }
+
+    return new AsyncFile(path, pageSize, this.executor);
   }
 
   private static String createInternalFileName(final String fileName, final int fileId) {
@@ -1992,7 +2176,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize, this.executor);
+          final OFile file = createFile(path);
 
           if (file.exists()) {
             file.open();
@@ -2059,7 +2243,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize, this.executor);
+          final OFile file = createFile(path);
 
           if (file.exists()) {
             file.open();
@@ -2132,8 +2316,7 @@ public final class OWOWCache extends OAbstractWriteCache
         final long externalId = composeFileId(id, nameIdEntry.getValue());
 
         if (files.get(externalId) == null) {
-          final OFile fileClassic =
-              new AsyncFile(storagePath.resolve(nameIdEntry.getKey()), pageSize, this.executor);
+          final OFile fileClassic = createFile(storagePath.resolve(nameIdEntry.getKey()));
 
           if (fileClassic.exists()) {
             fileClassic.open();
@@ -2374,41 +2557,20 @@ public final class OWOWCache extends OAbstractWriteCache
 
         // if page is not stored in the file may be page is stored in double write log
         if (fileClassic.getFileSize() >= pageEndPosition) {
-          OPointer pointer = bufferPool.acquireDirect(true, MemTrace.LOAD_PAGE_FROM_DISK);
-          ByteBuffer buffer = pointer.getNativeByteBuffer();
+          final OPointer pointer = bufferPool.acquireDirect(true, MemTrace.LOAD_PAGE_FROM_DISK);
+          final ByteBuffer buffer = pointer.getNativeByteBuffer();
 
           assert buffer.position() == 0;
           assert buffer.order() == ByteOrder.nativeOrder();
 
-          fileClassic.read(pagePosition, buffer, true);
-
-          if (verifyChecksums
-              && (checksumMode == OChecksumMode.StoreAndVerify
-                  || checksumMode == OChecksumMode.StoreAndThrow
-                  || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
-            // if page is broken inside of data file we check double write log
-            if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
-              final OPointer doubleWritePointer =
-                  doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
-
-              if (doubleWritePointer == null) {
-                assertPageIsBroken(pageIndex, fileId, pointer);
-              } else {
-                bufferPool.release(pointer);
-
-                buffer = doubleWritePointer.getNativeByteBuffer();
-                assert buffer.position() == 0;
-                pointer = doubleWritePointer;
-
-                if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
-                  assertPageIsBroken(pageIndex, fileId, pointer);
-                }
-              }
-            }
+          try {
+            fileClassic.read(pagePosition, buffer, true);
+          } catch (final IOException | RuntimeException e) {
+            bufferPool.release(pointer);
+            throw e;
           }
 
-          buffer.position(0);
-          return new OCachePointer(pointer, bufferPool, fileId, (int) pageIndex);
+          return preparePageContent(pointer, internalFileId, pageIndex, verifyChecksums);
         } else {
           final OPointer pointer =
               doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
@@ -2436,6 +2598,56 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  /**
+   * Decompresses and verifies content of the page read from the data file. If page is broken
+   * inside of data file its content is loaded from double write log.
+   */
+  private OCachePointer preparePageContent(
+      OPointer pointer,
+      final int internalFileId,
+      final long pageIndex,
+      final boolean verifyChecksums)
+      throws IOException {
+    final long fileId = composeFileId(id, internalFileId);
+
+    pointer = decompressPage(pointer);
+    ByteBuffer buffer = pointer.getNativeByteBuffer();
+    buffer.position(0);
+
+    if (verifyChecksums
+        && (checksumMode == OChecksumMode.StoreAndVerify
+            || checksumMode == OChecksumMode.StoreAndThrow
+            || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
+      // if page is broken inside of data file we check double write log
+      if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+        final OPointer doubleWritePointer;
+        try {
+          doubleWritePointer = doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
+        } catch (final IOException | RuntimeException e) {
+          bufferPool.release(pointer);
+          throw e;
+        }
+
+        if (doubleWritePointer == null) {
+          assertPageIsBroken(pageIndex, fileId, pointer);
+        } else {
+          bufferPool.release(pointer);
+
+          buffer = doubleWritePointer.getNativeByteBuffer();
+          assert buffer.position() == 0;
+          pointer = doubleWritePointer;
+
+          if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+            assertPageIsBroken(pageIndex, fileId, pointer);
+          }
+        }
+      }
+    }
+
+    buffer.position(0);
+    return new OCachePointer(pointer, bufferPool, fileId, (int) pageIndex);
+  }
+
   private void assertPageIsBroken(long pageIndex, long fileId, OPointer pointer) {
     final String message =
         "Magic number verification failed for page `"
@@ -2884,6 +3096,7 @@ public final class OWOWCache extends OAbstractWriteCache
     int flushedPages = 0;
 
     final OPointer[] containerPointers = new OPointer[chunks.size()];
+    final OPointer[] compressedPointers = new OPointer[pageCompression ? chunks.size() : 0];
     final ByteBuffer[] containerBuffers = new ByteBuffer[chunks.size()];
     final int[] chunkPositions = new int[chunks.size()];
     final int[] chunkFileIds = new int[chunks.size()];
@@ -2925,7 +3138,24 @@ public final class OWOWCache extends OAbstractWriteCache
 
         final List<ORawPair<Long, ByteBuffer>> fileBuffers =
             buffersByFileId.computeIfAbsent(fileId, (id) -> new ArrayList<>());
-        fileBuffers.add(new ORawPair<>(((long) pageIndex) * pageSize, containerBuffer));
+        if (pageCompression) {
+          final OPointer compressedPointer =
+              ODirectMemoryAllocator.instance()
+                  .allocate(
+                      chunk.size() * pageSize,
+                      false,
+                      MemTrace.ALLOCATE_CHUNK_TO_WRITE_DATA_IN_BATCH);
+          compressedPointers[i] = compressedPointer;
+
+          addCompressedPages(
+              containerBuffer,
+              compressedPointer.getNativeByteBuffer(),
+              chunk.size(),
+              pageIndex,
+              fileBuffers);
+        } else {
+          fileBuffers.add(new ORawPair<>(((long) pageIndex) * pageSize, containerBuffer));
+        }
 
         chunkPositions[i] = pageIndex;
         chunkFileIds[i] = internalFileId(fileId);
@@ -3002,6 +3232,12 @@ public final class OWOWCache extends OAbstractWriteCache
           ODirectMemoryAllocator.instance().deallocate(containerPointer);
         }
       }
+
+      for (final OPointer compressedPointer : compressedPointers) {
+        if (compressedPointer != null) {
+          ODirectMemoryAllocator.instance().deallocate(compressedPointer);
+        }
+      }
     }
 
     if (fsyncFiles) {
@@ -3044,6 +3280,126 @@ public final class OWOWCache extends OAbstractWriteCache
     return flushedPages;
   }
 
+  /**
+   * Compresses pages of the chunk and adds them to the list of buffers which are written to the
+   * file. Compressed page is written together with the last byte of the page, so the file size
+   * stays aligned to the page size, while the rest of the page is not written and is not allocated
+   * on disk if the file system supports sparse files. Pages which do not give enough gain after
+   * compression are written as is.
+   */
+  private void addCompressedPages(
+      final ByteBuffer containerBuffer,
+      final ByteBuffer compressedBuffer,
+      final int pages,
+      final int firstPageIndex,
+      final List<ORawPair<Long, ByteBuffer>> fileBuffers) {
+    final int maxCompressedLength = pageSize - COMPRESSED_DATA_OFFSET - COMPRESSION_MIN_GAIN;
+
+    int uncompressedFrom = -1;
+    for (int i = 0; i < pages; i++) {
+      final int pageOffset = i * pageSize;
+
+      int compressedLength;
+      try {
+        compressedLength =
+            LZ_4_COMPRESSOR.compress(
+                containerBuffer,
+                pageOffset,
+                pageSize,
+                compressedBuffer,
+                pageOffset + COMPRESSED_DATA_OFFSET,
+                maxCompressedLength);
+      } catch (final LZ4Exception e) {
+        // page is not compressible enough
+        compressedLength = -1;
+      }
+
+      if (compressedLength < 0) {
+        if (uncompressedFrom < 0) {
+          uncompressedFrom = i;
+        }
+        continue;
+      }
+
+      if (uncompressedFrom >= 0) {
+        addUncompressedPages(containerBuffer, uncompressedFrom, i, firstPageIndex, fileBuffers);
+        uncompressedFrom = -1;
+      }
+
+      compressedBuffer.putLong(pageOffset + MAGIC_NUMBER_OFFSET, MAGIC_NUMBER_COMPRESSED);
+      compressedBuffer.putInt(pageOffset + COMPRESSED_LENGTH_OFFSET, compressedLength);
+      compressedBuffer.put(pageOffset + pageSize - 1, (byte) 0);
+
+      final long filePosition = ((long) (firstPageIndex + i)) * pageSize;
+      fileBuffers.add(
+          new ORawPair<>(
+              filePosition,
+              compressedBuffer.slice(pageOffset, COMPRESSED_DATA_OFFSET + compressedLength)));
+      fileBuffers.add(
+          new ORawPair<>(
+              filePosition + pageSize - 1, compressedBuffer.slice(pageOffset + pageSize - 1, 1)));
+    }
+
+    if (uncompressedFrom >= 0) {
+      addUncompressedPages(containerBuffer, uncompressedFrom, pages, firstPageIndex, fileBuffers);
+    }
+  }
+
+  private void addUncompressedPages(
+      final ByteBuffer containerBuffer,
+      final int from,
+      final int to,
+      final int firstPageIndex,
+      final List<ORawPair<Long, ByteBuffer>> fileBuffers) {
+    fileBuffers.add(
+        new ORawPair<>(
+            ((long) (firstPageIndex + from)) * pageSize,
+            containerBuffer.slice(from * pageSize, (to - from) * pageSize)));
+  }
+
+  /**
+   * Replaces the page read from the data file by its decompressed image if the page is stored
+   * compressed. If the compressed page is broken it is returned as is, so it does not pass
+   * verification of the magic number.
+   *
+   * @return pointer to the page content, the passed in pointer is released if it is replaced
+   */
+  private OPointer decompressPage(final OPointer pointer) {
+    final ByteBuffer buffer = pointer.getNativeByteBuffer();
+    if (buffer.getLong(MAGIC_NUMBER_OFFSET) != MAGIC_NUMBER_COMPRESSED) {
+      return pointer;
+    }
+
+    final int compressedLength = buffer.getInt(COMPRESSED_LENGTH_OFFSET);
+    if (compressedLength <= 0 || compressedLength > pageSize - COMPRESSED_DATA_OFFSET) {
+      return pointer;
+    }
+
+    final OPointer pagePointer = bufferPool.acquireDirect(false, MemTrace.LOAD_PAGE_FROM_DISK);
+    final int pageLength;
+    try {
+      pageLength =
+          LZ_4_DECOMPRESSOR.decompress(
+              buffer,
+              COMPRESSED_DATA_OFFSET,
+              compressedLength,
+              pagePointer.getNativeByteBuffer(),
+              0,
+              pageSize);
+    } catch (final LZ4Exception e) {
+      bufferPool.release(pagePointer);
+      return pointer;
+    }
+
+    if (pageLength != pageSize) {
+      bufferPool.release(pagePointer);
+      return pointer;
+    }
+
+    bufferPool.release(pointer);
+    return pagePointer;
+  }
+
   private void flushExclusiveWriteCache(final CountDownLatch latch, long pagesToFlush)
       throws InterruptedException, IOException {
     final Iterator<PageKey> iterator = exclusiveWritePages.iterator();
@@ -50,6 +50,7 @@ import java.io.IOException;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
@@ -639,6 +640,91 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
   }
 
+  /**
+   * Reads the records sorted by their page, so that each page is loaded once and the pages are
+   * visited in the order of the file. Records which span several pages are read one by one.
+   */
+  @Override
+  public ORawBuffer[] readRecords(final long[] clusterPositions) throws IOException {
+    final ORawBuffer[] result = new ORawBuffer[clusterPositions.length];
+
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+        final long[] pagePointers = new long[clusterPositions.length];
+        final List<Integer> order = new ArrayList<>(clusterPositions.length);
+        for (int i = 0; i < clusterPositions.length; i++) {
+          final OClusterPositionMapBucket.PositionEntry positionEntry =
+              clusterPositionMap.get(clusterPositions[i], atomicOperation);
+          if (positionEntry != null) {
+            pagePointers[i] =
+                createPagePointer(positionEntry.getPageIndex(), positionEntry.getRecordPosition());
+            order.add(i);
+          }
+        }
+        order.sort((first, second) -> Long.compare(pagePointers[first], pagePointers[second]));
+
+        OCacheEntry cacheEntry = null;
+        try {
+          for (final int index : order) {
+            final long pageIndex = getPageIndex(pagePointers[index]);
+            final int recordPosition = getRecordPosition(pagePointers[index]);
+            if (cacheEntry == null || cacheEntry.getPageIndex() != pageIndex) {
+              if (cacheEntry != null) {
+                cacheEntry.close();
+                cacheEntry = null;
+              }
+              cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex);
+            }
+
+            final OClusterPage localPage = new OClusterPage(cacheEntry);
+            if (localPage.isDeleted(recordPosition)) {
+              continue;
+            }
+
+            final byte[] content =
+                localPage.getRecordBinaryValue(
+                    recordPosition, 0, localPage.getRecordSize(recordPosition));
+            assert content != null;
+
+            if (content[content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE]
+                == 0) {
+              continue;
+            }
+
+            final long nextPagePointer =
+                OLongSerializer.INSTANCE.deserializeNative(
+                    content, content.length - OLongSerializer.LONG_SIZE);
+            if (nextPagePointer >= 0) {
+              result[index] =
+                  internalReadRecord(
+                      clusterPositions[index], pageIndex, recordPosition, atomicOperation);
+            } else {
+              result[index] =
+                  toRawBuffer(
+                      convertRecordChunksToSingleChunk(
+                          Collections.singletonList(content),
+                          content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE),
+                      localPage.getRecordVersion(recordPosition));
+            }
+          }
+        } finally {
+          if (cacheEntry != null) {
+            cacheEntry.close();
+          }
+        }
+        return result;
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
   private ORawBuffer internalReadRecord(
       final long clusterPosition,
       long pageIndex,
@@ -693,8 +779,10 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
       recordPosition = getRecordPosition(nextPagePointer);
     } while (nextPagePointer >= 0);
 
-    byte[] fullContent = convertRecordChunksToSingleChunk(recordChunks, contentSize);
+    return toRawBuffer(convertRecordChunksToSingleChunk(recordChunks, contentSize), recordVersion);
+  }
 
+  private static ORawBuffer toRawBuffer(final byte[] fullContent, final int recordVersion) {
     if (fullContent == null) {
       return null;
     }
@@ -0,0 +1,718 @@
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageClusterConfiguration;
+import com.orientechnologies.orient.core.config.OStoragePaginatedClusterConfiguration;
+import com.orientechnologies.orient.core.conflict.ORecordConflictStrategy;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.metadata.OMetadataInternal;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.cluster.OPaginatedClusterDebug;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OClusterBrowseEntry;
+import com.orientechnologies.orient.core.storage.impl.local.OClusterBrowsePage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cluster which consists of several {@link OPaginatedClusterV2} stripes. Every stripe is a separate
+ * durable component with its own lock, so transactions which create records in the same cluster
+ * do not wait for each other if they write into different stripes.
+ *
+ * <p>Stripe of the record is encoded in its cluster position, position of the record inside of the
+ * cluster is <code>stripePosition * stripesCount + stripeIndex</code>. First stripe uses files of
+ * the cluster itself, the rest of stripes use name of the cluster with <code>$s</code> and the
+ * index of the stripe appended, so amount of stripes is restored from the list of files when
+ * cluster is opened.
+ *
+ * <p>Stripes are always locked in order of their indexes, with the exception of the stripe which
+ * is used to create new records. This stripe is chosen by the try-lock of the stripes which are not
+ * used by other transactions and is locked only if transaction does not change any other stripe
+ * of the cluster.
+ */
+public final class OStripedPaginatedCluster extends OPaginatedCluster {
+  public static final int BINARY_VERSION = 3;
+
+  private static final String STRIPE_SUFFIX = "$s";
+
+  private final boolean systemCluster;
+
+  private volatile List<OPaginatedClusterV2> stripes = Collections.emptyList();
+
+  private volatile int id;
+  private String conflictStrategy;
+  private ORecordConflictStrategy recordConflictStrategy;
+
+  public OStripedPaginatedCluster(final String name, final OAbstractPaginatedStorage storage) {
+    super(storage, name, OPaginatedCluster.DEF_EXTENSION, name + STRIPE_SUFFIX);
+
+    systemCluster = OMetadataInternal.SYSTEM_CLUSTER.contains(name);
+  }
+
+  private static String stripeName(final String name, final int stripeIndex) {
+    if (stripeIndex == 0) {
+      return name;
+    }
+
+    return name + STRIPE_SUFFIX + stripeIndex;
+  }
+
+  private int stripeIndex(final long clusterPosition) {
+    return (int) Math.floorMod(clusterPosition, (long) stripes.size());
+  }
+
+  private long stripePosition(final long clusterPosition) {
+    return Math.floorDiv(clusterPosition, stripes.size());
+  }
+
+  private long clusterPosition(final long stripePosition, final int stripeIndex) {
+    return stripePosition * stripes.size() + stripeIndex;
+  }
+
+  private OPaginatedClusterV2 stripe(final long clusterPosition) {
+    return stripes.get(stripeIndex(clusterPosition));
+  }
+
+  private OPhysicalPosition toCluster(final OPhysicalPosition position, final int stripeIndex) {
+    if (position != null) {
+      position.clusterPosition = clusterPosition(position.clusterPosition, stripeIndex);
+    }
+
+    return position;
+  }
+
+  private OPhysicalPosition toStripe(final OPhysicalPosition position) {
+    final OPhysicalPosition stripePosition = new OPhysicalPosition();
+    stripePosition.copyFrom(position);
+    stripePosition.clusterPosition = stripePosition(position.clusterPosition);
+    return stripePosition;
+  }
+
+  private List<OPaginatedClusterV2> initStripes(final int stripesCount) throws IOException {
+    final List<OPaginatedClusterV2> result = new ArrayList<>(stripesCount);
+    for (int i = 0; i < stripesCount; i++) {
+      final OPaginatedClusterV2 stripe = new OPaginatedClusterV2(stripeName(getName(), i), storage);
+      stripe.configure(id, stripe.getName());
+      if (conflictStrategy != null) {
+        stripe.setRecordConflictStrategy(conflictStrategy);
+      }
+
+      result.add(stripe);
+    }
+
+    return result;
+  }
+
+  @Override
+  public void configure(final int id, final String clusterName) throws IOException {
+    acquireExclusiveLock();
+    try {
+      init(id, clusterName, null);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public void configure(final OStorage storage, final OStorageClusterConfiguration config)
+      throws IOException {
+    acquireExclusiveLock();
+    try {
+      init(
+          config.getId(),
+          config.getName(),
+          ((OStoragePaginatedClusterConfiguration) config).conflictStrategy);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  private void init(final int id, final String name, final String conflictStrategy)
+      throws IOException {
+    OFileUtils.checkValidName(name);
+
+    if (conflictStrategy != null) {
+      this.conflictStrategy = conflictStrategy;
+      this.recordConflictStrategy =
+          Orient.instance().getRecordConflictStrategy().getStrategy(conflictStrategy);
+    }
+
+    this.id = id;
+  }
+
+  @Override
+  public void create(final OAtomicOperation atomicOperation) throws IOException {
+    acquireExclusiveLock();
+    try {
+      final int stripesCount =
+          Math.max(
+              storage
+                  .getConfiguration()
+                  .getContextConfiguration()
+                  .getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_STRIPES),
+              1);
+      final List<OPaginatedClusterV2> stripes = initStripes(stripesCount);
+      for (final OPaginatedClusterV2 stripe : stripes) {
+        stripe.create(atomicOperation);
+      }
+
+      this.stripes = stripes;
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public void open(final OAtomicOperation atomicOperation) throws IOException {
+    acquireExclusiveLock();
+    try {
+      int stripesCount = 1;
+      while (isFileExists(atomicOperation, stripeName(getName(), stripesCount) + getExtension())) {
+        stripesCount++;
+      }
+
+      final List<OPaginatedClusterV2> stripes = initStripes(stripesCount);
+      for (final OPaginatedClusterV2 stripe : stripes) {
+        stripe.open(atomicOperation);
+      }
+
+      this.stripes = stripes;
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public void close() {
+    close(true);
+  }
+
+  @Override
+  public void close(final boolean flush) {
+    acquireExclusiveLock();
+    try {
+      for (final OPaginatedClusterV2 stripe : stripes) {
+        stripe.close(flush);
+      }
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public void delete(final OAtomicOperation atomicOperation) {
+    acquireExclusiveLock();
+    try {
+      for (final OPaginatedClusterV2 stripe : stripes) {
+        stripe.delete(atomicOperation);
+      }
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public boolean exists() {
+    return stripes.get(0).exists();
+  }
+
+  @Override
+  public int getBinaryVersion() {
+    return BINARY_VERSION;
+  }
+
+  @Override
+  public OStoragePaginatedClusterConfiguration generateClusterConfig() {
+    acquireSharedLock();
+    try {
+      return new OStoragePaginatedClusterConfiguration(
+          id,
+          getName(),
+          null,
+          true,
+          OStoragePaginatedClusterConfiguration.DEFAULT_GROW_FACTOR,
+          OStoragePaginatedClusterConfiguration.DEFAULT_GROW_FACTOR,
+          null,
+          null,
+          null,
+          Optional.ofNullable(recordConflictStrategy)
+              .map(ORecordConflictStrategy::getName)
+              .orElse(null),
+          OStorageClusterConfiguration.STATUS.ONLINE,
+          BINARY_VERSION);
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  @Override
+  public boolean isSystemCluster() {
+    return systemCluster;
+  }
+
+  @Override
+  public String compression() {
+    return null;
+  }
+
+  @Override
+  public String encryption() {
+    return null;
+  }
+
+  @Override
+  public void setEncryption(final String method, final String key) {
+    throw new UnsupportedOperationException("Encryption should be configured on storage level.");
+  }
+
+  @Override
+  public long getTombstonesCount() {
+    return 0;
+  }
+
+  /**
+   * Returns stripe which is used to create new records in the given atomic operation. It is the
+   * first stripe already locked by this operation, or, if there is no such stripe, the first
+   * stripe which can be locked without waiting for other atomic operations.
+   */
+  private int insertionStripe(final OAtomicOperation atomicOperation) {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+    for (int i = 0; i < stripes.size(); i++) {
+      if (atomicOperation.containsInLockedObjects(stripes.get(i).getLockName())) {
+        return i;
+      }
+    }
+
+    final int start = (int) (Thread.currentThread().getId() % stripes.size());
+    for (int i = 0; i < stripes.size(); i++) {
+      final int stripeIndex = (start + i) % stripes.size();
+      if (atomicOperationsManager.tryAcquireExclusiveLockTillOperationComplete(
+          atomicOperation, stripes.get(stripeIndex))) {
+        return stripeIndex;
+      }
+    }
+
+    atomicOperationsManager.acquireExclusiveLockTillOperationComplete(
+        atomicOperation, stripes.get(start).getLockName());
+    return start;
+  }
+
+  @Override
+  public OPhysicalPosition allocatePosition(
+      final byte recordType, final OAtomicOperation atomicOperation) {
+    final int stripeIndex = insertionStripe(atomicOperation);
+    return toCluster(
+        stripes.get(stripeIndex).allocatePosition(recordType, atomicOperation), stripeIndex);
+  }
+
+  @Override
+  public OPhysicalPosition createRecord(
+      final byte[] content,
+      final int recordVersion,
+      final byte recordType,
+      final OPhysicalPosition allocatedPosition,
+      final OAtomicOperation atomicOperation) {
+    if (allocatedPosition != null) {
+      final int stripeIndex = stripeIndex(allocatedPosition.clusterPosition);
+      return toCluster(
+          stripes
+              .get(stripeIndex)
+              .createRecord(
+                  content, recordVersion, recordType, toStripe(allocatedPosition), atomicOperation),
+          stripeIndex);
+    }
+
+    final int stripeIndex = insertionStripe(atomicOperation);
+    return toCluster(
+        stripes
+            .get(stripeIndex)
+            .createRecord(content, recordVersion, recordType, null, atomicOperation),
+        stripeIndex);
+  }
+
+  @Override
+  public boolean deleteRecord(final OAtomicOperation atomicOperation, final long clusterPosition) {
+    return stripe(clusterPosition).deleteRecord(atomicOperation, stripePosition(clusterPosition));
+  }
+
+  @Override
+  public void updateRecord(
+      final long clusterPosition,
+      final byte[] content,
+      final int recordVersion,
+      final byte recordType,
+      final OAtomicOperation atomicOperation) {
+    stripe(clusterPosition)
+        .updateRecord(
+            stripePosition(clusterPosition), content, recordVersion, recordType, atomicOperation);
+  }
+
+  @Override
+  public ORawBuffer readRecord(final long clusterPosition, final boolean prefetchRecords)
+      throws IOException {
+    return stripe(clusterPosition).readRecord(stripePosition(clusterPosition), prefetchRecords);
+  }
+
+  @Override
+  public ORawBuffer[] readRecords(final long[] clusterPositions) throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+    final ORawBuffer[] result = new ORawBuffer[clusterPositions.length];
+
+    final int[] counts = new int[stripes.size()];
+    for (final long clusterPosition : clusterPositions) {
+      counts[stripeIndex(clusterPosition)]++;
+    }
+
+    for (int stripeIndex = 0; stripeIndex < counts.length; stripeIndex++) {
+      if (counts[stripeIndex] == 0) {
+        continue;
+      }
+
+      final long[] stripePositions = new long[counts[stripeIndex]];
+      final int[] indexes = new int[counts[stripeIndex]];
+      int size = 0;
+      for (int i = 0; i < clusterPositions.length; i++) {
+        if (stripeIndex(clusterPositions[i]) == stripeIndex) {
+          stripePositions[size] = stripePosition(clusterPositions[i]);
+          indexes[size] = i;
+          size++;
+        }
+      }
+
+      final ORawBuffer[] records = stripes.get(stripeIndex).readRecords(stripePositions);
+      for (int i = 0; i < size; i++) {
+        result[indexes[i]] = records[i];
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public ORawBuffer readRecordIfVersionIsNotLatest(
+      final long clusterPosition, final int recordVersion)
+      throws IOException, ORecordNotFoundException {
+    return stripe(clusterPosition)
+        .readRecordIfVersionIsNotLatest(stripePosition(clusterPosition), recordVersion);
+  }
+
+  @Override
+  public OPhysicalPosition getPhysicalPosition(final OPhysicalPosition position)
+      throws IOException {
+    return toCluster(
+        stripe(position.clusterPosition).getPhysicalPosition(toStripe(position)),
+        stripeIndex(position.clusterPosition));
+  }
+
+  @Override
+  public boolean isDeleted(final OPhysicalPosition position) throws IOException {
+    return stripe(position.clusterPosition).isDeleted(toStripe(position));
+  }
+
+  @Override
+  public RECORD_STATUS getRecordStatus(final long clusterPosition) throws IOException {
+    return stripe(clusterPosition).getRecordStatus(stripePosition(clusterPosition));
+  }
+
+  @Override
+  public OPaginatedClusterDebug readDebug(final long clusterPosition) throws IOException {
+    final OPaginatedClusterDebug debug =
+        stripe(clusterPosition).readDebug(stripePosition(clusterPosition));
+    debug.clusterPosition = clusterPosition;
+    return debug;
+  }
+
+  @Override
+  public long getEntries() {
+    long entries = 0;
+    for (final OPaginatedClusterV2 stripe : stripes) {
+      entries += stripe.getEntries();
+    }
+
+    return entries;
+  }
+
+  @Override
+  public long getRecordsSize() throws IOException {
+    long recordsSize = 0;
+    for (final OPaginatedClusterV2 stripe : stripes) {
+      recordsSize += stripe.getRecordsSize();
+    }
+
+    return recordsSize;
+  }
+
+  @Override
+  public long getFirstPosition() throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+
+    long firstPosition = -1;
+    for (int i = 0; i < stripes.size(); i++) {
+      final long position = stripes.get(i).getFirstPosition();
+      if (position >= 0) {
+        final long clusterPosition = clusterPosition(position, i);
+        if (firstPosition < 0 || clusterPosition < firstPosition) {
+          firstPosition = clusterPosition;
+        }
+      }
+    }
+
+    return firstPosition;
+  }
+
+  @Override
+  public long getLastPosition() throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+
+    long lastPosition = -1;
+    for (int i = 0; i < stripes.size(); i++) {
+      final long position = stripes.get(i).getLastPosition();
+      if (position >= 0) {
+        lastPosition = Math.max(lastPosition, clusterPosition(position, i));
+      }
+    }
+
+    return lastPosition;
+  }
+
+  @Override
+  public long getNextPosition() throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+
+    long nextPosition = 0;
+    for (int i = 0; i < stripes.size(); i++) {
+      nextPosition = Math.max(nextPosition, clusterPosition(stripes.get(i).getNextPosition(), i));
+    }
+
+    return nextPosition;
+  }
+
+  @Override
+  public OPhysicalPosition[] higherPositions(final OPhysicalPosition position) throws IOException {
+    return ceilingPositions(position.clusterPosition + 1);
+  }
+
+  @Override
+  public OPhysicalPosition[] ceilingPositions(final OPhysicalPosition position) throws IOException {
+    return ceilingPositions(position.clusterPosition);
+  }
+
+  /**
+   * Merges positions of all stripes which are not less than the given one. Every stripe returns
+   * only part of its positions, so only positions up to the smallest last position of non-empty
+   * stripe results are returned, the rest will be returned by the next call.
+   */
+  private OPhysicalPosition[] ceilingPositions(final long clusterPosition) throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+    final List<OPhysicalPosition> positions = new ArrayList<>();
+
+    long limit = Long.MAX_VALUE;
+    for (int i = 0; i < stripes.size(); i++) {
+      final OPhysicalPosition stripePosition = new OPhysicalPosition();
+      stripePosition.clusterPosition =
+          Math.max(Math.floorDiv(clusterPosition - i + stripes.size() - 1, stripes.size()), 0);
+
+      final OPhysicalPosition[] result = stripes.get(i).ceilingPositions(stripePosition);
+      if (result.length > 0) {
+        for (final OPhysicalPosition position : result) {
+          positions.add(toCluster(position, i));
+        }
+
+        limit = Math.min(limit, result[result.length - 1].clusterPosition);
+      }
+    }
+
+    final long maxPosition = limit;
+    return positions.stream()
+        .filter(position -> position.clusterPosition <= maxPosition)
+        .sorted(Comparator.comparingLong(position -> position.clusterPosition))
+        .toArray(OPhysicalPosition[]::new);
+  }
+
+  @Override
+  public OPhysicalPosition[] lowerPositions(final OPhysicalPosition position) throws IOException {
+    return floorPositions(position.clusterPosition - 1);
+  }
+
+  @Override
+  public OPhysicalPosition[] floorPositions(final OPhysicalPosition position) throws IOException {
+    return floorPositions(position.clusterPosition);
+  }
+
+  /**
+   * Merges positions of all stripes which are not bigger than the given one. Only positions down to
+   * the biggest first position of non-empty stripe results are returned, the rest will be returned
+   * by the next call.
+   */
+  private OPhysicalPosition[] floorPositions(final long clusterPosition) throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+    final List<OPhysicalPosition> positions = new ArrayList<>();
+
+    long limit = Long.MIN_VALUE;
+    for (int i = 0; i < stripes.size(); i++) {
+      final OPhysicalPosition stripePosition = new OPhysicalPosition();
+      stripePosition.clusterPosition = Math.floorDiv(clusterPosition - i, stripes.size());
+      if (stripePosition.clusterPosition < 0) {
+        continue;
+      }
+
+      final OPhysicalPosition[] result = stripes.get(i).floorPositions(stripePosition);
+      if (result.length > 0) {
+        for (final OPhysicalPosition position : result) {
+          positions.add(toCluster(position, i));
+        }
+
+        limit = Math.max(limit, result[0].clusterPosition);
+      }
+    }
+
+    final long minPosition = limit;
+    return positions.stream()
+        .filter(position -> position.clusterPosition >= minPosition)
+        .sorted(Comparator.comparingLong(position -> position.clusterPosition))
+        .toArray(OPhysicalPosition[]::new);
+  }
+
+  @Override
+  public OClusterBrowsePage nextPage(final long lastPosition) throws IOException {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+    final List<OClusterBrowseEntry> entries = new ArrayList<>();
+
+    long limit = Long.MAX_VALUE;
+    for (int i = 0; i < stripes.size(); i++) {
+      final OClusterBrowsePage page =
+          stripes.get(i).nextPage(Math.floorDiv(lastPosition - i, stripes.size()));
+      if (page != null) {
+        for (final OClusterBrowseEntry entry : page) {
+          entries.add(
+              new OClusterBrowseEntry(
+                  clusterPosition(entry.getClusterPosition(), i), entry.getBuffer()));
+        }
+
+        limit = Math.min(limit, clusterPosition(page.getLastPosition(), i));
+      }
+    }
+
+    if (entries.isEmpty()) {
+      return null;
+    }
+
+    final long maxPosition = limit;
+    entries.removeIf(entry -> entry.getClusterPosition() > maxPosition);
+    entries.sort(Comparator.comparingLong(OClusterBrowseEntry::getClusterPosition));
+
+    return new OClusterBrowsePage(entries, maxPosition);
+  }
+
+  @Override
+  public String getFileName() {
+    return stripes.get(0).getFileName();
+  }
+
+  @Override
+  public long getFileId() {
+    return stripes.get(0).getFileId();
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public void synch() throws IOException {
+    for (final OPaginatedClusterV2 stripe : stripes) {
+      stripe.synch();
+    }
+  }
+
+  @Override
+  public ORecordConflictStrategy getRecordConflictStrategy() {
+    return recordConflictStrategy;
+  }
+
+  @Override
+  public void setRecordConflictStrategy(final String stringValue) {
+    acquireExclusiveLock();
+    try {
+      conflictStrategy = stringValue;
+      recordConflictStrategy =
+          Orient.instance().getRecordConflictStrategy().getStrategy(stringValue);
+      for (final OPaginatedClusterV2 stripe : stripes) {
+        stripe.setRecordConflictStrategy(stringValue);
+      }
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public void setClusterName(final String newName) {
+    acquireExclusiveLock();
+    try {
+      for (int i = 0; i < stripes.size(); i++) {
+        stripes.get(i).setClusterName(stripeName(newName, i));
+      }
+
+      setName(newName);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  /** Locks all stripes of the cluster. */
+  @Override
+  public void acquireAtomicExclusiveLock() {
+    for (final OPaginatedClusterV2 stripe : stripes) {
+      stripe.acquireAtomicExclusiveLock();
+    }
+  }
+
+  /**
+   * Locks stripes which are going to be changed by the active atomic operation running on the
+   * current thread.
+   *
+   * @param changedPositions positions of the records which are going to be updated or deleted.
+   * @param createsRecords whether new records are going to be created in this cluster.
+   */
+  public void acquireAtomicExclusiveLock(
+      final Collection<Long> changedPositions, final boolean createsRecords) {
+    final List<OPaginatedClusterV2> stripes = this.stripes;
+    final boolean[] changedStripes = new boolean[stripes.size()];
+    for (final long position : changedPositions) {
+      changedStripes[stripeIndex(position)] = true;
+    }
+
+    boolean locked = false;
+    for (int i = 0; i < stripes.size(); i++) {
+      if (changedStripes[i]) {
+        stripes.get(i).acquireAtomicExclusiveLock();
+        locked = true;
+      }
+    }
+
+    if (createsRecords && !locked) {
+      insertionStripe(atomicOperationsManager.getCurrentOperation());
+    }
+  }
+
+  /** @return amount of stripes, the cluster consists of. */
+  public int getStripesCount() {
+    return stripes.size();
+  }
+
+  @Override
+  public String toString() {
+    return "plocal cluster: " + getName() + " (stripes: " + stripes.size() + ")";
+  }
+}
@@ -62,6 +62,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWrite
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyBTree;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMap;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainer;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerShared;
@@ -136,6 +137,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     OClusterBasedStorageConfiguration.TREE_NULL_FILE_EXTENSION,
     OCellBTreeMultiValueIndexEngine.DATA_FILE_EXTENSION,
     OCellBTreeMultiValueIndexEngine.M_CONTAINER_EXTENSION,
+    NormalizedKeyBTree.DATA_FILE_EXTENSION,
     DoubleWriteLogGL.EXTENSION,
     FreeSpaceMap.DEF_EXTENSION,
     OVersionPositionMap.DEF_EXTENSION
@@ -787,7 +789,10 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             contextConfiguration.getValueAsBoolean(
                 OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
             contextConfiguration.getValueAsInteger(
-                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_GROUP_COMMIT),
+            contextConfiguration.getValueAsInteger(
+                OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_DELAY));
     writeAheadLog.addCheckpointListener(this);
 
     final int pageSize =
@@ -827,6 +832,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             iv,
             aesKey,
             contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC),
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION),
+            contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_VECTORED_IO),
             ((OrientDBEmbedded) context).getIoExecutor());
 
     wowCache.loadRegisteredFiles();
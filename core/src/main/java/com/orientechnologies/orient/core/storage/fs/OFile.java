@@ -18,6 +18,17 @@ public interface OFile extends OClosableItem {
 
   void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException;
 
+  /**
+   * Reads adjacent region of the file into the passed in buffers, one buffer after another.
+   * Implementations which support vectored I/O read the whole region at once.
+   */
+  default void read(long offset, ByteBuffer[] buffers, boolean throwOnEof) throws IOException {
+    for (final ByteBuffer buffer : buffers) {
+      read(offset, buffer, throwOnEof);
+      offset += buffer.limit();
+    }
+  }
+
   void write(long offset, ByteBuffer buffer) throws IOException;
 
   IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException;
@@ -0,0 +1,442 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.concur.lock.ScalableRWLock;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File which uses vectored (scatter/gather) I/O of {@link FileChannel}. Buffers which are written
+ * to the adjacent regions of the file are written by single system call, the same is true for the
+ * reads of adjacent pages by {@link #read(long, ByteBuffer[], boolean)}. All operations are
+ * synchronous, so {@link IOResult} returned by {@link #write(List)} is already completed.
+ *
+ * <p>Vectored operations of {@link FileChannel} use position of the channel, so they are
+ * serialized by the lock, while single buffer operations use positional calls and are not
+ * serialized.
+ */
+public final class VectoredFile implements OFile {
+  private static final OLogger logger = OLogManager.instance().logger(VectoredFile.class);
+
+  private static final IOResult COMPLETED = () -> {};
+
+  private static final Comparator<ORawPair<Long, ByteBuffer>> OFFSET_COMPARATOR =
+      Comparator.comparingLong(pair -> pair.first);
+
+  private final ScalableRWLock lock = new ScalableRWLock();
+  private final ReentrantLock positionLock = new ReentrantLock();
+  private volatile Path osFile;
+
+  private final AtomicLong dirtyCounter = new AtomicLong();
+  private final Object flushSemaphore = new Object();
+
+  private final AtomicLong size = new AtomicLong(-1);
+  private FileChannel fileChannel;
+
+  private final int pageSize;
+
+  public VectoredFile(final Path osFile, final int pageSize) {
+    this.osFile = osFile;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public void create() throws IOException {
+    lock.exclusiveLock();
+    try {
+      if (fileChannel != null) {
+        throw new OStorageException("File " + osFile + " is already opened.");
+      }
+
+      Files.createFile(osFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void initSize() throws IOException {
+    if (fileChannel.size() < HEADER_SIZE) {
+      final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+      writeFully(buffer, 0);
+
+      dirtyCounter.incrementAndGet();
+    }
+
+    long currentSize = fileChannel.size() - HEADER_SIZE;
+
+    if (currentSize % pageSize != 0) {
+      final long initialSize = currentSize;
+
+      currentSize = (currentSize / pageSize) * pageSize;
+      fileChannel.truncate(currentSize + HEADER_SIZE);
+
+      logger.warnNoDb(
+          "Data page in file {} was partially written and will be truncated, "
+              + "initial size {}, truncated size {}",
+          osFile,
+          initialSize,
+          currentSize);
+    }
+
+    if (size.get() < 0) {
+      size.set(currentSize);
+    } else {
+      if (fileChannel.size() - HEADER_SIZE > size.get()) {
+        throw new IllegalStateException(
+            "Physical size of the file "
+                + (fileChannel.size() - HEADER_SIZE)
+                + " but logical size is "
+                + size.get());
+      }
+    }
+  }
+
+  @Override
+  public void open() {
+    lock.exclusiveLock();
+    try {
+      doOpen();
+    } catch (IOException e) {
+      throw OException.wrapException(new OStorageException("Can not open file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doOpen() throws IOException {
+    if (fileChannel != null) {
+      throw new OStorageException("File " + osFile + " is already opened.");
+    }
+    fileChannel = FileChannel.open(osFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    initSize();
+  }
+
+  @Override
+  public long getFileSize() {
+    return size.get();
+  }
+
+  @Override
+  public String getName() {
+    return osFile.getFileName().toString();
+  }
+
+  @Override
+  public boolean isOpen() {
+    lock.sharedLock();
+    try {
+      return fileChannel != null;
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.exists(osFile);
+  }
+
+  @Override
+  public void write(long offset, ByteBuffer buffer) throws IOException {
+    lock.sharedLock();
+    try {
+      buffer.rewind();
+
+      checkForClose();
+      checkPosition(offset);
+      checkPosition(offset + buffer.limit() - 1);
+
+      writeFully(buffer, offset + HEADER_SIZE);
+      dirtyCounter.incrementAndGet();
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException {
+    final List<ORawPair<Long, ByteBuffer>> sortedBuffers = new ArrayList<>(buffers);
+    sortedBuffers.sort(OFFSET_COMPARATOR);
+
+    lock.sharedLock();
+    try {
+      checkForClose();
+
+      int groupStart = 0;
+      while (groupStart < sortedBuffers.size()) {
+        final long groupOffset = sortedBuffers.get(groupStart).first;
+        long groupEnd = groupOffset + sortedBuffers.get(groupStart).second.limit();
+
+        // collect buffers which are written to the adjacent regions of the file
+        int next = groupStart + 1;
+        while (next < sortedBuffers.size() && sortedBuffers.get(next).first == groupEnd) {
+          groupEnd += sortedBuffers.get(next).second.limit();
+          next++;
+        }
+
+        checkPosition(groupOffset);
+        checkPosition(groupEnd - 1);
+
+        if (next - groupStart == 1) {
+          final ByteBuffer buffer = sortedBuffers.get(groupStart).second;
+          buffer.rewind();
+          writeFully(buffer, groupOffset + HEADER_SIZE);
+        } else {
+          final ByteBuffer[] group = new ByteBuffer[next - groupStart];
+          for (int i = 0; i < group.length; i++) {
+            group[i] = sortedBuffers.get(groupStart + i).second;
+            group[i].rewind();
+          }
+
+          writeVectored(group, groupOffset + HEADER_SIZE, groupEnd - groupOffset);
+        }
+
+        dirtyCounter.incrementAndGet();
+        groupStart = next;
+      }
+    } finally {
+      lock.sharedUnlock();
+    }
+
+    return COMPLETED;
+  }
+
+  @Override
+  public void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+
+      int read = 0;
+      do {
+        buffer.position(read);
+        final int bytesRead = fileChannel.read(buffer, offset + HEADER_SIZE + read);
+
+        if (bytesRead == -1) {
+          if (throwOnEof) {
+            throw new EOFException("End of file " + osFile + " is reached.");
+          }
+
+          break;
+        }
+
+        read += bytesRead;
+      } while (read < buffer.limit());
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public void read(long offset, ByteBuffer[] buffers, boolean throwOnEof) throws IOException {
+    if (buffers.length == 1) {
+      read(offset, buffers[0], throwOnEof);
+      return;
+    }
+
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+
+      long length = 0;
+      for (final ByteBuffer buffer : buffers) {
+        buffer.rewind();
+        length += buffer.limit();
+      }
+
+      positionLock.lock();
+      try {
+        fileChannel.position(offset + HEADER_SIZE);
+
+        long read = 0;
+        while (read < length) {
+          final long bytesRead = fileChannel.read(buffers);
+          if (bytesRead == -1) {
+            if (throwOnEof) {
+              throw new EOFException("End of file " + osFile + " is reached.");
+            }
+
+            break;
+          }
+
+          read += bytesRead;
+        }
+      } finally {
+        positionLock.unlock();
+      }
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  private void writeFully(final ByteBuffer buffer, final long position) throws IOException {
+    int written = 0;
+    while (written < buffer.limit()) {
+      buffer.position(written);
+      written += fileChannel.write(buffer, position + written);
+    }
+  }
+
+  private void writeVectored(final ByteBuffer[] buffers, final long position, final long length)
+      throws IOException {
+    positionLock.lock();
+    try {
+      fileChannel.position(position);
+
+      long written = 0;
+      while (written < length) {
+        written += fileChannel.write(buffers);
+      }
+    } finally {
+      positionLock.unlock();
+    }
+  }
+
+  @Override
+  public long allocateSpace(int size) {
+    return this.size.getAndAdd(size);
+  }
+
+  @Override
+  public void shrink(long size) throws IOException {
+    lock.exclusiveLock();
+    try {
+      checkForClose();
+
+      this.size.set(0);
+      fileChannel.truncate(size + HEADER_SIZE);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void synch() {
+    lock.sharedLock();
+    try {
+      doSynch();
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  private void doSynch() {
+    synchronized (flushSemaphore) {
+      long dirtyCounterValue = dirtyCounter.get();
+      if (dirtyCounterValue > 0) {
+        try {
+          fileChannel.force(true);
+        } catch (final IOException e) {
+          logger.warn(
+              "Error during flush of file %s. Data may be lost in case of power failure",
+              e, getName());
+        }
+
+        dirtyCounter.addAndGet(-dirtyCounterValue);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.exclusiveLock();
+    try {
+      if (fileChannel != null) {
+        doSynch();
+      }
+      doClose();
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during closing the file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doClose() throws IOException {
+    // ignore if closed
+    if (fileChannel != null) {
+      fileChannel.close();
+      fileChannel = null;
+    }
+  }
+
+  @Override
+  public void delete() throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      logger.debugNoDb("File " + osFile + " has been deleted.", null);
+      Files.delete(osFile);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void renameTo(Path newFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      //noinspection NonAtomicOperationOnVolatileField
+      osFile = Files.move(osFile, newFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void replaceContentWith(final Path newContentFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      Files.copy(newContentFile, osFile, StandardCopyOption.REPLACE_EXISTING);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void checkPosition(long offset) {
+    final long fileSize = size.get();
+    if (offset < 0 || offset >= fileSize) {
+      throw new OStorageException(
+          "You are going to access region outside of allocated file position. File size = "
+              + fileSize
+              + ", requested position "
+              + offset);
+    }
+  }
+
+  private void checkForClose() {
+    if (fileChannel == null) {
+      throw new OStorageException("File " + osFile + " is closed");
+    }
+  }
+}
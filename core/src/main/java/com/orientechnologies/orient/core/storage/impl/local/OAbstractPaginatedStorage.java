@@ -107,12 +107,14 @@ import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.index.engine.IndexEngineValuesTransformer;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OIndexEntrySorter;
 import com.orientechnologies.orient.core.index.engine.OMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.OV1IndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
 import com.orientechnologies.orient.core.metadata.OMetadataDefault;
+import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -144,6 +146,7 @@ import com.orientechnologies.orient.core.storage.cache.chm.PageKey;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.cluster.OOfflineCluster;
 import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.cluster.v2.OStripedPaginatedCluster;
 import com.orientechnologies.orient.core.storage.config.OClusterBasedStorageConfiguration;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OStorageTransaction;
@@ -201,6 +204,7 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
@@ -231,6 +235,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -320,6 +325,7 @@ public abstract class OAbstractPaginatedStorage
 
   private volatile ThreadLocal<OStorageTransaction> transaction;
   private final AtomicBoolean walVacuumInProgress = new AtomicBoolean();
+  private final Lock restorePageAllocationLock = new ReentrantLock();
 
   protected volatile OWriteAheadLog writeAheadLog;
   private OStorageRecoverListener recoverListener;
@@ -2121,6 +2127,99 @@ public abstract class OAbstractPaginatedStorage
     }
   }
 
+  /**
+   * Reads a batch of records. The records are read sorted by cluster and physical position, so that
+   * every page is loaded once and the pages of a cluster are visited in the order of the file.
+   *
+   * @return the records in the order of the ids, null for the records which do not exist
+   */
+  public final List<ORawBuffer> readRecords(final Collection<? extends ORID> rids) {
+    try {
+      final ORecordId[] ids = new ORecordId[rids.size()];
+      final ORawBuffer[] result = new ORawBuffer[ids.length];
+      int size = 0;
+      for (final ORID rid : rids) {
+        ids[size++] = (ORecordId) rid;
+      }
+
+      if (readLock) {
+        // RECORD LOCKS ARE ACQUIRED ONE BY ONE
+        for (int i = 0; i < ids.length; i++) {
+          if (ids[i].isPersistent()) {
+            result[i] = readRecord(ids[i], false);
+          }
+        }
+        return Arrays.asList(result);
+      }
+
+      final List<Integer> order = new ArrayList<>(ids.length);
+      for (int i = 0; i < ids.length; i++) {
+        if (ids[i].isPersistent()) {
+          order.add(i);
+        }
+      }
+      order.sort((first, second) -> ids[first].compareTo(ids[second]));
+
+      if (transaction.get() != null) {
+        checkOpennessAndMigration();
+        doReadRecords(ids, order, result);
+      } else {
+        stateLock.readLock().lock();
+        try {
+          checkOpennessAndMigration();
+          doReadRecords(ids, order, result);
+        } finally {
+          stateLock.readLock().unlock();
+        }
+      }
+      return Arrays.asList(result);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  private void doReadRecords(
+      final ORecordId[] ids, final List<Integer> order, final ORawBuffer[] result) {
+    int from = 0;
+    while (from < order.size()) {
+      final int clusterId = ids[order.get(from)].getClusterId();
+      int to = from + 1;
+      while (to < order.size() && ids[order.get(to)].getClusterId() == clusterId) {
+        to++;
+      }
+
+      final OCluster cluster;
+      try {
+        cluster = doGetAndCheckCluster(clusterId);
+      } catch (IllegalArgumentException e) {
+        from = to;
+        continue;
+      }
+
+      final long[] positions = new long[to - from];
+      for (int i = from; i < to; i++) {
+        positions[i - from] = ids[order.get(i)].getClusterPosition();
+      }
+      try {
+        final ORawBuffer[] records = cluster.readRecords(positions);
+        for (int i = from; i < to; i++) {
+          result[order.get(i)] = records[i - from];
+        }
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new OStorageException("Error during read of records of cluster " + cluster.getName()),
+            e);
+      }
+      recordRead.increment(positions.length);
+
+      from = to;
+    }
+  }
+
   @Override
   public final OStorageOperationResult<ORawBuffer> readRecordIfVersionIsNotLatest(
       final ORecordId rid,
@@ -2320,7 +2419,7 @@ public abstract class OAbstractPaginatedStorage
         atomicOperationsManager.executeInsideAtomicOperation(
             null,
             atomicOperation -> {
-              lockClusters(clustersToLock);
+              lockClusters(clustersToLock, newRecords, Collections.emptyMap());
 
               for (final ORecordOperation txEntry : newRecords) {
                 final ORecord rec = txEntry.getRecord();
@@ -2512,7 +2611,7 @@ public abstract class OAbstractPaginatedStorage
           startStorageTx(transaction);
           try {
             final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
-            lockClusters(clustersToLock);
+            lockClusters(clustersToLock, recordOperations, clusterOverrides);
 
             final Map<ORecordOperation, OPhysicalPosition> positions = new IdentityHashMap<>(8);
             for (final ORecordOperation recordOperation : newRecords) {
@@ -3107,6 +3206,104 @@ public abstract class OAbstractPaginatedStorage
     }
   }
 
+  /**
+   * Creates sorter of the entries which are used to fill the index during its build.
+   *
+   * @return sorter, or <code>null</code> if index engine does not support sorted entries
+   * @see #putSortedIndexEntries(int, Iterator, IndexEngineValidator, int)
+   */
+  public OIndexEntrySorter createIndexEntrySorter(
+      final int indexId, final IndexEngineValidator<Object, ORID> validator, final int runSize)
+      throws OInvalidIndexEngineIdException {
+    final int internalIndexId = extractInternalId(indexId);
+
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+
+        checkIndexId(internalIndexId);
+
+        final OBaseIndexEngine engine = indexEngines.get(internalIndexId);
+        assert internalIndexId == engine.getId();
+
+        if (!(engine instanceof OSingleValueIndexEngine)) {
+          return null;
+        }
+
+        final IndexEngineData engineData =
+            configuration.getIndexEngine(engine.getName(), internalIndexId);
+        @SuppressWarnings("unchecked")
+        final OBinarySerializer<Object> keySerializer =
+            (OBinarySerializer<Object>) resolveObjectSerializer(engineData.getKeySerializedId());
+
+        return new OIndexEntrySorter(keySerializer, engineData.getKeyTypes(), validator, runSize);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Puts entries which are sorted in ascending order of keys into the single value index. Entries
+   * are put in batches, each batch inside of its own atomic operation, so the size of atomic
+   * operation does not depend on the size of the index and the index stays consistent if its build
+   * is interrupted. Batch size smaller than 1 is treated as 1.
+   */
+  public void putSortedIndexEntries(
+      final int indexId,
+      final Iterator<ORawPair<Object, ORID>> entries,
+      final IndexEngineValidator<Object, ORID> validator,
+      final int batchSize)
+      throws OInvalidIndexEngineIdException {
+    final int internalIndexId = extractInternalId(indexId);
+
+    final int entriesInBatch = Math.max(1, batchSize);
+    try {
+      final List<ORawPair<Object, ORID>> batch = new ArrayList<>(entriesInBatch);
+      while (entries.hasNext()) {
+        batch.clear();
+        while (batch.size() < entriesInBatch && entries.hasNext()) {
+          batch.add(entries.next());
+        }
+
+        stateLock.readLock().lock();
+        try {
+          checkOpennessAndMigration();
+
+          makeStorageDirty();
+
+          atomicOperationsManager.executeInsideAtomicOperation(
+              null,
+              atomicOperation -> {
+                checkIndexId(internalIndexId);
+
+                final OBaseIndexEngine engine = indexEngines.get(internalIndexId);
+                assert internalIndexId == engine.getId();
+
+                ((OSingleValueIndexEngine) engine).putSorted(atomicOperation, batch, validator);
+              });
+        } finally {
+          stateLock.readLock().unlock();
+        }
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   private void doClearIndex(final OAtomicOperation atomicOperation, final int indexId)
       throws OInvalidIndexEngineIdException {
     try {
@@ -5341,14 +5538,19 @@ public abstract class OAbstractPaginatedStorage
     if (clusterName != null) {
       clusterName = clusterName.toLowerCase();
 
+      final OContextConfiguration contextConfiguration = configuration.getContextConfiguration();
+      int binaryVersion =
+          contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_VERSION);
+      if (binaryVersion == OPaginatedCluster.getLatestBinaryVersion()
+          && contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_STRIPES)
+              > 1
+          && !OMetadataInternal.SYSTEM_CLUSTER.contains(clusterName)) {
+        binaryVersion = OStripedPaginatedCluster.BINARY_VERSION;
+      }
+
       cluster =
           OPaginatedClusterFactory.createCluster(
-              clusterName,
-              configuration.getVersion(),
-              configuration
-                  .getContextConfiguration()
-                  .getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_VERSION),
-              this);
+              clusterName, configuration.getVersion(), binaryVersion, this);
       cluster.configure(clusterPos, clusterName);
     } else {
       cluster = null;
@@ -6470,8 +6672,12 @@ public abstract class OAbstractPaginatedStorage
     long lastReportTime = 0;
     OLogSequenceNumber lastUpdatedLSN = null;
 
+    final int batchSize = OGlobalConfiguration.WAL_RESTORE_BATCH_SIZE.getValueAsInteger();
+    final OWALRestorePartitions restorePartitions =
+        new OWALRestorePartitions(
+            name, OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger());
     try {
-      List<WriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
+      List<WriteableWALRecord> records = writeAheadLog.read(lsn, batchSize);
 
       while (!records.isEmpty()) {
         for (final WriteableWALRecord walRecord : records) {
@@ -6483,7 +6689,8 @@ public abstract class OAbstractPaginatedStorage
             // flushed to the disk
             if (atomicUnit != null) {
               atomicUnit.add(walRecord);
-              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate)) {
+              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, restorePartitions)) {
+                restorePartitions.await();
                 return lastUpdatedLSN;
               } else {
                 lastUpdatedLSN = walRecord.getLsn();
@@ -6546,8 +6753,10 @@ public abstract class OAbstractPaginatedStorage
           }
         }
 
-        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), batchSize);
       }
+
+      restorePartitions.await();
     } catch (final OWALPageBrokenException e) {
       logger.errorNoDb(
           "Data restore was paused because broken WAL page was found. The rest of changes will"
@@ -6558,13 +6767,17 @@ public abstract class OAbstractPaginatedStorage
           "Data restore was paused because of exception. The rest of changes will be rolled"
               + " back.",
           e);
+    } finally {
+      restorePartitions.close();
     }
 
     return lastUpdatedLSN;
   }
 
   protected final boolean restoreAtomicUnit(
-      final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
+      final List<OWALRecord> atomicUnit,
+      final OModifiableBoolean atLeastOnePageUpdate,
+      final OWALRestorePartitions restorePartitions)
       throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
@@ -6586,6 +6799,9 @@ public abstract class OAbstractPaginatedStorage
         for (final ORawTriple<PageKey, OLogSequenceNumber, OLogSequenceNumber> triple : pageLSNs) {
           // page does not exist in restored transaction snippet
           if (!pages.contains(triple.first)) {
+            // changes of previous operations should be applied before page is checked
+            restorePartitions.await();
+
             // page doest not exist at all
             if (!writeCache.exists(triple.first.getFileId())) {
               integrityCheckPassed = false;
@@ -6620,6 +6836,8 @@ public abstract class OAbstractPaginatedStorage
     }
 
     if (!integrityCheckPassed) {
+      restorePartitions.await();
+
       final String errorMessage =
           "Transaction is stored only partially but its changes already present in storage. "
               + this.name
@@ -6660,6 +6878,8 @@ public abstract class OAbstractPaginatedStorage
 
     for (final OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord fileDeletedWALRecord) {
+        restorePartitions.await();
+
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
         }
@@ -6689,28 +6909,12 @@ public abstract class OAbstractPaginatedStorage
         }
 
         final long pageIndex = updatePageRecord.getPageIndex();
-        fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
+        final long externalFileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
 
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          if (durablePage.getLSN().compareTo(walRecord.getLsn()) < 0) {
-            durablePage.restoreChanges(updatePageRecord.getChanges());
-            durablePage.setLsn(updatePageRecord.getLsn());
-          }
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
-        }
+        restorePartitions.submit(
+            externalFileId,
+            pageIndex,
+            () -> restorePageUpdate(externalFileId, pageIndex, updatePageRecord));
 
         atLeastOnePageUpdate.setValue(true);
       } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -6735,6 +6939,43 @@ public abstract class OAbstractPaginatedStorage
     return true;
   }
 
+  private void restorePageUpdate(
+      final long fileId, final long pageIndex, final OUpdatePageRecord updatePageRecord)
+      throws IOException {
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+    if (cacheEntry == null) {
+      // pages are restored in parallel, so pages allocated by one partition may belong to another
+      restorePageAllocationLock.lock();
+      try {
+        cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+        while (cacheEntry == null) {
+          final OCacheEntry newPage = readCache.allocateNewPage(fileId, writeCache, null);
+          if (newPage.getPageIndex() == pageIndex) {
+            cacheEntry = newPage;
+          } else {
+            readCache.releaseFromWrite(newPage, writeCache, true);
+
+            if (newPage.getPageIndex() > pageIndex) {
+              cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+            }
+          }
+        }
+      } finally {
+        restorePageAllocationLock.unlock();
+      }
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      if (durablePage.getLSN().compareTo(updatePageRecord.getLsn()) < 0) {
+        durablePage.restoreChanges(updatePageRecord.getChanges());
+        durablePage.setLsn(updatePageRecord.getLsn());
+      }
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
   @SuppressWarnings("unused")
   public void setStorageConfigurationUpdateListener(
       final OStorageConfigurationUpdateListener storageConfigurationUpdateListener) {
@@ -6814,12 +7055,52 @@ public abstract class OAbstractPaginatedStorage
     }
   }
 
-  private static void lockClusters(final TreeMap<Integer, OCluster> clustersToLock) {
+  private static void lockClusters(
+      final TreeMap<Integer, OCluster> clustersToLock,
+      final Collection<ORecordOperation> recordOperations,
+      final Map<ORecordOperation, Integer> clusterOverrides) {
     for (final OCluster cluster : clustersToLock.values()) {
-      cluster.acquireAtomicExclusiveLock();
+      if (cluster instanceof OStripedPaginatedCluster) {
+        lockStripes((OStripedPaginatedCluster) cluster, recordOperations, clusterOverrides);
+      } else {
+        cluster.acquireAtomicExclusiveLock();
+      }
     }
   }
 
+  /**
+   * Locks only stripes of the cluster which contain records changed by transaction, and one stripe
+   * for new records, so transactions which create records in the same cluster are not serialized.
+   */
+  private static void lockStripes(
+      final OStripedPaginatedCluster cluster,
+      final Collection<ORecordOperation> recordOperations,
+      final Map<ORecordOperation, Integer> clusterOverrides) {
+    final List<Long> changedPositions = new ArrayList<>();
+    boolean createsRecords = false;
+
+    for (final ORecordOperation recordOperation : recordOperations) {
+      final ORID rid = recordOperation.getRecord().getIdentity();
+      if (recordOperation.type == ORecordOperation.CREATED) {
+        final int clusterId = clusterOverrides.getOrDefault(recordOperation, rid.getClusterId());
+        if (clusterId == cluster.getId()) {
+          if (rid.isPersistent()) {
+            // position is already allocated, so stripe of the record is known
+            changedPositions.add(rid.getClusterPosition());
+          } else {
+            createsRecords = true;
+          }
+        }
+      } else if ((recordOperation.type == ORecordOperation.UPDATED
+              || recordOperation.type == ORecordOperation.DELETED)
+          && rid.getClusterId() == cluster.getId()) {
+        changedPositions.add(rid.getClusterPosition());
+      }
+    }
+
+    cluster.acquireAtomicExclusiveLock(changedPositions, createsRecords);
+  }
+
   private void lockRidBags(
       final TreeMap<Integer, OCluster> clusters,
       final TreeMap<String, OTransactionIndexChanges> indexes,
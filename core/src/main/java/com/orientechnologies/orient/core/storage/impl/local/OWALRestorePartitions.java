@@ -0,0 +1,153 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies page changes restored from WAL in parallel. Changes are partitioned by page and each
+ * partition is applied by single thread, so changes of the same page are applied in order of their
+ * LSNs. Operations which depend on the state of pages, like removal of files or integrity checks,
+ * have to call {@link #await()} first.
+ */
+final class OWALRestorePartitions implements AutoCloseable {
+  interface PageRestoreTask {
+    void run() throws IOException;
+  }
+
+  private static final int MAX_PENDING_TASKS_PER_PARTITION = 4 * 1024;
+
+  private final ExecutorService[] executors;
+  private final Future<?>[] lastTasks;
+  private final Semaphore pendingTasks;
+  private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+  OWALRestorePartitions(final String storageName, final int partitions) {
+    if (partitions > 1) {
+      executors = new ExecutorService[partitions];
+      for (int i = 0; i < partitions; i++) {
+        executors[i] =
+            OThreadPoolExecutors.newSingleThreadPool(
+                "OrientDB WAL Restore Task (" + storageName + ") #" + i,
+                OAbstractPaginatedStorage.storageThreadGroup);
+      }
+
+      lastTasks = new Future<?>[partitions];
+      pendingTasks = new Semaphore(partitions * MAX_PENDING_TASKS_PER_PARTITION);
+    } else {
+      executors = null;
+      lastTasks = null;
+      pendingTasks = null;
+    }
+  }
+
+  void submit(final long fileId, final long pageIndex, final PageRestoreTask task)
+      throws IOException {
+    if (executors == null) {
+      task.run();
+      return;
+    }
+
+    checkError();
+
+    pendingTasks.acquireUninterruptibly();
+    final int partition = partition(fileId, pageIndex);
+    try {
+      lastTasks[partition] =
+          executors[partition].submit(
+              () -> {
+                try {
+                  if (error.get() == null) {
+                    task.run();
+                  }
+                } catch (final Throwable t) {
+                  error.compareAndSet(null, t);
+                } finally {
+                  pendingTasks.release();
+                }
+              });
+    } catch (final RuntimeException e) {
+      pendingTasks.release();
+      throw e;
+    }
+  }
+
+  /** Waits till all submitted changes are applied and rethrows the first error if any. */
+  void await() throws IOException {
+    if (executors == null) {
+      return;
+    }
+
+    for (int i = 0; i < lastTasks.length; i++) {
+      final Future<?> lastTask = lastTasks[i];
+      if (lastTask != null) {
+        try {
+          lastTask.get();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException.wrapException(
+              new OStorageException("Restore of data from WAL was interrupted"), e);
+        } catch (final ExecutionException e) {
+          error.compareAndSet(null, e.getCause());
+        }
+
+        lastTasks[i] = null;
+      }
+    }
+
+    checkError();
+  }
+
+  private void checkError() throws IOException {
+    final Throwable t = error.get();
+    if (t == null) {
+      return;
+    }
+
+    if (t instanceof IOException) {
+      throw (IOException) t;
+    }
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+
+    throw OException.wrapException(
+        new OStorageException("Error during restore of data from WAL"), t);
+  }
+
+  private int partition(final long fileId, final long pageIndex) {
+    long hash = fileId * 0x9E3779B97F4A7C15L + pageIndex;
+    hash ^= hash >>> 32;
+    return Math.floorMod((int) hash, executors.length);
+  }
+
+  @Override
+  public void close() {
+    if (executors == null) {
+      return;
+    }
+
+    for (final ExecutorService executor : executors) {
+      executor.shutdown();
+    }
+
+    try {
+      for (final ExecutorService executor : executors) {
+        //noinspection ResultOfMethodCallIgnored
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
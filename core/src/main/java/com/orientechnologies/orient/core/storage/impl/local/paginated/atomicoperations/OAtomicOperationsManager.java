@@ -41,6 +41,8 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWrite
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -312,6 +314,7 @@ public class OAtomicOperationsManager {
       throw new ODatabaseException("There is no atomic operation active");
     }
 
+    CompletableFuture<OLogSequenceNumber> durabilityFuture = null;
     try {
       storage.moveToErrorStateIfNeeded(error);
 
@@ -333,6 +336,10 @@ public class OAtomicOperationsManager {
         } else {
           atomicOperationsTable.commitOperation(operationId);
           writeAheadLog.addEventAt(lsn, () -> atomicOperationsTable.persistOperation(operationId));
+
+          if (lsn != null && writeAheadLog.isGroupCommit()) {
+            durabilityFuture = writeAheadLog.flushedFuture(lsn);
+          }
         }
 
       } finally {
@@ -353,6 +360,21 @@ public class OAtomicOperationsManager {
     } finally {
       atomicOperationsFreezer.endOperation();
     }
+
+    // wait for durability only after locks are released, so the next transactions may join the
+    // same group commit
+    if (durabilityFuture != null) {
+      try {
+        durabilityFuture.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(
+            new OStorageException("Waiting for sync of WAL was interrupted"), e);
+      } catch (final ExecutionException e) {
+        throw OException.wrapException(
+            new OStorageException("Error during sync of WAL"), e.getCause());
+      }
+    }
   }
 
   public void ensureThatComponentsUnlocked() {
@@ -397,6 +419,31 @@ public class OAtomicOperationsManager {
     acquireExclusiveLockTillOperationComplete(operation, durableComponent.getLockName());
   }
 
+  /**
+   * Tries to acquire exclusive lock of the {@code durableComponent} in the given atomic operation
+   * without waiting till lock is released by other atomic operations.
+   *
+   * @return <code>true</code> if lock is acquired or is already held by the given atomic operation.
+   */
+  public boolean tryAcquireExclusiveLockTillOperationComplete(
+      final OAtomicOperation operation, final ODurableComponent durableComponent) {
+    storage.checkErrorState();
+
+    final String lockName = durableComponent.getLockName();
+    if (operation.containsInLockedObjects(lockName)) {
+      return true;
+    }
+
+    try {
+      lockManager.acquireLock(lockName, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE, 1);
+    } catch (OLockException e) {
+      return false;
+    }
+
+    operation.addLockedObject(lockName);
+    return true;
+  }
+
   public void acquireReadLock(ODurableComponent durableComponent) {
     assert durableComponent.getLockName() != null;
 
@@ -28,6 +28,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSe
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 /**
  * Base page class for all durable data structures, that is data structures state of which can be
@@ -209,6 +210,27 @@ public class ODurablePage {
     return changes.getBinaryValue(buffer, pageOffset, valLen);
   }
 
+  /**
+   * Compares the content of the page with the passed in value without copying it out of the page.
+   *
+   * @param pageOffset Offset of the data inside the page
+   * @param valLen Length of the data inside the page
+   * @param value Value to compare with
+   * @return the index of the first byte that differs, the length of the shortest one if one is a
+   *     prefix of the other, or -1 if the data and the value are equal
+   */
+  protected final int mismatchBinaryValue(
+      final int pageOffset, final int valLen, final byte[] value) {
+    if (changes == null) {
+      assert buffer != null;
+      assert buffer.order() == ByteOrder.nativeOrder();
+
+      return buffer.slice(pageOffset, valLen).mismatch(ByteBuffer.wrap(value));
+    }
+
+    return Arrays.mismatch(changes.getBinaryValue(buffer, pageOffset, valLen), value);
+  }
+
   protected int getObjectSizeInDirectMemory(
       final OBinarySerializer<?> binarySerializer, final int offset) {
     if (changes == null) {
@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -154,6 +155,16 @@ public class OMemoryWriteAheadLog extends OAbstractWriteAheadLog {
     event.run();
   }
 
+  @Override
+  public CompletableFuture<OLogSequenceNumber> flushedFuture(OLogSequenceNumber lsn) {
+    return CompletableFuture.completedFuture(lsn);
+  }
+
+  @Override
+  public boolean isGroupCommit() {
+    return false;
+  }
+
   @Override
   public boolean appendNewSegment() {
     return false;
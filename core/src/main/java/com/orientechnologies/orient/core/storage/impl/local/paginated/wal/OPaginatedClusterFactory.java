@@ -25,6 +25,7 @@ import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
 import com.orientechnologies.orient.core.storage.cluster.v0.OPaginatedClusterV0;
 import com.orientechnologies.orient.core.storage.cluster.v1.OPaginatedClusterV1;
 import com.orientechnologies.orient.core.storage.cluster.v2.OPaginatedClusterV2;
+import com.orientechnologies.orient.core.storage.cluster.v2.OStripedPaginatedCluster;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 
 /**
@@ -50,6 +51,8 @@ public final class OPaginatedClusterFactory {
         return new OPaginatedClusterV1(name, storage);
       case 2:
         return new OPaginatedClusterV2(name, storage);
+      case OStripedPaginatedCluster.BINARY_VERSION:
+        return new OStripedPaginatedCluster(name, storage);
       default:
         throw new IllegalStateException("Invalid binary version of cluster " + binaryVersion);
     }
@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -136,6 +137,23 @@ public interface OWriteAheadLog {
    */
   void addEventAt(OLogSequenceNumber lsn, Runnable event);
 
+  /**
+   * Returns future which is completed once all log records up to the given LSN (inclusive) are
+   * synced to the disk. In group commit mode sync of the log is requested for all waiting futures
+   * at once, otherwise future is completed by the next periodical sync of the log.
+   *
+   * @param lsn the LSN which should become durable.
+   * @return future which is completed by the LSN of the last durable record.
+   */
+  CompletableFuture<OLogSequenceNumber> flushedFuture(OLogSequenceNumber lsn);
+
+  /**
+   * @return <code>true</code> if transactions should wait till their records become durable
+   *     before commit returns.
+   * @see #flushedFuture(OLogSequenceNumber)
+   */
+  boolean isGroupCommit();
+
   /**
    * Adds new segment so all subsequent log entries will be added to this new segment. New segment
    * can not be appended if:
@@ -53,6 +53,7 @@ import java.util.Map;
 import java.util.NavigableSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -69,6 +70,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -210,6 +212,21 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final LongAdder threadsWaitingSum = new LongAdder();
   private final LongAdder threadsWaitingCount = new LongAdder();
 
+  /** Executor of writes and syncs of WAL files, it is not shared in group commit mode. */
+  private final ExecutorService walWriteExecutor;
+
+  private final ConcurrentNavigableMap<OLogSequenceNumber, CompletableFuture<OLogSequenceNumber>>
+      flushedFutures = new ConcurrentSkipListMap<>();
+
+  private final boolean groupCommit;
+  private final long groupCommitMaxDelay;
+  private final ExecutorService groupCommitExecutor;
+  private final Future<?> groupCommitFuture;
+  private final ReentrantLock groupCommitLock = new ReentrantLock();
+  private final Condition groupCommitCondition = groupCommitLock.newCondition();
+  private final AtomicInteger groupCommitRequests = new AtomicInteger();
+  private volatile boolean groupCommitStopped = false;
+
   private long reportTs = -1;
 
   public CASDiskWriteAheadLog(
@@ -232,6 +249,58 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       boolean printPerformanceStatistic,
       int statisticPrintInterval)
       throws IOException {
+    this(
+        storageName,
+        storagePath,
+        walPath,
+        maxPagesCacheSize,
+        bufferSize,
+        aesKey,
+        iv,
+        segmentsInterval,
+        maxSegmentSize,
+        commitDelay,
+        filterWALFiles,
+        locale,
+        walSizeHardLimit,
+        fsyncInterval,
+        keepSingleWALSegment,
+        callFsync,
+        printPerformanceStatistic,
+        statisticPrintInterval,
+        false,
+        0);
+  }
+
+  /**
+   * @param groupCommit whether WAL is synced to the disk as soon as there are transactions which
+   *     wait for their records to become durable. Sync is performed by the thread dedicated to this
+   *     WAL, so storages do not wait for syncs of each other.
+   * @param groupCommitMaxDelay maximum time in microseconds the sync may be delayed to let other
+   *     transactions join the group.
+   */
+  public CASDiskWriteAheadLog(
+      final String storageName,
+      final Path storagePath,
+      final Path walPath,
+      final int maxPagesCacheSize,
+      final int bufferSize,
+      byte[] aesKey,
+      byte[] iv,
+      long segmentsInterval,
+      final long maxSegmentSize,
+      final int commitDelay,
+      final boolean filterWALFiles,
+      final Locale locale,
+      final long walSizeHardLimit,
+      final int fsyncInterval,
+      boolean keepSingleWALSegment,
+      boolean callFsync,
+      boolean printPerformanceStatistic,
+      int statisticPrintInterval,
+      final boolean groupCommit,
+      final int groupCommitMaxDelay)
+      throws IOException {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
       throw new OInvalidStorageEncryptionKeyException(
@@ -309,6 +378,17 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     writeBufferTwo = writeBufferPointerTwo.getNativeByteBuffer().order(ByteOrder.nativeOrder());
     assert writeBufferTwo.position() == 0;
 
+    this.groupCommit = groupCommit;
+    this.groupCommitMaxDelay = TimeUnit.MICROSECONDS.toNanos(groupCommitMaxDelay);
+    if (groupCommit) {
+      walWriteExecutor =
+          OThreadPoolExecutors.newSingleThreadPool(
+              "OrientDB WAL Write Task Thread (" + storageName + ")",
+              OAbstractPaginatedStorage.storageThreadGroup);
+    } else {
+      walWriteExecutor = writeExecutor;
+    }
+
     this.recordsWriterFuture =
         commitExecutor.scheduleWithFixedDelay(
             new RecordsWriter(this, false, false), commitDelay, commitDelay, TimeUnit.MILLISECONDS);
@@ -316,6 +396,17 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     log(new EmptyWALRecord());
 
     flush();
+
+    if (groupCommit) {
+      groupCommitExecutor =
+          OThreadPoolExecutors.newSingleThreadPool(
+              "OrientDB WAL Group Commit Task (" + storageName + ")",
+              OAbstractPaginatedStorage.storageThreadGroup);
+      groupCommitFuture = groupCommitExecutor.submit(this::executeGroupCommits);
+    } else {
+      groupCommitExecutor = null;
+      groupCommitFuture = null;
+    }
   }
 
   public int pageSize() {
@@ -818,6 +909,126 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     }
   }
 
+  @Override
+  public CompletableFuture<OLogSequenceNumber> flushedFuture(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber localFlushedLsn = flushedLSN;
+    if (localFlushedLsn != null && lsn.compareTo(localFlushedLsn) <= 0) {
+      return CompletableFuture.completedFuture(localFlushedLsn);
+    }
+
+    final CompletableFuture<OLogSequenceNumber> future =
+        flushedFutures.computeIfAbsent(lsn, key -> new CompletableFuture<>());
+
+    final OLogSequenceNumber potentiallyUpdatedLocalFlushedLsn = flushedLSN;
+    if (potentiallyUpdatedLocalFlushedLsn != null
+        && lsn.compareTo(potentiallyUpdatedLocalFlushedLsn) <= 0) {
+      completeFlushedFutures(potentiallyUpdatedLocalFlushedLsn);
+    } else if (groupCommit) {
+      groupCommitRequests.incrementAndGet();
+
+      groupCommitLock.lock();
+      try {
+        groupCommitCondition.signal();
+      } finally {
+        groupCommitLock.unlock();
+      }
+    }
+
+    return future;
+  }
+
+  @Override
+  public boolean isGroupCommit() {
+    return groupCommit;
+  }
+
+  private void completeFlushedFutures(final OLogSequenceNumber lsn) {
+    final Iterator<CompletableFuture<OLogSequenceNumber>> futures =
+        flushedFutures.headMap(lsn, true).values().iterator();
+    while (futures.hasNext()) {
+      futures.next().complete(lsn);
+      futures.remove();
+    }
+  }
+
+  /**
+   * Syncs WAL once there are transactions waiting for their records to become durable. Amount of
+   * transactions in the previous group is used as expected amount of concurrent transactions, so
+   * sync is delayed till the same amount of transactions join the group, but not longer than the
+   * last sync took, and not longer than {@link #groupCommitMaxDelay}. Single transaction does not
+   * wait at all.
+   */
+  private void executeGroupCommits() {
+    int expectedGroupSize = 1;
+    long syncTime = 0;
+
+    while (!groupCommitStopped) {
+      groupCommitLock.lock();
+      try {
+        while (!groupCommitStopped && flushedFutures.isEmpty()) {
+          groupCommitCondition.await();
+        }
+
+        long delay = Math.min(groupCommitMaxDelay, syncTime);
+        while (!groupCommitStopped && groupCommitRequests.get() < expectedGroupSize && delay > 0) {
+          delay = groupCommitCondition.awaitNanos(delay);
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        groupCommitLock.unlock();
+      }
+
+      if (groupCommitStopped) {
+        return;
+      }
+
+      expectedGroupSize = Math.max(groupCommitRequests.getAndSet(0), 1);
+
+      final long startTs = System.nanoTime();
+      try {
+        executeWriteRecords(true, true);
+        waitTillWriteWillBeFinished();
+      } catch (final RuntimeException e) {
+        logger.errorNoDb("Error during group commit of WAL of storage %s", e, storageName);
+
+        final OStorageException exception =
+            new OStorageException("Error during sync of WAL of storage " + storageName);
+        for (final CompletableFuture<OLogSequenceNumber> future : flushedFutures.values()) {
+          future.completeExceptionally(OException.wrapException(exception, e));
+        }
+        flushedFutures.clear();
+      }
+      syncTime = System.nanoTime() - startTs;
+    }
+  }
+
+  private void stopGroupCommits() throws IOException {
+    if (groupCommitExecutor == null) {
+      return;
+    }
+
+    groupCommitStopped = true;
+    groupCommitLock.lock();
+    try {
+      groupCommitCondition.signal();
+    } finally {
+      groupCommitLock.unlock();
+    }
+
+    try {
+      groupCommitFuture.get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw OException.wrapException(
+          new OStorageException(
+              "Error during stop of group commit of WAL of storage " + storageName),
+          e);
+    } finally {
+      groupCommitExecutor.shutdown();
+    }
+  }
+
   public void delete() throws IOException {
     final List<Long> segmentsToDelete = new ArrayList<>(this.segments.size());
     segmentsToDelete.addAll(segments);
@@ -1263,6 +1474,8 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       doFlush(true);
     }
 
+    stopGroupCommits();
+
     if (!recordsWriterFuture.cancel(false) && !recordsWriterFuture.isDone()) {
       throw new OStorageException("Can not cancel background write thread in WAL");
     }
@@ -1327,6 +1540,16 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       allocator.deallocate(writeBufferPointerOne);
       allocator.deallocate(writeBufferPointerTwo);
 
+      if (walWriteExecutor != writeExecutor) {
+        walWriteExecutor.shutdown();
+      }
+
+      for (final CompletableFuture<OLogSequenceNumber> flushedFuture : flushedFutures.values()) {
+        flushedFuture.completeExceptionally(
+            new OStorageException("WAL of storage " + storageName + " is closed"));
+      }
+      flushedFutures.clear();
+
       if (writeBufferPointer != null) {
         writeBufferPointer = null;
         writeBuffer = null;
@@ -1902,7 +2125,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
           assert walFile == null || walFile.position() == currentPosition;
 
           writeFuture =
-              writeExecutor.submit(
+              walWriteExecutor.submit(
                   (Callable<?>)
                       () -> {
                         executeSyncAndCloseFile();
@@ -1963,6 +2186,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       flushedLSN = writtenUpTo.get().getLsn();
 
       fireEventsFor(flushedLSN);
+      completeFlushedFutures(flushedLSN);
 
       if (printPerformanceStatistic) {
         final long endTs = System.nanoTime();
@@ -2045,7 +2269,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     final long expectedPosition = currentPosition;
 
     writeFuture =
-        writeExecutor.submit(
+        walWriteExecutor.submit(
             (Callable<?>)
                 () -> {
                   executeWriteBuffer(file, buffer, lastLSN, limit, expectedPosition);
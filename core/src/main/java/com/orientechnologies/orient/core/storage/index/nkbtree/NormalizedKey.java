@@ -0,0 +1,26 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+/**
+ * Binary comparable presentation of an index key, see {@link NormalizedKeyEncoder}.
+ *
+ * <p>If the key is exact, two keys are equal only if their normalized presentations are equal.
+ * Otherwise the normalized presentation contains only a prefix of the key and keys which have equal
+ * normalized presentations have to be compared using their original values.
+ */
+final class NormalizedKey {
+  private final byte[] bytes;
+  private final boolean exact;
+
+  NormalizedKey(final byte[] bytes, final boolean exact) {
+    this.bytes = bytes;
+    this.exact = exact;
+  }
+
+  byte[] getBytes() {
+    return bytes;
+  }
+
+  boolean isExact() {
+    return exact;
+  }
+}
@@ -1,9 +1,14 @@
 package com.orientechnologies.orient.core.storage.index.nkbtree;
 
-import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 
-public interface NormalizedKeyBTree<K> {
-  byte[] get(final OCompositeKey key);
+/**
+ * Single value B-tree which keeps keys in binary comparable (normalized) form, so searches inside
+ * of the pages compare bytes instead of deserializing and comparing keys.
+ */
+public interface NormalizedKeyBTree<K> extends OCellBTreeSingleValue<K> {
+  /** Version of the index engines which use this tree */
+  int VERSION = 1;
 
-  void put(final OCompositeKey key, final byte[] value);
+  String DATA_FILE_EXTENSION = ".nkt";
 }
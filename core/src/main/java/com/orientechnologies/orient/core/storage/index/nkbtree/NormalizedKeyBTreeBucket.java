@@ -0,0 +1,421 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Page of {@link NormalizedKeyBTreeValue}. The layout of the page is the same as the one of {@link
+ * com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3}:
+ * sorted array of pointers which grows from the start of the page and entries which grow from the
+ * end of the page, but every key is stored as
+ *
+ * <ol>
+ *   <li>short: length of normalized key, the highest bit is set if the normalized key is not exact
+ *   <li>normalized key, see {@link NormalizedKeyEncoder}
+ *   <li>original key serialized by the key serializer of the tree
+ * </ol>
+ *
+ * <p>Leaf entries contain the key followed by the RID, non-leaf entries contain the indexes of the
+ * left and right children followed by the key. Keys are searched comparing the normalized keys in
+ * place as unsigned bytes, original keys are deserialized only if normalized keys are not exact and
+ * equal.
+ */
+final class NormalizedKeyBTreeBucket<K> extends ODurablePage {
+  private static final int RID_SIZE = OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE;
+  private static final int CHILDREN_SIZE = 2 * OIntegerSerializer.INT_SIZE;
+
+  private static final int NOT_EXACT_FLAG = 0x8000;
+  private static final int NORMALIZED_LENGTH_MASK = 0x7FFF;
+
+  /** Maximum length of normalized key which can be stored in the page */
+  static final int MAX_NORMALIZED_KEY_LENGTH = NORMALIZED_LENGTH_MASK;
+
+  private static final int FREE_POINTER_OFFSET = NEXT_FREE_POSITION;
+  private static final int SIZE_OFFSET = FREE_POINTER_OFFSET + OIntegerSerializer.INT_SIZE;
+  private static final int IS_LEAF_OFFSET = SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
+  private static final int LEFT_SIBLING_OFFSET = IS_LEAF_OFFSET + OByteSerializer.BYTE_SIZE;
+  private static final int RIGHT_SIBLING_OFFSET = LEFT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
+
+  private static final int POSITIONS_ARRAY_OFFSET =
+      RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
+
+  private final Comparator<Object> comparator = ODefaultComparator.INSTANCE;
+
+  NormalizedKeyBTreeBucket(final OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  /** @return binary presentation of the key as it is stored in the page */
+  static byte[] serializeKey(final NormalizedKey normalizedKey, final byte[] serializedKey) {
+    final byte[] normalized = normalizedKey.getBytes();
+    final byte[] result =
+        new byte[OShortSerializer.SHORT_SIZE + normalized.length + serializedKey.length];
+
+    int header = normalized.length;
+    if (!normalizedKey.isExact()) {
+      header |= NOT_EXACT_FLAG;
+    }
+    OShortSerializer.INSTANCE.serializeNative((short) header, result, 0);
+    System.arraycopy(normalized, 0, result, OShortSerializer.SHORT_SIZE, normalized.length);
+    System.arraycopy(
+        serializedKey,
+        0,
+        result,
+        OShortSerializer.SHORT_SIZE + normalized.length,
+        serializedKey.length);
+    return result;
+  }
+
+  static byte[] serializeValue(final ORID value) {
+    final byte[] serializedValue = new byte[RID_SIZE];
+    OShortSerializer.INSTANCE.serializeNative((short) value.getClusterId(), serializedValue, 0);
+    OLongSerializer.INSTANCE.serializeNative(
+        value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
+    return serializedValue;
+  }
+
+  void init(final boolean isLeaf) {
+    setFreePointer(MAX_PAGE_SIZE_BYTES);
+    setSize(0);
+
+    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+    setLongValue(LEFT_SIBLING_OFFSET, -1);
+    setLongValue(RIGHT_SIBLING_OFFSET, -1);
+  }
+
+  void switchBucketType() {
+    if (!isEmpty()) {
+      throw new IllegalStateException(
+          "Type of bucket can be changed only bucket if bucket is empty");
+    }
+
+    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf() ? 0 : 1));
+  }
+
+  boolean isLeaf() {
+    return getByteValue(IS_LEAF_OFFSET) > 0;
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int size() {
+    return getIntValue(SIZE_OFFSET);
+  }
+
+  /**
+   * @return index of the entry with the given key, or (-(insertion point) - 1) if there is no such
+   *     entry
+   */
+  int find(final SearchKey<K> key, final OBinarySerializer<K> keySerializer) {
+    int low = 0;
+    int high = size() - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int cmp = compare(mid, key, keySerializer);
+
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+
+    return -(low + 1);
+  }
+
+  /** compares key of the entry with the given index with the search key */
+  int compare(final int index, final SearchKey<K> key, final OBinarySerializer<K> keySerializer) {
+    final int keyPosition = getKeyPosition(index);
+    final int header = getShortValue(keyPosition) & 0xFFFF;
+    final int normalizedLength = header & NORMALIZED_LENGTH_MASK;
+    final int normalizedPosition = keyPosition + OShortSerializer.SHORT_SIZE;
+
+    final byte[] searchNormalized = key.getNormalizedBytes();
+    final int mismatch =
+        mismatchBinaryValue(normalizedPosition, normalizedLength, searchNormalized);
+    if (mismatch >= 0 && mismatch < normalizedLength && mismatch < searchNormalized.length) {
+      return (getByteValue(normalizedPosition + mismatch) & 0xFF)
+          - (searchNormalized[mismatch] & 0xFF);
+    }
+
+    // normalized keys are equal or one of them is a prefix of the other
+    if ((header & NOT_EXACT_FLAG) == 0 && key.isExact()) {
+      if (mismatch < 0) {
+        return 0;
+      }
+
+      if (mismatch == searchNormalized.length) {
+        // partial composite key
+        return key.isHighestBoundary() ? -1 : 1;
+      }
+
+      return -1;
+    }
+
+    final K entryKey =
+        deserializeFromDirectMemory(keySerializer, normalizedPosition + normalizedLength);
+    return comparator.compare(entryKey, key.getKey());
+  }
+
+  K getKey(final int index, final OBinarySerializer<K> keySerializer) {
+    final int keyPosition = getKeyPosition(index);
+    return deserializeFromDirectMemory(
+        keySerializer,
+        keyPosition + OShortSerializer.SHORT_SIZE + getNormalizedKeyLength(keyPosition));
+  }
+
+  /** @return binary presentation of the key of the entry as it is stored in the page */
+  byte[] getRawKey(final int index, final OBinarySerializer<K> keySerializer) {
+    final int keyPosition = getKeyPosition(index);
+    return getBinaryValue(keyPosition, getKeySize(keyPosition, keySerializer));
+  }
+
+  ORID getValue(final int index, final OBinarySerializer<K> keySerializer) {
+    assert isLeaf();
+
+    final int keyPosition = getKeyPosition(index);
+    final int valuePosition = keyPosition + getKeySize(keyPosition, keySerializer);
+
+    final int clusterId = getShortValue(valuePosition);
+    final long clusterPosition = getLongValue(valuePosition + OShortSerializer.SHORT_SIZE);
+    return new ORecordId(clusterId, clusterPosition);
+  }
+
+  void updateValue(final int index, final byte[] value, final OBinarySerializer<K> keySerializer) {
+    assert isLeaf();
+
+    final int keyPosition = getKeyPosition(index);
+    setBinaryValue(keyPosition + getKeySize(keyPosition, keySerializer), value);
+  }
+
+  int getLeft(final int index) {
+    assert !isLeaf();
+
+    return getIntValue(getPointer(index));
+  }
+
+  int getRight(final int index) {
+    assert !isLeaf();
+
+    return getIntValue(getPointer(index) + OIntegerSerializer.INT_SIZE);
+  }
+
+  private byte[] getRawEntry(final int index, final OBinarySerializer<K> keySerializer) {
+    final int entryPosition = getPointer(index);
+    if (isLeaf()) {
+      return getBinaryValue(entryPosition, getKeySize(entryPosition, keySerializer) + RID_SIZE);
+    }
+
+    return getBinaryValue(
+        entryPosition, CHILDREN_SIZE + getKeySize(entryPosition + CHILDREN_SIZE, keySerializer));
+  }
+
+  /** @return entries starting from the given index, in the form used by {@link #addAll(List)} */
+  List<byte[]> getRawEntries(final int from, final OBinarySerializer<K> keySerializer) {
+    final int size = size();
+    final List<byte[]> entries = new ArrayList<>(size - from);
+    for (int i = from; i < size; i++) {
+      entries.add(getRawEntry(i, keySerializer));
+    }
+    return entries;
+  }
+
+  void addAll(final List<byte[]> rawEntries) {
+    final int currentSize = size();
+    for (int i = 0; i < rawEntries.size(); i++) {
+      appendRawEntry(i + currentSize, rawEntries.get(i));
+    }
+
+    setSize(rawEntries.size() + currentSize);
+  }
+
+  void shrink(final int newSize, final OBinarySerializer<K> keySerializer) {
+    final List<byte[]> rawEntries = new ArrayList<>(newSize);
+    for (int i = 0; i < newSize; i++) {
+      rawEntries.add(getRawEntry(i, keySerializer));
+    }
+
+    setFreePointer(MAX_PAGE_SIZE_BYTES);
+    for (int i = 0; i < newSize; i++) {
+      appendRawEntry(i, rawEntries.get(i));
+    }
+
+    setSize(newSize);
+  }
+
+  boolean addLeafEntry(final int index, final byte[] key, final byte[] value) {
+    assert isLeaf();
+
+    final int entrySize = key.length + value.length;
+    if (doesOverflow(entrySize)) {
+      return false;
+    }
+
+    final int freePointer = insertPointer(index, entrySize);
+    setBinaryValue(freePointer, key);
+    setBinaryValue(freePointer + key.length, value);
+
+    return true;
+  }
+
+  boolean addNonLeafEntry(
+      final int index, final int leftChild, final int rightChild, final byte[] key) {
+    assert !isLeaf();
+
+    final int entrySize = CHILDREN_SIZE + key.length;
+    if (doesOverflow(entrySize)) {
+      return false;
+    }
+
+    int freePointer = insertPointer(index, entrySize);
+    freePointer += setIntValue(freePointer, leftChild);
+    freePointer += setIntValue(freePointer, rightChild);
+    setBinaryValue(freePointer, key);
+
+    final int size = size();
+    if (index < size - 1) {
+      final int nextEntryPosition = getPointer(index + 1);
+      setIntValue(nextEntryPosition, rightChild);
+    }
+
+    return true;
+  }
+
+  /** @return size of the bucket after removal */
+  int removeLeafEntry(final int index, final OBinarySerializer<K> keySerializer) {
+    assert isLeaf();
+
+    final int entryPosition = getPointer(index);
+    final int entrySize = getKeySize(entryPosition, keySerializer) + RID_SIZE;
+
+    final int[] pointers = getIntArray(POSITIONS_ARRAY_OFFSET, size());
+    final int size = pointers.length - 1;
+    for (int i = 0; i < pointers.length; i++) {
+      if (i == index) {
+        continue;
+      }
+
+      int pointer = pointers[i];
+      if (pointer < entryPosition) {
+        pointer += entrySize;
+      }
+
+      final int newIndex = i < index ? i : i - 1;
+      if (newIndex != i || pointer != pointers[i]) {
+        setPointer(newIndex, pointer);
+      }
+    }
+    setSize(size);
+
+    final int freePointer = getFreePointer();
+    if (size > 0 && entryPosition > freePointer) {
+      moveData(freePointer, freePointer + entrySize, entryPosition - freePointer);
+    }
+    setFreePointer(freePointer + entrySize);
+
+    return size;
+  }
+
+  long getLeftSibling() {
+    return getLongValue(LEFT_SIBLING_OFFSET);
+  }
+
+  void setLeftSibling(final long pageIndex) {
+    setLongValue(LEFT_SIBLING_OFFSET, pageIndex);
+  }
+
+  long getRightSibling() {
+    return getLongValue(RIGHT_SIBLING_OFFSET);
+  }
+
+  void setRightSibling(final long pageIndex) {
+    setLongValue(RIGHT_SIBLING_OFFSET, pageIndex);
+  }
+
+  private int getKeyPosition(final int index) {
+    final int entryPosition = getPointer(index);
+    if (isLeaf()) {
+      return entryPosition;
+    }
+    return entryPosition + CHILDREN_SIZE;
+  }
+
+  private int getNormalizedKeyLength(final int keyPosition) {
+    return getShortValue(keyPosition) & NORMALIZED_LENGTH_MASK;
+  }
+
+  private int getKeySize(final int keyPosition, final OBinarySerializer<K> keySerializer) {
+    final int serializedKeyPosition =
+        keyPosition + OShortSerializer.SHORT_SIZE + getNormalizedKeyLength(keyPosition);
+    return serializedKeyPosition
+        - keyPosition
+        + getObjectSizeInDirectMemory(keySerializer, serializedKeyPosition);
+  }
+
+  /** @return position of the new entry */
+  private int insertPointer(final int index, final int entrySize) {
+    final int size = size();
+    if (index < size) {
+      moveData(
+          POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
+          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE,
+          (size - index) * OIntegerSerializer.INT_SIZE);
+    }
+
+    final int freePointer = getFreePointer() - entrySize;
+    setFreePointer(freePointer);
+    setPointer(index, freePointer);
+    setSize(size + 1);
+
+    return freePointer;
+  }
+
+  private void appendRawEntry(final int index, final byte[] rawEntry) {
+    final int freePointer = getFreePointer() - rawEntry.length;
+
+    setFreePointer(freePointer);
+    setPointer(index, freePointer);
+    setBinaryValue(freePointer, rawEntry);
+  }
+
+  private int getPointer(final int index) {
+    return getIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE);
+  }
+
+  private void setPointer(final int index, final int pointer) {
+    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, pointer);
+  }
+
+  private int getFreePointer() {
+    return getIntValue(FREE_POINTER_OFFSET);
+  }
+
+  private void setFreePointer(final int freePointer) {
+    setIntValue(FREE_POINTER_OFFSET, freePointer);
+  }
+
+  private void setSize(final int size) {
+    setIntValue(SIZE_OFFSET, size);
+  }
+
+  private boolean doesOverflow(final int requiredDataSpace) {
+    return getFreePointer() - requiredDataSpace
+        < (size() + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET;
+  }
+}
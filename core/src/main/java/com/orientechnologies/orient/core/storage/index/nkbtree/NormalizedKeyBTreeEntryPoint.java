@@ -0,0 +1,68 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+
+/**
+ * First page of {@link NormalizedKeyBTreeValue}, contains size of the tree, amount of used pages
+ * and value associated with the null key.
+ */
+final class NormalizedKeyBTreeEntryPoint extends ODurablePage {
+  private static final int TREE_SIZE_OFFSET = NEXT_FREE_POSITION;
+  private static final int PAGES_SIZE_OFFSET = TREE_SIZE_OFFSET + OLongSerializer.LONG_SIZE;
+  private static final int NULL_VALUE_FLAG_OFFSET = PAGES_SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
+  private static final int NULL_VALUE_OFFSET = NULL_VALUE_FLAG_OFFSET + OByteSerializer.BYTE_SIZE;
+
+  NormalizedKeyBTreeEntryPoint(final OCacheEntry cacheEntry) {
+    super(cacheEntry);
+  }
+
+  void init() {
+    setLongValue(TREE_SIZE_OFFSET, 0);
+    setIntValue(PAGES_SIZE_OFFSET, 1);
+    setByteValue(NULL_VALUE_FLAG_OFFSET, (byte) 0);
+  }
+
+  long getTreeSize() {
+    return getLongValue(TREE_SIZE_OFFSET);
+  }
+
+  void setTreeSize(final long size) {
+    setLongValue(TREE_SIZE_OFFSET, size);
+  }
+
+  int getPagesSize() {
+    return getIntValue(PAGES_SIZE_OFFSET);
+  }
+
+  void setPagesSize(final int pages) {
+    setIntValue(PAGES_SIZE_OFFSET, pages);
+  }
+
+  ORID getNullValue() {
+    if (getByteValue(NULL_VALUE_FLAG_OFFSET) == 0) {
+      return null;
+    }
+
+    final int clusterId = getShortValue(NULL_VALUE_OFFSET);
+    final long clusterPosition = getLongValue(NULL_VALUE_OFFSET + OShortSerializer.SHORT_SIZE);
+    return new ORecordId(clusterId, clusterPosition);
+  }
+
+  void setNullValue(final ORID value) {
+    if (value == null) {
+      setByteValue(NULL_VALUE_FLAG_OFFSET, (byte) 0);
+      return;
+    }
+
+    setByteValue(NULL_VALUE_FLAG_OFFSET, (byte) 1);
+    setShortValue(NULL_VALUE_OFFSET, (short) value.getClusterId());
+    setLongValue(NULL_VALUE_OFFSET + OShortSerializer.SHORT_SIZE, value.getClusterPosition());
+  }
+}
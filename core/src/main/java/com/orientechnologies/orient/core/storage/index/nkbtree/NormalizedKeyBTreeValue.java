@@ -1,31 +1,1204 @@
 package com.orientechnologies.orient.core.storage.index.nkbtree;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.exception.OTooBigIndexKeyException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.comparator.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.comparator.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class NormalizedKeyBTreeValue<K> extends ODurableComponent implements NormalizedKeyBTree<K> {
-  private final String nullFileExtension;
+/**
+ * Implementation of {@link NormalizedKeyBTree} which is based on the same B+-tree structure as
+ * {@link com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3}
+ * but stores normalized presentation of every key in front of the serialized key, see {@link
+ * NormalizedKeyBTreeBucket}. The main differences are:
+ *
+ * <ol>
+ *   <li>Value of the null key is stored in the entry point page, so the tree uses a single file.
+ *   <li>Buckets are not merged or removed if they become empty after deletion of items, they are
+ *       reused when new items are added into the same key range. Empty leaves are skipped during
+ *       iteration using links to the sibling leaves.
+ * </ol>
+ */
+public final class NormalizedKeyBTreeValue<K> extends ODurableComponent
+    implements NormalizedKeyBTree<K> {
+  private static final int SPLITERATOR_CACHE_SIZE =
+      OGlobalConfiguration.INDEX_CURSOR_PREFETCH_SIZE.getValueAsInteger();
+  private static final int MAX_KEY_SIZE =
+      OGlobalConfiguration.SBTREE_MAX_KEY_SIZE.getValueAsInteger();
+  private static final int MAX_PATH_LENGTH =
+      OGlobalConfiguration.SBTREE_MAX_DEPTH.getValueAsInteger();
+
+  private static final OAlwaysLessKey ALWAYS_LESS_KEY = new OAlwaysLessKey();
+  private static final OAlwaysGreaterKey ALWAYS_GREATER_KEY = new OAlwaysGreaterKey();
+
+  private static final int ENTRY_POINT_INDEX = 0;
+  private static final long ROOT_INDEX = 1;
+
+  private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
+
+  private long fileId;
+  private int keySize;
+  private OBinarySerializer<K> keySerializer;
+  private OType[] keyTypes;
 
   public NormalizedKeyBTreeValue(
-      final String name,
-      final String dataFileExtension,
-      final String nullFileExtension,
-      final OAbstractPaginatedStorage storage) {
+      final String name, final String dataFileExtension, final OAbstractPaginatedStorage storage) {
     super(storage, name, dataFileExtension, name + dataFileExtension);
+  }
+
+  @Override
+  public void create(
+      final OAtomicOperation atomicOperation,
+      final OBinarySerializer<K> keySerializer,
+      final OType[] keyTypes,
+      final int keySize,
+      final OEncryption encryption) {
+    assert keySerializer != null;
+
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            this.keySize = keySize;
+            if (keyTypes != null) {
+              this.keyTypes = Arrays.copyOf(keyTypes, keyTypes.length);
+            } else {
+              this.keyTypes = null;
+            }
+            this.keySerializer = keySerializer;
+
+            fileId = addFile(atomicOperation, getFullName());
+
+            try (final OCacheEntry entryPointCacheEntry = addPage(atomicOperation, fileId)) {
+              final NormalizedKeyBTreeEntryPoint entryPoint =
+                  new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry);
+              entryPoint.init();
+            }
+
+            try (final OCacheEntry rootCacheEntry = addPage(atomicOperation, fileId)) {
+              final NormalizedKeyBTreeBucket<K> rootBucket =
+                  new NormalizedKeyBTreeBucket<>(rootCacheEntry);
+              rootBucket.init(true);
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  @Override
+  public ORID get(K key) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        if (key == null) {
+          try (final OCacheEntry entryPointCacheEntry =
+              loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX)) {
+            return new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry).getNullValue();
+          }
+        }
+
+        key = keySerializer.preprocess(key, (Object[]) keyTypes);
+        final BucketSearchResult searchResult =
+            findBucket(searchKey(key, PartialSearchMode.NONE), atomicOperation);
+        if (searchResult.itemIndex < 0) {
+          return null;
+        }
+
+        try (final OCacheEntry cacheEntry =
+            loadPageForRead(atomicOperation, fileId, searchResult.pageIndex)) {
+          final NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+          return bucket.getValue(searchResult.itemIndex, keySerializer);
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new NormalizedKeyBTreeException(
+              "Error during retrieving of value from tree " + getName(), this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  @Override
+  public void put(final OAtomicOperation atomicOperation, final K key, final ORID value) {
+    update(atomicOperation, key, value, null);
+  }
+
+  @Override
+  public boolean validatedPut(
+      final OAtomicOperation atomicOperation,
+      final K key,
+      final ORID value,
+      final IndexEngineValidator<K, ORID> validator) {
+    return update(atomicOperation, key, value, validator);
+  }
+
+  private boolean update(
+      final OAtomicOperation atomicOperation,
+      final K k,
+      final ORID rid,
+      final IndexEngineValidator<K, ORID> validator) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            if (k == null) {
+              return updateNullValue(atomicOperation, rid, validator);
+            }
+
+            final K key = keySerializer.preprocess(k, (Object[]) keyTypes);
+            final NormalizedKey normalizedKey = NormalizedKeyEncoder.encode(key, keyTypes);
+            final byte[] rawKey =
+                NormalizedKeyBTreeBucket.serializeKey(
+                    normalizedKey, keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes));
+            if (rawKey.length > MAX_KEY_SIZE
+                || normalizedKey.getBytes().length
+                    > NormalizedKeyBTreeBucket.MAX_NORMALIZED_KEY_LENGTH) {
+              throw new OTooBigIndexKeyException(
+                  "Key size is more than allowed, operation was canceled. Current key size "
+                      + rawKey.length
+                      + ", allowed  "
+                      + MAX_KEY_SIZE,
+                  getName());
+            }
+
+            UpdateBucketSearchResult searchResult =
+                findBucketForUpdate(new SearchKey<>(normalizedKey, key, false), atomicOperation);
+
+            OCacheEntry cacheEntry =
+                loadPageForWrite(atomicOperation, fileId, searchResult.getLastPathItem(), true);
+            try {
+              NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+
+              ORID value = rid;
+              if (validator != null) {
+                final ORID oldValue;
+                if (searchResult.itemIndex >= 0) {
+                  oldValue = bucket.getValue(searchResult.itemIndex, keySerializer);
+                } else {
+                  oldValue = null;
+                }
+
+                final Object result = validator.validate(key, oldValue, value);
+                if (result == IndexEngineValidator.IGNORE) {
+                  return false;
+                }
+
+                value = (ORID) result;
+              }
+
+              final byte[] rawValue = NormalizedKeyBTreeBucket.serializeValue(value);
+              if (searchResult.itemIndex >= 0) {
+                bucket.updateValue(searchResult.itemIndex, rawValue, keySerializer);
+                return true;
+              }
+
+              int insertionIndex = -searchResult.itemIndex - 1;
+              while (!bucket.addLeafEntry(insertionIndex, rawKey, rawValue)) {
+                searchResult =
+                    splitBucket(
+                        bucket,
+                        cacheEntry,
+                        searchResult.path,
+                        searchResult.insertionIndexes,
+                        insertionIndex,
+                        atomicOperation);
+
+                insertionIndex = searchResult.itemIndex;
+
+                final long pageIndex = searchResult.getLastPathItem();
+                if (pageIndex != cacheEntry.getPageIndex()) {
+                  cacheEntry.close();
+                  cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, true);
+                }
+
+                //noinspection ObjectAllocationInLoop
+                bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+              }
+            } finally {
+              cacheEntry.close();
+            }
+
+            updateSize(1, atomicOperation);
+            return true;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  private boolean updateNullValue(
+      final OAtomicOperation atomicOperation,
+      ORID value,
+      final IndexEngineValidator<K, ORID> validator)
+      throws IOException {
+    try (final OCacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final NormalizedKeyBTreeEntryPoint entryPoint =
+          new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry);
+      final ORID oldValue = entryPoint.getNullValue();
+
+      if (validator != null) {
+        final Object result = validator.validate(null, oldValue, value);
+        if (result == IndexEngineValidator.IGNORE) {
+          return false;
+        }
+
+        value = (ORID) result;
+      }
+
+      entryPoint.setNullValue(value);
+      if (oldValue == null) {
+        entryPoint.setTreeSize(entryPoint.getTreeSize() + 1);
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public void close() {
+    acquireExclusiveLock();
+    try {
+      readCache.closeFile(fileId, true, writeCache);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public void delete(final OAtomicOperation atomicOperation) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            deleteFile(atomicOperation, fileId);
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  @Override
+  public void load(
+      final String name,
+      final int keySize,
+      final OType[] keyTypes,
+      final OBinarySerializer<K> keySerializer,
+      final OEncryption encryption) {
     acquireExclusiveLock();
     try {
-      this.nullFileExtension = nullFileExtension;
+      final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+      fileId = openFile(atomicOperation, getFullName());
+
+      this.keySize = keySize;
+      this.keyTypes = keyTypes;
+      this.keySerializer = keySerializer;
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new NormalizedKeyBTreeException("Exception during loading of tree " + name, this), e);
     } finally {
       releaseExclusiveLock();
     }
   }
 
   @Override
-  public byte[] get(final OCompositeKey key) {
-    return new byte[0];
+  public long size() {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+        try (final OCacheEntry entryPointCacheEntry =
+            loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX)) {
+          return new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry).getTreeSize();
+        }
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new NormalizedKeyBTreeException(
+              "Error during retrieving of size of tree " + getName(), this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
   }
 
   @Override
-  public void put(final OCompositeKey key, final byte[] value) {}
+  public ORID remove(final OAtomicOperation atomicOperation, final K k) {
+    return calculateInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            if (k == null) {
+              return removeNullValue(atomicOperation);
+            }
+
+            final K key = keySerializer.preprocess(k, (Object[]) keyTypes);
+            final BucketSearchResult searchResult =
+                findBucket(searchKey(key, PartialSearchMode.NONE), atomicOperation);
+            if (searchResult.itemIndex < 0) {
+              return null;
+            }
+
+            final ORID removedValue;
+            try (final OCacheEntry cacheEntry =
+                loadPageForWrite(atomicOperation, fileId, searchResult.pageIndex, true)) {
+              final NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+              removedValue = bucket.getValue(searchResult.itemIndex, keySerializer);
+              bucket.removeLeafEntry(searchResult.itemIndex, keySerializer);
+            }
+
+            updateSize(-1, atomicOperation);
+            return removedValue;
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  private ORID removeNullValue(final OAtomicOperation atomicOperation) throws IOException {
+    try (final OCacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final NormalizedKeyBTreeEntryPoint entryPoint =
+          new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry);
+      final ORID removedValue = entryPoint.getNullValue();
+
+      if (removedValue != null) {
+        entryPoint.setNullValue(null);
+        entryPoint.setTreeSize(entryPoint.getTreeSize() - 1);
+      }
+
+      return removedValue;
+    }
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesMinor(
+      final K key, final boolean inclusive, final boolean ascSortOrder) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final SearchKey<K> toKey = toSearchKey(key, inclusive);
+        return StreamSupport.stream(
+            new EntriesSpliterator(null, toKey, false, inclusive, ascSortOrder), false);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesMajor(
+      final K key, final boolean inclusive, final boolean ascSortOrder) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final SearchKey<K> fromKey = fromSearchKey(key, inclusive);
+        return StreamSupport.stream(
+            new EntriesSpliterator(fromKey, null, inclusive, false, ascSortOrder), false);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesBetween(
+      final K keyFrom,
+      final boolean fromInclusive,
+      final K keyTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final SearchKey<K> fromKey = fromSearchKey(keyFrom, fromInclusive);
+        final SearchKey<K> toKey = toSearchKey(keyTo, toInclusive);
+        return StreamSupport.stream(
+            new EntriesSpliterator(fromKey, toKey, fromInclusive, toInclusive, ascSortOrder),
+            false);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  @Override
+  public K firstKey() {
+    return edgeKey(true);
+  }
+
+  @Override
+  public K lastKey() {
+    return edgeKey(false);
+  }
+
+  private K edgeKey(final boolean first) {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+        long pageIndex = edgeLeaf(first, atomicOperation);
+        while (pageIndex >= 0) {
+          try (final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+            final NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+            if (!bucket.isEmpty()) {
+              return bucket.getKey(first ? 0 : bucket.size() - 1, keySerializer);
+            }
+
+            pageIndex = first ? bucket.getRightSibling() : bucket.getLeftSibling();
+          }
+        }
+
+        return null;
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new NormalizedKeyBTreeException(
+              "Error during finding " + (first ? "first" : "last") + " key in tree " + getName(),
+              this),
+          e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /** @return index of the leftmost or rightmost leaf of the tree */
+  private long edgeLeaf(final boolean leftmost, final OAtomicOperation atomicOperation)
+      throws IOException {
+    long pageIndex = ROOT_INDEX;
+
+    int depth = 0;
+    while (true) {
+      depth++;
+      if (depth > MAX_PATH_LENGTH) {
+        throw new NormalizedKeyBTreeException(
+            "We reached max level of depth of tree but still found nothing, seems like tree is in"
+                + " corrupted state. You should rebuild index related to given query.",
+            this);
+      }
+
+      try (final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+        @SuppressWarnings("ObjectAllocationInLoop")
+        final NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+        if (bucket.isLeaf()) {
+          return pageIndex;
+        }
+
+        pageIndex = leftmost ? bucket.getLeft(0) : bucket.getRight(bucket.size() - 1);
+      }
+    }
+  }
+
+  @Override
+  public Stream<K> keyStream() {
+    return allEntries().map((entry) -> entry.first);
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> allEntries() {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        return StreamSupport.stream(new EntriesSpliterator(null, null, false, false, true), false);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * Acquires exclusive lock in the active atomic operation running on the current thread for this
+   * tree.
+   */
+  @Override
+  public void acquireAtomicExclusiveLock() {
+    atomicOperationsManager.acquireExclusiveLockTillOperationComplete(this);
+  }
+
+  private void updateSize(final long diffSize, final OAtomicOperation atomicOperation)
+      throws IOException {
+    try (final OCacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final NormalizedKeyBTreeEntryPoint entryPoint =
+          new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry);
+      entryPoint.setTreeSize(entryPoint.getTreeSize() + diffSize);
+    }
+  }
+
+  private SearchKey<K> fromSearchKey(final K key, final boolean inclusive) {
+    return searchKey(
+        keySerializer.preprocess(key, (Object[]) keyTypes),
+        inclusive ? PartialSearchMode.LOWEST_BOUNDARY : PartialSearchMode.HIGHEST_BOUNDARY);
+  }
+
+  private SearchKey<K> toSearchKey(final K key, final boolean inclusive) {
+    return searchKey(
+        keySerializer.preprocess(key, (Object[]) keyTypes),
+        inclusive ? PartialSearchMode.HIGHEST_BOUNDARY : PartialSearchMode.LOWEST_BOUNDARY);
+  }
+
+  private SearchKey<K> searchKey(final K key, final PartialSearchMode partialSearchMode) {
+    return new SearchKey<>(
+        NormalizedKeyEncoder.encode(key, keyTypes),
+        enhanceCompositeKey(key, partialSearchMode),
+        partialSearchMode == PartialSearchMode.HIGHEST_BOUNDARY);
+  }
+
+  private K enhanceCompositeKey(final K key, final PartialSearchMode partialSearchMode) {
+    if (!(key instanceof OCompositeKey)) {
+      return key;
+    }
+
+    final OCompositeKey compositeKey = (OCompositeKey) key;
+
+    if (!(keySize == 1
+        || compositeKey.getKeys().size() == keySize
+        || partialSearchMode.equals(PartialSearchMode.NONE))) {
+      final OCompositeKey fullKey = new OCompositeKey(compositeKey);
+      final int itemsToAdd = keySize - fullKey.getKeys().size();
+
+      final Comparable<?> keyItem;
+      if (partialSearchMode.equals(PartialSearchMode.HIGHEST_BOUNDARY)) {
+        keyItem = ALWAYS_GREATER_KEY;
+      } else {
+        keyItem = ALWAYS_LESS_KEY;
+      }
+
+      for (int i = 0; i < itemsToAdd; i++) {
+        fullKey.addKey(keyItem);
+      }
+
+      //noinspection unchecked
+      return (K) fullKey;
+    }
+
+    return key;
+  }
+
+  private UpdateBucketSearchResult splitBucket(
+      final NormalizedKeyBTreeBucket<K> bucketToSplit,
+      final OCacheEntry entryToSplit,
+      final List<Long> path,
+      final List<Integer> itemPointers,
+      final int keyIndex,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final boolean splitLeaf = bucketToSplit.isLeaf();
+    final int bucketSize = bucketToSplit.size();
+
+    final int indexToSplit = bucketSize >>> 1;
+    final byte[] separationKey = bucketToSplit.getRawKey(indexToSplit, keySerializer);
+
+    final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
+    if (startRightIndex == 0) {
+      throw new OStorageException("Left part of bucket is empty");
+    }
+
+    final List<byte[]> rightEntries = bucketToSplit.getRawEntries(startRightIndex, keySerializer);
+    if (rightEntries.isEmpty()) {
+      throw new OStorageException("Right part of bucket is empty");
+    }
+
+    if (entryToSplit.getPageIndex() != ROOT_INDEX) {
+      return splitNonRootBucket(
+          path,
+          itemPointers,
+          keyIndex,
+          entryToSplit.getPageIndex(),
+          bucketToSplit,
+          splitLeaf,
+          indexToSplit,
+          separationKey,
+          rightEntries,
+          atomicOperation);
+    }
+
+    return splitRootBucket(
+        keyIndex,
+        bucketToSplit,
+        splitLeaf,
+        indexToSplit,
+        separationKey,
+        rightEntries,
+        atomicOperation);
+  }
+
+  private UpdateBucketSearchResult splitNonRootBucket(
+      final List<Long> path,
+      final List<Integer> itemPointers,
+      final int keyIndex,
+      final long pageIndex,
+      final NormalizedKeyBTreeBucket<K> bucketToSplit,
+      final boolean splitLeaf,
+      final int indexToSplit,
+      final byte[] separationKey,
+      final List<byte[]> rightEntries,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final int rightPageIndex;
+    try (final OCacheEntry rightBucketEntry = allocateNewPage(atomicOperation)) {
+      rightPageIndex = rightBucketEntry.getPageIndex();
+
+      final NormalizedKeyBTreeBucket<K> newRightBucket =
+          new NormalizedKeyBTreeBucket<>(rightBucketEntry);
+      newRightBucket.init(splitLeaf);
+      newRightBucket.addAll(rightEntries);
+
+      bucketToSplit.shrink(indexToSplit, keySerializer);
+
+      if (splitLeaf) {
+        final long rightSiblingPageIndex = bucketToSplit.getRightSibling();
+
+        newRightBucket.setRightSibling(rightSiblingPageIndex);
+        newRightBucket.setLeftSibling(pageIndex);
+
+        bucketToSplit.setRightSibling(rightPageIndex);
+
+        if (rightSiblingPageIndex >= 0) {
+          try (final OCacheEntry rightSiblingBucketEntry =
+              loadPageForWrite(atomicOperation, fileId, rightSiblingPageIndex, true)) {
+            final NormalizedKeyBTreeBucket<K> rightSiblingBucket =
+                new NormalizedKeyBTreeBucket<>(rightSiblingBucketEntry);
+            rightSiblingBucket.setLeftSibling(rightPageIndex);
+          }
+        }
+      }
+    }
+
+    long parentIndex = path.get(path.size() - 2);
+    OCacheEntry parentCacheEntry = loadPageForWrite(atomicOperation, fileId, parentIndex, true);
+    try {
+      NormalizedKeyBTreeBucket<K> parentBucket = new NormalizedKeyBTreeBucket<>(parentCacheEntry);
+      int insertionIndex = itemPointers.get(itemPointers.size() - 2);
+      List<Long> currentPath = path.subList(0, path.size() - 1);
+      List<Integer> currentIndex = itemPointers.subList(0, itemPointers.size() - 1);
+      while (!parentBucket.addNonLeafEntry(
+          insertionIndex, (int) pageIndex, rightPageIndex, separationKey)) {
+        final UpdateBucketSearchResult searchResult =
+            splitBucket(
+                parentBucket,
+                parentCacheEntry,
+                currentPath,
+                currentIndex,
+                insertionIndex,
+                atomicOperation);
+
+        parentIndex = searchResult.getLastPathItem();
+        insertionIndex = searchResult.itemIndex;
+        currentPath = searchResult.path;
+        currentIndex = searchResult.insertionIndexes;
+
+        if (parentIndex != parentCacheEntry.getPageIndex()) {
+          parentCacheEntry.close();
+
+          parentCacheEntry = loadPageForWrite(atomicOperation, fileId, parentIndex, true);
+        }
+
+        //noinspection ObjectAllocationInLoop
+        parentBucket = new NormalizedKeyBTreeBucket<>(parentCacheEntry);
+      }
+    } finally {
+      parentCacheEntry.close();
+    }
+
+    final ArrayList<Long> resultPath = new ArrayList<>(path.subList(0, path.size() - 1));
+    final ArrayList<Integer> resultItemPointers =
+        new ArrayList<>(itemPointers.subList(0, itemPointers.size() - 1));
+
+    if (keyIndex <= indexToSplit) {
+      resultPath.add(pageIndex);
+      resultItemPointers.add(keyIndex);
+
+      return new UpdateBucketSearchResult(resultItemPointers, resultPath, keyIndex);
+    }
+
+    final int parentItemIndex = resultItemPointers.size() - 1;
+    resultItemPointers.set(parentItemIndex, resultItemPointers.get(parentItemIndex) + 1);
+    resultPath.add((long) rightPageIndex);
+
+    final int newKeyIndex = splitLeaf ? keyIndex - indexToSplit : keyIndex - indexToSplit - 1;
+    resultItemPointers.add(newKeyIndex);
+    return new UpdateBucketSearchResult(resultItemPointers, resultPath, newKeyIndex);
+  }
+
+  private UpdateBucketSearchResult splitRootBucket(
+      final int keyIndex,
+      final NormalizedKeyBTreeBucket<K> bucketToSplit,
+      final boolean splitLeaf,
+      final int indexToSplit,
+      final byte[] separationKey,
+      final List<byte[]> rightEntries,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    bucketToSplit.shrink(indexToSplit, keySerializer);
+    final List<byte[]> leftEntries = bucketToSplit.getRawEntries(0, keySerializer);
+
+    final int leftPageIndex;
+    final int rightPageIndex;
+    try (final OCacheEntry leftBucketEntry = allocateNewPage(atomicOperation);
+        final OCacheEntry rightBucketEntry = allocateNewPage(atomicOperation)) {
+      leftPageIndex = leftBucketEntry.getPageIndex();
+      rightPageIndex = rightBucketEntry.getPageIndex();
+
+      final NormalizedKeyBTreeBucket<K> newLeftBucket =
+          new NormalizedKeyBTreeBucket<>(leftBucketEntry);
+      newLeftBucket.init(splitLeaf);
+      newLeftBucket.addAll(leftEntries);
+
+      final NormalizedKeyBTreeBucket<K> newRightBucket =
+          new NormalizedKeyBTreeBucket<>(rightBucketEntry);
+      newRightBucket.init(splitLeaf);
+      newRightBucket.addAll(rightEntries);
+
+      if (splitLeaf) {
+        newLeftBucket.setRightSibling(rightPageIndex);
+        newRightBucket.setLeftSibling(leftPageIndex);
+      }
+    }
+
+    bucketToSplit.shrink(0, keySerializer);
+    if (splitLeaf) {
+      bucketToSplit.switchBucketType();
+    }
+    bucketToSplit.addNonLeafEntry(0, leftPageIndex, rightPageIndex, separationKey);
+
+    final ArrayList<Long> resultPath = new ArrayList<>(8);
+    resultPath.add(ROOT_INDEX);
+
+    final ArrayList<Integer> itemPointers = new ArrayList<>(8);
+
+    if (keyIndex <= indexToSplit) {
+      itemPointers.add(-1);
+      itemPointers.add(keyIndex);
+
+      resultPath.add((long) leftPageIndex);
+      return new UpdateBucketSearchResult(itemPointers, resultPath, keyIndex);
+    }
+
+    resultPath.add((long) rightPageIndex);
+    itemPointers.add(0);
+
+    final int newKeyIndex = splitLeaf ? keyIndex - indexToSplit : keyIndex - indexToSplit - 1;
+    itemPointers.add(newKeyIndex);
+    return new UpdateBucketSearchResult(itemPointers, resultPath, newKeyIndex);
+  }
+
+  private OCacheEntry allocateNewPage(final OAtomicOperation atomicOperation) throws IOException {
+    try (final OCacheEntry entryPointCacheEntry =
+        loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, true)) {
+      final NormalizedKeyBTreeEntryPoint entryPoint =
+          new NormalizedKeyBTreeEntryPoint(entryPointCacheEntry);
+
+      int pageSize = entryPoint.getPagesSize();
+      if (pageSize < getFilledUpTo(atomicOperation, fileId) - 1) {
+        // pages which were added by rolled back operations are reused
+        pageSize++;
+        entryPoint.setPagesSize(pageSize);
+        return loadPageForWrite(atomicOperation, fileId, pageSize, false);
+      }
+
+      assert pageSize == getFilledUpTo(atomicOperation, fileId) - 1;
+
+      final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+      entryPoint.setPagesSize(cacheEntry.getPageIndex());
+      return cacheEntry;
+    }
+  }
+
+  private BucketSearchResult findBucket(
+      final SearchKey<K> key, final OAtomicOperation atomicOperation) throws IOException {
+    long pageIndex = ROOT_INDEX;
+
+    int depth = 0;
+    while (true) {
+      depth++;
+      if (depth > MAX_PATH_LENGTH) {
+        throw new NormalizedKeyBTreeException(
+            "We reached max level of depth of tree but still found nothing, seems like tree is in"
+                + " corrupted state. You should rebuild index related to given query.",
+            this);
+      }
+
+      try (final OCacheEntry bucketEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+        @SuppressWarnings("ObjectAllocationInLoop")
+        final NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(bucketEntry);
+        final int index = bucket.find(key, keySerializer);
+
+        if (bucket.isLeaf()) {
+          return new BucketSearchResult(index, pageIndex);
+        }
+
+        if (index >= 0) {
+          pageIndex = bucket.getRight(index);
+        } else {
+          final int insertionIndex = -index - 1;
+          if (insertionIndex >= bucket.size()) {
+            pageIndex = bucket.getRight(insertionIndex - 1);
+          } else {
+            pageIndex = bucket.getLeft(insertionIndex);
+          }
+        }
+      }
+    }
+  }
+
+  private UpdateBucketSearchResult findBucketForUpdate(
+      final SearchKey<K> key, final OAtomicOperation atomicOperation) throws IOException {
+    long pageIndex = ROOT_INDEX;
+
+    final ArrayList<Long> path = new ArrayList<>(8);
+    final ArrayList<Integer> itemIndexes = new ArrayList<>(8);
+
+    while (true) {
+      if (path.size() > MAX_PATH_LENGTH) {
+        throw new NormalizedKeyBTreeException(
+            "We reached max level of depth of tree but still found nothing, seems like tree is in"
+                + " corrupted state. You should rebuild index related to given query.",
+            this);
+      }
+
+      path.add(pageIndex);
+      try (final OCacheEntry bucketEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+        @SuppressWarnings("ObjectAllocationInLoop")
+        final NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(bucketEntry);
+        final int index = bucket.find(key, keySerializer);
+
+        if (bucket.isLeaf()) {
+          itemIndexes.add(index);
+          return new UpdateBucketSearchResult(itemIndexes, path, index);
+        }
+
+        if (index >= 0) {
+          pageIndex = bucket.getRight(index);
+          itemIndexes.add(index + 1);
+        } else {
+          final int insertionIndex = -index - 1;
+
+          if (insertionIndex >= bucket.size()) {
+            pageIndex = bucket.getRight(insertionIndex - 1);
+          } else {
+            pageIndex = bucket.getLeft(insertionIndex);
+          }
+
+          itemIndexes.add(insertionIndex);
+        }
+      }
+    }
+  }
+
+  /**
+   * Indicates search behavior in case of {@link OCompositeKey} keys that have less amount of
+   * internal keys are used, whether lowest or highest partially matched key should be used.
+   */
+  private enum PartialSearchMode {
+    /** Any partially matched key will be used as search result. */
+    NONE,
+    /** The biggest partially matched key will be used as search result. */
+    HIGHEST_BOUNDARY,
+    /** The smallest partially matched key will be used as search result. */
+    LOWEST_BOUNDARY
+  }
+
+  private static final class BucketSearchResult {
+    private final int itemIndex;
+    private final long pageIndex;
+
+    private BucketSearchResult(final int itemIndex, final long pageIndex) {
+      this.itemIndex = itemIndex;
+      this.pageIndex = pageIndex;
+    }
+  }
+
+  private static final class UpdateBucketSearchResult {
+    private final List<Integer> insertionIndexes;
+    private final ArrayList<Long> path;
+    private final int itemIndex;
+
+    private UpdateBucketSearchResult(
+        final List<Integer> insertionIndexes, final ArrayList<Long> path, final int itemIndex) {
+      this.insertionIndexes = insertionIndexes;
+      this.path = path;
+      this.itemIndex = itemIndex;
+    }
+
+    private long getLastPathItem() {
+      return path.get(path.size() - 1);
+    }
+  }
+
+  /**
+   * Iterates over the entries of the tree in batches of {@link #SPLITERATOR_CACHE_SIZE} entries.
+   * Bounds are compared with the entries by {@link NormalizedKeyBTreeBucket#compare(int,
+   * SearchKey, OBinarySerializer)}, so keys are deserialized only to be returned. If the page was
+   * changed between two batches, iteration continues from the last returned key.
+   */
+  private final class EntriesSpliterator implements Spliterator<ORawPair<K, ORID>> {
+    private final SearchKey<K> fromKey;
+    private final SearchKey<K> toKey;
+    private final boolean fromKeyInclusive;
+    private final boolean toKeyInclusive;
+    private final boolean ascending;
+
+    private long pageIndex = -1;
+    private int itemIndex = -1;
+    private OLogSequenceNumber lastLSN;
+
+    private final List<ORawPair<K, ORID>> dataCache = new ArrayList<>();
+    private Iterator<ORawPair<K, ORID>> cacheIterator = Collections.emptyIterator();
+
+    private EntriesSpliterator(
+        final SearchKey<K> fromKey,
+        final SearchKey<K> toKey,
+        final boolean fromKeyInclusive,
+        final boolean toKeyInclusive,
+        final boolean ascending) {
+      this.fromKey = fromKey;
+      this.toKey = toKey;
+      this.fromKeyInclusive = fromKeyInclusive;
+      this.toKeyInclusive = toKeyInclusive;
+      this.ascending = ascending;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ORawPair<K, ORID>> action) {
+      if (cacheIterator == null) {
+        return false;
+      }
+
+      if (!cacheIterator.hasNext()) {
+        fetchNextCachePortion();
+        cacheIterator = dataCache.iterator();
+
+        if (!cacheIterator.hasNext()) {
+          cacheIterator = null;
+          return false;
+        }
+      }
+
+      action.accept(cacheIterator.next());
+      return true;
+    }
+
+    private void fetchNextCachePortion() {
+      final K lastKey;
+      if (dataCache.isEmpty()) {
+        lastKey = null;
+      } else {
+        lastKey = dataCache.get(dataCache.size() - 1).first;
+      }
+      dataCache.clear();
+
+      atomicOperationsManager.acquireReadLock(NormalizedKeyBTreeValue.this);
+      try {
+        acquireSharedLock();
+        try {
+          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          if (pageIndex > -1 && readEntries(atomicOperation)) {
+            return;
+          }
+
+          // page was changed since the previous portion was read or iteration has just started
+          if (dataCache.isEmpty()) {
+            if (lastKey != null) {
+              final BucketSearchResult searchResult =
+                  findBucket(searchKey(lastKey, PartialSearchMode.NONE), atomicOperation);
+              pageIndex = searchResult.pageIndex;
+              if (searchResult.itemIndex >= 0) {
+                itemIndex = ascending ? searchResult.itemIndex + 1 : searchResult.itemIndex - 1;
+              } else {
+                itemIndex = ascending ? -searchResult.itemIndex - 1 : -searchResult.itemIndex - 2;
+              }
+            } else {
+              final SearchKey<K> startKey = ascending ? fromKey : toKey;
+              if (startKey != null) {
+                final boolean inclusive = ascending ? fromKeyInclusive : toKeyInclusive;
+                final BucketSearchResult searchResult = findBucket(startKey, atomicOperation);
+                pageIndex = searchResult.pageIndex;
+
+                if (searchResult.itemIndex >= 0) {
+                  if (inclusive) {
+                    itemIndex = searchResult.itemIndex;
+                  } else {
+                    itemIndex = ascending ? searchResult.itemIndex + 1 : searchResult.itemIndex - 1;
+                  }
+                } else {
+                  itemIndex = ascending ? -searchResult.itemIndex - 1 : -searchResult.itemIndex - 2;
+                }
+              } else {
+                pageIndex = edgeLeaf(ascending, atomicOperation);
+                itemIndex = ascending ? 0 : Integer.MAX_VALUE;
+              }
+            }
+
+            lastLSN = null;
+            readEntries(atomicOperation);
+          }
+        } finally {
+          releaseSharedLock();
+        }
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new NormalizedKeyBTreeException(
+                "Error during element iteration", NormalizedKeyBTreeValue.this),
+            e);
+      } finally {
+        atomicOperationsManager.releaseReadLock(NormalizedKeyBTreeValue.this);
+      }
+    }
+
+    /**
+     * @return <code>true</code> if portion of entries is read or there are no more entries to
+     *     read, <code>false</code> if page was changed since the previous portion was read
+     */
+    private boolean readEntries(final OAtomicOperation atomicOperation) throws IOException {
+      OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex);
+      try {
+        NormalizedKeyBTreeBucket<K> bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+        if (lastLSN != null && !bucket.getLSN().equals(lastLSN)) {
+          return false;
+        }
+
+        if (!ascending && itemIndex >= bucket.size()) {
+          itemIndex = bucket.size() - 1;
+        }
+
+        while (true) {
+          final int bucketSize = bucket.size();
+          if (itemIndex < 0 || itemIndex >= bucketSize) {
+            pageIndex = ascending ? bucket.getRightSibling() : bucket.getLeftSibling();
+            if (pageIndex < 0) {
+              return true;
+            }
+
+            cacheEntry.close();
+            cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex);
+            //noinspection ObjectAllocationInLoop
+            bucket = new NormalizedKeyBTreeBucket<>(cacheEntry);
+            itemIndex = ascending ? 0 : bucket.size() - 1;
+            continue;
+          }
+
+          lastLSN = bucket.getLSN();
+
+          while (itemIndex >= 0 && itemIndex < bucketSize) {
+            if (dataCache.size() >= SPLITERATOR_CACHE_SIZE) {
+              return true;
+            }
+
+            if (isOutOfRange(bucket)) {
+              return true;
+            }
+
+            //noinspection ObjectAllocationInLoop
+            dataCache.add(
+                new ORawPair<>(
+                    bucket.getKey(itemIndex, keySerializer),
+                    bucket.getValue(itemIndex, keySerializer)));
+            itemIndex += ascending ? 1 : -1;
+          }
+        }
+      } finally {
+        cacheEntry.close();
+      }
+    }
+
+    private boolean isOutOfRange(final NormalizedKeyBTreeBucket<K> bucket) {
+      if (ascending) {
+        if (toKey == null) {
+          return false;
+        }
+
+        final int cmp = bucket.compare(itemIndex, toKey, keySerializer);
+        return toKeyInclusive ? cmp > 0 : cmp >= 0;
+      }
+
+      if (fromKey == null) {
+        return false;
+      }
+
+      final int cmp = bucket.compare(itemIndex, fromKey, keySerializer);
+      return fromKeyInclusive ? cmp < 0 : cmp <= 0;
+    }
+
+    @Override
+    public Spliterator<ORawPair<K, ORID>> trySplit() {
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+      return SORTED | NONNULL | ORDERED;
+    }
+
+    @Override
+    public Comparator<? super ORawPair<K, ORID>> getComparator() {
+      if (ascending) {
+        return (pairOne, pairTwo) -> comparator.compare(pairOne.first, pairTwo.first);
+      }
+
+      return (pairOne, pairTwo) -> -comparator.compare(pairOne.first, pairTwo.first);
+    }
+  }
 }
@@ -0,0 +1,233 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Converts index keys into byte arrays which, compared as unsigned bytes, have the same order as
+ * the keys compared by {@link com.orientechnologies.common.comparator.ODefaultComparator}.
+ *
+ * <p>Every item of the key is prefixed by a byte that is 0 for null values (null is less than any
+ * other value) and 1 otherwise. Item presentations are prefix free, so the presentation of a
+ * partial composite key is a prefix of the presentations of all the keys which start with it.
+ *
+ * <p>Items which do not have an exact order preserving presentation (eg. {@link BigDecimal}, which
+ * is presented as double, or types which are not supported) terminate the presentation, the key is
+ * marked as not exact and the remaining items are compared using their original values.
+ *
+ * <p>{@link com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.KeyNormalizer} is
+ * not used because its presentation of negative floating point numbers, dates and strings is not
+ * consistent with the order of the original values.
+ */
+final class NormalizedKeyEncoder {
+  private static final byte NULL_ITEM = 0;
+  private static final byte NOT_NULL_ITEM = 1;
+
+  private static final byte STRING_END = 0;
+
+  private byte[] buffer = new byte[64];
+  private int size;
+
+  private NormalizedKeyEncoder() {}
+
+  static NormalizedKey encode(final Object key, final OType[] keyTypes) {
+    return new NormalizedKeyEncoder().doEncode(key, keyTypes);
+  }
+
+  private NormalizedKey doEncode(final Object key, final OType[] keyTypes) {
+    final List<Object> items;
+    if (key instanceof OCompositeKey) {
+      items = ((OCompositeKey) key).getKeys();
+    } else {
+      items = Collections.singletonList(key);
+    }
+
+    boolean exact = true;
+    for (int i = 0; i < items.size() && exact; i++) {
+      final OType type = keyTypes != null && i < keyTypes.length ? keyTypes[i] : null;
+      exact = encodeItem(items.get(i), type);
+    }
+
+    return new NormalizedKey(Arrays.copyOf(buffer, size), exact);
+  }
+
+  /** @return false if presentation of the item is not exact and the key has to be terminated */
+  private boolean encodeItem(final Object value, OType type) {
+    if (value == null) {
+      writeByte(NULL_ITEM);
+      return true;
+    }
+
+    writeByte(NOT_NULL_ITEM);
+    if (type == null) {
+      type = OType.getTypeByValue(value);
+      if (type == null) {
+        return false;
+      }
+    }
+
+    // values of unexpected classes (that is not converted keys) are compared by the comparator
+    switch (type) {
+      case BOOLEAN:
+        if (value instanceof Boolean) {
+          writeByte((byte) ((Boolean) value ? 1 : 0));
+          return true;
+        }
+        return false;
+      case BYTE:
+        if (value instanceof Byte) {
+          writeByte((byte) ((Byte) value ^ Byte.MIN_VALUE));
+          return true;
+        }
+        return false;
+      case SHORT:
+        if (value instanceof Short) {
+          writeShort((short) ((Short) value ^ Short.MIN_VALUE));
+          return true;
+        }
+        return false;
+      case INTEGER:
+        if (value instanceof Integer) {
+          writeInt((Integer) value ^ Integer.MIN_VALUE);
+          return true;
+        }
+        return false;
+      case LONG:
+        if (value instanceof Long) {
+          writeLong((Long) value ^ Long.MIN_VALUE);
+          return true;
+        }
+        return false;
+      case FLOAT:
+        if (value instanceof Float) {
+          final int bits = Float.floatToIntBits((Float) value);
+          writeInt(bits ^ ((bits >> 31) | Integer.MIN_VALUE));
+          return true;
+        }
+        return false;
+      case DOUBLE:
+        if (value instanceof Double) {
+          writeDouble((Double) value);
+          return true;
+        }
+        return false;
+      case DATE:
+      case DATETIME:
+        // subclasses like java.sql.Timestamp take into account more than milliseconds
+        if (value.getClass() == Date.class) {
+          writeLong(((Date) value).getTime() ^ Long.MIN_VALUE);
+          return true;
+        }
+        return false;
+      case STRING:
+        if (value instanceof String) {
+          writeString((String) value);
+          return true;
+        }
+        return false;
+      case BINARY:
+        if (value instanceof byte[]) {
+          // binary values are compared by length first
+          final byte[] bytes = (byte[]) value;
+          writeInt(bytes.length);
+          writeBytes(bytes);
+          return true;
+        }
+        return false;
+      case LINK:
+        if (value.getClass() == ORecordId.class) {
+          final ORecordId rid = (ORecordId) value;
+          writeInt(rid.getClusterId() ^ Integer.MIN_VALUE);
+          writeLong(rid.getClusterPosition() ^ Long.MIN_VALUE);
+          return true;
+        }
+        return false;
+      case DECIMAL:
+        if (value instanceof BigDecimal) {
+          // rounding to double preserves order but not equality
+          writeDouble(((BigDecimal) value).doubleValue());
+        }
+        return false;
+      default:
+        return false;
+    }
+  }
+
+  private void writeDouble(final double value) {
+    final long bits = Double.doubleToLongBits(value);
+    writeLong(bits ^ ((bits >> 63) | Long.MIN_VALUE));
+  }
+
+  /**
+   * Characters are written with a variable length order preserving encoding of their UTF-16 code
+   * units, the same order used by {@link String#compareTo(String)}, and the string is terminated by
+   * a zero byte which is less than the first byte of any character.
+   *
+   * <ul>
+   *   <li>0x0000 - 0x007E: one byte, code + 1
+   *   <li>0x007F - 0x3FFF: two bytes, 0x80 | (code >> 8), code & 0xFF
+   *   <li>0x4000 - 0xFFFF: three bytes, 0xC0, code >> 8, code & 0xFF
+   * </ul>
+   */
+  private void writeString(final String value) {
+    final int length = value.length();
+    ensureCapacity(3 * length + 1);
+    for (int i = 0; i < length; i++) {
+      final char c = value.charAt(i);
+      if (c < 0x7F) {
+        buffer[size++] = (byte) (c + 1);
+      } else if (c < 0x4000) {
+        buffer[size++] = (byte) (0x80 | (c >>> 8));
+        buffer[size++] = (byte) c;
+      } else {
+        buffer[size++] = (byte) 0xC0;
+        buffer[size++] = (byte) (c >>> 8);
+        buffer[size++] = (byte) c;
+      }
+    }
+    buffer[size++] = STRING_END;
+  }
+
+  private void writeByte(final byte value) {
+    ensureCapacity(1);
+    buffer[size++] = value;
+  }
+
+  private void writeShort(final short value) {
+    ensureCapacity(2);
+    buffer[size++] = (byte) (value >>> 8);
+    buffer[size++] = (byte) value;
+  }
+
+  private void writeInt(final int value) {
+    ensureCapacity(4);
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      buffer[size++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void writeLong(final long value) {
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[size++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void writeBytes(final byte[] value) {
+    ensureCapacity(value.length);
+    System.arraycopy(value, 0, buffer, size, value.length);
+    size += value.length;
+  }
+
+  private void ensureCapacity(final int bytes) {
+    if (size + bytes > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + bytes));
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+/**
+ * Key used to search entries in {@link NormalizedKeyBTreeBucket}: normalized presentation of the
+ * key that is compared with the normalized keys stored in the pages and original key that is used
+ * when normalized presentations are not enough to compare keys.
+ */
+final class SearchKey<K> {
+  private final NormalizedKey normalizedKey;
+  private final K key;
+  private final boolean highestBoundary;
+
+  /**
+   * @param normalizedKey normalized presentation of the key
+   * @param key original key, partial composite keys have to be completed with {@link
+   *     com.orientechnologies.orient.core.index.comparator.OAlwaysLessKey} or {@link
+   *     com.orientechnologies.orient.core.index.comparator.OAlwaysGreaterKey} items
+   * @param highestBoundary whether partial composite key is greater than all the keys which
+   *     start with it, otherwise it is less than them
+   */
+  SearchKey(final NormalizedKey normalizedKey, final K key, final boolean highestBoundary) {
+    this.normalizedKey = normalizedKey;
+    this.key = key;
+    this.highestBoundary = highestBoundary;
+  }
+
+  byte[] getNormalizedBytes() {
+    return normalizedKey.getBytes();
+  }
+
+  boolean isExact() {
+    return normalizedKey.isExact();
+  }
+
+  K getKey() {
+    return key;
+  }
+
+  boolean isHighestBoundary() {
+    return highestBoundary;
+  }
+}
@@ -0,0 +1,86 @@
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calculates separator keys which are stored in non-leaf buckets of B-trees when leaf bucket is
+ * split (suffix truncation). Any key which is bigger than the last key of the left bucket and not
+ * bigger than the first key of the right bucket can be used as separator, so the shortest key from
+ * this range is chosen to fit more entries in non-leaf buckets.
+ *
+ * <p>Only {@link String} keys and {@link String} items of {@link OCompositeKey} keys are truncated.
+ * Composite keys keep all their items, because composite key is considered to be equal to all the
+ * keys which start with it.
+ */
+public final class OSeparatorKeys {
+  private OSeparatorKeys() {}
+
+  /**
+   * @param leftKey the biggest key which remains in the left bucket
+   * @param rightKey the smallest key which is moved to the right bucket
+   * @return key <code>k</code>, such that <code>leftKey &lt; k &lt;= rightKey</code> and which is
+   *     shorter than <code>rightKey</code> if that is possible, or <code>rightKey</code> itself
+   */
+  public static <K> K shortestSeparator(final K leftKey, final K rightKey) {
+    if (leftKey instanceof String && rightKey instanceof String) {
+      @SuppressWarnings("unchecked")
+      final K separator = (K) shortestSeparator((String) leftKey, (String) rightKey);
+      return separator;
+    }
+
+    if (leftKey instanceof OCompositeKey && rightKey instanceof OCompositeKey) {
+      final List<Object> leftItems = ((OCompositeKey) leftKey).getKeys();
+      final List<Object> rightItems = ((OCompositeKey) rightKey).getKeys();
+      if (leftItems.size() != rightItems.size()) {
+        return rightKey;
+      }
+
+      for (int i = 0; i < rightItems.size(); i++) {
+        final Object leftItem = leftItems.get(i);
+        final Object rightItem = rightItems.get(i);
+        if (ODefaultComparator.INSTANCE.compare(leftItem, rightItem) == 0) {
+          continue;
+        }
+
+        if (!(leftItem instanceof String && rightItem instanceof String)) {
+          return rightKey;
+        }
+
+        final String separatorItem = shortestSeparator((String) leftItem, (String) rightItem);
+        //noinspection StringEquality
+        if (separatorItem == rightItem) {
+          return rightKey;
+        }
+
+        final List<Object> separatorItems = new ArrayList<>(rightItems);
+        separatorItems.set(i, separatorItem);
+
+        @SuppressWarnings("unchecked")
+        final K separator = (K) new OCompositeKey(separatorItems);
+        return separator;
+      }
+    }
+
+    return rightKey;
+  }
+
+  private static String shortestSeparator(final String leftKey, final String rightKey) {
+    final int length = Math.min(leftKey.length(), rightKey.length());
+
+    int mismatch = 0;
+    while (mismatch < length && leftKey.charAt(mismatch) == rightKey.charAt(mismatch)) {
+      mismatch++;
+    }
+
+    // the first character which differs is bigger in the right key, so its prefix which ends
+    // with this character is already bigger than the left key
+    if (mismatch + 1 >= rightKey.length() || Character.isHighSurrogate(rightKey.charAt(mismatch))) {
+      return rightKey;
+    }
+
+    return rightKey.substring(0, mismatch + 1);
+  }
+}
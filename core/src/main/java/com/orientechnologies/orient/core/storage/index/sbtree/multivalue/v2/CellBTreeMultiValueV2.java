@@ -42,6 +42,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.index.sbtree.OSeparatorKeys;
 import com.orientechnologies.orient.core.storage.index.sbtree.local.v2.OSBTreeV2;
 import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.OCellBTreeMultiValue;
 import java.io.IOException;
@@ -52,7 +53,6 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
@@ -1239,9 +1239,41 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
     final int bucketSize = bucketToSplit.size();
 
     final int indexToSplit = bucketSize >>> 1;
-    final byte[] serializedSeparationKey =
+    final byte[] serializedSplitKey =
         bucketToSplit.getRawKey(indexToSplit, keySerializer, encryption);
 
+    final byte[] serializedSeparationKey;
+    final boolean insertToTheRight;
+    if (splitLeaf) {
+      final K splitKey = deserializeKey(serializedSplitKey);
+      final K separationKey;
+      if (indexToSplit > 0) {
+        // any key between the last key of the left bucket and the first key of the right bucket
+        // separates them, so the shortest one is stored in the parent
+        final byte[] serializedLeftKey =
+            bucketToSplit.getRawKey(indexToSplit - 1, keySerializer, encryption);
+        separationKey =
+            OSeparatorKeys.shortestSeparator(deserializeKey(serializedLeftKey), splitKey);
+      } else {
+        separationKey = splitKey;
+      }
+
+      if (separationKey == splitKey) {
+        serializedSeparationKey = serializedSplitKey;
+      } else {
+        serializedSeparationKey =
+            serializeKey(keySerializer.serializeNativeAsWhole(separationKey, (Object[]) keyTypes));
+      }
+
+      // searches go to the right bucket for the keys which are not smaller than the separator:
+      // the key stored at the split index, and the new keys between a truncated separator and it
+      insertToTheRight =
+          keyIndex == indexToSplit && comparator.compare(keyToInsert, separationKey) >= 0;
+    } else {
+      serializedSeparationKey = serializedSplitKey;
+      insertToTheRight = false;
+    }
+
     final List<CellBTreeMultiValueV2Bucket.Entry> rightEntries = new ArrayList<>(indexToSplit);
 
     final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1260,23 +1292,23 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
           path,
           insertionIndexes,
           keyIndex,
-          keyToInsert,
           entryToSplit.getPageIndex(),
           bucketToSplit,
           splitLeaf,
           indexToSplit,
           serializedSeparationKey,
+          insertToTheRight,
           rightEntries,
           atomicOperation);
     } else {
       return splitRootBucket(
           keyIndex,
-          keyToInsert,
           entryToSplit,
           bucketToSplit,
           splitLeaf,
           indexToSplit,
           serializedSeparationKey,
+          insertToTheRight,
           rightEntries,
           atomicOperation);
     }
@@ -1314,12 +1346,12 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
       final List<Long> path,
       final List<Integer> insertionIndexes,
       final int keyIndex,
-      final K keyToInsert,
       final long pageIndex,
       final CellBTreeMultiValueV2Bucket<K> bucketToSplit,
       final boolean splitLeaf,
       final int indexToSplit,
       final byte[] serializedSeparationKey,
+      final boolean insertToTheRight,
       final List<CellBTreeMultiValueV2Bucket.Entry> rightEntries,
       final OAtomicOperation atomicOperation)
       throws IOException {
@@ -1432,10 +1464,7 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
           rightBucketEntry.getPageIndex(),
           resultPath,
           resultInsertionIndexes);
-    } else if (splitLeaf
-        && keyToInsert.equals(
-            Optional.ofNullable(separationKey)
-                .orElseGet(() -> deserializeKey(serializedSeparationKey)))) {
+    } else if (insertToTheRight) {
       return addToTheRightNonRootBucket(
           keyIndex,
           true,
@@ -1483,12 +1512,12 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
 
   private UpdateBucketSearchResult splitRootBucket(
       final int keyIndex,
-      final K keyToInsert,
       final OCacheEntry bucketEntry,
       CellBTreeMultiValueV2Bucket<K> bucketToSplit,
       final boolean splitLeaf,
       final int indexToSplit,
       final byte[] serializedSeparationKey,
+      final boolean insertToTheRight,
       final List<CellBTreeMultiValueV2Bucket.Entry> rightEntries,
       final OAtomicOperation atomicOperation)
       throws IOException {
@@ -1596,7 +1625,7 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
     } else if (keyIndex > indexToSplit) {
       return addToTheRightRootBucket(
           keyIndex, splitLeaf, indexToSplit, rightBucketEntry, resultPath, itemPointers);
-    } else if (splitLeaf && keyToInsert.equals(deserializeKey(serializedSeparationKey))) {
+    } else if (insertToTheRight) {
       return addToTheRightRootBucket(
           keyIndex, true, indexToSplit, rightBucketEntry, resultPath, itemPointers);
     } else {
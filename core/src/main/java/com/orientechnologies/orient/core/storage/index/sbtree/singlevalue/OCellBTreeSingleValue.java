@@ -8,6 +8,7 @@ import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import java.io.IOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface OCellBTreeSingleValue<K> {
@@ -27,6 +28,27 @@ public interface OCellBTreeSingleValue<K> {
       OAtomicOperation atomicOperation, K key, ORID value, IndexEngineValidator<K, ORID> validator)
       throws IOException;
 
+  /**
+   * Puts entries which are sorted in ascending order of keys. Implementations may use the order of
+   * entries to put them faster than one by one, by default every entry is put separately.
+   *
+   * @param validator validator of put operations, or <code>null</code> if entries should be put
+   *     without validation
+   */
+  default void putSorted(
+      OAtomicOperation atomicOperation,
+      List<ORawPair<K, ORID>> entries,
+      IndexEngineValidator<K, ORID> validator)
+      throws IOException {
+    for (final ORawPair<K, ORID> entry : entries) {
+      if (validator != null) {
+        validatedPut(atomicOperation, entry.first, entry.second, validator);
+      } else {
+        put(atomicOperation, entry.first, entry.second);
+      }
+    }
+  }
+
   void close();
 
   void delete(OAtomicOperation atomicOperation) throws IOException;
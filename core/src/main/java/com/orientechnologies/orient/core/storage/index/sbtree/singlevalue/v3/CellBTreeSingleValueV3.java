@@ -41,6 +41,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
+import com.orientechnologies.orient.core.storage.index.sbtree.OSeparatorKeys;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import java.io.IOException;
 import java.util.*;
@@ -219,6 +220,272 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     return update(atomicOperation, key, value, validator);
   }
 
+  /**
+   * Entries which keys are bigger than all the keys of the tree are appended to the rightmost leaf
+   * bucket. When this bucket is full, the next entries are appended to the new rightmost bucket
+   * instead of splitting the full one in halves, so buckets filled this way are fully packed. The
+   * path to the rightmost bucket is kept between entries, so the tree is not searched for every
+   * key. The rest of entries are put as usual.
+   */
+  @Override
+  public void putSorted(
+      final OAtomicOperation atomicOperation,
+      final List<ORawPair<K, ORID>> entries,
+      final IndexEngineValidator<K, ORID> validator) {
+    executeInsideComponentOperation(
+        atomicOperation,
+        operation -> {
+          acquireExclusiveLock();
+          try {
+            // path from the root to the rightmost leaf bucket
+            List<Long> rightEdge = null;
+            K lastKey = null;
+            int appended = 0;
+
+            for (final ORawPair<K, ORID> entry : entries) {
+              if (entry.first == null) {
+                update(atomicOperation, null, entry.second, validator);
+                continue;
+              }
+
+              final K key = keySerializer.preprocess(entry.first, (Object[]) keyTypes);
+              if (rightEdge == null) {
+                rightEdge = new ArrayList<>(8);
+                lastKey = findRightEdge(rightEdge, atomicOperation);
+              }
+
+              if (lastKey != null && comparator.compare(key, lastKey) <= 0) {
+                update(atomicOperation, key, entry.second, validator);
+                rightEdge = null;
+                continue;
+              }
+
+              ORID value = entry.second;
+              if (validator != null) {
+                final Object result = validator.validate(key, null, value);
+                if (result == IndexEngineValidator.IGNORE) {
+                  continue;
+                }
+                value = (ORID) result;
+              }
+
+              final byte[] serializedKey =
+                  keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes);
+              if (serializedKey.length > MAX_KEY_SIZE) {
+                throw new OTooBigIndexKeyException(
+                    "Key size is more than allowed, operation was canceled. Current key size "
+                        + serializedKey.length
+                        + ", allowed  "
+                        + MAX_KEY_SIZE,
+                    getName());
+              }
+
+              final byte[] serializedValue =
+                  new byte[OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+              OShortSerializer.INSTANCE.serializeNative(
+                  (short) value.getClusterId(), serializedValue, 0);
+              OLongSerializer.INSTANCE.serializeNative(
+                  value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
+
+              appendToRightEdge(rightEdge, key, serializedKey, serializedValue, atomicOperation);
+              lastKey = key;
+              appended++;
+            }
+
+            if (appended > 0) {
+              updateSize(appended, atomicOperation);
+            }
+          } finally {
+            releaseExclusiveLock();
+          }
+        });
+  }
+
+  /**
+   * Fills the path from the root to the rightmost leaf bucket.
+   *
+   * @return key which is not smaller than any key of the tree, or <code>null</code> if the tree is
+   *     empty
+   */
+  private K findRightEdge(final List<Long> path, final OAtomicOperation atomicOperation)
+      throws IOException {
+    long pageIndex = ROOT_INDEX;
+    K lowerBound = null;
+
+    while (true) {
+      if (path.size() > MAX_PATH_LENGTH) {
+        throw new CellBTreeSingleValueV3Exception(
+            "We reached max level of depth of SBTree but still found nothing, seems like tree is in"
+                + " corrupted state. You should rebuild index related to given query.",
+            this);
+      }
+
+      path.add(pageIndex);
+      try (final OCacheEntry bucketEntry = loadPageForRead(atomicOperation, fileId, pageIndex)) {
+        @SuppressWarnings("ObjectAllocationInLoop")
+        final CellBTreeSingleValueBucketV3<K> bucket =
+            new CellBTreeSingleValueBucketV3<>(bucketEntry);
+        final int size = bucket.size();
+
+        if (bucket.isLeaf()) {
+          if (size == 0) {
+            // all the keys of the tree are smaller than the last separator on the path
+            return lowerBound;
+          }
+
+          return bucket.getKey(size - 1, keySerializer);
+        }
+
+        lowerBound = bucket.getKey(size - 1, keySerializer);
+        pageIndex = bucket.getRight(size - 1);
+      }
+    }
+  }
+
+  private void appendToRightEdge(
+      final List<Long> path,
+      final K key,
+      final byte[] serializedKey,
+      final byte[] serializedValue,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final int leafLevel = path.size() - 1;
+    final long leafIndex = path.get(leafLevel);
+
+    try (final OCacheEntry leafEntry = loadPageForWrite(atomicOperation, fileId, leafIndex, true)) {
+      final CellBTreeSingleValueBucketV3<K> leaf = new CellBTreeSingleValueBucketV3<>(leafEntry);
+      final int size = leaf.size();
+      if (leaf.addLeafEntry(size, serializedKey, serializedValue)) {
+        return;
+      }
+
+      final byte[] separator =
+          keySerializer.serializeNativeAsWhole(
+              OSeparatorKeys.shortestSeparator(leaf.getKey(size - 1, keySerializer), key),
+              (Object[]) keyTypes);
+
+      if (leafIndex == ROOT_INDEX) {
+        final List<byte[]> leftEntries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          leftEntries.add(leaf.getRawEntry(i, keySerializer));
+        }
+
+        try (final OCacheEntry leftEntry = allocateNewPage(atomicOperation);
+            final OCacheEntry rightEntry = allocateNewPage(atomicOperation)) {
+          final CellBTreeSingleValueBucketV3<K> leftBucket =
+              new CellBTreeSingleValueBucketV3<>(leftEntry);
+          leftBucket.init(true);
+          leftBucket.addAll(leftEntries, keySerializer);
+          leftBucket.setRightSibling(rightEntry.getPageIndex());
+
+          final CellBTreeSingleValueBucketV3<K> rightBucket =
+              new CellBTreeSingleValueBucketV3<>(rightEntry);
+          rightBucket.init(true);
+          rightBucket.setLeftSibling(leftEntry.getPageIndex());
+          rightBucket.addLeafEntry(0, serializedKey, serializedValue);
+
+          leaf.shrink(0, keySerializer);
+          leaf.switchBucketType();
+          leaf.addNonLeafEntry(0, leftEntry.getPageIndex(), rightEntry.getPageIndex(), separator);
+
+          path.add((long) rightEntry.getPageIndex());
+        }
+
+        return;
+      }
+
+      try (final OCacheEntry newLeafEntry = allocateNewPage(atomicOperation)) {
+        final CellBTreeSingleValueBucketV3<K> newLeaf =
+            new CellBTreeSingleValueBucketV3<>(newLeafEntry);
+        newLeaf.init(true);
+        newLeaf.setLeftSibling(leafIndex);
+        newLeaf.addLeafEntry(0, serializedKey, serializedValue);
+
+        leaf.setRightSibling(newLeafEntry.getPageIndex());
+
+        path.set(leafLevel, (long) newLeafEntry.getPageIndex());
+        appendSeparator(
+            path,
+            leafLevel - 1,
+            separator,
+            (int) leafIndex,
+            newLeafEntry.getPageIndex(),
+            atomicOperation);
+      }
+    }
+  }
+
+  /**
+   * Appends separator of two rightmost children to the non-leaf bucket of the right edge. If
+   * bucket is full its last entry is moved to the parent bucket, and the new rightmost bucket which
+   * contains only the appended separator is created.
+   */
+  private void appendSeparator(
+      final List<Long> path,
+      final int level,
+      final byte[] separator,
+      final int leftChild,
+      final int rightChild,
+      final OAtomicOperation atomicOperation)
+      throws IOException {
+    final long pageIndex = path.get(level);
+
+    try (final OCacheEntry bucketEntry =
+        loadPageForWrite(atomicOperation, fileId, pageIndex, true)) {
+      final CellBTreeSingleValueBucketV3<K> bucket =
+          new CellBTreeSingleValueBucketV3<>(bucketEntry);
+      final int size = bucket.size();
+      if (bucket.addNonLeafEntry(size, leftChild, rightChild, separator)) {
+        return;
+      }
+
+      if (size < 2) {
+        throw new OStorageException("Left part of bucket is empty");
+      }
+
+      final byte[] parentSeparator = bucket.getRawKey(size - 1, keySerializer);
+
+      try (final OCacheEntry rightEntry = allocateNewPage(atomicOperation)) {
+        final CellBTreeSingleValueBucketV3<K> rightBucket =
+            new CellBTreeSingleValueBucketV3<>(rightEntry);
+        rightBucket.init(false);
+        rightBucket.addNonLeafEntry(0, leftChild, rightChild, separator);
+
+        if (pageIndex == ROOT_INDEX) {
+          final List<byte[]> leftEntries = new ArrayList<>(size - 1);
+          for (int i = 0; i < size - 1; i++) {
+            leftEntries.add(bucket.getRawEntry(i, keySerializer));
+          }
+
+          try (final OCacheEntry leftEntry = allocateNewPage(atomicOperation)) {
+            final CellBTreeSingleValueBucketV3<K> leftBucket =
+                new CellBTreeSingleValueBucketV3<>(leftEntry);
+            leftBucket.init(false);
+            leftBucket.addAll(leftEntries, keySerializer);
+
+            bucket.shrink(0, keySerializer);
+            bucket.addNonLeafEntry(
+                0, leftEntry.getPageIndex(), rightEntry.getPageIndex(), parentSeparator);
+          }
+
+          path.add(1, (long) rightEntry.getPageIndex());
+          return;
+        }
+
+        bucket.shrink(size - 1, keySerializer);
+
+        path.set(level, (long) rightEntry.getPageIndex());
+        appendSeparator(
+            path,
+            level - 1,
+            parentSeparator,
+            (int) pageIndex,
+            rightEntry.getPageIndex(),
+            atomicOperation);
+      }
+    }
+  }
+
   private boolean update(
       final OAtomicOperation atomicOperation,
       final K k,
@@ -327,6 +594,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
                         bucketSearchResult.getPath(),
                         bucketSearchResult.getInsertionIndexes(),
                         insertionIndex,
+                        key,
                         atomicOperation);
 
                 insertionIndex = bucketSearchResult.getItemIndex();
@@ -1398,13 +1666,13 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       final List<Long> path,
       final List<Integer> itemPointers,
       final int keyIndex,
+      final K keyToInsert,
       final OAtomicOperation atomicOperation)
       throws IOException {
     final boolean splitLeaf = bucketToSplit.isLeaf();
     final int bucketSize = bucketToSplit.size();
 
     final int indexToSplit = bucketSize >>> 1;
-    final K separationKey = bucketToSplit.getKey(indexToSplit, keySerializer);
     final List<byte[]> rightEntries = new ArrayList<>(indexToSplit);
 
     final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1412,6 +1680,26 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       throw new OStorageException("Left part of bucket is empty");
     }
 
+    final K separationKey;
+    if (splitLeaf) {
+      // any key between the last key of the left bucket and the first key of the right bucket
+      // separates them, so the shortest one is stored in the parent
+      separationKey =
+          OSeparatorKeys.shortestSeparator(
+              bucketToSplit.getKey(indexToSplit - 1, keySerializer),
+              bucketToSplit.getKey(indexToSplit, keySerializer));
+    } else {
+      separationKey = bucketToSplit.getKey(indexToSplit, keySerializer);
+    }
+
+    // searches go to the right bucket for the keys which are not smaller than the separator, and a
+    // truncated separator can be smaller than keys inserted just before the first right key
+    final boolean insertToTheRight =
+        keyIndex > indexToSplit
+            || splitLeaf
+                && keyIndex == indexToSplit
+                && comparator.compare(keyToInsert, separationKey) >= 0;
+
     for (int i = startRightIndex; i < bucketSize; i++) {
       rightEntries.add(bucketToSplit.getRawEntry(i, keySerializer));
     }
@@ -1430,6 +1718,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
           splitLeaf,
           indexToSplit,
           separationKey,
+          insertToTheRight,
           rightEntries,
           atomicOperation);
     } else {
@@ -1440,6 +1729,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
           splitLeaf,
           indexToSplit,
           separationKey,
+          insertToTheRight,
           rightEntries,
           atomicOperation);
     }
@@ -1454,6 +1744,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       final boolean splitLeaf,
       final int indexToSplit,
       final K separationKey,
+      final boolean insertToTheRight,
       final List<byte[]> rightEntries,
       final OAtomicOperation atomicOperation)
       throws IOException {
@@ -1504,6 +1795,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
                   currentPath,
                   currentIndex,
                   insertionIndex,
+                  null,
                   atomicOperation);
 
           parentIndex = bucketSearchResult.getLastPathItem();
@@ -1533,7 +1825,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     final ArrayList<Integer> resultItemPointers =
         new ArrayList<>(itemPointers.subList(0, itemPointers.size() - 1));
 
-    if (keyIndex <= indexToSplit) {
+    if (!insertToTheRight) {
       resultPath.add(pageIndex);
       resultItemPointers.add(keyIndex);
 
@@ -1591,6 +1883,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       final boolean splitLeaf,
       final int indexToSplit,
       final K separationKey,
+      final boolean insertToTheRight,
       final List<byte[]> rightEntries,
       final OAtomicOperation atomicOperation)
       throws IOException {
@@ -1649,7 +1942,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
 
     final ArrayList<Integer> itemPointers = new ArrayList<>(8);
 
-    if (keyIndex <= indexToSplit) {
+    if (!insertToTheRight) {
       itemPointers.add(-1);
       itemPointers.add(keyIndex);
 
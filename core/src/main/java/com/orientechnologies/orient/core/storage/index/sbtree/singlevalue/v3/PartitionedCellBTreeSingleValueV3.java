@@ -0,0 +1,395 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.hash.OMurmurHash3;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.stream.Streams;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.CompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Single value tree which is split into several {@link CellBTreeSingleValueV3} partitions by hash
+ * of the key. Every partition is a separate durable component which is locked till the end of
+ * atomic operation independently of other partitions, so atomic operations which change keys of
+ * different partitions are not serialized on the lock of the whole tree. Changes of pages of
+ * every partition, including splits of its buckets, are still logged atomically as part of
+ * atomic operation.
+ *
+ * <p>Point operations are routed to the single partition, range queries merge sorted streams of
+ * all partitions.
+ *
+ * <p>Locks of several partitions are always acquired in the order of names of partitions, the
+ * same order is used by storage during locking of index keys of transaction, see {@link
+ * #getPartitionName(Object)}. Storage locks null key after all other keys, so null key is stored
+ * in the partition which is the last in that order.
+ */
+public final class PartitionedCellBTreeSingleValueV3<K> implements OCellBTreeSingleValue<K> {
+  private static final int SEED = 362498820;
+
+  private static final Set<OType> SUPPORTED_TYPES =
+      EnumSet.of(
+          OType.BOOLEAN,
+          OType.BYTE,
+          OType.DATE,
+          OType.DATETIME,
+          OType.DOUBLE,
+          OType.LONG,
+          OType.BINARY,
+          OType.DECIMAL,
+          OType.FLOAT,
+          OType.INTEGER,
+          OType.LINK,
+          OType.SHORT,
+          OType.STRING);
+
+  private static final CompositeKeySerializer HASH_SERIALIZER = new CompositeKeySerializer();
+
+  private final List<CellBTreeSingleValueV3<K>> partitions;
+  private final List<String> partitionNames;
+
+  /** Partitions sorted by their names, in the order in which their locks are acquired. */
+  private final List<CellBTreeSingleValueV3<K>> lockOrder;
+
+  /**
+   * Amount of the last items of composite key which are not used to calculate partition of the
+   * key, so all keys with the same prefix are stored in the same partition.
+   */
+  private final int ignoredKeyItems;
+
+  private final int nullKeyPartition;
+
+  private volatile OType[] hashTypes;
+
+  public PartitionedCellBTreeSingleValueV3(
+      final String name,
+      final String dataFileExtension,
+      final String nullFileExtension,
+      final OAbstractPaginatedStorage storage,
+      final int partitionsCount,
+      final int ignoredKeyItems) {
+    if (partitionsCount < 2) {
+      throw new IllegalArgumentException(
+          "Partitioned tree should contain at least two partitions, but " + partitionsCount);
+    }
+
+    this.ignoredKeyItems = ignoredKeyItems;
+    this.partitions = new ArrayList<>(partitionsCount);
+    this.partitionNames = new ArrayList<>(partitionsCount);
+
+    for (int i = 0; i < partitionsCount; i++) {
+      final String partitionName = partitionName(name, i);
+
+      partitionNames.add(partitionName);
+      partitions.add(
+          new CellBTreeSingleValueV3<>(
+              partitionName, dataFileExtension, nullFileExtension, storage));
+    }
+
+    lockOrder = new ArrayList<>(partitions);
+    lockOrder.sort(Comparator.comparing(CellBTreeSingleValueV3::getName));
+
+    nullKeyPartition = partitions.indexOf(lockOrder.get(lockOrder.size() - 1));
+  }
+
+  public static String partitionName(final String name, final int partition) {
+    return name + "$p" + partition;
+  }
+
+  /** @return whether keys of given types can be distributed between partitions. */
+  public static boolean isPartitioningSupported(final OType[] keyTypes) {
+    if (keyTypes == null || keyTypes.length == 0) {
+      return false;
+    }
+
+    for (final OType keyType : keyTypes) {
+      if (!SUPPORTED_TYPES.contains(keyType)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public void create(
+      final OAtomicOperation atomicOperation,
+      final OBinarySerializer<K> keySerializer,
+      final OType[] keyTypes,
+      final int keySize,
+      final OEncryption encryption)
+      throws IOException {
+    initHashTypes(keyTypes);
+    acquireAtomicExclusiveLock();
+
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      partition.create(atomicOperation, keySerializer, keyTypes, keySize, encryption);
+    }
+  }
+
+  @Override
+  public void load(
+      final String name,
+      final int keySize,
+      final OType[] keyTypes,
+      final OBinarySerializer<K> keySerializer,
+      final OEncryption encryption) {
+    initHashTypes(keyTypes);
+
+    for (int i = 0; i < partitions.size(); i++) {
+      partitions.get(i).load(partitionNames.get(i), keySize, keyTypes, keySerializer, encryption);
+    }
+  }
+
+  private void initHashTypes(final OType[] keyTypes) {
+    final OType[] types = new OType[keyTypes.length - ignoredKeyItems];
+    System.arraycopy(keyTypes, 0, types, 0, types.length);
+
+    if (!isPartitioningSupported(types)) {
+      throw new IllegalArgumentException(
+          "Keys of types " + List.of(types) + " can not be distributed between partitions");
+    }
+
+    hashTypes = types;
+  }
+
+  /** @return partition which contains given key */
+  public OCellBTreeSingleValue<K> getPartition(final K key) {
+    return partitions.get(partitionIndex(key));
+  }
+
+  /** @return name of partition which contains given key, it defines order of partition locks */
+  public String getPartitionName(final K key) {
+    return partitionNames.get(partitionIndex(key));
+  }
+
+  /** Locks partition which contains given key till the end of the current atomic operation. */
+  public void acquireAtomicExclusiveLock(final K key) {
+    partitions.get(partitionIndex(key)).acquireAtomicExclusiveLock();
+  }
+
+  private int partitionIndex(final K key) {
+    if (key == null) {
+      return nullKeyPartition;
+    }
+
+    final OType[] types = hashTypes;
+    final Object[] hints = types;
+
+    OCompositeKey compositeKey =
+        key instanceof OCompositeKey ? (OCompositeKey) key : new OCompositeKey((Object) key);
+    final List<Object> keys = compositeKey.getKeys();
+    if (keys.size() > types.length) {
+      compositeKey = new OCompositeKey(keys.subList(0, types.length));
+    }
+
+    compositeKey = HASH_SERIALIZER.preprocess(compositeKey, hints);
+
+    final byte[] serializedKey = new byte[HASH_SERIALIZER.getObjectSize(compositeKey, hints)];
+    // byte order of serialized key does not depend on platform, so keys are not moved between
+    // partitions if database is copied to other platform
+    HASH_SERIALIZER.serialize(compositeKey, serializedKey, 0, hints);
+
+    final long hash = OMurmurHash3.murmurHash3_x64_64(serializedKey, SEED);
+    return (int) ((hash & Long.MAX_VALUE) % partitions.size());
+  }
+
+  @Override
+  public ORID get(final K key) {
+    return getPartition(key).get(key);
+  }
+
+  @Override
+  public void put(final OAtomicOperation atomicOperation, final K key, final ORID value)
+      throws IOException {
+    getPartition(key).put(atomicOperation, key, value);
+  }
+
+  @Override
+  public boolean validatedPut(
+      final OAtomicOperation atomicOperation,
+      final K key,
+      final ORID value,
+      final IndexEngineValidator<K, ORID> validator)
+      throws IOException {
+    return getPartition(key).validatedPut(atomicOperation, key, value, validator);
+  }
+
+  @Override
+  public void putSorted(
+      final OAtomicOperation atomicOperation,
+      final List<ORawPair<K, ORID>> entries,
+      final IndexEngineValidator<K, ORID> validator)
+      throws IOException {
+    final List<List<ORawPair<K, ORID>>> partitionEntries = new ArrayList<>(partitions.size());
+    for (int i = 0; i < partitions.size(); i++) {
+      partitionEntries.add(new ArrayList<>());
+    }
+
+    // entries of every partition are still sorted
+    for (final ORawPair<K, ORID> entry : entries) {
+      partitionEntries.get(partitionIndex(entry.first)).add(entry);
+    }
+
+    acquireAtomicExclusiveLock();
+    for (int i = 0; i < partitions.size(); i++) {
+      if (!partitionEntries.get(i).isEmpty()) {
+        partitions.get(i).putSorted(atomicOperation, partitionEntries.get(i), validator);
+      }
+    }
+  }
+
+  @Override
+  public ORID remove(final OAtomicOperation atomicOperation, final K key) throws IOException {
+    return getPartition(key).remove(atomicOperation, key);
+  }
+
+  @Override
+  public void close() {
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      partition.close();
+    }
+  }
+
+  @Override
+  public void delete(final OAtomicOperation atomicOperation) throws IOException {
+    acquireAtomicExclusiveLock();
+
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      partition.delete(atomicOperation);
+    }
+  }
+
+  @Override
+  public long size() {
+    long size = 0;
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      size += partition.size();
+    }
+
+    return size;
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesMinor(
+      final K key, final boolean inclusive, final boolean ascSortOrder) {
+    return mergeEntries(
+        partition -> partition.iterateEntriesMinor(key, inclusive, ascSortOrder), ascSortOrder);
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesMajor(
+      final K key, final boolean inclusive, final boolean ascSortOrder) {
+    return mergeEntries(
+        partition -> partition.iterateEntriesMajor(key, inclusive, ascSortOrder), ascSortOrder);
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> iterateEntriesBetween(
+      final K keyFrom,
+      final boolean fromInclusive,
+      final K keyTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder) {
+    return mergeEntries(
+        partition ->
+            partition.iterateEntriesBetween(
+                keyFrom, fromInclusive, keyTo, toInclusive, ascSortOrder),
+        ascSortOrder);
+  }
+
+  @Override
+  public Stream<ORawPair<K, ORID>> allEntries() {
+    return mergeEntries(CellBTreeSingleValueV3::allEntries, true);
+  }
+
+  @Override
+  public Stream<K> keyStream() {
+    final List<Stream<K>> streams = new ArrayList<>(partitions.size());
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      streams.add(partition.keyStream());
+    }
+
+    return merge(streams, 0, streams.size(), ODefaultComparator.INSTANCE);
+  }
+
+  @Override
+  public K firstKey() {
+    K firstKey = null;
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      final K key = partition.firstKey();
+      if (key != null
+          && (firstKey == null || ODefaultComparator.INSTANCE.compare(key, firstKey) < 0)) {
+        firstKey = key;
+      }
+    }
+
+    return firstKey;
+  }
+
+  @Override
+  public K lastKey() {
+    K lastKey = null;
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      final K key = partition.lastKey();
+      if (key != null
+          && (lastKey == null || ODefaultComparator.INSTANCE.compare(key, lastKey) > 0)) {
+        lastKey = key;
+      }
+    }
+
+    return lastKey;
+  }
+
+  /** Locks all partitions till the end of the current atomic operation. */
+  @Override
+  public void acquireAtomicExclusiveLock() {
+    for (final CellBTreeSingleValueV3<K> partition : lockOrder) {
+      partition.acquireAtomicExclusiveLock();
+    }
+  }
+
+  private Stream<ORawPair<K, ORID>> mergeEntries(
+      final Function<CellBTreeSingleValueV3<K>, Stream<ORawPair<K, ORID>>> query,
+      final boolean ascSortOrder) {
+    final List<Stream<ORawPair<K, ORID>>> streams = new ArrayList<>(partitions.size());
+    for (final CellBTreeSingleValueV3<K> partition : partitions) {
+      streams.add(query.apply(partition));
+    }
+
+    final Comparator<ORawPair<K, ORID>> comparator =
+        (entryOne, entryTwo) -> ODefaultComparator.INSTANCE.compare(entryOne.first, entryTwo.first);
+    return merge(streams, 0, streams.size(), ascSortOrder ? comparator : comparator.reversed());
+  }
+
+  private static <T> Stream<T> merge(
+      final List<Stream<T>> streams,
+      final int from,
+      final int to,
+      final Comparator<? super T> comparator) {
+    if (to - from == 1) {
+      return streams.get(from);
+    }
+
+    final int middle = (from + to) >>> 1;
+    return Streams.mergeSortedSpliterators(
+        merge(streams, from, middle, comparator),
+        merge(streams, middle, to, comparator),
+        comparator);
+  }
+}
@@ -0,0 +1,51 @@
+package com.orientechnologies.common.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class OLongLongHashMapTest {
+
+  @Test
+  public void testPutGet() {
+    OLongLongHashMap map = new OLongLongHashMap(4, -1);
+    assertTrue(map.isEmpty());
+    assertEquals(-1, map.get(42));
+
+    assertEquals(-1, map.put(42, 1));
+    assertEquals(1, map.put(42, 2));
+    assertEquals(2, map.get(42));
+    assertFalse(map.putIfAbsent(42, 3));
+    assertTrue(map.putIfAbsent(Long.MIN_VALUE, 4));
+    assertEquals(4, map.get(Long.MIN_VALUE));
+    assertEquals(2, map.size());
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.containsKey(42));
+    assertFalse(map.containsKey(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void testResize() {
+    OLongLongHashMap map = new OLongLongHashMap(0, Long.MIN_VALUE);
+    Map<Long, Long> expected = new HashMap<>();
+    Random random = new Random(7);
+    for (int i = 0; i < 100_000; i++) {
+      long key = random.nextInt(50_000) * 31L;
+      map.put(key, i);
+      expected.put(key, (long) i);
+    }
+
+    assertEquals(expected.size(), map.size());
+    for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+      assertEquals(entry.getValue().longValue(), map.get(entry.getKey()));
+    }
+    assertEquals(Long.MIN_VALUE, map.get(-31));
+  }
+}
@@ -0,0 +1,212 @@
+package com.orientechnologies.orient.core.graph.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.orientechnologies.BaseMemoryDatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotBuilder;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class OGraphAlgorithmsTest extends BaseMemoryDatabase {
+
+  private final List<OVertex> vertices = new ArrayList<>();
+
+  private OGraphSnapshot createGraph() {
+    db.createVertexClass("Person");
+    db.createEdgeClass("Knows");
+
+    for (int i = 0; i < 7; i++) {
+      OVertex vertex = db.newVertex("Person");
+      vertex.setProperty("id", i);
+      vertices.add(vertex.save());
+    }
+
+    // 0 -> 1 -> 2 -> 3 with a costly shortcut 0 -> 2, and the cycle 4 -> 5 -> 6 -> 4
+    knows(0, 1, 1);
+    knows(1, 2, 2);
+    knows(0, 2, 5);
+    knows(2, 3, 1);
+    knows(4, 5, 1);
+    knows(5, 6, 1);
+    knows(6, 4, 1);
+
+    return OGraphSnapshotManager.of((ODatabaseDocumentInternal) db)
+        .create(
+            (ODatabaseDocumentInternal) db,
+            new OGraphSnapshotBuilder("social")
+                .vertexClasses("Person")
+                .edgeClasses("Knows")
+                .weightProperty("weight"));
+  }
+
+  private void knows(int from, int to, double weight) {
+    OEdge edge = db.newEdge(vertices.get(from), vertices.get(to), "Knows");
+    edge.setProperty("weight", weight);
+    edge.save();
+  }
+
+  private int vertex(OGraphSnapshot snapshot, int index) {
+    return snapshot.getVertex(vertices.get(index).getIdentity());
+  }
+
+  @Test
+  public void testPageRank() {
+    OGraphSnapshot snapshot = createGraph();
+
+    double[] ranks = OPageRank.compute(snapshot, 0.85, 100, 1e-10);
+    double sum = 0;
+    for (double rank : ranks) {
+      sum += rank;
+    }
+    assertEquals(1.0, sum, 1e-6);
+    assertEquals(ranks[vertex(snapshot, 4)], ranks[vertex(snapshot, 5)], 1e-9);
+    assertEquals(ranks[vertex(snapshot, 5)], ranks[vertex(snapshot, 6)], 1e-9);
+    assertTrue(ranks[vertex(snapshot, 2)] > ranks[vertex(snapshot, 1)]);
+    assertTrue(ranks[vertex(snapshot, 1)] > ranks[vertex(snapshot, 0)]);
+  }
+
+  @Test
+  public void testConnectedComponents() {
+    OGraphSnapshot snapshot = createGraph();
+
+    int[] components = OWeaklyConnectedComponents.compute(snapshot);
+    int first = components[vertex(snapshot, 0)];
+    int second = components[vertex(snapshot, 4)];
+    assertNotEquals(first, second);
+    for (int i = 1; i < 4; i++) {
+      assertEquals(first, components[vertex(snapshot, i)]);
+    }
+    for (int i = 5; i < 7; i++) {
+      assertEquals(second, components[vertex(snapshot, i)]);
+    }
+  }
+
+  @Test
+  public void testLabelPropagation() {
+    OGraphSnapshot snapshot = createGraph();
+
+    int[] labels = OLabelPropagation.compute(snapshot, OLabelPropagation.DEFAULT_MAX_ITERATIONS);
+    int cycle = labels[vertex(snapshot, 4)];
+    assertEquals(cycle, labels[vertex(snapshot, 5)]);
+    assertEquals(cycle, labels[vertex(snapshot, 6)]);
+    for (int i = 0; i < 4; i++) {
+      assertNotEquals(cycle, labels[vertex(snapshot, i)]);
+    }
+  }
+
+  @Test
+  public void testMultiSourceBFS() {
+    OGraphSnapshot snapshot = createGraph();
+
+    int[] sources = {vertex(snapshot, 0), vertex(snapshot, 5)};
+    OMultiSourceBFS.Result result = OMultiSourceBFS.compute(snapshot, sources, ODirection.OUT, -1);
+    assertEquals(0, result.getDistance(vertex(snapshot, 0)));
+    assertEquals(1, result.getDistance(vertex(snapshot, 1)));
+    assertEquals(1, result.getDistance(vertex(snapshot, 2)));
+    assertEquals(2, result.getDistance(vertex(snapshot, 3)));
+    assertEquals(2, result.getDistance(vertex(snapshot, 4)));
+    assertEquals(vertex(snapshot, 0), result.getSource(vertex(snapshot, 3)));
+    assertEquals(vertex(snapshot, 5), result.getSource(vertex(snapshot, 4)));
+
+    result = OMultiSourceBFS.compute(snapshot, new int[] {vertex(snapshot, 3)}, ODirection.IN, 1);
+    assertTrue(result.isReached(vertex(snapshot, 2)));
+    assertFalse(result.isReached(vertex(snapshot, 1)));
+    assertFalse(result.isReached(vertex(snapshot, 0)));
+  }
+
+  @Test
+  public void testDeltaStepping() {
+    OGraphSnapshot snapshot = createGraph();
+
+    for (double delta : new double[] {0, 0.5, 1, 100}) {
+      double[] distances =
+          ODeltaSteppingShortestPaths.compute(
+              snapshot, new int[] {vertex(snapshot, 0)}, ODirection.OUT, delta, 1);
+      assertEquals(0, distances[vertex(snapshot, 0)], 0);
+      assertEquals(1, distances[vertex(snapshot, 1)], 0);
+      assertEquals(3, distances[vertex(snapshot, 2)], 0);
+      assertEquals(4, distances[vertex(snapshot, 3)], 0);
+      assertEquals(Double.POSITIVE_INFINITY, distances[vertex(snapshot, 4)], 0);
+    }
+  }
+
+  @Test
+  public void testSQLStream() {
+    createGraph();
+
+    Map<ORID, Double> ranks = new HashMap<>();
+    try (OResultSet rs = db.query("select expand(pageRank('social'))")) {
+      while (rs.hasNext()) {
+        OResult row = rs.next();
+        ranks.put(row.getProperty("vertex"), ((Number) row.getProperty("rank")).doubleValue());
+      }
+    }
+    assertEquals(7, ranks.size());
+    assertTrue(ranks.get(vertices.get(2).getIdentity()) > ranks.get(vertices.get(0).getIdentity()));
+
+    Map<ORID, Integer> distances = new HashMap<>();
+    try (OResultSet rs =
+        db.query(
+            "select expand(bfs('social', ?, {'maxDepth': 1}))", vertices.get(0).getIdentity())) {
+      while (rs.hasNext()) {
+        OResult row = rs.next();
+        distances.put(row.getProperty("vertex"), row.getProperty("distance"));
+        assertEquals(vertices.get(0).getIdentity(), row.getProperty("source"));
+      }
+    }
+    assertEquals(3, distances.size());
+    assertEquals(0, (int) distances.get(vertices.get(0).getIdentity()));
+    assertEquals(1, (int) distances.get(vertices.get(1).getIdentity()));
+    assertEquals(1, (int) distances.get(vertices.get(2).getIdentity()));
+
+    try (OResultSet rs =
+        db.query(
+            "select from (select expand(sssp('social', ?))) order by distance",
+            vertices.get(0).getIdentity())) {
+      List<Double> result = new ArrayList<>();
+      while (rs.hasNext()) {
+        result.add(rs.next().getProperty("distance"));
+      }
+      assertEquals(4, result.size());
+      assertEquals(4.0, result.get(3), 0);
+    }
+  }
+
+  @Test
+  public void testSQLWriteBack() {
+    createGraph();
+
+    try (OResultSet rs =
+        db.command(
+            "select connectedComponents('social', {'writeProperty': 'component', 'batchSize': 2})"
+                + " as updated")) {
+      assertEquals(7L, ((Number) rs.next().getProperty("updated")).longValue());
+    }
+
+    try (OResultSet rs = db.query("select count(*) as count from Person group by component")) {
+      List<Long> sizes = new ArrayList<>();
+      while (rs.hasNext()) {
+        sizes.add(rs.next().getProperty("count"));
+      }
+      sizes.sort(null);
+      assertEquals(2, sizes.size());
+      assertEquals(3L, (long) sizes.get(0));
+      assertEquals(4L, (long) sizes.get(1));
+    }
+  }
+}
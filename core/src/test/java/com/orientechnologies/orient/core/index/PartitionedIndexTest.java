@@ -0,0 +1,425 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests of indexes which use CELL_BTREE split into partitions by 'btreePartitions' metadata. */
+public class PartitionedIndexTest {
+  private static final int PARTITIONS = 4;
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+  private String buildDirectory;
+  private String dbName;
+
+  @Before
+  public void before() {
+    buildDirectory =
+        System.getProperty("buildDirectory", ".")
+            + File.separator
+            + PartitionedIndexTest.class.getSimpleName();
+
+    dbName = "partitionedIndexTest";
+    OFileUtils.deleteRecursively(new File(buildDirectory, dbName));
+
+    orientDB = new OrientDB("plocal:" + buildDirectory, OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        "create database " + dbName + " plocal users ( admin identified by 'admin' role admin)");
+    db = orientDB.open(dbName, "admin", "admin");
+
+    final OClass item = db.createClass("Item");
+    item.createProperty("key", OType.STRING);
+    item.createProperty("value", OType.INTEGER);
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(dbName);
+    orientDB.close();
+  }
+
+  @Test
+  public void testKeysAreDistributedBetweenPartitions() throws Exception {
+    createIndex("Item.key", "UNIQUE", "key");
+
+    final Set<String> partitions = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      insert("key" + i, i);
+      partitions.add(engine("Item.key").getIndexNameByKey("key" + i));
+    }
+
+    Assert.assertEquals(PARTITIONS, partitions.size());
+    for (int i = 0; i < PARTITIONS; i++) {
+      Assert.assertTrue(partitions.contains("Item.key$p" + i));
+    }
+
+    final OIndex index = index("Item.key");
+    Assert.assertEquals(100, index.getInternal().size());
+    for (int i = 0; i < 100; i++) {
+      try (Stream<ORID> rids = index.getInternal().getRids("key" + i)) {
+        final List<ORID> result = rids.collect(Collectors.toList());
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(i, (int) db.<ODocument>load(result.get(0)).getProperty("value"));
+      }
+    }
+
+    db.command("delete from Item where value < 50").close();
+    Assert.assertEquals(50, index.getInternal().size());
+    for (int i = 0; i < 100; i++) {
+      try (Stream<ORID> rids = index.getInternal().getRids("key" + i)) {
+        Assert.assertEquals(i < 50 ? 0 : 1, rids.count());
+      }
+    }
+  }
+
+  @Test
+  public void testRangeQueriesMergePartitions() {
+    createIndex("Item.value", "NOTUNIQUE", "value");
+
+    for (int i = 0; i < 100; i++) {
+      insert("key" + i, i);
+      insert("other" + i, i);
+    }
+
+    final OIndex index = index("Item.value");
+    Assert.assertEquals(0, index.getInternal().getFirstKey());
+    Assert.assertEquals(99, index.getInternal().getLastKey());
+
+    assertKeys(index.getInternal().stream(), 0, 99, true);
+    assertKeys(index.getInternal().descStream(), 0, 99, false);
+    assertKeys(index.getInternal().streamEntriesBetween(10, true, 20, false, true), 10, 19, true);
+    assertKeys(index.getInternal().streamEntriesBetween(10, false, 20, true, false), 11, 20, false);
+    assertKeys(index.getInternal().streamEntriesMajor(90, true, true), 90, 99, true);
+    assertKeys(index.getInternal().streamEntriesMinor(10, false, false), 0, 9, false);
+
+    // all entries of the same key are stored in the same partition
+    for (int i = 0; i < 100; i++) {
+      try (Stream<ORID> rids = index.getInternal().getRids(i)) {
+        Assert.assertEquals(2, rids.count());
+      }
+    }
+
+    try (Stream<Object> keys = index.getInternal().keyStream()) {
+      final List<Object> result = keys.collect(Collectors.toList());
+      // key is returned once per entry
+      Assert.assertEquals(200, result.size());
+      for (int i = 0; i < 100; i++) {
+        Assert.assertEquals(i, result.get(2 * i));
+        Assert.assertEquals(i, result.get(2 * i + 1));
+      }
+    }
+  }
+
+  @Test
+  public void testNullKeys() {
+    createIndex("Item.key", "UNIQUE", "key");
+    createIndex("Item.value", "NOTUNIQUE", "value");
+
+    for (int i = 0; i < 20; i++) {
+      insert("key" + i, i);
+    }
+    insert(null, null);
+    insert("key20", null);
+
+    final OIndexInternal unique = index("Item.key").getInternal();
+    try (Stream<ORID> rids = unique.getRids(null)) {
+      Assert.assertEquals(1, rids.count());
+    }
+    Assert.assertEquals(22, unique.size());
+
+    final OIndexInternal notUnique = index("Item.value").getInternal();
+    try (Stream<ORID> rids = notUnique.getRids(null)) {
+      Assert.assertEquals(2, rids.count());
+    }
+    Assert.assertEquals(22, notUnique.size());
+    // null key is not returned by range queries over not null keys
+    assertKeys(notUnique.streamEntriesBetween(0, true, 19, true, true), 0, 19, true);
+
+    try {
+      insert(null, 100);
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    db.command("delete from Item where key is null").close();
+    try (Stream<ORID> rids = unique.getRids(null)) {
+      Assert.assertEquals(0, rids.count());
+    }
+    try (Stream<ORID> rids = notUnique.getRids(null)) {
+      Assert.assertEquals(1, rids.count());
+    }
+  }
+
+  @Test
+  public void testUniqueViolationsInAllPartitions() throws Exception {
+    createIndex("Item.key", "UNIQUE", "key");
+
+    final Set<String> violatedPartitions = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      insert("key" + i, i);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      try {
+        insert("key" + i, -1);
+        Assert.fail("Expected record duplicate exception");
+      } catch (ORecordDuplicatedException e) {
+        violatedPartitions.add(engine("Item.key").getIndexNameByKey("key" + i));
+      }
+    }
+    Assert.assertEquals(PARTITIONS, violatedPartitions.size());
+
+    // duplicates of the same transaction are rejected on commit
+    try {
+      db.begin();
+      insert("key100", 100);
+      insert("key101", 101);
+      insert("key100", 102);
+      db.commit();
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException e) {
+      if (db.getTransaction().isActive()) {
+        db.rollback();
+      }
+    }
+
+    try (Stream<ORID> rids = index("Item.key").getInternal().getRids("key101")) {
+      Assert.assertEquals(0, rids.count());
+    }
+    Assert.assertEquals(100, index("Item.key").getInternal().size());
+
+    // the key is freed in its partition after the record is updated
+    db.command("update Item set key = 'moved' where key = 'key1'").close();
+    insert("key1", 1);
+    Assert.assertEquals(101, index("Item.key").getInternal().size());
+  }
+
+  @Test
+  public void testConcurrentTransactions() throws Exception {
+    createIndex("Item.key", "UNIQUE", "key");
+    createIndex("Item.value", "NOTUNIQUE", "value");
+
+    final int threads = 8;
+    final int transactions = 50;
+    final AtomicInteger duplicates = new AtomicInteger();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        final int thread = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (ODatabaseSession session = orientDB.open(dbName, "admin", "admin")) {
+                    for (int i = 0; i < transactions; i++) {
+                      session.begin();
+                      // keys of different partitions and null key are locked in the same order
+                      // by all transactions
+                      for (int n = 0; n < 3; n++) {
+                        final ODocument document = new ODocument("Item");
+                        document.setProperty("key", "t" + thread + "-" + i + "-" + n);
+                        document.setProperty("value", n == 2 ? null : i);
+                        session.save(document);
+                      }
+                      session.commit();
+                    }
+
+                    // only one of the transactions which insert the same key succeeds
+                    try {
+                      session.begin();
+                      final ODocument document = new ODocument("Item");
+                      document.setProperty("key", "shared");
+                      document.setProperty("value", -1);
+                      session.save(document);
+                      session.commit();
+                    } catch (ORecordDuplicatedException e) {
+                      duplicates.incrementAndGet();
+                      if (session.getTransaction().isActive()) {
+                        session.rollback();
+                      }
+                    }
+                  }
+                  return null;
+                }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals(threads - 1, duplicates.get());
+
+    final OIndexInternal unique = index("Item.key").getInternal();
+    Assert.assertEquals(threads * transactions * 3 + 1, unique.size());
+    for (int t = 0; t < threads; t++) {
+      for (int i = 0; i < transactions; i++) {
+        for (int n = 0; n < 3; n++) {
+          try (Stream<ORID> rids = unique.getRids("t" + t + "-" + i + "-" + n)) {
+            Assert.assertEquals(1, rids.count());
+          }
+        }
+      }
+    }
+
+    final OIndexInternal notUnique = index("Item.value").getInternal();
+    Assert.assertEquals(threads * transactions * 3 + 1, notUnique.size());
+    try (Stream<ORID> rids = notUnique.getRids(null)) {
+      Assert.assertEquals(threads * transactions, rids.count());
+    }
+    for (int i = 0; i < transactions; i++) {
+      try (Stream<ORID> rids = notUnique.getRids(i)) {
+        Assert.assertEquals(threads * 2, rids.count());
+      }
+    }
+  }
+
+  @Test
+  public void testPartitionsAreKeptAfterReopen() throws Exception {
+    createIndex("Item.key", "UNIQUE", "key");
+    createIndex("Item.value", "NOTUNIQUE", "value");
+
+    for (int i = 0; i < 100; i++) {
+      insert("key" + i, i % 10);
+    }
+
+    final String keyPartition = engine("Item.key").getIndexNameByKey("key1");
+    final String valuePartition = engine("Item.value").getIndexNameByKey(1);
+
+    db.close();
+    orientDB.close();
+
+    orientDB = new OrientDB("plocal:" + buildDirectory, OrientDBConfig.defaultConfig());
+    db = orientDB.open(dbName, "admin", "admin");
+
+    Assert.assertEquals(
+        PARTITIONS,
+        (int) index("Item.key").getMetadata().field(OCellBTreeIndexEngine.PARTITIONS_PROPERTY));
+    Assert.assertTrue(keyPartition.startsWith("Item.key$p"));
+    Assert.assertTrue(valuePartition.startsWith("Item.value$p"));
+    Assert.assertEquals(keyPartition, engine("Item.key").getIndexNameByKey("key1"));
+    Assert.assertEquals(valuePartition, engine("Item.value").getIndexNameByKey(1));
+
+    Assert.assertEquals(100, index("Item.key").getInternal().size());
+    Assert.assertEquals(100, index("Item.value").getInternal().size());
+    for (int i = 0; i < 100; i++) {
+      try (Stream<ORID> rids = index("Item.key").getInternal().getRids("key" + i)) {
+        Assert.assertEquals(1, rids.count());
+      }
+    }
+    assertKeys(index("Item.value").getInternal().stream(), 0, 9, true);
+
+    try {
+      insert("key1", 1);
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testPartitionsOfContextConfiguration() throws Exception {
+    final OAbstractPaginatedStorage storage = storage();
+    storage
+        .getConfiguration()
+        .getContextConfiguration()
+        .setValue(OGlobalConfiguration.INDEX_BTREE_PARTITIONS, 3);
+    db.getClass("Item").createIndex("Item.value", OClass.INDEX_TYPE.NOTUNIQUE, "value");
+
+    final Set<String> partitions = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      partitions.add(engine("Item.value").getIndexNameByKey(i));
+    }
+    Assert.assertEquals(3, partitions.size());
+  }
+
+  @Test
+  public void testIndexIsNotPartitionedByDefault() throws Exception {
+    db.getClass("Item").createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE, "key");
+    Assert.assertEquals("Item.key", engine("Item.key").getIndexNameByKey("key1"));
+  }
+
+  private void createIndex(final String name, final String type, final String field) {
+    db.command(
+            "create index "
+                + name
+                + " on Item ("
+                + field
+                + ") "
+                + type
+                + " METADATA {ignoreNullValues: false, btreePartitions: "
+                + PARTITIONS
+                + "}")
+        .close();
+  }
+
+  private void insert(final String key, final Integer value) {
+    final ODocument document = new ODocument("Item");
+    document.setProperty("key", key);
+    document.setProperty("value", value);
+    db.save(document);
+  }
+
+  private OIndex index(final String name) {
+    final ODatabaseDocumentInternal database = (ODatabaseDocumentInternal) db;
+    return database.getMetadata().getIndexManagerInternal().getIndex(database, name);
+  }
+
+  private OAbstractPaginatedStorage storage() {
+    return (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+  }
+
+  private OBaseIndexEngine engine(final String name) throws OInvalidIndexEngineIdException {
+    return storage().getIndexEngine(index(name).getInternal().getIndexId());
+  }
+
+  private static void assertKeys(
+      final Stream<ORawPair<Object, ORID>> stream,
+      final int from,
+      final int to,
+      final boolean ascSortOrder) {
+    final List<Object> keys;
+    try (Stream<ORawPair<Object, ORID>> entries = stream) {
+      keys = entries.map(entry -> entry.first).distinct().collect(Collectors.toList());
+    }
+
+    Assert.assertEquals(to - from + 1, keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(ascSortOrder ? from + i : to - i, keys.get(i));
+    }
+  }
+}
@@ -1,6 +1,10 @@
 package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.BaseMemoryDatabase;
+import com.orientechnologies.common.listener.OProgressListener;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -75,4 +79,80 @@ public class UniqueIndexTest extends BaseMemoryDatabase {
     final OResultSet result = db.query("select from User where MailAddress = 'john@doe.com'");
     Assert.assertEquals(result.stream().count(), 1);
   }
+
+  @Test
+  public void testBuildWithNonPositiveBatchSize() {
+    final OContextConfiguration configuration =
+        ((ODatabaseDocumentInternal) db).getStorage().getConfiguration().getContextConfiguration();
+    configuration.setValue(OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE, 10);
+    configuration.setValue(OGlobalConfiguration.INDEX_BULK_LOAD_BATCH_SIZE, 0);
+
+    final OClass userClass = db.getMetadata().getSchema().createClass("User");
+    userClass.createProperty("MailAddress", OType.STRING);
+    for (int i = 0; i < 100; i++) {
+      ODocument user = new ODocument("User");
+      user.field("MailAddress", "user" + i + "@doe.com");
+      db.save(user);
+    }
+
+    userClass.createIndex("User.MailAddress", OClass.INDEX_TYPE.UNIQUE, "MailAddress");
+
+    try (OResultSet result = db.query("select from User where MailAddress = 'user42@doe.com'")) {
+      Assert.assertEquals(1, result.stream().count());
+    }
+    Assert.assertEquals(100, userClass.getClassIndex("User.MailAddress").getInternal().size());
+  }
+
+  @Test
+  public void testRebuildWithRecordUpdatedAfterScan() {
+    final OContextConfiguration configuration =
+        ((ODatabaseDocumentInternal) db).getStorage().getConfiguration().getContextConfiguration();
+    configuration.setValue(OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE, 10);
+
+    final OClass userClass = db.getMetadata().getSchema().createClass("User");
+    userClass.createProperty("MailAddress", OType.STRING);
+    ORID firstRid = null;
+    for (int i = 0; i < 20; i++) {
+      ODocument user = new ODocument("User");
+      user.field("MailAddress", "user" + i + "@doe.com");
+      db.save(user);
+      if (firstRid == null) {
+        firstRid = user.getIdentity();
+      }
+    }
+
+    final OIndex index =
+        userClass.createIndex("User.MailAddress", OClass.INDEX_TYPE.UNIQUE, "MailAddress");
+
+    final ORID updatedRid = firstRid;
+    index
+        .getInternal()
+        .rebuild(
+            new OProgressListener() {
+              @Override
+              public void onBegin(Object iTask, long iTotal, Object iMetadata) {}
+
+              @Override
+              public boolean onProgress(Object iTask, long iCounter, float iPercent) {
+                if (iCounter == 20) {
+                  // the record is already scanned, its entry is sorted but not put yet
+                  ODocument user = db.load(updatedRid);
+                  user.field("MailAddress", "changed@doe.com");
+                  db.save(user);
+                }
+                return true;
+              }
+
+              @Override
+              public void onCompletition(Object iTask, boolean iSucceed) {}
+            });
+
+    try (OResultSet result = db.query("select from User where MailAddress = 'user0@doe.com'")) {
+      Assert.assertEquals(0, result.stream().count());
+    }
+    try (OResultSet result = db.query("select from User where MailAddress = 'changed@doe.com'")) {
+      Assert.assertEquals(1, result.stream().count());
+    }
+    Assert.assertEquals(20, index.getInternal().size());
+  }
 }
@@ -0,0 +1,172 @@
+package com.orientechnologies.orient.core.index.engine;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OIndexEntrySorterTest {
+  @SuppressWarnings("unchecked")
+  private static final OBinarySerializer<Object> KEY_SERIALIZER =
+      (OBinarySerializer<Object>) (OBinarySerializer<?>) OUTF8Serializer.INSTANCE;
+
+  @Test
+  public void testSortInHeap() {
+    assertSorted(1_000_000, 10_000);
+  }
+
+  @Test
+  public void testSortInRuns() {
+    assertSorted(1_000, 10_000);
+  }
+
+  @Test
+  public void testValidator() {
+    final IndexEngineValidator<Object, ORID> validator =
+        (key, oldValue, newValue) -> {
+          if (!oldValue.equals(newValue)) {
+            throw new IllegalStateException("Duplicated key " + key);
+          }
+          return IndexEngineValidator.IGNORE;
+        };
+
+    try (final OIndexEntrySorter sorter =
+        new OIndexEntrySorter(KEY_SERIALIZER, null, validator, 2)) {
+      sorter.add("b", new ORecordId(1, 2));
+      sorter.add("a", new ORecordId(1, 1));
+      sorter.add("b", new ORecordId(1, 2));
+      sorter.add("c", new ORecordId(1, 3));
+
+      final Iterator<ORawPair<Object, ORID>> entries = sorter.sortedEntries();
+      Assert.assertEquals("a", entries.next().first);
+      Assert.assertEquals("b", entries.next().first);
+      Assert.assertEquals("c", entries.next().first);
+      Assert.assertFalse(entries.hasNext());
+    }
+
+    try (final OIndexEntrySorter sorter =
+        new OIndexEntrySorter(KEY_SERIALIZER, null, validator, 2)) {
+      sorter.add("b", new ORecordId(1, 2));
+      sorter.add("a", new ORecordId(1, 1));
+      sorter.add("b", new ORecordId(1, 3));
+
+      final Iterator<ORawPair<Object, ORID>> entries = sorter.sortedEntries();
+      Assert.assertEquals("a", entries.next().first);
+      try {
+        entries.next();
+        Assert.fail();
+      } catch (IllegalStateException expected) {
+        // duplicated key
+      }
+    }
+  }
+
+  @Test
+  public void testCloseDoesNotHideBuildFailure() throws Exception {
+    final Path tempDir = Paths.get(Orient.getTempPath());
+    final Set<Path> existingRuns = listRuns(tempDir);
+
+    final IllegalStateException buildFailure = new IllegalStateException("build failure");
+    Path brokenRun = null;
+    try (final OIndexEntrySorter sorter = new OIndexEntrySorter(KEY_SERIALIZER, null, null, 2)) {
+      for (int i = 0; i < 10; i++) {
+        sorter.add("key" + i, new ORecordId(1, i));
+      }
+      final Iterator<ORawPair<Object, ORID>> entries = sorter.sortedEntries();
+      Assert.assertEquals("key0", entries.next().first);
+
+      final Set<Path> runs = listRuns(tempDir);
+      runs.removeAll(existingRuns);
+      Assert.assertEquals(5, runs.size());
+
+      // a run which can not be deleted
+      brokenRun = runs.iterator().next();
+      Files.delete(brokenRun);
+      Files.createDirectory(brokenRun);
+      Files.createFile(brokenRun.resolve("content"));
+
+      throw buildFailure;
+    } catch (IllegalStateException e) {
+      Assert.assertSame(buildFailure, e);
+      Assert.assertEquals(0, e.getSuppressed().length);
+    } finally {
+      if (brokenRun != null) {
+        Files.deleteIfExists(brokenRun.resolve("content"));
+        Files.deleteIfExists(brokenRun);
+      }
+    }
+
+    final Set<Path> runs = listRuns(tempDir);
+    runs.removeAll(existingRuns);
+    Assert.assertTrue(runs.isEmpty());
+  }
+
+  private static Set<Path> listRuns(final Path dir) throws IOException {
+    final Set<Path> runs = new HashSet<>();
+    if (Files.isDirectory(dir)) {
+      try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "index-build*.tmp")) {
+        for (final Path path : stream) {
+          runs.add(path);
+        }
+      }
+    }
+    return runs;
+  }
+
+  private static void assertSorted(final int runSize, final int keysCount) {
+    final long seed = System.nanoTime();
+    System.out.println("assertSorted seed : " + seed);
+    final Random random = new Random(seed);
+
+    final NavigableMap<String, ORID> expected = new TreeMap<>();
+    ORID nullValue = null;
+
+    try (final OIndexEntrySorter sorter =
+        new OIndexEntrySorter(KEY_SERIALIZER, null, null, runSize)) {
+      for (int i = 0; i < keysCount; i++) {
+        final ORID value = new ORecordId(i % 32_000, i);
+        if (i % 1_000 == 0) {
+          sorter.add(null, value);
+          nullValue = value;
+          continue;
+        }
+
+        // keys are repeated, the last added value is kept
+        final String key = "key" + random.nextInt(keysCount / 2);
+        sorter.add(key, value);
+        expected.put(key, value);
+      }
+
+      final Iterator<ORawPair<Object, ORID>> entries = sorter.sortedEntries();
+
+      final ORawPair<Object, ORID> nullEntry = entries.next();
+      Assert.assertNull(nullEntry.first);
+      Assert.assertEquals(nullValue, nullEntry.second);
+
+      for (final Map.Entry<String, ORID> expectedEntry : expected.entrySet()) {
+        Assert.assertTrue(entries.hasNext());
+
+        final ORawPair<Object, ORID> entry = entries.next();
+        Assert.assertEquals(expectedEntry.getKey(), entry.first);
+        Assert.assertEquals(expectedEntry.getValue(), entry.second);
+      }
+      Assert.assertFalse(entries.hasNext());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.orientechnologies.orient.core.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.orientechnologies.BaseMemoryInternalDatabase;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatistics;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
+import com.orientechnologies.orient.core.sql.executor.metadata.OPropertyStatistics;
+import org.junit.Test;
+
+public class OCommandExecutorSQLAnalyzeClassTest extends BaseMemoryInternalDatabase {
+
+  private void createData(int records) {
+    OClass clazz = db.getMetadata().getSchema().createClass("Analyzed");
+    clazz.createProperty("id", OType.INTEGER);
+    clazz.createProperty("category", OType.STRING);
+
+    for (int i = 0; i < records; i++) {
+      ODocument doc = new ODocument("Analyzed");
+      doc.field("id", i);
+      doc.field("category", "c" + (i % 10));
+      if (i % 4 == 0) {
+        doc.field("note", "n" + i);
+      }
+      db.save(doc);
+    }
+  }
+
+  @Test
+  public void testAnalyze() {
+    createData(1000);
+    assertNull(OClassStatisticsManager.statisticsOf(db, "Analyzed"));
+
+    Object result = db.command(new OCommandSQL("analyze class Analyzed")).execute();
+    assertEquals(1000L, ((Number) result).longValue());
+
+    OClassStatistics statistics = OClassStatisticsManager.statisticsOf(db, "Analyzed");
+    assertNotNull(statistics);
+    assertEquals(1000L, statistics.getRecords());
+
+    OPropertyStatistics id = statistics.getProperty("id");
+    assertNotNull(id);
+    assertTrue(id.hasHistogram());
+    assertEquals(0.0, id.getNullFraction(), 0.0);
+    assertTrue(Math.abs(id.getDistinctValues() - 1000) < 100);
+    assertEquals(0.5, id.rangeSelectivity(null, false, 500, false), 0.05);
+
+    OPropertyStatistics category = statistics.getProperty("category");
+    assertEquals(10, category.getDistinctValues());
+    assertEquals(0.1, category.equalsSelectivity("c1"), 0.01);
+
+    OPropertyStatistics note = statistics.getProperty("note");
+    assertNotNull(note);
+    assertEquals(0.75, note.getNullFraction(), 0.01);
+  }
+
+  @Test
+  public void testStatisticsArePersisted() {
+    createData(100);
+    db.command(new OCommandSQL("analyze class Analyzed sample 50 full")).execute();
+
+    OClassStatistics statistics = OClassStatisticsManager.statisticsOf(db, "Analyzed");
+    OClassStatistics loaded =
+        OClassStatistics.deserialize(statistics.getClassName(), statistics.serialize());
+
+    assertEquals(statistics.getRecords(), loaded.getRecords());
+    assertEquals(
+        statistics.getProperty("category").getDistinctValues(),
+        loaded.getProperty("category").getDistinctValues());
+  }
+
+  @Test(expected = OCommandSQLParsingException.class)
+  public void testUnknownClass() {
+    db.command(new OCommandSQL("analyze class NotExisting")).execute();
+  }
+}
@@ -0,0 +1,187 @@
+package com.orientechnologies.orient.core.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.orientechnologies.BaseMemoryDatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class OCommandExecutorSQLCreateGraphSnapshotTest extends BaseMemoryDatabase {
+
+  private final List<OVertex> vertices = new ArrayList<>();
+
+  private void createGraph() {
+    db.createVertexClass("Person");
+    db.createVertexClass("City");
+    db.createEdgeClass("Knows");
+    db.createEdgeClass("Lives");
+
+    for (int i = 0; i < 6; i++) {
+      OVertex vertex = db.newVertex("Person");
+      vertex.setProperty("id", i);
+      vertices.add(vertex.save());
+    }
+    OVertex city = db.newVertex("City");
+    city.setProperty("id", 100);
+    city.save();
+
+    // 0 -> 1 -> 2 -> 3 -> 4 and a costly shortcut 0 -> 4, 5 is not connected
+    knows(0, 1, 1);
+    knows(1, 2, 1);
+    knows(2, 3, 1);
+    knows(3, 4, 1);
+    knows(0, 4, 10);
+    db.newEdge(vertices.get(0), city, "Lives").save();
+  }
+
+  private void knows(int from, int to, double weight) {
+    OEdge edge = db.newEdge(vertices.get(from), vertices.get(to), "Knows");
+    edge.setProperty("weight", weight);
+    edge.save();
+  }
+
+  @Test
+  public void testCreateAndDrop() {
+    createGraph();
+
+    Object result =
+        db.command(
+                new OCommandSQL(
+                    "create graph snapshot social vertex Person edge Knows weight weight"))
+            .execute();
+    assertEquals(6, ((Number) result).intValue());
+
+    OGraphSnapshot snapshot =
+        OGraphSnapshotManager.of((ODatabaseDocumentInternal) db).get("social");
+    assertNotNull(snapshot);
+    assertEquals(6, snapshot.getVertexCount());
+    assertEquals(5, snapshot.getEdgeCount());
+    assertTrue(snapshot.hasWeights());
+
+    int first = snapshot.getVertex(vertices.get(0).getIdentity());
+    assertEquals(vertices.get(0).getIdentity(), snapshot.getRid(first));
+    assertEquals(2, snapshot.getOutDegree(first));
+    assertEquals(0, snapshot.getInDegree(first));
+    double weights = 0;
+    for (int edge = snapshot.outBegin(first); edge < snapshot.outEnd(first); edge++) {
+      weights += snapshot.outWeight(edge);
+    }
+    assertEquals(11, weights, 0.0);
+
+    int last = snapshot.getVertex(vertices.get(4).getIdentity());
+    List<Integer> sources = new ArrayList<>();
+    snapshot.forEachNeighbor(
+        last,
+        ODirection.IN,
+        null,
+        (neighbor, weight) -> {
+          sources.add(neighbor);
+          return true;
+        });
+    assertEquals(2, sources.size());
+    assertTrue(sources.contains(first));
+
+    result = db.command(new OCommandSQL("drop graph snapshot social")).execute();
+    assertEquals(Boolean.TRUE, result);
+    assertNull(OGraphSnapshotManager.of((ODatabaseDocumentInternal) db).get("social"));
+  }
+
+  @Test
+  public void testAllVerticesAndEdges() {
+    createGraph();
+
+    Object result = db.command(new OCommandSQL("create graph snapshot everything")).execute();
+    assertEquals(7, ((Number) result).intValue());
+
+    OGraphSnapshot snapshot =
+        OGraphSnapshotManager.of((ODatabaseDocumentInternal) db).get("everything");
+    assertEquals(6, snapshot.getEdgeCount());
+    assertFalse(snapshot.hasWeights());
+    assertEquals(2, snapshot.getLabels().size());
+  }
+
+  @Test
+  public void testShortestPathOnSnapshot() {
+    createGraph();
+    db.command(new OCommandSQL("create graph snapshot social vertex Person edge Knows")).execute();
+
+    ORID from = vertices.get(1).getIdentity();
+    ORID to = vertices.get(4).getIdentity();
+    try (OResultSet rs =
+        db.query(
+            "select shortestPath("
+                + from
+                + ", "
+                + to
+                + ", 'OUT', null, {'snapshot': 'social'}) as path")) {
+      List<ORID> path = rs.next().getProperty("path");
+      assertEquals(4, path.size());
+      assertEquals(from, path.get(0));
+      assertEquals(vertices.get(2).getIdentity(), path.get(1));
+      assertEquals(vertices.get(3).getIdentity(), path.get(2));
+      assertEquals(to, path.get(3));
+    }
+
+    // the shortcut is the path with the least edges
+    from = vertices.get(0).getIdentity();
+    try (OResultSet rs =
+        db.query(
+            "select shortestPath("
+                + from
+                + ", "
+                + to
+                + ", 'BOTH', 'Knows', {'snapshot': 'social'})"
+                + " as path")) {
+      List<ORID> path = rs.next().getProperty("path");
+      assertEquals(2, path.size());
+    }
+
+    try (OResultSet rs =
+        db.query(
+            "select shortestPath("
+                + from
+                + ", "
+                + vertices.get(5).getIdentity()
+                + ", 'BOTH', null, {'snapshot': 'social'}) as path")) {
+      List<ORID> path = rs.next().getProperty("path");
+      assertTrue(path.isEmpty());
+    }
+  }
+
+  @Test
+  public void testDijkstraOnSnapshot() {
+    createGraph();
+    db.command(
+            new OCommandSQL("create graph snapshot social vertex Person edge Knows weight weight"))
+        .execute();
+
+    ORID from = vertices.get(0).getIdentity();
+    ORID to = vertices.get(4).getIdentity();
+    try (OResultSet rs =
+        db.query(
+            "select dijkstra("
+                + from
+                + ", "
+                + to
+                + ", 'weight', 'OUT', {'snapshot': 'social'}) as path")) {
+      OResult row = rs.next();
+      List<Object> path = row.getProperty("path");
+      // the shortcut is more expensive than the long path
+      assertEquals(5, path.size());
+    }
+  }
+}
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.sql;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.OCreateDatabaseUtil;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.OLiveQueryMonitor;
 import com.orientechnologies.orient.core.db.OLiveQueryResultListener;
@@ -31,10 +32,13 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
+import com.orientechnologies.orient.core.query.live.OLiveQueryListenerV2;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -194,6 +198,55 @@ public class OLiveQueryV2Test {
     }
   }
 
+  @Test
+  public void testLiveWithEqualityConditions() throws InterruptedException {
+    final OrientDB context =
+        OCreateDatabaseUtil.createDatabase(
+            "testLiveWithEqualityConditions", "embedded:", OCreateDatabaseUtil.TYPE_MEMORY);
+    try (ODatabaseDocumentInternal db =
+        (ODatabaseDocumentInternal)
+            context.open(
+                "testLiveWithEqualityConditions",
+                "admin",
+                OCreateDatabaseUtil.NEW_ADMIN_PASSWORD)) {
+
+      OClass clazz = db.getMetadata().getSchema().createClass("test");
+      db.getMetadata().getSchema().createClass("subTest", clazz);
+
+      List<MyLiveQueryListener> listeners = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        MyLiveQueryListener listener = new MyLiveQueryListener(new CountDownLatch(3));
+        db.live("select from test where id = ? and name is not null", listener, i);
+        listeners.add(listener);
+      }
+      MyLiveQueryListener all = new MyLiveQueryListener(new CountDownLatch(30));
+      db.live("select from test", all);
+
+      for (int i = 0; i < 10; i++) {
+        db.command("insert into test set id = ?, name = 'a'", i).close();
+        db.command("insert into subTest set id = ?, name = 'b'", (long) i).close();
+        db.command("insert into test set id = ?", i).close();
+      }
+      db.command("insert into V set id = 1, name = 'c'").close();
+      for (int i = 0; i < 10; i++) {
+        db.command("update test set name = 'd' where id = ? and name is null", i).close();
+      }
+
+      Assert.assertTrue(all.latch.await(1, TimeUnit.MINUTES));
+      for (int i = 0; i < 10; i++) {
+        MyLiveQueryListener listener = listeners.get(i);
+        Assert.assertTrue(listener.latch.await(1, TimeUnit.MINUTES));
+        Assert.assertEquals(3, listener.ops.size());
+        String[] names = {"a", "b", "d"};
+        for (int j = 0; j < 3; j++) {
+          OResult doc = listener.ops.get(j);
+          Assert.assertEquals(i, ((Number) doc.getProperty("id")).intValue());
+          Assert.assertEquals(names[j], doc.getProperty("name"));
+        }
+      }
+    }
+  }
+
   @Test
   public void testRestrictedLiveInsert() throws ExecutionException, InterruptedException {
     ODatabaseDocument db = new ODatabaseDocumentTx("memory:OLiveQueryTest");
@@ -320,4 +373,87 @@ public class OLiveQueryV2Test {
       db.drop();
     }
   }
+
+  /** Counts the batches and blocks in each of them until released. */
+  private static class BlockingListenerV2 implements OLiveQueryListenerV2 {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch end = new CountDownLatch(1);
+    private final AtomicInteger batches = new AtomicInteger();
+
+    @Override
+    public void onLiveResults(List<OLiveQueryHookV2.OLiveQueryOp> iRecords) {
+      batches.incrementAndGet();
+      try {
+        release.await(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void onLiveResultEnd() {
+      end.countDown();
+    }
+
+    @Override
+    public int getToken() {
+      return 1;
+    }
+  }
+
+  @Test
+  public void testNoDispatchAfterClose() throws InterruptedException {
+    OLiveQueryHookV2.OLiveQueryOps ops = new OLiveQueryHookV2.OLiveQueryOps();
+    BlockingListenerV2 listener = new BlockingListenerV2();
+    listener.release.countDown();
+    ops.subscribe(1, listener);
+    Assert.assertTrue(ops.dispatchResults(listener, Collections.emptyList()));
+    CountDownLatch delivered = new CountDownLatch(1);
+    Assert.assertTrue(ops.dispatch(listener, delivered::countDown));
+    Assert.assertTrue(delivered.await(1, TimeUnit.MINUTES));
+
+    ops.close();
+    Assert.assertTrue(ops.isClosed());
+
+    CountDownLatch executed = new CountDownLatch(1);
+    Assert.assertFalse(ops.dispatch(listener, executed::countDown));
+    Assert.assertFalse(ops.dispatchResults(listener, Collections.emptyList()));
+    ops.unsubscribe(1);
+    Assert.assertFalse(executed.await(200, TimeUnit.MILLISECONDS));
+    Assert.assertFalse(listener.end.await(200, TimeUnit.MILLISECONDS));
+    Assert.assertEquals(1, listener.batches.get());
+    Assert.assertFalse(ops.hasListeners());
+  }
+
+  @Test
+  public void testSlowSubscriberIsUnsubscribed() throws InterruptedException {
+    Object oldMaxPending = OGlobalConfiguration.QUERY_LIVE_MAX_PENDING_BATCHES.getValue();
+    OGlobalConfiguration.QUERY_LIVE_MAX_PENDING_BATCHES.setValue(5);
+    OLiveQueryHookV2.OLiveQueryOps ops = new OLiveQueryHookV2.OLiveQueryOps();
+    try {
+      BlockingListenerV2 slow = new BlockingListenerV2();
+      BlockingListenerV2 fast = new BlockingListenerV2();
+      fast.release.countDown();
+      ops.subscribe(1, slow);
+      ops.subscribe(2, fast);
+
+      // the first batch is being delivered, the next four are waiting
+      for (int i = 0; i < 5; i++) {
+        Assert.assertTrue(ops.dispatchResults(slow, Collections.emptyList()));
+        Assert.assertTrue(ops.dispatchResults(fast, Collections.emptyList()));
+      }
+      Assert.assertFalse(ops.dispatchResults(slow, Collections.emptyList()));
+      Assert.assertFalse(ops.getSubscribers().containsKey(1));
+      Assert.assertTrue(ops.getSubscribers().containsKey(2));
+
+      // the end of the results follows the batches accepted before the overflow
+      slow.release.countDown();
+      Assert.assertTrue(slow.end.await(1, TimeUnit.MINUTES));
+      Assert.assertEquals(5, slow.batches.get());
+      Assert.assertFalse(fast.end.await(10, TimeUnit.MILLISECONDS));
+    } finally {
+      ops.close();
+      OGlobalConfiguration.QUERY_LIVE_MAX_PENDING_BATCHES.setValue(oldMaxPending);
+    }
+  }
 }
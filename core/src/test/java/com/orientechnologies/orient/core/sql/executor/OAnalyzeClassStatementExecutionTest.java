@@ -0,0 +1,91 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.BaseMemoryInternalDatabase;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatistics;
+import com.orientechnologies.orient.core.sql.executor.metadata.OClassStatisticsManager;
+import com.orientechnologies.orient.core.sql.executor.metadata.OPropertyStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OAnalyzeClassStatementExecutionTest extends BaseMemoryInternalDatabase {
+
+  private void createData(String className, int records) {
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("id", OType.INTEGER);
+    clazz.createProperty("category", OType.STRING);
+
+    for (int i = 0; i < records; i++) {
+      ODocument doc = new ODocument(className);
+      doc.field("id", i);
+      doc.field("category", "c" + (i % 10));
+      if (i % 4 == 0) {
+        doc.field("note", "n" + i);
+      }
+      db.save(doc);
+    }
+  }
+
+  @Test
+  public void testAnalyze() {
+    String className = "testAnalyze";
+    createData(className, 1000);
+    Assert.assertNull(OClassStatisticsManager.statisticsOf(db, className));
+
+    try (OResultSet result = db.command("analyze class " + className)) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals("analyze class", item.getProperty("operation"));
+      Assert.assertEquals(className, item.getProperty("className"));
+      Assert.assertEquals(1000L, ((Number) item.getProperty("records")).longValue());
+      Assert.assertFalse(result.hasNext());
+    }
+
+    OClassStatistics statistics = OClassStatisticsManager.statisticsOf(db, className);
+    Assert.assertNotNull(statistics);
+    Assert.assertEquals(1000L, statistics.getRecords());
+
+    OPropertyStatistics id = statistics.getProperty("id");
+    Assert.assertNotNull(id);
+    Assert.assertTrue(id.hasHistogram());
+    Assert.assertEquals(0.0, id.getNullFraction(), 0.0);
+    Assert.assertEquals(0.5, id.rangeSelectivity(null, false, 500, false), 0.05);
+
+    OPropertyStatistics category = statistics.getProperty("category");
+    Assert.assertEquals(10, category.getDistinctValues());
+
+    OPropertyStatistics note = statistics.getProperty("note");
+    Assert.assertEquals(0.75, note.getNullFraction(), 0.01);
+  }
+
+  @Test
+  public void testSampleAndFull() {
+    String className = "testSampleAndFull";
+    createData(className, 100);
+
+    long records;
+    try (OResultSet result = db.command("analyze class " + className + " sample 50 full")) {
+      records = ((Number) result.next().getProperty("records")).longValue();
+    }
+
+    OClassStatistics statistics = OClassStatisticsManager.statisticsOf(db, className);
+    Assert.assertNotNull(statistics);
+    Assert.assertEquals(statistics.getRecords(), records);
+    Assert.assertNotNull(statistics.getProperty("category"));
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void testUnknownClass() {
+    db.command("analyze class testUnknownClass").close();
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void testNotPositiveSample() {
+    String className = "testNotPositiveSample";
+    createData(className, 10);
+    db.command("analyze class " + className + " sample 0").close();
+  }
+}
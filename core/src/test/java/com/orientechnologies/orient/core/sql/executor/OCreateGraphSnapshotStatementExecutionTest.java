@@ -0,0 +1,155 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.BaseMemoryInternalDatabase;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.graph.OGraphSnapshot;
+import com.orientechnologies.orient.core.graph.OGraphSnapshotManager;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OCreateGraphSnapshotStatementExecutionTest extends BaseMemoryInternalDatabase {
+
+  private final List<OVertex> vertices = new ArrayList<>();
+
+  private void createGraph() {
+    db.createVertexClass("Person");
+    db.createVertexClass("City");
+    db.createEdgeClass("Knows");
+    db.createEdgeClass("Lives");
+
+    for (int i = 0; i < 6; i++) {
+      OVertex vertex = db.newVertex("Person");
+      vertex.setProperty("id", i);
+      vertices.add(vertex.save());
+    }
+    OVertex city = db.newVertex("City");
+    city.setProperty("id", 100);
+    city.save();
+
+    // 0 -> 1 -> 2 -> 3 -> 4 and a costly shortcut 0 -> 4, 5 is not connected
+    knows(0, 1, 1);
+    knows(1, 2, 1);
+    knows(2, 3, 1);
+    knows(3, 4, 1);
+    knows(0, 4, 10);
+    db.newEdge(vertices.get(0), city, "Lives").save();
+  }
+
+  private void knows(int from, int to, double weight) {
+    OEdge edge = db.newEdge(vertices.get(from), vertices.get(to), "Knows");
+    edge.setProperty("weight", weight);
+    edge.save();
+  }
+
+  @Test
+  public void testCreateAndDrop() {
+    createGraph();
+
+    try (OResultSet result =
+        db.command("create graph snapshot social vertex Person edge Knows weight weight")) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals("create graph snapshot", item.getProperty("operation"));
+      Assert.assertEquals("social", item.getProperty("name"));
+      Assert.assertEquals(6, (int) item.getProperty("vertices"));
+      Assert.assertEquals(5, (int) item.getProperty("edges"));
+      Assert.assertFalse(result.hasNext());
+    }
+
+    OGraphSnapshot snapshot = OGraphSnapshotManager.of(db).get("social");
+    Assert.assertNotNull(snapshot);
+    Assert.assertTrue(snapshot.hasWeights());
+    int first = snapshot.getVertex(vertices.get(0).getIdentity());
+    Assert.assertEquals(2, snapshot.getOutDegree(first));
+
+    try (OResultSet result = db.command("drop graph snapshot social")) {
+      Assert.assertEquals("drop graph snapshot", result.next().getProperty("operation"));
+    }
+    Assert.assertNull(OGraphSnapshotManager.of(db).get("social"));
+
+    try (OResultSet result = db.command("drop graph snapshot social if exists")) {
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testAllVerticesAndEdges() {
+    createGraph();
+
+    try (OResultSet result = db.command("create graph snapshot everything")) {
+      OResult item = result.next();
+      Assert.assertEquals(7, (int) item.getProperty("vertices"));
+      Assert.assertEquals(6, (int) item.getProperty("edges"));
+    }
+
+    OGraphSnapshot snapshot = OGraphSnapshotManager.of(db).get("everything");
+    Assert.assertFalse(snapshot.hasWeights());
+    Assert.assertEquals(2, snapshot.getLabels().size());
+  }
+
+  @Test
+  public void testSeveralClasses() {
+    createGraph();
+
+    try (OResultSet result =
+        db.command("create graph snapshot places vertex Person, City edge Lives")) {
+      OResult item = result.next();
+      Assert.assertEquals(7, (int) item.getProperty("vertices"));
+      Assert.assertEquals(1, (int) item.getProperty("edges"));
+    }
+  }
+
+  @Test
+  public void testSnapshotIsReplaced() {
+    createGraph();
+
+    db.command("create graph snapshot social vertex Person edge Knows").close();
+    db.newVertex("Person").save();
+    db.command("create graph snapshot social vertex Person edge Knows").close();
+
+    Assert.assertEquals(7, OGraphSnapshotManager.of(db).get("social").getVertexCount());
+  }
+
+  @Test
+  public void testShortestPathOnSnapshot() {
+    createGraph();
+    db.command("create graph snapshot social vertex Person edge Knows").close();
+
+    ORID from = vertices.get(1).getIdentity();
+    ORID to = vertices.get(4).getIdentity();
+    try (OResultSet rs =
+        db.query(
+            "select shortestPath("
+                + from
+                + ", "
+                + to
+                + ", 'OUT', null, {'snapshot': 'social'}) as path")) {
+      List<ORID> path = rs.next().getProperty("path");
+      Assert.assertEquals(4, path.size());
+      Assert.assertEquals(from, path.get(0));
+      Assert.assertEquals(to, path.get(3));
+    }
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void testNotVertexClass() {
+    createGraph();
+    db.command("create graph snapshot social vertex Knows").close();
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void testNotEdgeClass() {
+    createGraph();
+    db.command("create graph snapshot social edge Person").close();
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void testDropNotExisting() {
+    db.command("drop graph snapshot notExisting").close();
+  }
+}
@@ -11,9 +11,17 @@ import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OView;
 import com.orientechnologies.orient.core.metadata.schema.OViewConfig;
 import com.orientechnologies.orient.core.record.OElement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -356,4 +364,221 @@ public class OCreateViewStatementExecutionTest extends BaseMemoryDatabase {
     Assert.assertFalse(result.hasNext());
     result.close();
   }
+
+  @Test
+  public void testIncrementalUpdate() throws InterruptedException {
+    String className = "testIncrementalUpdateClass";
+    String viewName = "testIncrementalUpdate";
+    db.createClass(className);
+
+    for (int i = 0; i < 10; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("name", "name" + i);
+      elem.setProperty("surname", "surname" + i);
+      elem.setProperty("age", i);
+      elem.save();
+    }
+
+    String statement =
+        "CREATE VIEW "
+            + viewName
+            + " FROM (SELECT name, surname FROM "
+            + className
+            + " WHERE age < 5) METADATA {";
+    statement += "updateStrategy:\"incremental\",";
+    statement += "originRidField:\"origin\"";
+    statement += "}";
+
+    db.command(statement);
+
+    Thread.sleep(1000);
+
+    // the rows are not loaded, they would stay in the local cache when the view changes them
+    OResultSet result = db.query("SELECT count(*) AS cnt FROM " + viewName);
+    Assert.assertEquals(5L, (long) result.next().getProperty("cnt"));
+    result.close();
+
+    db.command("UPDATE " + className + " SET surname = 'changed' WHERE name = 'name3'");
+    db.command("UPDATE " + className + " SET age = 20 WHERE name = 'name4'");
+    db.command("UPDATE " + className + " SET age = 1 WHERE name = 'name8'");
+    db.command("DELETE FROM " + className + " WHERE name = 'name0'");
+    OElement elem = db.newElement(className);
+    elem.setProperty("name", "name10");
+    elem.setProperty("surname", "surname10");
+    elem.setProperty("age", 2);
+    elem.save();
+
+    Thread.sleep(2000);
+
+    result = db.query("SELECT FROM " + viewName + " ORDER BY name");
+    String[] names = {"name1", "name10", "name2", "name3", "name8"};
+    for (String name : names) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals(name, item.getProperty("name"));
+      if (name.equals("name3")) {
+        Assert.assertEquals("changed", item.getProperty("surname"));
+      } else {
+        Assert.assertEquals("sur" + name, item.getProperty("surname"));
+      }
+      Assert.assertNull(item.getProperty("age"));
+    }
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
+  @Test
+  public void testIncrementalUpdateAggregate() throws InterruptedException {
+    String className = "testIncrementalUpdateAggregateClass";
+    String viewName = "testIncrementalUpdateAggregate";
+    db.createClass(className);
+
+    for (int i = 0; i < 10; i++) {
+      OElement elem = db.newElement(className);
+      elem.setProperty("type", "type" + (i % 2));
+      elem.setProperty("amount", i);
+      elem.save();
+    }
+
+    String statement =
+        "CREATE VIEW "
+            + viewName
+            + " FROM (SELECT type, count(*) AS cnt, sum(amount) AS total, max(amount) AS maxAmount"
+            + " FROM "
+            + className
+            + " GROUP BY type) METADATA {";
+    statement += "updateStrategy:\"incremental\"";
+    statement += "}";
+
+    db.command(statement);
+
+    Thread.sleep(1000);
+
+    db.command("UPDATE " + className + " SET amount = 100 WHERE amount = 0");
+    db.command("DELETE FROM " + className + " WHERE amount = 9");
+    db.command("UPDATE " + className + " SET type = 'type2' WHERE amount = 4");
+
+    Thread.sleep(2000);
+
+    try (OResultSet result = db.query("SELECT FROM " + viewName + " ORDER BY type")) {
+      // type0: 100, 2, 6, 8
+      OResult item = result.next();
+      Assert.assertEquals("type0", item.getProperty("type"));
+      Assert.assertEquals(4L, ((Number) item.getProperty("cnt")).longValue());
+      Assert.assertEquals(116L, ((Number) item.getProperty("total")).longValue());
+      Assert.assertEquals(100, ((Number) item.getProperty("maxAmount")).intValue());
+
+      // type1: 1, 3, 5, 7
+      item = result.next();
+      Assert.assertEquals("type1", item.getProperty("type"));
+      Assert.assertEquals(4L, ((Number) item.getProperty("cnt")).longValue());
+      Assert.assertEquals(16L, ((Number) item.getProperty("total")).longValue());
+      Assert.assertEquals(7, ((Number) item.getProperty("maxAmount")).intValue());
+
+      item = result.next();
+      Assert.assertEquals("type2", item.getProperty("type"));
+      Assert.assertEquals(1L, ((Number) item.getProperty("cnt")).longValue());
+      Assert.assertEquals(4L, ((Number) item.getProperty("total")).longValue());
+      Assert.assertEquals(4, ((Number) item.getProperty("maxAmount")).intValue());
+
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testIncrementalUpdateAggregateConcurrentWriters() throws Exception {
+    String className = "testIncrementalAggregateConcurrentClass";
+    String viewName = "testIncrementalAggregateConcurrent";
+    db.createClass(className);
+    String dbName = db.getName();
+
+    int writers = 4;
+    CountDownLatch started = new CountDownLatch(writers);
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int w = 0; w < writers; w++) {
+      int seed = w;
+      futures.add(
+          executor.submit(
+              () -> {
+                // every writer changes its own records, removed max values force recalculations
+                try (ODatabaseSession session = context.open(dbName, "admin", "adminpwd")) {
+                  Random random = new Random(seed);
+                  List<OElement> elements = new ArrayList<>();
+                  for (int i = 0; i < 1000; i++) {
+                    session.begin();
+                    int operation = random.nextInt(4);
+                    if (elements.size() < 10 || operation == 0) {
+                      OElement elem = session.newElement(className);
+                      elem.setProperty("type", "type" + random.nextInt(3));
+                      elem.setProperty("amount", random.nextInt(100));
+                      elements.add(session.save(elem));
+                    } else {
+                      OElement elem = elements.get(random.nextInt(elements.size()));
+                      if (operation == 1) {
+                        session.delete(elem);
+                        elements.remove(elem);
+                      } else if (operation == 2) {
+                        elem.setProperty("amount", random.nextInt(100));
+                        session.save(elem);
+                      } else {
+                        elem.setProperty("type", "type" + random.nextInt(3));
+                        session.save(elem);
+                      }
+                    }
+                    session.commit();
+                    if (i == 100) {
+                      started.countDown();
+                    }
+                    Thread.sleep(5);
+                  }
+                }
+                return null;
+              }));
+    }
+
+    // the view is built while the records change
+    started.await();
+    db.command(
+        "CREATE VIEW "
+            + viewName
+            + " FROM (SELECT type, count(*) AS cnt, sum(amount) AS total, max(amount) AS maxAmount"
+            + " FROM "
+            + className
+            + " GROUP BY type) METADATA {updateStrategy:\"incremental\"}");
+
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    Map<String, List<Long>> expected =
+        aggregatesByType(
+            "SELECT type, count(*) AS cnt, sum(amount) AS total, max(amount) AS maxAmount FROM "
+                + className
+                + " GROUP BY type");
+    Map<String, List<Long>> actual = aggregatesByType("SELECT FROM " + viewName);
+    for (int i = 0; i < 100 && !expected.equals(actual); i++) {
+      Thread.sleep(200);
+      actual = aggregatesByType("SELECT FROM " + viewName);
+    }
+    Assert.assertEquals(expected, actual);
+  }
+
+  private Map<String, List<Long>> aggregatesByType(String query) {
+    Map<String, List<Long>> result = new HashMap<>();
+    db.getLocalCache().clear();
+    try (OResultSet rs = db.query(query)) {
+      while (rs.hasNext()) {
+        OResult item = rs.next();
+        result.put(
+            item.getProperty("type"),
+            Arrays.asList(
+                ((Number) item.getProperty("cnt")).longValue(),
+                ((Number) item.getProperty("total")).longValue(),
+                ((Number) item.getProperty("maxAmount")).longValue()));
+      }
+    }
+    return result;
+  }
 }
@@ -27,11 +27,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import org.junit.Assert;
@@ -743,6 +745,72 @@ public class OSelectStatementExecutionTest extends BaseMemoryDatabase {
     result.close();
   }
 
+  @Test
+  public void testAggregateGroupBySpill() {
+    long oldThreshold = OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.setValue(3);
+
+      String className = "testAggregateGroupBySpill";
+      db.getMetadata().getSchema().createClass(className);
+      for (int i = 0; i < 100; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("type", "t" + (i % 20));
+        doc.setProperty("val", i);
+        doc.save();
+      }
+      try (OResultSet result =
+          db.query(
+              "select type, sum(val) as total, count(*) as cnt from "
+                  + className
+                  + " group by type")) {
+        Map<String, Integer> totals = new HashMap<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Assert.assertEquals(5L, (long) item.<Long>getProperty("cnt"));
+          Assert.assertNull(totals.put(item.getProperty("type"), item.getProperty("total")));
+        }
+        Assert.assertEquals(20, totals.size());
+        for (int i = 0; i < 20; i++) {
+          // i + (i + 20) + (i + 40) + (i + 60) + (i + 80)
+          Assert.assertEquals(5 * i + 200, (int) totals.get("t" + i));
+        }
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.setValue(oldThreshold);
+    }
+  }
+
+  @Test
+  public void testDistinctSpill() {
+    long oldBudget = OGlobalConfiguration.QUERY_DISTINCT_MEMORY_BUDGET.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_DISTINCT_MEMORY_BUDGET.setValue(1);
+
+      String className = "testDistinctSpill";
+      db.getMetadata().getSchema().createClass(className);
+      for (int i = 0; i < 100; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("name", "n" + (i % 30));
+        doc.setProperty("val", i % 3);
+        doc.save();
+      }
+      try (OResultSet result = db.query("select distinct name, val from " + className)) {
+        Set<String> names = new HashSet<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          String name = item.getProperty("name");
+          Assert.assertTrue(names.add(name));
+          int expected = Integer.parseInt(name.substring(1)) % 3;
+          Assert.assertEquals(expected, (int) item.getProperty("val"));
+        }
+        Assert.assertEquals(30, names.size());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_DISTINCT_MEMORY_BUDGET.setValue(oldBudget);
+    }
+  }
+
   @Test
   public void testAggregateSumNoGroupByInProjection() {
     String className = "testAggregateSumNoGroupByInProjection";
@@ -4131,6 +4199,98 @@ public class OSelectStatementExecutionTest extends BaseMemoryDatabase {
     }
   }
 
+  @Test
+  public void testOrderBySpill() {
+    Long oldHeapLimit =
+        OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Long oldThreshold = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.setValue(3);
+
+      String className = "testOrderBySpill";
+      db.createClassIfNotExist(className);
+      for (int i = 0; i < 20; i++) {
+        db.command("INSERT INTO " + className + " set name = ?, val = ?", "n" + (i % 7), i).close();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " ORDER BY name, val")) {
+        String lastName = null;
+        int lastVal = -1;
+        int count = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          String name = item.getProperty("name");
+          int val = item.getProperty("val");
+          Assert.assertTrue(item.isElement());
+          if (lastName != null) {
+            Assert.assertTrue(lastName.compareTo(name) <= 0);
+            if (lastName.equals(name)) {
+              Assert.assertTrue(lastVal < val);
+            }
+          }
+          lastName = name;
+          lastVal = val;
+          count++;
+        }
+        Assert.assertEquals(20, count);
+      }
+
+      try (OResultSet result =
+          db.query("select name, val * 2 as twice from " + className + " ORDER BY twice desc")) {
+        int last = Integer.MAX_VALUE;
+        int count = 0;
+        while (result.hasNext()) {
+          int val = result.next().getProperty("twice");
+          Assert.assertTrue(val < last);
+          last = val;
+          count++;
+        }
+        Assert.assertEquals(20, count);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldHeapLimit);
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.setValue(oldThreshold);
+    }
+  }
+
+  @Test
+  public void testConcurrentClassScan() {
+    boolean oldAuto = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValueAsBoolean();
+    long oldMinimum = OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+      OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(10);
+
+      String className = "testConcurrentClassScan";
+      db.command("create class " + className + " clusters 4").close();
+      for (int i = 0; i < 100; i++) {
+        db.command("insert into " + className + " set val = ?", i).close();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " where val < 50")) {
+        OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+        Assert.assertTrue(plan.getSteps().get(0) instanceof ParallelExecStep);
+        Assert.assertTrue(((ParallelExecStep) plan.getSteps().get(0)).isConcurrent());
+
+        Set<Integer> values = new HashSet<>();
+        while (result.hasNext()) {
+          Integer val = result.next().getProperty("val");
+          Assert.assertTrue(val < 50);
+          values.add(val);
+        }
+        Assert.assertEquals(50, values.size());
+      }
+
+      try (OResultSet result = db.query("select from " + className + " limit 5")) {
+        Assert.assertEquals(5, result.stream().count());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(oldAuto);
+      OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(oldMinimum);
+    }
+  }
+
   @Test
   public void testXor() {
     try (OResultSet result = db.query("select 15 ^ 4 as foo")) {
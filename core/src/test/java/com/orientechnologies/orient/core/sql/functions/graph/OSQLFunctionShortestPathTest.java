@@ -8,7 +8,10 @@ import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.OVertex;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -217,4 +220,79 @@ public class OSQLFunctionShortestPathTest {
 
     Assert.assertEquals(0, result.size());
   }
+
+  @Test
+  public void testExecuteWithEdges() throws Exception {
+    Map<String, Object> additionalParams = new HashMap<String, Object>();
+    additionalParams.put("edge", true);
+    final List<ORID> result =
+        function.execute(
+            null,
+            null,
+            null,
+            new Object[] {vertices.get(1), vertices.get(4), "out", null, additionalParams},
+            new OBasicCommandContext((ODatabaseSession) graph));
+
+    Assert.assertEquals(7, result.size());
+    Assert.assertEquals(vertices.get(1).getIdentity(), result.get(0));
+    Assert.assertEquals(vertices.get(2).getIdentity(), result.get(2));
+    Assert.assertEquals(vertices.get(3).getIdentity(), result.get(4));
+    Assert.assertEquals(vertices.get(4).getIdentity(), result.get(6));
+    for (int i = 1; i < result.size(); i += 2) {
+      OEdge edge = ((OElement) graph.load(result.get(i))).asEdge().get();
+      Assert.assertEquals(result.get(i - 1), edge.getFrom().getIdentity());
+      Assert.assertEquals(result.get(i + 1), edge.getTo().getIdentity());
+    }
+  }
+
+  @Test
+  public void testLightweightEdges() throws Exception {
+    OVertex first = graph.newVertex();
+    OVertex second = graph.newVertex();
+    first.setProperty("out_Edge1", new ArrayList<>(asList(second)));
+    second.setProperty("in_Edge1", new ArrayList<>(asList(first)));
+    first.save();
+    second.save();
+    graph.newEdge(vertices.get(4), first, "Edge1").save();
+
+    final List<ORID> result =
+        function.execute(
+            null,
+            null,
+            null,
+            new Object[] {vertices.get(3), second, "out", "Edge1"},
+            new OBasicCommandContext((ODatabaseSession) graph));
+
+    Assert.assertEquals(4, result.size());
+    Assert.assertEquals(vertices.get(3).getIdentity(), result.get(0));
+    Assert.assertEquals(vertices.get(4).getIdentity(), result.get(1));
+    Assert.assertEquals(first.getIdentity(), result.get(2));
+    Assert.assertEquals(second.getIdentity(), result.get(3));
+  }
+
+  @Test
+  public void testNewVerticesInTransaction() throws Exception {
+    graph.begin();
+    try {
+      OVertex first = graph.newVertex();
+      OVertex second = graph.newVertex();
+      graph.newEdge(vertices.get(4), first, "Edge2").save();
+      graph.newEdge(first, second, "Edge2").save();
+
+      final List<ORID> result =
+          function.execute(
+              null,
+              null,
+              null,
+              new Object[] {vertices.get(1), second, "out", null},
+              new OBasicCommandContext((ODatabaseSession) graph));
+
+      Assert.assertEquals(6, result.size());
+      Assert.assertEquals(vertices.get(4).getIdentity(), result.get(3));
+      Assert.assertEquals(first.getIdentity(), result.get(4));
+      Assert.assertEquals(second.getIdentity(), result.get(5));
+    } finally {
+      graph.rollback();
+    }
+  }
 }
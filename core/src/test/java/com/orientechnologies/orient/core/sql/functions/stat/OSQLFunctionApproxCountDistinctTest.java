@@ -0,0 +1,75 @@
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OSQLFunctionApproxCountDistinctTest {
+
+  private OSQLFunctionApproxCountDistinct countDistinct;
+
+  private static OSQLFunctionApproxCountDistinct newCountDistinct(final boolean distributed) {
+    return new OSQLFunctionApproxCountDistinct() {
+      @Override
+      protected boolean returnDistributedResult() {
+        return distributed;
+      }
+    };
+  }
+
+  @Before
+  public void setup() {
+    countDistinct = newCountDistinct(false);
+  }
+
+  @Test
+  public void testEmpty() {
+    assertEquals(0L, countDistinct.getResult());
+  }
+
+  @Test
+  public void testSmallCardinalityIsExact() {
+    Object[] values = {1, 1L, "a", "a", null, 2, Arrays.asList(3, 4, 1)};
+    for (Object value : values) {
+      countDistinct.execute(null, null, null, new Object[] {value}, null);
+    }
+    assertEquals(5L, countDistinct.getResult());
+  }
+
+  @Test
+  public void testLargeCardinality() {
+    for (int i = 0; i < 200_000; i++) {
+      countDistinct.execute(null, null, null, new Object[] {"value" + (i % 100_000)}, null);
+    }
+    long result = (Long) countDistinct.getResult();
+    assertTrue("estimate was " + result, Math.abs(result - 100_000) < 100_000 * 0.03);
+  }
+
+  @Test
+  public void testDistributed() {
+    OSQLFunctionApproxCountDistinct small = newCountDistinct(true);
+    OSQLFunctionApproxCountDistinct large = newCountDistinct(true);
+    for (int i = 0; i < 10; i++) {
+      small.execute(null, null, null, new Object[] {i}, null);
+    }
+    for (int i = 5; i < 50_005; i++) {
+      large.execute(null, null, null, new Object[] {i}, null);
+    }
+
+    List<Object> results = new ArrayList<>();
+    results.add(small.getResult());
+    results.add(large.getResult());
+    long result = (Long) newCountDistinct(true).mergeDistributedResult(results);
+    assertTrue("estimate was " + result, Math.abs(result - 50_005) < 50_005 * 0.03);
+
+    results.clear();
+    results.add(small.getResult());
+    results.add(small.getResult());
+    assertEquals(10L, newCountDistinct(true).mergeDistributedResult(results));
+  }
+}
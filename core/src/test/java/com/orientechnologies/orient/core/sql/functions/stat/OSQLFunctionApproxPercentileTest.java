@@ -0,0 +1,107 @@
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OSQLFunctionApproxPercentileTest {
+
+  private OSQLFunctionApproxPercentile percentile;
+
+  private static OSQLFunctionApproxPercentile newPercentile(final boolean distributed) {
+    return new OSQLFunctionApproxPercentile() {
+      @Override
+      protected boolean returnDistributedResult() {
+        return distributed;
+      }
+    };
+  }
+
+  @Before
+  public void beforeMethod() {
+    percentile = newPercentile(false);
+  }
+
+  @Test
+  public void testEmpty() {
+    Object result = percentile.getResult();
+    assertNull(result);
+  }
+
+  @Test
+  public void testSingleValue() {
+    percentile.execute(null, null, null, new Object[] {10, .25}, null);
+    assertEquals(10.0, percentile.getResult());
+  }
+
+  @Test
+  public void testRelativeAccuracy() {
+    Random random = new Random(42);
+    List<Double> values = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      double value = Math.exp(random.nextGaussian() * 3);
+      values.add(value);
+      percentile.execute(null, null, null, new Object[] {value, .5, .99, 0}, null);
+    }
+    values.sort(Double::compare);
+
+    List<Number> result = (List<Number>) percentile.getResult();
+    assertAccurate(values.get((int) (.5 * (values.size() - 1))), result.get(0));
+    assertAccurate(values.get((int) (.99 * (values.size() - 1))), result.get(1));
+    assertEquals(values.get(0), result.get(2).doubleValue(), 0);
+  }
+
+  @Test
+  public void testNegativeValuesAndNulls() {
+    Integer[] scores = {null, -5, -4, 0, null, 1, 2, 3, 4, 5};
+
+    for (Integer s : scores) {
+      percentile.execute(null, null, null, new Object[] {s, .5}, null);
+    }
+
+    assertAccurate(1, (Number) percentile.getResult());
+  }
+
+  @Test
+  public void testDistributed() {
+    OSQLFunctionApproxPercentile first = newPercentile(true);
+    OSQLFunctionApproxPercentile second = newPercentile(true);
+    for (int i = 1; i <= 1000; i++) {
+      (i % 2 == 0 ? first : second).execute(null, null, null, new Object[] {i, .9}, null);
+    }
+
+    List<Object> results = new ArrayList<>();
+    results.add(first.getResult());
+    results.add(second.getResult());
+    Number result = (Number) newPercentile(true).mergeDistributedResult(results);
+    assertAccurate(900, result);
+  }
+
+  @Test
+  public void testMedian() {
+    OSQLFunctionApproxMedian median =
+        new OSQLFunctionApproxMedian() {
+          @Override
+          protected boolean returnDistributedResult() {
+            return false;
+          }
+        };
+    for (int i = 1; i <= 101; i++) {
+      median.execute(null, null, null, new Object[] {i}, null);
+    }
+    assertAccurate(51, (Number) median.getResult());
+  }
+
+  private static void assertAccurate(double expected, Number actual) {
+    double error = Math.abs(actual.doubleValue() - expected) / Math.abs(expected);
+    assertTrue(
+        "expected " + expected + " but was " + actual,
+        error <= ODDSketch.DEFAULT_RELATIVE_ACCURACY + 1e-9);
+  }
+}
@@ -0,0 +1,41 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OAnalyzeClassStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("ANALYZE CLASS Foo");
+    checkRightSyntax("analyze class Foo");
+    checkRightSyntax("ANALYZE CLASS Foo SAMPLE 1000");
+    checkRightSyntax("analyze class Foo sample 1000");
+    checkRightSyntax("ANALYZE CLASS Foo FULL");
+    checkRightSyntax("ANALYZE CLASS Foo SAMPLE 1000 FULL");
+    checkRightSyntax("analyze class `Foo bar`");
+    checkWrongSyntax("ANALYZE CLASS Foo FULL SAMPLE 1000");
+    checkWrongSyntax("ANALYZE CLASS Foo SAMPLE");
+    checkWrongSyntax("ANALYZE CLASS Foo SAMPLE foo");
+    checkWrongSyntax("ANALYZE CLASS Foo bar");
+    checkWrongSyntax("ANALYZE Foo");
+  }
+
+  @Test
+  public void testParsedStatement() {
+    SimpleNode result = checkRightSyntax("analyze class Foo sample 100 full");
+    Assert.assertTrue(result instanceof OAnalyzeClassStatement);
+    OAnalyzeClassStatement statement = (OAnalyzeClassStatement) result;
+    Assert.assertEquals("Foo", statement.className.getStringValue());
+    Assert.assertEquals(100, statement.sample.getValue().intValue());
+    Assert.assertTrue(statement.full);
+    Assert.assertEquals(statement, statement.copy());
+  }
+
+  @Test
+  public void testKeywordsAsIdentifiers() {
+    checkRightSyntax("SELECT analyze, sample, full FROM Foo");
+    checkRightSyntax("SELECT FROM analyze WHERE full = true");
+    checkRightSyntax("CREATE PROPERTY Foo.sample INTEGER");
+  }
+}
@@ -0,0 +1,46 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OCreateGraphSnapshotStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("CREATE GRAPH SNAPSHOT foo");
+    checkRightSyntax("create graph snapshot foo");
+    checkRightSyntax("CREATE GRAPH SNAPSHOT foo VERTEX Person");
+    checkRightSyntax("CREATE GRAPH SNAPSHOT foo VERTEX Person, City");
+    checkRightSyntax("CREATE GRAPH SNAPSHOT foo EDGE Knows,Lives");
+    checkRightSyntax("CREATE GRAPH SNAPSHOT foo WEIGHT weight");
+    checkRightSyntax("create graph snapshot foo vertex Person edge Knows weight weight");
+    checkRightSyntax("CREATE GRAPH SNAPSHOT `foo bar` VERTEX `Person x` EDGE `Knows y`");
+    checkWrongSyntax("CREATE GRAPH SNAPSHOT");
+    checkWrongSyntax("CREATE GRAPH SNAPSHOT foo VERTEX");
+    checkWrongSyntax("CREATE GRAPH SNAPSHOT foo VERTEX Person,");
+    checkWrongSyntax("CREATE GRAPH SNAPSHOT foo EDGE Knows VERTEX Person");
+    checkWrongSyntax("CREATE GRAPH SNAPSHOT foo bar");
+    checkWrongSyntax("CREATE GRAPH foo");
+  }
+
+  @Test
+  public void testParsedStatement() {
+    SimpleNode result =
+        checkRightSyntax("create graph snapshot foo vertex Person, City edge Knows weight w");
+    Assert.assertTrue(result instanceof OCreateGraphSnapshotStatement);
+    OCreateGraphSnapshotStatement statement = (OCreateGraphSnapshotStatement) result;
+    Assert.assertEquals("foo", statement.name.getStringValue());
+    Assert.assertEquals(2, statement.vertexClasses.size());
+    Assert.assertEquals("City", statement.vertexClasses.get(1).getStringValue());
+    Assert.assertEquals(1, statement.edgeClasses.size());
+    Assert.assertEquals("w", statement.weightProperty.getStringValue());
+    Assert.assertEquals(statement, statement.copy());
+  }
+
+  @Test
+  public void testKeywordsAsIdentifiers() {
+    checkRightSyntax("SELECT graph, snapshot, weight FROM Foo");
+    checkRightSyntax("SELECT FROM Knows WHERE weight > 1");
+    checkRightSyntax("CREATE PROPERTY Knows.weight DOUBLE");
+  }
+}
@@ -0,0 +1,17 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+
+public class ODropGraphSnapshotStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("DROP GRAPH SNAPSHOT foo");
+    checkRightSyntax("drop graph snapshot foo");
+    checkRightSyntax("DROP GRAPH SNAPSHOT foo IF EXISTS");
+    checkRightSyntax("drop graph snapshot `foo bar`");
+    checkWrongSyntax("DROP GRAPH SNAPSHOT");
+    checkWrongSyntax("DROP GRAPH SNAPSHOT foo bar");
+    checkWrongSyntax("DROP GRAPH foo");
+  }
+}
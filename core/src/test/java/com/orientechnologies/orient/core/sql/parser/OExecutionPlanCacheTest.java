@@ -4,6 +4,7 @@ import com.orientechnologies.BaseMemoryInternalDatabase;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -13,7 +14,8 @@ public class OExecutionPlanCacheTest extends BaseMemoryInternalDatabase {
   public void testCacheInvalidation1() throws InterruptedException {
     String testName = "testCacheInvalidation1";
     OExecutionPlanCache cache = OExecutionPlanCache.instance(db);
-    String stm = "SELECT FROM OUser";
+    OClass clazz = db.getMetadata().getSchema().createClass(testName);
+    String stm = "SELECT FROM " + testName;
 
     /*
      * the cache has a mechanism that guarantees that if you are doing execution planning
@@ -25,32 +27,72 @@ public class OExecutionPlanCacheTest extends BaseMemoryInternalDatabase {
      */
     Thread.sleep(2);
 
-    // schema changes
+    // changes of other classes
     db.query(stm).close();
     cache = OExecutionPlanCache.instance(db);
     Assert.assertTrue(cache.contains(stm));
 
-    OClass clazz = db.getMetadata().getSchema().createClass(testName);
+    db.getMetadata().getSchema().createClass(testName + "Other");
+    Assert.assertTrue(cache.contains(stm));
+
+    // schema changes
+    OProperty prop = clazz.createProperty("name", OType.STRING);
     Assert.assertFalse(cache.contains(stm));
 
     Thread.sleep(2);
 
-    // schema changes 2
+    // index changes
     db.query(stm).close();
     cache = OExecutionPlanCache.instance(db);
     Assert.assertTrue(cache.contains(stm));
 
-    OProperty prop = clazz.createProperty("name", OType.STRING);
+    prop.createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
     Assert.assertFalse(cache.contains(stm));
+  }
 
+  @Test
+  public void testSubclassInvalidatesSuperclass() throws InterruptedException {
+    String testName = "testSubclassInvalidatesSuperclass";
+    OClass clazz = db.getMetadata().getSchema().createClass(testName);
+    String stm = "SELECT FROM " + testName;
     Thread.sleep(2);
 
-    // index changes
     db.query(stm).close();
-    cache = OExecutionPlanCache.instance(db);
+    OExecutionPlanCache cache = OExecutionPlanCache.instance(db);
     Assert.assertTrue(cache.contains(stm));
 
-    prop.createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    db.getMetadata().getSchema().createClass(testName + "Sub", clazz);
     Assert.assertFalse(cache.contains(stm));
   }
+
+  @Test
+  public void testLiteralsShareThePlan() throws InterruptedException {
+    String testName = "testLiteralsShareThePlan";
+    OClass clazz = db.getMetadata().getSchema().createClass(testName);
+    clazz.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    db.command("INSERT INTO " + testName + " SET name = 'foo', surname = 'a'").close();
+    db.command("INSERT INTO " + testName + " SET name = 'bar', surname = 'b'").close();
+    Thread.sleep(2);
+
+    OExecutionPlanCache cache = OExecutionPlanCache.instance(db);
+    try (OResultSet result =
+        db.query("SELECT FROM " + testName + " WHERE name = 'foo' AND surname = 'a'")) {
+      Assert.assertEquals("foo", result.next().getProperty("name"));
+      Assert.assertFalse(result.hasNext());
+    }
+
+    long hits = cache.getHits();
+    try (OResultSet result =
+        db.query("SELECT FROM " + testName + " WHERE name = 'bar' AND surname = 'b'")) {
+      Assert.assertEquals("bar", result.next().getProperty("name"));
+      Assert.assertFalse(result.hasNext());
+    }
+    Assert.assertEquals(hits + 1, cache.getHits());
+
+    try (OResultSet result =
+        db.query("SELECT FROM " + testName + " WHERE name = 'bar' AND surname = 'a'")) {
+      Assert.assertFalse(result.hasNext());
+    }
+    Assert.assertEquals(hits + 2, cache.getHits());
+  }
 }
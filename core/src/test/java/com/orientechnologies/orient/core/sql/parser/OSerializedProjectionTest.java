@@ -0,0 +1,114 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.BaseMemoryInternalDatabase;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OSerializedProjectionTest extends BaseMemoryInternalDatabase {
+
+  private List<ORID> createData(String className) {
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("id", OType.INTEGER);
+    clazz.createProperty("name", OType.STRING);
+
+    List<ORID> result = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      ODocument doc = new ODocument(className);
+      doc.field("id", i);
+      doc.field("name", "n" + i);
+      if (i % 2 == 0) {
+        doc.field("even", true);
+      }
+      doc.field("tags", new ArrayList<>(Arrays.asList("t" + i)));
+      result.add(db.save(doc).getIdentity());
+    }
+    return result;
+  }
+
+  private List<Map<String, Object>> query(String sql) {
+    List<Map<String, Object>> result = new ArrayList<>();
+    try (OResultSet rs = db.query(sql)) {
+      while (rs.hasNext()) {
+        OResult item = rs.next();
+        Map<String, Object> values = new HashMap<>();
+        for (String name : item.getPropertyNames()) {
+          values.put(name, item.getProperty(name));
+        }
+        result.add(values);
+      }
+    }
+    return result;
+  }
+
+  @Test
+  public void testSameResultsAsFullProjection() {
+    String className = "testSameResultsAsFullProjection";
+    createData(className);
+
+    String[] projections = {
+      "id, name",
+      "name as n, id",
+      "id, even",
+      "id, missing",
+      "id, id as other",
+      "id, tags",
+      "id, name.toUpperCase() as upper"
+    };
+
+    for (String projection : projections) {
+      String sql = "select " + projection + " from " + className + " order by id";
+      List<Map<String, Object>> serialized = query(sql);
+
+      OGlobalConfiguration.QUERY_SERIALIZED_PROJECTION.setValue(false);
+      try {
+        Assert.assertEquals(projection, query(sql), serialized);
+      } finally {
+        OGlobalConfiguration.QUERY_SERIALIZED_PROJECTION.setValue(true);
+      }
+    }
+  }
+
+  @Test
+  public void testRecordsAreNotDeserialized() {
+    String className = "testRecordsAreNotDeserialized";
+    List<ORID> rids = createData(className);
+    db.getLocalCache().clear();
+
+    List<Map<String, Object>> result = query("select name from " + className + " where id = 3");
+    Assert.assertEquals(1, result.size());
+    Assert.assertEquals("n3", result.get(0).get("name"));
+
+    ODocument doc = (ODocument) db.getLocalCache().findRecord(rids.get(3));
+    Assert.assertNotNull(doc);
+    Assert.assertNotNull(ODocumentInternal.getUnchangedSource(doc));
+  }
+
+  @Test
+  public void testChangedRecordsOfTransaction() {
+    String className = "testChangedRecordsOfTransaction";
+    List<ORID> rids = createData(className);
+
+    db.begin();
+    ODocument doc = db.load(rids.get(6));
+    doc.field("name", "changed");
+    db.save(doc);
+
+    List<Map<String, Object>> result = query("select name from " + className + " where id = 6");
+    Assert.assertEquals(1, result.size());
+    Assert.assertEquals("changed", result.get(0).get("name"));
+    db.rollback();
+  }
+}
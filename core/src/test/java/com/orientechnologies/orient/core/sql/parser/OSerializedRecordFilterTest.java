@@ -0,0 +1,117 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.BaseMemoryInternalDatabase;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OSerializedRecordFilterTest extends BaseMemoryInternalDatabase {
+
+  private List<ORID> createData(String className) {
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("id", OType.INTEGER);
+    clazz.createProperty("name", OType.STRING);
+
+    List<ORID> result = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = new ODocument(className);
+      doc.field("id", i);
+      doc.field("name", "n" + (i % 10));
+      if (i % 2 == 0) {
+        doc.field("even", true);
+      }
+      doc.field("tags", new ArrayList<>(Arrays.asList("t" + i)));
+      result.add(db.save(doc).getIdentity());
+    }
+    return result;
+  }
+
+  private Set<ORID> query(String sql) {
+    return query(sql, Collections.emptyMap());
+  }
+
+  private Set<ORID> query(String sql, Map<String, Object> params) {
+    Set<ORID> result = new HashSet<>();
+    try (OResultSet rs = db.query(sql, params)) {
+      rs.stream().forEach(x -> result.add(x.getIdentity().get()));
+    }
+    return result;
+  }
+
+  @Test
+  public void testSameResultsAsFullEvaluation() {
+    String className = "testSameResultsAsFullEvaluation";
+    createData(className);
+
+    String[] conditions = {
+      "id = 5",
+      "id > 90",
+      "id <= 3 or name = 'n5'",
+      "not (id < 50)",
+      "name in ['n1', 'n2'] and id < 30",
+      "even is null",
+      "even is not null and id >= 95",
+      "even = true and id = 3",
+      "id = :id",
+      "tags contains 't1' and id > 0",
+      "not (tags contains 't1' and id = 1)",
+      "id <> 10 and name.toUpperCase() = 'N0'",
+      "missing = 3 or id = 7"
+    };
+    Map<String, Object> params = new HashMap<>();
+    params.put("id", 42);
+
+    for (String condition : conditions) {
+      String sql = "select from " + className + " where " + condition;
+      Set<ORID> filtered = query(sql, params);
+
+      OGlobalConfiguration.QUERY_SERIALIZED_FILTER.setValue(false);
+      try {
+        Assert.assertEquals(condition, query(sql, params), filtered);
+      } finally {
+        OGlobalConfiguration.QUERY_SERIALIZED_FILTER.setValue(true);
+      }
+    }
+  }
+
+  @Test
+  public void testRejectedRecordsAreNotLoaded() {
+    String className = "testRejectedRecordsAreNotLoaded";
+    List<ORID> rids = createData(className);
+    db.getLocalCache().clear();
+
+    Assert.assertEquals(1, query("select from " + className + " where id = 5").size());
+
+    Assert.assertNotNull(db.getLocalCache().findRecord(rids.get(5)));
+    Assert.assertNull(db.getLocalCache().findRecord(rids.get(6)));
+  }
+
+  @Test
+  public void testRecordsOfTransaction() {
+    String className = "testRecordsOfTransaction";
+    List<ORID> rids = createData(className);
+
+    db.begin();
+    ODocument doc = db.load(rids.get(6));
+    doc.field("id", 1006);
+    db.save(doc);
+
+    Set<ORID> result = query("select from " + className + " where id = 1006");
+    Assert.assertEquals(1, result.size());
+    Assert.assertTrue(result.contains(rids.get(6)));
+    db.rollback();
+  }
+}
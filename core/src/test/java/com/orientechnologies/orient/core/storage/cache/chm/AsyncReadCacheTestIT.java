@@ -9,6 +9,7 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OSequentialScan;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
@@ -38,7 +39,8 @@ public class AsyncReadCacheTestIT {
     final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 256);
     final long maxMemory = 1024 * 1024 * 1024;
 
-    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true);
+    final AsyncReadCache readCache =
+        new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true, 0);
     final OWriteCache writeCache = new MockedWriteCache(byteBufferPool);
 
     final ExecutorService executor = Executors.newCachedThreadPool();
@@ -114,7 +116,8 @@ public class AsyncReadCacheTestIT {
     final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 2048);
     final long maxMemory = 1024 * 1024 * 1024;
 
-    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true);
+    final AsyncReadCache readCache =
+        new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true, 0);
     final OWriteCache writeCache = new MockedWriteCache(byteBufferPool);
 
     final ExecutorService executor = Executors.newCachedThreadPool();
@@ -187,6 +190,49 @@ public class AsyncReadCacheTestIT {
     readCache.assertSize();
   }
 
+  @Test
+  public void testSequentialScanKeepsHotPages() {
+    final int pageSize = 4 * 1024;
+
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 256);
+    final long maxMemory = 1024L * pageSize;
+
+    final AsyncReadCache readCache =
+        new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true, 16);
+    final OWriteCache writeCache = new MockedWriteCache(byteBufferPool);
+
+    final int hotPages = 100;
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < 20 * hotPages; i++) {
+      final OCacheEntry cacheEntry =
+          readCache.loadForRead(0, random.nextInt(hotPages), writeCache, true);
+      readCache.releaseFromRead(cacheEntry);
+    }
+
+    final boolean previous = OSequentialScan.begin();
+    try {
+      for (int pageIndex = 0; pageIndex < 10 * 1024; pageIndex++) {
+        final OCacheEntry cacheEntry = readCache.loadForRead(1, pageIndex, writeCache, true);
+        readCache.releaseFromRead(cacheEntry);
+      }
+    } finally {
+      OSequentialScan.end(previous);
+    }
+
+    readCache.assertSize();
+    readCache.assertConsistency();
+
+    for (int pageIndex = 0; pageIndex < hotPages; pageIndex++) {
+      Assert.assertTrue(readCache.isCached(0, pageIndex));
+    }
+
+    readCache.clear();
+    Assert.assertEquals(
+        0, allocator.getMemoryConsumption() - byteBufferPool.getPoolSize() * pageSize);
+    Assert.assertEquals(0, readCache.getUsedMemory());
+  }
+
   private static final class PageWriter implements Callable<Void> {
     private final int fileLimit;
     private final int pageLimit;
@@ -0,0 +1,105 @@
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.cluster.LocalPaginatedClusterAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class LocalPaginatedStripedClusterTestIT extends LocalPaginatedClusterAbstract {
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectory += File.separator + LocalPaginatedStripedClusterTestIT.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    dbName = "clusterTest";
+
+    final OrientDBConfig config =
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.STORAGE_CLUSTER_STRIPES, 4).build();
+    orientDB = new OrientDB("plocal:" + buildDirectory, config);
+    orientDB.execute(
+        "create database " + dbName + " plocal users ( admin identified by 'admin' role admin)");
+
+    databaseDocumentTx = (ODatabaseDocumentInternal) orientDB.open(dbName, "admin", "admin");
+
+    storage = (OAbstractPaginatedStorage) databaseDocumentTx.getStorage();
+
+    paginatedCluster = new OStripedPaginatedCluster("paginatedClusterTest", storage);
+    paginatedCluster.configure(42, "paginatedClusterTest");
+    storage
+        .getAtomicOperationsManager()
+        .executeInsideAtomicOperation(
+            null, atomicOperation -> paginatedCluster.create(atomicOperation));
+  }
+
+  @Test
+  public void testStripesCount() {
+    Assert.assertEquals(4, ((OStripedPaginatedCluster) paginatedCluster).getStripesCount());
+  }
+
+  @Test
+  public void testConcurrentCreationOfRecords() throws Exception {
+    final byte[] record = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+
+    final CountDownLatch created = new CountDownLatch(1);
+    final CountDownLatch completed = new CountDownLatch(1);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<OPhysicalPosition> first =
+          executor.submit(
+              () ->
+                  storage
+                      .getAtomicOperationsManager()
+                      .calculateInsideAtomicOperation(
+                          null,
+                          atomicOperation -> {
+                            final OPhysicalPosition position =
+                                paginatedCluster.createRecord(
+                                    record, 1, (byte) 'd', null, atomicOperation);
+                            created.countDown();
+                            // stripe is held till the end of operation
+                            Assert.assertTrue(completed.await(1, TimeUnit.MINUTES));
+                            return position;
+                          }));
+
+      Assert.assertTrue(created.await(1, TimeUnit.MINUTES));
+
+      final OPhysicalPosition second =
+          storage
+              .getAtomicOperationsManager()
+              .calculateInsideAtomicOperation(
+                  null,
+                  atomicOperation ->
+                      paginatedCluster.createRecord(record, 1, (byte) 'd', null, atomicOperation));
+      completed.countDown();
+
+      final OPhysicalPosition firstPosition = first.get(1, TimeUnit.MINUTES);
+      Assert.assertTrue(firstPosition.clusterPosition % 4 != second.clusterPosition % 4);
+
+      Assert.assertArrayEquals(
+          record, paginatedCluster.readRecord(firstPosition.clusterPosition, false).buffer);
+      Assert.assertArrayEquals(
+          record, paginatedCluster.readRecord(second.clusterPosition, false).buffer);
+    } finally {
+      completed.countDown();
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.util.ORawPair;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class VectoredFileTest {
+  private static Path buildDirectoryPath;
+
+  @BeforeClass
+  public static void beforeClass() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectory += File.separator + "vectoredFileTest";
+    buildDirectoryPath = Paths.get(buildDirectory);
+  }
+
+  @Before
+  public void before() {
+    OFileUtils.deleteRecursively(buildDirectoryPath.toFile());
+  }
+
+  @Test
+  public void testWriteAdjacentChunks() throws Exception {
+    final VectoredFile file = new VectoredFile(buildDirectoryPath, 1);
+    file.create();
+
+    final long position1 = file.allocateSpace(128);
+    final long position2 = file.allocateSpace(256);
+    // region which is not written
+    file.allocateSpace(1024);
+    final long position4 = file.allocateSpace(512);
+
+    Assert.assertEquals(128 + 256 + 1024, position4);
+
+    final byte[] data1 = new byte[128];
+    final byte[] data2 = new byte[256];
+    final byte[] data4 = new byte[512];
+
+    final Random random = new Random();
+
+    random.nextBytes(data1);
+    random.nextBytes(data2);
+    random.nextBytes(data4);
+
+    final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+
+    // buffers are not sorted, the first two are written by single call
+    buffers.add(new ORawPair<>(position4, ByteBuffer.wrap(data4)));
+    buffers.add(new ORawPair<>(position2, ByteBuffer.wrap(data2)));
+    buffers.add(new ORawPair<>(position1, ByteBuffer.wrap(data1)));
+
+    final IOResult result = file.write(buffers);
+    result.await();
+    file.close();
+    file.open();
+
+    Assert.assertEquals(position4 + 512, file.getFileSize());
+
+    final ByteBuffer result1 = ByteBuffer.allocate(128);
+    final ByteBuffer result2 = ByteBuffer.allocate(256);
+    final ByteBuffer result4 = ByteBuffer.allocate(512);
+
+    file.read(position1, result1, true);
+    file.read(position2, result2, true);
+    file.read(position4, result4, true);
+
+    Assert.assertArrayEquals(data1, result1.array());
+    Assert.assertArrayEquals(data2, result2.array());
+    Assert.assertArrayEquals(data4, result4.array());
+
+    file.close();
+  }
+
+  @Test
+  public void testVectoredRead() throws Exception {
+    final int pageSize = 1024;
+    final VectoredFile file = new VectoredFile(buildDirectoryPath, pageSize);
+    file.create();
+
+    final Random random = new Random();
+    final byte[][] pages = new byte[16][pageSize];
+
+    for (int i = 0; i < pages.length; i++) {
+      random.nextBytes(pages[i]);
+
+      final long position = file.allocateSpace(pageSize);
+      Assert.assertEquals((long) i * pageSize, position);
+
+      file.write(position, ByteBuffer.wrap(pages[i]));
+    }
+
+    final ByteBuffer[] buffers = new ByteBuffer[10];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = ByteBuffer.allocate(pageSize);
+    }
+
+    file.read(3L * pageSize, buffers, true);
+
+    for (int i = 0; i < buffers.length; i++) {
+      Assert.assertArrayEquals(pages[i + 3], buffers[i].array());
+    }
+
+    file.close();
+  }
+
+  @Test
+  public void testOpenClose() throws Exception {
+    final VectoredFile file = new VectoredFile(buildDirectoryPath, 1);
+    Assert.assertFalse(file.isOpen());
+
+    file.create();
+    Assert.assertTrue(file.isOpen());
+
+    file.close();
+
+    Assert.assertFalse(file.isOpen());
+    file.open();
+    Assert.assertTrue(file.isOpen());
+    file.close();
+    Assert.assertFalse(file.isOpen());
+  }
+}
@@ -0,0 +1,156 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import com.orientechnologies.BaseMemoryDatabase;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class OReadRecordsTest extends BaseMemoryDatabase {
+
+  private List<ORID> createRecords(int count) {
+    OClass clazz = db.createClass("Item");
+    clazz.createProperty("value", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ODocument document = new ODocument("Item");
+      document.setProperty("value", i);
+      if (i % 10 == 0) {
+        // RECORD BIGGER THAN A PAGE
+        document.setProperty("payload", new String(new char[100_000]).replace('\0', 'x'));
+      }
+      rids.add(document.save().getIdentity());
+    }
+    return rids;
+  }
+
+  @Test
+  public void testReadRecords() {
+    List<ORID> rids = createRecords(100);
+    db.delete(rids.get(7));
+
+    List<ORID> request = new ArrayList<>(rids);
+    Collections.shuffle(request, new Random(42));
+    request.add(new ORecordId(rids.get(0).getClusterId(), 100_000));
+    request.add(new ORecordId(rids.get(0).getClusterId(), -2));
+    request.add(rids.get(3));
+
+    OAbstractPaginatedStorage storage =
+        (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+    List<ORawBuffer> records = storage.readRecords(request);
+    assertEquals(request.size(), records.size());
+    for (int i = 0; i < request.size(); i++) {
+      ORID rid = request.get(i);
+      ORawBuffer record = records.get(i);
+      if (rid.equals(rids.get(7)) || !rid.isPersistent() || !rids.contains(rid)) {
+        assertNull(record);
+        continue;
+      }
+      assertNotNull(record);
+      ORawBuffer expected =
+          storage.readRecord((ORecordId) rid, null, false, false, null).getResult();
+      assertEquals(expected.version, record.version);
+      assertEquals(expected.recordType, record.recordType);
+      assertArrayEquals(expected.buffer, record.buffer);
+    }
+  }
+
+  @Test
+  public void testLoadRecords() {
+    List<ORID> rids = createRecords(30);
+    db.delete(rids.get(5));
+    db.getLocalCache().clear();
+    db.load(rids.get(6));
+
+    List<ORecord> records = ((ODatabaseDocumentInternal) db).loadRecords(rids);
+    assertEquals(rids.size(), records.size());
+    for (int i = 0; i < rids.size(); i++) {
+      if (i == 5) {
+        assertNull(records.get(i));
+      } else {
+        assertEquals(rids.get(i), records.get(i).getIdentity());
+        assertEquals(i, (int) ((ODocument) records.get(i)).getProperty("value"));
+      }
+    }
+  }
+
+  @Test
+  public void testIndexRangeQuery() {
+    List<ORID> rids = createRecords(200);
+    db.delete(rids.get(150));
+    db.getLocalCache().clear();
+
+    for (int batchSize : new int[] {1, 7, 100}) {
+      db.getConfiguration().setValue(OGlobalConfiguration.QUERY_RECORD_BATCH_SIZE, batchSize);
+      Set<Integer> values = new HashSet<>();
+      try (OResultSet rs = db.query("select from Item where value >= 100")) {
+        while (rs.hasNext()) {
+          values.add(rs.next().getProperty("value"));
+        }
+      }
+      assertEquals(99, values.size());
+      for (int i = 100; i < 200; i++) {
+        assertEquals(i != 150, values.contains(i));
+      }
+
+      try (OResultSet rs = db.query("select from Item where value >= 10 limit 3")) {
+        assertEquals(3, rs.stream().count());
+      }
+    }
+  }
+
+  @Test
+  public void testIndexEntryOfDeletedRecord() {
+    List<ORID> rids = createRecords(200);
+    db.delete(rids.get(150));
+    // THE INDEX STILL POINTS TO THE DELETED RECORD
+    OIndex index =
+        ((ODatabaseDocumentInternal) db)
+            .getMetadata()
+            .getIndexManagerInternal()
+            .getIndex((ODatabaseDocumentInternal) db, "Item.value");
+    index.put(150, rids.get(150));
+    db.getLocalCache().clear();
+
+    for (int batchSize : new int[] {1, 7, 100}) {
+      db.getConfiguration().setValue(OGlobalConfiguration.QUERY_RECORD_BATCH_SIZE, batchSize);
+      Set<Integer> values = new HashSet<>();
+      try (OResultSet rs = db.query("select from Item where value >= 100")) {
+        while (rs.hasNext()) {
+          OResult item = rs.next();
+          assertNotNull(item.getProperty("value"));
+          values.add(item.getProperty("value"));
+        }
+      }
+      assertEquals(99, values.size());
+      assertFalse(values.contains(150));
+
+      try (OResultSet rs = db.query("select from Item where value = 150")) {
+        assertEquals(0, rs.stream().count());
+      }
+      db.getLocalCache().clear();
+    }
+  }
+}
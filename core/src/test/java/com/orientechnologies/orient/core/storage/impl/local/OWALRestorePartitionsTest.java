@@ -0,0 +1,73 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OWALRestorePartitionsTest {
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() throws IOException {
+    final int pages = 64;
+    final List<List<Integer>> appliedChanges = new ArrayList<>();
+    for (int i = 0; i < pages; i++) {
+      appliedChanges.add(Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    try (final OWALRestorePartitions partitions = new OWALRestorePartitions("restoreTest", 4)) {
+      for (int change = 0; change < 1_000; change++) {
+        for (int page = 0; page < pages; page++) {
+          final int currentChange = change;
+          final List<Integer> pageChanges = appliedChanges.get(page);
+          partitions.submit(1, page, () -> pageChanges.add(currentChange));
+        }
+      }
+
+      partitions.await();
+    }
+
+    for (final List<Integer> pageChanges : appliedChanges) {
+      Assert.assertEquals(1_000, pageChanges.size());
+      for (int change = 0; change < pageChanges.size(); change++) {
+        Assert.assertEquals(change, pageChanges.get(change).intValue());
+      }
+    }
+  }
+
+  @Test
+  public void testErrorIsRethrown() {
+    final AtomicInteger appliedChanges = new AtomicInteger();
+
+    try (final OWALRestorePartitions partitions = new OWALRestorePartitions("restoreTest", 4)) {
+      partitions.submit(
+          1,
+          1,
+          () -> {
+            throw new IOException("Page can not be restored");
+          });
+      partitions.submit(2, 1, appliedChanges::incrementAndGet);
+
+      partitions.await();
+      Assert.fail();
+    } catch (final IOException e) {
+      Assert.assertEquals("Page can not be restored", e.getMessage());
+    }
+
+    Assert.assertTrue(appliedChanges.get() <= 1);
+  }
+
+  @Test
+  public void testSingleThreadRestore() throws IOException {
+    final AtomicInteger appliedChanges = new AtomicInteger();
+
+    try (final OWALRestorePartitions partitions = new OWALRestorePartitions("restoreTest", 1)) {
+      partitions.submit(1, 1, appliedChanges::incrementAndGet);
+      Assert.assertEquals(1, appliedChanges.get());
+
+      partitions.await();
+    }
+  }
+}
@@ -17,6 +17,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.*;
 
@@ -4743,6 +4745,58 @@ public class CASDiskWriteAheadLogIT {
         wal.maxCacheSize());
   }
 
+  @Test
+  public void testGroupCommit() throws Exception {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    System.out.println("testGroupCommit seed : " + seed);
+
+    final CASDiskWriteAheadLog wal =
+        new CASDiskWriteAheadLog(
+            "walTest",
+            testDirectory,
+            testDirectory,
+            100,
+            64,
+            null,
+            null,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            60_000,
+            true,
+            Locale.US,
+            -1,
+            60_000,
+            false,
+            true,
+            false,
+            10,
+            true,
+            1_000);
+    try {
+      Assert.assertTrue(wal.isGroupCommit());
+
+      final List<CompletableFuture<OLogSequenceNumber>> futures = new ArrayList<>();
+      final List<OLogSequenceNumber> lsns = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        final OLogSequenceNumber lsn = wal.log(new TestRecord(random, wal.pageSize(), 1));
+        lsns.add(lsn);
+        futures.add(wal.flushedFuture(lsn));
+      }
+
+      for (int i = 0; i < futures.size(); i++) {
+        final OLogSequenceNumber flushedLsn = futures.get(i).get(1, TimeUnit.MINUTES);
+        Assert.assertTrue(flushedLsn.compareTo(lsns.get(i)) >= 0);
+      }
+
+      final OLogSequenceNumber lastLsn = lsns.get(lsns.size() - 1);
+      Assert.assertTrue(wal.getFlushedLsn().compareTo(lastLsn) >= 0);
+      Assert.assertTrue(wal.flushedFuture(lastLsn).isDone());
+    } finally {
+      wal.close();
+    }
+  }
+
   private void checkThatSegmentsBellowAreRemoved(CASDiskWriteAheadLog wal) {
     final OLogSequenceNumber begin = wal.begin();
 
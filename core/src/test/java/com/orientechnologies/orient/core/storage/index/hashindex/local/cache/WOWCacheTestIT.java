@@ -167,6 +167,8 @@ public class WOWCacheTestIT {
             null,
             null,
             false,
+            false,
+            false,
             Executors.newCachedThreadPool());
 
     wowCache.loadRegisteredFiles();
@@ -270,6 +272,8 @@ public class WOWCacheTestIT {
             iv,
             aesKey,
             false,
+            false,
+            false,
             Executors.newCachedThreadPool());
 
     wowCache.loadRegisteredFiles();
@@ -344,6 +348,109 @@ public class WOWCacheTestIT {
     }
   }
 
+  @Test
+  public void testLoadStoreCompressed() throws Exception {
+    deleteCacheAndDeleteFile();
+
+    final int compressedPageSize = 64 * 1024;
+    final OByteBufferPool compressedBufferPool = new OByteBufferPool(compressedPageSize);
+
+    Files.createDirectories(storagePath);
+
+    writeAheadLog =
+        new CASDiskWriteAheadLog(
+            storageName,
+            storagePath,
+            storagePath,
+            12_000,
+            128,
+            null,
+            null,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            25,
+            true,
+            Locale.US,
+            -1,
+            1000,
+            false,
+            false,
+            true,
+            10);
+    wowCache =
+        new OWOWCache(
+            compressedPageSize,
+            compressedBufferPool,
+            writeAheadLog,
+            new DoubleWriteLogNoOP(),
+            10,
+            10,
+            100 * compressedPageSize,
+            storagePath,
+            storageName,
+            OStringSerializer.INSTANCE,
+            files,
+            1,
+            OChecksumMode.StoreAndVerify,
+            null,
+            null,
+            false,
+            true,
+            false,
+            Executors.newCachedThreadPool());
+
+    wowCache.loadRegisteredFiles();
+
+    final Random random = new Random();
+
+    final byte[][] pageData = new byte[200][];
+    final long fileId = wowCache.addFile(fileName);
+
+    for (int i = 0; i < pageData.length; i++) {
+      // every tenth page is not compressible
+      final byte[] data =
+          new byte[i % 10 == 0 ? compressedPageSize - ODurablePage.NEXT_FREE_POSITION : 8];
+      random.nextBytes(data);
+
+      pageData[i] = data;
+
+      final int pageIndex = wowCache.allocateNewPage(fileId);
+      Assert.assertEquals(i, pageIndex);
+      final OCachePointer cachePointer = wowCache.load(fileId, i, new OModifiableBoolean(), false);
+      cachePointer.acquireExclusiveLock();
+
+      final ByteBuffer buffer = cachePointer.getBuffer();
+      assert buffer != null;
+
+      buffer.put(ODurablePage.NEXT_FREE_POSITION, data);
+      cachePointer.releaseExclusiveLock();
+
+      wowCache.store(fileId, i, cachePointer);
+      cachePointer.decrementReadersReferrer();
+    }
+
+    wowCache.flush();
+
+    for (int i = 0; i < pageData.length; i++) {
+      final byte[] dataOne = pageData[i];
+
+      final OCachePointer cachePointer = wowCache.load(fileId, i, new OModifiableBoolean(), true);
+      final byte[] dataTwo = new byte[dataOne.length];
+      final ByteBuffer buffer = cachePointer.getBuffer();
+      assert buffer != null;
+
+      buffer.get(ODurablePage.NEXT_FREE_POSITION, dataTwo);
+      cachePointer.decrementReadersReferrer();
+
+      Assert.assertArrayEquals(dataOne, dataTwo);
+    }
+
+    Assert.assertEquals(0, wowCache.checkStoredPages(null).length);
+
+    deleteCacheAndDeleteFile();
+    compressedBufferPool.clear();
+  }
+
   @Test
   public void testDataUpdate() throws Exception {
     final NavigableMap<Long, byte[]> pageIndexDataMap = new TreeMap<>();
@@ -494,6 +601,8 @@ public class WOWCacheTestIT {
             iv,
             aesKey,
             false,
+            false,
+            false,
             Executors.newCachedThreadPool());
 
     wowCache.loadRegisteredFiles();
@@ -0,0 +1,275 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NormalizedKeyBTreeValueTestIT {
+  private OAtomicOperationsManager atomicOperationsManager;
+  private OAbstractPaginatedStorage storage;
+  private OrientDB orientDB;
+
+  private String dbName;
+
+  @Before
+  public void before() {
+    final String buildDirectory =
+        System.getProperty("buildDirectory", ".")
+            + File.separator
+            + NormalizedKeyBTreeValueTestIT.class.getSimpleName();
+
+    dbName = "normalizedKeyBTreeTest";
+    final File dbDirectory = new File(buildDirectory, dbName);
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    final OrientDBConfig config = OrientDBConfig.builder().build();
+    orientDB = new OrientDB("plocal:" + buildDirectory, config);
+    orientDB.execute(
+        "create database " + dbName + " plocal users ( admin identified by 'admin' role admin)");
+
+    try (ODatabaseSession databaseDocumentTx = orientDB.open(dbName, "admin", "admin")) {
+      storage =
+          (OAbstractPaginatedStorage) ((ODatabaseInternal<?>) databaseDocumentTx).getStorage();
+    }
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+  }
+
+  @After
+  public void afterMethod() {
+    orientDB.drop(dbName);
+    orientDB.close();
+  }
+
+  @Test
+  public void testStringKeys() throws Exception {
+    final NormalizedKeyBTreeValue<String> tree =
+        new NormalizedKeyBTreeValue<>(
+            "stringTree", NormalizedKeyBTree.DATA_FILE_EXTENSION, storage);
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            tree.create(
+                atomicOperation, OUTF8Serializer.INSTANCE, new OType[] {OType.STRING}, 1, null));
+
+    final long seed = System.nanoTime();
+    System.out.println("testStringKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    final NavigableMap<String, ORID> expected = new TreeMap<>();
+    for (int i = 0; i < 50_000; i++) {
+      final String key = randomString(random);
+      final ORID value = new ORecordId(i % 32_000, i);
+
+      expected.put(key, value);
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> tree.put(atomicOperation, key, value));
+    }
+
+    Assert.assertEquals(expected.size(), tree.size());
+    Assert.assertEquals(expected.firstKey(), tree.firstKey());
+    Assert.assertEquals(expected.lastKey(), tree.lastKey());
+
+    for (final Map.Entry<String, ORID> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getValue(), tree.get(entry.getKey()));
+    }
+
+    final List<String> keys = new ArrayList<>(expected.keySet());
+    for (int i = 0; i < keys.size(); i += 3) {
+      final String key = keys.get(i);
+      Assert.assertEquals(expected.remove(key), removeKey(tree, key));
+      Assert.assertNull(tree.get(key));
+    }
+
+    Assert.assertEquals(expected.size(), tree.size());
+    try (final Stream<String> stream = tree.keyStream()) {
+      Assert.assertEquals(new ArrayList<>(expected.keySet()), stream.collect(Collectors.toList()));
+    }
+
+    for (int i = 0; i < 100; i++) {
+      String from = randomString(random);
+      String to = randomString(random);
+      if (from.compareTo(to) > 0) {
+        final String tmp = from;
+        from = to;
+        to = tmp;
+      }
+
+      final boolean fromInclusive = random.nextBoolean();
+      final boolean toInclusive = random.nextBoolean();
+
+      assertEntries(
+          expected.subMap(from, fromInclusive, to, toInclusive),
+          tree.iterateEntriesBetween(from, fromInclusive, to, toInclusive, true),
+          true);
+      assertEntries(
+          expected.subMap(from, fromInclusive, to, toInclusive),
+          tree.iterateEntriesBetween(from, fromInclusive, to, toInclusive, false),
+          false);
+      assertEntries(
+          expected.tailMap(from, fromInclusive),
+          tree.iterateEntriesMajor(from, fromInclusive, true),
+          true);
+      assertEntries(
+          expected.headMap(to, toInclusive),
+          tree.iterateEntriesMinor(to, toInclusive, false),
+          false);
+    }
+  }
+
+  @Test
+  public void testCompositeKeys() throws Exception {
+    final NormalizedKeyBTreeValue<OCompositeKey> tree =
+        new NormalizedKeyBTreeValue<>(
+            "compositeTree", NormalizedKeyBTree.DATA_FILE_EXTENSION, storage);
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            tree.create(
+                atomicOperation,
+                OCompositeKeySerializer.INSTANCE,
+                new OType[] {OType.DOUBLE, OType.STRING},
+                2,
+                null));
+
+    final NavigableMap<OCompositeKey, ORID> expected = new TreeMap<>();
+    int counter = 0;
+    for (int i = -50; i < 50; i++) {
+      for (int j = 0; j < 100; j++) {
+        final OCompositeKey key = new OCompositeKey(i * 1.5, "key" + j);
+        final ORID value = new ORecordId(counter % 32_000, counter);
+        counter++;
+
+        expected.put(key, value);
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null, atomicOperation -> tree.put(atomicOperation, key, value));
+      }
+    }
+
+    Assert.assertEquals(expected.size(), tree.size());
+    Assert.assertEquals(expected.firstKey(), tree.firstKey());
+    Assert.assertEquals(expected.lastKey(), tree.lastKey());
+    Assert.assertEquals(
+        expected.get(new OCompositeKey(-3.0, "key42")), tree.get(new OCompositeKey(-3.0, "key42")));
+
+    // partial keys select all the entries with the same first item
+    try (final Stream<ORawPair<OCompositeKey, ORID>> stream =
+        tree.iterateEntriesBetween(
+            new OCompositeKey(-3.0), true, new OCompositeKey(1.5), true, true)) {
+      final List<ORawPair<OCompositeKey, ORID>> entries = stream.collect(Collectors.toList());
+      Assert.assertEquals(400, entries.size());
+      Assert.assertEquals(new OCompositeKey(-3.0, "key0"), entries.get(0).first);
+      Assert.assertEquals(new OCompositeKey(1.5, "key99"), entries.get(entries.size() - 1).first);
+    }
+
+    try (final Stream<ORawPair<OCompositeKey, ORID>> stream =
+        tree.iterateEntriesMajor(new OCompositeKey(70.5), false, false)) {
+      final List<ORawPair<OCompositeKey, ORID>> entries = stream.collect(Collectors.toList());
+      Assert.assertEquals(200, entries.size());
+      Assert.assertEquals(new OCompositeKey(73.5, "key99"), entries.get(0).first);
+    }
+
+    try (final Stream<ORawPair<OCompositeKey, ORID>> stream =
+        tree.iterateEntriesMinor(new OCompositeKey(-72.0), true, true)) {
+      Assert.assertEquals(300, stream.count());
+    }
+  }
+
+  @Test
+  public void testNullKey() throws Exception {
+    final NormalizedKeyBTreeValue<String> tree =
+        new NormalizedKeyBTreeValue<>("nullTree", NormalizedKeyBTree.DATA_FILE_EXTENSION, storage);
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            tree.create(
+                atomicOperation, OUTF8Serializer.INSTANCE, new OType[] {OType.STRING}, 1, null));
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.put(atomicOperation, "key", new ORecordId(1, 1)));
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.put(atomicOperation, null, new ORecordId(2, 2)));
+
+    Assert.assertEquals(2, tree.size());
+    Assert.assertEquals(new ORecordId(2, 2), tree.get(null));
+    Assert.assertEquals(new ORecordId(1, 1), tree.get("key"));
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.put(atomicOperation, null, new ORecordId(3, 3)));
+    Assert.assertEquals(2, tree.size());
+    Assert.assertEquals(new ORecordId(3, 3), tree.get(null));
+
+    Assert.assertEquals(new ORecordId(3, 3), removeKey(tree, null));
+    Assert.assertNull(tree.get(null));
+    Assert.assertEquals(1, tree.size());
+  }
+
+  private ORID removeKey(final NormalizedKeyBTreeValue<String> tree, final String key)
+      throws Exception {
+    return atomicOperationsManager.calculateInsideAtomicOperation(
+        null, atomicOperation -> tree.remove(atomicOperation, key));
+  }
+
+  private static void assertEntries(
+      final NavigableMap<String, ORID> expected,
+      final Stream<ORawPair<String, ORID>> stream,
+      final boolean ascending) {
+    final Iterator<Map.Entry<String, ORID>> expectedIterator =
+        ascending ? expected.entrySet().iterator() : expected.descendingMap().entrySet().iterator();
+
+    try (stream) {
+      final Iterator<ORawPair<String, ORID>> iterator = stream.iterator();
+      while (expectedIterator.hasNext()) {
+        Assert.assertTrue(iterator.hasNext());
+
+        final Map.Entry<String, ORID> expectedEntry = expectedIterator.next();
+        final ORawPair<String, ORID> entry = iterator.next();
+        Assert.assertEquals(expectedEntry.getKey(), entry.first);
+        Assert.assertEquals(expectedEntry.getValue(), entry.second);
+      }
+
+      Assert.assertFalse(iterator.hasNext());
+    }
+  }
+
+  private static String randomString(final Random random) {
+    final int length = 1 + random.nextInt(20);
+    final StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      // mix of one, two and three byte characters of the normalized presentation
+      final int kind = random.nextInt(10);
+      if (kind < 7) {
+        builder.append((char) ('a' + random.nextInt(26)));
+      } else if (kind < 9) {
+        builder.append((char) (0x100 + random.nextInt(0x300)));
+      } else {
+        builder.append((char) (0x4000 + random.nextInt(0x1000)));
+      }
+    }
+    return builder.toString();
+  }
+}
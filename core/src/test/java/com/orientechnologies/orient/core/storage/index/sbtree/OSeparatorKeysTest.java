@@ -0,0 +1,79 @@
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OSeparatorKeysTest {
+  @Test
+  public void testStringKeys() {
+    Assert.assertEquals(
+        "http://example.com/b",
+        OSeparatorKeys.shortestSeparator(
+            "http://example.com/a/index.html", "http://example.com/b/index.html"));
+    Assert.assertEquals("abd", OSeparatorKeys.shortestSeparator("abc", "abdef"));
+    Assert.assertEquals("abcd", OSeparatorKeys.shortestSeparator("abc", "abcdef"));
+
+    // nothing to truncate
+    Assert.assertEquals("abd", OSeparatorKeys.shortestSeparator("abc", "abd"));
+    Assert.assertEquals("abcd", OSeparatorKeys.shortestSeparator("abc", "abcd"));
+  }
+
+  @Test
+  public void testRandomStringKeys() {
+    final long seed = System.nanoTime();
+    System.out.println("testRandomStringKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    for (int i = 0; i < 100_000; i++) {
+      String left = randomString(random);
+      String right = randomString(random);
+      final int cmp = left.compareTo(right);
+      if (cmp == 0) {
+        continue;
+      }
+      if (cmp > 0) {
+        final String tmp = left;
+        left = right;
+        right = tmp;
+      }
+
+      final String separator = OSeparatorKeys.shortestSeparator(left, right);
+      Assert.assertTrue(left.compareTo(separator) < 0);
+      Assert.assertTrue(separator.compareTo(right) <= 0);
+      Assert.assertTrue(separator.length() <= right.length());
+    }
+  }
+
+  @Test
+  public void testCompositeKeys() {
+    final OCompositeKey separator =
+        OSeparatorKeys.shortestSeparator(
+            new OCompositeKey("tenant1", "customers/alice", 10),
+            new OCompositeKey("tenant1", "customers/bob", 5));
+    Assert.assertEquals(new OCompositeKey("tenant1", "customers/b", 5), separator);
+
+    // keys are different in not string item
+    final OCompositeKey rightKey = new OCompositeKey("tenant1", 12, "customers/bob");
+    Assert.assertSame(
+        rightKey,
+        OSeparatorKeys.shortestSeparator(
+            new OCompositeKey("tenant1", 10, "customers/alice"), rightKey));
+  }
+
+  @Test
+  public void testOtherKeys() {
+    final Integer rightKey = 20;
+    Assert.assertSame(rightKey, OSeparatorKeys.shortestSeparator(10, rightKey));
+  }
+
+  private static String randomString(final Random random) {
+    final int length = random.nextInt(8);
+    final StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
@@ -17,6 +17,8 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -74,6 +76,50 @@ public class CellBTreeMultiValueV2TestIT {
     orientDB.close();
   }
 
+  @Test
+  public void testKeysBetweenTruncatedSeparatorAndSplitKey() throws Exception {
+    final int keysCount = 10_000;
+    final String tail = new String(new char[200]).replace('\0', 'z');
+
+    // separators of leaves which end with "key<n>" + tail and start with "key<n + 1>" + tail are
+    // truncated to "key<n + 1>", the middle keys "key<n + 1>a" are between them and the right key
+    final List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < keysCount; i++) {
+      order.add(i);
+    }
+    Collections.shuffle(order, new Random(42));
+
+    for (final int i : order) {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation ->
+              multiValueTree.put(
+                  atomicOperation, String.format("key%06d", i) + tail, new ORecordId(1, i)));
+    }
+    for (final int i : order) {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            multiValueTree.put(atomicOperation, String.format("key%06da", i), new ORecordId(2, i));
+            multiValueTree.put(atomicOperation, String.format("key%06da", i), new ORecordId(3, i));
+          });
+    }
+
+    Assert.assertEquals(3 * keysCount, multiValueTree.size());
+    for (int i = 0; i < keysCount; i++) {
+      try (Stream<ORID> stream = multiValueTree.get(String.format("key%06d", i) + tail)) {
+        Assert.assertEquals(
+            Collections.singletonList(new ORecordId(1, i)), stream.collect(Collectors.toList()));
+      }
+      try (Stream<ORID> stream = multiValueTree.get(String.format("key%06da", i))) {
+        final Set<ORID> values = stream.collect(Collectors.toSet());
+        Assert.assertEquals(2, values.size());
+        Assert.assertTrue(values.contains(new ORecordId(2, i)));
+        Assert.assertTrue(values.contains(new ORecordId(3, i)));
+      }
+    }
+  }
+
   @Test
   public void testPutNullKey() throws Exception {
     final int itemsCount = 64_000;
@@ -14,13 +14,17 @@ import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.Random;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.After;
 import org.junit.Assert;
@@ -131,6 +135,123 @@ public class CellBTreeSingleValueV3TestIT {
     }
   }
 
+  @Test
+  public void testKeysBetweenTruncatedSeparatorAndSplitKey() throws Exception {
+    final int keysCount = 10_000;
+    final String tail = new String(new char[200]).replace('\0', 'z');
+
+    // separators of leaves which end with "key<n>" + tail and start with "key<n + 1>" + tail are
+    // truncated to "key<n + 1>", the middle keys "key<n + 1>a" are between them and the right key
+    final List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < keysCount; i++) {
+      order.add(i);
+    }
+    Collections.shuffle(order, new Random(42));
+
+    for (final int i : order) {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation ->
+              singleValueTree.put(
+                  atomicOperation, String.format("key%06d", i) + tail, new ORecordId(1, i)));
+    }
+    for (final int i : order) {
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation ->
+              singleValueTree.put(
+                  atomicOperation, String.format("key%06da", i), new ORecordId(2, i)));
+    }
+
+    Assert.assertEquals(2 * keysCount, singleValueTree.size());
+    for (int i = 0; i < keysCount; i++) {
+      Assert.assertEquals(
+          new ORecordId(1, i), singleValueTree.get(String.format("key%06d", i) + tail));
+      Assert.assertEquals(new ORecordId(2, i), singleValueTree.get(String.format("key%06da", i)));
+    }
+
+    try (Stream<String> keys = singleValueTree.keyStream()) {
+      final List<String> sorted = keys.collect(Collectors.toList());
+      Assert.assertEquals(2 * keysCount, sorted.size());
+      for (int i = 0; i < keysCount; i++) {
+        Assert.assertEquals(String.format("key%06da", i), sorted.get(2 * i));
+        Assert.assertEquals(String.format("key%06d", i) + tail, sorted.get(2 * i + 1));
+      }
+    }
+  }
+
+  @Test
+  public void testPutSorted() throws Exception {
+    final int keysCount = 500_000;
+    final int batchSize = 10_000;
+
+    final NavigableMap<String, ORID> expected = new TreeMap<>();
+    final List<ORawPair<String, ORID>> sortedEntries = new ArrayList<>(keysCount);
+    for (int i = 0; i < keysCount; i++) {
+      final String key = String.format("key%09d", i);
+      final ORID value = new ORecordId(i % 32000, i);
+      sortedEntries.add(new ORawPair<>(key, value));
+      expected.put(key, value);
+    }
+
+    // keys which are smaller than keys already appended are put as usual
+    final List<ORawPair<String, ORID>> outOfOrderEntries = new ArrayList<>();
+    for (int i = 0; i < keysCount; i += 1_000) {
+      final String key = String.format("key%09d-", i);
+      final ORID value = new ORecordId(1, i);
+      outOfOrderEntries.add(new ORawPair<>(key, value));
+      expected.put(key, value);
+    }
+
+    for (int i = 0; i < keysCount; i += batchSize) {
+      final List<ORawPair<String, ORID>> batch = sortedEntries.subList(i, i + batchSize);
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> singleValueTree.putSorted(atomicOperation, batch, null));
+
+      final int batchIndex = i / batchSize;
+      if (batchIndex % 5 == 4) {
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation ->
+                singleValueTree.putSorted(
+                    atomicOperation,
+                    outOfOrderEntries.subList(
+                        (batchIndex - 4) * batchSize / 1_000, (batchIndex + 1) * batchSize / 1_000),
+                    null));
+      }
+    }
+
+    Assert.assertEquals(expected.size(), singleValueTree.size());
+    Assert.assertEquals(expected.firstKey(), singleValueTree.firstKey());
+    Assert.assertEquals(expected.lastKey(), singleValueTree.lastKey());
+
+    for (final Map.Entry<String, ORID> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+
+    try (final Stream<String> stream = singleValueTree.keyStream()) {
+      Assert.assertEquals(new ArrayList<>(expected.keySet()), stream.collect(Collectors.toList()));
+    }
+
+    try (final Stream<ORawPair<String, ORID>> stream =
+        singleValueTree.iterateEntriesMinor(expected.lastKey(), true, false)) {
+      Assert.assertEquals(expected.size(), stream.count());
+    }
+
+    // tree filled by sorted entries can be changed as usual
+    for (int i = 0; i < keysCount; i += 3) {
+      final String key = String.format("key%09d", i);
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> singleValueTree.remove(atomicOperation, key));
+      expected.remove(key);
+    }
+
+    Assert.assertEquals(expected.size(), singleValueTree.size());
+    for (final Map.Entry<String, ORID> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+  }
+
   @Test
   public void testKeyPutRandomUniform() throws Exception {
     final NavigableSet<String> keys = new TreeSet<>();
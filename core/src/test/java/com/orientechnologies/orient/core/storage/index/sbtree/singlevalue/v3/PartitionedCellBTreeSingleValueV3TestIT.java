@@ -0,0 +1,283 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PartitionedCellBTreeSingleValueV3TestIT {
+  private static final int PARTITIONS = 12;
+
+  private OAtomicOperationsManager atomicOperationsManager;
+  private PartitionedCellBTreeSingleValueV3<String> partitionedTree;
+  private OAbstractPaginatedStorage storage;
+  private OrientDB orientDB;
+
+  private String dbName;
+
+  @Before
+  public void before() throws Exception {
+    final String buildDirectory =
+        System.getProperty("buildDirectory", ".")
+            + File.separator
+            + PartitionedCellBTreeSingleValueV3TestIT.class.getSimpleName();
+
+    dbName = "localPartitionedBTreeTest";
+    final File dbDirectory = new File(buildDirectory, dbName);
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    final OrientDBConfig config = OrientDBConfig.builder().build();
+    orientDB = new OrientDB("plocal:" + buildDirectory, config);
+    orientDB.execute(
+        "create database " + dbName + " plocal users ( admin identified by 'admin' role admin)");
+
+    try (ODatabaseSession databaseDocumentTx = orientDB.open(dbName, "admin", "admin")) {
+      storage =
+          (OAbstractPaginatedStorage) ((ODatabaseInternal<?>) databaseDocumentTx).getStorage();
+    }
+    partitionedTree =
+        new PartitionedCellBTreeSingleValueV3<>(
+            "partitionedBTree", ".sbt", ".nbt", storage, PARTITIONS, 0);
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            partitionedTree.create(
+                atomicOperation, OUTF8Serializer.INSTANCE, new OType[] {OType.STRING}, 1, null));
+  }
+
+  @After
+  public void afterMethod() {
+    orientDB.drop(dbName);
+    orientDB.close();
+  }
+
+  @Test
+  public void testKeysAreRoutedByHash() throws Exception {
+    final int keysCount = 10_000;
+
+    final Map<OCellBTreeSingleValue<String>, Integer> partitionSizes = new IdentityHashMap<>();
+    final Map<String, String> partitionNames = new HashMap<>();
+    for (int i = 0; i < keysCount; i++) {
+      final String key = "key" + i;
+      partitionSizes.merge(partitionedTree.getPartition(key), 1, Integer::sum);
+      partitionNames.put(key, partitionedTree.getPartitionName(key));
+    }
+    Assert.assertEquals(PARTITIONS, partitionSizes.size());
+
+    putKeys(keysCount);
+
+    Assert.assertEquals(keysCount, partitionedTree.size());
+    for (final Map.Entry<OCellBTreeSingleValue<String>, Integer> entry :
+        partitionSizes.entrySet()) {
+      Assert.assertEquals(entry.getValue().longValue(), entry.getKey().size());
+    }
+
+    for (int i = 0; i < keysCount; i++) {
+      final String key = "key" + i;
+      // partition of the key does not depend on the content of the tree
+      Assert.assertEquals(partitionNames.get(key), partitionedTree.getPartitionName(key));
+      Assert.assertEquals(new ORecordId(i % 32_000, i), partitionedTree.get(key));
+      Assert.assertEquals(new ORecordId(i % 32_000, i), partitionedTree.getPartition(key).get(key));
+    }
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (int i = 0; i < keysCount; i += 2) {
+            final String key = "key" + i;
+            Assert.assertEquals(
+                new ORecordId(i % 32_000, i), partitionedTree.remove(atomicOperation, key));
+            partitionSizes.merge(partitionedTree.getPartition(key), -1, Integer::sum);
+          }
+        });
+
+    Assert.assertEquals(keysCount / 2, partitionedTree.size());
+    for (final Map.Entry<OCellBTreeSingleValue<String>, Integer> entry :
+        partitionSizes.entrySet()) {
+      Assert.assertEquals(entry.getValue().longValue(), entry.getKey().size());
+    }
+
+    for (int i = 0; i < keysCount; i++) {
+      final String key = "key" + i;
+      if (i % 2 == 0) {
+        Assert.assertNull(partitionedTree.get(key));
+      } else {
+        Assert.assertEquals(new ORecordId(i % 32_000, i), partitionedTree.get(key));
+      }
+    }
+  }
+
+  @Test
+  public void testRangeQueriesMergePartitions() throws Exception {
+    final int keysCount = 10_000;
+    final NavigableMap<String, ORID> keyValues = putKeys(keysCount);
+
+    Assert.assertEquals(keyValues.firstKey(), partitionedTree.firstKey());
+    Assert.assertEquals(keyValues.lastKey(), partitionedTree.lastKey());
+
+    assertEntries(keyValues, partitionedTree.allEntries());
+    Assert.assertEquals(
+        new ArrayList<>(keyValues.keySet()),
+        partitionedTree.keyStream().collect(Collectors.toList()));
+
+    final Random random = new Random(42);
+    for (int n = 0; n < 100; n++) {
+      String from = "key" + random.nextInt(keysCount);
+      String to = "key" + random.nextInt(keysCount);
+      if (from.compareTo(to) > 0) {
+        final String tmp = from;
+        from = to;
+        to = tmp;
+      }
+
+      final boolean fromInclusive = random.nextBoolean();
+      final boolean toInclusive = random.nextBoolean();
+      final boolean ascSortOrder = random.nextBoolean();
+
+      assertEntries(
+          order(keyValues.subMap(from, fromInclusive, to, toInclusive), ascSortOrder),
+          partitionedTree.iterateEntriesBetween(
+              from, fromInclusive, to, toInclusive, ascSortOrder));
+      assertEntries(
+          order(keyValues.headMap(to, toInclusive), ascSortOrder),
+          partitionedTree.iterateEntriesMinor(to, toInclusive, ascSortOrder));
+      assertEntries(
+          order(keyValues.tailMap(from, fromInclusive), ascSortOrder),
+          partitionedTree.iterateEntriesMajor(from, fromInclusive, ascSortOrder));
+    }
+  }
+
+  @Test
+  public void testNullKeyIsStoredInTheLastPartitionInLockOrder() throws Exception {
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i < PARTITIONS; i++) {
+      names.add(PartitionedCellBTreeSingleValueV3.partitionName("partitionedBTree", i));
+    }
+    final String lastName = Collections.max(names);
+    // names are compared as strings, so partition 9 is locked after partitions 10 and 11
+    Assert.assertEquals("partitionedBTree$p9", lastName);
+    Assert.assertEquals(lastName, partitionedTree.getPartitionName(null));
+
+    putKeys(100);
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> partitionedTree.put(atomicOperation, null, new ORecordId(5, 5)));
+
+    Assert.assertEquals(101, partitionedTree.size());
+    Assert.assertEquals(new ORecordId(5, 5), partitionedTree.get(null));
+    Assert.assertEquals(new ORecordId(5, 5), partitionedTree.getPartition(null).get(null));
+    Assert.assertEquals("key0", partitionedTree.firstKey());
+    Assert.assertEquals("key99", partitionedTree.lastKey());
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            Assert.assertEquals(
+                new ORecordId(5, 5), partitionedTree.remove(atomicOperation, null)));
+    Assert.assertNull(partitionedTree.get(null));
+    Assert.assertEquals(100, partitionedTree.size());
+  }
+
+  @Test
+  public void testLoadKeepsRouting() throws Exception {
+    final int keysCount = 1_000;
+    final NavigableMap<String, ORID> keyValues = putKeys(keysCount);
+
+    partitionedTree.close();
+    partitionedTree =
+        new PartitionedCellBTreeSingleValueV3<>(
+            "partitionedBTree", ".sbt", ".nbt", storage, PARTITIONS, 0);
+    partitionedTree.load(
+        "partitionedBTree", 1, new OType[] {OType.STRING}, OUTF8Serializer.INSTANCE, null);
+
+    Assert.assertEquals(keysCount, partitionedTree.size());
+    for (final Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), partitionedTree.get(entry.getKey()));
+    }
+    assertEntries(keyValues, partitionedTree.allEntries());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSinglePartitionIsRejected() {
+    new PartitionedCellBTreeSingleValueV3<String>("singlePartition", ".sbt", ".nbt", storage, 1, 0);
+  }
+
+  @Test
+  public void testPartitioningSupport() {
+    Assert.assertTrue(
+        PartitionedCellBTreeSingleValueV3.isPartitioningSupported(
+            new OType[] {OType.STRING, OType.INTEGER, OType.LINK}));
+    Assert.assertFalse(
+        PartitionedCellBTreeSingleValueV3.isPartitioningSupported(
+            new OType[] {OType.STRING, OType.EMBEDDED}));
+    Assert.assertFalse(PartitionedCellBTreeSingleValueV3.isPartitioningSupported(new OType[0]));
+    Assert.assertFalse(PartitionedCellBTreeSingleValueV3.isPartitioningSupported(null));
+  }
+
+  private NavigableMap<String, ORID> putKeys(final int keysCount) throws Exception {
+    final List<Integer> order = new ArrayList<>(keysCount);
+    for (int i = 0; i < keysCount; i++) {
+      order.add(i);
+    }
+    Collections.shuffle(order, new Random(42));
+
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> {
+          for (final int i : order) {
+            final ORID value = new ORecordId(i % 32_000, i);
+            partitionedTree.put(atomicOperation, "key" + i, value);
+            keyValues.put("key" + i, value);
+          }
+        });
+
+    return keyValues;
+  }
+
+  private static NavigableMap<String, ORID> order(
+      final NavigableMap<String, ORID> map, final boolean ascSortOrder) {
+    return ascSortOrder ? map : map.descendingMap();
+  }
+
+  private static void assertEntries(
+      final NavigableMap<String, ORID> expected, final Stream<ORawPair<String, ORID>> stream) {
+    final List<ORawPair<String, ORID>> entries;
+    try (Stream<ORawPair<String, ORID>> s = stream) {
+      entries = s.collect(Collectors.toList());
+    }
+
+    Assert.assertEquals(expected.size(), entries.size());
+    int i = 0;
+    for (final Map.Entry<String, ORID> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getKey(), entries.get(i).first);
+      Assert.assertEquals(entry.getValue(), entries.get(i).second);
+      i++;
+    }
+  }
+}